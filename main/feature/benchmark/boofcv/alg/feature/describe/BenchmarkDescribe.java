@@ -18,6 +18,9 @@
 
 package boofcv.alg.feature.describe;
 
+import boofcv.abst.feature.dense.ConfigDenseSurf;
+import boofcv.abst.feature.dense.DescribeImageDense;
+import boofcv.abst.feature.dense.GenericDenseDescribeImageDense;
 import boofcv.abst.feature.describe.ConfigSurfDescribe;
 import boofcv.abst.feature.describe.DescribeRegionPoint;
 import boofcv.alg.feature.describe.brief.FactoryBriefDefinition;
@@ -25,6 +28,7 @@ import boofcv.alg.filter.derivative.GImageDerivativeOps;
 import boofcv.alg.misc.GImageMiscOps;
 import boofcv.alg.transform.ii.GIntegralImageOps;
 import boofcv.core.image.GConvertImage;
+import boofcv.factory.feature.dense.FactoryDescribeImageDense;
 import boofcv.factory.feature.describe.FactoryDescribePointAlgs;
 import boofcv.factory.feature.describe.FactoryDescribeRegionPoint;
 import boofcv.factory.filter.blur.FactoryBlurFilter;
@@ -38,6 +42,7 @@ import boofcv.struct.image.ImageSingleBand;
 import boofcv.struct.image.ImageType;
 import boofcv.struct.image.MultiSpectral;
 import georegression.struct.point.Point2D_I32;
+import org.ddogleg.struct.FastQueue;
 
 import java.util.Random;
 
@@ -154,6 +159,37 @@ public class BenchmarkDescribe<I extends ImageSingleBand, D extends ImageSingleB
 		}
 	}
 
+	public class Dense<D extends TupleDesc> implements Performer {
+
+		DescribeImageDense<I,D> alg;
+		String name;
+		FastQueue<D> descs;
+		FastQueue<Point2D_I32> locations = new FastQueue<Point2D_I32>(Point2D_I32.class,true);
+
+		public Dense(String name, final DescribeImageDense<I,D> alg) {
+			this.alg = alg;
+			this.name = name;
+			descs = new FastQueue<D>(alg.getDescriptionType(),true) {
+				@Override
+				protected D createInstance() {
+					return alg.createDescription();
+				}
+			};
+		}
+
+		@Override
+		public void process() {
+			descs.reset();
+			locations.reset();
+			alg.process(gray,descs,locations);
+		}
+
+		@Override
+		public String getName() {
+			return name;
+		}
+	}
+
 	public void perform() {
 		System.out.println("=========  Profile Image Size " + width + " x " + height + " ========== "+imageType.getSimpleName());
 		System.out.println();
@@ -170,6 +206,14 @@ public class BenchmarkDescribe<I extends ImageSingleBand, D extends ImageSingleB
 		ProfileOperation.printOpsPerSec(new Describe("SURF-S Color",
 				FactoryDescribeRegionPoint.surfColorStable(surfStable,  ImageType.ms(3, imageType))),TEST_TIME);
 
+		ConfigDenseSurf configDense = new ConfigDenseSurf(8,8,1);
+		int featureWidth = surfSpeed.widthLargeGrid*surfSpeed.widthSubRegion+surfSpeed.widthSample;
+		ProfileOperation.printOpsPerSec(new Dense("Dense SURF-F Generic",
+				new GenericDenseDescribeImageDense(FactoryDescribeRegionPoint.<I,II>surfFast(surfSpeed, imageType),
+						1,featureWidth,8,8)),TEST_TIME);
+		ProfileOperation.printOpsPerSec(new Dense("Dense SURF-F",
+				FactoryDescribeImageDense.surfFast(configDense, imageType)),TEST_TIME);
+
 //		if( imageType == ImageFloat32.class )
 //			ProfileOperation.printOpsPerSec(new Describe("SIFT", FactoryDescribeRegionPoint.sift(null,null)),TEST_TIME);
 		ProfileOperation.printOpsPerSec(new Brief512(),TEST_TIME);
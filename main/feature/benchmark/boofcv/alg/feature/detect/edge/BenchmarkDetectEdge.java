@@ -82,6 +82,28 @@ public class BenchmarkDetectEdge {
 		}
 	}
 
+	public class CannyMarkFused extends PerformerBase {
+
+		CannyEdge<ImageFloat32,ImageFloat32> alg = FactoryEdgeDetectors.cannyFused(2,false, false, ImageFloat32.class, ImageFloat32.class);
+		ImageUInt8 output = new ImageUInt8(width,height);
+
+		@Override
+		public void process() {
+			alg.process(input,5,10,output);
+		}
+	}
+
+	public class CannyTraceFused extends PerformerBase {
+
+		CannyEdge<ImageFloat32,ImageFloat32> alg = FactoryEdgeDetectors.cannyFused(2,true, false, ImageFloat32.class, ImageFloat32.class);
+		ImageUInt8 output = new ImageUInt8(width,height);
+
+		@Override
+		public void process() {
+			alg.process(input,5,10,output);
+		}
+	}
+
 	public void performTests() {
 		createImage();
 
@@ -90,6 +112,8 @@ public class BenchmarkDetectEdge {
 
 		ProfileOperation.printOpsPerSec(new CannyMark(), TEST_TIME);
 		ProfileOperation.printOpsPerSec(new CannyTrace(), TEST_TIME);
+		ProfileOperation.printOpsPerSec(new CannyMarkFused(), TEST_TIME);
+		ProfileOperation.printOpsPerSec(new CannyTraceFused(), TEST_TIME);
 	}
 
 	public static void main( String args[] ) {
@@ -18,10 +18,10 @@
 
 package boofcv.alg.feature.detect.intensity;
 
-import boofcv.alg.feature.detect.intensity.impl.ImplFastHelper_U8;
-import boofcv.alg.feature.detect.intensity.impl.ImplFastIntensity12;
-import boofcv.alg.feature.detect.intensity.impl.ImplFastIntensity9;
+import boofcv.alg.feature.detect.intensity.impl.*;
 import boofcv.alg.misc.GImageMiscOps;
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.concurrency.WorkerFactory;
 import boofcv.core.image.GeneralizedImageOps;
 import boofcv.misc.PerformerBase;
 import boofcv.misc.ProfileOperation;
@@ -77,6 +77,48 @@ public class BenchmarkFastIntensity< T extends ImageSingleBand> {
 		}
 	}
 
+	public class FAST_TREE extends PerformerBase {
+		ImplFastIntensityTree<ImageUInt8> corner;
+
+		public FAST_TREE( int minContinuous ) {
+			corner = new ImplFastIntensityTree<ImageUInt8>(new ImplFastHelper_U8(60),
+					FastDecisionTrees.get(minContinuous));
+		}
+
+		@Override
+		public void process() {
+			corner.process((ImageUInt8)input,intensity);
+		}
+
+		@Override
+		public String getName() {
+			return "FAST_TREE"+corner.getTree().getMinContinuous();
+		}
+	}
+
+	public class FAST_TREE_MT extends PerformerBase {
+		ImplFastIntensityTree_MT<ImageUInt8> corner;
+
+		public FAST_TREE_MT( int minContinuous ) {
+			corner = new ImplFastIntensityTree_MT<ImageUInt8>(new WorkerFactory<FastHelper<ImageUInt8>>() {
+				@Override
+				public FastHelper<ImageUInt8> newInstance() {
+					return new ImplFastHelper_U8(60);
+				}
+			}, FastDecisionTrees.get(minContinuous));
+		}
+
+		@Override
+		public void process() {
+			corner.process((ImageUInt8)input,intensity);
+		}
+
+		@Override
+		public String getName() {
+			return "FAST_TREE_MT"+corner.getTree().getMinContinuous();
+		}
+	}
+
 	public void evaluate() {
 		System.out.println("=========  Profile Image Size " + imgWidth + " x " + imgHeight + " ==========");
 		System.out.println();
@@ -84,6 +126,12 @@ public class BenchmarkFastIntensity< T extends ImageSingleBand> {
 		ProfileOperation.printOpsPerSec(new FAST_NAIVE_9(), TEST_TIME);
 		ProfileOperation.printOpsPerSec(new FAST9(), TEST_TIME);
 		ProfileOperation.printOpsPerSec(new FAST12(), TEST_TIME);
+		ProfileOperation.printOpsPerSec(new FAST_TREE(9), TEST_TIME);
+		ProfileOperation.printOpsPerSec(new FAST_TREE(12), TEST_TIME);
+		System.out.println();
+		System.out.println("     threads = "+ BoofConcurrency.getMaxThreads());
+		ProfileOperation.printOpsPerSec(new FAST_TREE_MT(9), TEST_TIME);
+		ProfileOperation.printOpsPerSec(new FAST_TREE_MT(12), TEST_TIME);
 
 	}
 
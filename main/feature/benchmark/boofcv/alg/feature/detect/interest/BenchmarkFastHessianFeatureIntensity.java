@@ -18,10 +18,14 @@
 
 package boofcv.alg.feature.detect.interest;
 
+import boofcv.abst.feature.detect.extract.ConfigExtract;
+import boofcv.abst.feature.detect.extract.NonMaxSuppression;
 import boofcv.alg.feature.detect.intensity.IntegralImageFeatureIntensity;
 import boofcv.alg.feature.detect.intensity.impl.ImplIntegralImageFeatureIntensity;
 import boofcv.alg.misc.ImageMiscOps;
 import boofcv.alg.transform.ii.IntegralImageOps;
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.factory.feature.detect.extract.FactoryFeatureExtractor;
 import boofcv.misc.PerformerBase;
 import boofcv.misc.ProfileOperation;
 import boofcv.struct.image.ImageFloat32;
@@ -62,6 +66,29 @@ public class BenchmarkFastHessianFeatureIntensity {
 		}
 	}
 
+	public static class Detector extends PerformerBase {
+
+		FastHessianFeatureDetector<ImageFloat32> alg;
+
+		public Detector( boolean concurrent ) {
+			NonMaxSuppression extractor = FactoryFeatureExtractor.nonmax(new ConfigExtract(2, 1, 5, true));
+			if( concurrent )
+				alg = new FastHessianFeatureDetector_MT<ImageFloat32>(extractor,-1,1,9,4,4);
+			else
+				alg = new FastHessianFeatureDetector<ImageFloat32>(extractor,-1,1,9,4,4);
+		}
+
+		@Override
+		public void process() {
+			alg.detect(integral);
+		}
+
+		@Override
+		public String getName() {
+			return alg.getClass().getSimpleName();
+		}
+	}
+
 	public static void main(String args[]) {
 		ImageMiscOps.fillUniform(original,rand,0,200);
 		IntegralImageOps.transform(original,integral);
@@ -72,5 +99,10 @@ public class BenchmarkFastHessianFeatureIntensity {
 
 		ProfileOperation.printOpsPerSec(new Naive(), TEST_TIME);
 		ProfileOperation.printOpsPerSec(new Standard(), TEST_TIME);
+
+		System.out.println();
+		System.out.println("     Full detector.  threads = "+ BoofConcurrency.getMaxThreads());
+		ProfileOperation.printOpsPerSec(new Detector(false), TEST_TIME);
+		ProfileOperation.printOpsPerSec(new Detector(true), TEST_TIME);
 	}
 }
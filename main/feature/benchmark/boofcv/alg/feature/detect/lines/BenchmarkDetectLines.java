@@ -18,9 +18,18 @@
 
 package boofcv.alg.feature.detect.lines;
 
+import boofcv.abst.feature.detect.extract.ConfigExtract;
+import boofcv.abst.feature.detect.extract.NonMaxSuppression;
 import boofcv.abst.feature.detect.line.DetectLine;
 import boofcv.abst.feature.detect.line.DetectLineSegment;
+import boofcv.alg.feature.detect.line.HoughTransformLineFootOfNorm;
+import boofcv.alg.feature.detect.line.HoughTransformLineFootOfNorm_MT;
+import boofcv.alg.feature.detect.line.HoughTransformLinePolar;
+import boofcv.alg.feature.detect.line.HoughTransformLinePolar_MT;
+import boofcv.alg.misc.ImageMiscOps;
+import boofcv.concurrency.BoofConcurrency;
 import boofcv.core.image.GeneralizedImageOps;
+import boofcv.factory.feature.detect.extract.FactoryFeatureExtractor;
 import boofcv.factory.feature.detect.line.ConfigHoughFoot;
 import boofcv.factory.feature.detect.line.ConfigHoughFootSubimage;
 import boofcv.factory.feature.detect.line.ConfigHoughPolar;
@@ -30,6 +39,7 @@ import boofcv.misc.PerformerBase;
 import boofcv.misc.ProfileOperation;
 import boofcv.struct.image.ImageFloat32;
 import boofcv.struct.image.ImageSingleBand;
+import boofcv.struct.image.ImageUInt8;
 
 import javax.imageio.ImageIO;
 import java.awt.image.BufferedImage;
@@ -71,6 +81,22 @@ public class BenchmarkDetectLines<T extends ImageSingleBand, D extends ImageSing
 		}
 	}
 
+	public class HoughPolarGradient extends PerformerBase {
+
+		DetectLine<T> detector;
+
+		public HoughPolarGradient() {
+			ConfigHoughPolar config = new ConfigHoughPolar(3, 30, 4, Math.PI / 180, edgeThreshold, maxLines);
+			config.gradientTolerance = Math.PI/36;
+			detector = FactoryDetectLineAlgs.houghPolar(config, imageType, derivType);
+		}
+
+		@Override
+		public void process() {
+			detector.detect(input);
+		}
+	}
+
 	public class HoughFoot extends PerformerBase {
 
 		DetectLine<T> detector =
@@ -109,12 +135,100 @@ public class BenchmarkDetectLines<T extends ImageSingleBand, D extends ImageSing
 		ConvertBufferedImage.convertFromSingle(image, input, imageType);
 
 		ProfileOperation.printOpsPerSec(new HoughPolar(), TEST_TIME);
+		ProfileOperation.printOpsPerSec(new HoughPolarGradient(), TEST_TIME);
 		ProfileOperation.printOpsPerSec(new HoughFoot(), TEST_TIME);
 		ProfileOperation.printOpsPerSec(new HoughFootSub(), TEST_TIME);
 		ProfileOperation.printOpsPerSec(new LineRansac(), TEST_TIME);
 		System.out.println("done");
 	}
 
+	public static class TransformPolar extends PerformerBase {
+		HoughTransformLinePolar alg;
+		ImageUInt8 binary;
+		ImageFloat32 derivX, derivY;
+		boolean gradient;
+
+		public TransformPolar(HoughTransformLinePolar alg, ImageUInt8 binary,
+							  ImageFloat32 derivX, ImageFloat32 derivY, boolean gradient) {
+			this.alg = alg;
+			this.binary = binary;
+			this.derivX = derivX;
+			this.derivY = derivY;
+			this.gradient = gradient;
+		}
+
+		@Override
+		public String getName() {
+			return alg.getClass().getSimpleName()+(gradient ? " Gradient" : "");
+		}
+
+		@Override
+		public void process() {
+			if( gradient )
+				alg.transform(derivX, derivY, binary);
+			else
+				alg.transform(binary);
+		}
+	}
+
+	public static class TransformFoot extends PerformerBase {
+		HoughTransformLineFootOfNorm alg;
+		ImageUInt8 binary;
+		ImageFloat32 derivX, derivY;
+
+		public TransformFoot(HoughTransformLineFootOfNorm alg, ImageUInt8 binary,
+							 ImageFloat32 derivX, ImageFloat32 derivY) {
+			this.alg = alg;
+			this.binary = binary;
+			this.derivX = derivX;
+			this.derivY = derivY;
+		}
+
+		@Override
+		public String getName() {
+			return alg.getClass().getSimpleName();
+		}
+
+		@Override
+		public void process() {
+			alg.transform(derivX, derivY, binary);
+		}
+	}
+
+	/**
+	 * Compares the speed of just the Hough transforms on a dense edge map, where voting dominates
+	 */
+	public static void benchmarkDense( int width , int height , double fractionEdge ) {
+		ImageUInt8 binary = new ImageUInt8(width,height);
+		ImageFloat32 derivX = new ImageFloat32(width,height);
+		ImageFloat32 derivY = new ImageFloat32(width,height);
+
+		for( int i = 0; i < binary.data.length; i++ ) {
+			binary.data[i] = (byte)(rand.nextDouble() < fractionEdge ? 1 : 0);
+		}
+		ImageMiscOps.fillUniform(derivX, rand, -100, 100);
+		ImageMiscOps.fillUniform(derivY, rand, -100, 100);
+
+		NonMaxSuppression extractor = FactoryFeatureExtractor.nonmax(new ConfigExtract(3, 30, 0, true));
+		NonMaxSuppression extractorCandidate = FactoryFeatureExtractor.nonmaxCandidate(new ConfigExtract(3, 10, 0, false));
+		int numBinsRange = (int)Math.ceil(Math.sqrt(width*width + height*height)/2);
+
+		System.out.println("=========  Dense Edges " + width + " x " + height + " fraction "+fractionEdge+
+				" threads "+BoofConcurrency.getMaxThreads()+" ==========");
+		ProfileOperation.printOpsPerSec(new TransformPolar(
+				new HoughTransformLinePolar(extractor,numBinsRange,180),binary,derivX,derivY,false), TEST_TIME);
+		ProfileOperation.printOpsPerSec(new TransformPolar(
+				new HoughTransformLinePolar_MT(extractor,numBinsRange,180),binary,derivX,derivY,false), TEST_TIME);
+		ProfileOperation.printOpsPerSec(new TransformPolar(
+				new HoughTransformLinePolar(extractor,numBinsRange,180),binary,derivX,derivY,true), TEST_TIME);
+		ProfileOperation.printOpsPerSec(new TransformPolar(
+				new HoughTransformLinePolar_MT(extractor,numBinsRange,180),binary,derivX,derivY,true), TEST_TIME);
+		ProfileOperation.printOpsPerSec(new TransformFoot(
+				new HoughTransformLineFootOfNorm(extractorCandidate,5),binary,derivX,derivY), TEST_TIME);
+		ProfileOperation.printOpsPerSec(new TransformFoot(
+				new HoughTransformLineFootOfNorm_MT(extractorCandidate,5),binary,derivX,derivY), TEST_TIME);
+	}
+
 	public static void main(String args[]) throws IOException {
 		BufferedImage image = ImageIO.read(new File("../data/evaluation/lines_indoors.jpg"));
 //		BufferedImage image = UtilImageIO.loadImage("../data/applet/lines_indoors.jpg");
@@ -125,5 +239,7 @@ public class BenchmarkDetectLines<T extends ImageSingleBand, D extends ImageSing
 		BenchmarkDetectLines app = new BenchmarkDetectLines(ImageFloat32.class,ImageFloat32.class);
 		app.benchmark(image);
 
+		benchmarkDense(640, 480, 0.2);
+
 	}
 }
@@ -19,8 +19,15 @@
 package boofcv.alg.feature.disparity;
 
 import boofcv.alg.feature.disparity.impl.*;
+import boofcv.alg.feature.disparity.sgm.SgmStereoDisparity;
 import boofcv.alg.misc.GImageMiscOps;
+import boofcv.alg.transform.census.CensusType;
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.concurrency.WorkerFactory;
 import boofcv.core.image.GeneralizedImageOps;
+import boofcv.factory.feature.disparity.ConfigSgm;
+import boofcv.factory.feature.disparity.FactoryStereoDisparityAlgs;
+import boofcv.factory.feature.disparity.SgmCostType;
 import boofcv.misc.PerformerBase;
 import boofcv.misc.ProfileOperation;
 import boofcv.struct.image.ImageFloat32;
@@ -120,6 +127,73 @@ public class BenchmarkDisparityAlgs {
 		}
 	}
 
+	public static class Census extends PerformerBase {
+
+		DisparityScoreCensusRect<ImageUInt8> alg;
+		CensusType type;
+
+		public Census( CensusType type ) {
+			this.type = type;
+			DisparitySelect<int[],ImageUInt8> compDisp =
+					new ImplSelectRectStandard_S32_U8(-1,2,0.1);
+			alg = new DisparityScoreCensusRect<ImageUInt8>(min,max,radiusX,radiusY,type,compDisp);
+		}
+
+		@Override
+		public void process() {
+			alg.process(left,right, outU8);
+		}
+
+		@Override
+		public String getName() {
+			return "Census "+type;
+		}
+	}
+
+	public static class EfficientSad_U8_MT extends PerformerBase {
+
+		DisparityScoreRowFormat_MT<ImageUInt8,ImageUInt8> alg = new DisparityScoreRowFormat_MT<ImageUInt8,ImageUInt8>(
+				new WorkerFactory<DisparityScoreRowFormat<ImageUInt8, ImageUInt8>>() {
+			@Override
+			public DisparityScoreRowFormat<ImageUInt8, ImageUInt8> newInstance() {
+				DisparitySelect<int[],ImageUInt8> compDisp =
+						new ImplSelectRectStandard_S32_U8(250,2,0.1);
+				return new ImplDisparityScoreSadRect_U8<ImageUInt8>(min,max,radiusX,radiusY,compDisp);
+			}
+		});
+
+		@Override
+		public void process() {
+			alg.process(left,right, outU8);
+		}
+	}
+
+	public static class Sgm extends PerformerBase {
+
+		String name;
+		SgmStereoDisparity<ImageUInt8,ImageUInt8> alg;
+
+		public Sgm( SgmCostType cost , boolean concurrent ) {
+			ConfigSgm config = new ConfigSgm(min,max);
+			config.cost = cost;
+			boolean before = BoofConcurrency.USE_CONCURRENT;
+			BoofConcurrency.USE_CONCURRENT = concurrent;
+			alg = FactoryStereoDisparityAlgs.sgm(config,ImageUInt8.class);
+			BoofConcurrency.USE_CONCURRENT = before;
+			name = alg.getClass().getSimpleName()+" "+cost;
+		}
+
+		@Override
+		public void process() {
+			alg.process(left,right, outU8);
+		}
+
+		@Override
+		public String getName() {
+			return name;
+		}
+	}
+
 	public static void main( String argsp[ ] ) {
 		System.out.println("=========  Image Size "+ width +" "+height+"  disparity "+max);
 		System.out.println();
@@ -134,7 +208,16 @@ public class BenchmarkDisparityAlgs {
 		ProfileOperation.printOpsPerSec(new EfficientSadFive_U8(),TEST_TIME);
 		ProfileOperation.printOpsPerSec(new EfficientSad_F32(),TEST_TIME);
 		ProfileOperation.printOpsPerSec(new EfficientSubpixelSad(),TEST_TIME);
+		ProfileOperation.printOpsPerSec(new Census(CensusType.REGION_5x5),TEST_TIME);
+		ProfileOperation.printOpsPerSec(new Census(CensusType.REGION_9x7),TEST_TIME);
 		ProfileOperation.printOpsPerSec(new Naive(), TEST_TIME);
+		ProfileOperation.printOpsPerSec(new Sgm(SgmCostType.CENSUS,false), TEST_TIME);
+		ProfileOperation.printOpsPerSec(new Sgm(SgmCostType.ABSOLUTE_DIFFERENCE,false), TEST_TIME);
+
+		System.out.println();
+		System.out.println("     threads = "+ BoofConcurrency.getMaxThreads());
+		ProfileOperation.printOpsPerSec(new EfficientSad_U8_MT(),TEST_TIME);
+		ProfileOperation.printOpsPerSec(new Sgm(SgmCostType.CENSUS,true), TEST_TIME);
 
 	}
 }
@@ -28,11 +28,15 @@ import boofcv.factory.feature.orientation.FactoryOrientationAlgs;
 import boofcv.factory.filter.derivative.FactoryDerivative;
 import boofcv.misc.Performer;
 import boofcv.misc.ProfileOperation;
+import boofcv.struct.feature.ScalePoint;
 import boofcv.struct.image.ImageFloat32;
 import boofcv.struct.image.ImageSInt32;
 import boofcv.struct.image.ImageSingleBand;
 import georegression.struct.point.Point2D_I32;
+import org.ddogleg.struct.GrowQueue_F64;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Random;
 
 import static boofcv.factory.feature.orientation.FactoryOrientationAlgs.*;
@@ -170,6 +174,93 @@ public class BenchmarkOrientation<I extends ImageSingleBand, D extends ImageSing
 		}
 	}
 
+	public class IntegralBatch implements Performer {
+
+		OrientationIntegralBatch alg;
+		String name;
+		List<ScalePoint> points;
+		GrowQueue_F64 angles = new GrowQueue_F64();
+
+		public IntegralBatch(String name, OrientationIntegralBatch alg, List<ScalePoint> points) {
+			this.alg = alg;
+			this.name = name;
+			this.points = points;
+		}
+
+		@Override
+		public void process() {
+			alg.setImage(ii);
+			alg.compute(points,angles);
+		}
+
+		@Override
+		public String getName() {
+			return name;
+		}
+	}
+
+	public class IntegralList implements Performer {
+
+		OrientationIntegral alg;
+		String name;
+		List<ScalePoint> points;
+
+		public IntegralList(String name, OrientationIntegral alg, List<ScalePoint> points) {
+			this.alg = alg;
+			this.name = name;
+			this.points = points;
+		}
+
+		@Override
+		public void process() {
+			alg.setImage(ii);
+			for( int i = 0; i < points.size(); i++ ) {
+				ScalePoint p = points.get(i);
+				alg.setScale(p.scale);
+				alg.compute(p.x,p.y);
+			}
+		}
+
+		@Override
+		public String getName() {
+			return name;
+		}
+	}
+
+	/**
+	 * Compares the time it takes to estimate the orientation of each feature individually against the batch
+	 * algorithm, with and without a gradient cache, as the number of features increases.  Scales are similar
+	 * to Fast-Hessian's first octave.
+	 */
+	public void performDensity() {
+		System.out.println("=========  Orientation per feature vs density ==========");
+		System.out.println();
+
+		int totals[] = new int[]{250,1000,4000,16000,64000};
+
+		for( int total : totals ) {
+			List<ScalePoint> points = new ArrayList<ScalePoint>();
+			for( int i = 0; i < total; i++ ) {
+				double x = rand.nextDouble()*(width-1);
+				double y = rand.nextDouble()*(height-1);
+				points.add(new ScalePoint(x,y,1.2+rand.nextInt(3)*0.8));
+			}
+
+			double individual = ProfileOperation.profileOpsPerSec(
+					new IntegralList("List",average_ii(null, ii.getClass()),points),TEST_TIME,false);
+			double batch = ProfileOperation.profileOpsPerSec(
+					new IntegralBatch("Batch",new OrientationIntegralBatch(average_ii(null, ii.getClass())),points),
+					TEST_TIME,false);
+			OrientationIntegralBatch cached = new OrientationIntegralBatch(average_ii(null, ii.getClass()));
+			cached.setCacheGradient(true);
+			double batchCached = ProfileOperation.profileOpsPerSec(
+					new IntegralBatch("Batch Cached",cached,points),TEST_TIME,false);
+
+			System.out.printf("Average II features %6d  individual %7.3f us  batch %7.3f us  cached %7.3f us\n",
+					total,1e6/(individual*total),1e6/(batch*total),1e6/(batchCached*total));
+		}
+	}
+
 	public void perform() {
 		System.out.println("=========  Profile Image Size " + width + " x " + height + " ========== "+imageType.getSimpleName());
 		System.out.println();
@@ -206,5 +297,6 @@ public class BenchmarkOrientation<I extends ImageSingleBand, D extends ImageSing
 //		BenchmarkOrientation<ImageUInt8,ImageSInt16> alg = new BenchmarkOrientation<ImageUInt8,ImageSInt16>(ImageUInt8.class, ImageSInt16.class);
 
 		alg.perform();
+		alg.performDensity();
 	}
 }
@@ -82,6 +82,7 @@ public class BenchmarkTemplateIntensity<T extends ImageSingleBand> {
 
 		ProfileOperation.printOpsPerSec(new TemplatePerformer(TemplateScoreType.SUM_DIFF_SQ), TEST_TIME);
 		ProfileOperation.printOpsPerSec(new TemplatePerformer(TemplateScoreType.NCC), TEST_TIME);
+		ProfileOperation.printOpsPerSec(new TemplatePerformer(TemplateScoreType.NCC_FFT), TEST_TIME);
 	}
 
 	public static void main( String args[] ) {
@@ -0,0 +1,111 @@
+/*
+ * Copyright (c) 2011-2015, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.tracker.klt;
+
+import boofcv.alg.misc.ImageMiscOps;
+import boofcv.alg.transform.pyramid.PyramidOps;
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.factory.filter.derivative.FactoryDerivative;
+import boofcv.factory.tracker.FactoryTrackerAlg;
+import boofcv.factory.transform.pyramid.FactoryPyramid;
+import boofcv.misc.PerformerBase;
+import boofcv.misc.ProfileOperation;
+import boofcv.struct.image.ImageFloat32;
+import boofcv.struct.pyramid.PyramidDiscrete;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Benchmark for tracking a large number of features with {@link PyramidKltTracker}
+ *
+ * @author Peter Abeles
+ */
+public class BenchmarkPyramidKltTracker {
+	static int width = 640;
+	static int height = 480;
+	static int numFeatures = 2000;
+	static long TEST_TIME = 2000;
+
+	static PyramidDiscrete<ImageFloat32> pyramid;
+	static ImageFloat32[] derivX;
+	static ImageFloat32[] derivY;
+
+	static List<PyramidKltFeature> features = new ArrayList<PyramidKltFeature>();
+	static float[] locations = new float[numFeatures*2];
+
+	public static class Track extends PerformerBase {
+		PyramidKltTracker<ImageFloat32,ImageFloat32> tracker;
+		KltTrackFault faults[] = new KltTrackFault[numFeatures];
+
+		public Track( boolean concurrent ) {
+			boolean before = BoofConcurrency.USE_CONCURRENT;
+			BoofConcurrency.USE_CONCURRENT = concurrent;
+			tracker = FactoryTrackerAlg.kltPyramid(null, ImageFloat32.class, ImageFloat32.class);
+			BoofConcurrency.USE_CONCURRENT = before;
+			tracker.setImage(pyramid, derivX, derivY);
+		}
+
+		@Override
+		public void process() {
+			for( int i = 0; i < numFeatures; i++ ) {
+				features.get(i).setPosition(locations[i*2], locations[i*2+1]);
+			}
+			tracker.track(features, faults);
+		}
+
+		@Override
+		public String getName() {
+			return tracker.getClass().getSimpleName();
+		}
+	}
+
+	public static void main( String args[] ) {
+		Random rand = new Random(234);
+
+		ImageFloat32 image = new ImageFloat32(width,height);
+		ImageMiscOps.fillUniform(image, rand, 0, 100);
+
+		pyramid = FactoryPyramid.discreteGaussian(new int[]{1,2,4},-1,2,true,ImageFloat32.class);
+		pyramid.process(image);
+		derivX = PyramidOps.declareOutput(pyramid,ImageFloat32.class);
+		derivY = PyramidOps.declareOutput(pyramid,ImageFloat32.class);
+		PyramidOps.gradient(pyramid, FactoryDerivative.sobel(ImageFloat32.class,ImageFloat32.class),derivX,derivY);
+
+		PyramidKltTracker<ImageFloat32,ImageFloat32> tracker =
+				FactoryTrackerAlg.kltPyramid(null, ImageFloat32.class, ImageFloat32.class);
+		tracker.setImage(pyramid, derivX, derivY);
+		for( int i = 0; i < numFeatures; i++ ) {
+			PyramidKltFeature f = new PyramidKltFeature(pyramid.getNumLayers(),3);
+			f.setPosition(10+rand.nextFloat()*(width-20), 10+rand.nextFloat()*(height-20));
+			tracker.setDescription(f);
+			locations[i*2] = f.x + rand.nextFloat()*2-1;
+			locations[i*2+1] = f.y + rand.nextFloat()*2-1;
+			features.add(f);
+		}
+
+		System.out.println("=========  Image Size "+ width +" "+height+"  features "+numFeatures);
+		System.out.println("     threads = "+ BoofConcurrency.getMaxThreads());
+		System.out.println();
+
+		ProfileOperation.printOpsPerSec(new Track(false), TEST_TIME);
+		ProfileOperation.printOpsPerSec(new Track(true), TEST_TIME);
+	}
+}
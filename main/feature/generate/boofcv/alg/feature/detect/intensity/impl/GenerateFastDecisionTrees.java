@@ -0,0 +1,172 @@
+/*
+ * Copyright (c) 2011-2015, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.feature.detect.intensity.impl;
+
+import boofcv.alg.filter.blur.BlurImageOps;
+import boofcv.alg.misc.ImageMiscOps;
+import boofcv.io.image.UtilImageIO;
+import boofcv.misc.CodeGeneratorBase;
+import boofcv.struct.image.ImageUInt8;
+
+import java.io.FileNotFoundException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Learns FAST decision trees from training images and saves them into {@link FastDecisionTrees}.  The paths to
+ * training images are passed in as arguments.  If no images are provided then synthetic images composed
+ * of noisy overlapping shapes are used instead.
+ *
+ * @author Peter Abeles
+ */
+public class GenerateFastDecisionTrees extends CodeGeneratorBase {
+
+	// pixel tolerances the training patterns are extracted at
+	int pixelTols[] = new int[]{10,20,40};
+
+	// maximum length of a string constant in the generated file
+	int chunkLength = 60000;
+
+	List<ImageUInt8> images = new ArrayList<ImageUInt8>();
+
+	public GenerateFastDecisionTrees( String paths[] ) {
+		for( String path : paths ) {
+			ImageUInt8 image = UtilImageIO.loadImage(path, ImageUInt8.class);
+			if( image == null )
+				throw new IllegalArgumentException("Can't load "+path);
+			images.add(image);
+		}
+		if( images.isEmpty() ) {
+			Random rand = new Random(234);
+			for( int i = 0; i < 8; i++ ) {
+				images.add(createSynthetic(640, 480, rand));
+			}
+		}
+	}
+
+	/**
+	 * Creates an image containing overlapping shapes of random intensity with texture and noise
+	 */
+	public static ImageUInt8 createSynthetic( int width , int height , Random rand ) {
+		ImageUInt8 image = new ImageUInt8(width,height);
+		ImageMiscOps.fill(image, rand.nextInt(256));
+
+		for( int i = 0; i < 150; i++ ) {
+			int w = 5 + rand.nextInt(width/4);
+			int h = 5 + rand.nextInt(height/4);
+			int x0 = rand.nextInt(width) - w/2;
+			int y0 = rand.nextInt(height) - h/2;
+			int value = rand.nextInt(256);
+			boolean ellipse = rand.nextBoolean();
+
+			for( int y = Math.max(0,y0); y < Math.min(height,y0+h); y++ ) {
+				for( int x = Math.max(0,x0); x < Math.min(width,x0+w); x++ ) {
+					if( ellipse ) {
+						double dx = (x-x0-w/2.0)/(w/2.0);
+						double dy = (y-y0-h/2.0)/(h/2.0);
+						if( dx*dx + dy*dy > 1 )
+							continue;
+					}
+					image.unsafe_set(x,y,value);
+				}
+			}
+		}
+
+		ImageUInt8 blurred = BlurImageOps.gaussian(image, null, -1, 1, null);
+		ImageMiscOps.addGaussian(blurred, rand, 3, 0, 255);
+		return blurred;
+	}
+
+	@Override
+	public void generate() throws FileNotFoundException {
+		setOutputFile("FastDecisionTrees");
+
+		out.print("/**\n" +
+				" * <p>\n" +
+				" * Decision trees for the FAST segment test which were learned by {@link FastDecisionTreeLearner}.\n" +
+				" * </p>\n" +
+				" *\n" +
+				" * <p>\n" +
+				" * DO NOT MODIFY. Generated by {@link "+getClass().getSimpleName()+"}.\n" +
+				" * </p>\n" +
+				" *\n" +
+				" * @author Peter Abeles\n" +
+				" */\n" +
+				"public class FastDecisionTrees {\n" +
+				"\n" +
+				"\tprivate static FastDecisionTree trees[] = new FastDecisionTree[13];\n" +
+				"\n" +
+				"\t/**\n" +
+				"\t * Returns the decision tree for the specified number of continuous pixels\n" +
+				"\t *\n" +
+				"\t * @param minContinuous Number of continuous pixels.  9 to 12, inclusive.\n" +
+				"\t */\n" +
+				"\tpublic static synchronized FastDecisionTree get( int minContinuous ) {\n" +
+				"\t\tif( minContinuous < 9 || minContinuous > 12 )\n" +
+				"\t\t\tthrow new IllegalArgumentException(\"minContinuous must be from 9 to 12, inclusive\");\n" +
+				"\t\tif( trees[minContinuous] == null ) {\n" +
+				"\t\t\tString chunks[];\n" +
+				"\t\t\tswitch( minContinuous ) {\n" +
+				"\t\t\t\tcase 9: chunks = Tree9.DATA; break;\n" +
+				"\t\t\t\tcase 10: chunks = Tree10.DATA; break;\n" +
+				"\t\t\t\tcase 11: chunks = Tree11.DATA; break;\n" +
+				"\t\t\t\tdefault: chunks = Tree12.DATA; break;\n" +
+				"\t\t\t}\n" +
+				"\t\t\tStringBuilder text = new StringBuilder();\n" +
+				"\t\t\tfor( String s : chunks )\n" +
+				"\t\t\t\ttext.append(s);\n" +
+				"\t\t\ttrees[minContinuous] = FastDecisionTree.decode(text.toString());\n" +
+				"\t\t}\n" +
+				"\t\treturn trees[minContinuous];\n" +
+				"\t}\n");
+
+		for( int minContinuous = 9; minContinuous <= 12; minContinuous++ ) {
+			FastDecisionTreeLearner learner = new FastDecisionTreeLearner(minContinuous);
+			for( ImageUInt8 image : images ) {
+				for( int tol : pixelTols ) {
+					learner.addImage(image, tol);
+				}
+			}
+			FastDecisionTree tree = learner.process();
+			System.out.println("FAST-"+minContinuous+" nodes "+tree.getNumNodes());
+
+			printTree(minContinuous, tree.encode());
+		}
+
+		out.print("}\n");
+	}
+
+	private void printTree( int minContinuous , String text ) {
+		out.print("\n" +
+				"\tprivate static class Tree"+minContinuous+" {\n" +
+				"\t\tstatic final String DATA[] = new String[]{\n");
+		for( int i = 0; i < text.length(); i += chunkLength ) {
+			String chunk = text.substring(i, Math.min(text.length(), i + chunkLength));
+			out.print("\t\t\t\""+chunk+"\"");
+			out.print(i+chunkLength < text.length() ? ",\n" : "};\n");
+		}
+		out.print("\t}\n");
+	}
+
+	public static void main( String args[] ) throws FileNotFoundException {
+		GenerateFastDecisionTrees app = new GenerateFastDecisionTrees(args);
+		app.generate();
+	}
+}
@@ -58,11 +58,9 @@ public class GenerateFhEdgeWeights_MS extends CodeGeneratorBase {
 
 		out.print("import boofcv.struct.image."+imageName+";\n" +
 				"import boofcv.struct.image.ImageType;\n" +
+				"import boofcv.alg.segmentation.fh04.FhEdgeStore;\n" +
 				"import boofcv.alg.segmentation.fh04.FhEdgeWeights;\n" +
 				"import boofcv.struct.image.MultiSpectral;\n" +
-				"import org.ddogleg.struct.FastQueue;\n" +
-				"\n" +
-				"import static boofcv.alg.segmentation.fh04.SegmentFelzenszwalbHuttenlocher04.Edge;\n" +
 				"\n" +
 				"/**\n" +
 				" * <p>Computes edge weight as the F-norm different in pixel value for {@link MultiSpectral} images.\n" +
@@ -101,16 +99,31 @@ public class GenerateFhEdgeWeights_MS extends CodeGeneratorBase {
 
 		out.print("\t@Override\n" +
 				"\tpublic void process(MultiSpectral<"+imageName+"> input,\n" +
-				"\t\t\t\t\t\tFastQueue<Edge> edges) {\n" +
+				"\t\t\t\t\t\tFhEdgeStore edges) {\n" +
 				"\n" +
 				"\t\tedges.reset();\n" +
+				"\t\tedges.resize((input.height-1)*innerEdgesPerRow(input.width));\n" +
+				"\n" +
+				"\t\tprocessRows(input,0,input.height-1,edges);\n" +
+				"\t\tprocessBorder(input,edges);\n" +
+				"\t}\n" +
+				"\n" +
+				"\t@Override\n" +
+				"\tpublic int innerEdgesPerRow(int width) {\n" +
+				"\t\treturn "+(rule == ConnectRule.FOUR ? "Math.max(0,2*(width-1))" : "Math.max(0,4*(width-2))")+";\n" +
+				"\t}\n" +
+				"\n" +
+				"\t@Override\n" +
+				"\tpublic void processRows(MultiSpectral<"+imageName+"> input, int y0, int y1,\n" +
+				"\t\t\t\t\t\t\tFhEdgeStore edges) {\n" +
+				"\n" +
 				"\t\tint w = input.width-1;\n" +
-				"\t\tint h = input.height-1;\n" +
+				"\t\tint edgesPerRow = innerEdgesPerRow(input.width);\n" +
 				"\n" +
-				"\t\t// First consider the inner pixels\n" +
-				"\t\tfor( int y = 0; y < h; y++ ) {\n" +
+				"\t\tfor( int y = y0; y < y1; y++ ) {\n" +
 				"\t\t\tint indexSrc = input.startIndex + y*input.stride + "+startX+";\n" +
 				"\t\t\tint indexDst =                  + y*input.width  + "+startX+";\n" +
+				"\t\t\tint indexEdge = y*edgesPerRow;\n" +
 				"\n" +
 				"\t\t\tfor( int x = "+startX+"; x < w; x++ , indexSrc++ , indexDst++ ) {\n" +
 				"\n" +
@@ -139,35 +152,25 @@ public class GenerateFhEdgeWeights_MS extends CodeGeneratorBase {
 		out.print(
 				"\t\t\t\t}\n" +
 				"\n" +
-				"\t\t\t\tEdge e1 = edges.grow();\n" +
-				"\t\t\t\tEdge e2 = edges.grow();\n" +
-				"\n" +
-				"\t\t\t\te1.sortValue = (float)Math.sqrt(weight1);\n" +
-				"\t\t\t\te1.indexA = indexDst;\n" +
-				"\t\t\t\te1.indexB = indexDst+1;\n" +
-				"\n" +
-				"\t\t\t\te2.sortValue = (float)Math.sqrt(weight2);\n" +
-				"\t\t\t\te2.indexA = indexDst;\n" +
-				"\t\t\t\te2.indexB = indexDst+input.width;\n" +
-				"\n");
+				"\t\t\t\tedges.set(indexEdge++, indexDst, indexDst+1, (float)Math.sqrt(weight1));\n" +
+				"\t\t\t\tedges.set(indexEdge++, indexDst, indexDst+input.width, (float)Math.sqrt(weight2));\n");
 		if( rule == ConnectRule.EIGHT ) {
 			out.print(
-				"\t\t\t\tEdge e3 = edges.grow();\n" +
-				"\t\t\t\tEdge e4 = edges.grow();\n" +
-				"\n" +
-				"\t\t\t\te3.sortValue = (float)Math.sqrt(weight3);\n" +
-				"\t\t\t\te3.indexA = indexDst;\n" +
-				"\t\t\t\te3.indexB = indexDst+1+input.width;\n" +
-				"\n" +
-				"\t\t\t\te4.sortValue = (float)Math.sqrt(weight4);\n" +
-				"\t\t\t\te4.indexA = indexDst;\n" +
-				"\t\t\t\te4.indexB = indexDst-1+input.width;\n");
+				"\t\t\t\tedges.set(indexEdge++, indexDst, indexDst+1+input.width, (float)Math.sqrt(weight3));\n" +
+				"\t\t\t\tedges.set(indexEdge++, indexDst, indexDst-1+input.width, (float)Math.sqrt(weight4));\n");
 		}
 		out.print(
 				"\t\t\t}\n" +
 				"\t\t}\n" +
+				"\t}\n" +
+				"\n" +
+				"\t@Override\n" +
+				"\tpublic void processBorder(MultiSpectral<"+imageName+"> input,\n" +
+				"\t\t\t\t\t\t\t  FhEdgeStore edges) {\n" +
 				"\n" +
-				"\t\t// Handle border pixels\n");
+				"\t\tint w = input.width-1;\n" +
+				"\t\tint h = input.height-1;\n" +
+				"\n");
 
 		if( rule == ConnectRule.EIGHT ) {
 			out.print(
@@ -200,7 +203,7 @@ public class GenerateFhEdgeWeights_MS extends CodeGeneratorBase {
 
 		out.print("\tprivate void checkAround( int x , int y ,\n" +
 				"\t\t\t\t\t\t\t  MultiSpectral<"+imageName+"> input ,\n" +
-				"\t\t\t\t\t\t\t  FastQueue<Edge> edges )\n" +
+				"\t\t\t\t\t\t\t  FhEdgeStore edges )\n" +
 				"\t{\n" +
 				"\t\tint indexSrc = input.startIndex + y*input.stride + x;\n" +
 				"\t\tint indexA =                      y*input.width  + x;\n" +
@@ -228,7 +231,7 @@ public class GenerateFhEdgeWeights_MS extends CodeGeneratorBase {
 
 		out.print("\tprivate void check( int x , int y , "+sumType+" color0[] , int indexA,\n" +
 				"\t\t\t\t\t\tMultiSpectral<"+imageName+"> input ,\n" +
-				"\t\t\t\t\t\tFastQueue<Edge> edges ) {\n" +
+				"\t\t\t\t\t\tFhEdgeStore edges ) {\n" +
 				"\t\tif( !input.isInBounds(x,y) )\n" +
 				"\t\t\treturn;\n" +
 				"\n" +
@@ -245,11 +248,7 @@ public class GenerateFhEdgeWeights_MS extends CodeGeneratorBase {
 				"\t\t\tweight += diff*diff;\n" +
 				"\t\t}\n" +
 				"\n" +
-				"\t\tEdge e1 = edges.grow();\n" +
-				"\n" +
-				"\t\te1.sortValue = (float)Math.sqrt(weight);\n" +
-				"\t\te1.indexA = indexA;\n" +
-				"\t\te1.indexB = indexB;\n" +
+				"\t\tedges.add(indexA, indexB, (float)Math.sqrt(weight));\n" +
 				"\t}\n\n");
 	}
 
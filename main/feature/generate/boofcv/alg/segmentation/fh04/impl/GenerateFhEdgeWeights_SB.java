@@ -57,11 +57,9 @@ public class GenerateFhEdgeWeights_SB extends CodeGeneratorBase {
 		int N = rule == ConnectRule.EIGHT ? 8 : 4;
 
 		out.print("import boofcv.struct.image."+imageName+";\n" +
+				"import boofcv.alg.segmentation.fh04.FhEdgeStore;\n" +
 				"import boofcv.alg.segmentation.fh04.FhEdgeWeights;\n" +
 				"import boofcv.struct.image.ImageType;\n" +
-				"import org.ddogleg.struct.FastQueue;\n" +
-				"\n" +
-				"import static boofcv.alg.segmentation.fh04.SegmentFelzenszwalbHuttenlocher04.Edge;\n" +
 				"\n" +
 				"/**\n" +
 				" * <p>Computes edge weight as the absolute value of the different in pixel value for single band images.\n" +
@@ -86,52 +84,60 @@ public class GenerateFhEdgeWeights_SB extends CodeGeneratorBase {
 
 		out.print("\t@Override\n" +
 				"\tpublic void process("+imageName+" input,\n" +
-				"\t\t\t\t\t\tFastQueue<Edge> edges) {\n" +
+				"\t\t\t\t\t\tFhEdgeStore edges) {\n" +
+				"\n" +
+				"\t\tedges.reset();\n" +
+				"\t\tedges.resize((input.height-1)*innerEdgesPerRow(input.width));\n" +
+				"\n" +
+				"\t\tprocessRows(input,0,input.height-1,edges);\n" +
+				"\t\tprocessBorder(input,edges);\n" +
+				"\t}\n" +
+				"\n" +
+				"\t@Override\n" +
+				"\tpublic int innerEdgesPerRow(int width) {\n" +
+				"\t\treturn "+(rule == ConnectRule.FOUR ? "Math.max(0,2*(width-1))" : "Math.max(0,4*(width-2))")+";\n" +
+				"\t}\n" +
+				"\n" +
+				"\t@Override\n" +
+				"\tpublic void processRows("+imageName+" input, int y0, int y1,\n" +
+				"\t\t\t\t\t\t\tFhEdgeStore edges) {\n" +
 				"\n" +
 				"\t\tint w = input.width-1;\n" +
-				"\t\tint h = input.height-1;\n" +
+				"\t\tint edgesPerRow = innerEdgesPerRow(input.width);\n" +
 				"\n" +
-				"\t\t// First consider the inner pixels\n" +
-				"\t\tfor( int y = 0; y < h; y++ ) {\n" +
+				"\t\tfor( int y = y0; y < y1; y++ ) {\n" +
 				"\t\t\tint indexSrc = input.startIndex + y*input.stride + "+startX+";\n" +
 				"\t\t\tint indexDst =                  + y*input.width  + "+startX+";\n" +
+				"\t\t\tint indexEdge = y*edgesPerRow;\n" +
 				"\n" +
 				"\t\t\tfor( int x = "+startX+"; x < w; x++ , indexSrc++ , indexDst++ ) {\n" +
 				"\t\t\t\t"+sumType+" color0 = input.data[indexSrc]"+bitwise+";              // (x,y)\n" +
 				"\t\t\t\t"+sumType+" color1 = input.data[indexSrc+1]"+bitwise+";            // (x+1,y)\n" +
 				"\t\t\t\t"+sumType+" color2 = input.data[indexSrc+input.stride]"+bitwise+"; // (x,y+1)\n" +
 				"\n" +
-				"\t\t\t\tEdge e1 = edges.grow();\n" +
-				"\t\t\t\tEdge e2 = edges.grow();\n" +
-				"\n" +
-				"\t\t\t\te1.sortValue = Math.abs(color1-color0);\n" +
-				"\t\t\t\te1.indexA = indexDst;\n" +
-				"\t\t\t\te1.indexB = indexDst+1;\n" +
-				"\n" +
-				"\t\t\t\te2.sortValue = Math.abs(color2-color0);\n" +
-				"\t\t\t\te2.indexA = indexDst;\n" +
-				"\t\t\t\te2.indexB = indexDst+input.width;\n");
+				"\t\t\t\tedges.set(indexEdge++, indexDst, indexDst+1, Math.abs(color1-color0));\n" +
+				"\t\t\t\tedges.set(indexEdge++, indexDst, indexDst+input.width, Math.abs(color2-color0));\n");
 		if( rule == ConnectRule.EIGHT ) {
 			out.print(
 				"\n" +
 				"\t\t\t\t"+sumType+" color3 = input.data[indexSrc+1+input.stride]"+bitwise+"; // (x+1,y+1)\n" +
 				"\t\t\t\t"+sumType+" color4 = input.data[indexSrc-1+input.stride]"+bitwise+"; // (x-1,y+1)\n" +
 				"\n" +
-				"\t\t\t\tEdge e3 = edges.grow();\n" +
-				"\t\t\t\tEdge e4 = edges.grow();\n" +
-				"\n" +
-				"\t\t\t\te3.sortValue = Math.abs(color3-color0);\n" +
-				"\t\t\t\te3.indexA = indexDst;\n" +
-				"\t\t\t\te3.indexB = indexDst+1+input.width;\n" +
-				"\n" +
-				"\t\t\t\te4.sortValue = Math.abs(color4-color0);\n" +
-				"\t\t\t\te4.indexA = indexDst;\n" +
-				"\t\t\t\te4.indexB = indexDst-1+input.width;\n");
+				"\t\t\t\tedges.set(indexEdge++, indexDst, indexDst+1+input.width, Math.abs(color3-color0));\n" +
+				"\t\t\t\tedges.set(indexEdge++, indexDst, indexDst-1+input.width, Math.abs(color4-color0));\n");
 		}
 
 		out.print("\t\t\t}\n" +
 				"\t\t}\n"+
-				"\t\t// Handle border pixels\n");
+				"\t}\n" +
+				"\n" +
+				"\t@Override\n" +
+				"\tpublic void processBorder("+imageName+" input,\n" +
+				"\t\t\t\t\t\t\t  FhEdgeStore edges) {\n" +
+				"\n" +
+				"\t\tint w = input.width-1;\n" +
+				"\t\tint h = input.height-1;\n" +
+				"\n");
 
 		if( rule == ConnectRule.EIGHT ) {
 			out.print(
@@ -154,7 +160,7 @@ public class GenerateFhEdgeWeights_SB extends CodeGeneratorBase {
 					"\t\t}\n");
 		}
 
-		out.print("\t}\n");
+		out.print("\t}\n\n");
 	}
 
 	private void printCheckAround( AutoTypeImage imageType , ConnectRule rule ) {
@@ -165,7 +171,7 @@ public class GenerateFhEdgeWeights_SB extends CodeGeneratorBase {
 
 		out.print("\tprivate void checkAround( int x , int y ,\n" +
 				"\t\t\t\t\t\t\t  "+imageName+" input ,\n" +
-				"\t\t\t\t\t\t\t  FastQueue<Edge> edges )\n" +
+				"\t\t\t\t\t\t\t  FhEdgeStore edges )\n" +
 				"\t{\n" +
 				"\t\tint indexSrc = input.startIndex + y*input.stride + x;\n" +
 				"\t\tint indexA =                      y*input.width  + x;\n" +
@@ -191,7 +197,7 @@ public class GenerateFhEdgeWeights_SB extends CodeGeneratorBase {
 
 		out.print("\tprivate void check( int x , int y , "+sumType+" color0 , int indexA,\n" +
 				"\t\t\t\t\t\t"+imageName+" input ,\n" +
-				"\t\t\t\t\t\tFastQueue<Edge> edges ) {\n" +
+				"\t\t\t\t\t\tFhEdgeStore edges ) {\n" +
 				"\t\tif( !input.isInBounds(x,y) )\n" +
 				"\t\t\treturn;\n" +
 				"\n" +
@@ -200,11 +206,7 @@ public class GenerateFhEdgeWeights_SB extends CodeGeneratorBase {
 				"\n" +
 				"\t\t"+sumType+" colorN = input.data[indexSrc]"+bitwise+";\n" +
 				"\n" +
-				"\t\tEdge e1 = edges.grow();\n" +
-				"\n" +
-				"\t\te1.sortValue = (float)Math.abs(color0-colorN);\n" +
-				"\t\te1.indexA = indexA;\n" +
-				"\t\te1.indexB = indexB;\n" +
+				"\t\tedges.add(indexA, indexB, (float)Math.abs(color0-colorN));\n" +
 				"\t}\n\n");
 	}
 
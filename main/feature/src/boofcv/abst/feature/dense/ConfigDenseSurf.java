@@ -31,23 +31,33 @@ public class ConfigDenseSurf implements Configuration {
 	/**
 	 * Standard configuration for SURF
 	 */
-	ConfigSurfDescribe surf;
+	public ConfigSurfDescribe.Speed surf = new ConfigSurfDescribe.Speed();
 
 	/**
 	 * Space between the center of each descriptor region along the image's rows.
 	 */
-	int periodRows = 20;
+	public int periodRows = 20;
 	/**
 	 * Space between the center of each descriptor region along the image's columns.
 	 */
-	int periodColumns = 20;
+	public int periodColumns = 20;
 	/**
 	 * The scale at which each feature is to be computed at
 	 */
-	double scale = 1;
+	public double scale = 1;
+
+	public ConfigDenseSurf() {
+	}
+
+	public ConfigDenseSurf(int periodRows, int periodColumns, double scale) {
+		this.periodRows = periodRows;
+		this.periodColumns = periodColumns;
+		this.scale = scale;
+	}
 
 	@Override
 	public void checkValidity() {
-
+		if( periodRows <= 0 || periodColumns <= 0 )
+			throw new IllegalArgumentException("The period must be more than zero");
 	}
 }
@@ -0,0 +1,106 @@
+/*
+ * Copyright (c) 2011-2015, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.abst.feature.dense;
+
+import boofcv.alg.feature.describe.DescribeDenseSurf;
+import boofcv.alg.transform.ii.GIntegralImageOps;
+import boofcv.struct.feature.SurfFeature;
+import boofcv.struct.image.ImageSingleBand;
+import boofcv.struct.image.ImageType;
+import georegression.struct.point.Point2D_I32;
+import org.ddogleg.struct.FastQueue;
+
+/**
+ * Dense SURF features computed using {@link DescribeDenseSurf}, which computes the gradient once for
+ * overlapping descriptors.  Produces the same output as {@link GenericDenseDescribeImageDense} with
+ * {@link boofcv.abst.feature.describe.WrapDescribeSurf}, only faster.
+ *
+ * @author Peter Abeles
+ */
+public class DescribeImageDenseSurf<T extends ImageSingleBand, II extends ImageSingleBand>
+	implements DescribeImageDense<T,SurfFeature>
+{
+	// computes the descriptors
+	DescribeDenseSurf<II> alg;
+	// integral image
+	II ii;
+
+	ImageType<T> imageType;
+
+	// the scale all the features will be sampled at
+	double scale;
+	// The width of the area the feature will sample
+	int featureWidth;
+	// the period at which it will be sampled inside the image
+	int periodX;
+	int periodY;
+
+	/**
+	 * Configures dense description.
+	 *
+	 * @param alg Dense SURF algorithm
+	 * @param scale The scale at which the features should be sampled
+	 * @param featureWidth Tells it how wide a feature is so that it can avoid sampling outside the image
+	 * @param periodX  sample rate along the x-axis
+	 * @param periodY  sample rate along the y-axis
+	 * @param imageType Type of input image
+	 */
+	public DescribeImageDenseSurf(DescribeDenseSurf<II> alg, double scale,
+								  int featureWidth, int periodX, int periodY ,
+								  Class<T> imageType ) {
+		this.alg = alg;
+		this.scale = scale;
+		this.featureWidth = featureWidth;
+		this.periodX = periodX;
+		this.periodY = periodY;
+		this.imageType = ImageType.single(imageType);
+	}
+
+	@Override
+	public void process(T input, FastQueue<SurfFeature> descriptions, FastQueue<Point2D_I32> locations) {
+		if( ii != null ) {
+			ii.reshape(input.width,input.height);
+		}
+
+		// compute integral image
+		ii = GIntegralImageOps.transform(input,ii);
+
+		int x0 = featureWidth/2;
+		int x1 = input.getWidth()-featureWidth/2;
+		int y0 = featureWidth/2;
+		int y1 = input.getHeight()-featureWidth/2;
+
+		alg.process(ii, scale, periodX, periodY, x0, y0, x1, y1, descriptions, locations);
+	}
+
+	@Override
+	public ImageType<T> getImageType() {
+		return imageType;
+	}
+
+	@Override
+	public SurfFeature createDescription() {
+		return alg.getSurf().createDescription();
+	}
+
+	@Override
+	public Class<SurfFeature> getDescriptionType() {
+		return SurfFeature.class;
+	}
+}
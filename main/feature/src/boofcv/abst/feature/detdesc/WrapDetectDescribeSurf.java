@@ -21,6 +21,7 @@ package boofcv.abst.feature.detdesc;
 import boofcv.abst.feature.orientation.OrientationIntegral;
 import boofcv.alg.feature.describe.DescribePointSurf;
 import boofcv.alg.feature.detect.interest.FastHessianFeatureDetector;
+import boofcv.alg.feature.orientation.OrientationIntegralBatch;
 import boofcv.alg.transform.ii.GIntegralImageOps;
 import boofcv.struct.feature.ScalePoint;
 import boofcv.struct.feature.SurfFeature;
@@ -49,7 +50,7 @@ public class WrapDetectDescribeSurf
 {
 	// SURF algorithms
 	private FastHessianFeatureDetector<II> detector;
-	private OrientationIntegral<II> orientation;
+	private OrientationIntegralBatch<II> orientation;
 	private DescribePointSurf<II> describe;
 
 	// storage for integral image
@@ -65,6 +66,13 @@ public class WrapDetectDescribeSurf
 	public WrapDetectDescribeSurf(FastHessianFeatureDetector<II> detector,
 								  OrientationIntegral<II> orientation,
 								  DescribePointSurf<II> describe)
+	{
+		this(detector, new OrientationIntegralBatch<II>(orientation), describe);
+	}
+
+	public WrapDetectDescribeSurf(FastHessianFeatureDetector<II> detector,
+								  OrientationIntegralBatch<II> orientation,
+								  DescribePointSurf<II> describe)
 	{
 		this.detector = detector;
 		this.orientation = orientation;
@@ -99,7 +107,6 @@ public class WrapDetectDescribeSurf
 		orientation.setImage(ii);
 		describe.setImage(ii);
 		features.reset();
-		featureAngles.reset();
 
 		// detect features
 		detector.detect(ii);
@@ -107,13 +114,12 @@ public class WrapDetectDescribeSurf
 		// describe the found interest points
 		foundPoints = detector.getFoundPoints();
 
+		orientation.compute(foundPoints, featureAngles);
+
 		for( int i = 0; i < foundPoints.size(); i++ ) {
 			ScalePoint p = foundPoints.get(i);
 
-			orientation.setScale(p.scale);
-			double angle = orientation.compute(p.x,p.y);
-			describe.describe(p.x,p.y, angle, p.scale, features.grow());
-			featureAngles.push(angle);
+			describe.describe(p.x,p.y, featureAngles.data[i], p.scale, features.grow());
 		}
 	}
 
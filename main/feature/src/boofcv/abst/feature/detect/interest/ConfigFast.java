@@ -39,11 +39,23 @@ public class ConfigFast implements Configuration {
 	 */
 	public int minContinuous=9;
 
+	/**
+	 * If true then a learned decision tree is used to classify pixels instead of the hand written tests.  The
+	 * detected corners are the same, but the decision tree reads fewer pixels on average and can be run concurrently.
+	 */
+	public boolean decisionTree = false;
+
 	public ConfigFast(int pixelTol, int minContinuous) {
 		this.pixelTol = pixelTol;
 		this.minContinuous = minContinuous;
 	}
 
+	public ConfigFast(int pixelTol, int minContinuous, boolean decisionTree) {
+		this.pixelTol = pixelTol;
+		this.minContinuous = minContinuous;
+		this.decisionTree = decisionTree;
+	}
+
 	public ConfigFast() {
 	}
 
@@ -33,6 +33,13 @@ public class ConfigGeneralDetector extends ConfigExtract {
 	 */
 	public int maxFeatures = -1;
 
+	/**
+	 * If greater than zero then the image is split into square tiles of this width which are processed
+	 * independently and concurrently.  When tiled, 'maxFeatures' is applied to each tile individually, which
+	 * spreads the features more evenly across the image.  Default is 0, which disables tiling.
+	 */
+	public int tileWidth = 0;
+
 	public ConfigGeneralDetector(int maxFeatures ,
 								 int radius, float threshold, int ignoreBorder, boolean useStrictRule,
 								 boolean detectMinimums, boolean detectMaximums) {
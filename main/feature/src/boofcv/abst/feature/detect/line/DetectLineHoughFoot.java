@@ -20,7 +20,6 @@ package boofcv.abst.feature.detect.line;
 
 
 import boofcv.abst.feature.detect.extract.ConfigExtract;
-import boofcv.abst.feature.detect.extract.NonMaxSuppression;
 import boofcv.abst.filter.derivative.ImageGradient;
 import boofcv.alg.feature.detect.edge.GGradientToEdgeFeatures;
 import boofcv.alg.feature.detect.line.HoughTransformLineFootOfNorm;
@@ -96,12 +95,28 @@ public class DetectLineHoughFoot <I extends ImageSingleBand, D extends ImageSing
 								int maxLines ,
 								ImageGradient<I,D> gradient )
 	{
+		this(new HoughTransformLineFootOfNorm(FactoryFeatureExtractor.nonmaxCandidate(
+				new ConfigExtract(localMaxRadius, minCounts, 0, false)),minDistanceFromOrigin),
+				thresholdEdge,maxLines,gradient);
+	}
+
+	/**
+	 * Specifies detection parameters and the transform.
+	 *
+	 * @param alg Hough transform.
+	 * @param thresholdEdge Threshold for classifying pixels as edge or not.  Try 30.
+	 * @param maxLines Maximum number of lines to return. If <= 0 it will return them all.
+	 * @param gradient Computes the image gradient.
+	 */
+	public DetectLineHoughFoot( HoughTransformLineFootOfNorm alg ,
+								float thresholdEdge ,
+								int maxLines ,
+								ImageGradient<I,D> gradient )
+	{
+		this.alg = alg;
 		this.gradient = gradient;
 		this.thresholdEdge = thresholdEdge;
 		this.maxLines = maxLines;
-		NonMaxSuppression extractor = FactoryFeatureExtractor.nonmaxCandidate(
-				new ConfigExtract(localMaxRadius, minCounts, 0, false));
-		alg = new HoughTransformLineFootOfNorm(extractor,minDistanceFromOrigin);
 		derivX = gradient.getDerivType().createImage(1,1);
 		derivY = gradient.getDerivType().createImage(1, 1);
 	}
@@ -20,7 +20,6 @@ package boofcv.abst.feature.detect.line;
 
 
 import boofcv.abst.feature.detect.extract.ConfigExtract;
-import boofcv.abst.feature.detect.extract.NonMaxSuppression;
 import boofcv.abst.filter.derivative.ImageGradient;
 import boofcv.alg.feature.detect.edge.GGradientToEdgeFeatures;
 import boofcv.alg.feature.detect.line.HoughTransformLinePolar;
@@ -56,9 +55,6 @@ public class DetectLineHoughPolar<I extends ImageSingleBand, D extends ImageSing
 	// transform algorithm
 	HoughTransformLinePolar alg;
 
-	// extractor used by hough transform
-	NonMaxSuppression extractor;
-
 	// computes image gradient
 	ImageGradient<I,D> gradient;
 
@@ -97,6 +93,9 @@ public class DetectLineHoughPolar<I extends ImageSingleBand, D extends ImageSing
 	// post processing pruning
 	ImageLinePruneMerge post = new ImageLinePruneMerge();
 
+	// if true the gradient's direction is used to reduce the number of votes
+	boolean voteGradient = false;
+
 	/**
 	 * Configures hough line detector.
 	 *
@@ -116,6 +115,32 @@ public class DetectLineHoughPolar<I extends ImageSingleBand, D extends ImageSing
 								int maxLines ,
 								ImageGradient<I, D> gradient)
 	{
+		this(new HoughTransformLinePolar(FactoryFeatureExtractor.nonmax(
+				new ConfigExtract(localMaxRadius, minCounts, 0, true)),1,1),
+				localMaxRadius,resolutionRange,resolutionAngle,thresholdEdge,maxLines,gradient);
+	}
+
+	/**
+	 * Configures hough line detector using the provided transform.  The number of bins in the transform
+	 * is changed to match the input image's shape.
+	 *
+	 * @param alg Hough transform.  The extractor's minimum intensity specifies the minimum number of counts.
+	 * @param localMaxRadius Radius for local maximum suppression.  Try 2.
+	 * @param resolutionRange Resolution of line range in pixels.  Try 2
+	 * @param resolutionAngle Resolution of line angle in radius.  Try PI/180
+	 * @param thresholdEdge Edge detection threshold. Try 50.
+	 * @param maxLines Maximum number of lines to return. If <= 0 it will return them all.
+	 * @param gradient Algorithm for computing image gradient.
+	 */
+	public DetectLineHoughPolar(HoughTransformLinePolar alg,
+								int localMaxRadius,
+								double resolutionRange ,
+								double resolutionAngle ,
+								float thresholdEdge,
+								int maxLines ,
+								ImageGradient<I, D> gradient)
+	{
+		this.alg = alg;
 		pruneAngleTol = (float)((localMaxRadius+1)*resolutionAngle);
 		pruneRangeTol = (float)((localMaxRadius+1)*resolutionRange);
 		this.localMaxRadius = localMaxRadius;
@@ -124,11 +149,22 @@ public class DetectLineHoughPolar<I extends ImageSingleBand, D extends ImageSing
 		this.resolutionRange = resolutionRange;
 		this.resolutionAngle = resolutionAngle;
 		this.maxLines = maxLines <= 0 ? Integer.MAX_VALUE : maxLines;
-		extractor = FactoryFeatureExtractor.nonmax(new ConfigExtract(localMaxRadius, minCounts, 0, true));
 		derivX = gradient.getDerivType().createImage(1, 1);
 		derivY = gradient.getDerivType().createImage(1, 1);
 	}
 
+	/**
+	 * If the tolerance is positive then edge pixels only vote for lines with an angle within this tolerance
+	 * of the gradient's direction.  Otherwise they vote for all angles, which is the default.
+	 *
+	 * @param tolerance Angle tolerance in radians.
+	 */
+	public void setGradientTolerance( double tolerance ) {
+		voteGradient = tolerance > 0;
+		if( voteGradient )
+			alg.setGradientTolerance(tolerance);
+	}
+
 	@Override
 	public List<LineParametric2D_F32> detect(I input) {
 		// see if the input image shape has changed.
@@ -137,7 +173,7 @@ public class DetectLineHoughPolar<I extends ImageSingleBand, D extends ImageSing
 			int numBinsRange = (int)Math.ceil(r/resolutionRange);
 			int numBinsAngle = (int)Math.ceil(Math.PI/resolutionAngle);
 
-			alg = new HoughTransformLinePolar(extractor,numBinsRange,numBinsAngle);
+			alg.setNumberOfBins(numBinsRange,numBinsAngle);
 			derivX.reshape(input.width,input.height);
 			derivY.reshape(input.width,input.height);
 			intensity.reshape(input.width,input.height);
@@ -162,7 +198,10 @@ public class DetectLineHoughPolar<I extends ImageSingleBand, D extends ImageSing
 
 		ThresholdImageOps.threshold(suppressed, binary, thresholdEdge, false);
 
-		alg.transform(binary);
+		if( voteGradient )
+			alg.transform(derivX,derivY,binary);
+		else
+			alg.transform(binary);
 		FastQueue<LineParametric2D_F32> lines = alg.extractLines();
 
 		List<LineParametric2D_F32> ret = new ArrayList<LineParametric2D_F32>();
@@ -30,7 +30,7 @@ import boofcv.struct.image.ImageType;
  * @author Peter Abeles
  */
 public class BroxWarpingSpacial_to_DenseOpticalFlow<T extends ImageSingleBand>
-	implements DenseOpticalFlow<T>
+	extends WarmStartDenseOpticalFlow<T>
 {
 	BroxWarpingSpacial<T> brox;
 	Class<T> imageType;
@@ -44,6 +44,10 @@ public class BroxWarpingSpacial_to_DenseOpticalFlow<T extends ImageSingleBand>
 	@Override
 	public void process(T source, T destination, ImageFlow flow) {
 
+		if( warpPrevious(flow, warped) ) {
+			brox.setInitialFlow(warped);
+		}
+
 		brox.process(source, destination);
 
 		ImageFloat32 flowX = brox.getFlowX();
@@ -57,6 +61,17 @@ public class BroxWarpingSpacial_to_DenseOpticalFlow<T extends ImageSingleBand>
 				d.y = flowY.data[index];
 			}
 		}
+
+		savePrevious(flow);
+	}
+
+	/**
+	 * Number of iterations in the most recent call to process.
+	 *
+	 * @see boofcv.alg.flow.BroxWarpingSpacial#getTotalIterations()
+	 */
+	public int getIterations() {
+		return brox.getTotalIterations();
 	}
 
 	@Override
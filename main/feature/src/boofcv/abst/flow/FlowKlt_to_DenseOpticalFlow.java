@@ -35,7 +35,7 @@ import java.lang.reflect.Array;
  * @author Peter Abeles
  */
 public class FlowKlt_to_DenseOpticalFlow<I extends ImageSingleBand, D extends ImageSingleBand>
-	implements DenseOpticalFlow<I>
+	extends WarmStartDenseOpticalFlow<I>
 {
 	DenseOpticalFlowKlt<I,D> flowKlt;
 	ImageGradient<I,D> gradient;
@@ -82,7 +82,13 @@ public class FlowKlt_to_DenseOpticalFlow<I extends ImageSingleBand, D extends Im
 
 		PyramidOps.gradient(pyramidSrc, gradient, srcDerivX,srcDerivY);
 
-		flowKlt.process(pyramidSrc,srcDerivX,srcDerivY,pyramidDst,flow);
+		if( warpPrevious(flow, warped) ) {
+			flowKlt.process(pyramidSrc,srcDerivX,srcDerivY,pyramidDst,warped,flow);
+		} else {
+			flowKlt.process(pyramidSrc,srcDerivX,srcDerivY,pyramidDst,flow);
+		}
+
+		savePrevious(flow);
 	}
 
 	@Override
@@ -30,7 +30,7 @@ import boofcv.struct.image.ImageType;
  * @author Peter Abeles
  */
 public class HornSchunckPyramid_to_DenseOpticalFlow<T extends ImageSingleBand>
-	implements DenseOpticalFlow<T>
+	extends WarmStartDenseOpticalFlow<T>
 {
 	HornSchunckPyramid<T> hornSchunck;
 	Class<T> imageType;
@@ -43,6 +43,10 @@ public class HornSchunckPyramid_to_DenseOpticalFlow<T extends ImageSingleBand>
 	@Override
 	public void process(T source, T destination, ImageFlow flow) {
 
+		if( warpPrevious(flow, warped) ) {
+			hornSchunck.setInitialFlow(warped);
+		}
+
 		hornSchunck.process(source,destination);
 
 		ImageFloat32 flowX = hornSchunck.getFlowX();
@@ -56,6 +60,17 @@ public class HornSchunckPyramid_to_DenseOpticalFlow<T extends ImageSingleBand>
 				d.y = flowY.data[index];
 			}
 		}
+
+		savePrevious(flow);
+	}
+
+	/**
+	 * Number of iterations in the most recent call to process.
+	 *
+	 * @see boofcv.alg.flow.HornSchunckPyramid#getTotalIterations()
+	 */
+	public int getIterations() {
+		return hornSchunck.getTotalIterations();
 	}
 
 	@Override
@@ -29,7 +29,7 @@ import boofcv.struct.image.ImageType;
  * @author Peter Abeles
  */
 public class HornSchunck_to_DenseOpticalFlow<T extends ImageBase,D extends ImageBase>
-	implements DenseOpticalFlow<T>
+	extends WarmStartDenseOpticalFlow<T>
 {
 	HornSchunck<T,D> hornSchunck;
 
@@ -43,7 +43,24 @@ public class HornSchunck_to_DenseOpticalFlow<T extends ImageBase,D extends Image
 
 	@Override
 	public void process(T source, T destination, ImageFlow flow) {
+		if( warpPrevious(flow, flow) ) {
+			hornSchunck.setResetOutput(false);
+		} else {
+			hornSchunck.setResetOutput(true);
+		}
+
 		hornSchunck.process(source,destination, flow);
+
+		savePrevious(flow);
+	}
+
+	/**
+	 * Number of iterations in the most recent call to process.
+	 *
+	 * @see boofcv.alg.flow.HornSchunck#getIterations()
+	 */
+	public int getIterations() {
+		return hornSchunck.getIterations();
 	}
 
 	@Override
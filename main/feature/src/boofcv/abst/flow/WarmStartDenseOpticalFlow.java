@@ -0,0 +1,79 @@
+/*
+ * Copyright (c) 2011-2015, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.abst.flow;
+
+import boofcv.alg.flow.UtilDenseOpticalFlow;
+import boofcv.struct.flow.ImageFlow;
+import boofcv.struct.image.ImageBase;
+
+/**
+ * Base class for {@link DenseOpticalFlow} implementations which can be put into a streaming mode.  When processing
+ * a video sequence, the flow found in the previous frame is forward warped and used as the initial estimate for
+ * the current frame, see {@link UtilDenseOpticalFlow#forwardWarp}.
+ *
+ * @author Peter Abeles
+ */
+public abstract class WarmStartDenseOpticalFlow<T extends ImageBase> implements DenseOpticalFlow<T> {
+
+	// if true the flow from the previous call to process is used as the initial estimate
+	protected boolean warmStart = false;
+	// flow found in the previous call to process
+	protected ImageFlow previous = new ImageFlow(1,1);
+	protected boolean hasPrevious = false;
+	// storage for the forward warped previous flow
+	protected ImageFlow warped = new ImageFlow(1,1);
+
+	/**
+	 * Turns on streaming mode.  Only use this if the destination image in one call is the source image in the
+	 * next call.  Calling this function will discard the previous flow.
+	 *
+	 * @param warmStart true to use the previous flow as the initial estimate
+	 */
+	public void setWarmStart(boolean warmStart) {
+		this.warmStart = warmStart;
+		this.hasPrevious = false;
+	}
+
+	/**
+	 * If there is a previous flow which can be used to initialize the flow then it is forward warped into
+	 * the output.
+	 *
+	 * @param flow Flow being computed for the current frame.  Only its shape is used.
+	 * @param output (Output) Storage for the initial estimate.  Can be flow.
+	 * @return true if the previous flow was warped into output
+	 */
+	protected boolean warpPrevious( ImageFlow flow , ImageFlow output ) {
+		if( !warmStart || !hasPrevious || previous.width != flow.width || previous.height != flow.height )
+			return false;
+
+		UtilDenseOpticalFlow.forwardWarp(previous, output);
+		return true;
+	}
+
+	/**
+	 * Saves the found flow so that it can be used to initialize the next frame
+	 */
+	protected void savePrevious( ImageFlow flow ) {
+		if( warmStart ) {
+			previous.reshape(flow.width,flow.height);
+			previous.setTo(flow);
+			hasPrevious = true;
+		}
+	}
+}
@@ -22,7 +22,7 @@ import boofcv.alg.InputSanityCheck;
 import boofcv.alg.segmentation.ComputeRegionMeanColor;
 import boofcv.alg.segmentation.ImageSegmentationOps;
 import boofcv.alg.segmentation.ms.MergeSmallRegions;
-import boofcv.alg.segmentation.watershed.WatershedVincentSoille1991;
+import boofcv.alg.segmentation.watershed.WatershedBucketQueue;
 import boofcv.core.image.GConvertImage;
 import boofcv.struct.ConnectRule;
 import boofcv.struct.feature.ColorQueue_F32;
@@ -34,15 +34,15 @@ import org.ddogleg.struct.FastQueue;
 import org.ddogleg.struct.GrowQueue_I32;
 
 /**
- * Wrapper around {@link WatershedVincentSoille1991} for {@link ImageSuperpixels}.  Watershed regions
- * and small regions are merged together.  When merging regions a preference is given to regions which are the
- * most similar in color intensity.
+ * Wrapper around {@link WatershedBucketQueue} for {@link ImageSuperpixels}.  Watershed pixels are merged
+ * into their neighbors while the image is flooded and small regions are merged together afterwards.  When
+ * merging regions a preference is given to regions which are the most similar in color intensity.
  *
  * @author Peter Abeles
  */
 public class Watershed_to_ImageSuperpixels<T extends ImageBase> implements ImageSuperpixels<T> {
 
-	private WatershedVincentSoille1991 alg;
+	private WatershedBucketQueue alg;
 	private ConnectRule rule;
 
 	private ImageUInt8 converted = new ImageUInt8(1,1);
@@ -58,10 +58,12 @@ public class Watershed_to_ImageSuperpixels<T extends ImageBase> implements Image
 	// but is required by the interface
 	private ImageType<T> imageType;
 
-	public Watershed_to_ImageSuperpixels(WatershedVincentSoille1991 alg, int minimumSize, ConnectRule rule) {
+	public Watershed_to_ImageSuperpixels(WatershedBucketQueue alg, int minimumSize, ConnectRule rule) {
 		this.alg = alg;
 		this.rule = rule;
 
+		alg.setRemoveWatersheds(true);
+
 		if( minimumSize > 0 )
 			pruneSmall = new MergeSmallRegions<ImageUInt8>(minimumSize,rule,new ComputeRegionMeanColor.U8());
 	}
@@ -75,7 +77,6 @@ public class Watershed_to_ImageSuperpixels<T extends ImageBase> implements Image
 
 		// segment the image
 		alg.process(converted);
-		alg.removeWatersheds();
 
 		numRegions = alg.getTotalRegions();
 		ImageSInt32 pixelToRegion = alg.getOutput();
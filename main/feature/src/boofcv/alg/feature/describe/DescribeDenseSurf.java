@@ -0,0 +1,295 @@
+/*
+ * Copyright (c) 2011-2015, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.feature.describe;
+
+import boofcv.struct.feature.SurfFeature;
+import boofcv.struct.image.ImageSingleBand;
+import boofcv.struct.sparse.GradientValue;
+import georegression.struct.point.Point2D_I32;
+import org.ddogleg.struct.FastQueue;
+
+/**
+ * <p>
+ * Computes upright SURF descriptors, as described in {@link DescribePointSurf}, on a regular grid of points.  When
+ * the orientation is zero the sample points of a descriptor are at fixed integer offsets from its center.  The
+ * sample regions of neighboring descriptors overlap, so the gradient at each sampled pixel is computed once and
+ * stored.  Each descriptor is then assembled from the stored gradient.  The output is identical to calling
+ * {@link DescribePointSurf#describe(double, double, double, double, SurfFeature)} at each grid point.
+ * </p>
+ *
+ * <p>
+ * Sample points which lie outside the image or too close to its border have a gradient of zero, just like
+ * in {@link DescribePointSurf}.
+ * </p>
+ *
+ * @author Peter Abeles
+ */
+public class DescribeDenseSurf<II extends ImageSingleBand> {
+
+	// describes a single point.  Provides the configuration, gradient, and Laplacian sign
+	protected DescribePointSurf<II> surf;
+
+	// integral image
+	protected II ii;
+	// scale the descriptors are computed at
+	protected double scale;
+
+	// number of sample points wide a descriptor is
+	protected int regionSize;
+
+	// number of grid points along each axis
+	protected int gridWidth, gridHeight;
+	// location of the first grid point and the space between them
+	protected int x0, y0, periodX, periodY;
+
+	// pixel coordinates of each sample point for each grid column and row
+	protected int sampleX[] = new int[0];
+	protected int sampleY[] = new int[0];
+	// indicates which columns and rows in the image are sampled by at least one descriptor
+	protected boolean sampledColumn[] = new boolean[0];
+	protected boolean sampledRow[] = new boolean[0];
+
+	// gradient at every sampled pixel
+	protected double gradX[] = new double[0];
+	protected double gradY[] = new double[0];
+
+	// storage for the output
+	protected FastQueue<SurfFeature> descriptions;
+	// index of the first description computed in the current call
+	protected int indexFirst;
+
+	/**
+	 * Specifies the descriptor.
+	 *
+	 * @param surf Describes a single point.  Must be an instance of {@link DescribePointSurf} and not a child.
+	 */
+	public DescribeDenseSurf(DescribePointSurf<II> surf) {
+		// subclasses sample the region differently
+		if( surf.getClass() != DescribePointSurf.class )
+			throw new IllegalArgumentException("Only DescribePointSurf is supported");
+		if( surf.weight.width != surf.widthLargeGrid*surf.widthSubRegion )
+			throw new IllegalArgumentException("Weighting kernel has an unexpected size");
+		this.surf = surf;
+		this.regionSize = surf.widthLargeGrid*surf.widthSubRegion;
+	}
+
+	/**
+	 * Computes descriptors on a grid with points at (x0 + i*periodX, y0 + j*periodY) which are less
+	 * than (x1,y1).
+	 *
+	 * @param ii Integral image of the input image.
+	 * @param scale Scale of each descriptor.
+	 * @param periodX Spacing between grid points along x-axis.
+	 * @param periodY Spacing between grid points along y-axis.
+	 * @param x0 First grid point x-coordinate, inclusive.
+	 * @param y0 First grid point y-coordinate, inclusive.
+	 * @param x1 Upper x-coordinate of grid points, exclusive.
+	 * @param y1 Upper y-coordinate of grid points, exclusive.
+	 * @param descriptions (Output) Computed descriptors.  Added using grow() in raster order.
+	 * @param locations (Output) Location of each descriptor.  Added using grow().  Can be null.
+	 */
+	public void process( II ii , double scale , int periodX , int periodY , int x0 , int y0 , int x1 , int y1 ,
+						 FastQueue<SurfFeature> descriptions , FastQueue<Point2D_I32> locations ) {
+		this.ii = ii;
+		this.scale = scale;
+		this.periodX = periodX;
+		this.periodY = periodY;
+		this.x0 = x0;
+		this.y0 = y0;
+		this.descriptions = descriptions;
+
+		gridWidth = x1 > x0 ? (x1-x0+periodX-1)/periodX : 0;
+		gridHeight = y1 > y0 ? (y1-y0+periodY-1)/periodY : 0;
+
+		if( gridWidth == 0 || gridHeight == 0 )
+			return;
+
+		surf.setImage(ii);
+		surf.gradient.setScale(scale);
+
+		sampledColumn = resetSampled(ii.width, sampledColumn);
+		sampleX = computeSamples(gridWidth, x0, periodX, ii.width, sampleX, sampledColumn);
+		sampledRow = resetSampled(ii.height, sampledRow);
+		sampleY = computeSamples(gridHeight, y0, periodY, ii.height, sampleY, sampledRow);
+
+		int N = ii.width*ii.height;
+		if( gradX.length < N ) {
+			gradX = new double[N];
+			gradY = new double[N];
+		}
+
+		computeGradient();
+
+		indexFirst = descriptions.size;
+		for( int gridY = 0; gridY < gridHeight; gridY++ ) {
+			for( int gridX = 0; gridX < gridWidth; gridX++ ) {
+				descriptions.grow();
+				if( locations != null )
+					locations.grow().set(x0 + gridX*periodX, y0 + gridY*periodY);
+			}
+		}
+
+		describeGrid();
+	}
+
+	private static boolean[] resetSampled( int imageLength , boolean sampled[] ) {
+		if( sampled.length < imageLength )
+			sampled = new boolean[imageLength];
+		for( int i = 0; i < imageLength; i++ )
+			sampled[i] = false;
+		return sampled;
+	}
+
+	/**
+	 * Computes the pixel coordinate of every sample point along one axis in the same way as
+	 * {@link DescribePointSurf#features}.  A coordinate of -1 is used for points outside the image.
+	 */
+	private int[] computeSamples( int gridLength , int start , int period , int imageLength ,
+								  int samples[] , boolean sampled[] ) {
+		if( samples.length < gridLength*regionSize )
+			samples = new int[gridLength*regionSize];
+
+		int regionR = regionSize/2;
+
+		int index = 0;
+		for( int i = 0; i < gridLength; i++ ) {
+			double c = start + i*period + 0.5;
+			for( int k = 0; k < regionSize; k++ ) {
+				int pixel = (int)(c + (k-regionR)*scale);
+				if( pixel < 0 || pixel >= imageLength ) {
+					samples[index++] = -1;
+				} else {
+					samples[index++] = pixel;
+					sampled[pixel] = true;
+				}
+			}
+		}
+
+		return samples;
+	}
+
+	/**
+	 * Computes the gradient at all sampled pixels
+	 */
+	protected void computeGradient() {
+		computeGradientRows(surf, 0, ii.height);
+	}
+
+	/**
+	 * Computes the gradient at sampled pixels inside the specified range of rows
+	 *
+	 * @param worker Used to compute the gradient. Its image and scale must have already been set.
+	 * @param row0 First row, inclusive.
+	 * @param row1 Last row, exclusive.
+	 */
+	protected void computeGradientRows( DescribePointSurf<II> worker , int row0 , int row1 ) {
+		int width = ii.width;
+		for( int y = row0; y < row1; y++ ) {
+			if( !sampledRow[y] )
+				continue;
+
+			int index = y*width;
+			for( int x = 0; x < width; x++ , index++ ) {
+				if( !sampledColumn[x] )
+					continue;
+
+				// returns a gradient of zero if the kernel goes outside the image
+				GradientValue g = worker.gradientSafe.compute(x, y);
+				gradX[index] = g.getX();
+				gradY[index] = g.getY();
+			}
+		}
+	}
+
+	/**
+	 * Computes the descriptors at all the grid points
+	 */
+	protected void describeGrid() {
+		describeGridRows(surf, 0, gridHeight);
+	}
+
+	/**
+	 * Computes the descriptors at grid points inside the specified range of grid rows
+	 *
+	 * @param worker Used to compute the sign of the Laplacian.  Its image must have already been set.
+	 * @param gridY0 First grid row, inclusive.
+	 * @param gridY1 Last grid row, exclusive.
+	 */
+	protected void describeGridRows( DescribePointSurf<II> worker , int gridY0 , int gridY1 ) {
+		final int widthSubRegion = surf.widthSubRegion;
+		final int widthLargeGrid = surf.widthLargeGrid;
+		final double weight[] = surf.weight.data;
+		final int width = ii.width;
+
+		for( int gridY = gridY0; gridY < gridY1; gridY++ ) {
+			int offsetY = gridY*regionSize;
+
+			for( int gridX = 0; gridX < gridWidth; gridX++ ) {
+				int offsetX = gridX*regionSize;
+				double features[] = descriptions.get(indexFirst + gridY*gridWidth + gridX).value;
+
+				int regionIndex = 0;
+				for( int subY = 0; subY < widthLargeGrid; subY++ ) {
+					for( int subX = 0; subX < widthLargeGrid; subX++ ) {
+						double sum_dx = 0, sum_dy=0, sum_adx=0, sum_ady=0;
+
+						for( int i = 0; i < widthSubRegion; i++ ) {
+							int ky = subY*widthSubRegion + i;
+							int pixelY = sampleY[offsetY + ky];
+
+							for( int j = 0; j < widthSubRegion; j++ ) {
+								int kx = subX*widthSubRegion + j;
+								int pixelX = sampleX[offsetX + kx];
+
+								double w = weight[ky*regionSize + kx];
+
+								double dx,dy;
+								if( pixelX < 0 || pixelY < 0 ) {
+									dx = dy = 0;
+								} else {
+									int index = pixelY*width + pixelX;
+									dx = w*gradX[index];
+									dy = w*gradY[index];
+								}
+
+								sum_dx += dx;
+								sum_adx += Math.abs(dx);
+								sum_dy += dy;
+								sum_ady += Math.abs(dy);
+							}
+						}
+						features[regionIndex++] = sum_dx;
+						features[regionIndex++] = sum_adx;
+						features[regionIndex++] = sum_dy;
+						features[regionIndex++] = sum_ady;
+					}
+				}
+
+				SurfDescribeOps.normalizeFeatures(features);
+
+				SurfFeature f = descriptions.get(indexFirst + gridY*gridWidth + gridX);
+				f.laplacianPositive = worker.computeLaplaceSign(x0 + gridX*periodX, y0 + gridY*periodY, scale);
+			}
+		}
+	}
+
+	public DescribePointSurf<II> getSurf() {
+		return surf;
+	}
+}
@@ -0,0 +1,91 @@
+/*
+ * Copyright (c) 2011-2015, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.feature.describe;
+
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.concurrency.IntRangeObjectTask;
+import boofcv.concurrency.WorkerFactory;
+import boofcv.struct.image.ImageSingleBand;
+import org.ddogleg.struct.FastQueue;
+
+/**
+ * Concurrent implementation of {@link DescribeDenseSurf}.  The gradient is computed in blocks of image rows and
+ * then the descriptors are computed in blocks of grid rows.  Each thread has its own instance of
+ * {@link DescribePointSurf}.  The output is identical to the single threaded version.
+ *
+ * @author Peter Abeles
+ */
+public class DescribeDenseSurf_MT<II extends ImageSingleBand> extends DescribeDenseSurf<II> {
+
+	// computes the gradient and Laplacian sign inside a block
+	private FastQueue<DescribePointSurf<II>> workers;
+
+	// minimum number of image rows processed by a thread
+	private int minBlockRows = 10;
+
+	/**
+	 * @param factory Creates the point descriptor.  Every instance must have the same configuration.
+	 */
+	@SuppressWarnings("unchecked")
+	public DescribeDenseSurf_MT(final WorkerFactory<DescribePointSurf<II>> factory) {
+		super(factory.newInstance());
+
+		workers = new FastQueue<DescribePointSurf<II>>(1,(Class)DescribePointSurf.class,true) {
+			@Override
+			protected DescribePointSurf<II> createInstance() {
+				return factory.newInstance();
+			}
+		};
+	}
+
+	@Override
+	protected void computeGradient() {
+		BoofConcurrency.loopBlocks(0, ii.height, minBlockRows, workers, new IntRangeObjectTask<DescribePointSurf<II>>() {
+			@Override
+			public void call(DescribePointSurf<II> worker, int row0, int row1) {
+				worker.setImage(ii);
+				worker.gradient.setScale(scale);
+				computeGradientRows(worker, row0, row1);
+			}
+		});
+	}
+
+	@Override
+	protected void describeGrid() {
+		// a descriptor is much more expensive than a row of the gradient
+		BoofConcurrency.loopBlocks(0, gridHeight, 1, workers, new IntRangeObjectTask<DescribePointSurf<II>>() {
+			@Override
+			public void call(DescribePointSurf<II> worker, int gridY0, int gridY1) {
+				worker.setImage(ii);
+				describeGridRows(worker, gridY0, gridY1);
+			}
+		});
+	}
+
+	public int getMinBlockRows() {
+		return minBlockRows;
+	}
+
+	/**
+	 * Specifies the smallest number of rows which will be processed by a single thread
+	 */
+	public void setMinBlockRows(int minBlockRows) {
+		this.minBlockRows = minBlockRows;
+	}
+}
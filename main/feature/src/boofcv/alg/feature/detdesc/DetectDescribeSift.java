@@ -57,6 +57,9 @@ public class DetectDescribeSift {
 	protected GrowQueue_F64 featureAngles;
 	protected FastQueue<Point2D_F64> location;
 
+	// which layers in the scale-space contain features
+	private boolean requiredLayers[];
+
 	public DetectDescribeSift(SiftImageScaleSpace ss,
 							  SiftDetector detector,
 							  OrientationHistogramSift orientation,
@@ -87,14 +90,31 @@ public class DetectDescribeSift {
 
 		ss.constructPyramid(input);
 		ss.computeFeatureIntensity();
-		ss.computeDerivatives();
 
 		detector.process(ss);
-		orientation.setScaleSpace(ss);
-		describe.setScaleSpace(ss);
 
 		FastQueue<ScalePoint> found = detector.getFoundPoints();
 
+		// image derivatives are only needed in layers which contain features
+		if( requiredLayers == null || requiredLayers.length != ss.getTotalLayers() )
+			requiredLayers = new boolean[ ss.getTotalLayers() ];
+		for( int i = 0; i < requiredLayers.length; i++ )
+			requiredLayers[i] = false;
+		for( int i = 0; i < found.size; i++ ) {
+			requiredLayers[ss.scaleToImageIndex(found.data[i].scale)] = true;
+		}
+		ss.computeDerivatives(requiredLayers);
+
+		describeFeatures(found);
+	}
+
+	/**
+	 * Computes the orientation(s) and descriptor for each of the detected features
+	 */
+	protected void describeFeatures( FastQueue<ScalePoint> found ) {
+		orientation.setScaleSpace(ss);
+		describe.setScaleSpace(ss);
+
 		for( int i = 0; i < found.size; i++ ) {
 			ScalePoint sp = found.data[i];
 			orientation.process(sp.x,sp.y,sp.scale);
@@ -0,0 +1,153 @@
+/*
+ * Copyright (c) 2011-2015, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.feature.detdesc;
+
+import boofcv.abst.feature.describe.ConfigSiftDescribe;
+import boofcv.abst.feature.orientation.ConfigSiftOrientation;
+import boofcv.alg.feature.describe.DescribePointSift;
+import boofcv.alg.feature.detect.interest.SiftDetector;
+import boofcv.alg.feature.detect.interest.SiftImageScaleSpace;
+import boofcv.alg.feature.orientation.OrientationHistogramSift;
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.concurrency.IntRangeObjectTask;
+import boofcv.factory.feature.describe.FactoryDescribePointAlgs;
+import boofcv.factory.feature.orientation.FactoryOrientationAlgs;
+import boofcv.struct.feature.ScalePoint;
+import boofcv.struct.feature.SurfFeature;
+import boofcv.struct.feature.SurfFeatureQueue;
+import georegression.struct.point.Point2D_F64;
+import org.ddogleg.struct.FastQueue;
+import org.ddogleg.struct.GrowQueue_F64;
+
+/**
+ * <p>
+ * Concurrent implementation of {@link DetectDescribeSift}.  Detected features are split into blocks and the
+ * orientation and descriptor of each block is computed in its own thread.  The results are then combined
+ * in the same order as the single threaded version.  For the best performance the scale-space and
+ * detector should be the concurrent variants too.
+ * </p>
+ *
+ * @see boofcv.alg.feature.detect.interest.SiftImageScaleSpace_MT
+ * @see boofcv.alg.feature.detect.interest.SiftDetector_MT
+ *
+ * @author Peter Abeles
+ */
+public class DetectDescribeSift_MT extends DetectDescribeSift {
+
+	// minimum number of features processed by a single thread
+	private static final int MIN_BLOCK = 20;
+
+	// storage for each thread
+	private FastQueue<Worker> workers;
+
+	/**
+	 * Configures the algorithm.
+	 *
+	 * @param ss Scale-space
+	 * @param detector Feature detector
+	 * @param configOri Configuration for orientation.  An estimator is created for each thread.  Can be null.
+	 * @param configDesc Configuration for the descriptor. A descriptor is created for each thread.  Can be null.
+	 */
+	public DetectDescribeSift_MT(SiftImageScaleSpace ss,
+								 SiftDetector detector,
+								 final ConfigSiftOrientation configOri,
+								 final ConfigSiftDescribe configDesc) {
+		super(ss, detector, FactoryOrientationAlgs.sift(configOri), FactoryDescribePointAlgs.sift(configDesc));
+
+		workers = new FastQueue<Worker>(1,Worker.class,true) {
+			@Override
+			protected Worker createInstance() {
+				return new Worker(FactoryOrientationAlgs.sift(configOri), FactoryDescribePointAlgs.sift(configDesc));
+			}
+		};
+	}
+
+	@Override
+	protected void describeFeatures( final FastQueue<ScalePoint> found ) {
+		BoofConcurrency.loopBlocks(0, found.size, MIN_BLOCK, workers, new IntRangeObjectTask<Worker>() {
+			@Override
+			public void call(Worker worker, int i0, int i1) {
+				worker.process(found, i0, i1);
+			}
+		});
+
+		// combine results in a deterministic order
+		for( int i = 0; i < workers.size; i++ ) {
+			Worker w = workers.get(i);
+			for( int j = 0; j < w.features.size; j++ ) {
+				features.grow().setTo(w.features.get(j));
+				featureScales.push(w.featureScales.get(j));
+				featureAngles.push(w.featureAngles.get(j));
+				location.grow().set(w.location.get(j));
+			}
+		}
+	}
+
+	/**
+	 * Orientation, descriptor, and output storage for a single thread
+	 */
+	private class Worker {
+		OrientationHistogramSift orientation;
+		DescribePointSift describe;
+
+		SurfFeatureQueue features;
+		GrowQueue_F64 featureScales = new GrowQueue_F64(100);
+		GrowQueue_F64 featureAngles = new GrowQueue_F64(100);
+		FastQueue<Point2D_F64> location = new FastQueue<Point2D_F64>(100,Point2D_F64.class,true);
+
+		public Worker(OrientationHistogramSift orientation, DescribePointSift describe) {
+			this.orientation = orientation;
+			this.describe = describe;
+			this.features = new SurfFeatureQueue(describe.getDescriptorLength());
+		}
+
+		public void process( FastQueue<ScalePoint> found , int i0 , int i1 ) {
+			features.reset();
+			featureScales.reset();
+			featureAngles.reset();
+			location.reset();
+
+			orientation.setScaleSpace(ss);
+			describe.setScaleSpace(ss);
+
+			for( int i = i0; i < i1; i++ ) {
+				ScalePoint sp = found.data[i];
+				orientation.process(sp.x,sp.y,sp.scale);
+
+				GrowQueue_F64 angles = orientation.getOrientations();
+
+				int imageIndex = orientation.getImageIndex();
+				double pixelScale = orientation.getPixelScale();
+
+				for( int j = 0; j < angles.size; j++ ) {
+					SurfFeature desc = features.grow();
+
+					double yaw = angles.data[j];
+
+					describe.process(sp.x,sp.y,sp.scale,yaw,imageIndex,pixelScale,desc);
+
+					desc.laplacianPositive = sp.white;
+					featureScales.push(sp.scale);
+					featureAngles.push(yaw);
+					location.grow().set(sp.x,sp.y);
+				}
+			}
+		}
+	}
+}
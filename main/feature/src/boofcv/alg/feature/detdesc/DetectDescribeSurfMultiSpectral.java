@@ -21,6 +21,7 @@ package boofcv.alg.feature.detdesc;
 import boofcv.abst.feature.orientation.OrientationIntegral;
 import boofcv.alg.feature.describe.DescribePointSurfMultiSpectral;
 import boofcv.alg.feature.detect.interest.FastHessianFeatureDetector;
+import boofcv.alg.feature.orientation.OrientationIntegralBatch;
 import boofcv.struct.feature.ScalePoint;
 import boofcv.struct.feature.SurfFeature;
 import boofcv.struct.feature.SurfFeatureQueue;
@@ -48,7 +49,7 @@ public class DetectDescribeSurfMultiSpectral<II extends ImageSingleBand>
 {
 	// SURF algorithms
 	private FastHessianFeatureDetector<II> detector;
-	private OrientationIntegral<II> orientation;
+	private OrientationIntegralBatch<II> orientation;
 	private DescribePointSurfMultiSpectral<II> describe;
 
 
@@ -62,6 +63,13 @@ public class DetectDescribeSurfMultiSpectral<II extends ImageSingleBand>
 	public DetectDescribeSurfMultiSpectral(FastHessianFeatureDetector<II> detector,
 										   OrientationIntegral<II> orientation,
 										   DescribePointSurfMultiSpectral<II> describe )
+	{
+		this(detector, new OrientationIntegralBatch<II>(orientation), describe);
+	}
+
+	public DetectDescribeSurfMultiSpectral(FastHessianFeatureDetector<II> detector,
+										   OrientationIntegralBatch<II> orientation,
+										   DescribePointSurfMultiSpectral<II> describe )
 	{
 		this.detector = detector;
 		this.orientation = orientation;
@@ -90,7 +98,6 @@ public class DetectDescribeSurfMultiSpectral<II extends ImageSingleBand>
 		describe.setImage(grayII,colorII);
 
 		descriptions.reset();
-		featureAngles.reset();
 
 		// detect features
 		detector.detect(grayII);
@@ -98,14 +105,12 @@ public class DetectDescribeSurfMultiSpectral<II extends ImageSingleBand>
 		// describe the found interest points
 		foundPoints = detector.getFoundPoints();
 
+		orientation.compute(foundPoints, featureAngles);
+
 		for( int i = 0; i < foundPoints.size(); i++ ) {
 			ScalePoint p = foundPoints.get(i);
-			orientation.setScale(p.scale);
-			double angle = orientation.compute(p.x,p.y);
-
-			describe.describe(p.x, p.y, angle, p.scale, descriptions.grow());
 
-			featureAngles.push(angle);
+			describe.describe(p.x, p.y, featureAngles.data[i], p.scale, descriptions.grow());
 		}
 	}
 
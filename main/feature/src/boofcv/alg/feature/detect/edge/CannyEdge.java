@@ -40,6 +40,10 @@ import java.util.List;
  * The output from this class can be configured to output a binary edge image and/or a set of contours
  * for each point in the contour image.
  *
+ * The edge intensity can be computed for the entire image one step at a time or in strips of rows using
+ * {@link CannyNonMaxStrips}.  Both approaches produce identical results and run at about the same speed,
+ * but strips use less memory since the blurred image and gradient are only stored for a few rows at a time.
+ *
  * @author Peter Abeles
  */
 public class CannyEdge<T extends ImageSingleBand, D extends ImageSingleBand> {
@@ -63,9 +67,10 @@ public class CannyEdge<T extends ImageSingleBand, D extends ImageSingleBand> {
 	// edge direction in radians
 	private ImageFloat32 angle = new ImageFloat32(1,1);
 	// quantized direction
-	private ImageSInt8 direction = new ImageSInt8(1,1);
-	// work space
-	private ImageUInt8 work = new ImageUInt8(1,1);
+	protected ImageSInt8 direction = new ImageSInt8(1,1);
+
+	// if not null the edge intensity is computed in strips
+	private CannyNonMaxStrips<T,D> strips;
 
 	// different algorithms for performing hysteresis thresholding
 	protected HysteresisEdgeTracePoints hysteresisPts; // saves a list of points
@@ -95,6 +100,23 @@ public class CannyEdge<T extends ImageSingleBand, D extends ImageSingleBand> {
 		}
 	}
 
+	/**
+	 * Computes the edge intensity in strips of rows instead of processing the whole image at once.
+	 *
+	 * @param strips Computes the edge intensity after non-maximum suppression and the edge direction.
+	 * @param hysteresis Used to mark edge pixels in a binary image.  If null then a list of points that compose
+	 *                   each contour will be saved instead.
+	 */
+	public CannyEdge(CannyNonMaxStrips<T,D> strips, HysteresisEdgeTraceMark hysteresis ) {
+		this.strips = strips;
+
+		if( hysteresis == null ) {
+			hysteresisPts = new HysteresisEdgeTracePoints();
+		} else {
+			hysteresisMark = hysteresis;
+		}
+	}
+
 	/**
 	 * <p>
 	 * Runs a canny edge detector on the input image given the provided thresholds.  If configured to save
@@ -118,23 +140,26 @@ public class CannyEdge<T extends ImageSingleBand, D extends ImageSingleBand> {
 				throw new IllegalArgumentException("An output image must be specified when configured to mark edge points");
 		}
 
-		// setup internal data structures
-		blurred.reshape(input.width,input.height);
-		derivX.reshape(input.width,input.height);
-		derivY.reshape(input.width,input.height);
-		intensity.reshape(input.width,input.height);
-		suppressed.reshape(input.width,input.height);
-		angle.reshape(input.width,input.height);
-		direction.reshape(input.width,input.height);
-		work.reshape(input.width,input.height);
-
-		// run canny edge detector
-		blur.process(input,blurred);
-		gradient.process(blurred, derivX, derivY);
-		GGradientToEdgeFeatures.intensityAbs(derivX, derivY, intensity);
-		GGradientToEdgeFeatures.direction(derivX, derivY, angle);
-		GradientToEdgeFeatures.discretizeDirection4(angle, direction);
-		GradientToEdgeFeatures.nonMaxSuppression4(intensity, direction, suppressed);
+		if( strips != null ) {
+			strips.process(input, suppressed, direction);
+		} else {
+			// setup internal data structures
+			blurred.reshape(input.width,input.height);
+			derivX.reshape(input.width,input.height);
+			derivY.reshape(input.width,input.height);
+			intensity.reshape(input.width,input.height);
+			suppressed.reshape(input.width,input.height);
+			angle.reshape(input.width,input.height);
+			direction.reshape(input.width,input.height);
+
+			// run canny edge detector
+			blur.process(input,blurred);
+			gradient.process(blurred, derivX, derivY);
+			GGradientToEdgeFeatures.intensityAbs(derivX, derivY, intensity);
+			GGradientToEdgeFeatures.direction(derivX, derivY, angle);
+			GradientToEdgeFeatures.discretizeDirection4(angle, direction);
+			GradientToEdgeFeatures.nonMaxSuppression4(intensity, direction, suppressed);
+		}
 
 		performThresholding(threshLow, threshHigh, output);
 	}
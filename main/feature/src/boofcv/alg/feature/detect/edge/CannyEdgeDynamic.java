@@ -43,6 +43,15 @@ public class CannyEdgeDynamic<T extends ImageSingleBand, D extends ImageSingleBa
 		super(blur, gradient,saveTrace);
 	}
 
+	/**
+	 * Constructor which computes the edge intensity in strips of rows.
+	 *
+	 * @see CannyEdge#CannyEdge(CannyNonMaxStrips, HysteresisEdgeTraceMark)
+	 */
+	public CannyEdgeDynamic(CannyNonMaxStrips<T,D> strips, HysteresisEdgeTraceMark hysteresis ) {
+		super(strips, hysteresis);
+	}
+
 	@Override
 	protected void performThresholding(float threshLow, float threshHigh, ImageUInt8 output) {
 
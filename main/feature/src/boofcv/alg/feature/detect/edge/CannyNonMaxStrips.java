@@ -0,0 +1,206 @@
+/*
+ * Copyright (c) 2011-2015, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.feature.detect.edge;
+
+import boofcv.abst.filter.blur.BlurFilter;
+import boofcv.abst.filter.derivative.ImageGradient;
+import boofcv.concurrency.WorkerFactory;
+import boofcv.core.image.GeneralizedImageOps;
+import boofcv.struct.image.ImageFloat32;
+import boofcv.struct.image.ImageSInt8;
+import boofcv.struct.image.ImageSingleBand;
+import org.ddogleg.struct.FastQueue;
+
+/**
+ * <p>
+ * Computes the edge intensity after non-maximum suppression and the 4-direction image for {@link CannyEdge}
+ * one strip of rows at a time.  The blur, gradient, edge intensity, direction, and non-maximum suppression
+ * are all computed for a strip before moving on to the next one.  All the intermediate images are the size of a
+ * strip, which keeps them in the CPU's cache and avoids allocating several full size images.
+ * </p>
+ *
+ * <p>
+ * Each strip is processed with extra rows above and below it, so that the rows inside the strip are not
+ * influenced by the strip's border.  The output is identical to processing the whole image at once.
+ * </p>
+ *
+ * @author Peter Abeles
+ */
+public class CannyNonMaxStrips<T extends ImageSingleBand, D extends ImageSingleBand> {
+
+	// storage for each worker
+	protected FastQueue<Strip> workers;
+
+	// the smallest number of rows in a strip
+	private int stripRows = 128;
+
+	/**
+	 * Specifies how the blur and gradient are computed.  Each worker needs its own instance.
+	 *
+	 * @param blurFactory Creates the blur applied to the input image
+	 * @param gradientFactory Creates the algorithm for computing the image gradient
+	 */
+	@SuppressWarnings("unchecked")
+	public CannyNonMaxStrips( final WorkerFactory<BlurFilter<T>> blurFactory ,
+							  final WorkerFactory<ImageGradient<T,D>> gradientFactory ) {
+		workers = new FastQueue<Strip>(1,(Class)Strip.class,true) {
+			@Override
+			protected Strip createInstance() {
+				return new Strip(blurFactory.newInstance(),gradientFactory.newInstance());
+			}
+		};
+	}
+
+	/**
+	 * Computes the suppressed edge intensity and direction for the input image.
+	 *
+	 * @param input Input image. Not modified.
+	 * @param suppressed Edge intensity after non-maximum suppression.  Modified.
+	 * @param direction 4-direction of the edge.  Modified.
+	 */
+	public void process( T input , ImageFloat32 suppressed , ImageSInt8 direction ) {
+		suppressed.reshape(input.width, input.height);
+		direction.reshape(input.width, input.height);
+
+		// make sure the halo is a small fraction of each strip
+		Strip strip = workers.size > 0 ? workers.get(0) : workers.grow();
+		int rows = Math.max(stripRows, 4*strip.halo());
+
+		int numStrips = Math.max(1, input.height/rows);
+
+		processStrips(input, suppressed, direction, numStrips);
+	}
+
+	/**
+	 * Processes strips one at a time
+	 */
+	protected void processStrips( T input , ImageFloat32 suppressed , ImageSInt8 direction , int numStrips ) {
+		Strip strip = workers.get(0);
+		for( int i = 0; i < numStrips; i++ ) {
+			strip.process(input, stripStart(input.height, numStrips, i), stripStart(input.height, numStrips, i+1),
+					suppressed, direction);
+		}
+	}
+
+	/**
+	 * Returns the first row in a strip
+	 */
+	protected static int stripStart( int height , int numStrips , int index ) {
+		return (int)((long)height*index/numStrips);
+	}
+
+	public int getStripRows() {
+		return stripRows;
+	}
+
+	/**
+	 * Specifies the smallest number of rows in a strip.  More rows will be used if needed to keep the
+	 * extra rows processed around each strip to a small fraction.
+	 */
+	public void setStripRows(int stripRows) {
+		this.stripRows = stripRows;
+	}
+
+	/**
+	 * Computes the output for a single strip of rows.
+	 */
+	public class Strip {
+		BlurFilter<T> blur;
+		ImageGradient<T,D> gradient;
+
+		// intermediate images which are the size of the strip plus the extra rows around it
+		T blurred;
+		D derivX;
+		D derivY;
+		ImageFloat32 intensity = new ImageFloat32(1,1);
+		ImageFloat32 angle = new ImageFloat32(1,1);
+		ImageSInt8 direction = new ImageSInt8(1,1);
+		ImageFloat32 suppressed = new ImageFloat32(1,1);
+
+		public Strip(BlurFilter<T> blur, ImageGradient<T, D> gradient) {
+			this.blur = blur;
+			this.gradient = gradient;
+
+			Class<T> imageType = blur.getInputType().getImageClass();
+			blurred = GeneralizedImageOps.createSingleBand(imageType, 1, 1);
+			derivX = gradient.getDerivType().createImage(1, 1);
+			derivY = gradient.getDerivType().createImage(1, 1);
+		}
+
+		/**
+		 * Number of extra rows needed on each side of the strip
+		 */
+		public int halo() {
+			// blur, gradient, and non-maximum suppression.  The gradient's border is zero if it processes the
+			// image border, but the 3x3 kernels still need one more row
+			return blur.getRadius() + Math.max(1,gradient.getBorder()) + 1;
+		}
+
+		/**
+		 * Computes the output for rows y0 to y1-1, inclusive.
+		 */
+		public void process( T input , int y0 , int y1 , ImageFloat32 outSuppressed , ImageSInt8 outDirection ) {
+			int halo = halo();
+			int regionY0 = Math.max(0, y0 - halo);
+			int regionY1 = Math.min(input.height, y1 + halo);
+
+			int width = input.width;
+			int height = regionY1 - regionY0;
+
+			blurred.reshape(width, height);
+			derivX.reshape(width, height);
+			derivY.reshape(width, height);
+
+			@SuppressWarnings("unchecked")
+			T region = (T)input.subimage(0, regionY0, width, regionY1, null);
+
+			blur.process(region, blurred);
+			gradient.process(blurred, derivX, derivY);
+
+			// non-maximum suppression only needs the edge intensity one row above and below the strip
+			int edgeY0 = Math.max(regionY0, y0 - 1);
+			int edgeY1 = Math.min(regionY1, y1 + 1);
+			int edgeHeight = edgeY1 - edgeY0;
+
+			intensity.reshape(width, edgeHeight);
+			angle.reshape(width, edgeHeight);
+			direction.reshape(width, edgeHeight);
+			suppressed.reshape(width, edgeHeight);
+
+			@SuppressWarnings("unchecked")
+			D edgeX = (D)derivX.subimage(0, edgeY0 - regionY0, width, edgeY1 - regionY0, null);
+			@SuppressWarnings("unchecked")
+			D edgeY = (D)derivY.subimage(0, edgeY0 - regionY0, width, edgeY1 - regionY0, null);
+
+			GGradientToEdgeFeatures.intensityAbs(edgeX, edgeY, intensity);
+			GGradientToEdgeFeatures.direction(edgeX, edgeY, angle);
+			GradientToEdgeFeatures.discretizeDirection4(angle, direction);
+			GradientToEdgeFeatures.nonMaxSuppression4(intensity, direction, suppressed);
+
+			// copy the rows which are not influenced by the region's border
+			for( int y = y0; y < y1; y++ ) {
+				int indexStrip = (y - edgeY0)*width;
+				System.arraycopy(suppressed.data, indexStrip,
+						outSuppressed.data, outSuppressed.startIndex + y*outSuppressed.stride, width);
+				System.arraycopy(direction.data, indexStrip,
+						outDirection.data, outDirection.startIndex + y*outDirection.stride, width);
+			}
+		}
+	}
+}
@@ -0,0 +1,58 @@
+/*
+ * Copyright (c) 2011-2015, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.feature.detect.edge;
+
+import boofcv.abst.filter.blur.BlurFilter;
+import boofcv.abst.filter.derivative.ImageGradient;
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.concurrency.IntRangeObjectTask;
+import boofcv.concurrency.WorkerFactory;
+import boofcv.struct.image.ImageFloat32;
+import boofcv.struct.image.ImageSInt8;
+import boofcv.struct.image.ImageSingleBand;
+
+/**
+ * Concurrent implementation of {@link CannyNonMaxStrips}.  Each thread processes a contiguous range of strips
+ * using its own storage.  Strips write to different rows in the output, so the output is identical to
+ * the single threaded implementation.
+ *
+ * @author Peter Abeles
+ */
+public class CannyNonMaxStrips_MT<T extends ImageSingleBand, D extends ImageSingleBand>
+		extends CannyNonMaxStrips<T,D>
+{
+	public CannyNonMaxStrips_MT(WorkerFactory<BlurFilter<T>> blurFactory,
+								WorkerFactory<ImageGradient<T, D>> gradientFactory) {
+		super(blurFactory, gradientFactory);
+	}
+
+	@Override
+	protected void processStrips(final T input, final ImageFloat32 suppressed, final ImageSInt8 direction,
+								 final int numStrips) {
+		BoofConcurrency.loopBlocks(0, numStrips, 1, workers, new IntRangeObjectTask<Strip>() {
+			@Override
+			public void call(Strip strip, int i0, int i1) {
+				for( int i = i0; i < i1; i++ ) {
+					strip.process(input, stripStart(input.height, numStrips, i),
+							stripStart(input.height, numStrips, i + 1), suppressed, direction);
+				}
+			}
+		});
+	}
+}
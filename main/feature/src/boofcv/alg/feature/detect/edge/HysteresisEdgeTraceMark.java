@@ -65,15 +65,7 @@ public class HysteresisEdgeTraceMark {
 	 */
 	public void process( ImageFloat32 intensity , ImageSInt8 direction , float lower , float upper ,
 						 ImageUInt8 output ) {
-		if( lower < 0 )
-			throw new IllegalArgumentException("Lower must be >= 0!");
-		InputSanityCheck.checkSameShape(intensity,direction,output);
-
-		// set up internal data structures
-		this.intensity = intensity;
-		this.direction = direction;
-		this.output = output;
-		this.lower = lower;
+		initialize(intensity, direction, lower, output);
 		ImageMiscOps.fill(output,0);
 
 		// step through each pixel in the image
@@ -89,6 +81,21 @@ public class HysteresisEdgeTraceMark {
 		}
 	}
 
+	/**
+	 * Checks the input and saves references to it so that {@link #trace(int, int, int)} can be called.
+	 */
+	protected void initialize( ImageFloat32 intensity , ImageSInt8 direction , float lower , ImageUInt8 output ) {
+		if( lower < 0 )
+			throw new IllegalArgumentException("Lower must be >= 0!");
+		InputSanityCheck.checkSameShape(intensity,direction,output);
+
+		// set up internal data structures
+		this.intensity = intensity;
+		this.direction = direction;
+		this.output = output;
+		this.lower = lower;
+	}
+
 	/**
 	 * Traces along object's contour starting at the specified seed.  As it does so it will set the intensity of
 	 * points which are below the lower threshold to zero and add points to contour.
@@ -0,0 +1,206 @@
+/*
+ * Copyright (c) 2011-2015, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.feature.detect.edge;
+
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.concurrency.IntRangeObjectTask;
+import boofcv.concurrency.IntRangeTask;
+import boofcv.struct.image.ImageFloat32;
+import boofcv.struct.image.ImageSInt8;
+import boofcv.struct.image.ImageUInt8;
+import org.ddogleg.struct.FastQueue;
+import org.ddogleg.struct.GrowQueue_I32;
+
+/**
+ * <p>
+ * Concurrent implementation of {@link HysteresisEdgeTraceMark} which produces identical output.  A trace can
+ * only visit pixels inside the 8-connected region it starts in, where every pixel in the region is at or above
+ * the lower threshold.  Seeds inside different regions can therefore be traced independently, as long as seeds
+ * inside the same region are traced in the same order.
+ * </p>
+ *
+ * <p>
+ * The image is split into blocks of rows.  Each thread finds the regions inside its block.  Regions which
+ * touch the border between two blocks might extend into another block and are marked as deferred.  All other
+ * regions are traced right away by the thread.  After all the blocks are done the deferred regions are
+ * traced by the calling thread.
+ * </p>
+ *
+ * @author Peter Abeles
+ */
+public class HysteresisEdgeTraceMark_MT extends HysteresisEdgeTraceMark {
+
+	// temporary values in the output image for regions which are traced by a block or deferred
+	private static final byte LOCAL = 2;
+	private static final byte DEFERRED = 3;
+
+	// storage for each block of rows
+	private FastQueue<Block> blocks = new FastQueue<Block>(Block.class,true);
+
+	// minimum number of rows processed by a thread
+	private int minBlockRows = 10;
+
+	@Override
+	public void process(final ImageFloat32 intensity, final ImageSInt8 direction,
+						final float lower, final float upper, final ImageUInt8 output) {
+		initialize(intensity, direction, lower, output);
+
+		// a trace can only step onto pixels with a value of at least this
+		final float threshold = Math.min(lower, upper);
+
+		BoofConcurrency.loopBlocks(0, intensity.height, minBlockRows, blocks, new IntRangeObjectTask<Block>() {
+			@Override
+			public void call(Block block, int y0, int y1) {
+				block.trace.initialize(intensity, direction, lower, output);
+				block.process(intensity, output, threshold, upper, y0, y1);
+			}
+		});
+
+		// trace regions which might span multiple blocks
+		for( int y = 0; y < intensity.height; y++ ) {
+			int indexInten = intensity.startIndex + y*intensity.stride;
+			int indexOut = output.startIndex + y*output.stride;
+
+			for( int x = 0; x < intensity.width; x++ , indexInten++ , indexOut++ ) {
+				if( output.data[indexOut] == DEFERRED && intensity.data[indexInten] >= upper ) {
+					trace(x, y, indexInten);
+				}
+			}
+		}
+
+		// pixels which were not selected need to be set back to zero
+		BoofConcurrency.loopBlocks(0, output.height, minBlockRows, new IntRangeTask() {
+			@Override
+			public void call(int y0, int y1) {
+				for( int y = y0; y < y1; y++ ) {
+					int indexOut = output.startIndex + y*output.stride;
+					int end = indexOut + output.width;
+					for( ; indexOut < end; indexOut++ ) {
+						if( output.data[indexOut] != 1 )
+							output.data[indexOut] = 0;
+					}
+				}
+			}
+		});
+	}
+
+	public int getMinBlockRows() {
+		return minBlockRows;
+	}
+
+	/**
+	 * Specifies the smallest number of rows which will be processed by a single thread
+	 */
+	public void setMinBlockRows(int minBlockRows) {
+		this.minBlockRows = minBlockRows;
+	}
+
+	/**
+	 * Finds and traces the regions inside a block of rows
+	 */
+	public static class Block {
+		// performs the trace inside this block
+		HysteresisEdgeTraceMark trace = new HysteresisEdgeTraceMark();
+
+		// pixels in the region being labeled.  index = y*width + x
+		GrowQueue_I32 region = new GrowQueue_I32();
+
+		public void process( ImageFloat32 intensity , ImageUInt8 output , float threshold , float upper ,
+							 int y0 , int y1 ) {
+			for( int y = y0; y < y1; y++ ) {
+				int indexOut = output.startIndex + y*output.stride;
+				for( int x = 0; x < output.width; x++ ) {
+					output.data[indexOut++] = 0;
+				}
+			}
+
+			// label every region inside the block
+			for( int y = y0; y < y1; y++ ) {
+				int indexInten = intensity.startIndex + y*intensity.stride;
+				int indexOut = output.startIndex + y*output.stride;
+
+				for( int x = 0; x < intensity.width; x++ , indexInten++ , indexOut++ ) {
+					if( output.data[indexOut] == 0 && intensity.data[indexInten] >= threshold ) {
+						labelRegion(intensity, output, threshold, x, y, y0, y1);
+					}
+				}
+			}
+
+			// trace regions which are entirely inside the block, in the same order as the single threaded version
+			for( int y = y0; y < y1; y++ ) {
+				int indexInten = intensity.startIndex + y*intensity.stride;
+				int indexOut = output.startIndex + y*output.stride;
+
+				for( int x = 0; x < intensity.width; x++ , indexInten++ , indexOut++ ) {
+					if( output.data[indexOut] == LOCAL && intensity.data[indexInten] >= upper ) {
+						trace.trace(x, y, indexInten);
+					}
+				}
+			}
+		}
+
+		/**
+		 * Finds all the 8-connected pixels inside the block which are connected to the seed.  If the region
+		 * touches the first or last row of the block, and that row isn't the image border, then it's deferred.
+		 */
+		private void labelRegion( ImageFloat32 intensity , ImageUInt8 output , float threshold ,
+								  int seedX , int seedY , int y0 , int y1 ) {
+			int width = intensity.width;
+			boolean deferred = false;
+
+			region.reset();
+			region.add(seedY*width + seedX);
+			output.data[output.startIndex + seedY*output.stride + seedX] = LOCAL;
+
+			for( int i = 0; i < region.size; i++ ) {
+				int x = region.data[i] % width;
+				int y = region.data[i] / width;
+
+				if( (y == y0 && y0 > 0) || (y == y1-1 && y1 < intensity.height) )
+					deferred = true;
+
+				for( int j = -1; j <= 1; j++ ) {
+					int yy = y + j;
+					if( yy < y0 || yy >= y1 )
+						continue;
+					for( int k = -1; k <= 1; k++ ) {
+						int xx = x + k;
+						if( xx < 0 || xx >= width )
+							continue;
+
+						int indexOut = output.startIndex + yy*output.stride + xx;
+						if( output.data[indexOut] == 0 &&
+								intensity.data[intensity.startIndex + yy*intensity.stride + xx] >= threshold ) {
+							output.data[indexOut] = LOCAL;
+							region.add(yy*width + xx);
+						}
+					}
+				}
+			}
+
+			if( deferred ) {
+				for( int i = 0; i < region.size; i++ ) {
+					int x = region.data[i] % width;
+					int y = region.data[i] / width;
+					output.data[output.startIndex + y*output.stride + x] = DEFERRED;
+				}
+			}
+		}
+	}
+}
@@ -107,14 +107,7 @@ public abstract class FastCornerIntensity<T extends ImageSingleBand> implements
 	}
 
 	public void process( T image , ImageFloat32 intensity ) {
-		candidates.reset();
-		this.image = image;
-
-		if( stride != image.stride ) {
-			stride = image.stride;
-			offsets = DiscretizedCircle.imageOffsets(radius, image.stride);
-		}
-		helper.setImage(image,offsets);
+		initialize(image);
 
 		for (int y = radius; y < image.height-radius; y++) {
 			int indexIntensity = intensity.startIndex + y*intensity.stride + radius;
@@ -136,6 +129,20 @@ public abstract class FastCornerIntensity<T extends ImageSingleBand> implements
 		}
 	}
 
+	/**
+	 * Resets the list of candidates and updates the pixel offsets for the new image
+	 */
+	protected void initialize( T image ) {
+		candidates.reset();
+		this.image = image;
+
+		if( stride != image.stride ) {
+			stride = image.stride;
+			offsets = DiscretizedCircle.imageOffsets(radius, image.stride);
+		}
+		helper.setImage(image,offsets);
+	}
+
 	/**
 	 * Checks to see if the specified pixel qualifies as a corner with lower values
 	 */
@@ -0,0 +1,129 @@
+/*
+ * Copyright (c) 2011-2015, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.feature.detect.intensity.impl;
+
+/**
+ * <p>
+ * Ternary decision tree for the FAST segment test.  At each node a single pixel in the circle is read and
+ * compared against the center pixel.  Depending on if it's darker, similar, or brighter, one of three children is
+ * traversed.  Leaves indicate if the pixel is a corner and if so whether the circle is darker or brighter.  The tree
+ * is stored in flat arrays and nodes can be shared by multiple parents, which keeps it compact.
+ * </p>
+ *
+ * <p>
+ * Trees are learned by {@link FastDecisionTreeLearner} and stored in {@link FastDecisionTrees}.  The stored trees
+ * were trained on synthetic images of blurred, noisy, overlapping rectangles and ellipses with random intensities,
+ * at pixel thresholds of 10, 20, and 40.
+ * </p>
+ *
+ * @author Peter Abeles
+ */
+public class FastDecisionTree {
+	/** Leaf which indicates that the pixel isn't a corner */
+	public static final int NONE = -1;
+	/** Leaf which indicates that the pixel is a corner with a darker circle */
+	public static final int LOWER = -2;
+	/** Leaf which indicates that the pixel is a corner with a brighter circle */
+	public static final int UPPER = -3;
+
+	// number of continuous pixels required to be a corner
+	int minContinuous;
+
+	// index of the circle pixel which is sampled at each node
+	int pixel[];
+	// child of each node for darker, similar, and brighter pixels. A value < 0 indicates a leaf
+	int children[];
+	// number of nodes in the tree
+	int numNodes;
+
+	public FastDecisionTree(int minContinuous, int[] pixel, int[] children, int numNodes) {
+		this.minContinuous = minContinuous;
+		this.pixel = pixel;
+		this.children = children;
+		this.numNodes = numNodes;
+	}
+
+	/**
+	 * Classifies the pixel.  The helper's thresholds must already have been set for the pixel.
+	 *
+	 * @param helper Used to compare pixel values
+	 * @param offsets Index offsets of the circle pixels
+	 * @param index Index of the center pixel
+	 * @return {@link #NONE}, {@link #LOWER}, or {@link #UPPER}
+	 */
+	public final int classify( FastHelper helper , int offsets[] , int index ) {
+		final int pixel[] = this.pixel;
+		final int children[] = this.children;
+
+		int node = 0;
+		do {
+			node = children[node*3 + 1 + helper.checkPixel(index + offsets[pixel[node]])];
+		} while( node >= 0 );
+
+		return node;
+	}
+
+	/**
+	 * Encodes the tree into a string.  See {@link #decode(String)}
+	 */
+	public String encode() {
+		StringBuilder out = new StringBuilder();
+		out.append(minContinuous).append(' ').append(numNodes);
+		for( int i = 0; i < numNodes; i++ ) {
+			out.append(' ').append(Integer.toString(pixel[i], 16));
+			for( int j = 0; j < 3; j++ ) {
+				out.append(' ').append(Integer.toString(children[i*3+j], 36));
+			}
+		}
+		return out.toString();
+	}
+
+	/**
+	 * Decodes a tree which was encoded using {@link #encode()}
+	 */
+	public static FastDecisionTree decode( String text ) {
+		String words[] = text.trim().split(" ");
+
+		int minContinuous = Integer.parseInt(words[0]);
+		int numNodes = Integer.parseInt(words[1]);
+		if( words.length != 2 + numNodes*4 )
+			throw new IllegalArgumentException("Unexpected number of words");
+
+		int pixel[] = new int[numNodes];
+		int children[] = new int[numNodes*3];
+
+		int index = 2;
+		for( int i = 0; i < numNodes; i++ ) {
+			pixel[i] = Integer.parseInt(words[index++], 16);
+			for( int j = 0; j < 3; j++ ) {
+				children[i*3+j] = Integer.parseInt(words[index++], 36);
+			}
+		}
+
+		return new FastDecisionTree(minContinuous,pixel,children,numNodes);
+	}
+
+	public int getMinContinuous() {
+		return minContinuous;
+	}
+
+	public int getNumNodes() {
+		return numNodes;
+	}
+}
@@ -0,0 +1,409 @@
+/*
+ * Copyright (c) 2011-2015, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.feature.detect.intensity.impl;
+
+import boofcv.misc.DiscretizedCircle;
+import boofcv.struct.image.ImageUInt8;
+import org.ddogleg.struct.GrowQueue_I32;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * <p>
+ * Learns a {@link FastDecisionTree} from the circle patterns found in training images using the ID3 algorithm, as
+ * described in [1].  Each circle pixel is classified as being darker, similar or brighter than the center pixel.  At
+ * each node the pixel which provides the most information about the class (not a corner, darker corner, brighter
+ * corner) of the training patterns which reach the node is selected.  Ties, which are common when every training
+ * pattern has the same class, are broken by selecting the pixel which resolves the most training patterns and
+ * then the one which eliminates the most possible corners.
+ * </p>
+ *
+ * <p>
+ * Unlike [1], a node is only turned into a leaf once its class is known for every possible pattern, not just the
+ * ones in the training set.  The learned tree will therefor always produce the same output as the segment
+ * test, while the training data determines the order pixels are read in.  Nodes are shared between branches
+ * which have sampled the same pixels with the same results.
+ * </p>
+ *
+ * <p>
+ * [1] Edward Rosten, Reid Porter and Tom Drummond. "Faster and better: a machine learning approach to corner
+ * detection" IEEE Trans. Pattern Analysis and Machine Intelligence, 2010
+ * </p>
+ *
+ * @author Peter Abeles
+ */
+public class FastDecisionTreeLearner {
+
+	private static final int TOTAL_CIRCLE = 16;
+
+	// states of a circle pixel.  Each pixel is encoded using 2-bits
+	private static final int DARKER = 0;
+	private static final int SIMILAR = 1;
+	private static final int BRIGHTER = 2;
+	private static final int UNKNOWN = 3;
+
+	// number of continuous pixels required to be a corner
+	private int minContinuous;
+
+	// indicates if a bit field has minContinuous continuous bits set, wrapping around the circle
+	private boolean hasArc[] = new boolean[1 << TOTAL_CIRCLE];
+
+	// patterns extracted from the training images
+	private GrowQueue_I32 patterns = new GrowQueue_I32();
+
+	// unique patterns and the number of times they were observed
+	private int unique[];
+	private int weights[];
+	private int labels[];
+
+	// look up table from state to node
+	private Map<Integer,Integer> lookup = new HashMap<Integer, Integer>();
+	// the tree being constructed
+	private GrowQueue_I32 treePixel = new GrowQueue_I32();
+	private GrowQueue_I32 treeChildren = new GrowQueue_I32();
+
+	/**
+	 * @param minContinuous Number of continuous pixels required to be a corner
+	 */
+	public FastDecisionTreeLearner(int minContinuous) {
+		this.minContinuous = minContinuous;
+
+		for( int field = 0; field < hasArc.length; field++ ) {
+			hasArc[field] = computeHasArc(field);
+		}
+	}
+
+	private boolean computeHasArc( int field ) {
+		int run = 0;
+		for( int i = 0; i < TOTAL_CIRCLE+minContinuous-1; i++ ) {
+			if( (field & (1 << (i%TOTAL_CIRCLE))) != 0 ) {
+				if( ++run >= minContinuous )
+					return true;
+			} else {
+				run = 0;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Adds the circle pattern around every pixel in the image to the training set
+	 *
+	 * @param image Training image
+	 * @param pixelTol How different pixels need to be to be considered part of a corner
+	 */
+	public void addImage( ImageUInt8 image , int pixelTol ) {
+		int offsets[] = DiscretizedCircle.imageOffsets(3, image.stride);
+
+		for( int y = 3; y < image.height-3; y++ ) {
+			int index = image.startIndex + y*image.stride + 3;
+			for( int x = 3; x < image.width-3; x++ , index++ ) {
+				int center = image.data[index] & 0xFF;
+				int lower = center - pixelTol;
+				int upper = center + pixelTol;
+
+				int pattern = 0;
+				for( int i = 0; i < TOTAL_CIRCLE; i++ ) {
+					int v = image.data[index+offsets[i]] & 0xFF;
+					int state = v < lower ? DARKER : (v > upper ? BRIGHTER : SIMILAR);
+					pattern |= state << (i*2);
+				}
+				patterns.add(pattern);
+			}
+		}
+	}
+
+	/**
+	 * Adds a single pattern to the training set.  Two bits are used to encode each circle pixel's state,
+	 * 0 = darker, 1 = similar, and 2 = brighter.
+	 */
+	public void addPattern( int pattern ) {
+		patterns.add(pattern);
+	}
+
+	/**
+	 * Learns the decision tree from the training set
+	 */
+	public FastDecisionTree process() {
+		computeUniquePatterns();
+
+		lookup.clear();
+		treePixel.reset();
+		treeChildren.reset();
+
+		int samples[] = new int[unique.length];
+		for( int i = 0; i < samples.length; i++ ) {
+			samples[i] = i;
+		}
+
+		int root = build(0xFFFFFFFF, samples, 0, samples.length);
+		if( root < 0 )
+			throw new RuntimeException("BUG! Root of the tree is a leaf");
+
+		int pixel[] = new int[treePixel.size];
+		int children[] = new int[treeChildren.size];
+		System.arraycopy(treePixel.data,0,pixel,0,pixel.length);
+		System.arraycopy(treeChildren.data,0,children,0,children.length);
+
+		return new FastDecisionTree(minContinuous,pixel,children,pixel.length);
+	}
+
+	/**
+	 * Removes duplicate patterns and labels each pattern
+	 */
+	private void computeUniquePatterns() {
+		int sorted[] = new int[patterns.size];
+		System.arraycopy(patterns.data,0,sorted,0,sorted.length);
+		Arrays.sort(sorted);
+
+		int N = 0;
+		for( int i = 0; i < sorted.length; i++ ) {
+			if( i == 0 || sorted[i] != sorted[i-1] )
+				N++;
+		}
+
+		unique = new int[N];
+		weights = new int[N];
+		labels = new int[N];
+		N = 0;
+		for( int i = 0; i < sorted.length; i++ ) {
+			if( i == 0 || sorted[i] != sorted[i-1] ) {
+				unique[N++] = sorted[i];
+			}
+			weights[N-1]++;
+		}
+
+		for( int i = 0; i < N; i++ ) {
+			labels[i] = label(unique[i]);
+		}
+	}
+
+	/**
+	 * Returns the class of a state.  If not enough pixels are known then it can't be determined and 0 is returned.
+	 */
+	private int label( int state ) {
+		int darker = stateField(state, DARKER);
+		int brighter = stateField(state, BRIGHTER);
+		if( hasArc[darker] )
+			return FastDecisionTree.LOWER;
+		if( hasArc[brighter] )
+			return FastDecisionTree.UPPER;
+
+		int unknown = stateField(state, UNKNOWN);
+		if( !hasArc[darker | unknown] && !hasArc[brighter | unknown] )
+			return FastDecisionTree.NONE;
+		return 0;
+	}
+
+	/**
+	 * Bit field of the pixels which have the specified state
+	 */
+	private static int stateField( int state , int value ) {
+		int field = 0;
+		for( int i = 0; i < TOTAL_CIRCLE; i++ ) {
+			if( ((state >> (i*2)) & 0x03) == value )
+				field |= 1 << i;
+		}
+		return field;
+	}
+
+	/**
+	 * Recursively constructs the tree
+	 *
+	 * @param state State of each pixel in the circle
+	 * @param samples Indexes of training patterns.  Modified.
+	 * @param start First sample which is consistent with the state
+	 * @param end Last sample which is consistent with the state, exclusive
+	 * @return Index of the node or a leaf
+	 */
+	private int build( int state , int samples[] , int start , int end ) {
+		int label = label(state);
+		if( label != 0 )
+			return label;
+
+		Integer previous = lookup.get(state);
+		if( previous != null )
+			return previous;
+
+		int pixel = selectPixel(state, samples, start, end);
+
+		int node = treePixel.size;
+		lookup.put(state,node);
+		treePixel.add(pixel);
+		treeChildren.add(0);
+		treeChildren.add(0);
+		treeChildren.add(0);
+
+		// sort the samples by the state of the selected pixel
+		int shift = pixel*2;
+		int bounds[] = partition(samples, start, end, shift);
+
+		int clear = ~(0x03 << shift);
+		for( int s = 0; s < 3; s++ ) {
+			int child = build((state & clear) | (s << shift), samples, bounds[s], bounds[s+1]);
+			treeChildren.data[node*3+s] = child;
+		}
+
+		return node;
+	}
+
+	/**
+	 * Three way partition of the samples based on the state of one pixel
+	 *
+	 * @return The start of each partition plus the end
+	 */
+	private int[] partition( int samples[] , int start , int end , int shift ) {
+		int lo = start, mid = start, hi = end;
+		while( mid < hi ) {
+			int s = (unique[samples[mid]] >> shift) & 0x03;
+			if( s == DARKER ) {
+				swap(samples,lo++,mid++);
+			} else if( s == SIMILAR ) {
+				mid++;
+			} else {
+				swap(samples,mid,--hi);
+			}
+		}
+		return new int[]{start,lo,hi,end};
+	}
+
+	private static void swap( int a[] , int i , int j ) {
+		int tmp = a[i];
+		a[i] = a[j];
+		a[j] = tmp;
+	}
+
+	/**
+	 * Selects which pixel to sample at this node.
+	 */
+	private int selectPixel( int state , int samples[] , int start , int end ) {
+		int bestPixel = -1;
+		double bestEntropy = Double.MAX_VALUE;
+		long bestUnresolved = Long.MAX_VALUE;
+		int bestPossible = Integer.MAX_VALUE;
+
+		// weight of each label for each child
+		long counts[] = new long[3*3];
+
+		for( int pixel = 0; pixel < TOTAL_CIRCLE; pixel++ ) {
+			int shift = pixel*2;
+			if( ((state >> shift) & 0x03) != UNKNOWN )
+				continue;
+
+			Arrays.fill(counts,0);
+			for( int i = start; i < end; i++ ) {
+				int sample = samples[i];
+				int s = (unique[sample] >> shift) & 0x03;
+				counts[s*3 - labels[sample] - 1] += weights[sample];
+			}
+
+			int clear = ~(0x03 << shift);
+			double entropy = 0;
+			long unresolved = 0;
+			int possible = 0;
+			for( int s = 0; s < 3; s++ ) {
+				int child = (state & clear) | (s << shift);
+				long total = counts[s*3] + counts[s*3+1] + counts[s*3+2];
+
+				entropy += entropy(counts, s*3, total);
+				if( label(child) == 0 ) {
+					unresolved += total;
+					possible += countPossible(child);
+				}
+			}
+
+			if( isBetter(entropy, unresolved, possible, bestEntropy, bestUnresolved, bestPossible) ) {
+				bestPixel = pixel;
+				bestEntropy = entropy;
+				bestUnresolved = unresolved;
+				bestPossible = possible;
+			}
+		}
+
+		return bestPixel;
+	}
+
+	private static boolean isBetter( double entropy , long unresolved , int possible ,
+									 double bestEntropy , long bestUnresolved , int bestPossible ) {
+		if( Math.abs(entropy-bestEntropy) > 1e-8*Math.max(1,Math.abs(bestEntropy)) )
+			return entropy < bestEntropy;
+		if( unresolved != bestUnresolved )
+			return unresolved < bestUnresolved;
+		return possible < bestPossible;
+	}
+
+	/**
+	 * Weighted entropy of the labels.  Total weight times the entropy.
+	 */
+	private static double entropy( long counts[] , int offset , long total ) {
+		if( total == 0 )
+			return 0;
+		double H = 0;
+		for( int i = 0; i < 3; i++ ) {
+			long c = counts[offset+i];
+			if( c > 0 ) {
+				H -= c*Math.log(c/(double)total);
+			}
+		}
+		return H;
+	}
+
+	/**
+	 * Number of arcs which could still form a corner
+	 */
+	private int countPossible( int state ) {
+		int unknown = stateField(state, UNKNOWN);
+		int darker = stateField(state, DARKER) | unknown;
+		int brighter = stateField(state, BRIGHTER) | unknown;
+
+		int total = 0;
+		for( int i = 0; i < TOTAL_CIRCLE; i++ ) {
+			int arc = arcField(i);
+			if( (darker & arc) == arc )
+				total++;
+			if( (brighter & arc) == arc )
+				total++;
+		}
+		return total;
+	}
+
+	/**
+	 * Bit field of an arc which starts at the specified pixel
+	 */
+	private int arcField( int start ) {
+		int field = 0;
+		for( int i = 0; i < minContinuous; i++ ) {
+			field |= 1 << ((start+i)%TOTAL_CIRCLE);
+		}
+		return field;
+	}
+
+	/**
+	 * Removes all the training data
+	 */
+	public void reset() {
+		patterns.reset();
+	}
+
+	public int getMinContinuous() {
+		return minContinuous;
+	}
+}
@@ -0,0 +1,78 @@
+/*
+ * Copyright (c) 2011-2015, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package boofcv.alg.feature.detect.intensity.impl;
+
+/**
+ * <p>
+ * Decision trees for the FAST segment test which were learned by {@link FastDecisionTreeLearner}.
+ * </p>
+ *
+ * <p>
+ * DO NOT MODIFY. Generated by {@link GenerateFastDecisionTrees}.
+ * </p>
+ *
+ * @author Peter Abeles
+ */
+public class FastDecisionTrees {
+
+	private static FastDecisionTree trees[] = new FastDecisionTree[13];
+
+	/**
+	 * Returns the decision tree for the specified number of continuous pixels
+	 *
+	 * @param minContinuous Number of continuous pixels.  9 to 12, inclusive.
+	 */
+	public static synchronized FastDecisionTree get( int minContinuous ) {
+		if( minContinuous < 9 || minContinuous > 12 )
+			throw new IllegalArgumentException("minContinuous must be from 9 to 12, inclusive");
+		if( trees[minContinuous] == null ) {
+			String chunks[];
+			switch( minContinuous ) {
+				case 9: chunks = Tree9.DATA; break;
+				case 10: chunks = Tree10.DATA; break;
+				case 11: chunks = Tree11.DATA; break;
+				default: chunks = Tree12.DATA; break;
+			}
+			StringBuilder text = new StringBuilder();
+			for( String s : chunks )
+				text.append(s);
+			trees[minContinuous] = FastDecisionTree.decode(text.toString());
+		}
+		return trees[minContinuous];
+	}
+
+	private static class Tree9 {
+		static final String DATA[] = new String[]{
+			"9 3059 2 1 xl 1gj a 2 ca jc 0 3 8g af c 4 60 79 d 5 4c 59 f 6 2y 3k 1 7 1h 2d b 8 z 18 e -2 9 m 6 a -1 -1 5 b -1 -1 7 c -1 -1 4 d i k 3 -2 e g 8 f -1 -1 9 -2 -1 -1 8 h -1 -1 9 -2 -1 -1 8 j -1 -1 9 -2 -1 -1 8 l -1 -1 9 -2 -1 -1 6 n -1 -1 7 o -1 -1 5 p -1 -1 4 q v x 3 -2 r t 8 s -1 -1 9 -2 -1 -1 8 u -1 -1 9 -2 -1 -1 8 w -1 -1 9 -2 -1 -1 8 y -1 -1 9 -2 -1 -1 4 10 -1 -1 3 11 -1 -1 e -2 12 15 5 13 -1 -1 6 14 -1 -1 7 -2 -1 -1 5 16 -1 -1 6 17 -1 -1 7 -2 -1 -1 4 19 -1 -1 3 1a -1 -1 e -2 1b 1e 5 1c -1 -1 6 1d -1 -1 7 -2 -1 -1 5 1f -1 -1 6 1g -1 -1 7 -2 -1 -1 8 1i -1 -1 e 1j 1v 24 9 1k -1 -1 b -2 1l 1q 3 1m -1 -1 4 1n -1 -1 5 1o -1 -1 6 1p -1 -1 7 -2 -1 -1 3 1r -1 -1 4 1s -1 -1 5 1t -1 -1 6 1u -1 -1 7 -2 -1 -1 7 1w -1 -1 5 1x -1 -1 6 1y -1 -1 9 1z -1 -1 b -2 20 22 3 21 -1 -1 4 -2 -1 -1 3 23 -1 -1 4 -2 -1 -1 5 25 -1 -1 6 26 -1 -1 7 27 -1 -1 9 28 -1 -1 b -2 29 2b 3 2a -1 -1 4 -2 -1 -1 3 2c -1 -1 4 -2 -1 -1 8 2e -1 -1 9 2f -1 -1 7 2g 2u 2w b 2h 2m 2q e -2 2i 2k 5 2j -1 -1 6 -2 -1 -1 5 2l -1 -1 6 -2 -1 -1 3 2n -1 -1 4 2o -1 -1 5 2p -1 -1 6 -2 -1 -1 3 2r -1 -1 4 2s -1 -1 5 2t -1 -1 6 -2 -1 -1 b 2v -1 -1 e -2 -1 -1 b 2x -1 -1 e -2 -1 -1 7 2z -1 -1 6 30 -1 -1 8 31 -1 -1 5 32 3e 3h 9 33 38 3b b -2 34 36 3 35 -1 -1 4 -2 -1 -1 3 37 -1 -1 4 -2 -1 -1 1 39 -1 -1 3 3a -1 -1 4 -2 -1 -1 1 3c -1 -1 3 3d -1 -1 4 -2 -1 -1 b 3f -1 -1 9 3g -1 -1 e -2 -1 -1 9 3i -1 -1 b 3j -1 -1 e -2 -1 -1 5 3l 40 46 8 3m -1 -1 6 3n -1 -1 7 3o -1 -1 9 3p 3u 3x b -2 3q 3s 3 3r -1 -1 4 -2 -1 -1 3 3t -1 -1 4 -2 -1 -1 1 3v -1 -1 3 3w -1 -1 4 -2 -1 -1 1 3y -1 -1 3 3z -1 -1 4 -2 -1 -1 6 41 -1 -1 7 42 -1 -1 8 43 -1 -1 9 44 -1 -1 b 45 -1 -1 e -2 -1 -1 6 47 -1 -1 e 48 -1 -1 7 49 -1 -1 8 4a -1 -1 9 4b -1 -1 b -2 -1 -1 5 4d -1 -1 6 4e -1 -1 4 4f -1 -1 7 4g 51 55 9 4h 4r 4w 3 4i 4n 4p 8 -2 4j 4l 1 4k -1 -1 f -2 -1 -1 1 4m -1 -1 f -2 -1 -1 8 4o -1 -1 b -2 -1 -1 8 4q -1 -1 b -2 -1 -1 1 4s -1 -1 3 4t -1 -1 f -2 4u 4v 8 -2 -1 -1 8 -2 -1 -1 1 4x -1 -1 3 4y -1 -1 f -2 4z 50 8 -2 -1 -1 8 -2 -1 -1 e 52 -1 -1 1 53 -1 -1 3 54 -1 -1 f -2 -1 -1 1 56 -1 -1 3 57 -1 -1 e 58 -1 -1 f -2 -1 -1 4 5a -1 -1 5 5b -1 -1 6 5c -1 -1 7 5d 5s 5w 3 5e 5m 5p 8 5f 5i 5k 1 -2 5g 5h 9 -2 -1 -1 9 -2 -1 -1 1 5j -1 -1 f -2 -1 -1 1 5l -1 -1 f -2 -1 -1 8 5n -1 -1 9 5o -1 -1 b -2 -1 -1 8 5q -1 -1 9 5r -1 -1 b -2 -1 -1 e 5t -1 -1 1 5u -1 -1 3 5v -1 -1 f -2 -1 -1 1 5x -1 -1 3 5y -1 -1 e 5z -1 -1 f -2 -1 -1 4 61 -1 -1 6 62 6x 73 3 63 -1 -1 8 64 6f 6r 5 65 -1 -1 7 66 69 6c 9 -2 67 68 1 -2 -1 -1 1 -2 -1 -1 e 6a -1 -1 1 6b -1 -1 f -2 -1 -1 1 6d -1 -1 e 6e -1 -1 f -2 -1 -1 e 6g 6j 6n f 6h -1 -1 1 6i -1 -1 5 -2 -1 -1 7 6k -1 -1 f 6l -1 -1 1 6m -1 -1 5 -2 -1 -1 7 6o -1 -1 1 6p -1 -1 5 6q -1 -1 f -2 -1 -1 1 6s -1 -1 5 6t -1 -1 f 6u -1 -1 e -2 6v 6w 7 -2 -1 -1 7 -2 -1 -1 d 6y -1 -1 5 6z -1 -1 e 70 -1 -1 1 71 -1 -1 3 72 -1 -1 f -2 -1 -1 5 74 -1 -1 d 75 -1 -1 1 76 -1 -1 3 77 -1 -1 e 78 -1 -1 f -2 -1 -1 4 7a -1 -1 3 7b -1 -1 7 7c 7w 83 6 7d 7m 7r 5 7e -1 -1 1 7f 7i 7k 8 -2 7g 7h f -2 -1 -1 f -2 -1 -1 8 7j -1 -1 9 -2 -1 -1 8 7l -1 -1 9 -2 -1 -1 d 7n -1 -1 1 7o -1 -1 5 7p -1 -1 e 7q -1 -1 f -2 -1 -1 d 7s -1 -1 1 7t -1 -1 5 7u -1 -1 e 7v -1 -1 f -2 -1 -1 e 7x -1 -1 1 7y -1 -1 5 7z -1 -1 f 80 -1 -1 6 -2 81 82 d -2 -1 -1 d -2 -1 -1 e 84 -1 -1 6 85 88 8c 1 86 -1 -1 5 87 -1 -1 f -2 -1 -1 d 89 -1 -1 1 8a -1 -1 5 8b -1 -1 f -2 -1 -1 1 8d -1 -1 5 8e -1 -1 d 8f -1 -1 f -2 -1 -1 8 8h -1 -1 5 8i 9h 9u 7 8j -1 -1 9 8k -1 -1 4 8l 91 99 6 8m 8r 8w 3 -2 8n 8p c 8o -1 -1 b -2 -1 -1 b 8q -1 -1 c -2 -1 -1 f 8s -1 -1 c 8t -1 -1 b 8u -1 -1 d 8v -1 -1 e -2 -1 -1 c 8x -1 -1 b 8y -1 -1 d 8z -1 -1 e 90 -1 -1 f -2 -1 -1 d 92 -1 -1 b 93 -1 -1 c 94 -1 -1 6 -2 95 97 e 96 -1 -1 f -2 -1 -1 e 98 -1 -1 f -2 -1 -1 b 9a -1 -1 c 9b -1 -1 d 9c -1 -1 6 -2 9d 9f e 9e -1 -1 f -2 -1 -1 e 9g -1 -1 f -2 -1 -1 e 9i -1 -1 7 9j -1 -1 b 9k -1 -1 9 9l -1 -1 f 9m 9o 9r c 9n -1 -1 d -2 -1 -1 6 9p -1 -1 c 9q -1 -1 d -2 -1 -1 6 9s -1 -1 c 9t -1 -1 d -2 -1 -1 f 9v a1 a8 b 9w -1 -1 7 9x -1 -1 9 9y -1 -1 c 9z -1 -1 d a0 -1 -1 e -2 -1 -1 e a2 -1 -1 6 a3 -1 -1 7 a4 -1 -1 9 a5 -1 -1 b a6 -1 -1 c a7 -1 -1 d -2 -1 -1 e a9 -1 -1 6 aa -1 -1 7 ab -1 -1 9 ac -1 -1 b ad -1 -1 c ae -1 -1 d -2 -1 -1 8 ag -1 -1 5 ah bs c1 9 ai -1 -1 3 aj b2 bf 7 ak -1 -1 6 al as ax 4 -2 am ap c an -1 -1 b ao -1 -1 d -2 -1 -1 b aq -1 -1 c ar -1 -1 d -2 -1 -1 f at -1 -1 b au -1 -1 c av -1 -1 d aw -1 -1 e -2 -1 -1 e ay -1 -1 b az -1 -1 c b0 -1 -1 d b1 -1 -1 f -2 -1 -1 c b3 -1 -1 7 b4 -1 -1 b b5 -1 -1 6 b6 b9 bc d -2 b7 b8 4 -2 -1 -1 4 -2 -1 -1 d ba -1 -1 e bb -1 -1 f -2 -1 -1 d bd -1 -1 e be -1 -1 f -2 -1 -1 c bg -1 -1 7 bh -1 -1 b bi -1 -1 6 bj bm bp d -2 bk bl 4 -2 -1 -1 4 -2 -1 -1 d bn -1 -1 e bo -1 -1 f -2 -1 -1 d bq -1 -1 e br -1 -1 f -2 -1 -1 e bt -1 -1 7 bu -1 -1 9 bv -1 -1 b bw -1 -1 c bx -1 -1 d by -1 -1 6 -2 bz c0 f -2 -1 -1 f -2 -1 -1 e c2 -1 -1 7 c3 -1 -1 9 c4 -1 -1 b c5 -1 -1 c c6 -1 -1 d c7 -1 -1 6 -2 c8 c9 f -2 -1 -1 f -2 -1 -1 f cb ht io 6 cc eh g6 e cd dj e1 4 ce cy dd 0 cf cm cs 1 cg -1 -1 3 ch -1 -1 5 -2 ci ck c cj -1 -1 d -2 -1 -1 c cl -1 -1 d -2 -1 -1 9 cn -1 -1 1 co -1 -1 3 cp -1 -1 5 cq -1 -1 7 cr -1 -1 8 -2 -1 -1 1 ct -1 -1 3 cu -1 -1 5 cv -1 -1 7 cw -1 -1 8 cx -1 -1 9 -2 -1 -1 b cz -1 -1 3 d0 -1 -1 8 d1 d5 d9 0 d2 -1 -1 1 d3 -1 -1 c d4 -1 -1 d -2 -1 -1 0 d6 -1 -1 c d7 -1 -1 1 d8 -1 -1 d -2 -1 -1 0 da -1 -1 1 db -1 -1 c dc -1 -1 d -2 -1 -1 3 de -1 -1 0 df -1 -1 1 dg -1 -1 b dh -1 -1 c di -1 -1 d -2 -1 -1 7 dk -1 -1 0 dl dp dv 4 dm -1 -1 1 dn -1 -1 3 do -1 -1 5 -2 -1 -1 9 dq -1 -1 1 dr -1 -1 4 ds -1 -1 8 dt -1 -1 3 du -1 -1 5 -2 -1 -1 1 dw -1 -1 3 dx -1 -1 4 dy -1 -1 5 dz -1 -1 8 e0 -1 -1 9 -2 -1 -1 7 e2 -1 -1 1 e3 -1 -1 0 e4 e7 ec 3 e5 -1 -1 4 e6 -1 -1 5 -2 -1 -1 8 e8 -1 -1 3 e9 -1 -1 4 ea -1 -1 5 eb -1 -1 9 -2 -1 -1 3 ed -1 -1 4 ee -1 -1 5 ef -1 -1 8 eg -1 -1 9 -2 -1 -1 b ei f0 fl 3 ej -1 -1 c ek eo eu e el -1 -1 0 em -1 -1 d en -1 -1 1 -2 -1 -1 5 ep -1 -1 d eq -1 -1 e er -1 -1 4 es -1 -1 0 et -1 -1 1 -2 -1 -1 0 ev -1 -1 1 ew -1 -1 4 ex -1 -1 5 ey -1 -1 d ez -1 -1 e -2 -1 -1 5 f1 f7 fe d f2 -1 -1 4 f3 -1 -1 e f4 -1 -1 1 f5 -1 -1 0 f6 -1 -1 3 -2 -1 -1 c f8 -1 -1 4 f9 -1 -1 d fa -1 -1 3 fb -1 -1 e fc -1 -1 1 fd -1 -1 0 -2 -1 -1 4 ff -1 -1 c fg -1 -1 0 fh -1 -1 1 fi -1 -1 3 fj -1 -1 d fk -1 -1 e -2 -1 -1 5 fm fs fz d fn -1 -1 3 fo -1 -1 0 fp -1 -1 1 fq -1 -1 4 fr -1 -1 e -2 -1 -1 c ft -1 -1 4 fu -1 -1 0 fv -1 -1 1 fw -1 -1 3 fx -1 -1 d fy -1 -1 e -2 -1 -1 4 g0 -1 -1 0 g1 -1 -1 1 g2 -1 -1 3 g3 -1 -1 c g4 -1 -1 d g5 -1 -1 e -2 -1 -1 b g7 gp h8 3 g8 -1 -1 c g9 gd gj d ga -1 -1 1 gb -1 -1 e gc -1 -1 0 -2 -1 -1 5 ge -1 -1 d gf -1 -1 0 gg -1 -1 1 gh -1 -1 4 gi -1 -1 e -2 -1 -1 0 gk -1 -1 1 gl -1 -1 4 gm -1 -1 5 gn -1 -1 d go -1 -1 e -2 -1 -1 4 gq -1 -1 c gr gw h2 0 gs -1 -1 1 gt -1 -1 3 gu -1 -1 d gv -1 -1 e -2 -1 -1 5 gx -1 -1 d gy -1 -1 0 gz -1 -1 1 h0 -1 -1 3 h1 -1 -1 e -2 -1 -1 d h3 -1 -1 0 h4 -1 -1 1 h5 -1 -1 3 h6 -1 -1 5 h7 -1 -1 e -2 -1 -1 5 h9 hf hm d ha -1 -1 0 hb -1 -1 1 hc -1 -1 3 hd -1 -1 4 he -1 -1 e -2 -1 -1 c hg -1 -1 4 hh -1 -1 0 hi -1 -1 1 hj -1 -1 3 hk -1 -1 d hl -1 -1 e -2 -1 -1 4 hn -1 -1 c ho -1 -1 0 hp -1 -1 1 hq -1 -1 3 hr -1 -1 d hs -1 -1 e -2 -1 -1 9 hu i1 ig 1 hv -1 -1 6 hw -1 -1 8 hx -1 -1 5 hy -1 -1 7 hz -1 -1 3 i0 -1 -1 4 -2 -1 -1 8 i2 -1 -1 0 i3 -1 -1 7 i4 -1 -1 3 i5 -1 -1 4 i6 -1 -1 d i7 ia id 5 i8 -1 -1 1 i9 -1 -1 6 -2 -1 -1 1 ib -1 -1 5 ic -1 -1 6 -2 -1 -1 1 ie -1 -1 5 if -1 -1 6 -2 -1 -1 8 ih -1 -1 0 ii -1 -1 1 ij -1 -1 3 ik -1 -1 4 il -1 -1 5 im -1 -1 6 in -1 -1 7 -2 -1 -1 9 ip iw j4 1 iq -1 -1 6 ir -1 -1 8 is -1 -1 3 it -1 -1 7 iu -1 -1 4 iv -1 -1 5 -2 -1 -1 0 ix -1 -1 8 iy -1 -1 1 iz -1 -1 3 j0 -1 -1 4 j1 -1 -1 5 j2 -1 -1 6 j3 -1 -1 7 -2 -1 -1 8 j5 -1 -1 0 j6 -1 -1 1 j7 -1 -1 3 j8 -1 -1 4 j9 -1 -1 5 ja -1 -1 6 jb -1 -1 7 -2 -1 -1 0 jd qp vc 5 je n8 oh d jf ks m0 3 jg -1 -1 e jh k0 kd 4 ji js jw f jj jk jo 1 -2 -1 -1 8 jl -1 -1 1 jm -1 -1 6 jn -1 -1 7 -2 -1 -1 1 jp -1 -1 6 jq -1 -1 7 jr -1 -1 8 -2 -1 -1 b jt -1 -1 1 ju -1 -1 c jv -1 -1 f -2 -1 -1 1 jx -1 -1 b jy -1 -1 c jz -1 -1 f -2 -1 -1 7 k1 -1 -1 f k2 k5 k9 1 k3 -1 -1 4 k4 -1 -1 6 -2 -1 -1 8 k6 -1 -1 1 k7 -1 -1 4 k8 -1 -1 6 -2 -1 -1 8 ka -1 -1 1 kb -1 -1 4 kc -1 -1 6 -2 -1 -1 8 ke ki kn 1 kf -1 -1 4 kg -1 -1 6 kh -1 -1 7 -2 -1 -1 6 kj -1 -1 f kk -1 -1 1 kl -1 -1 4 km -1 -1 7 -2 -1 -1 7 ko -1 -1 1 kp -1 -1 4 kq -1 -1 6 kr -1 -1 f -2 -1 -1 7 kt l8 ll f ku ky l3 4 kv -1 -1 6 kw -1 -1 1 kx -1 -1 3 -2 -1 -1 8 kz -1 -1 6 l0 -1 -1 1 l1 -1 -1 3 l2 -1 -1 4 -2 -1 -1 8 l4 -1 -1 1 l5 -1 -1 3 l6 -1 -1 4 l7 -1 -1 6 -2 -1 -1 e l9 -1 -1 6 la -1 -1 4 lb -1 -1 c lc lf li f ld -1 -1 1 le -1 -1 3 -2 -1 -1 3 lg -1 -1 1 lh -1 -1 f -2 -1 -1 1 lj -1 -1 3 lk -1 -1 f -2 -1 -1 6 lm -1 -1 e ln -1 -1 c lo ls lw 1 lp -1 -1 3 lq -1 -1 4 lr -1 -1 f -2 -1 -1 1 lt -1 -1 3 lu -1 -1 4 lv -1 -1 f -2 -1 -1 1 lx -1 -1 3 ly -1 -1 4 lz -1 -1 f -2 -1 -1 7 m1 mg mm f m2 m6 mb 4 m3 -1 -1 3 m4 -1 -1 1 m5 -1 -1 6 -2 -1 -1 8 m7 -1 -1 3 m8 -1 -1 1 m9 -1 -1 4 ma -1 -1 6 -2 -1 -1 8 mc -1 -1 4 md -1 -1 1 me -1 -1 3 mf -1 -1 6 -2 -1 -1 e mh -1 -1 6 mi -1 -1 4 mj -1 -1 1 mk -1 -1 3 ml -1 -1 f -2 -1 -1 f mn mx n3 e mo -1 ms 6 mp -1 -1 1 mq -1 -1 3 mr -1 -1 4 -2 -1 -1 6 -1 -1 mt b -1 -1 mu 8 -1 -1 mv 9 -1 -1 mw c -1 -1 -3 6 -1 -1 my e -1 -1 mz 9 -1 -1 n0 8 -1 -1 n1 b -1 -1 n2 c -1 -1 -3 c -1 -1 n4 e -1 -1 n5 8 -1 -1 n6 9 -1 -1 n7 b -1 -1 -3 c n9 -1 nr 4 na nf nl e nb -1 -1 1 nc -1 -1 3 nd -1 -1 d ne -1 -1 f -2 -1 -1 b ng -1 -1 3 nh -1 -1 1 ni -1 -1 d nj -1 -1 e nk -1 -1 f -2 -1 -1 3 nm -1 -1 b nn -1 -1 1 no -1 -1 d np -1 -1 e nq -1 -1 f -2 -1 -1 e -1 -1 ns 6 nt nz o5 7 -1 -1 nu f -1 -1 nv 8 -1 -1 nw 9 -1 -1 nx b -1 -1 ny d -1 -1 -3 7 -1 -1 o0 f -1 -1 o1 8 -1 -1 o2 9 -1 -1 o3 b -1 -1 o4 d -1 -1 -3 7 -1 -1 o6 d -1 -1 o7 4 o8 ob oe 8 -1 -1 o9 9 -1 -1 oa b -1 -1 -3 8 -1 -1 oc 9 -1 -1 od b -1 -1 -3 9 -1 -1 of 8 -1 -1 og b -1 -1 -3 d oi pg pz c oj p3 pa b ok oo ot 3 ol -1 -1 1 om -1 -1 f on -1 -1 e -2 -1 -1 4 op -1 -1 1 oq -1 -1 3 or -1 -1 e os -1 -1 f -2 -1 -1 3 ou -1 oy 4 ov -1 -1 1 ow -1 -1 e ox -1 -1 f -2 -1 -1 6 -1 -1 oz 4 -1 -1 p0 7 -1 -1 p1 8 -1 -1 p2 9 -1 -1 -3 3 -1 -1 p4 b -1 -1 p5 4 -1 -1 p6 8 -1 -1 p7 6 -1 -1 p8 9 -1 -1 p9 7 -1 -1 -3 4 -1 -1 pb 8 -1 -1 pc 7 -1 -1 pd 6 -1 -1 pe 9 -1 -1 pf b -1 -1 -3 4 -1 -1 ph c pi po pu b -1 -1 pj 3 -1 -1 pk 6 -1 -1 pl 7 -1 -1 pm 8 -1 -1 pn 9 -1 -1 -3 3 -1 -1 pp b -1 -1 pq 6 -1 -1 pr 7 -1 -1 ps 8 -1 -1 pt 9 -1 -1 -3 8 -1 -1 pv b -1 -1 pw 6 -1 -1 px 9 -1 -1 py 7 -1 -1 -3 6 q0 q7 qe f -1 -1 q1 7 -1 -1 q2 8 -1 -1 q3 9 -1 -1 q4 b -1 -1 q5 c -1 -1 q6 e -1 -1 -3 f -1 -1 q8 7 -1 -1 q9 8 -1 -1 qa 9 -1 -1 qb b -1 -1 qc c -1 -1 qd e -1 -1 -3 8 -1 -1 qf b -1 -1 qg 9 -1 -1 qh c qi ql qo 3 -1 -1 qj 4 -1 -1 qk 7 -1 -1 -3 3 -1 -1 qm 4 -1 -1 qn 7 -1 -1 -3 7 -1 -1 -3 7 qq -1 qx 9 qr -1 -1 1 qs -1 -1 4 qt -1 -1 6 qu -1 -1 3 qv -1 -1 8 qw -1 -1 5 -2 -1 -1 f qy s5 tw c qz r6 rd 3 -1 -1 r0 b -1 -1 r1 4 -1 -1 r2 5 -1 -1 r3 6 -1 -1 r4 8 -1 -1 r5 9 -1 -1 -3 3 -1 -1 r7 b -1 -1 r8 4 -1 -1 r9 5 -1 -1 ra 6 -1 -1 rb 8 -1 -1 rc 9 -1 -1 -3 5 re rk rq e -1 -1 rf 6 -1 -1 rg 8 -1 -1 rh 9 -1 -1 ri b -1 -1 rj d -1 -1 -3 e -1 -1 rl 6 -1 -1 rm 8 -1 -1 rn 9 -1 -1 ro b -1 -1 rp d -1 -1 -3 d rr rw s1 4 -1 -1 rs 6 -1 -1 rt 8 -1 -1 ru 9 -1 -1 rv b -1 -1 -3 4 -1 -1 rx 8 -1 -1 ry 6 -1 -1 rz 9 -1 -1 s0 b -1 -1 -3 8 -1 -1 s2 6 -1 -1 s3 9 -1 -1 s4 b -1 -1 -3 d s6 sr ta 3 s7 se sl 4 -1 -1 s8 c -1 -1 s9 5 -1 -1 sa 6 -1 -1 sb 8 -1 -1 sc 9 -1 -1 sd b -1 -1 -3 c -1 -1 sf 4 -1 -1 sg 5 -1 -1 sh 6 -1 -1 si 8 -1 -1 sj 9 -1 -1 sk b -1 -1 -3 b -1 -1 sm 4 -1 -1 sn 5 -1 -1 so 6 -1 -1 sp 8 -1 -1 sq 9 -1 -1 -3 4 -1 -1 ss c st sz t5 b -1 -1 su 3 -1 -1 sv 5 -1 -1 sw 6 -1 -1 sx 8 -1 -1 sy 9 -1 -1 -3 3 -1 -1 t0 b -1 -1 t1 6 -1 -1 t2 5 -1 -1 t3 8 -1 -1 t4 9 -1 -1 -3 5 -1 -1 t6 6 -1 -1 t7 8 -1 -1 t8 9 -1 -1 t9 b -1 -1 -3 5 tb th tn 6 -1 -1 tc e -1 -1 td c -1 -1 te 8 -1 -1 tf 9 -1 -1 tg b -1 -1 -3 6 -1 -1 ti e -1 -1 tj c -1 -1 tk 8 -1 -1 tl 9 -1 -1 tm b -1 -1 -3 b -1 -1 to 9 -1 -1 tp 6 -1 -1 tq 8 -1 -1 tr c ts tu -3 3 -1 -1 tt 4 -1 -1 -3 3 -1 -1 tv 4 -1 -1 -3 e tx ua un b -1 -1 ty 5 -1 -1 tz 8 -1 -1 u0 6 -1 -1 u1 9 -1 -1 u2 4 u3 u5 u7 c -1 -1 u4 d -1 -1 -3 c -1 -1 u6 d -1 -1 -3 c u8 u9 -3 3 -1 -1 -3 3 -1 -1 -3 5 -1 -1 ub 9 -1 -1 uc b -1 -1 ud 6 -1 -1 ue 8 -1 -1 uf 4 ug ui uk d -1 -1 uh c -1 -1 -3 c -1 -1 uj d -1 -1 -3 c ul um -3 3 -1 -1 -3 3 -1 -1 -3 8 -1 -1 uo b -1 -1 up 9 -1 -1 uq d ur ux v3 4 -1 -1 us 5 -1 -1 ut 6 -1 -1 uu 3 uv uw -3 c -1 -1 -3 c -1 -1 -3 4 -1 -1 uy 5 -1 -1 uz 6 -1 -1 v0 3 v1 v2 -3 c -1 -1 -3 c -1 -1 -3 c v4 v8 -3 3 -1 -1 v5 4 -1 -1 v6 5 -1 -1 v7 6 -1 -1 -3 3 -1 -1 v9 4 -1 -1 va 5 -1 -1 vb 6 -1 -1 -3 8 vd vq vx 9 ve -1 vk 1 vf -1 -1 7 vg -1 -1 3 vh -1 -1 4 vi -1 -1 5 vj -1 -1 6 -2 -1 -1 1 -1 -1 vl c -1 -1 vm b -1 -1 vn d -1 -1 vo e -1 -1 vp f -1 -1 -3 1 -1 -1 vr 9 -1 -1 vs d -1 -1 vt b -1 -1 vu c -1 -1 vv e -1 -1 vw f -1 -1 -3 c vy w5 wc b -1 -1 vz 3 -1 -1 w0 4 -1 -1 w1 5 -1 -1 w2 6 -1 -1 w3 7 -1 -1 w4 9 -1 -1 -3 3 -1 -1 w6 4 -1 -1 w7 5 -1 -1 w8 6 -1 -1 w9 7 -1 -1 wa 9 -1 -1 wb b -1 -1 -3 e wd wl wt 5 -1 -1 we 6 -1 -1 wf 7 -1 -1 wg 9 -1 -1 wh b -1 -1 wi 4 wj wk -3 d -1 -1 -3 d -1 -1 -3 5 -1 -1 wm 6 -1 -1 wn 7 -1 -1 wo 9 -1 -1 wp b -1 -1 wq d wr ws -3 4 -1 -1 -3 4 -1 -1 -3 9 -1 -1 wu f wv x3 xb 6 -1 -1 ww 7 -1 -1 wx b -1 -1 wy d wz x1 -3 4 -1 -1 x0 5 -1 -1 -3 4 -1 -1 x2 5 -1 -1 -3 6 -1 -1 x4 7 -1 -1 x5 b -1 -1 x6 d x7 x9 -3 4 -1 -1 x8 5 -1 -1 -3 4 -1 -1 xa 5 -1 -1 -3 b -1 -1 xc d xd xh -3 4 -1 -1 xe 5 -1 -1 xf 6 -1 -1 xg 7 -1 -1 -3 4 -1 -1 xi 5 -1 -1 xj 6 -1 -1 xk 7 -1 -1 -3 9 xm -1 13b b xn -1 -1 7 xo 125 12q e xp zf 10v 6 xq yr z6 c xr y8 ym 8 xs xy y3 a xt -1 -1 d -2 xu xw 4 xv -1 -1 5 -2 -1 -1 4 xx -1 -1 5 -2 -1 -1 1 xz -1 -1 d y0 -1 -1 0 y1 -1 -1 a y2 -1 -1 f -2 -1 -1 0 y4 -1 -1 1 y5 -1 -1 a y6 -1 -1 d y7 -1 -1 f -2 -1 -1 3 y9 -1 -1 1 ya ye yi 4 yb -1 -1 5 yc -1 -1 8 yd -1 -1 a -2 -1 -1 5 yf -1 -1 a yg -1 -1 4 yh -1 -1 8 -2 -1 -1 4 yj -1 -1 5 yk -1 -1 8 yl -1 -1 a -2 -1 -1 3 yn -1 -1 4 yo -1 -1 5 yp -1 -1 8 yq -1 -1 a -2 -1 -1 f ys -1 -1 8 yt yw z1 a yu -1 -1 c yv -1 -1 d -2 -1 -1 0 yx -1 -1 a yy -1 -1 1 yz -1 -1 d z0 -1 -1 c -2 -1 -1 0 z2 -1 -1 1 z3 -1 -1 a z4 -1 -1 c z5 -1 -1 d -2 -1 -1 f z7 -1 -1 a z8 -1 -1 c z9 -1 -1 d za -1 -1 8 -2 zb zd 0 zc -1 -1 1 -2 -1 -1 0 ze -1 -1 1 -2 -1 -1 3 zg zv 10d 6 zh -1 -1 4 zi zl zq a zj -1 -1 8 zk -1 -1 5 -2 -1 -1 d zm -1 -1 5 zn -1 -1 8 zo -1 -1 a zp -1 -1 c -2 -1 -1 c zr -1 -1 5 zs -1 -1 8 zt -1 -1 a zu -1 -1 d -2 -1 -1 d zw 101 107 5 zx -1 -1 c zy -1 -1 a zz -1 -1 6 100 -1 -1 8 -2 -1 -1 4 102 -1 -1 c 103 -1 -1 6 104 -1 -1 a 105 -1 -1 5 106 -1 -1 8 -2 -1 -1 c 108 -1 -1 4 109 -1 -1 5 10a -1 -1 6 10b -1 -1 8 10c -1 -1 a -2 -1 -1 d 10e 10j 10p 5 10f -1 -1 c 10g -1 -1 6 10h -1 -1 8 10i -1 -1 a -2 -1 -1 4 10k -1 -1 c 10l -1 -1 5 10m -1 -1 6 10n -1 -1 8 10o -1 -1 a -2 -1 -1 4 10q -1 -1 5 10r -1 -1 6 10s -1 -1 8 10t -1 -1 a 10u -1 -1 c -2 -1 -1 3 10w 119 11n 5 10x -1 -1 6 10y -1 -1 4 10z 111 115 a 110 -1 -1 8 -2 -1 -1 c 112 -1 -1 8 113 -1 -1 a 114 -1 -1 d -2 -1 -1 8 116 -1 -1 a 117 -1 -1 c 118 -1 -1 d -2 -1 -1 c 11a -1 -1 5 11b -1 -1 d 11c 11f 11j a 11d -1 -1 6 11e -1 -1 8 -2 -1 -1 4 11g -1 -1 6 11h -1 -1 8 11i -1 -1 a -2 -1 -1 4 11k -1 -1 6 11l -1 -1 8 11m -1 -1 a -2 -1 -1 d 11o 11t 11z 5 11p -1 -1 6 11q -1 -1 8 11r -1 -1 a 11s -1 -1 c -2 -1 -1 4 11u -1 -1 c 11v -1 -1 5 11w -1 -1 6 11x -1 -1 8 11y -1 -1 a -2 -1 -1 4 120 -1 -1 c 121 -1 -1 5 122 -1 -1 6 123 -1 -1 8 124 -1 -1 a -2 -1 -1 1 126 12c 12j e 127 -1 -1 0 128 -1 -1 d 129 -1 -1 a 12a -1 -1 c 12b -1 -1 f -2 -1 -1 0 12d -1 -1 8 12e -1 -1 f 12f -1 -1 a 12g -1 -1 e 12h -1 -1 c 12i -1 -1 d -2 -1 -1 0 12k -1 -1 8 12l -1 -1 a 12m -1 -1 c 12n -1 -1 d 12o -1 -1 e 12p -1 -1 f -2 -1 -1 1 12r 12x 134 f 12s -1 -1 0 12t -1 -1 a 12u -1 -1 e 12v -1 -1 c 12w -1 -1 d -2 -1 -1 8 12y -1 -1 0 12z -1 -1 a 130 -1 -1 c 131 -1 -1 d 132 -1 -1 e 133 -1 -1 f -2 -1 -1 0 135 -1 -1 8 136 -1 -1 a 137 -1 -1 c 138 -1 -1 d 139 -1 -1 e 13a -1 -1 f -2 -1 -1 b -1 -1 13c 4 13d 17s 1c1 1 13e 153 16e 7 13f 13m 13t 0 -1 -1 13g 8 -1 -1 13h a -1 -1 13i c -1 -1 13j d -1 -1 13k e -1 -1 13l f -1 -1 -3 0 -1 -1 13n 8 -1 -1 13o a -1 -1 13p c -1 -1 13q d -1 -1 13r e -1 -1 13s f -1 -1 -3 f 13u 14c 14u 5 13v 141 147 6 -1 -1 13w e -1 -1 13x 8 -1 -1 13y a -1 -1 13z c -1 -1 140 d -1 -1 -3 e -1 -1 142 6 -1 -1 143 8 -1 -1 144 a -1 -1 145 c -1 -1 146 d -1 -1 -3 d -1 -1 148 6 -1 -1 149 8 -1 -1 14a a -1 -1 14b c -1 -1 -3 5 14d 14j 14p 6 -1 -1 14e e -1 -1 14f 8 -1 -1 14g a -1 -1 14h c -1 -1 14i d -1 -1 -3 e -1 -1 14k 6 -1 -1 14l 8 -1 -1 14m a -1 -1 14n c -1 -1 14o d -1 -1 -3 c -1 -1 14q 6 -1 -1 14r 8 -1 -1 14s a -1 -1 14t d -1 -1 -3 8 -1 -1 14v a -1 -1 14w c -1 -1 14x d -1 -1 14y e 14z 151 -3 5 -1 -1 150 6 -1 -1 -3 5 -1 -1 152 6 -1 -1 -3 8 -1 -1 154 f 155 15d 15v d -1 -1 156 6 -1 -1 157 7 -1 -1 158 a -1 -1 159 c -1 -1 15a 5 15b 15c -3 e -1 -1 -3 e -1 -1 -3 e 15e 15k 15q 5 -1 -1 15f c -1 -1 15g 6 -1 -1 15h 7 -1 -1 15i a -1 -1 15j d -1 -1 -3 5 -1 -1 15l d -1 -1 15m 6 -1 -1 15n 7 -1 -1 15o a -1 -1 15p c -1 -1 -3 6 -1 -1 15r c -1 -1 15s 7 -1 -1 15t a -1 -1 15u d -1 -1 -3 7 15w 161 166 0 -1 -1 15x c -1 -1 15y a -1 -1 15z d -1 -1 160 e -1 -1 -3 0 -1 -1 162 e -1 -1 163 a -1 -1 164 c -1 -1 165 d -1 -1 -3 a -1 -1 167 c -1 -1 168 d -1 -1 169 e 16a 16c -3 5 -1 -1 16b 6 -1 -1 -3 5 -1 -1 16d 6 -1 -1 -3 e 16f 16m 16t d -1 -1 16g 5 -1 -1 16h 6 -1 -1 16i 7 -1 -1 16j 8 -1 -1 16k a -1 -1 16l c -1 -1 -3 5 -1 -1 16n d -1 -1 16o 6 -1 -1 16p 7 -1 -1 16q 8 -1 -1 16r a -1 -1 16s c -1 -1 -3 0 16u 172 17i 7 -1 -1 16v 8 -1 -1 16w a -1 -1 16x c -1 -1 16y d -1 -1 16z 6 170 171 -3 f -1 -1 -3 f -1 -1 -3 7 -1 -1 173 f 174 179 17e 6 -1 -1 175 8 -1 -1 176 a -1 -1 177 c -1 -1 178 d -1 -1 -3 6 -1 -1 17a 8 -1 -1 17b a -1 -1 17c c -1 -1 17d d -1 -1 -3 d -1 -1 17f 8 -1 -1 17g a -1 -1 17h c -1 -1 -3 c -1 -1 17j a -1 -1 17k d -1 -1 17l f 17m 17p -3 6 -1 -1 17n 7 -1 -1 17o 8 -1 -1 -3 6 -1 -1 17q 7 -1 -1 17r 8 -1 -1 -3 d -1 -1 17t 6 17u 19h 1az 1 17v 183 18h 8 -1 -1 17w f -1 -1 17x a -1 -1 17y c -1 -1 17z e -1 -1 180 0 181 182 -3 7 -1 -1 -3 7 -1 -1 -3 8 -1 -1 184 f -1 -1 185 7 186 18a 18e 0 -1 -1 187 a -1 -1 188 c -1 -1 189 e -1 -1 -3 0 -1 -1 18b a -1 -1 18c c -1 -1 18d e -1 -1 -3 a -1 -1 18f c -1 -1 18g e -1 -1 -3 3 18i 18r 198 a -1 -1 18j c -1 -1 18k e -1 -1 18l f -1 -1 18m 0 18n 18p -3 7 -1 -1 18o 8 -1 -1 -3 7 -1 -1 18q 8 -1 -1 -3 0 18s 18y 194 7 -1 -1 18t 8 -1 -1 18u a -1 -1 18v c -1 -1 18w e -1 -1 18x f -1 -1 -3 7 -1 -1 18z 8 -1 -1 190 a -1 -1 191 c -1 -1 192 e -1 -1 193 f -1 -1 -3 a -1 -1 195 c -1 -1 196 e -1 -1 197 f -1 -1 -3 f -1 -1 199 a -1 -1 19a c -1 -1 19b e -1 -1 19c 0 19d 19f -3 7 -1 -1 19e 8 -1 -1 -3 7 -1 -1 19g 8 -1 -1 -3 1 19i 1a0 1ai 7 19j 19p 19v 0 -1 -1 19k 8 -1 -1 19l a -1 -1 19m c -1 -1 19n e -1 -1 19o f -1 -1 -3 0 -1 -1 19q 8 -1 -1 19r a -1 -1 19s c -1 -1 19t e -1 -1 19u f -1 -1 -3 f -1 -1 19w 8 -1 -1 19x a -1 -1 19y c -1 -1 19z e -1 -1 -3 7 1a1 1a7 1ad 8 -1 -1 1a2 0 -1 -1 1a3 a -1 -1 1a4 c -1 -1 1a5 e -1 -1 1a6 f -1 -1 -3 0 -1 -1 1a8 8 -1 -1 1a9 e -1 -1 1aa f -1 -1 1ab a -1 -1 1ac c -1 -1 -3 f -1 -1 1ae 8 -1 -1 1af a -1 -1 1ag e -1 -1 1ah c -1 -1 -3 0 1aj 1ap 1av 7 -1 -1 1ak 8 -1 -1 1al a -1 -1 1am c -1 -1 1an e -1 -1 1ao f -1 -1 -3 7 -1 -1 1aq f -1 -1 1ar 8 -1 -1 1as e -1 -1 1at a -1 -1 1au c -1 -1 -3 e -1 -1 1aw a -1 -1 1ax f -1 -1 1ay c -1 -1 -3 e 1b0 1b5 1ba 5 -1 -1 1b1 7 -1 -1 1b2 8 -1 -1 1b3 a -1 -1 1b4 c -1 -1 -3 5 -1 -1 1b6 c -1 -1 1b7 a -1 -1 1b8 7 -1 -1 1b9 8 -1 -1 -3 8 1bb 1bg 1bl 0 -1 -1 1bc 1 -1 -1 1bd a -1 -1 1be c -1 -1 1bf f -1 -1 -3 0 -1 -1 1bh 1 -1 -1 1bi a -1 -1 1bj c -1 -1 1bk f -1 -1 -3 c -1 -1 1bm 7 1bn 1bq 1c0 0 -1 -1 1bo a -1 -1 1bp f -1 -1 -3 3 1br 1bu 1bx 0 -1 -1 1bs a -1 -1 1bt f -1 -1 -3 0 -1 -1 1bv a -1 -1 1bw f -1 -1 -3 f -1 -1 1by 0 -1 -1 1bz a -1 -1 -3 a -1 -1 -3 7 1c2 1d0 1dh 1 1c3 1ca 1ch 0 -1 -1 1c4 8 -1 -1 1c5 a -1 -1 1c6 c -1 -1 1c7 d -1 -1 1c8 e -1 -1 1c9 f -1 -1 -3 8 -1 -1 1cb 0 -1 -1 1cc a -1 -1 1cd c -1 -1 1ce d -1 -1 1cf e -1 -1 1cg f -1 -1 -3 6 1ci 1co 1cu 0 -1 -1 1cj a -1 -1 1ck c -1 -1 1cl d -1 -1 1cm e -1 -1 1cn f -1 -1 -3 0 -1 -1 1cp a -1 -1 1cq c -1 -1 1cr d -1 -1 1cs e -1 -1 1ct f -1 -1 -3 f -1 -1 1cv 0 -1 -1 1cw a -1 -1 1cx c -1 -1 1cy d -1 -1 1cz e -1 -1 -3 0 -1 -1 1d1 e -1 -1 1d2 1 1d3 1d8 1dd 8 -1 -1 1d4 a -1 -1 1d5 c -1 -1 1d6 d -1 -1 1d7 f -1 -1 -3 8 -1 -1 1d9 c -1 -1 1da a -1 -1 1db d -1 -1 1dc f -1 -1 -3 f -1 -1 1de d -1 -1 1df a -1 -1 1dg c -1 -1 -3 3 1di 1e8 1ex c -1 -1 1dj a -1 -1 1dk 8 1dl 1dq 1dv 0 -1 -1 1dm 1 -1 -1 1dn d -1 -1 1do e -1 -1 1dp f -1 -1 -3 0 -1 -1 1dr 1 -1 -1 1ds d -1 -1 1dt e -1 -1 1du f -1 -1 -3 d 1dw 1dy 1e0 5 -1 -1 1dx 6 -1 -1 -3 5 -1 -1 1dz 6 -1 -1 -3 e 1e1 1e3 1e5 5 -1 -1 1e2 6 -1 -1 -3 5 -1 -1 1e4 6 -1 -1 -3 6 1e6 1e7 -3 f -1 -1 -3 f -1 -1 -3 c -1 -1 1e9 a -1 -1 1ea 8 1eb 1eg 1el 0 -1 -1 1ec 1 -1 -1 1ed d -1 -1 1ee e -1 -1 1ef f -1 -1 -3 1 -1 -1 1eh 0 -1 -1 1ei d -1 -1 1ej e -1 -1 1ek f -1 -1 -3 6 1em 1ep 1es d -1 -1 1en e -1 -1 1eo f -1 -1 -3 f -1 -1 1eq d -1 -1 1er e -1 -1 -3 5 1et 1ev -3 d -1 -1 1eu e -1 -1 -3 e -1 -1 1ew d -1 -1 -3 6 1ey 1f8 1fp f -1 -1 1ez a -1 -1 1f0 c -1 -1 1f1 d -1 -1 1f2 e -1 -1 1f3 8 1f4 1f6 -3 0 -1 -1 1f5 1 -1 -1 -3 0 -1 -1 1f7 1 -1 -1 -3 f -1 -1 1f9 a -1 -1 1fa 1 1fb 1ff 1fj 8 -1 -1 1fc c -1 -1 1fd d -1 -1 1fe e -1 -1 -3 8 -1 -1 1fg c -1 -1 1fh d -1 -1 1fi e -1 -1 -3 e -1 -1 1fk c -1 -1 1fl d -1 -1 1fm 0 1fn 1fo -3 8 -1 -1 -3 8 -1 -1 -3 8 1fq 1fx 1g4 0 -1 -1 1fr 1 -1 -1 1fs a -1 -1 1ft c -1 -1 1fu d -1 -1 1fv e -1 -1 1fw f -1 -1 -3 1 -1 -1 1fy f -1 -1 1fz 0 -1 -1 1g0 a -1 -1 1g1 c -1 -1 1g2 d -1 -1 1g3 e -1 -1 -3 a -1 -1 1g5 5 1g6 1g9 -3 c -1 -1 1g7 d -1 -1 1g8 e -1 -1 -3 f 1ga 1gd 1gg e -1 -1 1gb c -1 -1 1gc d -1 -1 -3 c -1 -1 1ge d -1 -1 1gf e -1 -1 -3 d -1 -1 1gh c -1 -1 1gi e -1 -1 -3 a 1gk 1u0 20n 8 1gl 1nd 1rp d 1gm 1ka 1lc 5 1gn 1hx 1ip 7 1go 1hl 1hr c 1gp 1h0 1hg 6 1gq 1gs 1gw 9 1gr -1 -1 b -2 -1 -1 f 1gt -1 -1 9 1gu -1 -1 b 1gv -1 -1 e -2 -1 -1 f 1gx -1 -1 9 1gy -1 -1 b 1gz -1 -1 e -2 -1 -1 e 1h1 1h6 1hb 3 1h2 -1 -1 b 1h3 -1 -1 4 1h4 -1 -1 6 1h5 -1 -1 9 -2 -1 -1 3 1h7 -1 -1 4 1h8 -1 -1 6 1h9 -1 -1 9 1ha -1 -1 b -2 -1 -1 b 1hc -1 -1 3 1hd -1 -1 4 1he -1 -1 6 1hf -1 -1 9 -2 -1 -1 3 1hh -1 -1 4 1hi -1 -1 6 1hj -1 -1 9 1hk -1 -1 b -2 -1 -1 0 1hm -1 -1 9 1hn -1 -1 b 1ho -1 -1 c 1hp -1 -1 e 1hq -1 -1 f -2 -1 -1 0 1hs -1 -1 9 1ht -1 -1 b 1hu -1 -1 c 1hv -1 -1 e 1hw -1 -1 f -2 -1 -1 f 1hy 1id 1ij 7 1hz 1i3 1i8 9 1i0 -1 -1 e 1i1 -1 -1 b 1i2 -1 -1 c -2 -1 -1 0 1i4 -1 -1 c 1i5 -1 -1 9 1i6 -1 -1 b 1i7 -1 -1 e -2 -1 -1 0 1i9 -1 -1 9 1ia -1 -1 b 1ib -1 -1 c 1ic -1 -1 e -2 -1 -1 6 1ie -1 -1 e 1if -1 -1 7 1ig -1 -1 9 1ih -1 -1 b 1ii -1 -1 c -2 -1 -1 e 1ik -1 -1 6 1il -1 -1 7 1im -1 -1 b 1in -1 -1 9 1io -1 -1 c -2 -1 -1 0 1iq 1iz 1jf e 1ir -1 -1 b 1is -1 -1 c 1it -1 -1 9 1iu -1 -1 f -2 1iv 1ix 6 1iw -1 -1 7 -2 -1 -1 6 1iy -1 -1 7 -2 -1 -1 7 1j0 -1 -1 f 1j1 1j5 1ja e 1j2 -1 -1 c 1j3 -1 -1 9 1j4 -1 -1 b -2 -1 -1 6 1j6 -1 -1 e 1j7 -1 -1 9 1j8 -1 -1 b 1j9 -1 -1 c -2 -1 -1 6 1jb -1 -1 e 1jc -1 -1 9 1jd -1 -1 b 1je -1 -1 c -2 -1 -1 7 1jg 1jz 1k5 f 1jh 1jl 1jq 9 1ji -1 -1 b 1jj -1 -1 c 1jk -1 -1 e -2 -1 -1 6 1jm -1 -1 e 1jn -1 -1 b 1jo -1 -1 9 1jp -1 -1 c -2 -1 -1 e 1jr -1 1jv 6 1js -1 -1 9 1jt -1 -1 b 1ju -1 -1 c -2 -1 -1 6 -1 -1 1jw 1 -1 -1 1jx 3 -1 -1 1jy 4 -1 -1 -3 e -1 -1 1k0 6 -1 -1 1k1 3 -1 -1 1k2 1 -1 -1 1k3 4 -1 -1 1k4 f -1 -1 -3 f -1 -1 1k6 3 -1 -1 1k7 1 -1 -1 1k8 4 -1 -1 1k9 6 -1 -1 -3 4 1kb -1 1kt c 1kc 1kh 1kn 9 1kd -1 -1 b 1ke -1 -1 5 1kf -1 -1 6 1kg -1 -1 7 -2 -1 -1 3 1ki -1 -1 b 1kj -1 -1 6 1kk -1 -1 5 1kl -1 -1 7 1km -1 -1 9 -2 -1 -1 b 1ko -1 -1 3 1kp -1 -1 5 1kq -1 -1 6 1kr -1 -1 7 1ks -1 -1 9 -2 -1 -1 6 -1 -1 1ku e 1kv 1l1 1l7 f -1 -1 1kw 7 -1 -1 1kx 0 -1 -1 1ky 1 -1 -1 1kz 3 -1 -1 1l0 5 -1 -1 -3 f -1 -1 1l2 7 -1 -1 1l3 0 -1 -1 1l4 1 -1 -1 1l5 3 -1 -1 1l6 5 -1 -1 -3 0 -1 -1 1l8 f -1 -1 1l9 5 -1 -1 1la 1 -1 -1 1lb 3 -1 -1 -3 5 1ld 1ma 1mt 4 1le 1lx 1m4 b 1lf -1 1lr 3 1lg 1lj 1ln 7 1lh -1 -1 9 1li -1 -1 6 -2 -1 -1 c 1lk -1 -1 7 1ll -1 -1 6 1lm -1 -1 9 -2 -1 -1 c 1lo -1 -1 7 1lp -1 -1 6 1lq -1 -1 9 -2 -1 -1 3 -1 -1 1ls 0 -1 -1 1lt 1 -1 -1 1lu c -1 -1 1lv e -1 -1 1lw f -1 -1 -3 b -1 -1 1ly 3 -1 -1 1lz f -1 -1 1m0 0 -1 -1 1m1 1 -1 -1 1m2 c -1 -1 1m3 e -1 -1 -3 c -1 -1 1m5 0 -1 -1 1m6 1 -1 -1 1m7 3 -1 -1 1m8 f -1 -1 1m9 e -1 -1 -3 c -1 -1 1mb 4 1mc 1mi 1mo 3 -1 -1 1md b -1 -1 1me 0 -1 -1 1mf 1 -1 -1 1mg e -1 -1 1mh f -1 -1 -3 b -1 -1 1mj 3 -1 -1 1mk f -1 -1 1ml 0 -1 -1 1mm 1 -1 -1 1mn e -1 -1 -3 0 -1 -1 1mp f -1 -1 1mq 1 -1 -1 1mr 3 -1 -1 1ms e -1 -1 -3 f -1 -1 1mu 1 -1 -1 1mv e 1mw 1n1 1n6 7 -1 -1 1mx 0 -1 -1 1my 3 -1 -1 1mz 4 -1 -1 1n0 6 -1 -1 -3 7 -1 -1 1n2 0 -1 -1 1n3 3 -1 -1 1n4 4 -1 -1 1n5 6 -1 -1 -3 3 -1 -1 1n7 0 -1 -1 1n8 4 1n9 1nb -3 b -1 -1 1na c -1 -1 -3 b -1 -1 1nc c -1 -1 -3 f 1ne -1 1nl 1 1nf -1 -1 9 1ng -1 -1 d 1nh -1 -1 e 1ni -1 -1 b 1nj -1 -1 0 1nk -1 -1 c -2 -1 -1 6 1nm 1oj 1pv c 1nn 1nu 1o1 5 -1 -1 1no d -1 -1 1np 0 -1 -1 1nq 1 -1 -1 1nr 3 -1 -1 1ns 4 -1 -1 1nt e -1 -1 -3 5 -1 -1 1nv d -1 -1 1nw 0 -1 -1 1nx 1 -1 -1 1ny 3 -1 -1 1nz 4 -1 -1 1o0 e -1 -1 -3 4 1o2 1o8 1oe 3 -1 -1 1o3 b -1 -1 1o4 0 -1 -1 1o5 1 -1 -1 1o6 d -1 -1 1o7 e -1 -1 -3 b -1 -1 1o9 3 -1 -1 1oa 0 -1 -1 1ob 1 -1 -1 1oc d -1 -1 1od e -1 -1 -3 0 -1 -1 1of 1 -1 -1 1og 3 -1 -1 1oh d -1 -1 1oi e -1 -1 -3 5 1ok 1ot 1pe c -1 -1 1ol 3 -1 -1 1om 0 -1 -1 1on 1 -1 -1 1oo d -1 -1 1op e -1 -1 1oq 4 1or 1os -3 b -1 -1 -3 b -1 -1 -3 b 1ou 1p1 1p8 c -1 -1 1ov 4 -1 -1 1ow 0 -1 -1 1ox 1 -1 -1 1oy 3 -1 -1 1oz d -1 -1 1p0 e -1 -1 -3 4 -1 -1 1p2 c -1 -1 1p3 d -1 -1 1p4 0 -1 -1 1p5 1 -1 -1 1p6 3 -1 -1 1p7 e -1 -1 -3 3 -1 -1 1p9 c -1 -1 1pa 0 -1 -1 1pb 1 -1 -1 1pc d -1 -1 1pd e -1 -1 -3 d -1 -1 1pf 3 -1 -1 1pg b 1ph 1pl 1pp 0 -1 -1 1pi 1 -1 -1 1pj 4 -1 -1 1pk e -1 -1 -3 4 -1 -1 1pm 0 -1 -1 1pn 1 -1 -1 1po e -1 -1 -3 e -1 -1 1pq 0 -1 -1 1pr 1 -1 -1 1ps 4 1pt 1pu -3 c -1 -1 -3 c -1 -1 -3 7 1pw 1qc 1qw e -1 -1 1px 0 -1 -1 1py 1 -1 -1 1pz 3 -1 -1 1q0 4 1q1 1q4 1q7 b -1 -1 1q2 c -1 -1 1q3 d -1 -1 -3 b -1 -1 1q5 c -1 -1 1q6 d -1 -1 -3 5 1q8 1qa -3 c -1 -1 1q9 d -1 -1 -3 c -1 -1 1qb d -1 -1 -3 e -1 -1 1qd 1 -1 -1 1qe 4 1qf 1qk 1qp 0 -1 -1 1qg 3 -1 -1 1qh b -1 -1 1qi c -1 -1 1qj d -1 -1 -3 b -1 -1 1ql 0 -1 -1 1qm 3 -1 -1 1qn c -1 -1 1qo d -1 -1 -3 0 -1 -1 1qq 3 -1 -1 1qr 5 1qs 1qu -3 c -1 -1 1qt d -1 -1 -3 c -1 -1 1qv d -1 -1 -3 0 -1 -1 1qx 3 -1 -1 1qy 5 1qz 1r6 1rd 1 -1 -1 1r0 c -1 -1 1r1 d -1 -1 1r2 e -1 -1 1r3 4 1r4 1r5 -3 b -1 -1 -3 b -1 -1 -3 c -1 -1 1r7 1 -1 -1 1r8 d -1 -1 1r9 e -1 -1 1ra 4 1rb 1rc -3 b -1 -1 -3 b -1 -1 -3 4 1re 1rj 1ro 1 -1 -1 1rf b -1 -1 1rg c -1 -1 1rh d -1 -1 1ri e -1 -1 -3 b -1 -1 1rk 1 -1 -1 1rl c -1 -1 1rm d -1 -1 1rn e -1 -1 -3 1 -1 -1 -3 0 1rq 1s3 1sa 1 1rr -1 1rx 9 1rs -1 -1 b 1rt -1 -1 c 1ru -1 -1 d 1rv -1 -1 e 1rw -1 -1 f -2 -1 -1 9 -1 -1 1ry 3 -1 -1 1rz 4 -1 -1 1s0 5 -1 -1 1s1 6 -1 -1 1s2 7 -1 -1 -3 9 -1 -1 1s4 1 -1 -1 1s5 4 -1 -1 1s6 3 -1 -1 1s7 5 -1 -1 1s8 6 -1 -1 1s9 7 -1 -1 -3 5 1sb 1sw 1t5 b 1sc 1sj 1sq c -1 -1 1sd 4 -1 -1 1se 1 -1 -1 1sf 3 -1 -1 1sg d -1 -1 1sh e -1 -1 1si f -1 -1 -3 4 -1 -1 1sk 1 -1 -1 1sl 3 -1 -1 1sm c -1 -1 1sn d -1 -1 1so e -1 -1 1sp f -1 -1 -3 3 -1 -1 1sr 1 -1 -1 1ss c -1 -1 1st d -1 -1 1su e -1 -1 1sv f -1 -1 -3 c -1 -1 1sx 3 -1 -1 1sy 1 -1 -1 1sz d -1 -1 1t0 e -1 -1 1t1 f -1 -1 1t2 4 1t3 1t4 -3 b -1 -1 -3 b -1 -1 -3 4 1t6 1td 1tk 3 -1 -1 1t7 1 -1 -1 1t8 b -1 -1 1t9 c -1 -1 1ta d -1 -1 1tb e -1 -1 1tc f -1 -1 -3 b -1 -1 1te 1 -1 -1 1tf 3 -1 -1 1tg c -1 -1 1th d -1 -1 1ti e -1 -1 1tj f -1 -1 -3 3 -1 -1 1tl 6 1tm 1tq 1tu 1 -1 -1 1tn d -1 -1 1to e -1 -1 1tp f -1 -1 -3 d -1 -1 1tr 1 -1 -1 1ts e -1 -1 1tt f -1 -1 -3 1 -1 -1 1tv 7 1tw 1ty -3 e -1 -1 1tx f -1 -1 -3 e -1 -1 1tz f -1 -1 -3 f 1u1 1up 1vd 9 1u2 1ua 1ui 0 -1 -1 1u3 8 -1 -1 1u4 1 -1 -1 1u5 3 -1 -1 1u6 4 -1 -1 1u7 5 -1 -1 1u8 6 -1 -1 1u9 7 -1 -1 -3 0 -1 -1 1ub 8 -1 -1 1uc 4 -1 -1 1ud 1 -1 -1 1ue 3 -1 -1 1uf 5 -1 -1 1ug 6 -1 -1 1uh 7 -1 -1 -3 1 -1 -1 1uj 8 -1 -1 1uk 5 -1 -1 1ul 7 -1 -1 1um 6 -1 -1 1un 4 -1 -1 1uo 3 -1 -1 -3 9 1uq 1uy 1v6 8 -1 -1 1ur 0 -1 -1 1us 1 -1 -1 1ut 3 -1 -1 1uu 4 -1 -1 1uv 5 -1 -1 1uw 6 -1 -1 1ux 7 -1 -1 -3 8 -1 -1 1uz 0 -1 -1 1v0 6 -1 -1 1v1 1 -1 -1 1v2 5 -1 -1 1v3 7 -1 -1 1v4 3 -1 -1 1v5 4 -1 -1 -3 1 -1 -1 1v7 6 -1 -1 1v8 8 -1 -1 1v9 4 -1 -1 1va 7 -1 -1 1vb 5 -1 -1 1vc 3 -1 -1 -3 6 1ve 1x1 1yo b 1vf 1w0 1wj 5 1vg 1vn 1vu 4 -1 -1 1vh c -1 -1 1vi 0 -1 -1 1vj 1 -1 -1 1vk 3 -1 -1 1vl d -1 -1 1vm e -1 -1 -3 c -1 -1 1vo 4 -1 -1 1vp 0 -1 -1 1vq 1 -1 -1 1vr 3 -1 -1 1vs d -1 -1 1vt e -1 -1 -3 d -1 -1 1vv 0 -1 -1 1vw 1 -1 -1 1vx 3 -1 -1 1vy 4 -1 -1 1vz e -1 -1 -3 4 -1 -1 1w1 c 1w2 1w8 1we d -1 -1 1w3 5 -1 -1 1w4 0 -1 -1 1w5 1 -1 -1 1w6 3 -1 -1 1w7 e -1 -1 -3 d -1 -1 1w9 5 -1 -1 1wa 0 -1 -1 1wb 1 -1 -1 1wc 3 -1 -1 1wd e -1 -1 -3 d -1 -1 1wf 0 -1 -1 1wg 1 -1 -1 1wh 3 -1 -1 1wi e -1 -1 -3 3 -1 -1 1wk c 1wl 1wr 1wx 5 -1 -1 1wm 0 -1 -1 1wn 1 -1 -1 1wo 4 -1 -1 1wp d -1 -1 1wq e -1 -1 -3 5 -1 -1 1ws d -1 -1 1wt 0 -1 -1 1wu 1 -1 -1 1wv 4 -1 -1 1ww e -1 -1 -3 e -1 -1 1wy 0 -1 -1 1wz d -1 -1 1x0 1 -1 -1 -3 b 1x2 1xn 1y8 5 1x3 1xa 1xh c -1 -1 1x4 1 -1 -1 1x5 0 -1 -1 1x6 3 -1 -1 1x7 4 -1 -1 1x8 d -1 -1 1x9 e -1 -1 -3 c -1 -1 1xb 4 -1 -1 1xc 0 -1 -1 1xd 1 -1 -1 1xe 3 -1 -1 1xf d -1 -1 1xg e -1 -1 -3 d -1 -1 1xi 4 -1 -1 1xj 0 -1 -1 1xk 1 -1 -1 1xl 3 -1 -1 1xm e -1 -1 -3 5 1xo 1xv 1y2 4 -1 -1 1xp c -1 -1 1xq 0 -1 -1 1xr 1 -1 -1 1xs 3 -1 -1 1xt d -1 -1 1xu e -1 -1 -3 c -1 -1 1xw 4 -1 -1 1xx d -1 -1 1xy e -1 -1 1xz 3 -1 -1 1y0 0 -1 -1 1y1 1 -1 -1 -3 d -1 -1 1y3 4 -1 -1 1y4 e -1 -1 1y5 1 -1 -1 1y6 3 -1 -1 1y7 0 -1 -1 -3 3 -1 -1 1y9 e -1 -1 1ya c 1yb 1yg 1yl 0 -1 -1 1yc 1 -1 -1 1yd 4 -1 -1 1ye 5 -1 -1 1yf d -1 -1 -3 4 -1 -1 1yh 5 -1 -1 1yi d -1 -1 1yj 0 -1 -1 1yk 1 -1 -1 -3 0 -1 -1 1ym 1 -1 -1 1yn d -1 -1 -3 e 1yp 1yz 1zq 7 -1 -1 1yq 4 -1 -1 1yr 1 -1 -1 1ys 3 -1 -1 1yt 5 -1 -1 1yu 0 1yv 1yx -3 8 -1 -1 1yw 9 -1 -1 -3 8 -1 -1 1yy 9 -1 -1 -3 7 -1 -1 1z0 0 1z1 1z7 1zm 1 -1 -1 1z2 3 -1 -1 1z3 4 -1 -1 1z4 5 -1 -1 1z5 8 -1 -1 1z6 9 -1 -1 -3 9 -1 -1 1z8 1 -1 -1 1z9 c 1za 1ze 1zi 3 -1 -1 1zb 4 -1 -1 1zc 5 -1 -1 1zd 8 -1 -1 -3 8 -1 -1 1zf 3 -1 -1 1zg 4 -1 -1 1zh 5 -1 -1 -3 3 -1 -1 1zj 4 -1 -1 1zk 5 -1 -1 1zl 8 -1 -1 -3 4 -1 -1 1zn 5 -1 -1 1zo 1 -1 -1 1zp 3 -1 -1 -3 4 1zr 1zx 203 3 -1 -1 1zs 0 -1 -1 1zt 1 -1 -1 1zu b -1 -1 1zv c -1 -1 1zw d -1 -1 -3 b -1 -1 1zy 3 -1 -1 1zz 0 -1 -1 200 c -1 -1 201 1 -1 -1 202 d -1 -1 -3 0 204 20a 20g 1 -1 -1 205 3 -1 -1 206 5 -1 -1 207 7 -1 -1 208 8 -1 -1 209 9 -1 -1 -3 9 -1 -1 20b 1 -1 -1 20c 3 -1 -1 20d 5 -1 -1 20e 7 -1 -1 20f 8 -1 -1 -3 1 -1 -1 20h 3 -1 -1 20i 5 20j 20l -3 c -1 -1 20k d -1 -1 -3 c -1 -1 20m d -1 -1 -3 0 20o 225 24y 8 -1 -1 20p 9 -1 -1 20q 7 -1 -1 20r 5 20s 20z 21c c -1 -1 20t b -1 -1 20u d -1 -1 20v e -1 -1 20w 6 20x 20y -3 f -1 -1 -3 f -1 -1 -3 e -1 -1 210 6 211 215 219 f -1 -1 212 b -1 -1 213 c -1 -1 214 d -1 -1 -3 b -1 -1 216 c -1 -1 217 d -1 -1 218 f -1 -1 -3 b -1 -1 21a c -1 -1 21b d -1 -1 -3 6 21d 21i 21n b -1 -1 21e c -1 -1 21f d -1 -1 21g e -1 -1 21h f -1 -1 -3 e -1 -1 21j b -1 -1 21k c -1 -1 21l d -1 -1 21m f -1 -1 -3 3 21o 21t 21y b -1 -1 21p c -1 -1 21q d 21r 21s -3 4 -1 -1 -3 4 -1 -1 -3 c -1 -1 21u b -1 -1 21v d 21w 21x -3 4 -1 -1 -3 4 -1 -1 -3 4 21z 222 -3 b -1 -1 220 c -1 -1 221 d -1 -1 -3 c -1 -1 223 b -1 -1 224 d -1 -1 -3 8 -1 -1 226 4 227 22s 23y c -1 -1 228 6 229 22f 22l 7 -1 -1 22a f -1 -1 22b 9 -1 -1 22c b -1 -1 22d d -1 -1 22e e -1 -1 -3 e -1 -1 22g 7 -1 -1 22h 9 -1 -1 22i b -1 -1 22j d -1 -1 22k f -1 -1 -3 7 -1 -1 22m 9 -1 -1 22n b -1 -1 22o d -1 -1 22p e 22q 22r -3 5 -1 -1 -3 5 -1 -1 -3 d -1 -1 22t 7 -1 -1 22u f 22v 232 23q 6 -1 -1 22w 9 -1 -1 22x b -1 -1 22y c -1 -1 22z 5 230 231 -3 e -1 -1 -3 e -1 -1 -3 6 -1 -1 233 c -1 -1 234 1 235 23a 23h 9 -1 -1 236 b -1 -1 237 5 238 239 -3 e -1 -1 -3 e -1 -1 -3 9 -1 -1 23b 5 23c 23e 23g b -1 -1 23d e -1 -1 -3 e -1 -1 23f b -1 -1 -3 b -1 -1 -3 e 23i 23l 23o 5 -1 -1 23j 9 -1 -1 23k b -1 -1 -3 5 -1 -1 23m 9 -1 -1 23n b -1 -1 -3 9 -1 -1 23p b -1 -1 -3 b -1 -1 23r 9 -1 -1 23s c -1 -1 23t e 23u 23w -3 5 -1 -1 23v 6 -1 -1 -3 5 -1 -1 23x 6 -1 -1 -3 7 -1 -1 23z 9 -1 -1 240 6 241 246 24k b -1 -1 242 c -1 -1 243 d -1 -1 244 e -1 -1 245 f -1 -1 -3 f -1 -1 247 1 248 24c 24g b -1 -1 249 c -1 -1 24a d -1 -1 24b e -1 -1 -3 b -1 -1 24d e -1 -1 24e c -1 -1 24f d -1 -1 -3 b -1 -1 24h c -1 -1 24i d -1 -1 24j e -1 -1 -3 5 24l 24p 24t b -1 -1 24m c -1 -1 24n d -1 -1 24o e -1 -1 -3 e -1 -1 24q b -1 -1 24r c -1 -1 24s d -1 -1 -3 3 24u 24w -3 b -1 -1 24v c -1 -1 -3 c -1 -1 24x b -1 -1 -3 c 24z 25q 27k 4 -1 -1 250 5 -1 -1 251 3 -1 -1 252 6 253 257 25b d -1 -1 254 1 -1 -1 255 e -1 -1 256 f -1 -1 -3 d -1 -1 258 1 -1 -1 259 e -1 -1 25a f -1 -1 -3 7 25c 25f 25i 1 -1 -1 25d e -1 -1 25e f -1 -1 -3 e -1 -1 25g 1 -1 -1 25h f -1 -1 -3 1 25j 25l 25n 8 -1 -1 25k 9 -1 -1 -3 8 -1 -1 25m 9 -1 -1 -3 8 25o 25p -3 f -1 -1 -3 f -1 -1 -3 4 -1 -1 25r 7 25s 26a 271 d 25t 25z 265 e -1 -1 25u 5 -1 -1 25v 1 -1 -1 25w 3 -1 -1 25x 6 -1 -1 25y f -1 -1 -3 6 -1 -1 260 e -1 -1 261 1 -1 -1 262 3 -1 -1 263 5 -1 -1 264 f -1 -1 -3 1 -1 -1 266 3 -1 -1 267 5 -1 -1 268 e -1 -1 269 f -1 -1 -3 d 26b 26h 26n e -1 -1 26c 1 -1 -1 26d 3 -1 -1 26e 5 -1 -1 26f 6 -1 -1 26g f -1 -1 -3 e -1 -1 26i 6 -1 -1 26j 1 -1 -1 26k 3 -1 -1 26l 5 -1 -1 26m f -1 -1 -3 5 -1 -1 26o b 26p 26t 26x 1 -1 -1 26q 3 -1 -1 26r e -1 -1 26s f -1 -1 -3 3 -1 -1 26u e -1 -1 26v 1 -1 -1 26w f -1 -1 -3 1 -1 -1 26y 3 -1 -1 26z e -1 -1 270 f -1 -1 -3 3 -1 -1 272 5 -1 -1 273 6 274 278 27c 1 -1 -1 275 d -1 -1 276 e -1 -1 277 f -1 -1 -3 d -1 -1 279 1 -1 -1 27a f -1 -1 27b e -1 -1 -3 8 27d 27f 27h 1 -1 -1 27e f -1 -1 -3 f -1 -1 27g 1 -1 -1 -3 1 27i 27j -3 9 -1 -1 -3 9 -1 -1 -3 e 27l 28i 299 8 27m 27t 280 7 -1 -1 27n f -1 -1 27o 1 -1 -1 27p 3 -1 -1 27q 4 -1 -1 27r 5 -1 -1 27s 6 -1 -1 -3 7 -1 -1 27u 1 -1 -1 27v 3 -1 -1 27w 4 -1 -1 27x 5 -1 -1 27y 6 -1 -1 27z f -1 -1 -3 5 -1 -1 281 6 -1 -1 282 7 -1 -1 283 4 284 287 28a 9 -1 -1 285 b -1 -1 286 d -1 -1 -3 9 -1 -1 288 b -1 -1 289 d -1 -1 -3 3 28b 28d 28f 9 -1 -1 28c b -1 -1 -3 9 -1 -1 28e b -1 -1 -3 1 28g 28h -3 9 -1 -1 -3 9 -1 -1 -3 6 -1 -1 28j 7 -1 -1 28k 5 -1 -1 28l 4 28m 28q 28u 8 -1 -1 28n 9 -1 -1 28o b -1 -1 28p d -1 -1 -3 d -1 -1 28r b -1 -1 28s 8 -1 -1 28t 9 -1 -1 -3 8 28v 28y 291 1 -1 -1 28w 3 -1 -1 28x f -1 -1 -3 f -1 -1 28z 1 -1 -1 290 3 -1 -1 -3 3 292 294 296 9 -1 -1 293 b -1 -1 -3 9 -1 -1 295 b -1 -1 -3 1 297 298 -3 9 -1 -1 -3 9 -1 -1 -3 f 29a 29z 2ao 8 -1 -1 29b 6 -1 -1 29c 7 -1 -1 29d 5 29e 29h 29k 9 -1 -1 29f b -1 -1 29g d -1 -1 -3 9 -1 -1 29i b -1 -1 29j d -1 -1 -3 9 29l 29o 29r 1 -1 -1 29m 3 -1 -1 29n 4 -1 -1 -3 1 -1 -1 29p 3 -1 -1 29q 4 -1 -1 -3 4 29s 29u 29w b -1 -1 29t d -1 -1 -3 b -1 -1 29v d -1 -1 -3 3 29x 29y -3 b -1 -1 -3 b -1 -1 -3 8 -1 -1 2a0 6 -1 -1 2a1 7 -1 -1 2a2 4 2a3 2a6 2a9 d -1 -1 2a4 9 -1 -1 2a5 b -1 -1 -3 9 -1 -1 2a7 b -1 -1 2a8 d -1 -1 -3 5 2aa 2ad 2ag 9 -1 -1 2ab b -1 -1 2ac d -1 -1 -3 9 -1 -1 2ae b -1 -1 2af d -1 -1 -3 9 2ah 2aj 2al 1 -1 -1 2ai 3 -1 -1 -3 1 -1 -1 2ak 3 -1 -1 -3 3 2am 2an -3 b -1 -1 -3 b -1 -1 -3 1 2ap 2bc 2by 8 -1 -1 2aq 9 -1 -1 2ar 7 2as 2au 2aw b -1 -1 2at d -1 -1 -3 b -1 -1 2av d -1 -1 -3 b 2ax 2b1 2b5 3 -1 -1 2ay 4 -1 -1 2az 5 -1 -1 2b0 6 -1 -1 -3 3 -1 -1 2b2 4 -1 -1 2b3 5 -1 -1 2b4 6 -1 -1 -3 d 2b6 2b9 -3 4 -1 -1 2b7 5 -1 -1 2b8 6 -1 -1 -3 4 -1 -1 2ba 5 -1 -1 2bb 6 -1 -1 -3 8 -1 -1 2bd 9 -1 -1 2be b 2bf 2bk 2bp 3 -1 -1 2bg 4 -1 -1 2bh 5 -1 -1 2bi 6 -1 -1 2bj 7 -1 -1 -3 3 -1 -1 2bl 4 -1 -1 2bm 5 -1 -1 2bn 6 -1 -1 2bo 7 -1 -1 -3 d 2bq 2bu -3 4 -1 -1 2br 5 -1 -1 2bs 6 -1 -1 2bt 7 -1 -1 -3 4 -1 -1 2bv 5 -1 -1 2bw 6 -1 -1 2bx 7 -1 -1 -3 b 2bz 2c7 2ce 4 -1 -1 2c0 3 -1 -1 2c1 5 2c2 2c3 2c4 d -1 -1 -3 d -1 -1 -3 6 2c5 2c6 -3 d -1 -1 -3 d -1 -1 -3 4 -1 -1 2c8 3 -1 -1 2c9 d 2ca 2cc -3 5 -1 -1 2cb 6 -1 -1 -3 5 -1 -1 2cd 6 -1 -1 -3 d 2cf 2cp -3 4 -1 -1 2cg 5 -1 -1 2ch 6 -1 -1 2ci 3 2cj 2cm -3 7 -1 -1 2ck 8 -1 -1 2cl 9 -1 -1 -3 7 -1 -1 2cn 8 -1 -1 2co 9 -1 -1 -3 4 -1 -1 2cq 6 -1 -1 2cr 5 -1 -1 2cs 3 2ct 2cw -3 7 -1 -1 2cu 8 -1 -1 2cv 9 -1 -1 -3 7 -1 -1 2cx 8 -1 -1 2cy 9 -1 -1 -3"};
+	}
+
+	private static class Tree10 {
+		static final String DATA[] = new String[]{
+			"10 1913 2 1 of vm a 2 c0 g8 1 3 8q am 9 4 5n 7k 4 5 3v 4z 8 6 2i 36 6 7 1y 28 3 8 y 1i 5 9 i q 7 -2 a e d b -1 -1 0 c -1 -1 f d -1 -1 e -2 -1 -1 0 f -1 -1 d g -1 -1 e h -1 -1 f -2 -1 -1 d j -1 -1 b k -1 -1 e l -1 -1 c m -1 -1 f n -1 -1 0 -2 o p 7 -2 -1 -1 7 -2 -1 -1 d r -1 -1 b s -1 -1 c t -1 -1 e u -1 -1 f v -1 -1 0 -2 w x 7 -2 -1 -1 7 -2 -1 -1 c z -1 -1 f 10 1a 1e b 11 -1 -1 d 12 -1 -1 e 13 16 18 0 -2 14 15 7 -2 -1 -1 7 -2 -1 -1 5 17 -1 -1 7 -2 -1 -1 5 19 -1 -1 7 -2 -1 -1 5 1b -1 -1 d 1c -1 -1 7 1d -1 -1 b -2 -1 -1 5 1f -1 -1 7 1g -1 -1 b 1h -1 -1 d -2 -1 -1 c 1j -1 -1 b 1k -1 -1 d 1l -1 -1 e 1m 1u 1w 7 1n 1q 1s f -2 1o 1p 5 -2 -1 -1 5 -2 -1 -1 0 1r -1 -1 f -2 -1 -1 0 1t -1 -1 f -2 -1 -1 5 1v -1 -1 7 -2 -1 -1 5 1x -1 -1 7 -2 -1 -1 e 1z -1 -1 d 20 -1 -1 0 21 -1 -1 c 22 -1 -1 f 23 -1 -1 b -2 24 26 3 25 -1 -1 5 -2 -1 -1 3 27 -1 -1 5 -2 -1 -1 c 29 -1 -1 0 2a -1 -1 d 2b -1 -1 e 2c -1 -1 f 2d -1 -1 b -2 2e 2g 3 2f -1 -1 5 -2 -1 -1 3 2h -1 -1 5 -2 -1 -1 0 2j -1 -1 e 2k -1 -1 f 2l -1 -1 d 2m 2y 32 c 2n 2s 2v b -2 2o 2q 3 2p -1 -1 5 -2 -1 -1 3 2r -1 -1 5 -2 -1 -1 5 2t -1 -1 3 2u -1 -1 6 -2 -1 -1 3 2w -1 -1 5 2x -1 -1 6 -2 -1 -1 7 2z -1 -1 3 30 -1 -1 5 31 -1 -1 6 -2 -1 -1 7 33 -1 -1 3 34 -1 -1 5 35 -1 -1 6 -2 -1 -1 0 37 -1 -1 e 38 -1 -1 f 39 -1 -1 3 3a 3p 3s d 3b 3j 3m c 3c 3f 3h b -2 3d 3e 5 -2 -1 -1 5 -2 -1 -1 5 3g -1 -1 6 -2 -1 -1 5 3i -1 -1 6 -2 -1 -1 5 3k -1 -1 6 3l -1 -1 7 -2 -1 -1 5 3n -1 -1 6 3o -1 -1 7 -2 -1 -1 b 3q -1 -1 c 3r -1 -1 d -2 -1 -1 b 3t -1 -1 c 3u -1 -1 d -2 -1 -1 c 3w -1 -1 d 3x -1 -1 0 3y 49 4r e 3z -1 -1 b 40 -1 -1 f -2 41 45 5 42 -1 -1 6 43 -1 -1 7 44 -1 -1 8 -2 -1 -1 5 46 -1 -1 6 47 -1 -1 7 48 -1 -1 8 -2 -1 -1 5 4a 4f 4l e 4b -1 -1 6 4c -1 -1 b 4d -1 -1 7 4e -1 -1 8 -2 -1 -1 6 4g -1 -1 8 4h -1 -1 7 4i -1 -1 b 4j -1 -1 e 4k -1 -1 f -2 -1 -1 6 4m -1 -1 7 4n -1 -1 8 4o -1 -1 b 4p -1 -1 e 4q -1 -1 f -2 -1 -1 7 4s -1 -1 e 4t -1 -1 6 4u -1 -1 8 4v -1 -1 b 4w -1 -1 5 -2 4x 4y f -2 -1 -1 f -2 -1 -1 c 50 -1 -1 d 51 -1 -1 f 52 5b 5h b 53 -1 -1 e 54 -1 -1 0 -2 55 58 6 56 -1 -1 7 57 -1 -1 8 -2 -1 -1 6 59 -1 -1 7 5a -1 -1 8 -2 -1 -1 5 5c -1 -1 6 5d -1 -1 7 5e -1 -1 8 5f -1 -1 b 5g -1 -1 e -2 -1 -1 5 5i -1 -1 6 5j -1 -1 7 5k -1 -1 8 5l -1 -1 b 5m -1 -1 e -2 -1 -1 f 5o -1 -1 3 5p -1 -1 c 5q 6g 78 0 5r -1 -1 e 5s 66 6b d 5t 5y 62 b -2 5u 5w 5 5v -1 -1 4 -2 -1 -1 4 5x -1 -1 5 -2 -1 -1 6 5z -1 -1 4 60 -1 -1 5 61 -1 -1 7 -2 -1 -1 4 63 -1 -1 5 64 -1 -1 6 65 -1 -1 7 -2 -1 -1 6 67 -1 -1 8 68 -1 -1 7 69 -1 -1 4 6a -1 -1 5 -2 -1 -1 4 6c -1 -1 5 6d -1 -1 6 6e -1 -1 7 6f -1 -1 8 -2 -1 -1 6 6h -1 -1 d 6i 6q 71 4 6j -1 -1 0 6k -1 -1 5 6l -1 -1 e -2 6m 6o 7 6n -1 -1 8 -2 -1 -1 7 6p -1 -1 8 -2 -1 -1 7 6r -1 -1 0 6s -1 -1 e 6t 6v 6y 4 6u -1 -1 5 -2 -1 -1 4 6w -1 -1 5 6x -1 -1 8 -2 -1 -1 8 6z -1 -1 4 70 -1 -1 5 -2 -1 -1 0 72 -1 -1 4 73 -1 -1 5 74 -1 -1 7 75 -1 -1 8 -2 76 77 e -2 -1 -1 e -2 -1 -1 5 79 -1 -1 6 7a -1 -1 0 7b -1 -1 4 7c -1 -1 7 7d 7g 7i e -2 7e 7f 8 -2 -1 -1 8 -2 -1 -1 d 7h -1 -1 e -2 -1 -1 d 7j -1 -1 e -2 -1 -1 3 7l -1 -1 0 7m -1 -1 f 7n -1 -1 e 7o 8g 8l c 7p 84 8a 4 7q 80 82 5 7r 7w 7y d -2 7s 7u 6 7t -1 -1 7 -2 -1 -1 6 7v -1 -1 7 -2 -1 -1 b 7x -1 -1 d -2 -1 -1 b 7z -1 -1 d -2 -1 -1 b 81 -1 -1 d -2 -1 -1 b 83 -1 -1 d -2 -1 -1 4 85 -1 -1 5 86 -1 -1 6 87 -1 -1 7 -2 88 89 d -2 -1 -1 d -2 -1 -1 4 8b -1 -1 5 8c -1 -1 6 8d -1 -1 7 -2 8e 8f d -2 -1 -1 d -2 -1 -1 8 8h -1 -1 4 8i -1 -1 5 8j -1 -1 6 8k -1 -1 7 -2 -1 -1 7 8m -1 -1 4 8n -1 -1 5 8o -1 -1 6 8p -1 -1 8 -2 -1 -1 8 8r -1 -1 b 8s -1 -1 7 8t -1 -1 4 8u 9m aa 6 8v 9a 9g 9 8w -1 -1 5 8x 92 96 3 -2 8y 90 c 8z -1 -1 d -2 -1 -1 c 91 -1 -1 d -2 -1 -1 f 93 -1 -1 e 94 -1 -1 c 95 -1 -1 d -2 -1 -1 d 97 -1 -1 c 98 -1 -1 e 99 -1 -1 f -2 -1 -1 0 9b -1 -1 f 9c -1 -1 9 9d -1 -1 c 9e -1 -1 d 9f -1 -1 e -2 -1 -1 0 9h -1 -1 9 9i -1 -1 c 9j -1 -1 d 9k -1 -1 e 9l -1 -1 f -2 -1 -1 e 9n -1 -1 5 9o 9w a3 c 9p -1 -1 9 9q -1 -1 d 9r -1 -1 6 -2 9s 9u 0 9t -1 -1 f -2 -1 -1 0 9v -1 -1 f -2 -1 -1 f 9x -1 -1 c 9y -1 -1 9 9z -1 -1 d a0 -1 -1 0 -2 a1 a2 6 -2 -1 -1 6 -2 -1 -1 d a4 -1 -1 9 a5 -1 -1 c a6 -1 -1 f a7 -1 -1 0 -2 a8 a9 6 -2 -1 -1 6 -2 -1 -1 e ab -1 -1 9 ac -1 -1 c ad -1 -1 d ae -1 -1 6 af ai ak f -2 ag ah 5 -2 -1 -1 5 -2 -1 -1 0 aj -1 -1 f -2 -1 -1 0 al -1 -1 f -2 -1 -1 b an -1 -1 7 ao -1 -1 8 ap -1 -1 5 aq bk bs 9 ar -1 -1 6 as ba bf 3 at b0 b5 4 -2 au ax c av -1 -1 d aw -1 -1 e -2 -1 -1 c ay -1 -1 d az -1 -1 e -2 -1 -1 c b1 -1 -1 d b2 -1 -1 e -2 b3 b4 4 -2 -1 -1 4 -2 -1 -1 c b6 -1 -1 d b7 -1 -1 e -2 b8 b9 4 -2 -1 -1 4 -2 -1 -1 0 bb -1 -1 c bc -1 -1 d bd -1 -1 e be -1 -1 f -2 -1 -1 0 bg -1 -1 c bh -1 -1 d bi -1 -1 e bj -1 -1 f -2 -1 -1 f bl -1 -1 9 bm -1 -1 c bn -1 -1 d bo -1 -1 e bp -1 -1 0 -2 bq br 6 -2 -1 -1 6 -2 -1 -1 f bt -1 -1 9 bu -1 -1 c bv -1 -1 d bw -1 -1 e bx -1 -1 0 -2 by bz 6 -2 -1 -1 6 -2 -1 -1 0 c1 -1 -1 6 c2 f4 fm e c3 dr e8 4 c4 -1 -1 d c5 cn d0 1 c6 -1 -1 f c7 cd ci 3 c8 -1 -1 5 -2 c9 cb b ca -1 -1 c -2 -1 -1 b cc -1 -1 c -2 -1 -1 8 ce -1 -1 3 cf -1 -1 5 cg -1 -1 7 ch -1 -1 9 -2 -1 -1 3 cj -1 -1 5 ck -1 -1 7 cl -1 -1 8 cm -1 -1 9 -2 -1 -1 7 co -1 -1 3 cp -1 -1 f cq cs cw 5 cr -1 -1 1 -2 -1 -1 8 ct -1 -1 1 cu -1 -1 5 cv -1 -1 9 -2 -1 -1 1 cx -1 -1 5 cy -1 -1 8 cz -1 -1 9 -2 -1 -1 8 d1 d8 dm 1 d2 -1 -1 3 d3 -1 -1 5 d4 -1 -1 7 d5 -1 -1 f -2 d6 d7 9 -2 -1 -1 9 -2 -1 -1 7 d9 -1 -1 9 da de di f db -1 -1 1 dc -1 -1 3 dd -1 -1 5 -2 -1 -1 1 df -1 -1 3 dg -1 -1 5 dh -1 -1 f -2 -1 -1 5 dj -1 -1 1 dk -1 -1 3 dl -1 -1 f -2 -1 -1 7 dn -1 -1 1 do -1 -1 3 dp -1 -1 5 dq -1 -1 f -2 -1 -1 8 ds -1 -1 4 dt -1 -1 f du dy e3 1 dv -1 -1 7 dw -1 -1 3 dx -1 -1 5 -2 -1 -1 9 dz -1 -1 1 e0 -1 -1 3 e1 -1 -1 5 e2 -1 -1 7 -2 -1 -1 1 e4 -1 -1 3 e5 -1 -1 5 e6 -1 -1 7 e7 -1 -1 9 -2 -1 -1 8 e9 -1 -1 9 ea ef ey 1 eb -1 -1 3 ec -1 -1 4 ed -1 -1 5 ee -1 -1 7 -2 -1 -1 c eg em es 1 eh -1 -1 3 ei -1 -1 4 ej -1 -1 5 ek -1 -1 7 el -1 -1 f -2 -1 -1 f en -1 -1 7 eo -1 -1 1 ep -1 -1 3 eq -1 -1 4 er -1 -1 5 -2 -1 -1 1 et -1 -1 3 eu -1 -1 4 ev -1 -1 5 ew -1 -1 7 ex -1 -1 f -2 -1 -1 f ez -1 -1 1 f0 -1 -1 3 f1 -1 -1 4 f2 -1 -1 5 f3 -1 -1 7 -2 -1 -1 c f5 -1 -1 4 f6 -1 -1 e f7 -1 -1 b f8 fc fh d f9 -1 -1 f fa -1 -1 1 fb -1 -1 3 -2 -1 -1 5 fd -1 -1 d fe -1 -1 1 ff -1 -1 f fg -1 -1 3 -2 -1 -1 5 fi -1 -1 1 fj -1 -1 3 fk -1 -1 d fl -1 -1 f -2 -1 -1 4 fn -1 -1 b fo fu g1 d fp -1 -1 1 fq -1 -1 3 fr -1 -1 c fs -1 -1 e ft -1 -1 f -2 -1 -1 c fv -1 -1 5 fw -1 -1 1 fx -1 -1 3 fy -1 -1 d fz -1 -1 e g0 -1 -1 f -2 -1 -1 c g2 -1 -1 5 g3 -1 -1 1 g4 -1 -1 3 g5 -1 -1 d g6 -1 -1 e g7 -1 -1 f -2 -1 -1 6 g9 j4 l0 e ga hj i1 0 gb -1 -1 4 gc -1 -1 d gd gv ha 3 ge -1 -1 5 gf gn gr 1 gg -1 -1 f -2 gh gk 8 gi -1 -1 7 gj -1 -1 9 -2 -1 -1 7 gl -1 -1 8 gm -1 -1 9 -2 -1 -1 b go -1 -1 1 gp -1 -1 c gq -1 -1 f -2 -1 -1 1 gs -1 -1 b gt -1 -1 c gu -1 -1 f -2 -1 -1 7 gw -1 -1 f gx h0 h5 5 gy -1 -1 1 gz -1 -1 3 -2 -1 -1 9 h1 -1 -1 1 h2 -1 -1 3 h3 -1 -1 5 h4 -1 -1 8 -2 -1 -1 1 h6 -1 -1 3 h7 -1 -1 5 h8 -1 -1 8 h9 -1 -1 9 -2 -1 -1 7 hb -1 -1 5 hc -1 -1 1 hd -1 -1 3 he -1 -1 f -2 hf hh 9 hg -1 -1 8 -2 -1 -1 8 hi -1 -1 9 -2 -1 -1 8 hk -1 -1 0 hl -1 -1 1 hm -1 -1 f hn hr hw 3 ho -1 -1 4 hp -1 -1 5 hq -1 -1 7 -2 -1 -1 9 hs -1 -1 3 ht -1 -1 4 hu -1 -1 5 hv -1 -1 7 -2 -1 -1 9 hx -1 -1 3 hy -1 -1 4 hz -1 -1 5 i0 -1 -1 7 -2 -1 -1 0 i2 -1 il 8 i3 -1 -1 9 i4 i9 if 3 i5 -1 -1 4 i6 -1 -1 1 i7 -1 -1 5 i8 -1 -1 7 -2 -1 -1 f ia -1 -1 1 ib -1 -1 3 ic -1 -1 4 id -1 -1 5 ie -1 -1 7 -2 -1 -1 f ig -1 -1 1 ih -1 -1 3 ii -1 -1 4 ij -1 -1 5 ik -1 -1 7 -2 -1 -1 8 -1 -1 im 1 in it iz 7 -1 -1 io 9 -1 -1 ip b -1 -1 iq c -1 -1 ir d -1 -1 is f -1 -1 -3 7 -1 -1 iu f -1 -1 iv 9 -1 -1 iw b -1 -1 ix c -1 -1 iy d -1 -1 -3 b -1 -1 j0 9 -1 -1 j1 c -1 -1 j2 d -1 -1 j3 f -1 -1 -3 c j5 -1 ke 4 j6 -1 -1 f j7 -1 -1 8 j8 jg jy 0 j9 -1 -1 1 ja -1 -1 3 jb -1 -1 d jc -1 -1 e jd -1 -1 5 -2 je jf b -2 -1 -1 b -2 -1 -1 5 jh jm js 3 ji -1 -1 1 jj -1 -1 e jk -1 -1 0 jl -1 -1 d -2 -1 -1 b jn -1 -1 0 jo -1 -1 1 jp -1 -1 3 jq -1 -1 d jr -1 -1 e -2 -1 -1 0 jt -1 -1 1 ju -1 -1 3 jv -1 -1 b jw -1 -1 d jx -1 -1 e -2 -1 -1 e jz -1 -1 5 k0 k4 k9 1 k1 -1 -1 3 k2 -1 -1 0 k3 -1 -1 d -2 -1 -1 b k5 -1 -1 0 k6 -1 -1 1 k7 -1 -1 3 k8 -1 -1 d -2 -1 -1 0 ka -1 -1 1 kb -1 -1 3 kc -1 -1 b kd -1 -1 d -2 -1 -1 0 -1 -1 kf 7 kg kn ku 8 -1 -1 kh 1 -1 -1 ki 9 -1 -1 kj b -1 -1 kk d -1 -1 kl e -1 -1 km f -1 -1 -3 8 -1 -1 ko 1 -1 -1 kp 9 -1 -1 kq b -1 -1 kr d -1 -1 ks e -1 -1 kt f -1 -1 -3 e -1 -1 kv f -1 -1 kw 8 -1 -1 kx 9 -1 -1 ky b -1 -1 kz d -1 -1 -3 e l1 m4 mq 4 l2 -1 ll c l3 -1 -1 5 l4 l9 lf 0 l5 -1 -1 1 l6 -1 -1 f l7 -1 -1 3 l8 -1 -1 d -2 -1 -1 b la -1 -1 0 lb -1 -1 1 lc -1 -1 3 ld -1 -1 d le -1 -1 f -2 -1 -1 b lg -1 -1 0 lh -1 -1 1 li -1 -1 3 lj -1 -1 d lk -1 -1 f -2 -1 -1 c -1 -1 lm 3 ln lt lz d -1 -1 lo 5 -1 -1 lp 7 -1 -1 lq 8 -1 -1 lr 9 -1 -1 ls b -1 -1 -3 d -1 -1 lu 9 -1 -1 lv 5 -1 -1 lw 7 -1 -1 lx 8 -1 -1 ly b -1 -1 -3 8 -1 -1 m0 5 -1 -1 m1 9 -1 -1 m2 7 -1 -1 m3 b -1 -1 -3 4 -1 -1 m5 d m6 md mk c -1 -1 m7 3 -1 -1 m8 5 -1 -1 m9 7 -1 -1 ma 8 -1 -1 mb 9 -1 -1 mc b -1 -1 -3 c -1 -1 me 3 -1 -1 mf 9 -1 -1 mg 5 -1 -1 mh 7 -1 -1 mi 8 -1 -1 mj b -1 -1 -3 8 -1 -1 ml b -1 -1 mm c -1 -1 mn 5 -1 -1 mo 7 -1 -1 mp 9 -1 -1 -3 8 -1 -1 mr 5 ms na nq f -1 -1 mt 7 mu n0 n6 0 -1 -1 mv 1 -1 -1 mw 9 -1 -1 mx b -1 -1 my c -1 -1 mz d -1 -1 -3 0 -1 -1 n1 1 -1 -1 n2 9 -1 -1 n3 b -1 -1 n4 c -1 -1 n5 d -1 -1 -3 9 -1 -1 n7 b -1 -1 n8 c -1 -1 n9 d -1 -1 -3 f -1 -1 nb 9 -1 -1 nc 7 nd ni nn 0 -1 -1 ne 1 -1 -1 nf b -1 -1 ng c -1 -1 nh d -1 -1 -3 1 -1 -1 nj 0 -1 -1 nk b -1 -1 nl c -1 -1 nm d -1 -1 -3 b -1 -1 no c -1 -1 np d -1 -1 -3 c -1 -1 nr 7 ns ny o4 0 -1 -1 nt 1 -1 -1 nu 9 -1 -1 nv b -1 -1 nw d -1 -1 nx f -1 -1 -3 1 -1 -1 nz 0 -1 -1 o0 9 -1 -1 o1 b -1 -1 o2 d -1 -1 o3 f -1 -1 -3 d o5 o9 od 3 -1 -1 o6 4 -1 -1 o7 9 -1 -1 o8 b -1 -1 -3 3 -1 -1 oa 4 -1 -1 ob 9 -1 -1 oc b -1 -1 -3 9 -1 -1 oe b -1 -1 -3 8 og -1 rx e oh qv re 6 oi pt qb c oj -1 -1 5 ok p5 pj 9 ol -1 -1 a om -1 -1 7 on ov p0 d oo op os b -2 -1 -1 4 oq -1 -1 b or -1 -1 3 -2 -1 -1 3 ot -1 -1 4 ou -1 -1 b -2 -1 -1 0 ow -1 -1 1 ox -1 -1 b oy -1 -1 d oz -1 -1 f -2 -1 -1 0 p1 -1 -1 1 p2 -1 -1 b p3 -1 -1 d p4 -1 -1 f -2 -1 -1 f p6 -1 -1 b p7 -1 -1 a p8 -1 -1 7 p9 pb pf 9 pa -1 -1 d -2 -1 -1 1 pc -1 -1 0 pd -1 -1 9 pe -1 -1 d -2 -1 -1 0 pg -1 -1 1 ph -1 -1 9 pi -1 -1 d -2 -1 -1 f pk -1 -1 9 pl -1 -1 a pm -1 -1 b pn -1 -1 d po -1 -1 7 -2 pp pr 0 pq -1 -1 1 -2 -1 -1 0 ps -1 -1 1 -2 -1 -1 0 pu -1 -1 a pv -1 -1 c pw -1 -1 7 px q1 q6 b py -1 -1 f pz -1 -1 9 q0 -1 -1 d -2 -1 -1 1 q2 -1 -1 b q3 -1 -1 d q4 -1 -1 9 q5 -1 -1 f -2 -1 -1 1 q7 -1 -1 9 q8 -1 -1 b q9 -1 -1 d qa -1 -1 f -2 -1 -1 0 qc -1 -1 b qd -1 -1 1 qe qj qp a qf -1 -1 d qg -1 -1 f qh -1 -1 9 qi -1 -1 c -2 -1 -1 7 qk -1 -1 9 ql -1 -1 a qm -1 -1 c qn -1 -1 d qo -1 -1 f -2 -1 -1 7 qq -1 -1 9 qr -1 -1 a qs -1 -1 c qt -1 -1 d qu -1 -1 f -2 -1 -1 c qw -1 -1 4 qx -1 -1 6 qy -1 -1 a qz -1 -1 d r0 r4 r9 9 r1 -1 -1 7 r2 -1 -1 b r3 -1 -1 5 -2 -1 -1 3 r5 -1 -1 b r6 -1 -1 5 r7 -1 -1 9 r8 -1 -1 7 -2 -1 -1 3 ra -1 -1 5 rb -1 -1 7 rc -1 -1 9 rd -1 -1 b -2 -1 -1 c rf -1 -1 4 rg -1 -1 a rh -1 -1 5 ri -1 -1 3 rj rn rs 6 rk -1 -1 7 rl -1 -1 9 rm -1 -1 b -2 -1 -1 d ro -1 -1 6 rp -1 -1 7 rq -1 -1 9 rr -1 -1 b -2 -1 -1 6 rt -1 -1 7 ru -1 -1 9 rv -1 -1 b rw -1 -1 d -2 -1 -1 e ry sl t4 c -1 -1 rz 4 -1 -1 s0 3 s1 s8 sf 5 -1 -1 s2 6 -1 -1 s3 7 -1 -1 s4 9 -1 -1 s5 a -1 -1 s6 b -1 -1 s7 d -1 -1 -3 d -1 -1 s9 a -1 -1 sa 9 -1 -1 sb 5 -1 -1 sc 6 -1 -1 sd 7 -1 -1 se b -1 -1 -3 6 -1 -1 sg 9 -1 -1 sh 5 -1 -1 si 7 -1 -1 sj a -1 -1 sk b -1 -1 -3 4 -1 -1 sm c -1 -1 sn a -1 -1 so 6 -1 -1 sp d sq sv t0 3 -1 -1 sr 5 -1 -1 ss 7 -1 -1 st 9 -1 -1 su b -1 -1 -3 3 -1 -1 sw b -1 -1 sx 7 -1 -1 sy 9 -1 -1 sz 5 -1 -1 -3 7 -1 -1 t1 9 -1 -1 t2 5 -1 -1 t3 b -1 -1 -3 6 t5 tr u9 0 -1 -1 t6 1 t7 te tl 7 -1 -1 t8 9 -1 -1 t9 a -1 -1 ta b -1 -1 tb c -1 -1 tc d -1 -1 td f -1 -1 -3 7 -1 -1 tf a -1 -1 tg 9 -1 -1 th b -1 -1 ti c -1 -1 tj d -1 -1 tk f -1 -1 -3 b -1 -1 tm 9 -1 -1 tn a -1 -1 to c -1 -1 tp d -1 -1 tq f -1 -1 -3 0 -1 -1 ts b -1 -1 tt a -1 -1 tu 7 tv u0 u5 1 -1 -1 tw 9 -1 -1 tx c -1 -1 ty d -1 -1 tz f -1 -1 -3 1 -1 -1 u1 d -1 -1 u2 f -1 -1 u3 9 -1 -1 u4 c -1 -1 -3 c -1 -1 u6 f -1 -1 u7 9 -1 -1 u8 d -1 -1 -3 c -1 -1 ua 5 ub ul v1 f -1 -1 uc 9 -1 -1 ud a -1 -1 ue b -1 -1 uf d -1 -1 ug 7 uh uj -3 0 -1 -1 ui 1 -1 -1 -3 0 -1 -1 uk 1 -1 -1 -3 f -1 -1 um b -1 -1 un 7 uo ut uy 0 -1 -1 up 1 -1 -1 uq 9 -1 -1 ur a -1 -1 us d -1 -1 -3 1 -1 -1 uu 9 -1 -1 uv 0 -1 -1 uw a -1 -1 ux d -1 -1 -3 d -1 -1 uz 9 -1 -1 v0 a -1 -1 -3 9 -1 -1 v2 a -1 -1 v3 7 v4 v9 ve 0 -1 -1 v5 1 -1 -1 v6 b -1 -1 v7 d -1 -1 v8 f -1 -1 -3 0 -1 -1 va 1 -1 -1 vb b -1 -1 vc d -1 -1 vd f -1 -1 -3 d vf vi vl 3 -1 -1 vg 4 -1 -1 vh b -1 -1 -3 3 -1 -1 vj 4 -1 -1 vk b -1 -1 -3 b -1 -1 -3 a vn 13o 170 6 vo z8 10j e vp xa xw 5 vq wi wz c vr -1 -1 7 vs w4 wb 8 vt -1 -1 d vu vw w0 9 vv -1 -1 b -2 -1 -1 3 vx -1 -1 4 vy -1 -1 9 vz -1 -1 b -2 -1 -1 3 w1 -1 -1 4 w2 -1 -1 9 w3 -1 -1 b -2 -1 -1 1 w5 -1 -1 0 w6 -1 -1 8 w7 -1 -1 9 w8 -1 -1 b w9 -1 -1 d wa -1 -1 f -2 -1 -1 0 wc -1 -1 1 wd -1 -1 8 we -1 -1 9 wf -1 -1 b wg -1 -1 d wh -1 -1 f -2 -1 -1 f wj -1 -1 8 wk -1 -1 9 wl -1 -1 7 wm wp wu d wn -1 -1 b wo -1 -1 c -2 -1 -1 1 wq -1 -1 0 wr -1 -1 b ws -1 -1 c wt -1 -1 d -2 -1 -1 0 wv -1 -1 1 ww -1 -1 b wx -1 -1 c wy -1 -1 d -2 -1 -1 f x0 -1 -1 d x1 -1 -1 9 x2 -1 -1 8 x3 -1 -1 b x4 -1 -1 c x5 -1 -1 7 -2 x6 x8 0 x7 -1 -1 1 -2 -1 -1 0 x9 -1 -1 1 -2 -1 -1 4 xb -1 -1 d xc xi xp 9 xd -1 -1 b xe -1 -1 5 xf -1 -1 7 xg -1 -1 8 xh -1 -1 c -2 -1 -1 c xj -1 -1 3 xk -1 -1 5 xl -1 -1 7 xm -1 -1 8 xn -1 -1 9 xo -1 -1 b -2 -1 -1 c xq -1 -1 3 xr -1 -1 5 xs -1 -1 7 xt -1 -1 8 xu -1 -1 9 xv -1 -1 b -2 -1 -1 4 xx -1 yg c xy -1 -1 3 xz y4 ya 9 y0 -1 -1 5 y1 -1 -1 7 y2 -1 -1 8 y3 -1 -1 b -2 -1 -1 d y5 -1 -1 5 y6 -1 -1 7 y7 -1 -1 8 y8 -1 -1 9 y9 -1 -1 b -2 -1 -1 d yb -1 -1 5 yc -1 -1 7 yd -1 -1 8 ye -1 -1 9 yf -1 -1 b -2 -1 -1 c -1 -1 yh b yi yo yu 5 -1 -1 yj 0 -1 -1 yk 1 -1 -1 yl 3 -1 -1 ym d -1 -1 yn f -1 -1 -3 5 -1 -1 yp 0 -1 -1 yq 1 -1 -1 yr 3 -1 -1 ys d -1 -1 yt f -1 -1 -3 0 -1 -1 yv 5 yw z0 z4 1 -1 -1 yx 3 -1 -1 yy d -1 -1 yz f -1 -1 -3 1 -1 -1 z1 3 -1 -1 z2 d -1 -1 z3 f -1 -1 -3 d -1 -1 z5 f -1 -1 z6 1 -1 -1 z7 3 -1 -1 -3 c z9 -1 zv 0 za -1 -1 7 zb zh zo e zc -1 -1 8 zd -1 -1 9 ze -1 -1 b zf -1 -1 d zg -1 -1 f -2 -1 -1 8 zi -1 -1 1 zj -1 -1 9 zk -1 -1 b zl -1 -1 d zm -1 -1 e zn -1 -1 f -2 -1 -1 8 zp -1 -1 1 zq -1 -1 9 zr -1 -1 b zs -1 -1 d zt -1 -1 e zu -1 -1 f -2 -1 -1 5 zw 104 10c 4 -1 -1 zx 0 -1 -1 zy 1 -1 -1 zz 3 -1 -1 100 b -1 -1 101 d -1 -1 102 e -1 -1 103 f -1 -1 -3 4 -1 -1 105 b -1 -1 106 e -1 -1 107 0 -1 -1 108 1 -1 -1 109 3 -1 -1 10a d -1 -1 10b f -1 -1 -3 e -1 -1 10d 0 -1 -1 10e 1 -1 -1 10f 3 -1 -1 10g 4 -1 -1 10h d -1 -1 10i f -1 -1 -3 e 10k 11p 12b 0 10l -1 116 7 10m 10s 10z b 10n -1 -1 c 10o -1 -1 8 10p -1 -1 9 10q -1 -1 d 10r -1 -1 f -2 -1 -1 1 10t -1 -1 8 10u -1 -1 b 10v -1 -1 c 10w -1 -1 d 10x -1 -1 9 10y -1 -1 f -2 -1 -1 8 110 -1 -1 1 111 -1 -1 b 112 -1 -1 9 113 -1 -1 c 114 -1 -1 d 115 -1 -1 f -2 -1 -1 8 -1 -1 117 f 118 11e 11k 9 -1 -1 119 1 -1 -1 11a 3 -1 -1 11b 4 -1 -1 11c 5 -1 -1 11d 7 -1 -1 -3 9 -1 -1 11f 3 -1 -1 11g 1 -1 -1 11h 4 -1 -1 11i 5 -1 -1 11j 7 -1 -1 -3 5 -1 -1 11l 4 -1 -1 11m 1 -1 -1 11n 3 -1 -1 11o 7 -1 -1 -3 8 -1 -1 11q f 11r 11y 125 0 -1 -1 11s 1 -1 -1 11t 3 -1 -1 11u 4 -1 -1 11v 5 -1 -1 11w 7 -1 -1 11x 9 -1 -1 -3 0 -1 -1 11z 9 -1 -1 120 1 -1 -1 121 3 -1 -1 122 4 -1 -1 123 5 -1 -1 124 7 -1 -1 -3 3 -1 -1 126 0 -1 -1 127 1 -1 -1 128 4 -1 -1 129 5 -1 -1 12a 7 -1 -1 -3 0 -1 -1 12c 7 12d 12n 133 d -1 -1 12e 1 -1 -1 12f 4 -1 -1 12g 3 -1 -1 12h f -1 -1 12i 5 12j 12l -3 b -1 -1 12k c -1 -1 -3 b -1 -1 12m c -1 -1 -3 d -1 -1 12o 1 -1 -1 12p 5 12q 12v 130 3 -1 -1 12r 4 -1 -1 12s b -1 -1 12t c -1 -1 12u f -1 -1 -3 b -1 -1 12w 3 -1 -1 12x 4 -1 -1 12y c -1 -1 12z f -1 -1 -3 3 -1 -1 131 f -1 -1 132 4 -1 -1 -3 4 -1 -1 134 3 -1 -1 135 f 136 13a 13e 8 -1 -1 137 1 -1 -1 138 5 -1 -1 139 9 -1 -1 -3 8 -1 -1 13b 1 -1 -1 13c 5 -1 -1 13d 9 -1 -1 -3 5 13f 13j 13n 1 -1 -1 13g b -1 -1 13h c -1 -1 13i d -1 -1 -3 b -1 -1 13k 1 -1 -1 13l c -1 -1 13m d -1 -1 -3 1 -1 -1 -3 0 -1 -1 13p 6 13q 146 14o 4 -1 -1 13r c -1 -1 13s e -1 -1 13t d -1 -1 13u b 13v 13z 143 1 -1 -1 13w 3 -1 -1 13x 5 -1 -1 13y f -1 -1 -3 5 -1 -1 140 1 -1 -1 141 3 -1 -1 142 f -1 -1 -3 1 -1 -1 144 3 -1 -1 145 f -1 -1 -3 c -1 -1 147 4 -1 -1 148 e -1 -1 149 5 14a 14f 14k b -1 -1 14b 1 -1 -1 14c 3 -1 -1 14d d -1 -1 14e f -1 -1 -3 b -1 -1 14g 3 -1 -1 14h f -1 -1 14i 1 -1 -1 14j d -1 -1 -3 1 -1 -1 14l 3 -1 -1 14m d -1 -1 14n f -1 -1 -3 e 14p 156 15n 8 -1 -1 14q 4 -1 -1 14r 9 14s 14x 152 f -1 -1 14t 1 -1 -1 14u 3 -1 -1 14v 5 -1 -1 14w 7 -1 -1 -3 f -1 -1 14y 1 -1 -1 14z 3 -1 -1 150 5 -1 -1 151 7 -1 -1 -3 1 -1 -1 153 3 -1 -1 154 5 -1 -1 155 7 -1 -1 -3 8 -1 -1 157 4 -1 -1 158 f 159 15e 15j 1 -1 -1 15a 3 -1 -1 15b 5 -1 -1 15c 7 -1 -1 15d 9 -1 -1 -3 9 -1 -1 15f 1 -1 -1 15g 7 -1 -1 15h 5 -1 -1 15i 3 -1 -1 -3 7 -1 -1 15k 1 -1 -1 15l 3 -1 -1 15m 5 -1 -1 -3 d 15o 15y 16c 7 -1 -1 15p 4 -1 -1 15q 1 -1 -1 15r 3 -1 -1 15s 5 -1 -1 15t f 15u 15w -3 8 -1 -1 15v 9 -1 -1 -3 8 -1 -1 15x 9 -1 -1 -3 7 -1 -1 15z 4 -1 -1 160 3 -1 -1 161 f 162 166 16a 1 -1 -1 163 5 -1 -1 164 8 -1 -1 165 9 -1 -1 -3 9 -1 -1 167 8 -1 -1 168 1 -1 -1 169 5 -1 -1 -3 5 -1 -1 16b 1 -1 -1 -3 4 -1 -1 16d 1 -1 -1 16e f 16f 16k 16p 3 -1 -1 16g 5 -1 -1 16h 7 -1 -1 16i 8 -1 -1 16j 9 -1 -1 -3 9 -1 -1 16l 8 -1 -1 16m 3 -1 -1 16n 5 -1 -1 16o 7 -1 -1 -3 3 -1 -1 16q 5 16r 16t -3 b -1 -1 16s c -1 -1 -3 9 16u 16w 16y b -1 -1 16v c -1 -1 -3 c -1 -1 16x b -1 -1 -3 b -1 -1 16z c -1 -1 -3 9 171 187 1ad 0 -1 -1 172 3 -1 -1 173 f -1 -1 174 1 -1 -1 175 d 176 17d 17k 4 -1 -1 177 5 -1 -1 178 6 -1 -1 179 7 -1 -1 17a 8 17b 17c -3 e -1 -1 -3 e -1 -1 -3 6 -1 -1 17e 4 -1 -1 17f 5 -1 -1 17g 7 -1 -1 17h 8 17i 17j -3 e -1 -1 -3 e -1 -1 -3 e 17l 17q 17v 4 -1 -1 17m 5 -1 -1 17n 6 -1 -1 17o 7 -1 -1 17p 8 -1 -1 -3 4 -1 -1 17r 5 -1 -1 17s 6 -1 -1 17t 7 -1 -1 17u 8 -1 -1 -3 c 17w 17z 182 4 -1 -1 17x 5 -1 -1 17y 6 -1 -1 -3 6 -1 -1 180 4 -1 -1 181 5 -1 -1 -3 b 183 185 -3 4 -1 -1 184 5 -1 -1 -3 4 -1 -1 186 5 -1 -1 -3 0 -1 -1 188 3 -1 -1 189 f -1 -1 18a c 18b 18n 19d 4 -1 -1 18c 1 -1 -1 18d 5 -1 -1 18e 6 -1 -1 18f 7 18g 18i 18k d -1 -1 18h e -1 -1 -3 d -1 -1 18j e -1 -1 -3 e 18l 18m -3 8 -1 -1 -3 8 -1 -1 -3 7 18o 18u 190 6 -1 -1 18p 1 -1 -1 18q 4 -1 -1 18r 5 -1 -1 18s d -1 -1 18t e -1 -1 -3 6 -1 -1 18v 4 -1 -1 18w d -1 -1 18x 1 -1 -1 18y 5 -1 -1 18z e -1 -1 -3 4 -1 -1 191 e 192 196 19a 1 -1 -1 193 5 -1 -1 194 6 -1 -1 195 8 -1 -1 -3 8 -1 -1 197 1 -1 -1 198 5 -1 -1 199 6 -1 -1 -3 1 -1 -1 19b 5 -1 -1 19c 6 -1 -1 -3 1 -1 -1 19e e 19f 19k 19p 4 -1 -1 19g 5 -1 -1 19h 6 -1 -1 19i 7 -1 -1 19j 8 -1 -1 -3 7 -1 -1 19l 5 -1 -1 19m 4 -1 -1 19n 6 -1 -1 19o 8 -1 -1 -3 b 19q 19x 1a4 4 -1 -1 19r 5 -1 -1 19s d 19t 19v -3 6 -1 -1 19u 7 -1 -1 -3 6 -1 -1 19w 7 -1 -1 -3 5 -1 -1 19y 4 -1 -1 19z d 1a0 1a2 -3 6 -1 -1 1a1 7 -1 -1 -3 6 -1 -1 1a3 7 -1 -1 -3 d 1a5 1a9 -3 4 -1 -1 1a6 5 -1 -1 1a7 6 -1 -1 1a8 7 -1 -1 -3 4 -1 -1 1aa 6 -1 -1 1ab 5 -1 -1 1ac 7 -1 -1 -3 b 1ae 1bv 1cw 1 -1 -1 1af 4 -1 -1 1ag 5 -1 -1 1ah 3 -1 -1 1ai 8 1aj 1au 1b5 0 -1 -1 1ak e -1 -1 1al f -1 -1 1am 6 1an 1ap 1ar c -1 -1 1ao d -1 -1 -3 c -1 -1 1aq d -1 -1 -3 d 1as 1at -3 7 -1 -1 -3 7 -1 -1 -3 e -1 -1 1av 0 -1 -1 1aw f -1 -1 1ax 6 1ay 1b0 1b2 c -1 -1 1az d -1 -1 -3 c -1 -1 1b1 d -1 -1 -3 d 1b3 1b4 -3 7 -1 -1 -3 7 -1 -1 -3 7 1b6 1bd 1bk 0 -1 -1 1b7 d -1 -1 1b8 e -1 -1 1b9 f -1 -1 1ba 6 1bb 1bc -3 c -1 -1 -3 c -1 -1 -3 d -1 -1 1be 0 -1 -1 1bf e -1 -1 1bg f -1 -1 1bh 6 1bi 1bj -3 c -1 -1 -3 c -1 -1 -3 6 1bl 1bq -3 0 -1 -1 1bm c -1 -1 1bn d -1 -1 1bo e -1 -1 1bp f -1 -1 -3 0 -1 -1 1br c -1 -1 1bs d -1 -1 1bt e -1 -1 1bu f -1 -1 -3 1 -1 -1 1bw 4 -1 -1 1bx 5 -1 -1 1by 3 -1 -1 1bz 6 1c0 1c5 1ca c -1 -1 1c1 0 -1 -1 1c2 d -1 -1 1c3 e -1 -1 1c4 f -1 -1 -3 c -1 -1 1c6 f -1 -1 1c7 0 -1 -1 1c8 d -1 -1 1c9 e -1 -1 -3 8 1cb 1ch 1cn 0 -1 -1 1cc e -1 -1 1cd f -1 -1 1ce d 1cf 1cg -3 7 -1 -1 -3 7 -1 -1 -3 e -1 -1 1ci 0 -1 -1 1cj f -1 -1 1ck 7 1cl 1cm -3 d -1 -1 -3 d -1 -1 -3 7 1co 1cs -3 0 -1 -1 1cp d -1 -1 1cq e -1 -1 1cr f -1 -1 -3 d -1 -1 1ct 0 -1 -1 1cu f -1 -1 1cv e -1 -1 -3 7 1cx 1dj 1dz 0 -1 -1 1cy c 1cz 1d7 1df 6 -1 -1 1d0 1 -1 -1 1d1 3 -1 -1 1d2 4 -1 -1 1d3 5 -1 -1 1d4 d -1 -1 1d5 e -1 -1 1d6 f -1 -1 -3 6 -1 -1 1d8 d -1 -1 1d9 1 -1 -1 1da 3 -1 -1 1db 4 -1 -1 1dc 5 -1 -1 1dd e -1 -1 1de f -1 -1 -3 1 -1 -1 1dg d -1 -1 1dh f -1 -1 1di e -1 -1 -3 0 -1 -1 1dk e -1 -1 1dl d -1 -1 1dm 1 -1 -1 1dn c 1do 1dt 1dy 3 -1 -1 1dp 4 -1 -1 1dq 5 -1 -1 1dr 6 -1 -1 1ds f -1 -1 -3 4 -1 -1 1du 6 -1 -1 1dv 3 -1 -1 1dw 5 -1 -1 1dx f -1 -1 -3 f -1 -1 -3 4 1e0 1em 1fc c -1 -1 1e1 f 1e2 1e7 1ec 5 -1 -1 1e3 6 -1 -1 1e4 8 -1 -1 1e5 d -1 -1 1e6 e -1 -1 -3 5 -1 -1 1e8 d -1 -1 1e9 e -1 -1 1ea 6 -1 -1 1eb 8 -1 -1 -3 d -1 -1 1ed e -1 -1 1ee 0 1ef 1eh 1ej 6 -1 -1 1eg 8 -1 -1 -3 6 -1 -1 1ei 8 -1 -1 -3 8 1ek 1el -3 1 -1 -1 -3 1 -1 -1 -3 c -1 -1 1en e -1 -1 1eo d -1 -1 1ep 0 1eq 1ev 1f2 6 -1 -1 1er 8 -1 -1 1es 5 1et 1eu -3 f -1 -1 -3 f -1 -1 -3 6 -1 -1 1ew f 1ex 1ez 1f1 5 -1 -1 1ey 8 -1 -1 -3 5 -1 -1 1f0 8 -1 -1 -3 8 -1 -1 -3 f 1f3 1f6 1f9 5 -1 -1 1f4 6 -1 -1 1f5 8 -1 -1 -3 5 -1 -1 1f7 6 -1 -1 1f8 8 -1 -1 -3 1 1fa 1fb -3 8 -1 -1 -3 8 -1 -1 -3 8 1fd 1fw 1gg 0 -1 -1 1fe 1 -1 -1 1ff e -1 -1 1fg f -1 -1 1fh 3 1fi 1fk 1fm c -1 -1 1fj d -1 -1 -3 c -1 -1 1fl d -1 -1 -3 d 1fn 1fp 1fr 5 -1 -1 1fo 6 -1 -1 -3 5 -1 -1 1fq 6 -1 -1 -3 c 1fs 1fu -3 5 -1 -1 1ft 6 -1 -1 -3 5 -1 -1 1fv 6 -1 -1 -3 0 -1 -1 1fx e -1 -1 1fy f -1 -1 1fz c 1g0 1g4 1g8 1 -1 -1 1g1 3 -1 -1 1g2 5 -1 -1 1g3 6 -1 -1 -3 5 -1 -1 1g5 1 -1 -1 1g6 3 -1 -1 1g7 6 -1 -1 -3 1 -1 -1 1g9 d 1ga 1gd -3 3 -1 -1 1gb 5 -1 -1 1gc 6 -1 -1 -3 3 -1 -1 1ge 5 -1 -1 1gf 6 -1 -1 -3 6 1gh 1gm 1gr f -1 -1 1gi e -1 -1 1gj 0 -1 -1 1gk c -1 -1 1gl d -1 -1 -3 e -1 -1 1gn f -1 -1 1go c -1 -1 1gp 0 -1 -1 1gq d -1 -1 -3 5 1gs 1gw 1h0 c -1 -1 1gt d -1 -1 1gu e -1 -1 1gv f -1 -1 -3 d -1 -1 1gx f -1 -1 1gy c -1 -1 1gz e -1 -1 -3 3 1h1 1h3 -3 c -1 -1 1h2 d -1 -1 -3 d -1 -1 1h4 c -1 -1 -3"};
+	}
+
+	private static class Tree11 {
+		static final String DATA[] = new String[]{
+			"11 1563 a 1 id oc 2 2 8q bc 1 3 6l 7q 3 4 56 5y 9 5 3p 4g b 6 29 35 6 7 1z 24 4 8 1d 1o 8 9 v 14 5 a l q 7 -2 b g d c -1 -1 0 d -1 -1 f e -1 -1 c f -1 -1 e -2 -1 -1 0 h -1 -1 c i -1 -1 d j -1 -1 e k -1 -1 f -2 -1 -1 e m -1 -1 c n -1 -1 0 o -1 -1 d p -1 -1 f -2 -1 -1 d r -1 -1 0 s -1 -1 c t -1 -1 e u -1 -1 f -2 -1 -1 0 w -1 -1 d x -1 -1 f y -1 -1 e z -1 -1 c -2 10 12 5 11 -1 -1 7 -2 -1 -1 5 13 -1 -1 7 -2 -1 -1 0 15 -1 -1 d 16 -1 -1 e 17 -1 -1 f 18 -1 -1 c -2 19 1b 5 1a -1 -1 7 -2 -1 -1 5 1c -1 -1 7 -2 -1 -1 c 1e -1 -1 e 1f -1 -1 d 1g -1 -1 f 1h -1 -1 0 -2 1i 1l 5 1j -1 -1 7 1k -1 -1 8 -2 -1 -1 5 1m -1 -1 7 1n -1 -1 8 -2 -1 -1 d 1p -1 -1 e 1q -1 -1 c 1r -1 -1 f 1s -1 -1 0 -2 1t 1w 5 1u -1 -1 7 1v -1 -1 8 -2 -1 -1 5 1x -1 -1 7 1y -1 -1 8 -2 -1 -1 e 20 -1 -1 c 21 -1 -1 0 22 -1 -1 d 23 -1 -1 f -2 -1 -1 e 25 -1 -1 c 26 -1 -1 0 27 -1 -1 d 28 -1 -1 f -2 -1 -1 0 2a -1 -1 5 2b -1 -1 4 2c -1 -1 6 2d -1 -1 8 2e 2n 2z 7 -2 2f 2j c 2g -1 -1 d 2h -1 -1 e 2i -1 -1 f -2 -1 -1 c 2k -1 -1 d 2l -1 -1 e 2m -1 -1 f -2 -1 -1 c 2o 2r 2v d 2p -1 -1 e 2q -1 -1 f -2 -1 -1 d 2s -1 -1 7 2t -1 -1 e 2u -1 -1 f -2 -1 -1 7 2w -1 -1 d 2x -1 -1 e 2y -1 -1 f -2 -1 -1 d 30 -1 -1 e 31 -1 -1 f 32 -1 -1 7 -2 33 34 c -2 -1 -1 c -2 -1 -1 0 36 -1 -1 4 37 -1 -1 5 38 -1 -1 6 39 -1 -1 7 3a 3h 3l 8 -2 3b 3e d 3c -1 -1 e 3d -1 -1 f -2 -1 -1 d 3f -1 -1 e 3g -1 -1 f -2 -1 -1 c 3i -1 -1 d 3j -1 -1 e 3k -1 -1 f -2 -1 -1 c 3m -1 -1 d 3n -1 -1 e 3o -1 -1 f -2 -1 -1 f 3q -1 -1 4 3r -1 -1 0 3s -1 -1 d 3t 46 4b e 3u -1 -1 c 3v 40 43 b -2 3w 3y 5 3x -1 -1 6 -2 -1 -1 5 3z -1 -1 6 -2 -1 -1 7 41 -1 -1 5 42 -1 -1 6 -2 -1 -1 5 44 -1 -1 6 45 -1 -1 7 -2 -1 -1 8 47 -1 -1 e 48 -1 -1 6 49 -1 -1 5 4a -1 -1 7 -2 -1 -1 e 4c -1 -1 5 4d -1 -1 6 4e -1 -1 7 4f -1 -1 8 -2 -1 -1 4 4h -1 -1 0 4i -1 -1 f 4j -1 -1 e 4k -1 -1 5 4l 50 53 d 4m 4u 4x 6 4n 4q 4s c -2 4o 4p 7 -2 -1 -1 7 -2 -1 -1 b 4r -1 -1 c -2 -1 -1 b 4t -1 -1 c -2 -1 -1 6 4v -1 -1 7 4w -1 -1 8 -2 -1 -1 6 4y -1 -1 7 4z -1 -1 8 -2 -1 -1 b 51 -1 -1 c 52 -1 -1 d -2 -1 -1 b 54 -1 -1 c 55 -1 -1 d -2 -1 -1 8 57 -1 -1 c 58 -1 -1 d 59 -1 -1 e 5a -1 -1 b 5b -1 -1 9 5c -1 -1 0 5d 5m 5s f -2 5e 5i 4 5f -1 -1 5 5g -1 -1 6 5h -1 -1 7 -2 -1 -1 4 5j -1 -1 5 5k -1 -1 6 5l -1 -1 7 -2 -1 -1 5 5n -1 -1 6 5o -1 -1 7 5p -1 -1 4 -2 5q 5r f -2 -1 -1 f -2 -1 -1 5 5t -1 -1 6 5u -1 -1 7 5v -1 -1 4 -2 5w 5x f -2 -1 -1 f -2 -1 -1 8 5z -1 -1 d 60 -1 -1 c 61 -1 -1 e 62 -1 -1 9 63 -1 -1 b 64 -1 -1 7 65 6h 6j f 66 6b 6e 0 -2 67 69 5 68 -1 -1 6 -2 -1 -1 5 6a -1 -1 6 -2 -1 -1 4 6c -1 -1 5 6d -1 -1 6 -2 -1 -1 4 6f -1 -1 5 6g -1 -1 6 -2 -1 -1 0 6i -1 -1 f -2 -1 -1 0 6k -1 -1 f -2 -1 -1 8 6m -1 -1 c 6n -1 -1 7 6o -1 -1 5 6p 7c 7j 9 6q -1 -1 6 6r -1 -1 3 6s 70 76 b 6t -1 -1 4 -2 6u 6x d 6v -1 -1 e 6w -1 -1 f -2 -1 -1 d 6y -1 -1 e 6z -1 -1 f -2 -1 -1 e 71 -1 -1 b 72 -1 -1 d 73 -1 -1 4 -2 74 75 f -2 -1 -1 f -2 -1 -1 b 77 -1 -1 d 78 -1 -1 e 79 -1 -1 f -2 7a 7b 4 -2 -1 -1 4 -2 -1 -1 0 7d -1 -1 6 7e -1 -1 d 7f -1 -1 9 7g -1 -1 b 7h -1 -1 e 7i -1 -1 f -2 -1 -1 6 7k -1 -1 0 7l -1 -1 9 7m -1 -1 b 7n -1 -1 d 7o -1 -1 e 7p -1 -1 f -2 -1 -1 c 7r -1 -1 7 7s -1 -1 5 7t 8a 8i 8 7u -1 -1 6 7v -1 -1 9 7w -1 -1 b 7x -1 -1 d 7y 86 88 4 7z 82 84 3 -2 80 81 e -2 -1 -1 e -2 -1 -1 e 83 -1 -1 f -2 -1 -1 e 85 -1 -1 f -2 -1 -1 3 87 -1 -1 4 -2 -1 -1 3 89 -1 -1 4 -2 -1 -1 0 8b -1 -1 6 8c -1 -1 8 8d -1 -1 9 8e -1 -1 b 8f -1 -1 d 8g -1 -1 e 8h -1 -1 f -2 -1 -1 0 8j -1 -1 6 8k -1 -1 8 8l -1 -1 9 8m -1 -1 b 8n -1 -1 d 8o -1 -1 e 8p -1 -1 f -2 -1 -1 7 8r -1 -1 d 8s -1 -1 5 8t ac au f 8u 9g 9v 8 8v -1 -1 c 8w -1 -1 6 8x 96 9b 9 8y -1 -1 e 8z 90 93 b -2 -1 -1 3 91 -1 -1 4 92 -1 -1 b -2 -1 -1 3 94 -1 -1 4 95 -1 -1 b -2 -1 -1 1 97 -1 -1 0 98 -1 -1 e 99 -1 -1 9 9a -1 -1 b -2 -1 -1 0 9c -1 -1 1 9d -1 -1 9 9e -1 -1 b 9f -1 -1 e -2 -1 -1 4 9h -1 -1 9 9i -1 -1 6 9j -1 -1 3 9k 9n 9r 8 9l -1 -1 b 9m -1 -1 c -2 -1 -1 e 9o -1 -1 8 9p -1 -1 c 9q -1 -1 b -2 -1 -1 8 9s -1 -1 b 9t -1 -1 c 9u -1 -1 e -2 -1 -1 4 9w -1 -1 6 9x -1 -1 3 9y a2 a7 8 9z -1 -1 b a0 -1 -1 9 a1 -1 -1 c -2 -1 -1 e a3 -1 -1 8 a4 -1 -1 9 a5 -1 -1 b a6 -1 -1 c -2 -1 -1 8 a8 -1 -1 9 a9 -1 -1 b aa -1 -1 c ab -1 -1 e -2 -1 -1 0 ad -1 -1 e ae -1 -1 b af -1 -1 1 ag ak ap 8 ah -1 -1 c ai -1 -1 f aj -1 -1 9 -2 -1 -1 6 al -1 -1 c am -1 -1 8 an -1 -1 9 ao -1 -1 f -2 -1 -1 6 aq -1 -1 8 ar -1 -1 9 as -1 -1 c at -1 -1 f -2 -1 -1 0 av -1 -1 e aw -1 -1 c ax -1 -1 1 ay b2 b7 b az -1 -1 8 b0 -1 -1 f b1 -1 -1 9 -2 -1 -1 6 b3 -1 -1 8 b4 -1 -1 9 b5 -1 -1 b b6 -1 -1 f -2 -1 -1 6 b8 -1 -1 8 b9 -1 -1 9 ba -1 -1 b bb -1 -1 f -2 -1 -1 7 bd g2 gu f be de er 5 bf ca cu c bg -1 -1 e bh bw c3 8 bi -1 -1 6 bj bm br 9 bk -1 -1 b bl -1 -1 d -2 -1 -1 0 bn -1 -1 1 bo -1 -1 9 bp -1 -1 b bq -1 -1 d -2 -1 -1 0 bs -1 -1 1 bt -1 -1 9 bu -1 -1 b bv -1 -1 d -2 -1 -1 3 bx -1 -1 4 by -1 -1 6 bz -1 -1 8 c0 -1 -1 9 c1 -1 -1 b c2 -1 -1 d -2 -1 -1 3 c4 -1 -1 4 c5 -1 -1 6 c6 -1 -1 8 c7 -1 -1 9 c8 -1 -1 b c9 -1 -1 d -2 -1 -1 0 cb -1 -1 d cc -1 -1 6 cd ci co 8 ce -1 -1 9 cf -1 -1 b cg -1 -1 c ch -1 -1 e -2 -1 -1 1 cj -1 -1 8 ck -1 -1 9 cl -1 -1 b cm -1 -1 c cn -1 -1 e -2 -1 -1 1 cp -1 -1 8 cq -1 -1 9 cr -1 -1 b cs -1 -1 c ct -1 -1 e -2 -1 -1 0 cv -1 -1 e cw -1 -1 1 cx d2 d8 b cy -1 -1 8 cz -1 -1 9 d0 -1 -1 c d1 -1 -1 d -2 -1 -1 6 d3 -1 -1 c d4 -1 -1 8 d5 -1 -1 9 d6 -1 -1 b d7 -1 -1 d -2 -1 -1 6 d9 -1 -1 8 da -1 -1 9 db -1 -1 b dc -1 -1 c dd -1 -1 d -2 -1 -1 4 df -1 -1 d dg -1 -1 5 dh -1 -1 6 di -1 -1 0 dj dq ek 8 dk -1 -1 9 dl -1 -1 b dm -1 -1 c dn -1 -1 3 -2 do dp e -2 -1 -1 e -2 -1 -1 1 dr dy e5 8 ds -1 -1 9 dt -1 -1 b du -1 -1 c dv -1 -1 3 -2 dw dx e -2 -1 -1 e -2 -1 -1 8 dz -1 -1 9 e0 -1 -1 b e1 -1 -1 c e2 -1 -1 3 -2 e3 e4 e -2 -1 -1 e -2 -1 -1 e e6 ea ef 9 e7 -1 -1 8 e8 -1 -1 b e9 -1 -1 c -2 -1 -1 3 eb -1 -1 8 ec -1 -1 9 ed -1 -1 b ee -1 -1 c -2 -1 -1 3 eg -1 -1 8 eh -1 -1 9 ei -1 -1 b ej -1 -1 c -2 -1 -1 8 el -1 -1 9 em -1 -1 b en -1 -1 c eo -1 -1 e -2 ep eq 3 -2 -1 -1 3 -2 -1 -1 4 es -1 fe d et -1 -1 3 eu f0 f7 6 ev -1 -1 b ew -1 -1 8 ex -1 -1 c ey -1 -1 5 ez -1 -1 9 -2 -1 -1 e f1 -1 -1 5 f2 -1 -1 6 f3 -1 -1 8 f4 -1 -1 9 f5 -1 -1 b f6 -1 -1 c -2 -1 -1 e f8 -1 -1 8 f9 -1 -1 5 fa -1 -1 6 fb -1 -1 9 fc -1 -1 b fd -1 -1 c -2 -1 -1 b ff fn fv c -1 -1 fg 6 -1 -1 fh 1 -1 -1 fi 0 -1 -1 fj 3 -1 -1 fk 5 -1 -1 fl d -1 -1 fm e -1 -1 -3 6 -1 -1 fo c -1 -1 fp 0 -1 -1 fq 1 -1 -1 fr 3 -1 -1 fs 5 -1 -1 ft d -1 -1 fu e -1 -1 -3 5 -1 -1 fw e -1 -1 fx 0 -1 -1 fy d -1 -1 fz 1 -1 -1 g0 3 -1 -1 g1 c -1 -1 -3 c -1 -1 g3 6 g4 gd gm 5 -1 -1 g5 0 -1 -1 g6 1 -1 -1 g7 3 -1 -1 g8 4 -1 -1 g9 b -1 -1 ga d -1 -1 gb e -1 -1 gc f -1 -1 -3 5 -1 -1 ge b -1 -1 gf e -1 -1 gg 0 -1 -1 gh 1 -1 -1 gi 3 -1 -1 gj 4 -1 -1 gk d -1 -1 gl f -1 -1 -3 e -1 -1 gn 1 -1 -1 go 3 -1 -1 gp 0 -1 -1 gq 4 -1 -1 gr 5 -1 -1 gs d -1 -1 gt f -1 -1 -3 e gv h4 hd f -1 -1 gw 9 -1 -1 gx 4 -1 -1 gy 5 -1 -1 gz 1 -1 -1 h0 8 -1 -1 h1 0 -1 -1 h2 3 -1 -1 h3 6 -1 -1 -3 9 -1 -1 h5 f -1 -1 h6 4 -1 -1 h7 0 -1 -1 h8 1 -1 -1 h9 3 -1 -1 ha 5 -1 -1 hb 6 -1 -1 hc 8 -1 -1 -3 d he hm hu 8 -1 -1 hf 3 -1 -1 hg 5 -1 -1 hh 0 -1 -1 hi 1 -1 -1 hj 4 -1 -1 hk 6 -1 -1 hl f -1 -1 -3 8 -1 -1 hn 6 -1 -1 ho 4 -1 -1 hp f -1 -1 hq 0 -1 -1 hr 1 -1 -1 hs 3 -1 -1 ht 5 -1 -1 -3 4 -1 -1 hv 0 -1 -1 hw 6 hx i3 i9 b -1 -1 hy 1 -1 -1 hz 3 -1 -1 i0 5 -1 -1 i1 c -1 -1 i2 f -1 -1 -3 b -1 -1 i4 1 -1 -1 i5 3 -1 -1 i6 5 -1 -1 i7 c -1 -1 i8 f -1 -1 -3 3 -1 -1 ia 5 -1 -1 ib f -1 -1 ic 1 -1 -1 -3 0 ie -1 lc 6 if ks l2 d ig ji k1 7 ih j2 ja 4 ii -1 -1 e ij io iv 2 ik -1 -1 3 il -1 -1 f im -1 -1 5 in -1 -1 1 -2 -1 -1 9 ip -1 -1 f iq -1 -1 2 ir -1 -1 1 is -1 -1 3 it -1 -1 5 iu -1 -1 8 -2 -1 -1 8 iw -1 -1 1 ix -1 -1 2 iy -1 -1 3 iz -1 -1 5 j0 -1 -1 9 j1 -1 -1 f -2 -1 -1 c j3 -1 -1 e j4 -1 -1 4 j5 -1 -1 1 j6 -1 -1 2 j7 -1 -1 f j8 -1 -1 5 j9 -1 -1 3 -2 -1 -1 e jb -1 -1 c jc -1 -1 1 jd -1 -1 2 je -1 -1 3 jf -1 -1 4 jg -1 -1 5 jh -1 -1 f -2 -1 -1 8 jj -1 -1 3 jk -1 -1 f jl -1 -1 2 jm -1 -1 e jn jr jw 4 jo -1 -1 5 jp -1 -1 7 jq -1 -1 1 -2 -1 -1 9 js -1 -1 4 jt -1 -1 7 ju -1 -1 5 jv -1 -1 1 -2 -1 -1 1 jx -1 -1 4 jy -1 -1 5 jz -1 -1 7 k0 -1 -1 9 -2 -1 -1 9 k2 ka kj f k3 -1 -1 2 k4 -1 -1 3 k5 -1 -1 7 k6 -1 -1 1 k7 -1 -1 4 k8 -1 -1 5 k9 -1 -1 8 -2 -1 -1 e kb -1 -1 8 kc -1 -1 1 kd -1 -1 2 ke -1 -1 3 kf -1 -1 4 kg -1 -1 5 kh -1 -1 7 ki -1 -1 f -2 -1 -1 8 kk -1 -1 e kl -1 -1 1 km -1 -1 2 kn -1 -1 3 ko -1 -1 4 kp -1 -1 5 kq -1 -1 7 kr -1 -1 f -2 -1 -1 b kt -1 -1 5 ku -1 -1 e kv -1 -1 2 kw -1 -1 4 kx -1 -1 d ky -1 -1 f kz -1 -1 1 l0 -1 -1 c l1 -1 -1 3 -2 -1 -1 5 l3 -1 -1 b l4 -1 -1 2 l5 -1 -1 c l6 -1 -1 1 l7 -1 -1 3 l8 -1 -1 4 l9 -1 -1 d la -1 -1 e lb -1 -1 f -2 -1 -1 5 -1 -1 ld d le lz mi 8 -1 -1 lf f -1 -1 lg 4 -1 -1 lh 9 li lo lu e -1 -1 lj 1 -1 -1 lk 2 -1 -1 ll 3 -1 -1 lm 6 -1 -1 ln 7 -1 -1 -3 e -1 -1 lp 7 -1 -1 lq 1 -1 -1 lr 2 -1 -1 ls 3 -1 -1 lt 6 -1 -1 -3 6 -1 -1 lv 2 -1 -1 lw 1 -1 -1 lx 3 -1 -1 ly 7 -1 -1 -3 8 -1 -1 m0 f -1 -1 m1 3 -1 -1 m2 6 -1 -1 m3 9 m4 m9 me 1 -1 -1 m5 2 -1 -1 m6 4 -1 -1 m7 7 -1 -1 m8 e -1 -1 -3 e -1 -1 ma 7 -1 -1 mb 2 -1 -1 mc 1 -1 -1 md 4 -1 -1 -3 2 -1 -1 mf 4 -1 -1 mg 1 -1 -1 mh 7 -1 -1 -3 7 mj n7 nn b mk ms n0 c -1 -1 ml 1 -1 -1 mm 2 -1 -1 mn 3 -1 -1 mo 4 -1 -1 mp 6 -1 -1 mq e -1 -1 mr f -1 -1 -3 6 -1 -1 mt c -1 -1 mu 1 -1 -1 mv 2 -1 -1 mw 3 -1 -1 mx 4 -1 -1 my e -1 -1 mz f -1 -1 -3 e -1 -1 n1 2 -1 -1 n2 3 -1 -1 n3 c -1 -1 n4 1 -1 -1 n5 4 -1 -1 n6 f -1 -1 -3 c -1 -1 n8 e -1 -1 n9 2 -1 -1 na 1 -1 -1 nb b nc ng nk 3 -1 -1 nd 4 -1 -1 ne 6 -1 -1 nf f -1 -1 -3 6 -1 -1 nh f -1 -1 ni 3 -1 -1 nj 4 -1 -1 -3 3 -1 -1 nl f -1 -1 nm 4 -1 -1 -3 4 -1 -1 no f -1 -1 np 2 -1 -1 nq 6 nr nw o1 1 -1 -1 ns 3 -1 -1 nt b -1 -1 nu c -1 -1 nv e -1 -1 -3 b -1 -1 nx e -1 -1 ny 1 -1 -1 nz 3 -1 -1 o0 c -1 -1 -3 e o2 o6 oa 1 -1 -1 o3 3 -1 -1 o4 8 -1 -1 o5 9 -1 -1 -3 9 -1 -1 o7 1 -1 -1 o8 3 -1 -1 o9 8 -1 -1 -3 3 -1 -1 ob 1 -1 -1 -3 2 od v4 ya d oe px r4 6 of pf po 7 og oz p7 0 oh -1 -1 4 oi -1 -1 e oj on ot 3 ok -1 -1 5 ol -1 -1 1 om -1 -1 f -2 -1 -1 9 oo -1 -1 1 op -1 -1 3 oq -1 -1 5 or -1 -1 8 os -1 -1 f -2 -1 -1 9 ou -1 -1 1 ov -1 -1 3 ow -1 -1 5 ox -1 -1 8 oy -1 -1 f -2 -1 -1 c p0 -1 -1 0 p1 -1 -1 e p2 -1 -1 3 p3 -1 -1 1 p4 -1 -1 4 p5 -1 -1 5 p6 -1 -1 f -2 -1 -1 c p8 -1 -1 e p9 -1 -1 5 pa -1 -1 0 pb -1 -1 1 pc -1 -1 3 pd -1 -1 4 pe -1 -1 f -2 -1 -1 b pg -1 -1 5 ph -1 -1 e pi -1 -1 1 pj -1 -1 3 pk -1 -1 0 pl -1 -1 4 pm -1 -1 c pn -1 -1 f -2 -1 -1 5 pp -1 -1 b pq -1 -1 0 pr -1 -1 1 ps -1 -1 3 pt -1 -1 4 pu -1 -1 c pv -1 -1 e pw -1 -1 f -2 -1 -1 8 py -1 -1 e pz q7 qv 6 q0 -1 -1 f q1 -1 -1 0 q2 -1 -1 1 q3 -1 -1 3 q4 -1 -1 4 q5 -1 -1 5 q6 -1 -1 7 -2 -1 -1 f q8 -1 -1 9 q9 -1 -1 b qa qh qo 0 qb -1 -1 1 qc -1 -1 3 qd -1 -1 4 qe -1 -1 5 qf -1 -1 6 qg -1 -1 7 -2 -1 -1 4 qi -1 -1 0 qj -1 -1 1 qk -1 -1 3 ql -1 -1 5 qm -1 -1 6 qn -1 -1 7 -2 -1 -1 0 qp -1 -1 4 qq -1 -1 1 qr -1 -1 3 qs -1 -1 5 qt -1 -1 6 qu -1 -1 7 -2 -1 -1 0 qw -1 -1 1 qx -1 -1 3 qy -1 -1 4 qz -1 -1 5 r0 -1 -1 6 r1 -1 -1 7 r2 -1 -1 9 r3 -1 -1 f -2 -1 -1 5 r5 se t1 0 r6 -1 rs 8 r7 -1 -1 e r8 re rl 1 r9 -1 -1 4 ra -1 -1 3 rb -1 -1 6 rc -1 -1 f rd -1 -1 7 -2 -1 -1 9 rf -1 -1 6 rg -1 -1 1 rh -1 -1 f ri -1 -1 3 rj -1 -1 4 rk -1 -1 7 -2 -1 -1 f rm -1 -1 9 rn -1 -1 3 ro -1 -1 4 rp -1 -1 1 rq -1 -1 7 rr -1 -1 6 -2 -1 -1 7 -1 -1 rt 1 ru s1 s8 6 -1 -1 rv 8 -1 -1 rw 9 -1 -1 rx b -1 -1 ry c -1 -1 rz e -1 -1 s0 f -1 -1 -3 6 -1 -1 s2 8 -1 -1 s3 9 -1 -1 s4 b -1 -1 s5 c -1 -1 s6 e -1 -1 s7 f -1 -1 -3 e -1 -1 s9 8 -1 -1 sa b -1 -1 sb 9 -1 -1 sc c -1 -1 sd f -1 -1 -3 0 -1 -1 sf 7 -1 -1 sg 6 sh so sv 1 -1 -1 si 8 -1 -1 sj 9 -1 -1 sk b -1 -1 sl c -1 -1 sm e -1 -1 sn f -1 -1 -3 1 -1 -1 sp e -1 -1 sq 8 -1 -1 sr 9 -1 -1 ss b -1 -1 st c -1 -1 su f -1 -1 -3 9 -1 -1 sw 8 -1 -1 sx b -1 -1 sy c -1 -1 sz e -1 -1 t0 f -1 -1 -3 f t2 tq ul 3 t3 tb tj 4 -1 -1 t4 e -1 -1 t5 6 -1 -1 t6 7 -1 -1 t7 8 -1 -1 t8 9 -1 -1 t9 b -1 -1 ta c -1 -1 -3 e -1 -1 tc 6 -1 -1 td 4 -1 -1 te 8 -1 -1 tf 7 -1 -1 tg 9 -1 -1 th b -1 -1 ti c -1 -1 -3 6 -1 -1 tk 8 -1 -1 tl b -1 -1 tm 4 -1 -1 tn 9 -1 -1 to c -1 -1 tp 7 -1 -1 -3 4 -1 -1 tr 7 -1 -1 ts 6 -1 -1 tt 0 tu u1 ue 8 -1 -1 tv 9 -1 -1 tw b -1 -1 tx c -1 -1 ty e tz u0 -3 3 -1 -1 -3 3 -1 -1 -3 b -1 -1 u2 e u3 u7 ub 3 -1 -1 u4 8 -1 -1 u5 9 -1 -1 u6 c -1 -1 -3 3 -1 -1 u8 8 -1 -1 u9 9 -1 -1 ua c -1 -1 -3 8 -1 -1 uc 9 -1 -1 ud c -1 -1 -3 8 -1 -1 uf 9 -1 -1 ug b -1 -1 uh c -1 -1 ui 3 uj uk -3 e -1 -1 -3 e -1 -1 -3 8 -1 -1 um 7 -1 -1 un 9 -1 -1 uo c -1 -1 up 6 uq uu uy 0 -1 -1 ur 1 -1 -1 us b -1 -1 ut e -1 -1 -3 0 -1 -1 uv 1 -1 -1 uw b -1 -1 ux e -1 -1 -3 b -1 -1 uz e v0 v2 -3 3 -1 -1 v1 4 -1 -1 -3 3 -1 -1 v3 4 -1 -1 -3 5 v5 vr wd 7 -1 -1 v6 0 -1 -1 v7 c -1 -1 v8 e -1 -1 v9 1 va vg vm 6 -1 -1 vb 8 -1 -1 vc 9 -1 -1 vd b -1 -1 ve d -1 -1 vf f -1 -1 -3 6 -1 -1 vh 8 -1 -1 vi 9 -1 -1 vj b -1 -1 vk d -1 -1 vl f -1 -1 -3 f -1 -1 vn 8 -1 -1 vo 9 -1 -1 vp b -1 -1 vq d -1 -1 -3 0 -1 -1 vs 7 -1 -1 vt c -1 -1 vu e -1 -1 vv 6 vw w2 w8 1 -1 -1 vx 8 -1 -1 vy 9 -1 -1 vz b -1 -1 w0 d -1 -1 w1 f -1 -1 -3 1 -1 -1 w3 8 -1 -1 w4 b -1 -1 w5 d -1 -1 w6 9 -1 -1 w7 f -1 -1 -3 b -1 -1 w9 d -1 -1 wa 9 -1 -1 wb f -1 -1 wc 8 -1 -1 -3 d -1 -1 we 8 -1 -1 wf f wg x1 xi 3 wh wo wv 4 -1 -1 wi 6 -1 -1 wj 7 -1 -1 wk 9 -1 -1 wl b -1 -1 wm c -1 -1 wn e -1 -1 -3 e -1 -1 wp 4 -1 -1 wq 6 -1 -1 wr 7 -1 -1 ws 9 -1 -1 wt b -1 -1 wu c -1 -1 -3 6 -1 -1 ww 7 -1 -1 wx 4 -1 -1 wy 9 -1 -1 wz b -1 -1 x0 c -1 -1 -3 4 -1 -1 x2 6 -1 -1 x3 3 x4 x9 xe 7 -1 -1 x5 9 -1 -1 x6 b -1 -1 x7 c -1 -1 x8 e -1 -1 -3 e -1 -1 xa 9 -1 -1 xb 7 -1 -1 xc c -1 -1 xd b -1 -1 -3 9 -1 -1 xf 7 -1 -1 xg c -1 -1 xh b -1 -1 -3 c -1 -1 xj 6 xk xq xw 0 -1 -1 xl 1 -1 -1 xm 7 -1 -1 xn 9 -1 -1 xo b -1 -1 xp e -1 -1 -3 1 -1 -1 xr 7 -1 -1 xs e -1 -1 xt 0 -1 -1 xu 9 -1 -1 xv b -1 -1 -3 e xx y2 y7 3 -1 -1 xy 4 -1 -1 xz 7 -1 -1 y0 9 -1 -1 y1 b -1 -1 -3 3 -1 -1 y3 4 -1 -1 y4 7 -1 -1 y5 9 -1 -1 y6 b -1 -1 -3 9 -1 -1 y8 7 -1 -1 y9 b -1 -1 -3 b yb z9 10c 0 -1 -1 yc 4 -1 -1 yd 5 -1 -1 ye 7 yf ym yt 1 -1 -1 yg 3 -1 -1 yh 6 -1 -1 yi c -1 -1 yj d -1 -1 yk e -1 -1 yl f -1 -1 -3 c -1 -1 yn 1 -1 -1 yo 3 -1 -1 yp 6 -1 -1 yq d -1 -1 yr e -1 -1 ys f -1 -1 -3 3 -1 -1 yu 1 -1 -1 yv 6 -1 -1 yw f yx yz z1 8 -1 -1 yy 9 -1 -1 -3 8 -1 -1 z0 9 -1 -1 -3 8 z2 z4 z6 d -1 -1 z3 e -1 -1 -3 d -1 -1 z5 e -1 -1 -3 9 z7 z8 -3 e -1 -1 -3 e -1 -1 -3 0 -1 -1 za 4 -1 -1 zb 6 -1 -1 zc 3 -1 -1 zd 8 ze zm zu d -1 -1 zf 1 -1 -1 zg 5 -1 -1 zh e -1 -1 zi f -1 -1 zj 7 zk zl -3 c -1 -1 -3 c -1 -1 -3 d -1 -1 zn e -1 -1 zo 1 -1 -1 zp 5 -1 -1 zq f -1 -1 zr 7 zs zt -3 c -1 -1 -3 c -1 -1 -3 5 -1 -1 zv 7 zw 101 106 1 -1 -1 zx c -1 -1 zy d -1 -1 zz e -1 -1 100 f -1 -1 -3 d -1 -1 102 f -1 -1 103 1 -1 -1 104 c -1 -1 105 e -1 -1 -3 1 -1 -1 107 9 108 10a -3 e -1 -1 109 f -1 -1 -3 e -1 -1 10b f -1 -1 -3 9 10d 117 11t 4 -1 -1 10e 0 -1 -1 10f f -1 -1 10g 1 -1 -1 10h d 10i 10o 10u 3 -1 -1 10j 5 -1 -1 10k 6 -1 -1 10l 7 -1 -1 10m 8 -1 -1 10n e -1 -1 -3 6 -1 -1 10p 3 -1 -1 10q 5 -1 -1 10r 7 -1 -1 10s 8 -1 -1 10t e -1 -1 -3 c 10v 110 115 3 -1 -1 10w 5 -1 -1 10x 6 -1 -1 10y 7 -1 -1 10z e -1 -1 -3 6 -1 -1 111 3 -1 -1 112 5 -1 -1 113 7 -1 -1 114 e -1 -1 -3 3 -1 -1 116 e -1 -1 -3 4 -1 -1 118 0 -1 -1 119 f -1 -1 11a e -1 -1 11b 1 -1 -1 11c 3 -1 -1 11d d 11e 11i 11m 5 -1 -1 11f 6 -1 -1 11g 7 -1 -1 11h 8 -1 -1 -3 8 -1 -1 11j 5 -1 -1 11k 6 -1 -1 11l 7 -1 -1 -3 c 11n 11q -3 5 -1 -1 11o 6 -1 -1 11p 7 -1 -1 -3 7 -1 -1 11r 5 -1 -1 11s 6 -1 -1 -3 3 11u 12k 13z 8 -1 -1 11v c -1 -1 11w d -1 -1 11x e -1 -1 11y 7 11z 122 125 0 -1 -1 120 1 -1 -1 121 f -1 -1 -3 0 -1 -1 123 1 -1 -1 124 f -1 -1 -3 f 126 129 12c 4 -1 -1 127 5 -1 -1 128 6 -1 -1 -3 4 -1 -1 12a 5 -1 -1 12b 6 -1 -1 -3 0 12d 12f 12h 5 -1 -1 12e 6 -1 -1 -3 5 -1 -1 12g 6 -1 -1 -3 1 12i 12j -3 6 -1 -1 -3 6 -1 -1 -3 8 -1 -1 12l d -1 -1 12m c -1 -1 12n 0 12o 12v 13a 5 -1 -1 12p 6 -1 -1 12q 7 -1 -1 12r e -1 -1 12s 4 12t 12u -3 f -1 -1 -3 f -1 -1 -3 4 12w 131 136 5 -1 -1 12x e -1 -1 12y 6 -1 -1 12z 7 -1 -1 130 f -1 -1 -3 5 -1 -1 132 f -1 -1 133 6 -1 -1 134 7 -1 -1 135 e -1 -1 -3 6 -1 -1 137 5 -1 -1 138 7 -1 -1 139 e -1 -1 -3 e -1 -1 13b 1 13c 13j 13q 6 -1 -1 13d 7 -1 -1 13e f 13f 13h -3 4 -1 -1 13g 5 -1 -1 -3 4 -1 -1 13i 5 -1 -1 -3 6 -1 -1 13k 7 -1 -1 13l f 13m 13o -3 4 -1 -1 13n 5 -1 -1 -3 4 -1 -1 13p 5 -1 -1 -3 f 13r 13v -3 4 -1 -1 13s 5 -1 -1 13t 6 -1 -1 13u 7 -1 -1 -3 4 -1 -1 13w 5 -1 -1 13x 6 -1 -1 13y 7 -1 -1 -3 1 140 14k 15a c -1 -1 141 7 -1 -1 142 8 -1 -1 143 6 -1 -1 144 5 145 149 14d 0 -1 -1 146 d -1 -1 147 e -1 -1 148 f -1 -1 -3 0 -1 -1 14a d -1 -1 14b e -1 -1 14c f -1 -1 -3 4 14e 14h -3 d -1 -1 14f e -1 -1 14g f -1 -1 -3 d -1 -1 14i e -1 -1 14j f -1 -1 -3 c -1 -1 14l 8 -1 -1 14m 7 -1 -1 14n 6 -1 -1 14o 4 14p 14v 151 d -1 -1 14q e -1 -1 14r f -1 -1 14s 0 14t 14u -3 5 -1 -1 -3 5 -1 -1 -3 f -1 -1 14w d -1 -1 14x e -1 -1 14y 0 14z 150 -3 5 -1 -1 -3 5 -1 -1 -3 5 152 156 -3 0 -1 -1 153 d -1 -1 154 e -1 -1 155 f -1 -1 -3 0 -1 -1 157 d -1 -1 158 e -1 -1 159 f -1 -1 -3 6 15b 15g 15l c -1 -1 15c f -1 -1 15d d -1 -1 15e 0 -1 -1 15f e -1 -1 -3 e -1 -1 15h 0 -1 -1 15i c -1 -1 15j f -1 -1 15k d -1 -1 -3 8 15m 15x 16a 0 -1 -1 15n d -1 -1 15o e -1 -1 15p f -1 -1 15q c 15r 15u -3 4 -1 -1 15s 5 -1 -1 15t 7 -1 -1 -3 4 -1 -1 15v 5 -1 -1 15w 7 -1 -1 -3 0 -1 -1 15y d -1 -1 15z f -1 -1 160 c 161 165 169 4 -1 -1 162 5 -1 -1 163 7 -1 -1 164 e -1 -1 -3 7 -1 -1 166 4 -1 -1 167 5 -1 -1 168 e -1 -1 -3 e -1 -1 -3 4 16b 16k 16t c -1 -1 16c d -1 -1 16d e -1 -1 16e f -1 -1 16f 0 16g 16i -3 5 -1 -1 16h 7 -1 -1 -3 5 -1 -1 16j 7 -1 -1 -3 c -1 -1 16l f -1 -1 16m d -1 -1 16n e -1 -1 16o 0 16p 16r -3 5 -1 -1 16q 7 -1 -1 -3 5 -1 -1 16s 7 -1 -1 -3 7 16u 16z 174 0 -1 -1 16v c -1 -1 16w d -1 -1 16x e -1 -1 16y f -1 -1 -3 f -1 -1 170 e -1 -1 171 0 -1 -1 172 c -1 -1 173 d -1 -1 -3 5 175 17a -3 0 -1 -1 176 c -1 -1 177 d -1 -1 178 e -1 -1 179 f -1 -1 -3 d -1 -1 17b f -1 -1 17c c -1 -1 17d 0 -1 -1 17e e -1 -1 -3"};
+	}
+
+	private static class Tree12 {
+		static final String DATA[] = new String[]{
+			"12 1216 a 1 e5 jw 2 2 7d 9w 0 3 5r 6f 4 4 45 4w f 5 2u 38 5 6 20 2j 1 7 1g 1q d 8 16 1b e 9 w 11 3 a m r c b g j b -2 c e 7 d -1 -1 6 -2 -1 -1 6 f -1 -1 7 -2 -1 -1 7 h -1 -1 6 i -1 -1 8 -2 -1 -1 6 k -1 -1 7 l -1 -1 8 -2 -1 -1 7 n -1 -1 b o -1 -1 8 p -1 -1 9 q -1 -1 c -2 -1 -1 c s -1 -1 7 t -1 -1 8 u -1 -1 9 v -1 -1 b -2 -1 -1 8 x -1 -1 6 y -1 -1 3 z -1 -1 7 10 -1 -1 9 -2 -1 -1 6 12 -1 -1 7 13 -1 -1 3 14 -1 -1 8 15 -1 -1 9 -2 -1 -1 7 17 -1 -1 3 18 -1 -1 6 19 -1 -1 8 1a -1 -1 9 -2 -1 -1 7 1c -1 -1 3 1d -1 -1 6 1e -1 -1 9 1f -1 -1 8 -2 -1 -1 8 1h -1 -1 b 1i -1 -1 7 1j -1 -1 9 1k -1 -1 c 1l -1 -1 6 1m -1 -1 d 1n -1 -1 e -2 1o 1p 3 -2 -1 -1 3 -2 -1 -1 8 1r -1 -1 6 1s -1 -1 7 1t -1 -1 9 1u -1 -1 b 1v -1 -1 c 1w -1 -1 d 1x -1 -1 e -2 1y 1z 3 -2 -1 -1 3 -2 -1 -1 9 21 -1 -1 d 22 -1 -1 3 23 27 2d c 24 -1 -1 e 25 -1 -1 1 26 -1 -1 b -2 -1 -1 7 28 -1 -1 1 29 -1 -1 8 2a -1 -1 c 2b -1 -1 b 2c -1 -1 e -2 -1 -1 1 2e -1 -1 7 2f -1 -1 8 2g -1 -1 b 2h -1 -1 c 2i -1 -1 e -2 -1 -1 9 2k -1 -1 1 2l -1 -1 b 2m -1 -1 c 2n -1 -1 d 2o -1 -1 e 2p -1 -1 3 -2 2q 2s 7 2r -1 -1 8 -2 -1 -1 7 2t -1 -1 8 -2 -1 -1 7 2v -1 -1 b 2w -1 -1 6 2x -1 -1 8 2y -1 -1 3 2z -1 -1 5 30 -1 -1 1 31 32 35 9 -2 -1 -1 c 33 -1 -1 9 34 -1 -1 d -2 -1 -1 9 36 -1 -1 c 37 -1 -1 d -2 -1 -1 b 39 -1 -1 6 3a -1 -1 e 3b 3l 3v 8 3c -1 -1 3 3d -1 -1 5 3e -1 -1 7 3f -1 -1 9 3g -1 -1 1 -2 3h 3j c 3i -1 -1 d -2 -1 -1 c 3k -1 -1 d -2 -1 -1 3 3m -1 -1 5 3n -1 -1 7 3o -1 -1 8 3p -1 -1 9 3q -1 -1 1 -2 3r 3t c 3s -1 -1 d -2 -1 -1 c 3u -1 -1 d -2 -1 -1 7 3w -1 -1 3 3x -1 -1 5 3y -1 -1 8 3z -1 -1 9 40 -1 -1 1 -2 41 43 c 42 -1 -1 d -2 -1 -1 c 44 -1 -1 d -2 -1 -1 8 46 -1 -1 c 47 -1 -1 d 48 -1 -1 7 49 4k 4q b 4a -1 -1 e 4b -1 -1 9 4c -1 -1 1 4d 4e 4h f -2 -1 -1 6 4f -1 -1 5 4g -1 -1 f -2 -1 -1 5 4i -1 -1 6 4j -1 -1 f -2 -1 -1 3 4l -1 -1 9 4m -1 -1 e 4n -1 -1 b 4o -1 -1 1 4p -1 -1 f -2 -1 -1 e 4r -1 -1 1 4s -1 -1 3 4t -1 -1 9 4u -1 -1 b 4v -1 -1 f -2 -1 -1 7 4x 59 5i c 4y -1 -1 d 4z -1 -1 e 50 -1 -1 b 51 -1 -1 8 52 -1 -1 9 53 -1 -1 f 54 -1 -1 1 -2 55 57 5 56 -1 -1 6 -2 -1 -1 5 58 -1 -1 6 -2 -1 -1 3 5a -1 -1 8 5b -1 -1 1 5c -1 -1 9 5d -1 -1 b 5e -1 -1 c 5f -1 -1 d 5g -1 -1 e 5h -1 -1 f -2 -1 -1 8 5j -1 -1 3 5k -1 -1 b 5l -1 -1 c 5m -1 -1 1 5n -1 -1 9 5o -1 -1 d 5p -1 -1 e 5q -1 -1 f -2 -1 -1 c 5s -1 -1 8 5t -1 -1 6 5u -1 -1 7 5v -1 -1 9 5w -1 -1 d 5x 65 6a 4 5y -1 -1 5 5z -1 -1 b 60 -1 -1 3 -2 61 63 f 62 -1 -1 e -2 -1 -1 e 64 -1 -1 f -2 -1 -1 1 66 -1 -1 5 67 -1 -1 b 68 -1 -1 3 69 -1 -1 4 -2 -1 -1 5 6b -1 -1 1 6c -1 -1 3 6d -1 -1 4 6e -1 -1 b -2 -1 -1 c 6g -1 -1 8 6h -1 -1 d 6i 6x 75 6 6j -1 -1 7 6k -1 -1 9 6l -1 -1 4 6m -1 -1 3 6n 6p 6t 5 6o -1 -1 b -2 -1 -1 e 6q -1 -1 5 6r -1 -1 b 6s -1 -1 f -2 -1 -1 5 6u -1 -1 b 6v -1 -1 e 6w -1 -1 f -2 -1 -1 1 6y -1 -1 5 6z -1 -1 3 70 -1 -1 4 71 -1 -1 6 72 -1 -1 7 73 -1 -1 9 74 -1 -1 b -2 -1 -1 1 76 -1 -1 5 77 -1 -1 3 78 -1 -1 4 79 -1 -1 6 7a -1 -1 7 7b -1 -1 9 7c -1 -1 b -2 -1 -1 6 7e -1 -1 e 7f -1 -1 0 7g 8i 95 c 7h -1 -1 8 7i -1 -1 1 7j 7u 88 b 7k -1 -1 d 7l -1 -1 7 7m -1 -1 9 7n -1 -1 f -2 7o 7r 3 7p -1 -1 4 7q -1 -1 5 -2 -1 -1 3 7s -1 -1 4 7t -1 -1 5 -2 -1 -1 5 7v -1 -1 9 7w -1 -1 d 7x -1 -1 f 7y 80 84 7 7z -1 -1 b -2 -1 -1 3 81 -1 -1 4 82 -1 -1 7 83 -1 -1 b -2 -1 -1 3 85 -1 -1 4 86 -1 -1 7 87 -1 -1 b -2 -1 -1 5 89 -1 -1 9 8a -1 -1 7 8b -1 -1 b 8c -1 -1 d 8d -1 -1 f -2 8e 8g 3 8f -1 -1 4 -2 -1 -1 3 8h -1 -1 4 -2 -1 -1 4 8j -1 -1 8 8k -1 -1 3 8l 8r 8y 7 8m -1 -1 9 8n -1 -1 5 8o -1 -1 b 8p -1 -1 c 8q -1 -1 d -2 -1 -1 f 8s -1 -1 b 8t -1 -1 9 8u -1 -1 5 8v -1 -1 7 8w -1 -1 c 8x -1 -1 d -2 -1 -1 5 8z -1 -1 7 90 -1 -1 9 91 -1 -1 b 92 -1 -1 c 93 -1 -1 d 94 -1 -1 f -2 -1 -1 3 96 9e 9n 8 97 -1 -1 7 98 -1 -1 9 99 -1 -1 4 9a -1 -1 5 9b -1 -1 b 9c -1 -1 c 9d -1 -1 d -2 -1 -1 4 9f -1 -1 7 9g -1 -1 5 9h -1 -1 8 9i -1 -1 9 9j -1 -1 b 9k -1 -1 c 9l -1 -1 d 9m -1 -1 f -2 -1 -1 4 9o -1 -1 5 9p -1 -1 7 9q -1 -1 8 9r -1 -1 9 9s -1 -1 b 9t -1 -1 c 9u -1 -1 d 9v -1 -1 f -2 -1 -1 6 9x -1 c3 e 9y -1 -1 4 9z ap bc 7 a0 -1 -1 f a1 ab ai 8 a2 -1 -1 9 a3 -1 -1 c a4 -1 -1 b a5 -1 -1 d a6 -1 -1 5 -2 a7 a9 0 a8 -1 -1 1 -2 -1 -1 0 aa -1 -1 1 -2 -1 -1 3 ac -1 -1 9 ad -1 -1 5 ae -1 -1 8 af -1 -1 b ag -1 -1 c ah -1 -1 d -2 -1 -1 3 aj -1 -1 b ak -1 -1 8 al -1 -1 5 am -1 -1 9 an -1 -1 c ao -1 -1 d -2 -1 -1 0 aq -1 -1 c ar -1 -1 5 as ay b5 7 at -1 -1 d au -1 -1 8 av -1 -1 9 aw -1 -1 b ax -1 -1 f -2 -1 -1 1 az -1 -1 7 b0 -1 -1 8 b1 -1 -1 9 b2 -1 -1 b b3 -1 -1 d b4 -1 -1 f -2 -1 -1 1 b6 -1 -1 7 b7 -1 -1 8 b8 -1 -1 9 b9 -1 -1 b ba -1 -1 d bb -1 -1 f -2 -1 -1 1 bd bl bu 9 be -1 -1 c bf -1 -1 f bg -1 -1 0 bh -1 -1 7 bi -1 -1 8 bj -1 -1 b bk -1 -1 d -2 -1 -1 5 bm -1 -1 0 bn -1 -1 7 bo -1 -1 8 bp -1 -1 9 bq -1 -1 b br -1 -1 c bs -1 -1 d bt -1 -1 f -2 -1 -1 0 bv -1 -1 5 bw -1 -1 7 bx -1 -1 8 by -1 -1 9 bz -1 -1 b c0 -1 -1 c c1 -1 -1 d c2 -1 -1 f -2 -1 -1 e -1 -1 c4 c c5 cu dh 8 -1 -1 c6 9 c7 cf cn d -1 -1 c8 0 -1 -1 c9 1 -1 -1 ca 3 -1 -1 cb 4 -1 -1 cc 5 -1 -1 cd 7 -1 -1 ce f -1 -1 -3 d -1 -1 cg 0 -1 -1 ch 1 -1 -1 ci 3 -1 -1 cj 4 -1 -1 ck 5 -1 -1 cl 7 -1 -1 cm f -1 -1 -3 f -1 -1 co 0 -1 -1 cp 1 -1 -1 cq 3 -1 -1 cr 4 -1 -1 cs 5 -1 -1 ct 7 -1 -1 -3 8 -1 -1 cv 5 -1 -1 cw d cx d4 db 9 -1 -1 cy 0 -1 -1 cz 1 -1 -1 d0 3 -1 -1 d1 4 -1 -1 d2 7 -1 -1 d3 f -1 -1 -3 9 -1 -1 d5 0 -1 -1 d6 1 -1 -1 d7 3 -1 -1 d8 4 -1 -1 d9 7 -1 -1 da f -1 -1 -3 1 -1 -1 dc 0 -1 -1 dd 3 -1 -1 de 4 -1 -1 df 7 -1 -1 dg f -1 -1 -3 0 -1 -1 di 3 -1 -1 dj 7 dk dq dw b -1 -1 dl d -1 -1 dm 1 -1 -1 dn 4 -1 -1 do 5 -1 -1 dp f -1 -1 -3 b -1 -1 dr 1 -1 -1 ds 4 -1 -1 dt 5 -1 -1 du d -1 -1 dv f -1 -1 -3 1 -1 -1 dx f -1 -1 dy 4 -1 -1 dz 5 -1 -1 e0 d e1 e3 -3 8 -1 -1 e2 9 -1 -1 -3 8 -1 -1 e4 9 -1 -1 -3 e e6 -1 gz 6 e7 -1 -1 c e8 ff g5 0 e9 -1 -1 3 ea -1 -1 b eb en f4 1 ec -1 -1 f ed -1 -1 2 ee -1 -1 5 ef -1 -1 4 eg -1 -1 d -2 eh ek 7 ei -1 -1 8 ej -1 -1 9 -2 -1 -1 7 el -1 -1 8 em -1 -1 9 -2 -1 -1 7 eo -1 -1 1 ep -1 -1 5 eq -1 -1 d er eu ez f es -1 -1 2 et -1 -1 4 -2 -1 -1 8 ev -1 -1 9 ew -1 -1 2 ex -1 -1 4 ey -1 -1 f -2 -1 -1 2 f0 -1 -1 4 f1 -1 -1 8 f2 -1 -1 9 f3 -1 -1 f -2 -1 -1 1 f5 -1 -1 2 f6 -1 -1 4 f7 -1 -1 5 f8 -1 -1 7 f9 -1 -1 f fa -1 -1 d -2 fb fd 8 fc -1 -1 9 -2 -1 -1 8 fe -1 -1 9 -2 -1 -1 8 fg -1 -1 4 fh -1 -1 d fi fp fx 2 fj -1 -1 0 fk -1 -1 5 fl -1 -1 3 fm -1 -1 1 fn -1 -1 7 fo -1 -1 f -2 -1 -1 9 fq -1 -1 2 fr -1 -1 3 fs -1 -1 0 ft -1 -1 5 fu -1 -1 7 fv -1 -1 1 fw -1 -1 f -2 -1 -1 0 fy -1 -1 1 fz -1 -1 2 g0 -1 -1 3 g1 -1 -1 5 g2 -1 -1 7 g3 -1 -1 9 g4 -1 -1 f -2 -1 -1 9 g6 gf gp 4 g7 -1 -1 8 g8 -1 -1 0 g9 -1 -1 1 ga -1 -1 2 gb -1 -1 3 gc -1 -1 5 gd -1 -1 7 ge -1 -1 f -2 -1 -1 d gg -1 -1 8 gh -1 -1 0 gi -1 -1 1 gj -1 -1 2 gk -1 -1 3 gl -1 -1 4 gm -1 -1 5 gn -1 -1 7 go -1 -1 f -2 -1 -1 8 gq -1 -1 0 gr -1 -1 1 gs -1 -1 2 gt -1 -1 3 gu -1 -1 4 gv -1 -1 5 gw -1 -1 7 gx -1 -1 d gy -1 -1 f -2 -1 -1 6 -1 -1 h0 c h1 hp io 8 -1 -1 h2 4 -1 -1 h3 7 -1 -1 h4 9 h5 hc hj 0 -1 -1 h6 1 -1 -1 h7 2 -1 -1 h8 3 -1 -1 h9 5 -1 -1 ha d -1 -1 hb f -1 -1 -3 d -1 -1 hd 0 -1 -1 he 1 -1 -1 hf 2 -1 -1 hg 3 -1 -1 hh 5 -1 -1 hi f -1 -1 -3 0 -1 -1 hk 1 -1 -1 hl 2 -1 -1 hm 3 -1 -1 hn 5 -1 -1 ho f -1 -1 -3 8 -1 -1 hq 4 -1 -1 hr d hs i0 i8 9 -1 -1 ht 0 -1 -1 hu 1 -1 -1 hv 2 -1 -1 hw 3 -1 -1 hx 5 -1 -1 hy 7 -1 -1 hz f -1 -1 -3 9 -1 -1 i1 3 -1 -1 i2 0 -1 -1 i3 2 -1 -1 i4 5 -1 -1 i5 1 -1 -1 i6 7 -1 -1 i7 f -1 -1 -3 1 -1 -1 i9 3 -1 -1 ia f -1 -1 ib b ic ig ik 0 -1 -1 id 2 -1 -1 ie 5 -1 -1 if 7 -1 -1 -3 2 -1 -1 ih 7 -1 -1 ii 0 -1 -1 ij 5 -1 -1 -3 5 -1 -1 il 0 -1 -1 im 2 -1 -1 in 7 -1 -1 -3 0 -1 -1 ip 2 -1 -1 iq b ir j2 jk 3 -1 -1 is 1 -1 -1 it 4 -1 -1 iu 5 -1 -1 iv 7 -1 -1 iw f -1 -1 ix d iy j0 -3 8 -1 -1 iz 9 -1 -1 -3 8 -1 -1 j1 9 -1 -1 -3 7 -1 -1 j3 4 -1 -1 j4 f -1 -1 j5 9 j6 ja je 1 -1 -1 j7 3 -1 -1 j8 5 -1 -1 j9 d -1 -1 -3 1 -1 -1 jb d -1 -1 jc 3 -1 -1 jd 5 -1 -1 -3 5 -1 -1 jf 1 -1 -1 jg 3 -1 -1 jh 8 ji jj -3 d -1 -1 -3 d -1 -1 -3 1 -1 -1 jl f -1 -1 jm 3 -1 -1 jn 4 -1 -1 jo 5 -1 -1 jp d jq jt -3 7 -1 -1 jr 8 -1 -1 js 9 -1 -1 -3 7 -1 -1 ju 8 -1 -1 jv 9 -1 -1 -3 2 jx o7 r2 c jy ks lw 6 jz -1 -1 0 k0 -1 -1 7 k1 kc kk e k2 -1 -1 3 k3 -1 -1 4 k4 -1 -1 5 k5 -1 -1 1 k6 -1 -1 f k7 -1 -1 d -2 k8 ka 8 k9 -1 -1 9 -2 -1 -1 8 kb -1 -1 9 -2 -1 -1 b kd -1 -1 d ke -1 -1 1 kf -1 -1 3 kg -1 -1 4 kh -1 -1 5 ki -1 -1 e kj -1 -1 f -2 -1 -1 b kl -1 -1 e km -1 -1 5 kn -1 -1 d ko -1 -1 1 kp -1 -1 3 kq -1 -1 4 kr -1 -1 f -2 -1 -1 8 kt -1 -1 e ku -1 -1 5 kv -1 -1 4 kw -1 -1 d kx l3 lp 0 ky -1 -1 1 kz -1 -1 3 l0 -1 -1 6 l1 -1 -1 7 l2 -1 -1 f -2 -1 -1 b l4 lb li 0 l5 -1 -1 1 l6 -1 -1 3 l7 -1 -1 6 l8 -1 -1 7 l9 -1 -1 9 la -1 -1 f -2 -1 -1 9 lc -1 -1 6 ld -1 -1 0 le -1 -1 1 lf -1 -1 3 lg -1 -1 7 lh -1 -1 f -2 -1 -1 0 lj -1 -1 1 lk -1 -1 3 ll -1 -1 6 lm -1 -1 7 ln -1 -1 9 lo -1 -1 f -2 -1 -1 0 lq -1 -1 1 lr -1 -1 3 ls -1 -1 6 lt -1 -1 7 lu -1 -1 9 lv -1 -1 f -2 -1 -1 5 lx mw n6 e ly -1 mn 8 lz -1 -1 d m0 m7 mf 3 m1 -1 -1 4 m2 -1 -1 0 m3 -1 -1 1 m4 -1 -1 6 m5 -1 -1 7 m6 -1 -1 f -2 -1 -1 9 m8 -1 -1 6 m9 -1 -1 f ma -1 -1 0 mb -1 -1 1 mc -1 -1 3 md -1 -1 4 me -1 -1 7 -2 -1 -1 9 mg -1 -1 1 mh -1 -1 4 mi -1 -1 6 mj -1 -1 0 mk -1 -1 3 ml -1 -1 7 mm -1 -1 f -2 -1 -1 6 -1 -1 mo 1 -1 -1 mp 0 -1 -1 mq 7 -1 -1 mr 8 -1 -1 ms 9 -1 -1 mt b -1 -1 mu d -1 -1 mv f -1 -1 -3 1 -1 -1 mx 6 -1 -1 my d -1 -1 mz 7 -1 -1 n0 0 -1 -1 n1 8 -1 -1 n2 9 -1 -1 n3 b -1 -1 n4 e -1 -1 n5 f -1 -1 -3 e -1 -1 n7 4 n8 ng no 0 -1 -1 n9 6 -1 -1 na 9 -1 -1 nb 7 -1 -1 nc 8 -1 -1 nd b -1 -1 ne d -1 -1 nf f -1 -1 -3 0 -1 -1 nh 7 -1 -1 ni 9 -1 -1 nj 8 -1 -1 nk 6 -1 -1 nl b -1 -1 nm d -1 -1 nn f -1 -1 -3 7 -1 -1 np f nq nw o2 3 -1 -1 nr 6 -1 -1 ns 8 -1 -1 nt 9 -1 -1 nu b -1 -1 nv d -1 -1 -3 3 -1 -1 nx 6 -1 -1 ny b -1 -1 nz 8 -1 -1 o0 9 -1 -1 o1 d -1 -1 -3 8 -1 -1 o3 9 -1 -1 o4 6 -1 -1 o5 b -1 -1 o6 d -1 -1 -3 4 o8 p3 ps 6 -1 -1 o9 1 oa ok ou 0 -1 -1 ob 5 -1 -1 oc 7 -1 -1 od 8 -1 -1 oe 9 -1 -1 of b -1 -1 og c -1 -1 oh d -1 -1 oi e -1 -1 oj f -1 -1 -3 0 -1 -1 ol 5 -1 -1 om 7 -1 -1 on 8 -1 -1 oo 9 -1 -1 op b -1 -1 oq c -1 -1 or d -1 -1 os e -1 -1 ot f -1 -1 -3 e -1 -1 ov c -1 -1 ow 0 -1 -1 ox 7 -1 -1 oy 8 -1 -1 oz 9 -1 -1 p0 b -1 -1 p1 d -1 -1 p2 f -1 -1 -3 0 -1 -1 p4 6 -1 -1 p5 c -1 -1 p6 e -1 -1 p7 5 p8 pf pm 1 -1 -1 p9 7 -1 -1 pa 8 -1 -1 pb 9 -1 -1 pc b -1 -1 pd d -1 -1 pe f -1 -1 -3 1 -1 -1 pg b -1 -1 ph 7 -1 -1 pi d -1 -1 pj 8 -1 -1 pk f -1 -1 pl 9 -1 -1 -3 9 -1 -1 pn d -1 -1 po 7 -1 -1 pp b -1 -1 pq f -1 -1 pr 8 -1 -1 -3 e -1 -1 pt 8 -1 -1 pu 6 -1 -1 pv 3 pw q7 qm 7 -1 -1 px 9 -1 -1 py b -1 -1 pz c -1 -1 q0 d -1 -1 q1 f -1 -1 q2 5 q3 q5 -3 0 -1 -1 q4 1 -1 -1 -3 0 -1 -1 q6 1 -1 -1 -3 f -1 -1 q8 b -1 -1 q9 7 -1 -1 qa 9 -1 -1 qb 5 qc qg qk 0 -1 -1 qd 1 -1 -1 qe c -1 -1 qf d -1 -1 -3 0 -1 -1 qh 1 -1 -1 qi c -1 -1 qj d -1 -1 -3 c -1 -1 ql d -1 -1 -3 9 -1 -1 qn 7 -1 -1 qo c -1 -1 qp 5 qq qv r0 0 -1 -1 qr 1 -1 -1 qs b -1 -1 qt d -1 -1 qu f -1 -1 -3 1 -1 -1 qw 0 -1 -1 qx b -1 -1 qy d -1 -1 qz f -1 -1 -3 b -1 -1 r1 d -1 -1 -3 c r3 rx sl 0 -1 -1 r4 4 -1 -1 r5 f r6 re rm b -1 -1 r7 1 -1 -1 r8 3 -1 -1 r9 5 -1 -1 ra 6 -1 -1 rb 7 -1 -1 rc 8 -1 -1 rd 9 -1 -1 -3 b -1 -1 rf 5 -1 -1 rg 1 -1 -1 rh 3 -1 -1 ri 6 -1 -1 rj 7 -1 -1 rk 8 -1 -1 rl 9 -1 -1 -3 5 -1 -1 rn 8 -1 -1 ro 3 -1 -1 rp 1 -1 -1 rq 6 -1 -1 rr 7 -1 -1 rs 9 rt rv -3 d -1 -1 ru e -1 -1 -3 d -1 -1 rw e -1 -1 -3 0 -1 -1 ry 4 -1 -1 rz 8 -1 -1 s0 6 -1 -1 s1 3 -1 -1 s2 f s3 s8 sd 9 -1 -1 s4 1 -1 -1 s5 5 -1 -1 s6 7 -1 -1 s7 b -1 -1 -3 b -1 -1 s9 9 -1 -1 sa 7 -1 -1 sb 1 -1 -1 sc 5 -1 -1 -3 5 -1 -1 se 7 -1 -1 sf 1 -1 -1 sg 9 sh sj -3 d -1 -1 si e -1 -1 -3 d -1 -1 sk e -1 -1 -3 8 sm th u2 4 -1 -1 sn 0 -1 -1 so 5 sp sw t3 9 -1 -1 sq 1 -1 -1 sr 3 -1 -1 ss b -1 -1 st d -1 -1 su e -1 -1 sv f -1 -1 -3 9 -1 -1 sx 3 -1 -1 sy 1 -1 -1 sz b -1 -1 t0 d -1 -1 t1 e -1 -1 t2 f -1 -1 -3 1 -1 -1 t4 f -1 -1 t5 d -1 -1 t6 b t7 tb tf 3 -1 -1 t8 6 -1 -1 t9 7 -1 -1 ta e -1 -1 -3 6 -1 -1 tc 3 -1 -1 td 7 -1 -1 te e -1 -1 -3 3 -1 -1 tg e -1 -1 -3 4 -1 -1 ti 0 -1 -1 tj f -1 -1 tk e -1 -1 tl 1 -1 -1 tm 5 tn tr tv 3 -1 -1 to 9 -1 -1 tp b -1 -1 tq d -1 -1 -3 9 -1 -1 ts 3 -1 -1 tt d -1 -1 tu b -1 -1 -3 d -1 -1 tw 3 -1 -1 tx b ty u0 -3 6 -1 -1 tz 7 -1 -1 -3 6 -1 -1 u1 7 -1 -1 -3 7 u3 uf uv 3 -1 -1 u4 0 -1 -1 u5 1 -1 -1 u6 e -1 -1 u7 b -1 -1 u8 d -1 -1 u9 f -1 -1 ua 9 ub ud -3 4 -1 -1 uc 5 -1 -1 -3 4 -1 -1 ue 5 -1 -1 -3 f -1 -1 ug 3 -1 -1 uh 0 -1 -1 ui e -1 -1 uj d -1 -1 uk 9 ul up ut 1 -1 -1 um 4 -1 -1 un 5 -1 -1 uo b -1 -1 -3 5 -1 -1 uq 1 -1 -1 ur 4 -1 -1 us b -1 -1 -3 1 -1 -1 uu b -1 -1 -3 d uw v7 vo 1 -1 -1 ux 5 -1 -1 uy 3 -1 -1 uz 4 -1 -1 v0 6 -1 -1 v1 9 -1 -1 v2 b v3 v5 -3 0 -1 -1 v4 f -1 -1 -3 0 -1 -1 v6 f -1 -1 -3 1 -1 -1 v8 5 -1 -1 v9 4 -1 -1 va b vb vg vl 0 -1 -1 vc 3 -1 -1 vd 6 -1 -1 ve 9 -1 -1 vf f -1 -1 -3 0 -1 -1 vh 3 -1 -1 vi 9 -1 -1 vj 6 -1 -1 vk f -1 -1 -3 6 -1 -1 vm 9 -1 -1 vn 3 -1 -1 -3 9 vp vz w9 0 -1 -1 vq 1 -1 -1 vr 3 -1 -1 vs 4 -1 -1 vt 5 -1 -1 vu e -1 -1 vv f -1 -1 vw 6 vx vy -3 b -1 -1 -3 b -1 -1 -3 0 -1 -1 w0 f -1 -1 w1 3 -1 -1 w2 1 -1 -1 w3 4 -1 -1 w4 5 -1 -1 w5 e -1 -1 w6 6 w7 w8 -3 b -1 -1 -3 b -1 -1 -3 6 wa wf wk f -1 -1 wb 1 -1 -1 wc e -1 -1 wd 0 -1 -1 we b -1 -1 -3 f -1 -1 wg e -1 -1 wh 0 -1 -1 wi b -1 -1 wj 1 -1 -1 -3 b wl wr wx 0 -1 -1 wm 4 -1 -1 wn 1 -1 -1 wo 3 -1 -1 wp 5 -1 -1 wq f -1 -1 -3 4 -1 -1 ws 0 -1 -1 wt 1 -1 -1 wu 3 -1 -1 wv 5 -1 -1 ww f -1 -1 -3 4 wy x8 xe 0 -1 -1 wz 1 x0 x3 x6 5 -1 -1 x1 e -1 -1 x2 f -1 -1 -3 5 -1 -1 x4 e -1 -1 x5 f -1 -1 -3 e -1 -1 x7 f -1 -1 -3 f -1 -1 x9 e -1 -1 xa 0 -1 -1 xb 1 xc xd -3 5 -1 -1 -3 5 -1 -1 -3 5 xf xj xn 0 -1 -1 xg 1 -1 -1 xh e -1 -1 xi f -1 -1 -3 0 -1 -1 xk 1 -1 -1 xl f -1 -1 xm e -1 -1 -3 3 xo xq -3 e -1 -1 xp f -1 -1 -3 e -1 -1 xr f -1 -1 -3"};
+	}
+}
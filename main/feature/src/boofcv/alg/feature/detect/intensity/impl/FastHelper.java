@@ -51,4 +51,11 @@ public interface FastHelper<T extends ImageSingleBand> {
 	 * Checks to see if the specified pixel is above the upper threshold
 	 */
 	boolean checkPixelUpper( int index );
+
+	/**
+	 * Checks to see if the specified pixel is below the lower threshold, above the upper threshold, or in between.
+	 *
+	 * @return -1 if below the lower threshold, 1 if above the upper threshold, 0 otherwise
+	 */
+	int checkPixel( int index );
 }
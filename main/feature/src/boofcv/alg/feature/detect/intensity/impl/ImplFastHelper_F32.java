@@ -101,4 +101,15 @@ public class ImplFastHelper_F32 implements FastHelper<ImageFloat32> {
 	{
 		return (image.data[index] ) > upper;
 	}
+
+	@Override
+	public int checkPixel( int index )
+	{
+		float v = image.data[index];
+		if( v < lower )
+			return -1;
+		else if( v > upper )
+			return 1;
+		return 0;
+	}
 }
@@ -101,4 +101,15 @@ public class ImplFastHelper_U8 implements FastHelper<ImageUInt8> {
 	{
 		return (image.data[index] & 0xFF) > upper;
 	}
+
+	@Override
+	public int checkPixel( int index )
+	{
+		int v = (image.data[index] & 0xFF);
+		if( v < lower )
+			return -1;
+		else if( v > upper )
+			return 1;
+		return 0;
+	}
 }
@@ -0,0 +1,104 @@
+/*
+ * Copyright (c) 2011-2015, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.feature.detect.intensity.impl;
+
+import boofcv.alg.feature.detect.intensity.FastCornerIntensity;
+import boofcv.struct.QueueCorner;
+import boofcv.struct.image.ImageFloat32;
+import boofcv.struct.image.ImageSingleBand;
+
+/**
+ * <p>
+ * FAST corner detector which uses a {@link FastDecisionTree} learned from training images to decide if a pixel
+ * is a corner.  The darker and brighter tests are done together and each pixel in the circle is read at most once,
+ * while the order pixels are read in has been optimized for rejecting pixels which are not corners.  Produces
+ * the same output as the code generated implementations, e.g. {@link ImplFastIntensity9}.
+ * </p>
+ *
+ * @author Peter Abeles
+ */
+public class ImplFastIntensityTree<T extends ImageSingleBand> extends FastCornerIntensity<T> {
+
+	// decides if a pixel is a corner
+	protected FastDecisionTree tree;
+
+	/**
+	 * @param helper Provide the image type specific helper.
+	 * @param tree Decision tree for the desired number of continuous pixels
+	 */
+	public ImplFastIntensityTree(FastHelper<T> helper, FastDecisionTree tree) {
+		super(helper);
+		this.tree = tree;
+	}
+
+	@Override
+	public void process( T image , ImageFloat32 intensity ) {
+		initialize(image);
+		processRows(helper, radius, image.height - radius, intensity, getCandidates());
+	}
+
+	/**
+	 * Computes the corner intensity for a range of rows.
+	 *
+	 * @param helper Helper which has been initialized for the image
+	 * @param y0 First row, inclusive
+	 * @param y1 Last row, exclusive
+	 * @param intensity Output intensity image
+	 * @param candidates Storage for found corners
+	 */
+	protected void processRows( FastHelper<T> helper , int y0 , int y1 ,
+								ImageFloat32 intensity , QueueCorner candidates ) {
+		final FastDecisionTree tree = this.tree;
+		final int offsets[] = this.offsets;
+
+		for (int y = y0; y < y1; y++) {
+			int indexIntensity = intensity.startIndex + y*intensity.stride + radius;
+			int index = image.startIndex + y*image.stride + radius;
+			for (int x = radius; x < image.width-radius; x++, index++,indexIntensity++) {
+
+				helper.setThresholds(index);
+
+				int result = tree.classify(helper, offsets, index);
+				if( result == FastDecisionTree.LOWER ) {
+					intensity.data[indexIntensity] = helper.scoreLower(index);
+					candidates.add(x,y);
+				} else if( result == FastDecisionTree.UPPER ) {
+					intensity.data[indexIntensity] = helper.scoreUpper(index);
+					candidates.add(x,y);
+				} else {
+					intensity.data[indexIntensity] = 0;
+				}
+			}
+		}
+	}
+
+	@Override
+	protected boolean checkLower(int index) {
+		return tree.classify(helper, offsets, index) == FastDecisionTree.LOWER;
+	}
+
+	@Override
+	protected boolean checkUpper(int index) {
+		return tree.classify(helper, offsets, index) == FastDecisionTree.UPPER;
+	}
+
+	public FastDecisionTree getTree() {
+		return tree;
+	}
+}
@@ -0,0 +1,92 @@
+/*
+ * Copyright (c) 2011-2015, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.feature.detect.intensity.impl;
+
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.concurrency.IntRangeObjectTask;
+import boofcv.concurrency.WorkerFactory;
+import boofcv.struct.QueueCorner;
+import boofcv.struct.image.ImageFloat32;
+import boofcv.struct.image.ImageSingleBand;
+import org.ddogleg.struct.FastQueue;
+
+/**
+ * Concurrent implementation of {@link ImplFastIntensityTree}.  The image is split into blocks of rows which
+ * are processed in parallel, each with its own {@link FastHelper}.  The candidate corners are identical and in
+ * the same order as the single threaded version.
+ *
+ * @author Peter Abeles
+ */
+public class ImplFastIntensityTree_MT<T extends ImageSingleBand> extends ImplFastIntensityTree<T> {
+
+	// minimum number of rows processed by a thread
+	private static final int MIN_ROWS = 10;
+
+	// creates a helper for each thread
+	private WorkerFactory<FastHelper<T>> factoryHelper;
+
+	// storage for each block of rows
+	private FastQueue<Worker> workers;
+
+	/**
+	 * @param factoryHelper Creates the image type specific helper
+	 * @param tree Decision tree for the desired number of continuous pixels
+	 */
+	@SuppressWarnings("unchecked")
+	public ImplFastIntensityTree_MT(WorkerFactory<FastHelper<T>> factoryHelper, FastDecisionTree tree) {
+		super(factoryHelper.newInstance(), tree);
+		this.factoryHelper = factoryHelper;
+
+		workers = new FastQueue<Worker>(1,(Class)Worker.class,true) {
+			@Override
+			protected Worker createInstance() {
+				return new Worker();
+			}
+		};
+	}
+
+	@Override
+	public void process( final T image , final ImageFloat32 intensity ) {
+		initialize(image);
+
+		BoofConcurrency.loopBlocks(radius, image.height - radius, MIN_ROWS, workers,
+				new IntRangeObjectTask<Worker>() {
+			@Override
+			public void call(Worker worker, int y0, int y1) {
+				worker.candidates.reset();
+				worker.helper.setImage(image, offsets);
+				processRows(worker.helper, y0, y1, intensity, worker.candidates);
+			}
+		});
+
+		// blocks are in order so the candidates will be too
+		QueueCorner candidates = getCandidates();
+		for( int i = 0; i < workers.size; i++ ) {
+			QueueCorner found = workers.get(i).candidates;
+			for( int j = 0; j < found.size; j++ ) {
+				candidates.add(found.get(j));
+			}
+		}
+	}
+
+	private class Worker {
+		FastHelper<T> helper = factoryHelper.newInstance();
+		QueueCorner candidates = new QueueCorner(10);
+	}
+}
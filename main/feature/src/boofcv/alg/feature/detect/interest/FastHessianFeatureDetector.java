@@ -97,19 +97,19 @@ public class FastHessianFeatureDetector<II extends ImageSingleBand> {
 	private QueueCorner foundFeatures = new QueueCorner(100);
 
 	// List of found feature points
-	private FastQueue<ScalePoint> foundPoints = new FastQueue<ScalePoint>(10,ScalePoint.class,true);
+	protected FastQueue<ScalePoint> foundPoints = new FastQueue<ScalePoint>(10,ScalePoint.class,true);
 
 	// size of detected feature at the smallest scale
-	private int initialSize;
+	protected int initialSize;
 	// the number of octaves it examines
-	private int numberOfOctaves;
+	protected int numberOfOctaves;
 
 	// local variables that are predeclared
-	private int sizes[];
+	protected int sizes[];
 
 	// how often the image is sampled in the first octave
 	// a value of 1 would mean every pixel is sampled
-	private int initialSampleRate;
+	protected int initialSampleRate;
 
 	/**
 	 * <p>
@@ -212,7 +212,8 @@ public class FastHessianFeatureDetector<II extends ImageSingleBand> {
 
 			// find maximum in scale space
 			if( i >= 2 ) {
-				findLocalScaleSpaceMax(featureSize,i-1,skip);
+				findLocalScaleSpaceMax(intensity[spaceIndex],intensity[(spaceIndex + 1) % 3],
+						intensity[(spaceIndex + 2) % 3],featureSize,i-1,skip);
 			}
 		}
 	}
@@ -220,31 +221,31 @@ public class FastHessianFeatureDetector<II extends ImageSingleBand> {
 	/**
 	 * Looks for features which are local maximums in the image and scale-space.
 	 *
+	 * @param lower Intensity image of the scale below 'level'
+	 * @param middle Intensity image at 'level'
+	 * @param upper Intensity image of the scale above 'level'
 	 * @param size Size of features in different scale-spaces.
 	 * @param level Which level in the scale-space
 	 * @param skip How many pixels are skipped over.
 	 */
-	private void findLocalScaleSpaceMax(int []size, int level, int skip) {
-		int index0 = spaceIndex;
-		int index1 = (spaceIndex + 1) % 3;
-		int index2 = (spaceIndex + 2) % 3;
-
-		ImageBorder_F32 inten0 = (ImageBorder_F32)FactoryImageBorderAlgs.value(intensity[index0], 0);
-		ImageFloat32 inten1 = intensity[index1];
-		ImageBorder_F32 inten2 = (ImageBorder_F32)FactoryImageBorderAlgs.value(intensity[index2], 0);
+	protected void findLocalScaleSpaceMax(ImageFloat32 lower, ImageFloat32 middle, ImageFloat32 upper,
+										  int []size, int level, int skip) {
+		ImageBorder_F32 inten0 = (ImageBorder_F32)FactoryImageBorderAlgs.value(lower, 0);
+		ImageFloat32 inten1 = middle;
+		ImageBorder_F32 inten2 = (ImageBorder_F32)FactoryImageBorderAlgs.value(upper, 0);
 
 		// find local maximums in image 2D space.  Borders need to be ignored since
 		// false positives are found around them as an artifact of pixels outside being
 		// treated as being zero.
 		foundFeatures.reset();
 		extractor.setIgnoreBorder(size[level] / (2 * skip));
-		extractor.process(intensity[index1],null,null,null,foundFeatures);
+		extractor.process(inten1,null,null,null,foundFeatures);
 
 		// Can't consider feature which are right up against the border since they might not be a true local
 		// maximum when you consider the features on the other side of the ignore border
 		int ignoreRadius = extractor.getIgnoreBorder() + extractor.getSearchRadius();
-		int ignoreWidth = intensity[index1].width-ignoreRadius;
-		int ignoreHeight = intensity[index1].height-ignoreRadius;
+		int ignoreWidth = inten1.width-ignoreRadius;
+		int ignoreHeight = inten1.height-ignoreRadius;
 
 		// number of features which can be added
 		int numberRemaining;
@@ -252,7 +253,7 @@ public class FastHessianFeatureDetector<II extends ImageSingleBand> {
 		// if configured to do so, only select the features with the highest intensity
 		QueueCorner features;
 		if( sortBest != null ) {
-			sortBest.process(intensity[index1],foundFeatures,true);
+			sortBest.process(inten1,foundFeatures,true);
 			features = sortBest.getBestCorners();
 			numberRemaining = maxFeaturesPerScale;
 		} else {
@@ -0,0 +1,141 @@
+/*
+ * Copyright (c) 2011-2015, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.feature.detect.interest;
+
+import boofcv.abst.feature.detect.extract.NonMaxSuppression;
+import boofcv.alg.feature.detect.intensity.GIntegralImageFeatureIntensity;
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.struct.image.ImageFloat32;
+import boofcv.struct.image.ImageSingleBand;
+import org.ddogleg.struct.FastQueue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Future;
+
+/**
+ * <p>
+ * Concurrent implementation of {@link FastHessianFeatureDetector}.  The feature intensity at each scale in every
+ * octave is independent of all the others, so all of them are submitted to the thread pool at once.  Non-maximum
+ * suppression is pipelined with the intensity computation.  The calling thread processes each scale in the same
+ * order as the single threaded version, as soon as the three scales it depends on are available, while
+ * higher scales are still being computed.  This ensures that the found features are identical and in the same
+ * order as {@link FastHessianFeatureDetector}.
+ * </p>
+ *
+ * <p>
+ * Note: An intensity image is kept in memory for every scale in every octave instead of just three.
+ * </p>
+ *
+ * @author Peter Abeles
+ */
+public class FastHessianFeatureDetector_MT<II extends ImageSingleBand> extends FastHessianFeatureDetector<II> {
+
+	// intensity image for every scale in every octave
+	private FastQueue<ImageFloat32> intensity = new FastQueue<ImageFloat32>(ImageFloat32.class,true) {
+		@Override
+		protected ImageFloat32 createInstance() {
+			return new ImageFloat32(1,1);
+		}
+	};
+
+	// the feature sizes in each octave that's being processed
+	private List<int[]> octaveSizes = new ArrayList<int[]>();
+	// sample rate in each octave
+	private List<Integer> octaveSkip = new ArrayList<Integer>();
+	// futures for the intensity computation of each scale
+	private List<Future<?>> futures = new ArrayList<Future<?>>();
+
+	/**
+	 * @see FastHessianFeatureDetector#FastHessianFeatureDetector
+	 */
+	public FastHessianFeatureDetector_MT(NonMaxSuppression extractor, int maxFeaturesPerScale,
+										 int initialSampleRate, int initialSize,
+										 int numberScalesPerOctave,
+										 int numberOfOctaves) {
+		super(extractor, maxFeaturesPerScale, initialSampleRate, initialSize, numberScalesPerOctave, numberOfOctaves);
+	}
+
+	@Override
+	public void detect( final II integral ) {
+		foundPoints.reset();
+		selectOctaves(integral.width, integral.height);
+
+		// start computing the intensity of every scale
+		intensity.reset();
+		futures.clear();
+		for( int octave = 0; octave < octaveSizes.size(); octave++ ) {
+			final int skip = octaveSkip.get(octave);
+			int[] featureSize = octaveSizes.get(octave);
+			for( int i = 0; i < featureSize.length; i++ ) {
+				final ImageFloat32 output = intensity.grow();
+				output.reshape(integral.width/skip,integral.height/skip);
+				final int size = featureSize[i];
+				futures.add(BoofConcurrency.submit(new Runnable() {
+					@Override
+					public void run() {
+						GIntegralImageFeatureIntensity.hessian(integral, skip, size, output);
+					}
+				}));
+			}
+		}
+
+		// search for local maximums as soon as the scales they depend on are available
+		int index = 0;
+		for( int octave = 0; octave < octaveSizes.size(); octave++ ) {
+			int skip = octaveSkip.get(octave);
+			int[] featureSize = octaveSizes.get(octave);
+			for( int i = 0; i < featureSize.length; i++ ) {
+				BoofConcurrency.waitFor(futures.get(index + i));
+				if( i >= 2 ) {
+					findLocalScaleSpaceMax(intensity.get(index+i-2),intensity.get(index+i-1),intensity.get(index+i),
+							featureSize,i-1,skip);
+				}
+			}
+			index += featureSize.length;
+		}
+	}
+
+	/**
+	 * Determines which octaves will be processed, their sample rate, and feature sizes.  The same
+	 * octaves as {@link FastHessianFeatureDetector#detect} are selected.
+	 */
+	private void selectOctaves( int width , int height ) {
+		octaveSizes.clear();
+		octaveSkip.clear();
+
+		int skip = initialSampleRate;
+		int sizeStep = 6;
+		int octaveSize = initialSize;
+		for( int octave = 0; octave < numberOfOctaves; octave++ ) {
+			int[] featureSize = new int[ sizes.length ];
+			for( int i = 0; i < featureSize.length; i++ ) {
+				featureSize[i] = octaveSize + i*sizeStep;
+			}
+			int maxSize = featureSize[featureSize.length-1];
+			if( maxSize > width || maxSize > height )
+				break;
+			octaveSizes.add(featureSize);
+			octaveSkip.add(skip);
+			skip += skip;
+			octaveSize += sizeStep;
+			sizeStep += sizeStep;
+		}
+	}
+}
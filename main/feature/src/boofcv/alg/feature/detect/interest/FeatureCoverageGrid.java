@@ -0,0 +1,138 @@
+/*
+ * Copyright (c) 2011-2015, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.feature.detect.interest;
+
+import boofcv.struct.ImageRectangle;
+import org.ddogleg.struct.FastQueue;
+
+import java.util.List;
+
+/**
+ * <p>
+ * Coarse mask of which parts of an image are already covered by features.  The image is broken up into square
+ * cells and a cell is covered if it contains at least one feature.  The uncovered cells are converted into a list
+ * of regions, which can then be passed to {@link GeneralFeatureDetector} so that new features are only searched
+ * for where they are needed.  Neighboring uncovered cells in the same row are merged into a single region
+ * to reduce the overhead of processing the border around each region.
+ * </p>
+ *
+ * @author Peter Abeles
+ */
+public class FeatureCoverageGrid {
+	// width and height of a cell
+	private int cellWidth;
+
+	// number of cells along each axis
+	private int numCols, numRows;
+	// shape of the image
+	private int imageWidth, imageHeight;
+
+	// number of features inside each cell
+	private int counts[] = new int[0];
+
+	// regions which are not covered by features
+	private FastQueue<ImageRectangle> regions = new FastQueue<ImageRectangle>(ImageRectangle.class,true);
+
+	// number of uncovered cells
+	private int totalUncovered;
+
+	/**
+	 * @param cellWidth Width and height of a cell in pixels
+	 */
+	public FeatureCoverageGrid(int cellWidth) {
+		if( cellWidth <= 0 )
+			throw new IllegalArgumentException("Cell width must be more than zero");
+		this.cellWidth = cellWidth;
+	}
+
+	/**
+	 * Resizes the grid for the image and marks every cell as uncovered
+	 */
+	public void reset( int imageWidth , int imageHeight ) {
+		this.imageWidth = imageWidth;
+		this.imageHeight = imageHeight;
+		numCols = (imageWidth + cellWidth - 1)/cellWidth;
+		numRows = (imageHeight + cellWidth - 1)/cellWidth;
+
+		int N = numCols*numRows;
+		if( counts.length < N )
+			counts = new int[N];
+		for( int i = 0; i < N; i++ ) {
+			counts[i] = 0;
+		}
+	}
+
+	/**
+	 * Marks the cell which contains the point as covered.  Points outside the image are ignored.
+	 */
+	public void markCovered( int x , int y ) {
+		if( x < 0 || y < 0 || x >= imageWidth || y >= imageHeight )
+			return;
+		counts[(y/cellWidth)*numCols + x/cellWidth]++;
+	}
+
+	/**
+	 * Finds regions which are not covered by any features.
+	 */
+	public void process() {
+		regions.reset();
+		totalUncovered = 0;
+
+		for( int row = 0; row < numRows; row++ ) {
+			int index = row*numCols;
+			int col = 0;
+			while( col < numCols ) {
+				if( counts[index+col] > 0 ) {
+					col++;
+					continue;
+				}
+				// merge uncovered cells which are next to each other
+				int start = col;
+				while( col < numCols && counts[index+col] == 0 )
+					col++;
+				totalUncovered += col-start;
+
+				ImageRectangle r = regions.grow();
+				r.x0 = start*cellWidth;
+				r.y0 = row*cellWidth;
+				r.x1 = Math.min(imageWidth,col*cellWidth);
+				r.y1 = Math.min(imageHeight,(row+1)*cellWidth);
+			}
+		}
+	}
+
+	/**
+	 * Returns the regions which are not covered by features.  Must call {@link #process()} first.
+	 */
+	public List<ImageRectangle> getUncovered() {
+		return regions.toList();
+	}
+
+	/**
+	 * Fraction of cells which are not covered by features.  Must call {@link #process()} first.
+	 */
+	public double getFractionUncovered() {
+		int N = numCols*numRows;
+		return N == 0 ? 0 : totalUncovered/(double)N;
+	}
+
+	public int getCellWidth() {
+		return cellWidth;
+	}
+}
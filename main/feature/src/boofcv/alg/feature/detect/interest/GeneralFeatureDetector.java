@@ -21,11 +21,14 @@ package boofcv.alg.feature.detect.interest;
 import boofcv.abst.feature.detect.extract.NonMaxSuppression;
 import boofcv.abst.feature.detect.intensity.GeneralFeatureIntensity;
 import boofcv.alg.feature.detect.extract.SelectNBestFeatures;
+import boofcv.struct.ImageRectangle;
 import boofcv.struct.QueueCorner;
 import boofcv.struct.image.ImageFloat32;
 import boofcv.struct.image.ImageSingleBand;
 import georegression.struct.point.Point2D_I16;
 
+import java.util.List;
+
 /**
  * <p>
  * Detects features which are local maximums and/or local minimums in the feature intensity image.
@@ -39,6 +42,12 @@ import georegression.struct.point.Point2D_I16;
  * found features are returned.  Set to a value <= 0 to detect all features.
  * </p>
  *
+ * <p>
+ * Features can be detected inside a list of regions instead of the whole image.  Then the intensity
+ * is only computed inside of the regions and a small margin around them, which is much faster when only a small
+ * part of the image needs new features.
+ * </p>
+ *
  * @param <I> Input image type.
  * @param <D> Image derivative type.
  *
@@ -65,6 +74,13 @@ public class GeneralFeatureDetector<I extends ImageSingleBand, D extends ImageSi
 	// computes the feature intensity image
 	protected GeneralFeatureIntensity<I, D> intensity;
 
+	// detects features inside of regions.  Declared the first time it's needed
+	private RegionFeatureDetector<I,D> regionDetector;
+	// intensity image of the regions
+	private ImageFloat32 regionIntensity;
+	// true if the last image was processed inside of regions
+	private boolean processedRegions = false;
+
 	/**
 	 * Specifies which algorithms to use and configures the detector.
 	 *
@@ -105,6 +121,7 @@ public class GeneralFeatureDetector<I extends ImageSingleBand, D extends ImageSi
 	 * @param derivYY Second derivative.  Only needed if {@link #getRequiresHessian()} ()} is true.
 	 */
 	public void process(I image, D derivX, D derivY, D derivXX, D derivYY, D derivXY) {
+		processedRegions = false;
 		intensity.process(image, derivX, derivY, derivXX, derivYY, derivXY);
 		ImageFloat32 intensityImage = intensity.getIntensity();
 
@@ -148,6 +165,66 @@ public class GeneralFeatureDetector<I extends ImageSingleBand, D extends ImageSi
 		selectBest(intensityImage, foundMaximum, numSelectMax, true);
 	}
 
+	/**
+	 * Detects point features only inside the specified regions.  The intensity is computed inside of each region
+	 * plus a margin around it, and the found features are the same as the ones {@link #process} would find inside
+	 * the regions.  Excluded features and the maximum number of features are handled the same way as with
+	 * the whole image.  After processing, {@link #getIntensity()} is only valid inside of the regions.
+	 *
+	 * @param image   Original image.
+	 * @param derivX  image derivative in along the x-axis. Only needed if {@link #getRequiresGradient()} is true.
+	 * @param derivY  image derivative in along the y-axis. Only needed if {@link #getRequiresGradient()} is true.
+	 * @param derivXX Second derivative.  Only needed if {@link #getRequiresHessian()} ()} is true.
+	 * @param derivXY Second derivative.  Only needed if {@link #getRequiresHessian()} ()} is true.
+	 * @param derivYY Second derivative.  Only needed if {@link #getRequiresHessian()} ()} is true.
+	 * @param regions Regions which features are detected inside of. Must not overlap.
+	 */
+	public void process(I image, D derivX, D derivY, D derivXX, D derivYY, D derivXY,
+						List<ImageRectangle> regions ) {
+		if( regionDetector == null ) {
+			regionDetector = new RegionFeatureDetector<I, D>(intensity,extractor);
+			regionIntensity = new ImageFloat32(image.width,image.height);
+		} else {
+			regionIntensity.reshape(image.width,image.height);
+		}
+		processedRegions = true;
+
+		foundMinimum.reset();
+		foundMaximum.reset();
+
+		int numSelectMin = -1;
+		int numSelectMax = -1;
+		if( maxFeatures > 0 ) {
+			if( intensity.localMinimums() )
+				numSelectMin = excludeMinimum == null ? maxFeatures : maxFeatures - excludeMinimum.size;
+			if( intensity.localMaximums() )
+				numSelectMax = excludeMaximum == null ? maxFeatures : maxFeatures - excludeMaximum.size;
+
+			// return without processing if there is no room to detect any more features
+			if( numSelectMin <= 0 && numSelectMax <= 0 )
+				return;
+		}
+
+		for( int i = 0; i < regions.size(); i++ ) {
+			ImageRectangle r = regions.get(i);
+			int x0 = Math.max(0,r.x0);
+			int y0 = Math.max(0,r.y0);
+			int x1 = Math.min(image.width,r.x1);
+			int y1 = Math.min(image.height,r.y1);
+			if( x0 >= x1 || y0 >= y1 )
+				continue;
+
+			regionDetector.process(image, derivX, derivY, derivXX, derivYY, derivXY,
+					x0, y0, x1, y1, excludeMinimum, excludeMaximum);
+			regionDetector.addFound(foundMinimum, foundMaximum);
+			regionDetector.copyIntensity(regionIntensity);
+		}
+
+		// optionally select the most intense features only
+		selectBest(regionIntensity, foundMinimum, numSelectMin, false);
+		selectBest(regionIntensity, foundMaximum, numSelectMax, true);
+	}
+
 	private void selectBest(ImageFloat32 intensityImage, QueueCorner found , int numSelect, boolean positive) {
 		if (numSelect > 0) {
 			selectBest.setN(numSelect);
@@ -190,6 +267,8 @@ public class GeneralFeatureDetector<I extends ImageSingleBand, D extends ImageSi
 	}
 
 	public ImageFloat32 getIntensity() {
+		if( processedRegions )
+			return regionIntensity;
 		return intensity.getIntensity();
 	}
 
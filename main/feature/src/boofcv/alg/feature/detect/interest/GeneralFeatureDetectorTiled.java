@@ -0,0 +1,251 @@
+/*
+ * Copyright (c) 2011-2015, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.feature.detect.interest;
+
+import boofcv.abst.feature.detect.extract.NonMaxSuppression;
+import boofcv.abst.feature.detect.intensity.GeneralFeatureIntensity;
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.concurrency.IntRangeObjectTask;
+import boofcv.concurrency.WorkerFactory;
+import boofcv.struct.ImageRectangle;
+import boofcv.struct.QueueCorner;
+import boofcv.struct.image.ImageFloat32;
+import boofcv.struct.image.ImageSingleBand;
+import org.ddogleg.struct.FastQueue;
+
+import java.util.List;
+
+/**
+ * <p>
+ * Variant of {@link GeneralFeatureDetector} which splits the image into square tiles and detects features inside
+ * each tile independently.  Tiles are processed concurrently, each thread has its own feature intensity and
+ * non-maximum suppression algorithm.  If a maximum number of features is specified then it is applied to
+ * each tile individually, which results in features that are more uniformly distributed across the image.
+ * </p>
+ *
+ * <p>
+ * Tile borders are handled by computing the intensity over a region which is larger than the tile by
+ * a margin which is large enough for the intensity and non-maximum suppression of every pixel inside the
+ * tile to be the same as it would be if the whole image was processed at once, see {@link RegionFeatureDetector}. Without a maximum number of
+ * features the output is identical to {@link GeneralFeatureDetector}, except for the order of the features.
+ * </p>
+ *
+ * <p>
+ * Excluded features are handled the same way as in {@link GeneralFeatureDetector}, but their number is subtracted
+ * from the quota of the tile which contains them.
+ * </p>
+ *
+ * @author Peter Abeles
+ */
+public class GeneralFeatureDetectorTiled<I extends ImageSingleBand, D extends ImageSingleBand>
+		extends GeneralFeatureDetector<I,D>
+{
+	// width and height of a tile
+	private int tileWidth;
+
+	// used to create the algorithms used by each thread
+	private WorkerFactory<GeneralFeatureIntensity<I,D>> factoryIntensity;
+	private WorkerFactory<NonMaxSuppression> factoryExtractor;
+
+	// storage for each thread
+	private FastQueue<RegionFeatureDetector<I,D>> workers;
+
+	// bounds of each tile
+	private FastQueue<ImageRectangle> tileRegions = new FastQueue<ImageRectangle>(ImageRectangle.class,true);
+
+	// features found inside each tile
+	private FastQueue<QueueCorner> tileMinimums = new FastQueue<QueueCorner>(QueueCorner.class,true);
+	private FastQueue<QueueCorner> tileMaximums = new FastQueue<QueueCorner>(QueueCorner.class,true);
+
+	// intensity of the whole image, assembled from the tiles
+	private ImageFloat32 fullIntensity = new ImageFloat32(1,1);
+
+	// number of tiles along each axis
+	private int numTilesX, numTilesY;
+
+	// regions which features are detected inside of.  null for the whole image
+	private List<ImageRectangle> regions;
+
+	// references to the input images
+	private I image;
+	private D derivX, derivY, derivXX, derivYY, derivXY;
+
+	/**
+	 * Specifies which algorithms to use and configures the detector.
+	 *
+	 * @param factoryIntensity Creates algorithms that compute how much like the feature the region around each pixel is.
+	 * @param factoryExtractor Creates the algorithms that extract features from the intensity image.
+	 * @param tileWidth Width and height of a tile in pixels.
+	 */
+	@SuppressWarnings("unchecked")
+	public GeneralFeatureDetectorTiled(WorkerFactory<GeneralFeatureIntensity<I, D>> factoryIntensity,
+									   WorkerFactory<NonMaxSuppression> factoryExtractor,
+									   int tileWidth ) {
+		super(factoryIntensity.newInstance(), factoryExtractor.newInstance());
+		if( tileWidth <= 0 )
+			throw new IllegalArgumentException("Tile width must be more than zero");
+
+		this.factoryIntensity = factoryIntensity;
+		this.factoryExtractor = factoryExtractor;
+		this.tileWidth = tileWidth;
+
+		workers = new FastQueue<RegionFeatureDetector<I,D>>(1,(Class)RegionFeatureDetector.class,true) {
+			@Override
+			protected RegionFeatureDetector<I,D> createInstance() {
+				return new RegionFeatureDetector<I, D>(
+						GeneralFeatureDetectorTiled.this.factoryIntensity.newInstance(),
+						GeneralFeatureDetectorTiled.this.factoryExtractor.newInstance());
+			}
+		};
+	}
+
+	@Override
+	public void process(I image, D derivX, D derivY, D derivXX, D derivYY, D derivXY) {
+		setInputs(image, derivX, derivY, derivXX, derivYY, derivXY);
+		this.regions = null;
+
+		processTiles();
+	}
+
+	/**
+	 * Only detects features inside of the specified regions.  Inside each tile, features are detected in the
+	 * intersection of the tile with each region and tiles which don't intersect any of the regions are skipped.
+	 * The maximum number of features is applied to all the features found inside a tile.
+	 */
+	@Override
+	public void process(I image, D derivX, D derivY, D derivXX, D derivYY, D derivXY,
+						List<ImageRectangle> regions ) {
+		setInputs(image, derivX, derivY, derivXX, derivYY, derivXY);
+		this.regions = regions;
+
+		processTiles();
+		this.regions = null;
+	}
+
+	private void setInputs(I image, D derivX, D derivY, D derivXX, D derivYY, D derivXY) {
+		this.image = image;
+		this.derivX = derivX;
+		this.derivY = derivY;
+		this.derivXX = derivXX;
+		this.derivYY = derivYY;
+		this.derivXY = derivXY;
+
+		numTilesX = (image.width + tileWidth - 1)/tileWidth;
+		numTilesY = (image.height + tileWidth - 1)/tileWidth;
+		int numTiles = numTilesX*numTilesY;
+
+		fullIntensity.reshape(image.width,image.height);
+		tileRegions.reset();
+		tileMinimums.reset();
+		tileMaximums.reset();
+		for( int i = 0; i < numTiles; i++ ) {
+			ImageRectangle r = tileRegions.grow();
+			r.x0 = (i % numTilesX)*tileWidth;
+			r.y0 = (i / numTilesX)*tileWidth;
+			r.x1 = Math.min(image.width, r.x0 + tileWidth);
+			r.y1 = Math.min(image.height, r.y0 + tileWidth);
+			tileMinimums.grow().reset();
+			tileMaximums.grow().reset();
+		}
+	}
+
+	/**
+	 * Processes each tile's region in parallel then combines the results
+	 */
+	private void processTiles() {
+		BoofConcurrency.loopBlocks(0, tileRegions.size, 1, workers, new IntRangeObjectTask<RegionFeatureDetector<I,D>>() {
+			@Override
+			public void call(RegionFeatureDetector<I,D> worker, int i0, int i1) {
+				worker.setExtractorConfig(extractor);
+				for( int i = i0; i < i1; i++ ) {
+					ImageRectangle r = tileRegions.get(i);
+					if( regions == null ) {
+						worker.process(image, derivX, derivY, derivXX, derivYY, derivXY,
+								r.x0, r.y0, r.x1, r.y1, excludeMinimum, excludeMaximum);
+						worker.selectBest(maxFeatures);
+						worker.addFound(tileMinimums.get(i), tileMaximums.get(i));
+						worker.copyIntensity(fullIntensity);
+					} else {
+						processRegions(worker, r, tileMinimums.get(i), tileMaximums.get(i));
+					}
+				}
+			}
+		});
+
+		// combine the results in a deterministic order
+		foundMinimum.reset();
+		foundMaximum.reset();
+		for( int i = 0; i < tileRegions.size; i++ ) {
+			addAll(tileMinimums.get(i), foundMinimum);
+			addAll(tileMaximums.get(i), foundMaximum);
+		}
+	}
+
+	/**
+	 * Detects features inside the intersection of the tile with each region then selects the best features
+	 * found inside the tile.  The tile's part of the full intensity image is used for the selection, which
+	 * is only written to by this tile.
+	 */
+	private void processRegions( RegionFeatureDetector<I,D> worker , ImageRectangle tile ,
+								 QueueCorner minimums , QueueCorner maximums ) {
+		int excludedMinimum = 0, excludedMaximum = 0;
+
+		for( int i = 0; i < regions.size(); i++ ) {
+			ImageRectangle region = regions.get(i);
+			int x0 = Math.max(tile.x0,region.x0);
+			int y0 = Math.max(tile.y0,region.y0);
+			int x1 = Math.min(tile.x1,region.x1);
+			int y1 = Math.min(tile.y1,region.y1);
+			if( x0 >= x1 || y0 >= y1 )
+				continue;
+
+			worker.process(image, derivX, derivY, derivXX, derivYY, derivXY,
+					x0, y0, x1, y1, excludeMinimum, excludeMaximum);
+			worker.addFound(minimums, maximums);
+			worker.copyIntensity(fullIntensity);
+			excludedMinimum += worker.getExcludedMinimum();
+			excludedMaximum += worker.getExcludedMaximum();
+		}
+
+		if( maxFeatures > 0 ) {
+			if( worker.getIntensity().localMinimums() )
+				worker.selectBest(fullIntensity, minimums, maxFeatures - excludedMinimum, false);
+			if( worker.getIntensity().localMaximums() )
+				worker.selectBest(fullIntensity, maximums, maxFeatures - excludedMaximum, true);
+		}
+	}
+
+	private static void addAll( QueueCorner src , QueueCorner dst ) {
+		for( int i = 0; i < src.size; i++ ) {
+			dst.add(src.get(i));
+		}
+	}
+
+	/**
+	 * Returns the feature intensity of the whole image.  It's assembled from the intensity computed in each tile.
+	 */
+	@Override
+	public ImageFloat32 getIntensity() {
+		return fullIntensity;
+	}
+
+	public int getTileWidth() {
+		return tileWidth;
+	}
+}
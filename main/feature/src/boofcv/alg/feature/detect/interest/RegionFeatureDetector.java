@@ -0,0 +1,252 @@
+/*
+ * Copyright (c) 2011-2015, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.feature.detect.interest;
+
+import boofcv.abst.feature.detect.extract.NonMaxSuppression;
+import boofcv.abst.feature.detect.intensity.GeneralFeatureIntensity;
+import boofcv.alg.feature.detect.extract.SelectNBestFeatures;
+import boofcv.alg.misc.ImageMiscOps;
+import boofcv.struct.QueueCorner;
+import boofcv.struct.image.ImageFloat32;
+import boofcv.struct.image.ImageSingleBand;
+import georegression.struct.point.Point2D_I16;
+
+/**
+ * <p>
+ * Detects features inside a rectangular region of the image.  The feature intensity is only computed inside
+ * a sub-image that contains the region plus a margin.  The margin is the search radius plus the larger of the
+ * intensity's and the extractor's ignore border, which ensures that every feature found inside the region is the
+ * same as it would be if the whole image was processed.  Used to process tiles in parallel and to only
+ * detect features in parts of the image which need them.
+ * </p>
+ *
+ * <p>
+ * Found features are stored in the sub-image's coordinate system until they are added to a global list.
+ * </p>
+ *
+ * @author Peter Abeles
+ */
+public class RegionFeatureDetector<I extends ImageSingleBand, D extends ImageSingleBand> {
+
+	// computes the feature intensity
+	private GeneralFeatureIntensity<I,D> intensity;
+	// extracts features from the intensity image
+	private NonMaxSuppression extractor;
+	// selects the most intense features
+	private SelectNBestFeatures selectBest = new SelectNBestFeatures(10);
+
+	// features found inside the region in local coordinates
+	private QueueCorner foundMinimum = new QueueCorner(10);
+	private QueueCorner foundMaximum = new QueueCorner(10);
+	// storage for all the features found in the sub-image
+	private QueueCorner workMinimum = new QueueCorner(10);
+	private QueueCorner workMaximum = new QueueCorner(10);
+
+	// number of excluded features inside the region
+	private int excludedMinimum, excludedMaximum;
+
+	// bounds of the region
+	private int x0, y0, x1, y1;
+	// bounds of the processed sub-image
+	private int px0, py0, px1, py1;
+
+	public RegionFeatureDetector(GeneralFeatureIntensity<I, D> intensity, NonMaxSuppression extractor) {
+		this.intensity = intensity;
+		this.extractor = extractor;
+	}
+
+	/**
+	 * Copies the settings of the specified extractor into this detector's extractor
+	 */
+	public void setExtractorConfig( NonMaxSuppression master ) {
+		extractor.setThresholdMinimum(master.getThresholdMinimum());
+		extractor.setThresholdMaximum(master.getThresholdMaximum());
+		extractor.setSearchRadius(master.getSearchRadius());
+		extractor.setIgnoreBorder(master.getIgnoreBorder());
+	}
+
+	/**
+	 * Number of pixels the processed sub-image extends outside of the region
+	 */
+	public int getMargin() {
+		// Non-max suppression only compares against pixels outside of its ignore border, so the entire
+		// search region around a pixel inside the region needs to be outside of both borders
+		return extractor.getSearchRadius() +
+				Math.max(extractor.getIgnoreBorder(), intensity.getIgnoreBorder());
+	}
+
+	/**
+	 * Detects features inside the region.  Derivatives which are not needed can be null.
+	 *
+	 * @param x0 Region lower extent x-axis, inclusive
+	 * @param y0 Region lower extent y-axis, inclusive
+	 * @param x1 Region upper extent x-axis, exclusive
+	 * @param y1 Region upper extent y-axis, exclusive
+	 * @param excludeMinimum Minimums which are to be excluded in image coordinates.  Can be null.
+	 * @param excludeMaximum Maximums which are to be excluded in image coordinates.  Can be null.
+	 */
+	public void process( I image, D derivX, D derivY, D derivXX, D derivYY, D derivXY,
+						 int x0 , int y0 , int x1 , int y1 ,
+						 QueueCorner excludeMinimum , QueueCorner excludeMaximum ) {
+		this.x0 = x0; this.y0 = y0; this.x1 = x1; this.y1 = y1;
+
+		int margin = getMargin();
+		px0 = Math.max(0,x0-margin);
+		py0 = Math.max(0,y0-margin);
+		px1 = Math.min(image.width,x1+margin);
+		py1 = Math.min(image.height,y1+margin);
+
+		intensity.process(sub(image), sub(derivX), sub(derivY), sub(derivXX), sub(derivYY), sub(derivXY));
+		ImageFloat32 intensityImage = intensity.getIntensity();
+
+		// mark pixels that should be excluded and count how many are inside the region
+		excludedMinimum = exclude(excludeMinimum, -Float.MAX_VALUE, intensityImage);
+		excludedMaximum = exclude(excludeMaximum, Float.MAX_VALUE, intensityImage);
+
+		workMinimum.reset();
+		workMaximum.reset();
+		if (intensity.hasCandidates()) {
+			extractor.process(intensityImage, intensity.getCandidatesMin(), intensity.getCandidatesMax(),
+					workMinimum, workMaximum);
+		} else {
+			extractor.process(intensityImage, null, null, workMinimum, workMaximum);
+		}
+
+		// only features inside the region are kept
+		selectInside(workMinimum, foundMinimum);
+		selectInside(workMaximum, foundMaximum);
+	}
+
+	private int exclude( QueueCorner points , float value , ImageFloat32 intensityImage ) {
+		if( points == null )
+			return 0;
+		int count = 0;
+		for( int i = 0; i < points.size; i++ ) {
+			Point2D_I16 p = points.get(i);
+			int x = p.x - px0;
+			int y = p.y - py0;
+			if( intensityImage.isInBounds(x,y) )
+				intensityImage.unsafe_set(x, y, value);
+			if( p.x >= x0 && p.x < x1 && p.y >= y0 && p.y < y1 )
+				count++;
+		}
+		return count;
+	}
+
+	private void selectInside( QueueCorner found , QueueCorner inside ) {
+		int lx0 = x0-px0, ly0 = y0-py0, lx1 = x1-px0, ly1 = y1-py0;
+		inside.reset();
+		for( int i = 0; i < found.size; i++ ) {
+			Point2D_I16 p = found.get(i);
+			if( p.x >= lx0 && p.x < lx1 && p.y >= ly0 && p.y < ly1 )
+				inside.add(p);
+		}
+	}
+
+	/**
+	 * Only keeps the most intense features found inside the region.  If there is no limit then
+	 * nothing happens.
+	 *
+	 * @param maxFeatures Maximum number of features of each type inside the region.  If <= 0 then there is no limit.
+	 */
+	public void selectBest( int maxFeatures ) {
+		if( maxFeatures <= 0 )
+			return;
+		ImageFloat32 intensityImage = intensity.getIntensity();
+		if( intensity.localMinimums() )
+			selectBest(intensityImage, foundMinimum, maxFeatures - excludedMinimum, false);
+		if( intensity.localMaximums() )
+			selectBest(intensityImage, foundMaximum, maxFeatures - excludedMaximum, true);
+	}
+
+	/**
+	 * Only keeps the most intense features in the list.
+	 *
+	 * @param intensityImage Intensity image in the same coordinate system as the features
+	 * @param found List of features.  Modified.
+	 * @param numSelect Number of features which are kept.  If <= 0 then the list is emptied.
+	 * @param positive true for maximums and false for minimums
+	 */
+	public void selectBest( ImageFloat32 intensityImage , QueueCorner found , int numSelect , boolean positive ) {
+		if( numSelect <= 0 ) {
+			found.reset();
+			return;
+		}
+		selectBest.setN(numSelect);
+		selectBest.process(intensityImage, found, positive);
+		QueueCorner best = selectBest.getBestCorners();
+		found.reset();
+		for( int i = 0; i < best.size; i++ ) {
+			found.add(best.get(i));
+		}
+	}
+
+	/**
+	 * Adds the features found inside the region to the lists in image coordinates
+	 */
+	public void addFound( QueueCorner minimums , QueueCorner maximums ) {
+		addGlobal(foundMinimum, minimums);
+		addGlobal(foundMaximum, maximums);
+	}
+
+	private void addGlobal( QueueCorner local , QueueCorner global ) {
+		for( int i = 0; i < local.size; i++ ) {
+			Point2D_I16 p = local.get(i);
+			global.add(p.x + px0, p.y + py0);
+		}
+	}
+
+	/**
+	 * Copies the intensity inside the region into the image.
+	 *
+	 * @param output Intensity image which is the same shape as the input image.  Modified.
+	 */
+	public void copyIntensity( ImageFloat32 output ) {
+		ImageMiscOps.copy(x0 - px0, y0 - py0, x0, y0, x1 - x0, y1 - y0, intensity.getIntensity(), output);
+	}
+
+	@SuppressWarnings("unchecked")
+	private <T extends ImageSingleBand> T sub( T image ) {
+		if( image == null )
+			return null;
+		return (T)image.subimage(px0,py0,px1,py1,null);
+	}
+
+	/**
+	 * Number of excluded minimums inside the region in the most recent call to process
+	 */
+	public int getExcludedMinimum() {
+		return excludedMinimum;
+	}
+
+	/**
+	 * Number of excluded maximums inside the region in the most recent call to process
+	 */
+	public int getExcludedMaximum() {
+		return excludedMaximum;
+	}
+
+	public GeneralFeatureIntensity<I, D> getIntensity() {
+		return intensity;
+	}
+
+	public NonMaxSuppression getExtractor() {
+		return extractor;
+	}
+}
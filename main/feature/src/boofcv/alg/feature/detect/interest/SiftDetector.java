@@ -76,7 +76,7 @@ public class SiftDetector {
 	private QueueCorner foundNegative = new QueueCorner(10);
 
 	// List of found feature points
-	private FastQueue<ScalePoint> foundPoints = new FastQueue<ScalePoint>(10,ScalePoint.class,true);
+	protected FastQueue<ScalePoint> foundPoints = new FastQueue<ScalePoint>(10,ScalePoint.class,true);
 
 	// correcting for how images are subsampled
 	private double octavePixelOffset;
@@ -151,34 +151,44 @@ public class SiftDetector {
 		// set up data structures
 		foundPoints.reset();
 		this.ss = ss;
-		octavePixelOffset = 0;
 
 		// extract features in each octave
 		for( int octave = 0; octave < ss.actualOctaves; octave++ ) {
 			// start processing at the second DOG since it needs the scales above and below
-			int indexDOG = octave*(ss.numScales-1)+1;
-			int indexScale = octave*ss.numScales+1;
-
-			currentPixelScale = ss.pixelScale[octave];
+			for( int scale = 1; scale < ss.numScales-2; scale++ ) {
+				detectLayer(octave, scale);
+			}
+		}
+	}
 
-			ss.storage.reshape( ss.scale[indexScale].width , ss.scale[indexScale].height );
+	/**
+	 * Detects features inside a single layer of the scale-space.  Found features are added to the
+	 * list of found points.
+	 *
+	 * @param octave The octave
+	 * @param scale The scale inside the octave.  Must be from 1 to numScales-3, inclusive.
+	 */
+	protected void detectLayer( int octave , int scale ) {
+		int indexDOG = octave*(ss.numScales-1)+scale;
+		int indexScale = octave*ss.numScales+scale;
 
-			for( int scale = 1; scale < ss.numScales-2; scale++ , indexScale++,indexDOG++ ) {
+		currentPixelScale = ss.pixelScale[octave];
 
-				// use the scale-space image as input for derivatives
-				derivXX.setImage(ss.scale[indexScale]);
-				derivXY.setImage(ss.scale[indexScale]);
-				derivYY.setImage(ss.scale[indexScale]);
+		// when the images are sub-sampled between octaves the sampling starts at pixel 1 in (x,y)
+		octavePixelOffset = 0;
+		for( int i = 0; i < octave; i++ ) {
+			octavePixelOffset += ss.pixelScale[i];
+		}
 
-				// the current scale factor being considered
-				currentSigma = ss.computeScaleSigma(octave,scale);
+		// use the scale-space image as input for derivatives
+		derivXX.setImage(ss.scale[indexScale]);
+		derivXY.setImage(ss.scale[indexScale]);
+		derivYY.setImage(ss.scale[indexScale]);
 
-				detectFeatures(indexDOG);
-			}
+		// the current scale factor being considered
+		currentSigma = ss.computeScaleSigma(octave,scale);
 
-			// when the images are sub-sampled between octaves the sampling starts at pixel 1 in (x,y)
-			octavePixelOffset += currentPixelScale;
-		}
+		detectFeatures(indexDOG);
 	}
 
 	/**
@@ -0,0 +1,102 @@
+/*
+ * Copyright (c) 2011-2015, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.feature.detect.interest;
+
+import boofcv.abst.feature.detect.extract.ConfigExtract;
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.concurrency.IntRangeObjectTask;
+import boofcv.factory.feature.detect.extract.FactoryFeatureExtractor;
+import boofcv.struct.feature.ScalePoint;
+import org.ddogleg.struct.FastQueue;
+import org.ddogleg.struct.GrowQueue_I32;
+
+/**
+ * <p>
+ * Concurrent implementation of {@link SiftDetector}.  Each layer in scale-space is searched for extrema
+ * independently.  Layers are split into contiguous blocks and each block is processed by a worker which
+ * has its own non-maximum suppression and edge filter. Features found by each worker are then combined in
+ * the same order as in the single threaded version.
+ * </p>
+ *
+ * @author Peter Abeles
+ */
+public class SiftDetector_MT extends SiftDetector {
+
+	// detectors used by each thread
+	private FastQueue<SiftDetector> workers;
+
+	// the layers which are to be processed.  octave*numScales + scale
+	private GrowQueue_I32 layers = new GrowQueue_I32();
+
+	/**
+	 * Configures SIFT
+	 *
+	 * @param configExtract Configuration for extracting local maximums from each scale. A different extractor
+	 *                      is created for each thread.
+	 * @param maxFeaturesPerScale Max detected features per scale.  Disable with < 0.  Try 500
+	 * @param edgeThreshold Threshold for edge filtering.  Disable with a value <= 0.  Try 5
+	 */
+	public SiftDetector_MT(final ConfigExtract configExtract,
+						   final int maxFeaturesPerScale,
+						   final double edgeThreshold ) {
+		super(FactoryFeatureExtractor.nonmax(configExtract), maxFeaturesPerScale, edgeThreshold);
+
+		workers = new FastQueue<SiftDetector>(1,SiftDetector.class,true) {
+			@Override
+			protected SiftDetector createInstance() {
+				return new SiftDetector(FactoryFeatureExtractor.nonmax(configExtract),
+						maxFeaturesPerScale, edgeThreshold);
+			}
+		};
+	}
+
+	@Override
+	public void process( final SiftImageScaleSpace ss ) {
+		foundPoints.reset();
+		this.ss = ss;
+
+		layers.reset();
+		for( int octave = 0; octave < ss.actualOctaves; octave++ ) {
+			for( int scale = 1; scale < ss.numScales-2; scale++ ) {
+				layers.add(octave*ss.numScales + scale);
+			}
+		}
+
+		BoofConcurrency.loopBlocks(0, layers.size, 1, workers, new IntRangeObjectTask<SiftDetector>() {
+			@Override
+			public void call(SiftDetector worker, int i0, int i1) {
+				worker.foundPoints.reset();
+				worker.ss = ss;
+				for( int i = i0; i < i1; i++ ) {
+					int index = layers.get(i);
+					worker.detectLayer(index/ss.numScales, index%ss.numScales);
+				}
+			}
+		});
+
+		// combine results in a deterministic order
+		for( int i = 0; i < workers.size; i++ ) {
+			FastQueue<ScalePoint> found = workers.get(i).foundPoints;
+			for( int j = 0; j < found.size; j++ ) {
+				ScalePoint p = found.get(j);
+				foundPoints.grow().set(p.x, p.y, p.scale, p.white);
+			}
+		}
+	}
+}
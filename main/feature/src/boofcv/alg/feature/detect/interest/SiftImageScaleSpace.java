@@ -184,17 +184,38 @@ public class SiftImageScaleSpace {
 	public void computeDerivatives() {
 		int maxScales = actualOctaves*numScales;
 		for( int i = 0; i < maxScales; i++ ) {
-			ImageFloat32 input = scale[i];
-			ImageFloat32 dx = derivX[i];
-			ImageFloat32 dy = derivY[i];
-
-			dx.reshape(input.width,input.height);
-			dy.reshape(input.width,input.height);
+			computeDerivative(gradient, i);
+		}
+	}
 
-			gradient.process(input,dx,dy);
+	/**
+	 * Computes the image derivative only for the specified layers in the pyramid.  Derivatives are only
+	 * needed by layers which contain features, see {@link #scaleToImageIndex(double)}.
+	 *
+	 * @param layers Array with an element for each layer.  If true then the derivative will be computed.
+	 */
+	public void computeDerivatives( boolean layers[] ) {
+		int maxScales = actualOctaves*numScales;
+		for( int i = 0; i < maxScales; i++ ) {
+			if( layers[i] )
+				computeDerivative(gradient, i);
 		}
 	}
 
+	/**
+	 * Computes the derivative of a single layer
+	 */
+	protected void computeDerivative( ImageGradient<ImageFloat32,ImageFloat32> gradient , int index ) {
+		ImageFloat32 input = scale[index];
+		ImageFloat32 dx = derivX[index];
+		ImageFloat32 dy = derivY[index];
+
+		dx.reshape(input.width,input.height);
+		dy.reshape(input.width,input.height);
+
+		gradient.process(input,dx,dy);
+	}
+
 	/**
 	 * Returns the amount of blur which has been applied to the image in total at the specified scale
 	 * in the current octave
@@ -215,7 +236,7 @@ public class SiftImageScaleSpace {
 	 * Applies the specified amount of blur to the input image and stores the results in
 	 * the output image
 	 */
-	private void blurImage( ImageFloat32 input , ImageFloat32 output , double sigma ) {
+	protected void blurImage( ImageFloat32 input , ImageFloat32 output , double sigma ) {
 		Kernel1D_F32 kernel = FactoryKernelGaussian.gaussian(Kernel1D_F32.class, sigma, -1);
 
 		storage.reshape(input.width,input.height);
@@ -230,19 +251,26 @@ public class SiftImageScaleSpace {
 		int indexDog = 0;
 		for( int o = 0; o < actualOctaves; o++ ) {
 			for( int i = 1; i < numScales; i++ , indexDog++ ) {
-				int indexScale = o*numScales + i;
+				computeDog(o, i, indexDog);
+			}
+		}
+	}
+
+	/**
+	 * Computes a single DOG image from scale 'i' and the scale below it in the octave
+	 */
+	protected void computeDog( int octave , int i , int indexDog ) {
+		int indexScale = octave*numScales + i;
 
-				PixelMath.subtract(scale[indexScale],scale[indexScale-1],dog[indexDog]);
+		PixelMath.subtract(scale[indexScale],scale[indexScale-1],dog[indexDog]);
 
-				// NOTE: In SIFT paper it states you don't need to do this adjustment.  However, since the difference
-				// between scales is not a constant factor in this implementation you do need to do it.
+		// NOTE: In SIFT paper it states you don't need to do this adjustment.  However, since the difference
+		// between scales is not a constant factor in this implementation you do need to do it.
 
-				// compute adjustment to make it better approximate of the Laplacian of Gaussian detector
-				double k = (i+1)/(double)i;
-				double adjustment = k-1;
-				PixelMath.divide(dog[indexDog], (float) adjustment, dog[indexDog]);
-			}
-		}
+		// compute adjustment to make it better approximate of the Laplacian of Gaussian detector
+		double k = (i+1)/(double)i;
+		double adjustment = k-1;
+		PixelMath.divide(dog[indexDog], (float) adjustment, dog[indexDog]);
 	}
 
 	/**
@@ -323,6 +351,20 @@ public class SiftImageScaleSpace {
 		return numOctaves;
 	}
 
+	/**
+	 * Number of octaves which were actually computed.  Can be less than {@link #getNumOctaves()} for small images.
+	 */
+	public int getActualOctaves() {
+		return actualOctaves;
+	}
+
+	/**
+	 * Total number of layers in the pyramid, across all octaves
+	 */
+	public int getTotalLayers() {
+		return scale.length;
+	}
+
 	public int getNumScales() {
 		return numScales;
 	}
@@ -0,0 +1,135 @@
+/*
+ * Copyright (c) 2011-2015, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.feature.detect.interest;
+
+import boofcv.abst.filter.derivative.ImageGradient;
+import boofcv.alg.filter.convolve.ConvolveNormalized;
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.concurrency.IntOperatorTask;
+import boofcv.concurrency.IntRangeObjectTask;
+import boofcv.concurrency.IntRangeTask;
+import boofcv.factory.filter.derivative.FactoryDerivative;
+import boofcv.factory.filter.kernel.FactoryKernelGaussian;
+import boofcv.struct.convolve.Kernel1D_F32;
+import boofcv.struct.image.ImageFloat32;
+import org.ddogleg.struct.FastQueue;
+import org.ddogleg.struct.GrowQueue_I32;
+
+/**
+ * <p>
+ * Concurrent implementation of {@link SiftImageScaleSpace}.  Scales inside an octave are computed
+ * incrementally from the previous scale, just like in the single threaded version, but each Gaussian blur
+ * is split across threads.  The horizontal pass is split into blocks of rows and the vertical pass into
+ * blocks of columns, which produces results identical to the single threaded code. Difference of Gaussian
+ * images and image derivatives are computed for each layer in parallel.
+ * </p>
+ *
+ * @author Peter Abeles
+ */
+public class SiftImageScaleSpace_MT extends SiftImageScaleSpace {
+
+	// smallest number of rows or columns which are convolved by a single thread
+	private static final int MIN_BLOCK = 16;
+
+	// image gradient for each thread
+	@SuppressWarnings("unchecked")
+	private FastQueue<ImageGradient<ImageFloat32,ImageFloat32>> gradients =
+			new FastQueue<ImageGradient<ImageFloat32,ImageFloat32>>(1,(Class)ImageGradient.class,true) {
+				@Override
+				protected ImageGradient<ImageFloat32, ImageFloat32> createInstance() {
+					return FactoryDerivative.three_F32();
+				}
+			};
+
+	// list of layers which derivatives are computed for
+	private GrowQueue_I32 selected = new GrowQueue_I32();
+
+	/**
+	 * @see SiftImageScaleSpace#SiftImageScaleSpace
+	 */
+	public SiftImageScaleSpace_MT(float blurSigma, int numScales, int numOctaves, boolean doubleInputImage) {
+		super(blurSigma, numScales, numOctaves, doubleInputImage);
+	}
+
+	@Override
+	protected void blurImage( final ImageFloat32 input , final ImageFloat32 output , double sigma ) {
+		final Kernel1D_F32 kernel = FactoryKernelGaussian.gaussian(Kernel1D_F32.class, sigma, -1);
+
+		storage.reshape(input.width,input.height);
+
+		// The horizontal pass only depends on pixels in the same row
+		BoofConcurrency.loopBlocks(0, input.height, MIN_BLOCK, new IntRangeTask() {
+			@Override
+			public void call(int y0, int y1) {
+				ImageFloat32 a = input.subimage(0, y0, input.width, y1, null);
+				ImageFloat32 b = storage.subimage(0, y0, storage.width, y1, null);
+				ConvolveNormalized.horizontal(kernel, a, b);
+			}
+		});
+
+		// The vertical pass only depends on pixels in the same column
+		BoofConcurrency.loopBlocks(0, input.width, MIN_BLOCK, new IntRangeTask() {
+			@Override
+			public void call(int x0, int x1) {
+				ImageFloat32 a = storage.subimage(x0, 0, x1, storage.height, null);
+				ImageFloat32 b = output.subimage(x0, 0, x1, output.height, null);
+				ConvolveNormalized.vertical(kernel, a, b);
+			}
+		});
+	}
+
+	@Override
+	public void computeFeatureIntensity() {
+		final int dogPerOctave = numScales-1;
+		BoofConcurrency.loopFor(0, actualOctaves*dogPerOctave, new IntOperatorTask() {
+			@Override
+			public void call(int indexDog) {
+				computeDog(indexDog/dogPerOctave, indexDog%dogPerOctave + 1, indexDog);
+			}
+		});
+	}
+
+	@Override
+	public void computeDerivatives() {
+		boolean layers[] = new boolean[ scale.length ];
+		for( int i = 0; i < layers.length; i++ )
+			layers[i] = true;
+		computeDerivatives(layers);
+	}
+
+	@Override
+	public void computeDerivatives( boolean layers[] ) {
+		selected.reset();
+		int maxScales = actualOctaves*numScales;
+		for( int i = 0; i < maxScales; i++ ) {
+			if( layers[i] )
+				selected.add(i);
+		}
+
+		BoofConcurrency.loopBlocks(0, selected.size, 1, gradients,
+				new IntRangeObjectTask<ImageGradient<ImageFloat32, ImageFloat32>>() {
+			@Override
+			public void call(ImageGradient<ImageFloat32, ImageFloat32> gradient, int i0, int i1) {
+				for( int i = i0; i < i1; i++ ) {
+					computeDerivative(gradient, selected.get(i));
+				}
+			}
+		});
+	}
+}
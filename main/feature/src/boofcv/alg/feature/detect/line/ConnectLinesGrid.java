@@ -89,16 +89,33 @@ public class ConnectLinesGrid {
 		this.grid = grid;
 
 		// first connect lines inside the same element
+		connectInSameElements(grid);
+
+		// connect neighboring grid cells
 		for( int i = 0; i < grid.height; i++ ) {
 			for( int j = 0; j < grid.width; j++ ) {
-				connectInSameElement(grid.get(j,i));
+				connectToNeighbors(j, i);
 			}
 		}
+	}
 
-		// connect neighboring grid cells
-		for( int i = 0; i < grid.height; i++ ) {
+	/**
+	 * Connects lines inside of every element.  Elements are independent of each other.
+	 */
+	protected void connectInSameElements( MatrixOfList<LineSegment2D_F32> grid ) {
+		connectInSameElements(grid, 0, grid.height);
+	}
+
+	/**
+	 * Connects lines inside of every element in the specified range of grid rows.
+	 *
+	 * @param y0 First grid row, inclusive.
+	 * @param y1 Last grid row, exclusive.
+	 */
+	protected void connectInSameElements( MatrixOfList<LineSegment2D_F32> grid , int y0 , int y1 ) {
+		for( int i = y0; i < y1; i++ ) {
 			for( int j = 0; j < grid.width; j++ ) {
-				connectToNeighbors(j, i);
+				connectInSameElement(grid.get(j,i));
 			}
 		}
 	}
@@ -0,0 +1,77 @@
+/*
+ * Copyright (c) 2011-2015, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.feature.detect.line;
+
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.concurrency.IntRangeObjectTask;
+import boofcv.struct.feature.MatrixOfList;
+import georegression.struct.line.LineSegment2D_F32;
+import org.ddogleg.struct.FastQueue;
+
+/**
+ * Concurrent implementation of {@link ConnectLinesGrid}.  Lines inside the same element are connected in
+ * parallel, since elements are independent of each other.  Connecting lines to neighboring elements modifies
+ * those elements and depends on the order the elements are processed in, so that step is done by the calling
+ * thread.  The output is identical to the single threaded version.
+ *
+ * @author Peter Abeles
+ */
+public class ConnectLinesGrid_MT extends ConnectLinesGrid {
+
+	// connects lines in a block of grid rows
+	private FastQueue<ConnectLinesGrid> workers;
+
+	// minimum number of grid rows processed by a thread
+	private int minBlockRows = 1;
+
+	/**
+	 * @see ConnectLinesGrid#ConnectLinesGrid
+	 */
+	public ConnectLinesGrid_MT(final double lineSlopeAngleTol, final double tangentTol, final double parallelTol) {
+		super(lineSlopeAngleTol, tangentTol, parallelTol);
+
+		workers = new FastQueue<ConnectLinesGrid>(1,ConnectLinesGrid.class,true) {
+			@Override
+			protected ConnectLinesGrid createInstance() {
+				return new ConnectLinesGrid(lineSlopeAngleTol, tangentTol, parallelTol);
+			}
+		};
+	}
+
+	@Override
+	protected void connectInSameElements(final MatrixOfList<LineSegment2D_F32> grid) {
+		BoofConcurrency.loopBlocks(0, grid.height, minBlockRows, workers, new IntRangeObjectTask<ConnectLinesGrid>() {
+			@Override
+			public void call(ConnectLinesGrid worker, int y0, int y1) {
+				worker.connectInSameElements(grid, y0, y1);
+			}
+		});
+	}
+
+	public int getMinBlockRows() {
+		return minBlockRows;
+	}
+
+	/**
+	 * Specifies the smallest number of grid rows which will be processed by a single thread
+	 */
+	public void setMinBlockRows(int minBlockRows) {
+		this.minBlockRows = minBlockRows;
+	}
+}
@@ -72,7 +72,7 @@ public abstract class GridRansacLineDetector<D extends ImageSingleBand> {
 	protected int maxDetectLines;
 
 	// extracts lines
-	private ModelMatcher<LinePolar2D_F32,Edgel> robustMatcher;
+	protected ModelMatcher<LinePolar2D_F32,Edgel> robustMatcher;
 
 	// list of lines found in each
 	private MatrixOfList<LineSegment2D_F32> foundLines = new MatrixOfList<LineSegment2D_F32>(1,1);
@@ -105,25 +105,42 @@ public abstract class GridRansacLineDetector<D extends ImageSingleBand> {
 	{
 		InputSanityCheck.checkSameShape(derivX,derivY,binaryEdges);
 
-		int w = derivX.width-regionSize+1;
-		int h = derivY.height-regionSize+1;
-
 		foundLines.reshape(derivX.width / regionSize, derivX.height / regionSize);
 		foundLines.reset();
 
-		// avoid partial regions/other image edge conditions by being at least the region's radius away
-		for( int y = 0; y < h; y += regionSize) {
-			int gridY = y/regionSize;
+		findLines(derivX, derivY, binaryEdges);
+	}
+
+	/**
+	 * Finds lines inside all the regions in the grid
+	 */
+	protected void findLines( D derivX , D derivY , ImageUInt8 binaryEdges ) {
+		findLinesInRows(0, foundLines.height, derivX, derivY, binaryEdges, foundLines);
+	}
+
+	/**
+	 * Finds lines inside the regions in the specified range of grid rows.
+	 *
+	 * @param gridY0 First grid row, inclusive.
+	 * @param gridY1 Last grid row, exclusive.
+	 * @param found Where the found lines are stored.
+	 */
+	protected void findLinesInRows( int gridY0 , int gridY1 , D derivX , D derivY , ImageUInt8 binaryEdges ,
+									MatrixOfList<LineSegment2D_F32> found )
+	{
+		// the grid only contains complete regions, avoiding partial regions/other image edge conditions
+		for( int gridY = gridY0; gridY < gridY1; gridY++ ) {
+			int y = gridY*regionSize;
 			// index of the top left pixel in the region being considered
 			// possible over optimization
 			int index = binaryEdges.startIndex + y*binaryEdges.stride;
-			for( int x = 0; x < w; x+= regionSize , index += regionSize) {
-				int gridX = x/regionSize;
+			for( int gridX = 0; gridX < found.width; gridX++ , index += regionSize) {
+				int x = gridX*regionSize;
 				// detects edgels inside the region
 				detectEdgels(index,x,y,derivX,derivY,binaryEdges);
 
 				// find lines inside the region using RANSAC
-				findLinesInRegion(foundLines.get(gridX,gridY));
+				findLinesInRegion(found.get(gridX,gridY));
 			}
 		}
 	}
@@ -0,0 +1,107 @@
+/*
+ * Copyright (c) 2011-2015, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.feature.detect.line;
+
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.concurrency.IntRangeObjectTask;
+import boofcv.concurrency.WorkerFactory;
+import boofcv.struct.image.ImageSingleBand;
+import boofcv.struct.image.ImageUInt8;
+import org.ddogleg.struct.FastQueue;
+
+/**
+ * <p>
+ * Concurrent implementation of {@link GridRansacLineDetector}.  Regions are independent of each other, so the
+ * grid is split into blocks of rows and each block is processed by its own instance of the algorithm, which
+ * has its own {@link org.ddogleg.fitting.modelset.ModelMatcher}.  Lines are always saved in the same grid
+ * element as the region they were found in.
+ * </p>
+ *
+ * <p>
+ * NOTE: Each instance's model matcher processes a different sequence of regions, so if it is randomized
+ * the found lines can be different from the single threaded version.  For the same number of threads
+ * the results are always the same.
+ * </p>
+ *
+ * @author Peter Abeles
+ */
+public class GridRansacLineDetector_MT<D extends ImageSingleBand> extends GridRansacLineDetector<D> {
+
+	// finds lines inside a block of grid rows
+	private FastQueue<GridRansacLineDetector<D>> workers;
+
+	// used when a function is called directly
+	private GridRansacLineDetector<D> helper;
+
+	// minimum number of grid rows processed by a thread
+	private int minBlockRows = 1;
+
+	/**
+	 * @param factory Creates the single threaded algorithm.  Every instance must have the same configuration.
+	 */
+	public GridRansacLineDetector_MT( WorkerFactory<GridRansacLineDetector<D>> factory ) {
+		this(factory, factory.newInstance());
+	}
+
+	@SuppressWarnings("unchecked")
+	private GridRansacLineDetector_MT( final WorkerFactory<GridRansacLineDetector<D>> factory ,
+									   GridRansacLineDetector<D> helper ) {
+		super(helper.regionSize, helper.maxDetectLines, helper.robustMatcher);
+		this.minInlierSize = helper.minInlierSize;
+		this.helper = helper;
+		// edgels found by the helper are used when the single threaded functions are called directly
+		this.edgels = helper.edgels;
+
+		workers = new FastQueue<GridRansacLineDetector<D>>(1,(Class)GridRansacLineDetector.class,true) {
+			@Override
+			protected GridRansacLineDetector<D> createInstance() {
+				return factory.newInstance();
+			}
+		};
+	}
+
+	@Override
+	protected void findLines(final D derivX, final D derivY, final ImageUInt8 binaryEdges) {
+		final int numRows = getFoundLines().height;
+
+		BoofConcurrency.loopBlocks(0, numRows, minBlockRows, workers,
+				new IntRangeObjectTask<GridRansacLineDetector<D>>() {
+			@Override
+			public void call(GridRansacLineDetector<D> worker, int gridY0, int gridY1) {
+				worker.findLinesInRows(gridY0, gridY1, derivX, derivY, binaryEdges, getFoundLines());
+			}
+		});
+	}
+
+	@Override
+	protected void detectEdgels(int index0, int x0, int y0, D derivX, D derivY, ImageUInt8 binaryEdges) {
+		helper.detectEdgels(index0, x0, y0, derivX, derivY, binaryEdges);
+	}
+
+	public int getMinBlockRows() {
+		return minBlockRows;
+	}
+
+	/**
+	 * Specifies the smallest number of grid rows which will be processed by a single thread
+	 */
+	public void setMinBlockRows(int minBlockRows) {
+		this.minBlockRows = minBlockRows;
+	}
+}
@@ -103,14 +103,35 @@ public class HoughTransformLineFootOfNorm {
 		originY = derivX.height/2;
 		candidates.reset();
 
+		if( !(derivX instanceof ImageFloat32 || derivX instanceof ImageSInt16 || derivX instanceof ImageSInt32) )
+			throw new IllegalArgumentException("Unsupported derivative image type: "+derivX.getClass().getSimpleName());
+
+		vote(derivX, derivY, binary);
+	}
+
+	/**
+	 * Adds the votes from all the edge pixels to the transform and finds the candidates.
+	 */
+	protected void vote( ImageSingleBand derivX , ImageSingleBand derivY , ImageUInt8 binary ) {
+		voteRows(derivX, derivY, binary, 0, binary.height, transform, candidates);
+	}
+
+	/**
+	 * Adds the votes from edge pixels inside the specified range of rows to the accumulator
+	 *
+	 * @param y0 First row, inclusive.
+	 * @param y1 Last row, exclusive.
+	 * @param accumulator Image which the votes are added to.  Same shape as the transform.
+	 * @param candidates Pixels which receive a second vote are added to this list.  Can be null.
+	 */
+	protected void voteRows( ImageSingleBand derivX , ImageSingleBand derivY , ImageUInt8 binary ,
+							 int y0 , int y1 , ImageFloat32 accumulator , QueueCorner candidates ) {
 		if( derivX instanceof ImageFloat32 )
-			_transform((ImageFloat32)derivX,(ImageFloat32)derivY,binary);
+			_transform((ImageFloat32)derivX,(ImageFloat32)derivY,binary,y0,y1,accumulator,candidates);
 		else if( derivX instanceof ImageSInt16 )
-			_transform((ImageSInt16)derivX,(ImageSInt16)derivY,binary);
-		else if( derivX instanceof ImageSInt32 )
-			_transform((ImageSInt32)derivX,(ImageSInt32)derivY,binary);
+			_transform((ImageSInt16)derivX,(ImageSInt16)derivY,binary,y0,y1,accumulator,candidates);
 		else
-			throw new IllegalArgumentException("Unsupported derivative image type: "+derivX.getClass().getSimpleName());
+			_transform((ImageSInt32)derivX,(ImageSInt32)derivY,binary,y0,y1,accumulator,candidates);
 	}
 
 	/**
@@ -151,6 +172,12 @@ public class HoughTransformLineFootOfNorm {
 	 * @param derivY gradient of point.
 	 */
 	public void parameterize( int x , int y , float derivX , float derivY )
+	{
+		parameterize(x,y,derivX,derivY,transform,candidates);
+	}
+
+	private void parameterize( int x , int y , float derivX , float derivY ,
+							   ImageFloat32 accumulator , QueueCorner candidates )
 	{
 		// put the point in a new coordinate system centered at the image's origin
 		// this minimizes error, which is a function of distance from origin
@@ -163,11 +190,11 @@ public class HoughTransformLineFootOfNorm {
 		int x0 = (int)(v*derivX) + originX;
 		int y0 = (int)(v*derivY) + originY;
 
-		if( transform.isInBounds(x0,y0)) {
-			int index = transform.startIndex+y0*transform.stride+x0;
+		if( accumulator.isInBounds(x0,y0)) {
+			int index = accumulator.startIndex+y0*accumulator.stride+x0;
 			// keep track of candidate pixels so that a sparse search can be done
 			// to detect lines
-			if( transform.data[index]++ == 1 )
+			if( accumulator.data[index]++ == 1 && candidates != null )
 				candidates.add(x0,y0);
 		}
 	}
@@ -191,49 +218,49 @@ public class HoughTransformLineFootOfNorm {
 		return foundIntensity.data;
 	}
 
-	private void _transform( ImageFloat32 derivX , ImageFloat32 derivY , ImageUInt8 binary )
+	private void _transform( ImageFloat32 derivX , ImageFloat32 derivY , ImageUInt8 binary ,
+							 int y0 , int y1 , ImageFloat32 accumulator , QueueCorner candidates )
 	{
-		// apply the transform to the entire image
-		for( int y = 0; y < binary.height; y++ ) {
+		for( int y = y0; y < y1; y++ ) {
 			int start = binary.startIndex + y*binary.stride;
 			int end = start + binary.width;
 
 			for( int index = start; index < end; index++ ) {
 				if( binary.data[index] != 0 ) {
 					int x = index-start;
-					parameterize(x,y,derivX.unsafe_get(x,y),derivY.unsafe_get(x,y));
+					parameterize(x,y,derivX.unsafe_get(x,y),derivY.unsafe_get(x,y),accumulator,candidates);
 				}
 			}
 		}
 	}
 
-	private void _transform( ImageSInt16 derivX , ImageSInt16 derivY , ImageUInt8 binary )
+	private void _transform( ImageSInt16 derivX , ImageSInt16 derivY , ImageUInt8 binary ,
+							 int y0 , int y1 , ImageFloat32 accumulator , QueueCorner candidates )
 	{
-		// apply the transform to the entire image
-		for( int y = 0; y < binary.height; y++ ) {
+		for( int y = y0; y < y1; y++ ) {
 			int start = binary.startIndex + y*binary.stride;
 			int end = start + binary.width;
 
 			for( int index = start; index < end; index++ ) {
 				if( binary.data[index] != 0 ) {
 					int x = index-start;
-					parameterize(x,y,derivX.unsafe_get(x,y),derivY.unsafe_get(x,y));
+					parameterize(x,y,derivX.unsafe_get(x,y),derivY.unsafe_get(x,y),accumulator,candidates);
 				}
 			}
 		}
 	}
 
-	private void _transform( ImageSInt32 derivX , ImageSInt32 derivY , ImageUInt8 binary )
+	private void _transform( ImageSInt32 derivX , ImageSInt32 derivY , ImageUInt8 binary ,
+							 int y0 , int y1 , ImageFloat32 accumulator , QueueCorner candidates )
 	{
-		// apply the transform to the entire image
-		for( int y = 0; y < binary.height; y++ ) {
+		for( int y = y0; y < y1; y++ ) {
 			int start = binary.startIndex + y*binary.stride;
 			int end = start + binary.width;
 
 			for( int index = start; index < end; index++ ) {
 				if( binary.data[index] != 0 ) {
 					int x = index-start;
-					parameterize(x,y,derivX.unsafe_get(x,y),derivY.unsafe_get(x,y));
+					parameterize(x,y,derivX.unsafe_get(x,y),derivY.unsafe_get(x,y),accumulator,candidates);
 				}
 			}
 		}
@@ -0,0 +1,138 @@
+/*
+ * Copyright (c) 2011-2015, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.feature.detect.line;
+
+import boofcv.abst.feature.detect.extract.NonMaxSuppression;
+import boofcv.alg.misc.ImageMiscOps;
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.concurrency.IntRangeObjectTask;
+import boofcv.struct.QueueCorner;
+import boofcv.struct.image.ImageFloat32;
+import boofcv.struct.image.ImageSingleBand;
+import boofcv.struct.image.ImageUInt8;
+import georegression.struct.point.Point2D_I16;
+import org.ddogleg.struct.FastQueue;
+
+/**
+ * <p>
+ * Concurrent implementation of {@link HoughTransformLineFootOfNorm}.  Each thread votes for the edge pixels in
+ * a block of rows using its own accumulator, except for the first block which votes directly into the
+ * transform.  The accumulators are then summed together to create the transform, which is identical to the single threaded version.
+ * </p>
+ *
+ * <p>
+ * The candidates are the same set of pixels as in the single threaded version.  When more than one thread is
+ * used they are found after the votes have been summed, so they are in raster order instead of the order in
+ * which they received their second vote.
+ * </p>
+ *
+ * @author Peter Abeles
+ */
+public class HoughTransformLineFootOfNorm_MT extends HoughTransformLineFootOfNorm {
+
+	// partial transform for each block of rows
+	private FastQueue<ImageFloat32> accumulators = new FastQueue<ImageFloat32>(ImageFloat32.class,true) {
+		@Override
+		protected ImageFloat32 createInstance() {
+			return new ImageFloat32(1,1);
+		}
+	};
+	// candidates found in each block of rows in the transform
+	private FastQueue<QueueCorner> blockCandidates = new FastQueue<QueueCorner>(QueueCorner.class,true);
+
+	// minimum number of rows processed by a thread
+	private int minBlockRows = 10;
+
+	/**
+	 * @see HoughTransformLineFootOfNorm#HoughTransformLineFootOfNorm
+	 */
+	public HoughTransformLineFootOfNorm_MT(NonMaxSuppression extractor, int minDistanceFromOrigin) {
+		super(extractor, minDistanceFromOrigin);
+	}
+
+	@Override
+	protected void vote(final ImageSingleBand derivX, final ImageSingleBand derivY, final ImageUInt8 binary) {
+		if( BoofConcurrency.computeNumberOfBlocks(0, binary.height, minBlockRows) == 1 ) {
+			super.vote(derivX, derivY, binary);
+			return;
+		}
+
+		BoofConcurrency.loopBlocks(0, binary.height, minBlockRows, accumulators, new IntRangeObjectTask<ImageFloat32>() {
+			@Override
+			public void call(ImageFloat32 accumulator, int y0, int y1) {
+				// the first block writes directly into the transform
+				if( y0 == 0 ) {
+					voteRows(derivX, derivY, binary, y0, y1, transform, null);
+				} else {
+					accumulator.reshape(transform.width, transform.height);
+					ImageMiscOps.fill(accumulator, 0);
+					voteRows(derivX, derivY, binary, y0, y1, accumulator, null);
+				}
+			}
+		});
+
+		// sum up the partial transforms and find pixels with more than one vote
+		BoofConcurrency.loopBlocks(0, transform.height, minBlockRows, blockCandidates, new IntRangeObjectTask<QueueCorner>() {
+			@Override
+			public void call(QueueCorner found, int y0, int y1) {
+				found.reset();
+				for( int i = 1; i < accumulators.size; i++ ) {
+					ImageFloat32 accumulator = accumulators.get(i);
+
+					for( int y = y0; y < y1; y++ ) {
+						int indexSrc = accumulator.startIndex + y*accumulator.stride;
+						int indexDst = transform.startIndex + y*transform.stride;
+						int end = indexSrc + transform.width;
+
+						while( indexSrc < end ) {
+							transform.data[indexDst++] += accumulator.data[indexSrc++];
+						}
+					}
+				}
+
+				for( int y = y0; y < y1; y++ ) {
+					int index = transform.startIndex + y*transform.stride;
+					for( int x = 0; x < transform.width; x++ , index++ ) {
+						if( transform.data[index] >= 2 )
+							found.add(x,y);
+					}
+				}
+			}
+		});
+
+		for( int i = 0; i < blockCandidates.size; i++ ) {
+			QueueCorner found = blockCandidates.get(i);
+			for( int j = 0; j < found.size; j++ ) {
+				Point2D_I16 p = found.get(j);
+				candidates.add(p);
+			}
+		}
+	}
+
+	public int getMinBlockRows() {
+		return minBlockRows;
+	}
+
+	/**
+	 * Specifies the smallest number of rows which will be processed by a single thread
+	 */
+	public void setMinBlockRows(int minBlockRows) {
+		this.minBlockRows = minBlockRows;
+	}
+}
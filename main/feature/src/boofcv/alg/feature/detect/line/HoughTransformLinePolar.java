@@ -20,11 +20,11 @@ package boofcv.alg.feature.detect.line;
 
 
 import boofcv.abst.feature.detect.extract.NonMaxSuppression;
+import boofcv.alg.InputSanityCheck;
 import boofcv.alg.misc.ImageMiscOps;
 import boofcv.struct.QueueCorner;
 import boofcv.struct.feature.CachedSineCosine_F32;
-import boofcv.struct.image.ImageFloat32;
-import boofcv.struct.image.ImageUInt8;
+import boofcv.struct.image.*;
 import georegression.struct.line.LineParametric2D_F32;
 import georegression.struct.point.Point2D_I16;
 import org.ddogleg.struct.FastQueue;
@@ -46,6 +46,12 @@ import org.ddogleg.struct.GrowQueue_F32;
  * and bottom.
  * </p>
  *
+ * <p>
+ * If the image gradient is provided then each pixel only votes for angles close to its gradient's direction,
+ * instead of every angle.  This is much faster and reduces the number of false positives, but lines will
+ * be missed if the gradient is a poor estimate of the line's normal.
+ * </p>
+ *
  * @author Peter Abeles
  */
 public class HoughTransformLinePolar {
@@ -69,6 +75,9 @@ public class HoughTransformLinePolar {
 	// lookup tables for sine and cosine functions
 	CachedSineCosine_F32 tableTrig;
 
+	// when voting using the gradient, only angles within this tolerance of the gradient are voted for
+	double gradientTolerance = Math.PI/36.0;
+
 	/**
 	 * Specifies parameters of transform.  The minimum number of points specified in the extractor
 	 * is an important tuning parameter.
@@ -82,6 +91,16 @@ public class HoughTransformLinePolar {
 			throw new IllegalArgumentException("The extractor must also process the image border");
 		}
 		this.extractor = extractor;
+		setNumberOfBins(numBinsRange, numBinsAngle);
+	}
+
+	/**
+	 * Changes the number of bins in the transform.
+	 *
+	 * @param numBinsRange How many bins are be used for line range.
+	 * @param numBinsAngle How many bins are used for angle.
+	 */
+	public void setNumberOfBins( int numBinsRange , int numBinsAngle ) {
 		transform.reshape(numBinsRange,numBinsAngle);
 
 		tableTrig = new CachedSineCosine_F32(0,(float)Math.PI,numBinsAngle);
@@ -102,21 +121,75 @@ public class HoughTransformLinePolar {
 	 */
 	public void transform( ImageUInt8 binary )
 	{
+		initialize(binary);
+		vote(binary, null, null);
+	}
+
+	/**
+	 * Computes the Hough transform of the image.  Each edge pixel only votes for lines which have an
+	 * angle within the {@link #setGradientTolerance gradient tolerance} of its gradient's direction.
+	 *
+	 * @param derivX Image derivative along x-axis.
+	 * @param derivY Image derivative along y-axis.
+	 * @param binary Binary image that indicates which pixels lie on edges.
+	 */
+	public <D extends ImageSingleBand> void transform( D derivX , D derivY , ImageUInt8 binary )
+	{
+		InputSanityCheck.checkSameShape(derivX,derivY,binary);
+		if( !(derivX instanceof ImageFloat32 || derivX instanceof ImageSInt16 || derivX instanceof ImageSInt32) )
+			throw new IllegalArgumentException("Unsupported derivative image type: "+derivX.getClass().getSimpleName());
+
+		initialize(binary);
+		vote(binary, derivX, derivY);
+	}
+
+	private void initialize( ImageUInt8 binary ) {
 		ImageMiscOps.fill(transform, 0);
 
 		originX = binary.width/2;
 		originY = binary.height/2;
 		r_max = Math.sqrt(originX*originX+originY*originY);
+	}
 
-		for( int y = 0; y < binary.height; y++ ) {
-			int start = binary.startIndex + y*binary.stride;
-			int stop = start + binary.width;
+	/**
+	 * Adds the votes from all the edge pixels to the transform.
+	 *
+	 * @param derivX Image derivative along x-axis.  If null then all angles are voted for.
+	 * @param derivY Image derivative along y-axis.  If null then all angles are voted for.
+	 */
+	protected void vote( ImageUInt8 binary , ImageSingleBand derivX , ImageSingleBand derivY ) {
+		voteRows(binary, derivX, derivY, 0, binary.height, transform);
+	}
 
-			for( int index = start; index < stop; index++ ) {
-				if( binary.data[index] != 0 ) {
-					parameterize(index-start,y);
+	/**
+	 * Adds the votes from edge pixels inside the specified range of rows to the accumulator
+	 *
+	 * @param y0 First row, inclusive.
+	 * @param y1 Last row, exclusive.
+	 * @param accumulator Image which the votes are added to.  Same shape as the transform.
+	 */
+	protected void voteRows( ImageUInt8 binary , ImageSingleBand derivX , ImageSingleBand derivY ,
+							 int y0 , int y1 , ImageFloat32 accumulator ) {
+		if( derivX == null ) {
+			for( int y = y0; y < y1; y++ ) {
+				int start = binary.startIndex + y*binary.stride;
+				int stop = start + binary.width;
+
+				for( int index = start; index < stop; index++ ) {
+					if( binary.data[index] != 0 ) {
+						parameterize(index-start,y,accumulator);
+					}
 				}
 			}
+		} else {
+			int radius = (int)Math.round(gradientTolerance*transform.height/Math.PI);
+
+			if( derivX instanceof ImageFloat32 )
+				_voteRows((ImageFloat32)derivX,(ImageFloat32)derivY,binary,y0,y1,radius,accumulator);
+			else if( derivX instanceof ImageSInt16 )
+				_voteRows((ImageSInt16)derivX,(ImageSInt16)derivY,binary,y0,y1,radius,accumulator);
+			else
+				_voteRows((ImageSInt32)derivX,(ImageSInt32)derivY,binary,y0,y1,radius,accumulator);
 		}
 	}
 
@@ -157,22 +230,80 @@ public class HoughTransformLinePolar {
 	 * Converts the pixel coordinate into a line in parameter space
 	 */
 	public void parameterize( int x , int y )
+	{
+		parameterize(x,y,transform);
+	}
+
+	private void parameterize( int x , int y , ImageFloat32 accumulator )
 	{
 		// put the point in a new coordinate system centered at the image's origin
 		x -= originX;
 		y -= originY;
 
 		int w2 = transform.width/2;
+		final float c[] = tableTrig.c;
+		final float s[] = tableTrig.s;
+
+		for( int i = 0; i < accumulator.height; i++ ) {
+			double p = x*c[i] + y*s[i];
+
+			int col = (int)Math.floor(p * w2 / r_max) + w2;
+			int index = accumulator.startIndex + i*accumulator.stride + col;
+			accumulator.data[index]++;
+		}
+	}
+
+	/**
+	 * Converts the pixel coordinate into a line in parameter space, but only for angles which are
+	 * within 'radius' bins of the gradient's direction.
+	 */
+	private void parameterize( int x , int y , float derivX , float derivY , int radius ,
+							   ImageFloat32 accumulator )
+	{
+		int numAngle = accumulator.height;
+		if( 2*radius+1 >= numAngle ) {
+			parameterize(x,y,accumulator);
+			return;
+		}
+
+		x -= originX;
+		y -= originY;
+
+		// the line's normal is parallel to the gradient.  Angles only go from 0 to PI
+		double angle = Math.atan2(derivY,derivX);
+		if( angle < 0 )
+			angle += Math.PI;
+		int center = (int)(angle*numAngle/Math.PI + 0.5);
+
+		int w2 = transform.width/2;
+		final float c[] = tableTrig.c;
+		final float s[] = tableTrig.s;
 
-		for( int i = 0; i < transform.height; i++ ) {
-			double p = x*tableTrig.c[i] + y*tableTrig.s[i];
+		for( int j = center-radius; j <= center+radius; j++ ) {
+			// the angle is cyclical and the parametrization is valid on either side of the boundary
+			int i = j < 0 ? j + numAngle : (j >= numAngle ? j - numAngle : j);
+			double p = x*c[i] + y*s[i];
 
 			int col = (int)Math.floor(p * w2 / r_max) + w2;
-			int index = transform.startIndex + i*transform.stride + col;
-			transform.data[index]++;
+			int index = accumulator.startIndex + i*accumulator.stride + col;
+			accumulator.data[index]++;
 		}
 	}
 
+	/**
+	 * When the gradient is used to vote, only lines with angles within this tolerance of the gradient's
+	 * direction are voted for.  By default it is PI/36.
+	 *
+	 * @param gradientTolerance Angle tolerance in radians.
+	 */
+	public void setGradientTolerance(double gradientTolerance) {
+		this.gradientTolerance = gradientTolerance;
+	}
+
+	public double getGradientTolerance() {
+		return gradientTolerance;
+	}
+
 	/**
 	 * Returns the Hough transform image.
 	 *
@@ -191,4 +322,52 @@ public class HoughTransformLinePolar {
 	public float[] getFoundIntensity() {
 		return foundIntensity.data;
 	}
+
+	private void _voteRows( ImageFloat32 derivX , ImageFloat32 derivY , ImageUInt8 binary ,
+							int y0 , int y1 , int radius , ImageFloat32 accumulator )
+	{
+		for( int y = y0; y < y1; y++ ) {
+			int start = binary.startIndex + y*binary.stride;
+			int end = start + binary.width;
+
+			for( int index = start; index < end; index++ ) {
+				if( binary.data[index] != 0 ) {
+					int x = index-start;
+					parameterize(x,y,derivX.unsafe_get(x,y),derivY.unsafe_get(x,y),radius,accumulator);
+				}
+			}
+		}
+	}
+
+	private void _voteRows( ImageSInt16 derivX , ImageSInt16 derivY , ImageUInt8 binary ,
+							int y0 , int y1 , int radius , ImageFloat32 accumulator )
+	{
+		for( int y = y0; y < y1; y++ ) {
+			int start = binary.startIndex + y*binary.stride;
+			int end = start + binary.width;
+
+			for( int index = start; index < end; index++ ) {
+				if( binary.data[index] != 0 ) {
+					int x = index-start;
+					parameterize(x,y,derivX.unsafe_get(x,y),derivY.unsafe_get(x,y),radius,accumulator);
+				}
+			}
+		}
+	}
+
+	private void _voteRows( ImageSInt32 derivX , ImageSInt32 derivY , ImageUInt8 binary ,
+							int y0 , int y1 , int radius , ImageFloat32 accumulator )
+	{
+		for( int y = y0; y < y1; y++ ) {
+			int start = binary.startIndex + y*binary.stride;
+			int end = start + binary.width;
+
+			for( int index = start; index < end; index++ ) {
+				if( binary.data[index] != 0 ) {
+					int x = index-start;
+					parameterize(x,y,derivX.unsafe_get(x,y),derivY.unsafe_get(x,y),radius,accumulator);
+				}
+			}
+		}
+	}
 }
@@ -0,0 +1,111 @@
+/*
+ * Copyright (c) 2011-2015, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.feature.detect.line;
+
+import boofcv.abst.feature.detect.extract.NonMaxSuppression;
+import boofcv.alg.misc.ImageMiscOps;
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.concurrency.IntRangeObjectTask;
+import boofcv.concurrency.IntRangeTask;
+import boofcv.struct.image.ImageFloat32;
+import boofcv.struct.image.ImageSingleBand;
+import boofcv.struct.image.ImageUInt8;
+import org.ddogleg.struct.FastQueue;
+
+/**
+ * Concurrent implementation of {@link HoughTransformLinePolar}.  Each thread votes for the edge pixels in
+ * a block of rows using its own accumulator, except for the first block which votes directly into the
+ * transform.  The accumulators are then summed together to create the transform.  Votes are integer counts,
+ * so the transform is identical to the single threaded version.
+ *
+ * @author Peter Abeles
+ */
+public class HoughTransformLinePolar_MT extends HoughTransformLinePolar {
+
+	// partial transform for each block of rows
+	private FastQueue<ImageFloat32> accumulators = new FastQueue<ImageFloat32>(ImageFloat32.class,true) {
+		@Override
+		protected ImageFloat32 createInstance() {
+			return new ImageFloat32(1,1);
+		}
+	};
+
+	// minimum number of rows processed by a thread
+	private int minBlockRows = 10;
+
+	/**
+	 * @see HoughTransformLinePolar#HoughTransformLinePolar
+	 */
+	public HoughTransformLinePolar_MT(NonMaxSuppression extractor, int numBinsRange, int numBinsAngle) {
+		super(extractor, numBinsRange, numBinsAngle);
+	}
+
+	@Override
+	protected void vote(final ImageUInt8 binary, final ImageSingleBand derivX, final ImageSingleBand derivY) {
+		if( BoofConcurrency.computeNumberOfBlocks(0, binary.height, minBlockRows) == 1 ) {
+			super.vote(binary, derivX, derivY);
+			return;
+		}
+
+		BoofConcurrency.loopBlocks(0, binary.height, minBlockRows, accumulators, new IntRangeObjectTask<ImageFloat32>() {
+			@Override
+			public void call(ImageFloat32 accumulator, int y0, int y1) {
+				// the first block writes directly into the transform
+				if( y0 == 0 ) {
+					voteRows(binary, derivX, derivY, y0, y1, transform);
+				} else {
+					accumulator.reshape(transform.width, transform.height);
+					ImageMiscOps.fill(accumulator, 0);
+					voteRows(binary, derivX, derivY, y0, y1, accumulator);
+				}
+			}
+		});
+
+		// sum up the partial transforms
+		BoofConcurrency.loopBlocks(0, transform.height, new IntRangeTask() {
+			@Override
+			public void call(int y0, int y1) {
+				for( int i = 1; i < accumulators.size; i++ ) {
+					ImageFloat32 accumulator = accumulators.get(i);
+
+					for( int y = y0; y < y1; y++ ) {
+						int indexSrc = accumulator.startIndex + y*accumulator.stride;
+						int indexDst = transform.startIndex + y*transform.stride;
+						int end = indexSrc + transform.width;
+
+						while( indexSrc < end ) {
+							transform.data[indexDst++] += accumulator.data[indexSrc++];
+						}
+					}
+				}
+			}
+		});
+	}
+
+	public int getMinBlockRows() {
+		return minBlockRows;
+	}
+
+	/**
+	 * Specifies the smallest number of rows which will be processed by a single thread
+	 */
+	public void setMinBlockRows(int minBlockRows) {
+		this.minBlockRows = minBlockRows;
+	}
+}
@@ -0,0 +1,430 @@
+/*
+ * Copyright (c) 2011-2015, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.feature.detect.template;
+
+import boofcv.abst.feature.detect.extract.ConfigExtract;
+import boofcv.abst.feature.detect.extract.NonMaxSuppression;
+import boofcv.abst.transform.fft.DiscreteFourierTransform;
+import boofcv.alg.filter.misc.AverageDownSampleOps;
+import boofcv.alg.misc.ImageMiscOps;
+import boofcv.alg.transform.fft.DiscreteFourierTransformOps;
+import boofcv.alg.transform.ii.IntegralImageOps;
+import boofcv.core.image.GConvertImage;
+import boofcv.factory.feature.detect.extract.FactoryFeatureExtractor;
+import boofcv.struct.QueueCorner;
+import boofcv.struct.image.ImageFloat32;
+import boofcv.struct.image.ImageFloat64;
+import boofcv.struct.image.ImageSingleBand;
+import boofcv.struct.image.InterleavedF32;
+import georegression.struct.point.Point2D_I16;
+import org.ddogleg.sorting.QuickSelect;
+
+/**
+ * <p>
+ * Computes the same normalized cross correlation (NCC) score as {@link TemplateNCC}, but in time which is
+ * independent of the template's size.  The cross correlation between the image and the zero mean template is
+ * computed in the frequency domain using {@link DiscreteFourierTransform} and the mean and variance of each
+ * region in the image are found using integral images.  The image is processed in square tiles using the
+ * overlap-save method so that the size of the FFT depends on the template and not the image.  Results are
+ * identical to {@link TemplateNCC} up to floating point round off error.
+ * </p>
+ *
+ * <p>
+ * COARSE TO FINE: Optionally a faster approximate search can be done.  The image and template are down sampled
+ * by a factor of 2<sup>levels</sup> and the NCC computed at the coarse scale.  The best local maximums are
+ * then refined by evaluating the score at the original scale in a small region around each of them.  Pixels
+ * in the intensity image which are not evaluated are set to -Float.MAX_VALUE.  If the template is too small
+ * to be down sampled then the full search is done instead.  See {@link #setCoarseToFine(int, int)}.
+ * </p>
+ *
+ * @author Peter Abeles
+ */
+public class TemplateNCCFft<T extends ImageSingleBand> implements TemplateMatchingIntensity<T> {
+
+	// Match intensity image
+	private ImageFloat32 intensity = new ImageFloat32(1, 1);
+
+	// offset from pixel intensity coordinate to top left corner of template
+	private int offsetX;
+	private int offsetY;
+
+	// input images converted into floating point
+	private ImageFloat32 image = new ImageFloat32(1,1);
+	private ImageFloat32 template = new ImageFloat32(1,1);
+
+	// integral image of the image and the image squared.  Has an extra row and column of zeros at the top
+	// and left so that the sum of any block can be found without bounds checks
+	private ImageFloat64 integral = new ImageFloat64(1,1);
+	private ImageFloat64 integralSq = new ImageFloat64(1,1);
+
+	// template statistics
+	private float area;
+	private float templateSigma;
+	// template with its mean subtracted
+	private float templateZero[] = new float[0];
+
+	// FFT and storage for each tile
+	private DiscreteFourierTransform<ImageFloat32,InterleavedF32> dft = DiscreteFourierTransformOps.createTransformF32();
+	private ImageFloat32 tile = new ImageFloat32(1,1);
+	private InterleavedF32 tileFft = new InterleavedF32(1,1,2);
+	private InterleavedF32 templateFft = new InterleavedF32(1,1,2);
+	private InterleavedF32 product = new InterleavedF32(1,1,2);
+
+	// number of pyramid levels in coarse to fine search.  0 = disabled
+	private int pyramidLevels = 0;
+	// maximum number of local maximums at the coarse scale which are refined
+	private int numCandidates;
+
+	// used in coarse to fine search
+	private TemplateNCCFft<ImageFloat32> coarse;
+	private ImageFloat32 coarseImage;
+	private ImageFloat32 coarseTemplate;
+	private NonMaxSuppression extractor;
+	private QueueCorner peaks;
+	private float scores[];
+	private int indexes[];
+
+	public TemplateNCCFft() {
+		dft.setModifyInputs(true);
+	}
+
+	/**
+	 * Turns on coarse to fine search.
+	 *
+	 * @param levels Number of times the image is down sampled by a factor of two.  If 0 then coarse to fine
+	 *               search is disabled.  Try 2.
+	 * @param numCandidates Number of local maximums at the coarse scale which are refined.
+	 */
+	public void setCoarseToFine( int levels , int numCandidates ) {
+		if( levels < 0 )
+			throw new IllegalArgumentException("levels must be >= 0");
+		this.pyramidLevels = levels;
+		this.numCandidates = numCandidates;
+
+		if( levels > 0 && coarse == null ) {
+			coarse = new TemplateNCCFft<ImageFloat32>();
+			coarseImage = new ImageFloat32(1,1);
+			coarseTemplate = new ImageFloat32(1,1);
+			extractor = FactoryFeatureExtractor.nonmax(new ConfigExtract(2, -Float.MAX_VALUE, 0, true));
+			peaks = new QueueCorner(10);
+			scores = new float[10];
+			indexes = new int[10];
+		}
+	}
+
+	@Override
+	public void process(T image, T template) {
+		this.image.reshape(image.width, image.height);
+		this.template.reshape(template.width, template.height);
+		GConvertImage.convert(image, this.image);
+		GConvertImage.convert(template, this.template);
+
+		intensity.reshape(image.width, image.height);
+
+		offsetX = template.width / 2;
+		offsetY = template.height / 2;
+
+		setupTemplate();
+		computeIntegral();
+
+		int scale = 1 << pyramidLevels;
+		if( pyramidLevels > 0 && template.width/scale >= 2 && template.height/scale >= 2 ) {
+			processCoarseToFine(scale);
+		} else {
+			processFft();
+		}
+	}
+
+	/**
+	 * Computes the template's mean and standard deviation the same way {@link TemplateNCC} does
+	 */
+	private void setupTemplate() {
+		area = template.width*template.height;
+
+		float templateMean = 0;
+		for (int y = 0; y < template.height; y++) {
+			int templateIndex = template.startIndex + y * template.stride;
+
+			for (int x = 0; x < template.width; x++) {
+				templateMean += template.data[templateIndex++];
+			}
+		}
+		templateMean /= area;
+
+		if( templateZero.length < template.width*template.height )
+			templateZero = new float[ template.width*template.height ];
+
+		templateSigma = 0;
+		int index = 0;
+		for (int y = 0; y < template.height; y++) {
+			int templateIndex = template.startIndex + y * template.stride;
+
+			for (int x = 0; x < template.width; x++) {
+				float diff = template.data[templateIndex++] - templateMean;
+				templateZero[index++] = diff;
+				templateSigma += diff*diff;
+			}
+		}
+
+		templateSigma = (float)Math.sqrt(templateSigma/area);
+	}
+
+	/**
+	 * Computes integral images of the image and the image squared in a single pass
+	 */
+	private void computeIntegral() {
+		integral.reshape(image.width+1,image.height+1);
+		integralSq.reshape(image.width+1,image.height+1);
+
+		ImageMiscOps.fill(integral,0);
+		ImageMiscOps.fill(integralSq,0);
+
+		for( int y = 0; y < image.height; y++ ) {
+			int indexImg = image.startIndex + y*image.stride;
+			int indexII = (y+1)*integral.stride + 1;
+
+			double rowSum = 0, rowSumSq = 0;
+			for( int x = 0; x < image.width; x++ , indexII++ ) {
+				double v = image.data[indexImg++];
+				rowSum += v;
+				rowSumSq += v*v;
+				integral.data[indexII] = integral.data[indexII-integral.stride] + rowSum;
+				integralSq.data[indexII] = integralSq.data[indexII-integral.stride] + rowSumSq;
+			}
+		}
+	}
+
+	/**
+	 * Computes the NCC score at every template location using FFT.  The image is broken up into tiles which
+	 * overlap by the template's size so that the circular correlation never wraps around for valid locations.
+	 */
+	private void processFft() {
+		int numX = image.width - template.width;
+		int numY = image.height - template.height;
+
+		if( numX <= 0 || numY <= 0 )
+			return;
+
+		// tiles are a power of two and several times larger than the template, but no larger than needed
+		int tileWidth = Math.min(DiscreteFourierTransformOps.nextPow2(image.width),
+				DiscreteFourierTransformOps.nextPow2(4*template.width));
+		int tileHeight = Math.min(DiscreteFourierTransformOps.nextPow2(image.height),
+				DiscreteFourierTransformOps.nextPow2(4*template.height));
+
+		// number of valid locations in each tile
+		int stepX = tileWidth - template.width + 1;
+		int stepY = tileHeight - template.height + 1;
+
+		tile.reshape(tileWidth, tileHeight);
+		tileFft.reshape(tileWidth, tileHeight);
+		templateFft.reshape(tileWidth, tileHeight);
+		product.reshape(tileWidth, tileHeight);
+
+		// FFT of the zero mean template.  Correlation is multiplication by the complex conjugate
+		ImageMiscOps.fill(tile, 0);
+		for( int y = 0; y < template.height; y++ ) {
+			System.arraycopy(templateZero, y*template.width, tile.data, y*tileWidth, template.width);
+		}
+		dft.forward(tile, templateFft);
+		int N = tileWidth*tileHeight*2;
+		for( int i = 1; i < N; i += 2 ) {
+			templateFft.data[i] = -templateFft.data[i];
+		}
+
+		for( int tileY = 0; tileY < numY; tileY += stepY ) {
+			int rows = Math.min(tileHeight, image.height - tileY);
+
+			for( int tileX = 0; tileX < numX; tileX += stepX ) {
+				int cols = Math.min(tileWidth, image.width - tileX);
+
+				copyTile(tileX, tileY, cols, rows);
+
+				dft.forward(tile, tileFft);
+				DiscreteFourierTransformOps.multiplyComplex(tileFft, templateFft, product);
+				dft.inverse(product, tile);
+
+				int endY = Math.min(stepY, numY - tileY);
+				int endX = Math.min(stepX, numX - tileX);
+
+				for( int y = 0; y < endY; y++ ) {
+					int indexTile = y*tileWidth;
+					int indexOut = intensity.startIndex + (tileY + y + offsetY)*intensity.stride + tileX + offsetX;
+
+					for( int x = 0; x < endX; x++ ) {
+						intensity.data[indexOut++] = score(tileX + x, tileY + y, tile.data[indexTile++]);
+					}
+				}
+			}
+		}
+	}
+
+	/**
+	 * Copies a region of the image into the tile and fills the remainder with zeros.  The tile's mean is
+	 * subtracted to reduce round off error in the FFT.  Since the template has a mean of zero this does not
+	 * change the correlation.
+	 */
+	private void copyTile( int tileX , int tileY , int cols , int rows ) {
+		float mean = (float)(IntegralImageOps.block_unsafe(integral, tileX, tileY, tileX + cols, tileY + rows)/(cols*rows));
+
+		ImageMiscOps.fill(tile, 0);
+		for( int y = 0; y < rows; y++ ) {
+			int indexImg = image.startIndex + (tileY + y)*image.stride + tileX;
+			int indexTile = y*tile.width;
+
+			for( int x = 0; x < cols; x++ ) {
+				tile.data[indexTile++] = image.data[indexImg++] - mean;
+			}
+		}
+	}
+
+	/**
+	 * Computes the NCC score from the cross correlation with the zero mean template
+	 *
+	 * @param tl_x Template's top left corner x-coordinate
+	 * @param tl_y Template's top left corner y-coordinate
+	 * @param top Cross correlation between the image and zero mean template
+	 */
+	private float score( int tl_x , int tl_y , float top ) {
+		int x1 = tl_x + template.width;
+		int y1 = tl_y + template.height;
+
+		double sum = IntegralImageOps.block_unsafe(integral, tl_x, tl_y, x1, y1);
+		double sumSq = IntegralImageOps.block_unsafe(integralSq, tl_x, tl_y, x1, y1);
+
+		double variance = (sumSq - sum*sum/area)/area;
+		float imageSigma = variance > 0 ? (float)Math.sqrt(variance) : 0;
+
+		// technically top should be divided by area, but that won't change the solution
+		return top/(imageSigma*templateSigma);
+	}
+
+	/**
+	 * Directly computes the score at a single location
+	 */
+	private float evaluate( int tl_x , int tl_y ) {
+		float top = 0;
+
+		int indexTemplate = 0;
+		for (int y = 0; y < template.height; y++) {
+			int imageIndex = image.startIndex + (tl_y + y) * image.stride + tl_x;
+
+			for (int x = 0; x < template.width; x++) {
+				top += image.data[imageIndex++]*templateZero[indexTemplate++];
+			}
+		}
+
+		return score(tl_x, tl_y, top);
+	}
+
+	/**
+	 * Finds the best matches in down sampled images then refines them at the original scale
+	 */
+	private void processCoarseToFine( int scale ) {
+		int numX = image.width - template.width;
+		int numY = image.height - template.height;
+
+		ImageMiscOps.fill(intensity, -Float.MAX_VALUE);
+
+		if( numX <= 0 || numY <= 0 )
+			return;
+
+		AverageDownSampleOps.reshapeDown(coarseImage, image.width, image.height, scale);
+		AverageDownSampleOps.reshapeDown(coarseTemplate, template.width, template.height, scale);
+		AverageDownSampleOps.down(image, scale, coarseImage);
+		AverageDownSampleOps.down(template, scale, coarseTemplate);
+
+		coarse.process(coarseImage, coarseTemplate);
+
+		// local maximums inside the coarse intensity image where it is defined
+		int x0 = coarse.getOffsetX();
+		int y0 = coarse.getOffsetY();
+		int x1 = x0 + Math.max(0, coarseImage.width - coarseTemplate.width);
+		int y1 = y0 + Math.max(0, coarseImage.height - coarseTemplate.height);
+		if( x1 == x0 || y1 == y0 ) {
+			// the coarse image is too small to contain any matches
+			processFft();
+			return;
+		}
+		ImageFloat32 coarseIntensity = coarse.getIntensity().subimage(x0, y0, x1, y1, null);
+
+		peaks.reset();
+		extractor.process(coarseIntensity, null, null, null, peaks);
+
+		// select the best candidates
+		if( scores.length < peaks.size ) {
+			scores = new float[peaks.size];
+			indexes = new int[peaks.size];
+		}
+		for( int i = 0; i < peaks.size; i++ ) {
+			Point2D_I16 p = peaks.get(i);
+			scores[i] = -coarseIntensity.get(p.x, p.y);
+		}
+		int N = Math.min(numCandidates, peaks.size);
+		if( N <= 0 )
+			return;
+		QuickSelect.selectIndex(scores, N, peaks.size, indexes);
+
+		// evaluate the region around each candidate at the original scale
+		for( int i = 0; i < N; i++ ) {
+			Point2D_I16 p = peaks.get(indexes[i]);
+
+			int fineX0 = Math.max(0, p.x*scale - scale);
+			int fineY0 = Math.max(0, p.y*scale - scale);
+			int fineX1 = Math.min(numX, p.x*scale + scale + 1);
+			int fineY1 = Math.min(numY, p.y*scale + scale + 1);
+
+			for( int y = fineY0; y < fineY1; y++ ) {
+				int indexOut = intensity.startIndex + (y + offsetY)*intensity.stride + fineX0 + offsetX;
+				for( int x = fineX0; x < fineX1; x++ , indexOut++ ) {
+					// skip if already evaluated by a neighboring candidate
+					if( intensity.data[indexOut] == -Float.MAX_VALUE )
+						intensity.data[indexOut] = evaluate(x, y);
+				}
+			}
+		}
+	}
+
+	@Override
+	public ImageFloat32 getIntensity() {
+		return intensity;
+	}
+
+	@Override
+	public boolean isBorderProcessed() {
+		return false;
+	}
+
+	@Override
+	public int getOffsetX() {
+		return offsetX;
+	}
+
+	@Override
+	public int getOffsetY() {
+		return offsetY;
+	}
+
+	public int getPyramidLevels() {
+		return pyramidLevels;
+	}
+
+	public int getNumCandidates() {
+		return numCandidates;
+	}
+}
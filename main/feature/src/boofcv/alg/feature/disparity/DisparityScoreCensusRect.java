@@ -0,0 +1,220 @@
+/*
+ * Copyright (c) 2011-2015, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.feature.disparity;
+
+import boofcv.alg.feature.disparity.impl.UtilDisparityScore;
+import boofcv.alg.transform.census.CensusTransform;
+import boofcv.alg.transform.census.CensusType;
+import boofcv.struct.image.ImageSInt32;
+import boofcv.struct.image.ImageSInt64;
+import boofcv.struct.image.ImageSingleBand;
+import boofcv.struct.image.ImageUInt8;
+
+/**
+ * <p>
+ * Block matching using the sum of Hamming distances between {@link CensusTransform census} values inside a
+ * rectangular region.  The census transform only encodes if a neighbor is brighter or darker, making the score
+ * insensitive to differences in gain and bias between the two cameras.  Otherwise the same as
+ * {@link DisparityScoreSadRect}, the horizontal score for each row is computed then summed vertically using a
+ * rolling window, and the scores are passed to a {@link DisparitySelect} using the same format.
+ * </p>
+ *
+ * <p>
+ * The census transform is not computed along the image border.  This increases the size of the image border by
+ * the census transform's radius, see {@link #getBorderX()} and {@link #getBorderY()}.  This also ensures
+ * identical results when processing a sub-image.
+ * </p>
+ *
+ * @author Peter Abeles
+ */
+public class DisparityScoreCensusRect<Disparity extends ImageSingleBand>
+	extends DisparityScoreRowFormat<ImageUInt8,Disparity>
+{
+	// Computes disparity from scores
+	DisparitySelect<int[],Disparity> computeDisparity;
+
+	// which census transform is used
+	CensusType type;
+
+	// census transform of the input images
+	ImageSInt32 census32L = new ImageSInt32(1,1), census32R = new ImageSInt32(1,1);
+	ImageSInt64 census64L = new ImageSInt64(1,1), census64R = new ImageSInt64(1,1);
+	// sub-images of the census and disparity images which excludes the census image border
+	ImageSInt32 inner32L, inner32R;
+	ImageSInt64 inner64L, inner64R;
+	Disparity innerDisparity;
+
+	// stores the local scores for the width of the region
+	int elementScore[];
+	// scores along horizontal axis for current block
+	int horizontalScore[][];
+	// summed scores along vertical axis
+	int verticalScore[];
+
+	/**
+	 * Configures disparity calculation.
+	 *
+	 * @param minDisparity Minimum disparity that it will check. Must be >= 0 and < maxDisparity
+	 * @param maxDisparity Maximum disparity that it will calculate. Must be > 0
+	 * @param regionRadiusX Radius of the rectangular region along x-axis.
+	 * @param regionRadiusY Radius of the rectangular region along y-axis.
+	 * @param type Which census transform is used.
+	 * @param computeDisparity Selects the disparity from the scores
+	 */
+	public DisparityScoreCensusRect(int minDisparity, int maxDisparity,
+									int regionRadiusX, int regionRadiusY,
+									CensusType type ,
+									DisparitySelect<int[],Disparity> computeDisparity) {
+		super(minDisparity, maxDisparity, regionRadiusX, regionRadiusY);
+		this.type = type;
+		this.computeDisparity = computeDisparity;
+	}
+
+	@Override
+	public void _process( ImageUInt8 left , ImageUInt8 right , Disparity disparity ) {
+		final int cx = type.getRadiusX();
+		final int cy = type.getRadiusY();
+
+		final int width = left.width - 2*cx;
+		final int height = left.height - 2*cy;
+		if( maxDisparity > width - 2*radiusX )
+			throw new IllegalArgumentException(
+					"The maximum disparity is too large for this image size: max size "+(width-2*radiusX));
+		if( height < regionHeight )
+			throw new IllegalArgumentException("Image is too small");
+
+		// the parent computes it using the input image's width
+		lengthHorizontal = width*rangeDisparity;
+
+		if( type == CensusType.REGION_5x5 ) {
+			census32L.reshape(left.width, left.height);
+			census32R.reshape(right.width, right.height);
+			CensusTransform.region5x5(left, census32L);
+			CensusTransform.region5x5(right, census32R);
+			inner32L = census32L.subimage(cx, cy, left.width - cx, left.height - cy, inner32L);
+			inner32R = census32R.subimage(cx, cy, right.width - cx, right.height - cy, inner32R);
+		} else {
+			census64L.reshape(left.width, left.height);
+			census64R.reshape(right.width, right.height);
+			CensusTransform.region9x7(left, census64L);
+			CensusTransform.region9x7(right, census64R);
+			inner64L = census64L.subimage(cx, cy, left.width - cx, left.height - cy, inner64L);
+			inner64R = census64R.subimage(cx, cy, right.width - cx, right.height - cy, inner64R);
+		}
+		innerDisparity = (Disparity)disparity.subimage(cx, cy, disparity.width - cx, disparity.height - cy,
+				innerDisparity);
+
+		if( horizontalScore == null || verticalScore.length < lengthHorizontal ) {
+			horizontalScore = new int[regionHeight][lengthHorizontal];
+			verticalScore = new int[lengthHorizontal];
+			elementScore = new int[ width ];
+		}
+
+		computeDisparity.configure(innerDisparity,minDisparity,maxDisparity,radiusX);
+
+		// initialize computation
+		computeFirstRow();
+		// efficiently compute rest of the rows using previous results to avoid repeat computations
+		computeRemainingRows(height);
+	}
+
+	/**
+	 * Initializes disparity calculation by finding the scores for the initial block of horizontal
+	 * rows.
+	 */
+	private void computeFirstRow() {
+		// compute horizontal scores for first row block
+		for( int row = 0; row < regionHeight; row++ ) {
+			computeScoreRow(row, horizontalScore[row]);
+		}
+
+		// compute score for the top possible row
+		for( int i = 0; i < lengthHorizontal; i++ ) {
+			int sum = 0;
+			for( int row = 0; row < regionHeight; row++ ) {
+				sum += horizontalScore[row][i];
+			}
+			verticalScore[i] = sum;
+		}
+
+		// compute disparity
+		computeDisparity.process(radiusY, verticalScore);
+	}
+
+	/**
+	 * Using previously computed results it efficiently finds the disparity in the remaining rows.
+	 * When a new block is processes the last row/column is subtracted and the new row/column is
+	 * added.
+	 */
+	private void computeRemainingRows( int height ) {
+		for( int row = regionHeight; row < height; row++ ) {
+			int oldRow = row%regionHeight;
+
+			// subtract first row from vertical score
+			int scores[] = horizontalScore[oldRow];
+			for( int i = 0; i < lengthHorizontal; i++ ) {
+				verticalScore[i] -= scores[i];
+			}
+
+			computeScoreRow(row, scores);
+
+			// add the new score
+			for( int i = 0; i < lengthHorizontal; i++ ) {
+				verticalScore[i] += scores[i];
+			}
+
+			// compute disparity
+			computeDisparity.process(row - regionHeight + 1 + radiusY, verticalScore);
+		}
+	}
+
+	private void computeScoreRow( int row , int scores[] ) {
+		if( type == CensusType.REGION_5x5 ) {
+			UtilDisparityScore.computeScoreRow(inner32L, inner32R, row, scores,
+					minDisparity, maxDisparity, regionWidth, elementScore);
+		} else {
+			UtilDisparityScore.computeScoreRow(inner64L, inner64R, row, scores,
+					minDisparity, maxDisparity, regionWidth, elementScore);
+		}
+	}
+
+	@Override
+	public int getBorderX() {
+		return radiusX + type.getRadiusX();
+	}
+
+	@Override
+	public int getBorderY() {
+		return radiusY + type.getRadiusY();
+	}
+
+	public CensusType getCensusType() {
+		return type;
+	}
+
+	@Override
+	public Class<ImageUInt8> getInputType() {
+		return ImageUInt8.class;
+	}
+
+	@Override
+	public Class<Disparity> getDisparityType() {
+		return computeDisparity.getDisparityType();
+	}
+}
@@ -0,0 +1,138 @@
+/*
+ * Copyright (c) 2011-2015, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.feature.disparity;
+
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.concurrency.IntRangeObjectTask;
+import boofcv.concurrency.WorkerFactory;
+import boofcv.struct.image.ImageSingleBand;
+import org.ddogleg.struct.FastQueue;
+
+/**
+ * <p>
+ * Concurrent version of {@link DisparityScoreRowFormat}.  The image is split into blocks of rows which are
+ * processed in parallel by different instances of the single threaded algorithm, each with its own score
+ * buffers and {@link DisparitySelect}.  Each block is expanded by {@link #getBorderY()} rows on the top
+ * and bottom so that the region around every pixel is available.  The disparity image is identical to what
+ * the single threaded algorithm produces.
+ * </p>
+ *
+ * <p>
+ * Rows along the block borders are scored twice, so this only makes sense if several threads are available.
+ * </p>
+ *
+ * @author Peter Abeles
+ */
+public class DisparityScoreRowFormat_MT<Input extends ImageSingleBand, Disparity extends ImageSingleBand>
+	extends DisparityScoreRowFormat<Input,Disparity>
+{
+	// minimum number of disparity rows computed in a block
+	private int minBlockRows = 20;
+
+	// creates instances of the single threaded algorithm
+	private WorkerFactory<DisparityScoreRowFormat<Input,Disparity>> factory;
+
+	// used to get the configuration.  Score buffers are declared lazily so this is cheap
+	private DisparityScoreRowFormat<Input,Disparity> template;
+
+	// the algorithm and storage for each block
+	private FastQueue<Block> blocks;
+
+	/**
+	 * Configures the algorithm
+	 *
+	 * @param factory Creates new instances of the single threaded algorithm.  Each instance must have its own
+	 *                {@link DisparitySelect}.
+	 */
+	public DisparityScoreRowFormat_MT(WorkerFactory<DisparityScoreRowFormat<Input, Disparity>> factory) {
+		this(factory,factory.newInstance());
+	}
+
+	@SuppressWarnings("unchecked")
+	private DisparityScoreRowFormat_MT(WorkerFactory<DisparityScoreRowFormat<Input, Disparity>> factory,
+									   DisparityScoreRowFormat<Input,Disparity> template ) {
+		super(template.getMinDisparity(),template.getMaxDisparity(),template.radiusX,template.radiusY);
+		this.factory = factory;
+		this.template = template;
+
+		blocks = new FastQueue<Block>(1,(Class)Block.class,true) {
+			@Override
+			protected Block createInstance() {
+				return new Block();
+			}
+		};
+	}
+
+	@SuppressWarnings("unchecked")
+	@Override
+	public void _process( final Input left , final Input right , final Disparity disparity ) {
+		final int borderY = getBorderY();
+
+		BoofConcurrency.loopBlocks(borderY, left.height - borderY, minBlockRows, blocks,
+				new IntRangeObjectTask<Block>() {
+			@Override
+			public void call(Block block, int y0, int y1) {
+				block.left = (Input)left.subimage(0, y0 - borderY, left.width, y1 + borderY, block.left);
+				block.right = (Input)right.subimage(0, y0 - borderY, right.width, y1 + borderY, block.right);
+				block.disparity = (Disparity)disparity.subimage(0, y0 - borderY, disparity.width, y1 + borderY,
+						block.disparity);
+
+				block.alg.process(block.left, block.right, block.disparity);
+			}
+		});
+	}
+
+	@Override
+	public Class<Input> getInputType() {
+		return template.getInputType();
+	}
+
+	@Override
+	public Class<Disparity> getDisparityType() {
+		return template.getDisparityType();
+	}
+
+	@Override
+	public int getBorderX() {
+		return template.getBorderX();
+	}
+
+	@Override
+	public int getBorderY() {
+		return template.getBorderY();
+	}
+
+	public int getMinBlockRows() {
+		return minBlockRows;
+	}
+
+	/**
+	 * Specifies the minimum number of rows in a block.  Smaller blocks mean more redundant calculations along
+	 * block borders.
+	 */
+	public void setMinBlockRows(int minBlockRows) {
+		this.minBlockRows = minBlockRows;
+	}
+
+	private class Block {
+		DisparityScoreRowFormat<Input,Disparity> alg = factory.newInstance();
+		Input left, right;
+		Disparity disparity;
+	}
+}
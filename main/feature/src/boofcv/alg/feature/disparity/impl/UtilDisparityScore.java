@@ -20,6 +20,8 @@ package boofcv.alg.feature.disparity.impl;
 
 import boofcv.struct.image.ImageFloat32;
 import boofcv.struct.image.ImageSInt16;
+import boofcv.struct.image.ImageSInt32;
+import boofcv.struct.image.ImageSInt64;
 import boofcv.struct.image.ImageUInt8;
 
 /**
@@ -235,4 +237,76 @@ public class UtilDisparityScore {
 			elementScore[rCol] = Math.abs(diff);
 		}
 	}
+
+	/**
+	 * Computes disparity score for an entire row using the Hamming distance between census values.
+	 *
+	 * @see #computeScoreRow(ImageUInt8, ImageUInt8, int, int[], int, int, int, int[])
+	 * @see boofcv.alg.transform.census.CensusTransform
+	 */
+	public static void computeScoreRow(ImageSInt32 left, ImageSInt32 right, int row, int[] scores,
+									   int minDisparity , int maxDisparity , int regionWidth ,
+									   int elementScore[] ) {
+
+		for( int d = minDisparity; d < maxDisparity; d++ ) {
+			int dispFromMin = d - minDisparity;
+
+			final int colMax = left.width-d;
+			final int scoreMax = colMax-regionWidth;
+
+			int indexScore = left.width*dispFromMin + dispFromMin;
+			int indexLeft = left.startIndex + left.stride*row + d;
+			int indexRight = right.startIndex + right.stride*row;
+
+			for( int rCol = 0; rCol < colMax; rCol++ ) {
+				elementScore[rCol] = Integer.bitCount(left.data[indexLeft++] ^ right.data[indexRight++]);
+			}
+
+			int score = 0;
+			for( int i = 0; i < regionWidth; i++ )
+				score += elementScore[i];
+
+			scores[indexScore++] = score;
+
+			for( int col = 0; col < scoreMax; col++ , indexScore++ ) {
+				scores[indexScore] = score += elementScore[col+regionWidth] - elementScore[col];
+			}
+		}
+	}
+
+	/**
+	 * Computes disparity score for an entire row using the Hamming distance between census values.
+	 *
+	 * @see #computeScoreRow(ImageUInt8, ImageUInt8, int, int[], int, int, int, int[])
+	 * @see boofcv.alg.transform.census.CensusTransform
+	 */
+	public static void computeScoreRow(ImageSInt64 left, ImageSInt64 right, int row, int[] scores,
+									   int minDisparity , int maxDisparity , int regionWidth ,
+									   int elementScore[] ) {
+
+		for( int d = minDisparity; d < maxDisparity; d++ ) {
+			int dispFromMin = d - minDisparity;
+
+			final int colMax = left.width-d;
+			final int scoreMax = colMax-regionWidth;
+
+			int indexScore = left.width*dispFromMin + dispFromMin;
+			int indexLeft = left.startIndex + left.stride*row + d;
+			int indexRight = right.startIndex + right.stride*row;
+
+			for( int rCol = 0; rCol < colMax; rCol++ ) {
+				elementScore[rCol] = Long.bitCount(left.data[indexLeft++] ^ right.data[indexRight++]);
+			}
+
+			int score = 0;
+			for( int i = 0; i < regionWidth; i++ )
+				score += elementScore[i];
+
+			scores[indexScore++] = score;
+
+			for( int col = 0; col < scoreMax; col++ , indexScore++ ) {
+				scores[indexScore] = score += elementScore[col+regionWidth] - elementScore[col];
+			}
+		}
+	}
 }
@@ -0,0 +1,76 @@
+/*
+ * Copyright (c) 2011-2015, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.feature.disparity.sgm;
+
+import boofcv.struct.image.ImageUInt8;
+
+/**
+ * Matching cost for {@link SgmStereoDisparity} which is the absolute difference of pixel intensity values.
+ * Fast to compute but sensitive to changes in brightness between the two cameras.
+ *
+ * @author Peter Abeles
+ */
+public class SgmCostAbsoluteDifference implements SgmDisparityCost<ImageUInt8> {
+
+	ImageUInt8 left, right;
+
+	@Override
+	public void setImages(ImageUInt8 left, ImageUInt8 right) {
+		this.left = left;
+		this.right = right;
+	}
+
+	@Override
+	public void computeRow(int y, int x0, int x1, int minDisparity, int rangeDisparity, short[] cost) {
+		final int maxCost = getMaxCost();
+		final int rowLeft = left.startIndex + y*left.stride;
+		final int rowRight = right.startIndex + y*right.stride;
+
+		for (int x = x0; x < x1; x++) {
+			int indexCost = x*rangeDisparity;
+			int valueLeft = left.data[rowLeft + x] & 0xFF;
+
+			// number of disparities which are inside the image
+			int localRange = Math.max(0,Math.min(rangeDisparity, x - minDisparity + 1));
+
+			int indexRight = rowRight + x - minDisparity;
+			for (int k = 0; k < localRange; k++, indexRight--) {
+				cost[indexCost++] = (short)Math.abs(valueLeft - (right.data[indexRight] & 0xFF));
+			}
+			for (int k = localRange; k < rangeDisparity; k++) {
+				cost[indexCost++] = (short)maxCost;
+			}
+		}
+	}
+
+	@Override
+	public int getMaxCost() {
+		return 255;
+	}
+
+	@Override
+	public int getRadius() {
+		return 0;
+	}
+
+	@Override
+	public Class<ImageUInt8> getInputType() {
+		return ImageUInt8.class;
+	}
+}
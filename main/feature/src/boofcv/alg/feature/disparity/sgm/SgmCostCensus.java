@@ -0,0 +1,142 @@
+/*
+ * Copyright (c) 2011-2015, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.feature.disparity.sgm;
+
+import boofcv.alg.transform.census.CensusTransform;
+import boofcv.alg.transform.census.CensusType;
+import boofcv.struct.image.ImageSInt32;
+import boofcv.struct.image.ImageSInt64;
+import boofcv.struct.image.ImageUInt8;
+
+/**
+ * Matching cost for {@link SgmStereoDisparity} which is the Hamming distance between the
+ * {@link CensusTransform census transform} of each pixel.  Robust to changes in brightness between
+ * the two cameras.
+ *
+ * @author Peter Abeles
+ */
+public class SgmCostCensus implements SgmDisparityCost<ImageUInt8> {
+
+	// which census transform is used
+	CensusType type;
+
+	// census transform of each input image
+	ImageSInt32 censusLeft = new ImageSInt32(1,1);
+	ImageSInt32 censusRight = new ImageSInt32(1,1);
+	ImageSInt64 census64Left = new ImageSInt64(1,1);
+	ImageSInt64 census64Right = new ImageSInt64(1,1);
+
+	/**
+	 * @param type Which census transform is used
+	 */
+	public SgmCostCensus(CensusType type) {
+		this.type = type;
+	}
+
+	/**
+	 * Uses a 5x5 census transform
+	 */
+	public SgmCostCensus() {
+		this(CensusType.REGION_5x5);
+	}
+
+	@Override
+	public void setImages(ImageUInt8 left, ImageUInt8 right) {
+		if( type == CensusType.REGION_5x5 ) {
+			censusLeft.reshape(left.width, left.height);
+			censusRight.reshape(right.width, right.height);
+
+			CensusTransform.region5x5(left, censusLeft);
+			CensusTransform.region5x5(right, censusRight);
+		} else {
+			census64Left.reshape(left.width, left.height);
+			census64Right.reshape(right.width, right.height);
+
+			CensusTransform.region9x7(left, census64Left);
+			CensusTransform.region9x7(right, census64Right);
+		}
+	}
+
+	@Override
+	public void computeRow(int y, int x0, int x1, int minDisparity, int rangeDisparity, short[] cost) {
+		if( type == CensusType.REGION_5x5 )
+			computeRow32(y, x0, x1, minDisparity, rangeDisparity, cost);
+		else
+			computeRow64(y, x0, x1, minDisparity, rangeDisparity, cost);
+	}
+
+	private void computeRow64(int y, int x0, int x1, int minDisparity, int rangeDisparity, short[] cost) {
+		final int maxCost = getMaxCost();
+		final int rowLeft = census64Left.startIndex + y*census64Left.stride;
+		final int rowRight = census64Right.startIndex + y*census64Right.stride;
+
+		for (int x = x0; x < x1; x++) {
+			int indexCost = x*rangeDisparity;
+			long valueLeft = census64Left.data[rowLeft + x];
+
+			// number of disparities which are inside the image
+			int localRange = Math.max(0,Math.min(rangeDisparity, x - minDisparity + 1));
+
+			int indexRight = rowRight + x - minDisparity;
+			for (int k = 0; k < localRange; k++, indexRight--) {
+				cost[indexCost++] = (short)Long.bitCount(valueLeft ^ census64Right.data[indexRight]);
+			}
+			for (int k = localRange; k < rangeDisparity; k++) {
+				cost[indexCost++] = (short)maxCost;
+			}
+		}
+	}
+
+	private void computeRow32(int y, int x0, int x1, int minDisparity, int rangeDisparity, short[] cost) {
+		final int maxCost = getMaxCost();
+		final int rowLeft = censusLeft.startIndex + y*censusLeft.stride;
+		final int rowRight = censusRight.startIndex + y*censusRight.stride;
+
+		for (int x = x0; x < x1; x++) {
+			int indexCost = x*rangeDisparity;
+			int valueLeft = censusLeft.data[rowLeft + x];
+
+			// number of disparities which are inside the image
+			int localRange = Math.max(0,Math.min(rangeDisparity, x - minDisparity + 1));
+
+			int indexRight = rowRight + x - minDisparity;
+			for (int k = 0; k < localRange; k++, indexRight--) {
+				cost[indexCost++] = (short)Integer.bitCount(valueLeft ^ censusRight.data[indexRight]);
+			}
+			for (int k = localRange; k < rangeDisparity; k++) {
+				cost[indexCost++] = (short)maxCost;
+			}
+		}
+	}
+
+	@Override
+	public int getMaxCost() {
+		return type.getBits();
+	}
+
+	@Override
+	public int getRadius() {
+		return Math.max(type.getRadiusX(), type.getRadiusY());
+	}
+
+	@Override
+	public Class<ImageUInt8> getInputType() {
+		return ImageUInt8.class;
+	}
+}
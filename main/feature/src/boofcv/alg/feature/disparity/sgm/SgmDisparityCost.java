@@ -0,0 +1,72 @@
+/*
+ * Copyright (c) 2011-2015, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.feature.disparity.sgm;
+
+import boofcv.struct.image.ImageSingleBand;
+
+/**
+ * <p>
+ * Computes the cost of matching a single pixel in the left image to a pixel in the right image for
+ * {@link SgmStereoDisparity}.  Costs are computed one row at a time as they are needed instead of being
+ * stored for the whole image.
+ * </p>
+ *
+ * <p>
+ * Cost format: The cost of pixel x in the left image at disparity d = minDisparity + k is stored at
+ * index x*rangeDisparity + k.  It's the cost of matching pixel x in the left image to pixel x - d in the
+ * right image.  If x - d is outside the image then the cost is set to {@link #getMaxCost()}.
+ * </p>
+ *
+ * @author Peter Abeles
+ */
+public interface SgmDisparityCost<T extends ImageSingleBand> {
+
+	/**
+	 * Specifies the input images.  Any preprocessing of the images is done here.
+	 *
+	 * @param left Left rectified image
+	 * @param right Right rectified image
+	 */
+	public void setImages( T left , T right );
+
+	/**
+	 * Computes the cost for a range of pixels inside a row.  Can be called concurrently
+	 * after {@link #setImages} has been called.
+	 *
+	 * @param y The row
+	 * @param x0 First column, inclusive
+	 * @param x1 Last column, exclusive
+	 * @param minDisparity Minimum disparity
+	 * @param rangeDisparity Number of disparity values considered
+	 * @param cost Storage for the cost of the entire row.  See class description for format.
+	 */
+	public void computeRow( int y , int x0 , int x1 , int minDisparity , int rangeDisparity , short cost[] );
+
+	/**
+	 * The largest possible cost
+	 */
+	public int getMaxCost();
+
+	/**
+	 * Radius of the local region used to compute the cost.  Pixels closer to the image border are less reliable.
+	 */
+	public int getRadius();
+
+	public Class<T> getInputType();
+}
@@ -0,0 +1,592 @@
+/*
+ * Copyright (c) 2011-2015, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.feature.disparity.sgm;
+
+import boofcv.alg.InputSanityCheck;
+import boofcv.struct.image.ImageFloat32;
+import boofcv.struct.image.ImageSingleBand;
+import boofcv.struct.image.ImageUInt8;
+
+/**
+ * <p>
+ * Semi-Global Matching (SGM) [1] dense stereo disparity.  Instead of summing the cost over a rectangular region,
+ * the cost of each pixel is aggregated along 4 or 8 one dimensional paths which travel across the whole image.
+ * Along each path r the aggregated cost is computed using the following recursive equation:<br>
+ * L<sub>r</sub>(p,d) = C(p,d) + min( L<sub>r</sub>(p-r,d) , L<sub>r</sub>(p-r,d&plusmn;1) + P1 ,
+ * min<sub>i</sub> L<sub>r</sub>(p-r,i) + P2 ) - min<sub>i</sub> L<sub>r</sub>(p-r,i)<br>
+ * where C is the cost of matching a single pixel, P1 is the penalty for small changes in disparity and P2 is the
+ * penalty for large changes.  The disparity with the smallest sum of all L<sub>r</sub> is selected.  Compared
+ * to region based approaches it produces much smoother results in areas with little texture.
+ * </p>
+ *
+ * <p>
+ * Memory: Only the sum of all the paths is saved, as a short for each pixel and disparity.  The cost
+ * C is computed one row at a time as it's needed by the {@link SgmDisparityCost} and never saved for the whole
+ * image.  Paths along the rows are computed one row at a time and the other paths are computed in two sweeps,
+ * top to bottom then bottom to top, which only need to remember the previous row.
+ * </p>
+ *
+ * <p>
+ * The output disparity image follows the same format as {@link boofcv.alg.feature.disparity.DisparitySelect}.  If
+ * the output is {@link ImageFloat32} then sub-pixel accuracy is found by fitting a parabola to the aggregated cost.
+ * Pixels with x &lt; minDisparity are marked as invalid.  Optionally, right to left validation can be used to
+ * remove pixels which are occluded or in error.
+ * </p>
+ *
+ * <p>
+ * [1] Hirschmuller, Heiko. "Stereo processing by semiglobal matching and mutual information." IEEE Transactions
+ * on Pattern Analysis and Machine Intelligence 30.2 (2008): 328-341.
+ * </p>
+ *
+ * @author Peter Abeles
+ */
+public class SgmStereoDisparity<T extends ImageSingleBand, D extends ImageSingleBand> {
+
+	// computes the cost of matching each pixel
+	protected SgmDisparityCost<T> cost;
+
+	// the minimum and maximum disparity which is considered
+	protected int minDisparity;
+	protected int maxDisparity;
+	protected int rangeDisparity;
+	// value assigned to invalid pixels
+	protected int invalidDisparity;
+
+	// penalty for small and large changes in disparity
+	protected int penalty1;
+	protected int penalty2;
+
+	// number of paths which are aggregated.  4 or 8
+	protected int numPaths;
+
+	// tolerance for right to left validation.  if < 0 then it's disabled
+	protected int rightToLeftTolerance;
+
+	// type of output image
+	protected Class<D> disparityType;
+	protected boolean subpixel;
+
+	// shape of the input image
+	protected int width, height;
+
+	// sum of the cost along all the paths.  index = (y*width + x)*rangeDisparity + k
+	protected short aggregated[] = new short[0];
+
+	// cost of the row being processed by the vertical sweeps
+	protected short sweepCost[] = new short[0];
+	// path cost for each direction along the x-axis in the vertical sweeps
+	protected short sweepPrev[][];
+	protected short sweepCurr[][];
+	// the minimum value of each pixel in the path
+	protected int sweepPrevMin[][];
+	protected int sweepCurrMin[][];
+	// the change in x for each path, dx, in the vertical sweeps
+	protected int sweepDx[];
+
+	// storage for processing row by row
+	private Workspace workspace = new Workspace();
+
+	// output disparity image
+	protected D disparity;
+
+	/**
+	 * Configures the algorithm
+	 *
+	 * @param cost Computes the cost of matching individual pixels
+	 * @param minDisparity Minimum disparity that it will check. Must be >= 0 and < maxDisparity
+	 * @param maxDisparity Maximum disparity that it will calculate. Must be > 0
+	 * @param penalty1 Penalty for a change in disparity of 1.
+	 * @param penalty2 Penalty for a change in disparity of more than 1.  Must be >= penalty1.
+	 * @param numPaths Number of paths which are aggregated. 4 or 8.
+	 * @param rightToLeftTolerance Tolerance for right to left validation.  Disable with a value < 0.
+	 * @param disparityType Type of disparity image.  ImageUInt8 or ImageFloat32 for sub-pixel
+	 */
+	public SgmStereoDisparity(SgmDisparityCost<T> cost,
+							  int minDisparity, int maxDisparity,
+							  int penalty1, int penalty2, int numPaths, int rightToLeftTolerance,
+							  Class<D> disparityType ) {
+		if( maxDisparity <= 0 )
+			throw new IllegalArgumentException("Max disparity must be greater than zero");
+		if( minDisparity < 0 || minDisparity >= maxDisparity )
+			throw new IllegalArgumentException("Min disparity must be >= 0 and < maxDisparity");
+		if( numPaths != 4 && numPaths != 8 )
+			throw new IllegalArgumentException("Number of paths must be 4 or 8");
+		if( penalty1 < 0 || penalty2 < penalty1 )
+			throw new IllegalArgumentException("Penalties must be positive and penalty2 >= penalty1");
+		// the cost along a single path can't be more than cost + P2
+		if( numPaths*(cost.getMaxCost() + penalty2) > Short.MAX_VALUE )
+			throw new IllegalArgumentException("Penalties are too large. The aggregated cost would overflow");
+
+		this.cost = cost;
+		this.minDisparity = minDisparity;
+		this.maxDisparity = maxDisparity;
+		this.rangeDisparity = maxDisparity - minDisparity;
+		this.invalidDisparity = rangeDisparity + 1;
+		this.penalty1 = penalty1;
+		this.penalty2 = penalty2;
+		this.numPaths = numPaths;
+		this.rightToLeftTolerance = rightToLeftTolerance;
+		this.disparityType = disparityType;
+
+		if( disparityType == ImageFloat32.class ) {
+			subpixel = true;
+		} else if( disparityType == ImageUInt8.class ) {
+			if( invalidDisparity > 255 )
+				throw new IllegalArgumentException("Disparity range is too large for ImageUInt8");
+			subpixel = false;
+		} else {
+			throw new IllegalArgumentException("Disparity type must be ImageUInt8 or ImageFloat32");
+		}
+
+		sweepDx = numPaths == 4 ? new int[]{0} : new int[]{-1,0,1};
+		sweepPrev = new short[sweepDx.length][0];
+		sweepCurr = new short[sweepDx.length][0];
+		sweepPrevMin = new int[sweepDx.length][0];
+		sweepCurrMin = new int[sweepDx.length][0];
+	}
+
+	/**
+	 * Computes the disparity between the two rectified images
+	 *
+	 * @param left Left rectified stereo image. Input
+	 * @param right Right rectified stereo image. Input
+	 * @param disparity Disparity between the two images. Output
+	 */
+	public void process( T left , T right , D disparity ) {
+		InputSanityCheck.checkSameShape(left, right, disparity);
+
+		if( maxDisparity > left.width )
+			throw new IllegalArgumentException("The maximum disparity is too large for this image size: max size "
+					+left.width);
+
+		this.width = left.width;
+		this.height = left.height;
+		this.disparity = disparity;
+
+		// the aggregated cost is stored in a single array, which limits the size of the image
+		long sizeAggregated = (long)width*height*rangeDisparity;
+		if( sizeAggregated > Integer.MAX_VALUE )
+			throw new IllegalArgumentException("Image is too large. width*height*(maxDisparity-minDisparity) = "+
+					sizeAggregated+" is more than "+Integer.MAX_VALUE);
+		int N = (int)sizeAggregated;
+		if( aggregated.length < N )
+			aggregated = new short[N];
+		if( sweepCost.length < width*rangeDisparity ) {
+			sweepCost = new short[width*rangeDisparity];
+			for (int i = 0; i < sweepDx.length; i++) {
+				sweepPrev[i] = new short[width*rangeDisparity];
+				sweepCurr[i] = new short[width*rangeDisparity];
+				sweepPrevMin[i] = new int[width];
+				sweepCurrMin[i] = new int[width];
+			}
+		}
+
+		cost.setImages(left, right);
+
+		// paths along each row.  This also initializes the aggregated cost
+		aggregateHorizontal();
+
+		// top to bottom then bottom to top
+		sweep(true);
+		sweep(false);
+
+		selectDisparity();
+	}
+
+	/**
+	 * Computes paths going left to right and right to left for every row.
+	 */
+	protected void aggregateHorizontal() {
+		aggregateHorizontal(0, height, workspace);
+	}
+
+	/**
+	 * Computes paths going left to right and right to left inside the specified rows.  Assigns the
+	 * aggregated cost of each pixel in the rows.
+	 */
+	protected void aggregateHorizontal( int y0 , int y1 , Workspace work ) {
+		work.reshape(width, rangeDisparity);
+		final short costRow[] = work.costRow;
+		final int R = rangeDisparity;
+
+		for (int y = y0; y < y1; y++) {
+			cost.computeRow(y, 0, width, minDisparity, R, costRow);
+
+			final int indexRow = y*width*R;
+
+			// left to right
+			short prev[] = work.pathA;
+			short curr[] = work.pathB;
+			int minPrev = initializePath(costRow, 0, prev);
+			System.arraycopy(prev, 0, aggregated, indexRow, R);
+			for (int x = 1; x < width; x++) {
+				minPrev = computePath(costRow, x*R, prev, 0, minPrev, curr, 0);
+				int indexAgg = indexRow + x*R;
+				for (int k = 0; k < R; k++) {
+					aggregated[indexAgg++] = curr[k];
+				}
+				short tmp[] = prev; prev = curr; curr = tmp;
+			}
+
+			// right to left
+			minPrev = initializePath(costRow, (width-1)*R, prev);
+			addPath(prev, 0, indexRow + (width-1)*R);
+			for (int x = width-2; x >= 0; x--) {
+				minPrev = computePath(costRow, x*R, prev, 0, minPrev, curr, 0);
+				addPath(curr, 0, indexRow + x*R);
+				short tmp[] = prev; prev = curr; curr = tmp;
+			}
+		}
+	}
+
+	/**
+	 * Computes all the paths which are not along a row by sweeping through the image one row at a time.
+	 *
+	 * @param down true for top to bottom and false for bottom to top.
+	 */
+	protected void sweep( boolean down ) {
+		for (int i = 0; i < height; i++) {
+			int y = down ? i : height - 1 - i;
+
+			sweepRow(y, i == 0, down);
+
+			// the current row becomes the previous row
+			for (int j = 0; j < sweepDx.length; j++) {
+				short tmp[] = sweepPrev[j]; sweepPrev[j] = sweepCurr[j]; sweepCurr[j] = tmp;
+				int tmpMin[] = sweepPrevMin[j]; sweepPrevMin[j] = sweepCurrMin[j]; sweepCurrMin[j] = tmpMin;
+			}
+		}
+	}
+
+	/**
+	 * Processes a single row in a vertical sweep
+	 */
+	protected void sweepRow( int y , boolean first , boolean down ) {
+		sweepRow(y, first, down, 0, width);
+	}
+
+	/**
+	 * Processes pixels inside a single row for a vertical sweep.  Only reads from the previous row.
+	 *
+	 * @param y Row being processed
+	 * @param first true if this is the first row in the sweep
+	 * @param down Direction of the sweep
+	 * @param x0 First column, inclusive
+	 * @param x1 Last column, exclusive
+	 */
+	protected void sweepRow( int y , boolean first , boolean down , int x0 , int x1 ) {
+		final int R = rangeDisparity;
+		cost.computeRow(y, x0, x1, minDisparity, R, sweepCost);
+
+		for (int i = 0; i < sweepDx.length; i++) {
+			// paths going up are the mirror of the paths going down
+			final int dx = down ? sweepDx[i] : -sweepDx[i];
+			final short prev[] = sweepPrev[i];
+			final short curr[] = sweepCurr[i];
+			final int prevMin[] = sweepPrevMin[i];
+			final int currMin[] = sweepCurrMin[i];
+
+			for (int x = x0; x < x1; x++) {
+				int indexCost = x*R;
+				int px = x - dx;
+
+				if( first || px < 0 || px >= width ) {
+					currMin[x] = initializePath(sweepCost, indexCost, curr, indexCost);
+				} else {
+					currMin[x] = computePath(sweepCost, indexCost, prev, px*R, prevMin[px], curr, indexCost);
+				}
+				addPath(curr, indexCost, (y*width + x)*R);
+			}
+		}
+	}
+
+	/**
+	 * <p>
+	 * Computes the cost along a single path direction in a vertical sweep for a set of paths.  Path c contains
+	 * the pixels with x = c + dx*i, where i is the number of rows from the start of the sweep.  Only pixels along
+	 * the specified paths are read or written, so different sets of paths with the same direction can be
+	 * processed at the same time.
+	 * </p>
+	 *
+	 * <p>
+	 * Produces the same result as {@link #sweep(boolean)} but the matching cost is computed once for each
+	 * direction instead of once for each row.
+	 * </p>
+	 *
+	 * @param down Direction of the sweep
+	 * @param direction Index of the path direction in sweepDx
+	 * @param c0 First path, inclusive
+	 * @param c1 Last path, exclusive
+	 * @param work Storage for the paths
+	 */
+	protected void sweepPaths( boolean down , int direction , int c0 , int c1 , Workspace work ) {
+		final int R = rangeDisparity;
+		// paths going up are the mirror of the paths going down
+		final int dx = down ? sweepDx[direction] : -sweepDx[direction];
+
+		work.reshape(width, R);
+		final short costRow[] = work.costRow;
+		short prev[] = work.sweepPrev;
+		short curr[] = work.sweepCurr;
+		int prevMin[] = work.sweepPrevMin;
+		int currMin[] = work.sweepCurrMin;
+
+		for (int i = 0; i < height; i++) {
+			int y = down ? i : height - 1 - i;
+			int x0 = Math.max(0, c0 + dx*i);
+			int x1 = Math.min(width, c1 + dx*i);
+
+			if( x0 < x1 ) {
+				cost.computeRow(y, x0, x1, minDisparity, R, costRow);
+
+				for (int x = x0; x < x1; x++) {
+					int indexCost = x*R;
+					int px = x - dx;
+
+					if( i == 0 || px < 0 || px >= width ) {
+						currMin[x] = initializePath(costRow, indexCost, curr, indexCost);
+					} else {
+						currMin[x] = computePath(costRow, indexCost, prev, px*R, prevMin[px], curr, indexCost);
+					}
+					addPath(curr, indexCost, (y*width + x)*R);
+				}
+			}
+
+			short tmp[] = prev; prev = curr; curr = tmp;
+			int tmpMin[] = prevMin; prevMin = currMin; currMin = tmpMin;
+		}
+	}
+
+	/**
+	 * Selects the disparity for every pixel
+	 */
+	protected void selectDisparity() {
+		selectDisparity(0, height);
+	}
+
+	/**
+	 * Selects the disparity with the smallest aggregated cost for pixels inside the specified rows
+	 */
+	protected void selectDisparity( int y0 , int y1 ) {
+		final int R = rangeDisparity;
+
+		for (int y = y0; y < y1; y++) {
+			int indexOut = disparity.startIndex + y*disparity.stride;
+			for (int x = 0; x < width; x++, indexOut++) {
+				// disparities which are inside the image
+				int localMax = Math.min(R, x - minDisparity + 1);
+
+				if( localMax <= 0 ) {
+					setInvalid(indexOut);
+					continue;
+				}
+
+				int indexAgg = (y*width + x)*R;
+				int best = 0;
+				int scoreBest = aggregated[indexAgg];
+				for (int k = 1; k < localMax; k++) {
+					int s = aggregated[indexAgg + k];
+					if( s < scoreBest ) {
+						scoreBest = s;
+						best = k;
+					}
+				}
+
+				if( rightToLeftTolerance >= 0 ) {
+					int bestR2L = selectRightToLeft(y, x - minDisparity - best);
+					if( Math.abs(bestR2L - best) > rightToLeftTolerance ) {
+						setInvalid(indexOut);
+						continue;
+					}
+				}
+
+				if( subpixel ) {
+					float value = best;
+					if( best > 0 && best < localMax-1 ) {
+						int c0 = aggregated[indexAgg + best - 1];
+						int c1 = scoreBest;
+						int c2 = aggregated[indexAgg + best + 1];
+						int denominator = 2*(c0 - 2*c1 + c2);
+						if( denominator != 0 )
+							value += (float)(c0 - c2)/denominator;
+					}
+					((ImageFloat32)disparity).data[indexOut] = value;
+				} else {
+					((ImageUInt8)disparity).data[indexOut] = (byte)best;
+				}
+			}
+		}
+	}
+
+	/**
+	 * Finds the best disparity for a pixel in the right image by searching along the left image
+	 *
+	 * @param y row
+	 * @param xr Column in the right image
+	 */
+	private int selectRightToLeft( int y , int xr ) {
+		final int R = rangeDisparity;
+		int localMax = Math.min(R, width - xr - minDisparity);
+
+		int indexAgg = (y*width + xr + minDisparity)*R;
+		int best = 0;
+		int scoreBest = aggregated[indexAgg];
+		for (int k = 1; k < localMax; k++) {
+			// move one pixel to the right and one disparity up
+			indexAgg += R + 1;
+			int s = aggregated[indexAgg];
+			if( s < scoreBest ) {
+				scoreBest = s;
+				best = k;
+			}
+		}
+		return best;
+	}
+
+	private void setInvalid( int index ) {
+		if( subpixel )
+			((ImageFloat32)disparity).data[index] = invalidDisparity;
+		else
+			((ImageUInt8)disparity).data[index] = (byte)invalidDisparity;
+	}
+
+	/**
+	 * Start of a path where there is no previous pixel.  The path cost is the pixel's cost.
+	 *
+	 * @return the minimum cost
+	 */
+	protected final int initializePath( short costRow[] , int indexCost , short dst[] , int indexDst ) {
+		int min = Integer.MAX_VALUE;
+		for (int k = 0; k < rangeDisparity; k++) {
+			int c = costRow[indexCost + k];
+			dst[indexDst + k] = (short)c;
+			if( c < min )
+				min = c;
+		}
+		return min;
+	}
+
+	private int initializePath( short costRow[] , int indexCost , short dst[] ) {
+		return initializePath(costRow, indexCost, dst, 0);
+	}
+
+	/**
+	 * Computes the path cost for a pixel given the path cost of the previous pixel along the path.
+	 *
+	 * @return the minimum cost
+	 */
+	protected final int computePath( short costRow[] , int indexCost ,
+									 short prev[] , int indexPrev , int minPrev ,
+									 short dst[] , int indexDst ) {
+		final int R = rangeDisparity;
+		final int largeChange = minPrev + penalty2;
+		final int P1 = penalty1;
+
+		if( R == 1 ) {
+			int L = costRow[indexCost] + Math.min(prev[indexPrev], largeChange) - minPrev;
+			dst[indexDst] = (short)L;
+			return L;
+		}
+
+		// first and last disparity only have one neighbor and are handled outside the inner loop
+		int best = Math.min(prev[indexPrev], prev[indexPrev + 1] + P1);
+		int min = costRow[indexCost] + Math.min(best, largeChange) - minPrev;
+		dst[indexDst] = (short)min;
+
+		for (int k = 1; k < R - 1; k++) {
+			int center = prev[indexPrev + k];
+			int neighbor = Math.min(prev[indexPrev + k - 1], prev[indexPrev + k + 1]) + P1;
+			best = center < neighbor ? center : neighbor;
+			if( largeChange < best )
+				best = largeChange;
+
+			int L = costRow[indexCost + k] + best - minPrev;
+			dst[indexDst + k] = (short)L;
+			if( L < min )
+				min = L;
+		}
+
+		best = Math.min(prev[indexPrev + R - 1], prev[indexPrev + R - 2] + P1);
+		int L = costRow[indexCost + R - 1] + Math.min(best, largeChange) - minPrev;
+		dst[indexDst + R - 1] = (short)L;
+
+		return Math.min(min, L);
+	}
+
+	/**
+	 * Adds the path's cost to the aggregated cost
+	 */
+	protected final void addPath( short path[] , int indexPath , int indexAgg ) {
+		for (int k = 0; k < rangeDisparity; k++) {
+			aggregated[indexAgg + k] += path[indexPath + k];
+		}
+	}
+
+	public SgmDisparityCost<T> getCost() {
+		return cost;
+	}
+
+	public int getMinDisparity() {
+		return minDisparity;
+	}
+
+	public int getMaxDisparity() {
+		return maxDisparity;
+	}
+
+	public int getBorder() {
+		return cost.getRadius();
+	}
+
+	public Class<T> getInputType() {
+		return cost.getInputType();
+	}
+
+	public Class<D> getDisparityType() {
+		return disparityType;
+	}
+
+	/**
+	 * Storage for processing rows
+	 */
+	protected static class Workspace {
+		short costRow[] = new short[0];
+		short pathA[] = new short[0];
+		short pathB[] = new short[0];
+		// path cost and its minimum value for each pixel in the previous and current row of a vertical sweep
+		short sweepPrev[] = new short[0];
+		short sweepCurr[] = new short[0];
+		int sweepPrevMin[] = new int[0];
+		int sweepCurrMin[] = new int[0];
+
+		public void reshape( int width , int rangeDisparity ) {
+			if( costRow.length < width*rangeDisparity ) {
+				costRow = new short[width*rangeDisparity];
+				sweepPrev = new short[width*rangeDisparity];
+				sweepCurr = new short[width*rangeDisparity];
+				sweepPrevMin = new int[width];
+				sweepCurrMin = new int[width];
+			}
+			if( pathA.length < rangeDisparity ) {
+				pathA = new short[rangeDisparity];
+				pathB = new short[rangeDisparity];
+			}
+		}
+	}
+}
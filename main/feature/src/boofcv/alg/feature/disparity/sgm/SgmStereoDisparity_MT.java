@@ -0,0 +1,109 @@
+/*
+ * Copyright (c) 2011-2015, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.feature.disparity.sgm;
+
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.concurrency.IntRangeObjectTask;
+import boofcv.concurrency.IntRangeTask;
+import boofcv.struct.image.ImageSingleBand;
+import org.ddogleg.struct.FastQueue;
+
+/**
+ * <p>
+ * Concurrent implementation of {@link SgmStereoDisparity}.  Paths along rows are independent of each other and
+ * are processed in parallel blocks of rows.  In the vertical sweeps each path direction is handled one at a time
+ * and the paths along that direction are independent of each other, so they are split into blocks which are
+ * processed in parallel for the entire sweep.  Disparity selection is done in parallel blocks of rows.
+ * Produces the same output as the single threaded version.
+ * </p>
+ *
+ * <p>
+ * With 8 paths the matching cost in the vertical sweeps is computed once for each of the 3 directions,
+ * instead of being shared between them like in the single threaded version.
+ * </p>
+ *
+ * <p>
+ * NOTE: The {@link SgmDisparityCost} must support concurrent calls to computeRow().
+ * </p>
+ *
+ * @author Peter Abeles
+ */
+public class SgmStereoDisparity_MT<T extends ImageSingleBand, D extends ImageSingleBand>
+		extends SgmStereoDisparity<T,D>
+{
+	// minimum number of rows or columns processed by a thread
+	private static final int MIN_BLOCK = 8;
+
+	// storage for each block of rows
+	private FastQueue<Workspace> workspaces = new FastQueue<Workspace>(Workspace.class,true) {
+		@Override
+		protected Workspace createInstance() {
+			return new Workspace();
+		}
+	};
+
+	/**
+	 * @see SgmStereoDisparity#SgmStereoDisparity
+	 */
+	public SgmStereoDisparity_MT(SgmDisparityCost<T> cost,
+								 int minDisparity, int maxDisparity,
+								 int penalty1, int penalty2, int numPaths, int rightToLeftTolerance,
+								 Class<D> disparityType) {
+		super(cost, minDisparity, maxDisparity, penalty1, penalty2, numPaths, rightToLeftTolerance, disparityType);
+	}
+
+	@Override
+	protected void aggregateHorizontal() {
+		BoofConcurrency.loopBlocks(0, height, MIN_BLOCK, workspaces, new IntRangeObjectTask<Workspace>() {
+			@Override
+			public void call(Workspace work, int y0, int y1) {
+				aggregateHorizontal(y0, y1, work);
+			}
+		});
+	}
+
+	@Override
+	protected void sweep(final boolean down) {
+		for (int j = 0; j < sweepDx.length; j++) {
+			final int direction = j;
+			int dx = down ? sweepDx[j] : -sweepDx[j];
+
+			// range of paths which pass through the image
+			final int c0 = -Math.max(0, dx)*(height - 1);
+			final int c1 = width + Math.max(0, -dx)*(height - 1);
+
+			BoofConcurrency.loopBlocks(c0, c1, MIN_BLOCK, workspaces, new IntRangeObjectTask<Workspace>() {
+				@Override
+				public void call(Workspace work, int p0, int p1) {
+					sweepPaths(down, direction, p0, p1, work);
+				}
+			});
+		}
+	}
+
+	@Override
+	protected void selectDisparity() {
+		BoofConcurrency.loopBlocks(0, height, MIN_BLOCK, new IntRangeTask() {
+			@Override
+			public void call(int y0, int y1) {
+				selectDisparity(y0, y1);
+			}
+		});
+	}
+}
@@ -23,6 +23,7 @@ import boofcv.alg.feature.describe.SurfDescribeOps;
 import boofcv.factory.filter.kernel.FactoryKernelGaussian;
 import boofcv.struct.convolve.Kernel2D_F64;
 import boofcv.struct.image.ImageSingleBand;
+import boofcv.struct.sparse.CachedSparseScaleGradient;
 import boofcv.struct.sparse.GradientValue;
 import boofcv.struct.sparse.SparseScaleGradient;
 
@@ -94,6 +95,31 @@ public abstract class OrientationIntegralBase<II extends ImageSingleBand,G exten
 		g.setImage(ii);
 	}
 
+	/**
+	 * If true then the gradient at each sampled pixel is saved and reused by later calls to compute(), until the
+	 * image or the size of the sample kernel changes.  Faster when the regions of many features overlap, at
+	 * the cost of memory proportional to the image's size.  The estimated orientation is not changed.
+	 *
+	 * @param cache true to cache the gradient
+	 */
+	public void setCacheGradient( boolean cache ) {
+		if( cache == isCacheGradient() )
+			return;
+
+		if( cache )
+			g = new CachedSparseScaleGradient<II,G>(g);
+		else
+			g = ((CachedSparseScaleGradient<II,G>)g).getWrapped();
+
+		g.setScale(scale);
+		if( ii != null )
+			g.setImage(ii);
+	}
+
+	public boolean isCacheGradient() {
+		return g instanceof CachedSparseScaleGradient;
+	}
+
 	@Override
 	public Class<II> getImageType() {
 		return integralType;
@@ -0,0 +1,197 @@
+/*
+ * Copyright (c) 2011-2015, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.feature.orientation;
+
+import boofcv.abst.feature.orientation.OrientationIntegral;
+import boofcv.struct.feature.ScalePoint;
+import boofcv.struct.image.ImageSingleBand;
+import georegression.struct.point.Point2D_F64;
+import org.ddogleg.sorting.QuickSort_F64;
+import org.ddogleg.struct.GrowQueue_F64;
+
+import java.util.List;
+
+/**
+ * <p>
+ * Estimates the orientation of every feature in a list using {@link OrientationIntegral}.  The estimated
+ * orientations are identical to calling {@link OrientationIntegral#compute} for each feature.
+ * </p>
+ *
+ * <p>
+ * Optionally, if the algorithm extends {@link OrientationIntegralBase}, its gradient can be
+ * {@link OrientationIntegralBase#setCacheGradient cached} so that pixels shared by the regions of several
+ * features are only sampled once.  Features are then processed in order of increasing scale, since the cache is
+ * discarded each time the size of the sample kernel changes, and then by location.  Computing the gradient from an integral image is
+ * about as fast as looking it up, so this only pays off when features are very densely packed.
+ * </p>
+ *
+ * @author Peter Abeles
+ */
+public class OrientationIntegralBatch<II extends ImageSingleBand> {
+
+	// estimates the orientation of a single feature
+	protected OrientationIntegral<II> alg;
+
+	// integral image of the input image
+	protected II ii;
+
+	// should the gradient be cached
+	protected boolean cacheGradient = false;
+
+	// order features are processed in.  Sorted by scale and location when the gradient is cached
+	protected int order[] = new int[0];
+	// the value features are sorted by
+	protected double scales[] = new double[0];
+	// number of rows in each band when sorting by location
+	private static final int BAND_HEIGHT = 16;
+	// number of scale buckets per unit of scale when sorting
+	private static final int SCALE_STEPS = 10;
+	private QuickSort_F64 sorter = new QuickSort_F64();
+
+	/**
+	 * @param alg Orientation algorithm.
+	 */
+	public OrientationIntegralBatch(OrientationIntegral<II> alg) {
+		this.alg = alg;
+	}
+
+	/**
+	 * Specifies the image which the orientation of features is estimated from.
+	 *
+	 * @param integralImage Input image transformed into an integral image.
+	 */
+	public void setImage( II integralImage ) {
+		this.ii = integralImage;
+		configure(alg);
+		alg.setImage(integralImage);
+	}
+
+	/**
+	 * Estimates the orientation of each feature at the feature's scale.
+	 *
+	 * @param points (Input) Location and scale of each feature.
+	 * @param angles (Output) Orientation of each feature in radians.  Resized to the number of features.
+	 */
+	public void compute( List<ScalePoint> points , GrowQueue_F64 angles ) {
+		angles.resize(points.size());
+		if( cacheGradient )
+			sortByScale(points);
+		process(points, -1, angles.data);
+	}
+
+	/**
+	 * Estimates the orientation of each feature at the same scale.
+	 *
+	 * @param points (Input) Location of each feature.
+	 * @param scale (Input) Scale the orientation of all the features is estimated at.  Must be more than zero.
+	 * @param angles (Output) Orientation of each feature in radians.  Resized to the number of features.
+	 */
+	public void compute( List<Point2D_F64> points , double scale , GrowQueue_F64 angles ) {
+		if( scale <= 0 )
+			throw new IllegalArgumentException("Scale must be more than zero");
+		angles.resize(points.size());
+		identityOrder(points.size());
+		process(points, scale, angles.data);
+	}
+
+	/**
+	 * Sorts the features by scale, then into bands of rows, then by column.  This way features with the same
+	 * sample kernel are processed together and the cache is accessed in a mostly sequential order.
+	 */
+	private void sortByScale( List<ScalePoint> points ) {
+		int N = points.size();
+		if( scales.length < N ) {
+			scales = new double[N];
+			order = new int[N];
+		}
+		int bandStride = ii.width + 1;
+		int scaleStride = bandStride*(ii.height/BAND_HEIGHT + 1);
+		for( int i = 0; i < N; i++ ) {
+			ScalePoint p = points.get(i);
+			int band = Math.max(0, (int)p.y/BAND_HEIGHT);
+			int column = Math.max(0, (int)p.x);
+			scales[i] = (double)(int)(p.scale*SCALE_STEPS)*scaleStride + band*bandStride + column;
+		}
+		sorter.sort(scales, N, order);
+	}
+
+	private void identityOrder( int N ) {
+		if( order.length < N ) {
+			scales = new double[N];
+			order = new int[N];
+		}
+		for( int i = 0; i < N; i++ ) {
+			order[i] = i;
+		}
+	}
+
+	/**
+	 * Estimates the orientation of all the features
+	 *
+	 * @param scale Scale of all the features.  If &le; 0 then each feature is a {@link ScalePoint} with its own scale.
+	 */
+	protected void process( List<? extends Point2D_F64> points , double scale , double angles[] ) {
+		computeRange(alg, points, scale, 0, points.size(), angles);
+	}
+
+	/**
+	 * Turns gradient caching on or off in the algorithm, if it is supported
+	 */
+	protected void configure( OrientationIntegral alg ) {
+		if( alg instanceof OrientationIntegralBase )
+			((OrientationIntegralBase)alg).setCacheGradient(cacheGradient);
+	}
+
+	/**
+	 * Estimates the orientation of features in the range [i0,i1).  If the gradient is cached then the range
+	 * refers to the features sorted by scale.
+	 *
+	 * @param worker Algorithm used to estimate the orientation.  Its image must already be set.
+	 * @param scale Scale of all the features.  If &le; 0 then each feature is a {@link ScalePoint} with its own scale.
+	 */
+	protected void computeRange( OrientationIntegral worker , List<? extends Point2D_F64> points ,
+								 double scale , int i0 , int i1 , double angles[] ) {
+		if( scale > 0 )
+			worker.setScale(scale);
+
+		for( int i = i0; i < i1; i++ ) {
+			int index = cacheGradient ? order[i] : i;
+			Point2D_F64 p = points.get(index);
+			if( scale <= 0 )
+				worker.setScale(((ScalePoint)p).scale);
+			angles[index] = worker.compute(p.x,p.y);
+		}
+	}
+
+	public boolean isCacheGradient() {
+		return cacheGradient;
+	}
+
+	/**
+	 * If true the gradient will be cached.  See class description.  Has no effect on algorithms which don't
+	 * extend {@link OrientationIntegralBase}.  Takes effect the next time the image is set.
+	 */
+	public void setCacheGradient(boolean cacheGradient) {
+		this.cacheGradient = cacheGradient;
+	}
+
+	public OrientationIntegral<II> getAlgorithm() {
+		return alg;
+	}
+}
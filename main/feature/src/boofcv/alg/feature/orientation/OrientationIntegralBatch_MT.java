@@ -0,0 +1,95 @@
+/*
+ * Copyright (c) 2011-2015, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.feature.orientation;
+
+import boofcv.abst.feature.orientation.OrientationIntegral;
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.concurrency.IntRangeObjectTask;
+import boofcv.concurrency.WorkerFactory;
+import boofcv.struct.image.ImageSingleBand;
+import georegression.struct.point.Point2D_F64;
+import org.ddogleg.struct.FastQueue;
+
+import java.util.List;
+
+/**
+ * Concurrent implementation of {@link OrientationIntegralBatch}.  The list of features is split into blocks which
+ * are processed in parallel, each with its own {@link OrientationIntegral} and, if enabled, gradient cache.  The
+ * integral image is shared and only read from.  The results are identical to the single threaded version.
+ *
+ * @author Peter Abeles
+ */
+public class OrientationIntegralBatch_MT<II extends ImageSingleBand> extends OrientationIntegralBatch<II> {
+
+	// creates the orientation algorithm for each block
+	private WorkerFactory<OrientationIntegral<II>> factory;
+
+	// algorithms used by each block
+	private FastQueue<OrientationIntegral<II>> workers;
+
+	// minimum number of features processed by a thread
+	private int minBlockFeatures = 50;
+
+	/**
+	 * @param factory Creates a new {@link OrientationIntegral} for each block.  All must have the same configuration.
+	 */
+	@SuppressWarnings("unchecked")
+	public OrientationIntegralBatch_MT(WorkerFactory<OrientationIntegral<II>> factory) {
+		super(factory.newInstance());
+		this.factory = factory;
+
+		workers = new FastQueue<OrientationIntegral<II>>(1,(Class)OrientationIntegral.class,true) {
+			@Override
+			protected OrientationIntegral<II> createInstance() {
+				return OrientationIntegralBatch_MT.this.factory.newInstance();
+			}
+		};
+	}
+
+	@Override
+	public void setImage(II integralImage) {
+		// the image is passed to each worker when features are processed
+		this.ii = integralImage;
+	}
+
+	@Override
+	protected void process(final List<? extends Point2D_F64> points, final double scale, final double[] angles) {
+		BoofConcurrency.loopBlocks(0, points.size(), minBlockFeatures, workers,
+				new IntRangeObjectTask<OrientationIntegral<II>>() {
+			@Override
+			public void call(OrientationIntegral<II> worker, int i0, int i1) {
+				// also clears the worker's cache since the image might have changed
+				configure(worker);
+				worker.setImage(ii);
+				computeRange(worker, points, scale, i0, i1, angles);
+			}
+		});
+	}
+
+	public int getMinBlockFeatures() {
+		return minBlockFeatures;
+	}
+
+	/**
+	 * Specifies the smallest number of features which will be processed by a single thread
+	 */
+	public void setMinBlockFeatures(int minBlockFeatures) {
+		this.minBlockFeatures = minBlockFeatures;
+	}
+}
@@ -21,7 +21,6 @@ package boofcv.alg.flow;
 import boofcv.abst.filter.derivative.ImageGradient;
 import boofcv.abst.filter.derivative.ImageHessian;
 import boofcv.alg.interpolate.InterpolatePixelS;
-import boofcv.alg.misc.ImageMiscOps;
 import boofcv.alg.misc.PixelMath;
 import boofcv.factory.filter.derivative.FactoryDerivative;
 import boofcv.struct.image.ImageFloat32;
@@ -34,7 +33,8 @@ import java.util.Arrays;
  * <p>
  * Dense optical flow which adheres to a brightness constancy assumption, a gradient constancy
  * assumption, and a discontinuity-preserving spatio-temporal smoothness constraint.  Based on the
- * work of Brox [2] with implementation details taken from [1].
+ * work of Brox [2] with implementation details taken from [1].  The linear system is solved with SOR using a
+ * red-black ordering, which allows each half of the pixels to be processed in parallel.
  * </p>
  *
  * <p>
@@ -119,6 +119,9 @@ public class BroxWarpingSpacial<T extends ImageSingleBand> extends DenseFlowPyra
 	protected ImageFloat32 du = new ImageFloat32(1,1);
 	protected ImageFloat32 dv = new ImageFloat32(1,1);
 
+	// SOR error in each row.  Summed in a fixed order so that the results don't depend on the row processing order
+	protected float rowError[] = new float[0];
+
 	/**
 	 * Configures flow estimation
 	 *
@@ -146,9 +149,11 @@ public class BroxWarpingSpacial<T extends ImageSingleBand> extends DenseFlowPyra
 	 */
 	public void process( ImagePyramid<ImageFloat32> image1 , ImagePyramid<ImageFloat32> image2 )
 	{
+		totalIterations = 0;
+
 		// Process the pyramid from low resolution to high resolution
 		boolean first = true;
-		for( int i = image1.getNumLayers()-1; i >= 0; i-- ) {
+		for( int i = selectFirstLayer(image1); i >= 0; i-- ) {
 			ImageFloat32 layer1 = image1.getLayer(i);
 			ImageFloat32 layer2 = image2.getLayer(i);
 
@@ -163,14 +168,13 @@ public class BroxWarpingSpacial<T extends ImageSingleBand> extends DenseFlowPyra
 				// interpolate initial flow from previous layer
 				interpolateFlowScale(layer1.width, layer1.height);
 			} else {
-				// for the very first layer there is no information on flow so set everything to 0
+				// for the very first layer the flow is zero, unless an initial estimate was provided
 				first = false;
 
 				flowU.reshape(layer1.width, layer1.height);
 				flowV.reshape(layer1.width, layer1.height);
 
-				ImageMiscOps.fill(flowU,0);
-				ImageMiscOps.fill(flowV,0);
+				initializeFlow(image1,flowU,flowV);
 			}
 
 			// compute flow for this layer
@@ -244,7 +248,6 @@ public class BroxWarpingSpacial<T extends ImageSingleBand> extends DenseFlowPyra
 								 ImageFloat32 deriv2XX , ImageFloat32 deriv2YY,ImageFloat32 deriv2XY) {
 
 		int N = image1.width*image1.height;
-		int stride = image1.stride;
 
 		// outer Taylor expansion iterations
 		for( int indexOuter = 0; indexOuter < numOuter; indexOuter++ ) {
@@ -277,41 +280,27 @@ public class BroxWarpingSpacial<T extends ImageSingleBand> extends DenseFlowPyra
 						deriv2X, deriv2Y, deriv2XX, deriv2YY, deriv2XY,
 						du, dv, psiData, psiGradient);
 
+				if( rowError.length < image1.height )
+					rowError = new float[image1.height];
+
 				float error;
 				int iter = 0;
 
 				do {
-					// inner SOR iteration.
-					error = 0;
+					// inner SOR iteration.  The update of each pixel only depends on its 4-connected neighbors,
+					// so the pixels are updated using a red-black ordering.
+					Arrays.fill(rowError,0,image1.height,0);
+					sorSet(image1, deriv1X, deriv1Y, 0);
+					sorSet(image1, deriv1X, deriv1Y, 1);
 
-					// inner portion
-					for (int y = 1; y < image1.height - 1; y++) {
-						int i = y * image1.width + 1;
-						for (int x = 1; x < image1.width - 1; x++, i++) {
-							error += iterationSor(image1, deriv1X, deriv1Y, i, i + 1, i - 1, i + stride, i - stride);
-						}
-					}
-
-					// border regions require special treatment
-					int y0 = 0;
-					int y1 = image1.height-1;
-					for (int x = 0; x < image1.width; x++ ) {
-						error += iterationSor(image1, deriv1X, deriv1Y,
-								s(x, y0), s(x + 1, y0), s(x - 1, y0), s(x, y0 - 1), s(x, y0 + 1));
-
-						error += iterationSor(image1, deriv1X, deriv1Y,
-								s(x, y1), s(x + 1, y1), s(x - 1, y1), s(x, y1 - 1), s(x, y1 + 1));
-					}
-
-					int x0 = 0;
-					int x1 = image1.width-1;
-					for (int y = 1; y < image1.height - 1; y++) {
-						error += iterationSor(image1, deriv1X, deriv1Y,
-								s(x0, y), s(x0 - 1, y), s(x0 + 1, y), s(x0, y - 1), s(x0, y + 1));
-						error += iterationSor(image1, deriv1X, deriv1Y,
-								s(x1, y), s(x1 - 1, y), s(x1 + 1, y), s(x1, y - 1), s(x1, y + 1));
+					// sum up the error in a fixed order
+					error = 0;
+					for( int y = 0; y < image1.height; y++ ) {
+						error += rowError[y];
 					}
 				} while (error > convergeTolerance * image1.width * image1.height && ++iter < maxIterationsSor);
+
+				totalIterations += Math.min(iter+1,maxIterationsSor);
 			}
 
 			// update the flow with the motion increments
@@ -320,6 +309,57 @@ public class BroxWarpingSpacial<T extends ImageSingleBand> extends DenseFlowPyra
 		}
 	}
 
+	/**
+	 * Performs a SOR iteration on every pixel in the set.  A set is composed of all the pixels with
+	 * (x+y)%2 == set.  The error of each row is added to {@link #rowError}.
+	 */
+	protected void sorSet( ImageFloat32 image1 , ImageFloat32 deriv1X , ImageFloat32 deriv1Y , int set ) {
+		for( int y = 0; y < image1.height; y++ ) {
+			rowError[y] += sorRow(image1, deriv1X, deriv1Y, y, (y+set)%2);
+		}
+	}
+
+	/**
+	 * Performs a SOR iteration on every other pixel in row y, starting at offsetX.
+	 *
+	 * @return Sum of the change in flow squared
+	 */
+	protected float sorRow( ImageFloat32 image1 , ImageFloat32 deriv1X , ImageFloat32 deriv1Y ,
+							int y , int offsetX ) {
+		int stride = image1.stride;
+		float error = 0;
+
+		int x = offsetX;
+
+		// border regions require special treatment
+		if( y == 0 || y == image1.height-1 ) {
+			for( ; x < image1.width; x += 2 ) {
+				error += iterationSor(image1, deriv1X, deriv1Y,
+						s(x, y), s(x + 1, y), s(x - 1, y), s(x, y + 1), s(x, y - 1));
+			}
+			return error;
+		}
+
+		if( x == 0 ) {
+			error += iterationSor(image1, deriv1X, deriv1Y,
+					s(x, y), s(x + 1, y), s(x - 1, y), s(x, y + 1), s(x, y - 1));
+			x += 2;
+		}
+
+		// inner portion
+		int i = y*image1.width + x;
+		for( ; x < image1.width - 1; x += 2, i += 2 ) {
+			error += iterationSor(image1, deriv1X, deriv1Y, i, i + 1, i - 1, i + stride, i - stride);
+		}
+
+		if( x == image1.width-1 ) {
+			error += iterationSor(image1, deriv1X, deriv1Y,
+					s(x, y), s(x + 1, y), s(x - 1, y), s(x, y + 1), s(x, y - 1));
+		}
+
+		return error;
+	}
+
 	/**
 	 * Inner SOR iteration step
 	 *
@@ -0,0 +1,65 @@
+/*
+ * Copyright (c) 2011-2015, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.flow;
+
+import boofcv.alg.interpolate.InterpolatePixelS;
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.concurrency.IntRangeTask;
+import boofcv.struct.image.ImageFloat32;
+import boofcv.struct.image.ImageSingleBand;
+
+/**
+ * Concurrent implementation of {@link BroxWarpingSpacial}.  The rows in the red and black sets of pixels updated
+ * by SOR are processed in parallel.  Results are identical to the single threaded version.
+ *
+ * @author Peter Abeles
+ */
+public class BroxWarpingSpacial_MT<T extends ImageSingleBand> extends BroxWarpingSpacial<T> {
+
+	// minimum number of rows processed by a thread
+	private int minBlockRows = 10;
+
+	public BroxWarpingSpacial_MT(ConfigBroxWarping config, InterpolatePixelS<ImageFloat32> interp) {
+		super(config, interp);
+	}
+
+	@Override
+	protected void sorSet(final ImageFloat32 image1, final ImageFloat32 deriv1X, final ImageFloat32 deriv1Y,
+						  final int set) {
+		BoofConcurrency.loopBlocks(0, image1.height, minBlockRows, new IntRangeTask() {
+			@Override
+			public void call(int y0, int y1) {
+				for( int y = y0; y < y1; y++ ) {
+					rowError[y] += sorRow(image1, deriv1X, deriv1Y, y, (y+set)%2);
+				}
+			}
+		});
+	}
+
+	public int getMinBlockRows() {
+		return minBlockRows;
+	}
+
+	/**
+	 * Specifies the smallest number of rows which will be processed by a single thread
+	 */
+	public void setMinBlockRows(int minBlockRows) {
+		this.minBlockRows = minBlockRows;
+	}
+}
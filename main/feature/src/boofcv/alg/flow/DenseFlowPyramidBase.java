@@ -20,8 +20,10 @@ package boofcv.alg.flow;
 
 import boofcv.alg.interpolate.InterpolatePixelS;
 import boofcv.alg.misc.GImageStatistics;
+import boofcv.alg.misc.ImageMiscOps;
 import boofcv.core.image.GConvertImage;
 import boofcv.core.image.GeneralizedImageOps;
+import boofcv.struct.flow.ImageFlow;
 import boofcv.struct.image.ImageFloat32;
 import boofcv.struct.image.ImageSingleBand;
 import boofcv.struct.pyramid.ImagePyramid;
@@ -50,6 +52,18 @@ public abstract class DenseFlowPyramidBase<T extends ImageSingleBand> {
 	// Used to interpolate values between pixels
 	protected InterpolatePixelS<ImageFloat32> interp;
 
+	// initial estimate of the flow at the resolution of the input image
+	protected ImageFloat32 initialFlowX = new ImageFloat32(1,1);
+	protected ImageFloat32 initialFlowY = new ImageFloat32(1,1);
+	// if true then the initial flow will be used in the next call to process
+	protected boolean useInitialFlow = false;
+
+	// total number of inner iterations in the most recent call to process
+	protected int totalIterations;
+
+	// when an initial flow is provided, processing starts at this layer instead of the lowest resolution layer
+	protected int warmStartLayer = 2;
+
 	public DenseFlowPyramidBase(double scale, double sigma, int maxLayers,
 								InterpolatePixelS<ImageFloat32> interp ) {
 		this.scale = scale;
@@ -86,6 +100,89 @@ public abstract class DenseFlowPyramidBase<T extends ImageSingleBand> {
 		process(pyr1, pyr2);
 	}
 
+	/**
+	 * Specifies an initial estimate of the flow which is used instead of zero flow in the next call to process.
+	 * Typically this is the flow from the previous frame in a video sequence.  Processing starts at the
+	 * warm start layer and the flow is scaled down to its resolution.  Invalid pixels are set to zero.  If its shape doesn't match
+	 * the input image then it is ignored.
+	 *
+	 * @param flow (Input) Initial estimate of the flow.  Not modified.
+	 */
+	public void setInitialFlow( ImageFlow flow ) {
+		initialFlowX.reshape(flow.width,flow.height);
+		initialFlowY.reshape(flow.width,flow.height);
+
+		int N = flow.width*flow.height;
+		for( int i = 0; i < N; i++ ) {
+			ImageFlow.D f = flow.data[i];
+			if( f.isValid() ) {
+				initialFlowX.data[i] = f.x;
+				initialFlowY.data[i] = f.y;
+			} else {
+				initialFlowX.data[i] = 0;
+				initialFlowY.data[i] = 0;
+			}
+		}
+
+		useInitialFlow = true;
+	}
+
+	/**
+	 * Specifies which layer processing starts at when an initial flow has been provided.  Coarse layers are
+	 * needed to find large motions from scratch, but with a good initial estimate they mostly undo it.
+	 *
+	 * @param warmStartLayer Index of the layer that processing starts at.  0 is the input resolution.  Try 2
+	 */
+	public void setWarmStartLayer(int warmStartLayer) {
+		this.warmStartLayer = warmStartLayer;
+	}
+
+	/**
+	 * Returns true if the initial flow can be used with the provided pyramid
+	 */
+	protected boolean canUseInitialFlow( ImagePyramid<ImageFloat32> image1 ) {
+		ImageFloat32 full = image1.getLayer(0);
+		return useInitialFlow && initialFlowX.width == full.width && initialFlowX.height == full.height;
+	}
+
+	/**
+	 * Index of the first layer to be processed.  If there is an initial flow then it starts at
+	 * the warm start layer.
+	 */
+	protected int selectFirstLayer( ImagePyramid<ImageFloat32> image1 ) {
+		int top = image1.getNumLayers()-1;
+		if( canUseInitialFlow(image1) )
+			top = Math.min(top,warmStartLayer);
+		return top;
+	}
+
+	/**
+	 * Sets the flow for the first layer processed.  If an initial flow has been specified then it is
+	 * scaled down to the layer's resolution, otherwise it is set to zero.  The initial flow is only used once.
+	 *
+	 * @param image1 Pyramid of first image
+	 * @param flowX (Output) Flow along x-axis in the first layer.  Must already have the correct shape.
+	 * @param flowY (Output) Flow along y-axis in the first layer.  Must already have the correct shape.
+	 */
+	protected void initializeFlow( ImagePyramid<ImageFloat32> image1 , ImageFloat32 flowX , ImageFloat32 flowY ) {
+		if( canUseInitialFlow(image1) ) {
+			interpolateFlowScale(initialFlowX, flowX);
+			interpolateFlowScale(initialFlowY, flowY);
+		} else {
+			ImageMiscOps.fill(flowX,0);
+			ImageMiscOps.fill(flowY,0);
+		}
+		useInitialFlow = false;
+	}
+
+	/**
+	 * Total number of inner iterations performed across all layers in the most recent call to process.
+	 * Useful for seeing how much a good initial estimate reduces the amount of computation.
+	 */
+	public int getTotalIterations() {
+		return totalIterations;
+	}
+
 	/**
 	 * Takes the flow from the previous lower resolution layer and uses it to initialize the flow
 	 * in the current layer.  Adjusts for change in image scale.
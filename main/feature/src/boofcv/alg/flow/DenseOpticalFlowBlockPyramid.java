@@ -51,6 +51,12 @@ import java.util.Arrays;
  * score the edges of objects is handled better.
  * </p>
  *
+ * <p>
+ * Each layer is processed in two steps.  First the flow is found for every pixel when it is at the center of
+ * a region.  This is the expensive step and each pixel is independent.  Then the neighbors of each region are
+ * checked in order.
+ * </p>
+ *
  * @author Peter Abeles
  */
 public abstract class DenseOpticalFlowBlockPyramid<T extends ImageSingleBand> {
@@ -71,7 +77,9 @@ public abstract class DenseOpticalFlowBlockPyramid<T extends ImageSingleBand> {
 	// flow in the current layer
 	protected ImageFlow flowCurrLayer = new ImageFlow(1,1);
 
-	protected ImageFlow.D tmp = new ImageFlow.D();
+	// flow and score for each pixel when it's at the center of the region
+	protected ImageFlow flowCenter = new ImageFlow(1,1);
+	protected float scoresCenter[] = new float[0];
 
 	// fit score for each pixel
 	protected float scores[] = new float[0];
@@ -112,62 +120,44 @@ public abstract class DenseOpticalFlowBlockPyramid<T extends ImageSingleBand> {
 			T curr = pyramidCurr.getLayer(i);
 
 			flowCurrLayer.reshape(prev.width, prev.height);
+			flowCenter.reshape(prev.width, prev.height);
 
 			int N = prev.width*prev.height;
-			if( scores.length < N )
+			if( scores.length < N ) {
 				scores = new float[N];
+				scoresCenter = new float[N];
+			}
 			// mark all the scores as being very large so that if it has not been processed its score
 			// will be set inside of checkNeighbors.
 			Arrays.fill(scores,0,N,Float.MAX_VALUE);
 
+			// the top most layer in the pyramid has no hint.  All the other layers use the hint of the
+			// previous layer to start their search
+			ImageFlow hint = null;
+			double scale = 1;
+			if( i != numLayers-1 ) {
+				hint = flowPrevLayer;
+				scale = pyramidPrev.getScale(i+1)/pyramidPrev.getScale(i);
+			}
+
+			// find the best flow for each pixel when it's at the center of the region
+			findFlowCenters(prev, curr, hint, scale);
+
+			// see if the center's flow is a better fit for any of the pixels in its region
 			int x1 = prev.width-regionRadius;
 			int y1 = prev.height-regionRadius;
 
-			if( i == numLayers-1 ) {
-				// the top most layer in the pyramid has no hint
-				for( int y = regionRadius; y < y1; y++ ) {
-					for( int x = regionRadius; x < x1; x++ ) {
-						extractTemplate(x,y,prev);
-						float score = findFlow(x,y,curr,tmp);
-
-						if( tmp.isValid() )
-							checkNeighbors(x,y,tmp, flowCurrLayer,score);
-						else
-							flowCurrLayer.unsafe_get(x, y).markInvalid();
-					}
-				}
-			} else {
-				// for all the other layers use the hint of the previous layer to start its search
-				double scale = pyramidPrev.getScale(i+1)/pyramidPrev.getScale(i);
-				for( int y = regionRadius; y < y1; y++ ) {
-					for( int x = regionRadius; x < x1; x++ ) {
-						// grab the flow in higher level pyramid
-						ImageFlow.D p = flowPrevLayer.get((int)(x/scale),(int)(y/scale));
-						if( !p.isValid() )
-							continue;
-
-						// get the template around the current point in this layer
-						extractTemplate(x,y,prev);
-
-						// add the flow from the higher layer (adjusting for scale and rounding) as the start of
-						// this search
-						int deltaX = (int)(p.x*scale+0.5);
-						int deltaY = (int)(p.y*scale+0.5);
-
-						int startX = x + deltaX;
-						int startY = y + deltaY;
-
-						float score = findFlow(startX,startY,curr,tmp);
-
-						// find flow only does it relative to the starting point
-						tmp.x += deltaX;
-						tmp.y += deltaY;
-
-						if( tmp.isValid() )
-							checkNeighbors(x,y,tmp, flowCurrLayer,score);
-						else
-							flowCurrLayer.unsafe_get(x,y).markInvalid();
-					}
+			for( int y = regionRadius; y < y1; y++ ) {
+				int index = y*prev.width + regionRadius;
+				for( int x = regionRadius; x < x1; x++, index++ ) {
+					if( hint != null && !hint.get((int)(x/scale),(int)(y/scale)).isValid() )
+						continue;
+
+					ImageFlow.D f = flowCenter.data[index];
+					if( f.isValid() )
+						checkNeighbors(x,y,f, flowCurrLayer,scoresCenter[index]);
+					else
+						flowCurrLayer.data[index].markInvalid();
 				}
 			}
 
@@ -178,6 +168,67 @@ public abstract class DenseOpticalFlowBlockPyramid<T extends ImageSingleBand> {
 		}
 	}
 
+	/**
+	 * Finds the flow and score for every pixel when it is at the center of the region and saves the
+	 * results in {@link #flowCenter} and {@link #scoresCenter}.
+	 *
+	 * @param hint Flow from the previous layer.  null if this is the top layer.
+	 * @param scale Change in scale from the previous layer to this layer
+	 */
+	protected void findFlowCenters( T prev , T curr , ImageFlow hint , double scale ) {
+		findFlowRows(regionRadius, prev.height - regionRadius, prev, curr, hint, scale, flowCenter, scoresCenter);
+	}
+
+	/**
+	 * Finds the flow for all the pixels which can be the center of a region inside the specified rows.  The
+	 * region's neighbors are not examined.  Pixels with an invalid hint are skipped.
+	 *
+	 * @param y0 First row, inclusive
+	 * @param y1 Last row, exclusive
+	 * @param hint Flow from the previous layer.  null if this is the top layer.
+	 * @param scale Change in scale from the previous layer to this layer
+	 * @param flowCenter (Output) flow of each pixel
+	 * @param scoresCenter (Output) score of each pixel
+	 */
+	protected void findFlowRows( int y0 , int y1 , T prev , T curr , ImageFlow hint , double scale ,
+								 ImageFlow flowCenter , float scoresCenter[] ) {
+		int x1 = prev.width-regionRadius;
+
+		for( int y = y0; y < y1; y++ ) {
+			int index = y*prev.width + regionRadius;
+			for( int x = regionRadius; x < x1; x++, index++ ) {
+				ImageFlow.D flow = flowCenter.data[index];
+
+				if( hint == null ) {
+					extractTemplate(x,y,prev);
+					scoresCenter[index] = findFlow(x,y,curr,flow);
+				} else {
+					// grab the flow in higher level pyramid
+					ImageFlow.D p = hint.get((int)(x/scale),(int)(y/scale));
+					if( !p.isValid() )
+						continue;
+
+					// get the template around the current point in this layer
+					extractTemplate(x,y,prev);
+
+					// add the flow from the higher layer (adjusting for scale and rounding) as the start of
+					// this search
+					int deltaX = (int)(p.x*scale+0.5);
+					int deltaY = (int)(p.y*scale+0.5);
+
+					int startX = x + deltaX;
+					int startY = y + deltaY;
+
+					scoresCenter[index] = findFlow(startX,startY,curr,flow);
+
+					// find flow only does it relative to the starting point
+					flow.x += deltaX;
+					flow.y += deltaY;
+				}
+			}
+		}
+	}
+
 	/**
 	 * Performs an exhaustive search centered around (cx,cy) for the region in 'curr' which is the best
 	 * match for the template.  Results are written into 'flow'
@@ -0,0 +1,107 @@
+/*
+ * Copyright (c) 2011-2015, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.flow;
+
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.concurrency.IntRangeObjectTask;
+import boofcv.concurrency.WorkerFactory;
+import boofcv.struct.flow.ImageFlow;
+import boofcv.struct.image.ImageSingleBand;
+import org.ddogleg.struct.FastQueue;
+
+/**
+ * <p>
+ * Concurrent implementation of {@link DenseOpticalFlowBlockPyramid}.  The search for the flow of each region
+ * center is split into blocks of rows and each block is processed by its own instance of the algorithm.  Checking
+ * the neighbors of a region can modify pixels in an adjacent block, so that step is done afterwards in the
+ * same order as the single threaded version.  The output is identical to the single threaded version.
+ * </p>
+ *
+ * @author Peter Abeles
+ */
+public class DenseOpticalFlowBlockPyramid_MT<T extends ImageSingleBand> extends DenseOpticalFlowBlockPyramid<T> {
+
+	// used to compute the flow inside a block of rows
+	private FastQueue<DenseOpticalFlowBlockPyramid<T>> workers;
+
+	// used when a function is called directly
+	private DenseOpticalFlowBlockPyramid<T> helper;
+
+	// minimum number of rows processed by a thread
+	private int minBlockRows = 10;
+
+	/**
+	 * @param factory Creates the single threaded algorithm.  Every instance must have the same configuration.
+	 */
+	public DenseOpticalFlowBlockPyramid_MT( WorkerFactory<DenseOpticalFlowBlockPyramid<T>> factory ) {
+		this(factory, factory.newInstance());
+	}
+
+	@SuppressWarnings("unchecked")
+	private DenseOpticalFlowBlockPyramid_MT( final WorkerFactory<DenseOpticalFlowBlockPyramid<T>> factory ,
+											 DenseOpticalFlowBlockPyramid<T> helper ) {
+		super(helper.searchRadius, helper.regionRadius, maxPerPixelError(helper),
+				(Class<T>)helper.template.getClass());
+		this.helper = helper;
+
+		workers = new FastQueue<DenseOpticalFlowBlockPyramid<T>>(1,(Class)DenseOpticalFlowBlockPyramid.class,true) {
+			@Override
+			protected DenseOpticalFlowBlockPyramid<T> createInstance() {
+				return factory.newInstance();
+			}
+		};
+	}
+
+	private static int maxPerPixelError( DenseOpticalFlowBlockPyramid alg ) {
+		int w = alg.regionRadius*2+1;
+		return alg.maxError/(w*w);
+	}
+
+	@Override
+	protected void findFlowCenters( final T prev , final T curr , final ImageFlow hint , final double scale ) {
+		BoofConcurrency.loopBlocks(regionRadius, prev.height - regionRadius, minBlockRows, workers,
+				new IntRangeObjectTask<DenseOpticalFlowBlockPyramid<T>>() {
+			@Override
+			public void call(DenseOpticalFlowBlockPyramid<T> worker, int y0, int y1) {
+				worker.findFlowRows(y0, y1, prev, curr, hint, scale, flowCenter, scoresCenter);
+			}
+		});
+	}
+
+	@Override
+	protected void extractTemplate(int cx, int cy, T prev) {
+		helper.extractTemplate(cx, cy, prev);
+	}
+
+	@Override
+	protected float computeError(int cx, int cy, T curr) {
+		return helper.computeError(cx, cy, curr);
+	}
+
+	public int getMinBlockRows() {
+		return minBlockRows;
+	}
+
+	/**
+	 * Specifies the smallest number of rows which will be processed by a single thread
+	 */
+	public void setMinBlockRows(int minBlockRows) {
+		this.minBlockRows = minBlockRows;
+	}
+}
@@ -61,6 +61,22 @@ public class DenseOpticalFlowKlt<I extends ImageSingleBand, D extends ImageSingl
 
 	public void process( ImagePyramid<I> prev, D[] prevDerivX, D[] prevDerivY,
 						 ImagePyramid<I> curr , ImageFlow output ) {
+		process(prev, prevDerivX, prevDerivY, curr, null, output);
+	}
+
+	/**
+	 * Computes the dense optical flow.  Each template starts tracking from the location predicted by the
+	 * initial flow estimate instead of its location in the prev image.
+	 *
+	 * @param prev Pyramid of the previous image
+	 * @param prevDerivX Image gradient x-axis for each layer in prev
+	 * @param prevDerivY Image gradient y-axis for each layer in prev
+	 * @param curr Pyramid of the current image
+	 * @param initial (Input) Initial estimate of the flow.  Invalid pixels start with zero flow.  Can be null.
+	 * @param output (Output) The found flow.
+	 */
+	public void process( ImagePyramid<I> prev, D[] prevDerivX, D[] prevDerivY,
+						 ImagePyramid<I> curr , ImageFlow initial , ImageFlow output ) {
 
 		this.width = output.width;
 		this.height = output.height;
@@ -82,6 +98,11 @@ public class DenseOpticalFlowKlt<I extends ImageSingleBand, D extends ImageSingl
 				feature.setPosition(x,y);
 
 				if( tracker.setDescription(feature) ) {
+					if( initial != null ) {
+						ImageFlow.D f = initial.data[y*initial.width+x];
+						if( f.isValid() )
+							feature.setPosition(x+f.x,y+f.y);
+					}
 					// derivX and derivY are not used, but can't be null for setImage()
 					tracker.setImage(curr);
 					KltTrackFault fault = tracker.track(feature);
@@ -47,6 +47,12 @@ public abstract class HornSchunck<T extends ImageBase, D extends ImageBase> {
 	// Number of iterations
 	protected int numIterations;
 
+	// Stops iterating when the average squared change in flow per pixel is less than this value.  Disabled if <= 0
+	protected float convergeTolerance = 0;
+
+	// Number of iterations performed in the most recent call to process
+	protected int iterations;
+
 	// storage for the average flow
 	protected ImageFlow averageFlow = new ImageFlow(1,1);
 
@@ -81,6 +87,33 @@ public abstract class HornSchunck<T extends ImageBase, D extends ImageBase> {
 		this.numIterations = numIterations;
 	}
 
+	/**
+	 * Specifies when iterating should stop before reaching the maximum number of iterations.
+	 *
+	 * @param convergeTolerance Stop when the average squared change in flow per pixel is less than this
+	 *                          value.  If <= 0 then it will always run until the maximum number of iterations.
+	 */
+	public void setConvergeTolerance(float convergeTolerance) {
+		this.convergeTolerance = convergeTolerance;
+	}
+
+	/**
+	 * If true the output flow is set to zero before processing.  If false the flow passed into
+	 * {@link #process} is used as an initial estimate.  All pixels in the initial estimate must be valid.
+	 *
+	 * @param resetOutput true to start from zero flow
+	 */
+	public void setResetOutput(boolean resetOutput) {
+		this.resetOutput = resetOutput;
+	}
+
+	/**
+	 * Number of iterations performed in the most recent call to {@link #process}
+	 */
+	public int getIterations() {
+		return iterations;
+	}
+
 	/**
 	 * Computes dense optical flow from the first image's gradient and the difference between
 	 * the second and the first image.
@@ -20,18 +20,20 @@ package boofcv.alg.flow;
 
 import boofcv.abst.filter.derivative.ImageGradient;
 import boofcv.alg.interpolate.InterpolatePixelS;
-import boofcv.alg.misc.ImageMiscOps;
 import boofcv.factory.filter.derivative.FactoryDerivative;
 import boofcv.factory.flow.ConfigHornSchunckPyramid;
 import boofcv.struct.image.ImageFloat32;
 import boofcv.struct.image.ImageSingleBand;
 import boofcv.struct.pyramid.ImagePyramid;
 
+import java.util.Arrays;
+
 /**
  * <p>
  * Pyramidal implementation of Horn-Schunck based on the discussion in [1].  The problem formulation has been
  * modified from the original found in [2] to account for larger displacements.  The Euler-Lagrange equations
- * are solved using Successive Over-Relaxation (SOR).
+ * are solved using Successive Over-Relaxation (SOR).  Pixels are updated in four interleaved sets, see
+ * {@link #sorSet}, which allows each set to be processed in parallel.
  * </p>
  *
  * <p>
@@ -82,6 +84,9 @@ public class HornSchunckPyramid< T extends ImageSingleBand>
 	protected ImageFloat32 warpDeriv2X = new ImageFloat32(1,1);
 	protected ImageFloat32 warpDeriv2Y = new ImageFloat32(1,1);
 
+	// SOR error in each row.  Summed in a fixed order so that the results don't depend on the row processing order
+	protected float rowError[] = new float[0];
+
 	/**
 	 * Configures flow estimation
 	 *
@@ -112,9 +117,11 @@ public class HornSchunckPyramid< T extends ImageSingleBand>
 						 ImagePyramid<ImageFloat32> image2 ) {
 
 
+		totalIterations = 0;
+
 		// Process the pyramid from low resolution to high resolution
 		boolean first = true;
-		for( int i = image1.getNumLayers()-1; i >= 0; i-- ) {
+		for( int i = selectFirstLayer(image1); i >= 0; i-- ) {
 			ImageFloat32 layer1 = image1.getLayer(i);
 			ImageFloat32 layer2 = image2.getLayer(i);
 
@@ -132,7 +139,7 @@ public class HornSchunckPyramid< T extends ImageSingleBand>
 				// interpolate initial flow from previous layer
 				interpolateFlowScale(layer1.width, layer1.height);
 			} else {
-				// for the very first layer there is no information on flow so set everything to 0
+				// for the very first layer the flow is zero, unless an initial estimate was provided
 				first = false;
 
 				initFlowX.reshape(layer1.width,layer1.height);
@@ -140,10 +147,9 @@ public class HornSchunckPyramid< T extends ImageSingleBand>
 				flowX.reshape(layer1.width,layer1.height);
 				flowY.reshape(layer1.width,layer1.height);
 
-				ImageMiscOps.fill(flowX,0);
-				ImageMiscOps.fill(flowY,0);
-				ImageMiscOps.fill(initFlowX,0);
-				ImageMiscOps.fill(initFlowY,0);
+				initializeFlow(image1,flowX,flowY);
+				initFlowX.setTo(flowX);
+				initFlowY.setTo(flowY);
 			}
 
 			// compute flow for this layer
@@ -222,9 +228,6 @@ public class HornSchunckPyramid< T extends ImageSingleBand>
 	 */
 	protected void processLayer( ImageFloat32 image1 , ImageFloat32 image2 , ImageFloat32 derivX2 , ImageFloat32 derivY2) {
 
-		float w = SOR_RELAXATION;
-		float uf,vf;
-
 		// outer Taylor expansion iterations
 		for( int warp = 0; warp < numWarps; warp++ ) {
 
@@ -235,60 +238,99 @@ public class HornSchunckPyramid< T extends ImageSingleBand>
 			warpImageTaylor(derivY2, initFlowX, initFlowY, warpDeriv2Y);
 			warpImageTaylor(image2, initFlowX, initFlowY, warpImage2);
 
+			if( rowError.length < image1.height )
+				rowError = new float[image1.height];
+
 			float error;
 			int iter = 0;
 
 			do {
-				// inner SOR iteration.
+				// inner SOR iteration.  The update of each pixel depends on its 8-connected neighbors.  Pixels are
+				// split into four interleaved sets by the parity of their coordinates and none of the pixels inside
+				// a set are neighbors.
+				Arrays.fill(rowError,0,image1.height,0);
+				sorSet(image1, 0, 0);
+				sorSet(image1, 1, 0);
+				sorSet(image1, 0, 1);
+				sorSet(image1, 1, 1);
+
+				// sum up the error in a fixed order
 				error = 0;
+				for( int y = 0; y < image1.height; y++ ) {
+					error += rowError[y];
+				}
+			} while( error > convergeTolerance*image1.width*image1.height && ++iter < maxInnerIterations);
+
+			totalIterations += Math.min(iter+1,maxInnerIterations);
+		}
+	}
+
+	/**
+	 * Performs a SOR iteration on every pixel in the set.  A set is composed of all the pixels with
+	 * x%2 == offsetX and y%2 == offsetY.  The error of each row is added to {@link #rowError}.
+	 */
+	protected void sorSet( ImageFloat32 image1 , int offsetX , int offsetY ) {
+		for( int y = offsetY; y < image1.height; y += 2 ) {
+			rowError[y] += sorRow(image1, offsetX, y);
+		}
+	}
+
+	/**
+	 * Performs a SOR iteration on every other pixel in row y, starting at offsetX.
+	 *
+	 * @return Sum of the change in flow squared
+	 */
+	protected float sorRow( ImageFloat32 image1 , int offsetX , int y ) {
+		float w = SOR_RELAXATION;
+		float uf,vf;
+		float error = 0;
 
-				// inner portion
-				for( int y = 1; y < image1.height-1; y++ ) {
-					int pixelIndex = y*image1.width+1;
-					for (int x = 1; x < image1.width-1; x++, pixelIndex++ ) {
-						// could speed this up a bit more by precomputing the constant portion before the do-while loop
-						float ui = initFlowX.data[pixelIndex];
-						float vi = initFlowY.data[pixelIndex];
+		int x = offsetX;
+		int pixelIndex = y*image1.width + x;
 
-						float u = flowX.data[pixelIndex];
-						float v = flowY.data[pixelIndex];
+		// border rows require special treatment
+		if( y == 0 || y == image1.height-1 ) {
+			for( ; x < image1.width; x += 2, pixelIndex += 2 ) {
+				error += iterationSorSafe(image1,x,y,pixelIndex);
+			}
+			return error;
+		}
 
-						float I1 = image1.data[pixelIndex];
-						float I2 = warpImage2.data[pixelIndex];
+		if( x == 0 ) {
+			error += iterationSorSafe(image1,x,y,pixelIndex);
+			x += 2; pixelIndex += 2;
+		}
 
-						float I2x = warpDeriv2X.data[pixelIndex];
-						float I2y = warpDeriv2Y.data[pixelIndex];
+		// inner portion
+		for( ; x < image1.width-1; x += 2, pixelIndex += 2 ) {
+			// could speed this up a bit more by precomputing the constant portion before the do-while loop
+			float ui = initFlowX.data[pixelIndex];
+			float vi = initFlowY.data[pixelIndex];
 
-						float AU = A(x,y,flowX);
-						float AV = A(x,y,flowY);
+			float u = flowX.data[pixelIndex];
+			float v = flowY.data[pixelIndex];
 
-						flowX.data[pixelIndex] = uf = (1-w)*u + w*((I1-I2+I2x*ui - I2y*(v-vi))*I2x + alpha2*AU)/(I2x*I2x + alpha2);
-						flowY.data[pixelIndex] = vf = (1-w)*v + w*((I1-I2+I2y*vi - I2x*(uf-ui))*I2y + alpha2*AV)/(I2y*I2y + alpha2);
+			float I1 = image1.data[pixelIndex];
+			float I2 = warpImage2.data[pixelIndex];
 
-						error += (uf - u)*(uf - u) + (vf - v)*(vf - v);
-					}
-				}
+			float I2x = warpDeriv2X.data[pixelIndex];
+			float I2y = warpDeriv2Y.data[pixelIndex];
 
-				// border regions require special treatment
-				int pixelIndex0 = 0;
-				int pixelIndex1 = (image1.height-1)*image1.width;
-				for (int x = 0; x < image1.width; x++ ) {
-					error += iterationSorSafe(image1,x,0,pixelIndex0++);
-					error += iterationSorSafe(image1,x,image1.height-1,pixelIndex1++);
-				}
+			float AU = A(x,y,flowX);
+			float AV = A(x,y,flowY);
 
-				pixelIndex0 = image1.width;
-				 pixelIndex1 = image1.width + image1.width-1;
-				for( int y = 1; y < image1.height-1; y++ ) {
-					error += iterationSorSafe(image1,0,y,pixelIndex0);
-					error += iterationSorSafe(image1,image1.width-1,y,pixelIndex1);
+			flowX.data[pixelIndex] = uf = (1-w)*u + w*((I1-I2+I2x*ui - I2y*(v-vi))*I2x + alpha2*AU)/(I2x*I2x + alpha2);
+			flowY.data[pixelIndex] = vf = (1-w)*v + w*((I1-I2+I2y*vi - I2x*(uf-ui))*I2y + alpha2*AV)/(I2y*I2y + alpha2);
 
-					pixelIndex0 += image1.width;
-					pixelIndex1 += image1.width;
-				}
+			error += (uf - u)*(uf - u) + (vf - v)*(vf - v);
+		}
 
-			} while( error > convergeTolerance*image1.width*image1.height && ++iter < maxInnerIterations);
+		// right border
+		if( x == image1.width-1 ) {
+			error += iterationSorSafe(image1,x,y,pixelIndex);
 		}
+
+		return error;
 	}
 
 	/**
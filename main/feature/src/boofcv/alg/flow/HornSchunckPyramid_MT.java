@@ -0,0 +1,68 @@
+/*
+ * Copyright (c) 2011-2015, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.flow;
+
+import boofcv.alg.interpolate.InterpolatePixelS;
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.concurrency.IntRangeTask;
+import boofcv.factory.flow.ConfigHornSchunckPyramid;
+import boofcv.struct.image.ImageFloat32;
+import boofcv.struct.image.ImageSingleBand;
+
+/**
+ * Concurrent implementation of {@link HornSchunckPyramid}.  The rows in each set of pixels updated by SOR are
+ * processed in parallel.  Results are identical to the single threaded version.
+ *
+ * @author Peter Abeles
+ */
+public class HornSchunckPyramid_MT<T extends ImageSingleBand> extends HornSchunckPyramid<T> {
+
+	// minimum number of rows processed by a thread
+	private int minBlockRows = 10;
+
+	public HornSchunckPyramid_MT(ConfigHornSchunckPyramid config, InterpolatePixelS<ImageFloat32> interp) {
+		super(config, interp);
+	}
+
+	@Override
+	protected void sorSet(final ImageFloat32 image1, final int offsetX, final int offsetY) {
+		int numRows = (image1.height - offsetY + 1)/2;
+
+		BoofConcurrency.loopBlocks(0, numRows, minBlockRows, new IntRangeTask() {
+			@Override
+			public void call(int i0, int i1) {
+				for( int i = i0; i < i1; i++ ) {
+					int y = offsetY + 2*i;
+					rowError[y] += sorRow(image1, offsetX, y);
+				}
+			}
+		});
+	}
+
+	public int getMinBlockRows() {
+		return minBlockRows;
+	}
+
+	/**
+	 * Specifies the smallest number of rows which will be processed by a single thread
+	 */
+	public void setMinBlockRows(int minBlockRows) {
+		this.minBlockRows = minBlockRows;
+	}
+}
@@ -152,11 +152,12 @@ public class HornSchunck_U8 extends HornSchunck<ImageUInt8,ImageSInt16> {
 
 		int N = output.width*output.height;
 
-		for( int iter = 0; iter < numIterations; iter++ ) {
+		for( iterations = 0; iterations < numIterations; ) {
 
 			borderAverageFlow(output,averageFlow);
 			innerAverageFlow(output,averageFlow);
 
+			float error = 0;
 			for( int i = 0; i < N; i++ ) {
 				float dx = derivX.data[i];
 				float dy = derivY.data[i];
@@ -169,9 +170,18 @@ public class HornSchunck_U8 extends HornSchunck<ImageUInt8,ImageSInt16> {
 
 				ImageFlow.D flow = output.data[i];
 				float r = (dx*u + dy*v + dt)/(alpha2 + dx*dx + dy*dy);
-				flow.x = u - dx*r;
-				flow.y = v - dy*r;
+				float nx = u - dx*r;
+				float ny = v - dy*r;
+
+				error += (nx-flow.x)*(nx-flow.x) + (ny-flow.y)*(ny-flow.y);
+
+				flow.x = nx;
+				flow.y = ny;
 			}
+
+			iterations++;
+			if( error < convergeTolerance*N )
+				break;
 		}
 	}
 }
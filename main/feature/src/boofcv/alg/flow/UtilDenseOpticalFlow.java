@@ -22,6 +22,7 @@ import boofcv.alg.interpolate.InterpolatePixelS;
 import boofcv.alg.transform.pyramid.PyramidFloatGaussianScale;
 import boofcv.alg.transform.pyramid.PyramidFloatScale;
 import boofcv.factory.interpolate.FactoryInterpolation;
+import boofcv.struct.flow.ImageFlow;
 import boofcv.struct.image.ImageSingleBand;
 import boofcv.struct.pyramid.PyramidFloat;
 
@@ -117,4 +118,55 @@ public class UtilDenseOpticalFlow {
 			return new PyramidFloatScale<T>(interp,scaleFactors,imageType);
 		}
 	}
+
+	/**
+	 * <p>
+	 * Forward warps the flow field from the previous frame to create an initial estimate of the flow in the
+	 * current frame.  Assumes that each pixel moves with a constant velocity, so the flow at pixel (x,y) is
+	 * moved to the nearest pixel to (x+u,y+v).  If more than one pixel lands on the same pixel then the one
+	 * with the largest motion is used, since moving objects tend to occlude the background.
+	 * </p>
+	 *
+	 * <p>
+	 * Pixels which nothing is warped into keep their value from the previous flow.  Invalid pixels in the
+	 * previous flow are not warped.
+	 * </p>
+	 *
+	 * @param prev (Input) Flow from the previous frame.  Not modified.
+	 * @param output (Output) Initial estimate for the flow in the current frame.  Reshaped to match prev.
+	 */
+	public static void forwardWarp( ImageFlow prev , ImageFlow output ) {
+		if( prev == output )
+			throw new IllegalArgumentException("Input and output must be different");
+
+		output.reshape(prev.width,prev.height);
+		output.invalidateAll();
+
+		int index = 0;
+		for( int y = 0; y < prev.height; y++ ) {
+			for( int x = 0; x < prev.width; x++ , index++ ) {
+				ImageFlow.D f = prev.data[index];
+				if( !f.isValid() )
+					continue;
+
+				int wx = (int)Math.floor(x + f.x + 0.5f);
+				int wy = (int)Math.floor(y + f.y + 0.5f);
+
+				if( !output.isInBounds(wx,wy) )
+					continue;
+
+				ImageFlow.D o = output.data[wy*output.width+wx];
+				if( !o.isValid() || f.x*f.x + f.y*f.y > o.x*o.x + o.y*o.y )
+					o.set(f);
+			}
+		}
+
+		// fill in the holes
+		int N = prev.width*prev.height;
+		for( int i = 0; i < N; i++ ) {
+			ImageFlow.D o = output.data[i];
+			if( !o.isValid() )
+				o.set(prev.data[i]);
+		}
+	}
 }
@@ -0,0 +1,175 @@
+/*
+ * Copyright (c) 2011-2015, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package boofcv.alg.segmentation.fh04;
+
+/**
+ * <p>
+ * Sorts the edges in {@link FhEdgeStore} from smallest to largest weight in linear time.  The exact sort is
+ * a least significant digit radix sort on the bits of the floating point weight.  Digits which are the same
+ * for every edge are skipped, which typically saves one of the three passes.  The approximate sort is a
+ * single counting sort pass where the weights are quantized into bins.
+ * </p>
+ *
+ * <p>
+ * Both sorts are stable, edges with the same weight (or in the same bin) will be in the same order they
+ * were computed in.  This makes the output deterministic.  The sorted edges are written into a second
+ * store and the two stores are swapped between passes.  The store which contains the sorted edges is returned.
+ * </p>
+ *
+ * @author Peter Abeles
+ */
+public class FhEdgeSorter {
+	// number of bits in each radix digit
+	private static final int BITS = 11;
+	private static final int RADIX = 1 << BITS;
+	private static final int MASK = RADIX-1;
+	// number of passes needed to sort all 32-bits
+	private static final int PASSES = 3;
+
+	// histogram of each digit
+	private int histogram[][] = new int[PASSES][RADIX];
+
+	// number of edges in each bin for the approximate sort
+	private int bins[] = new int[0];
+
+	/**
+	 * Sorts the edges using their exact weight.
+	 *
+	 * @param edges Edges which are to be sorted.  Modified.
+	 * @param work Work space.  Modified.
+	 * @return The store which contains the sorted edges.  Either edges or work.
+	 */
+	public FhEdgeStore sortExact( FhEdgeStore edges , FhEdgeStore work ) {
+		final int N = edges.size;
+		if( N == 0 )
+			return edges;
+
+		// compute the histogram for all the digits at once
+		for( int pass = 0; pass < PASSES; pass++ ) {
+			int h[] = histogram[pass];
+			for( int i = 0; i < RADIX; i++ )
+				h[i] = 0;
+		}
+		int h0[] = histogram[0], h1[] = histogram[1], h2[] = histogram[2];
+		for( int i = 0; i < N; i++ ) {
+			int key = key(edges.weight[i]);
+			h0[key & MASK]++;
+			h1[(key >>> BITS) & MASK]++;
+			h2[key >>> 2*BITS]++;
+		}
+
+		FhEdgeStore src = edges;
+		FhEdgeStore dst = work;
+
+		for( int pass = 0; pass < PASSES; pass++ ) {
+			int shift = pass*BITS;
+			int offset[] = histogram[pass];
+
+			// nothing to do if every edge has the same digit
+			if( offset[(key(src.weight[0]) >>> shift) & MASK] == N )
+				continue;
+
+			// convert counts into the location of the first edge with each digit
+			int total = 0;
+			for( int i = 0; i < RADIX; i++ ) {
+				int count = offset[i];
+				offset[i] = total;
+				total += count;
+			}
+
+			dst.resize(N);
+			for( int i = 0; i < N; i++ ) {
+				float w = src.weight[i];
+				int index = offset[(key(w) >>> shift) & MASK]++;
+				dst.set(index,src.indexA[i],src.indexB[i],w);
+			}
+
+			FhEdgeStore tmp = src;
+			src = dst;
+			dst = tmp;
+		}
+
+		return src;
+	}
+
+	/**
+	 * Approximately sorts the edges by breaking up the range of weights into the specified number of bins.
+	 * Edges inside the same bin are not sorted.
+	 *
+	 * @param edges Edges which are to be sorted.  Modified.
+	 * @param work Work space.  Modified.
+	 * @param numBins Number of bins.
+	 * @return The store which contains the sorted edges.  Either edges or work.
+	 */
+	public FhEdgeStore sortApproximate( FhEdgeStore edges , FhEdgeStore work , int numBins ) {
+		final int N = edges.size;
+		if( N == 0 )
+			return edges;
+
+		float min = edges.weight[0];
+		float max = min;
+		for( int i = 1; i < N; i++ ) {
+			float w = edges.weight[i];
+			if( w < min )
+				min = w;
+			else if( w > max )
+				max = w;
+		}
+
+		if( min == max )
+			return edges;
+
+		if( bins.length < numBins )
+			bins = new int[numBins];
+		for( int i = 0; i < numBins; i++ )
+			bins[i] = 0;
+
+		float scale = numBins/(max-min);
+		int lastBin = numBins-1;
+
+		for( int i = 0; i < N; i++ ) {
+			int bin = (int)((edges.weight[i]-min)*scale);
+			bins[bin > lastBin ? lastBin : bin]++;
+		}
+
+		int total = 0;
+		for( int i = 0; i < numBins; i++ ) {
+			int count = bins[i];
+			bins[i] = total;
+			total += count;
+		}
+
+		work.resize(N);
+		for( int i = 0; i < N; i++ ) {
+			float w = edges.weight[i];
+			int bin = (int)((w-min)*scale);
+			int index = bins[bin > lastBin ? lastBin : bin]++;
+			work.set(index,edges.indexA[i],edges.indexB[i],w);
+		}
+
+		return work;
+	}
+
+	/**
+	 * Converts the float into an integer which has the same ordering when treated as unsigned
+	 */
+	private static int key( float value ) {
+		int bits = Float.floatToRawIntBits(value);
+		return bits ^ ((bits >> 31) | 0x80000000);
+	}
+}
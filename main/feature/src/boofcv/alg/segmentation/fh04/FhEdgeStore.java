@@ -0,0 +1,91 @@
+/*
+ * Copyright (c) 2011-2015, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package boofcv.alg.segmentation.fh04;
+
+/**
+ * Storage for the edges in {@link SegmentFelzenszwalbHuttenlocher04}.  Edges are packed into primitive
+ * arrays instead of being stored as individual objects, which avoids creating millions of small objects
+ * on large images and allows the edges to be sorted efficiently.  Edge 'i' connects pixel indexA[i] to
+ * pixel indexB[i] and has weight[i].  The index of pixel (x,y) is: index = y*width + x
+ *
+ * @author Peter Abeles
+ */
+public class FhEdgeStore {
+	// index of the first pixel in each edge
+	public int indexA[] = new int[0];
+	// index of the second pixel in each edge
+	public int indexB[] = new int[0];
+	// weight of each edge.  Edges are sorted by this value
+	public float weight[] = new float[0];
+
+	// number of edges
+	public int size;
+
+	/**
+	 * Discards all the edges, but not the memory they used
+	 */
+	public void reset() {
+		size = 0;
+	}
+
+	/**
+	 * Changes the number of edges to N.  If the arrays are too small they are grown and the values of
+	 * the existing edges are saved.
+	 */
+	public void resize( int N ) {
+		if( N > indexA.length )
+			growArrays(N + N/10);
+		size = N;
+	}
+
+	/**
+	 * Adds a new edge to the end of the list
+	 */
+	public void add( int indexA , int indexB , float weight ) {
+		if( size == this.indexA.length )
+			growArrays(size*2+10);
+		set(size++,indexA,indexB,weight);
+	}
+
+	private void growArrays( int length ) {
+		int[] a = new int[length];
+		int[] b = new int[length];
+		float[] w = new float[length];
+
+		System.arraycopy(indexA,0,a,0,size);
+		System.arraycopy(indexB,0,b,0,size);
+		System.arraycopy(weight,0,w,0,size);
+
+		indexA = a;
+		indexB = b;
+		weight = w;
+	}
+
+	/**
+	 * Assigns the value of an edge which already exists
+	 */
+	public final void set( int index , int indexA , int indexB , float weight ) {
+		this.indexA[index] = indexA;
+		this.indexB[index] = indexB;
+		this.weight[index] = weight;
+	}
+
+	public int size() {
+		return size;
+	}
+}
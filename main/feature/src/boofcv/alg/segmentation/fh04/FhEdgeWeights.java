@@ -20,17 +20,60 @@ package boofcv.alg.segmentation.fh04;
 
 import boofcv.struct.image.ImageBase;
 import boofcv.struct.image.ImageType;
-import org.ddogleg.struct.FastQueue;
 
 /**
+ * <p>
  * Computes edge weights for {@link SegmentFelzenszwalbHuttenlocher04}.  An edge weight is measure of how different
  * two adjacent pixels are from each other.
+ * </p>
+ *
+ * <p>
+ * Edges are broken up into inner edges and border edges.  Each row of inner edges contains the same number
+ * of edges and is written into a fixed location in the {@link FhEdgeStore}, which allows different rows
+ * to be computed by different threads while producing the same output.  Border edges are appended after all
+ * the inner edges.
+ * </p>
  *
  * @author Peter Abeles
  */
 public interface FhEdgeWeights<T extends ImageBase> {
 
-	public void process( T input , FastQueue<SegmentFelzenszwalbHuttenlocher04.Edge> edges );
+	/**
+	 * Computes the weight of every edge in the image
+	 *
+	 * @param input Input image
+	 * @param edges (Output) Storage for edges.  Previous contents are discarded.
+	 */
+	public void process( T input , FhEdgeStore edges );
+
+	/**
+	 * Number of inner edges computed for each row in {@link #processRows}.  The total number of inner edges
+	 * is (height-1)*innerEdgesPerRow(width).
+	 *
+	 * @param width Width of the input image
+	 * @return Number of inner edges in a row
+	 */
+	public int innerEdgesPerRow( int width );
+
+	/**
+	 * Computes the weight of inner edges which start in rows y0 to y1-1.  The edges for row 'y' are written
+	 * starting at index y*innerEdgesPerRow(width).  Must be safe to call from multiple threads at the same time
+	 * on different rows.
+	 *
+	 * @param input Input image
+	 * @param y0 First row, inclusive.
+	 * @param y1 Last row, exclusive.  Must be &le; height-1
+	 * @param edges (Output) Storage for edges.  Must already have a size large enough for all the inner edges.
+	 */
+	public void processRows( T input , int y0 , int y1 , FhEdgeStore edges );
+
+	/**
+	 * Computes the weight of edges along the image border and adds them to the end of the list
+	 *
+	 * @param input Input image
+	 * @param edges (Output) Storage for edges.  Border edges are added to the end.
+	 */
+	public void processBorder( T input , FhEdgeStore edges );
 
 	public ImageType<T> getInputType();
 }
@@ -0,0 +1,91 @@
+/*
+ * Copyright (c) 2011-2015, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package boofcv.alg.segmentation.fh04;
+
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.concurrency.IntRangeTask;
+import boofcv.struct.image.ImageBase;
+import boofcv.struct.image.ImageType;
+
+/**
+ * Concurrent implementation of {@link FhEdgeWeights}.  Inner edges are computed in blocks of rows by different
+ * threads.  Since each row of inner edges is written into a fixed location in the {@link FhEdgeStore} the output
+ * is identical to the single threaded implementation.  Border edges are computed by the calling thread.
+ *
+ * @author Peter Abeles
+ */
+public class FhEdgeWeights_MT<T extends ImageBase> implements FhEdgeWeights<T> {
+
+	// single threaded implementation for the image type
+	private FhEdgeWeights<T> alg;
+
+	// minimum number of rows processed by a thread
+	private int minBlockRows = 10;
+
+	/**
+	 * @param alg Single threaded implementation for the input image type.
+	 */
+	public FhEdgeWeights_MT( FhEdgeWeights<T> alg ) {
+		this.alg = alg;
+	}
+
+	@Override
+	public void process(T input, FhEdgeStore edges) {
+		edges.reset();
+		edges.resize((input.height-1)*innerEdgesPerRow(input.width));
+
+		processRows(input, 0, input.height-1, edges);
+		processBorder(input, edges);
+	}
+
+	@Override
+	public int innerEdgesPerRow(int width) {
+		return alg.innerEdgesPerRow(width);
+	}
+
+	@Override
+	public void processRows(final T input, int y0, int y1, final FhEdgeStore edges) {
+		BoofConcurrency.loopBlocks(y0, y1, minBlockRows, new IntRangeTask() {
+			@Override
+			public void call(int y0, int y1) {
+				alg.processRows(input, y0, y1, edges);
+			}
+		});
+	}
+
+	@Override
+	public void processBorder(T input, FhEdgeStore edges) {
+		alg.processBorder(input, edges);
+	}
+
+	@Override
+	public ImageType<T> getInputType() {
+		return alg.getInputType();
+	}
+
+	public int getMinBlockRows() {
+		return minBlockRows;
+	}
+
+	/**
+	 * Specifies the smallest number of rows which will be processed by a single thread
+	 */
+	public void setMinBlockRows(int minBlockRows) {
+		this.minBlockRows = minBlockRows;
+	}
+}
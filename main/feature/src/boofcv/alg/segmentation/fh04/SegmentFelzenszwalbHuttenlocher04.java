@@ -22,10 +22,6 @@ import boofcv.alg.InputSanityCheck;
 import boofcv.struct.image.ImageBase;
 import boofcv.struct.image.ImageSInt32;
 import boofcv.struct.image.ImageType;
-import org.ddogleg.sorting.ApproximateSort_F32;
-import org.ddogleg.sorting.QuickSortObj_F32;
-import org.ddogleg.sorting.SortableParameter_F32;
-import org.ddogleg.struct.FastQueue;
 import org.ddogleg.struct.GrowQueue_F32;
 import org.ddogleg.struct.GrowQueue_I32;
 
@@ -45,6 +41,11 @@ import org.ddogleg.struct.GrowQueue_I32;
  * </p>
  *
  * <p>
+ * Edges are stored in primitive arrays, see {@link FhEdgeStore}, and sorted in linear time using
+ * {@link FhEdgeSorter}.  The disjoint-set forest is stored in the output image's int array.
+ * </p>
+ *
+ * <p>
  * NOTE:
  * <ul>
  * <li>Region ID's in output image will NOT be sequential.  You need to call {@link #getRegionId()} to find
@@ -64,7 +65,8 @@ import org.ddogleg.struct.GrowQueue_I32;
  * sensitivity of the algorithm to minor differences.  The sensitivity arises from it being a greedy algorithm.</p>
  *
  * <p>Here is a list of minor differences that cause different regions due to its sensitivity.  The order in which
- * edges with identical weights are sorted is arbitrary.  The order that edges are computed is arbitrary.  Floating
+ * edges with identical weights are processed is the order they were computed in, which is different from the
+ * reference.  Floating
  * point error in weight calculation gradually causes segmentation to diverge to a different solution even
  * when given the same input.</p>
  *
@@ -93,12 +95,16 @@ public class SegmentFelzenszwalbHuttenlocher04<T extends ImageBase> {
 	// Function that computes the weight for each edge
 	private FhEdgeWeights<T> computeWeights;
 
-	private QuickSortObj_F32 sorter = new QuickSortObj_F32();
-	private ApproximateSort_F32 sorterApprox = null;
+	// sorts the edges by weight
+	private FhEdgeSorter sorter = new FhEdgeSorter();
+	// if more than zero then the approximate sort is used with this many bins
+	private int approximateSortBins = 0;
 	// storage for edges so that they can be recycled on the next call
-	protected FastQueue<Edge> edges = new FastQueue<Edge>(Edge.class,true);
-	// list of edges which were not matched to anything.  used to merge small regions
-	protected FastQueue<Edge> edgesNotMatched = new FastQueue<Edge>(Edge.class,false);
+	protected FhEdgeStore edges = new FhEdgeStore();
+	// work space for sorting the edges
+	private FhEdgeStore edgesWork = new FhEdgeStore();
+	// index of edges which were not matched to anything.  used to merge small regions
+	protected GrowQueue_I32 edgesNotMatched = new GrowQueue_I32();
 	// Size of each region
 	protected GrowQueue_I32 regionSize = new GrowQueue_I32();
 	// This is equivalent to Int(C) + tau(C) in Equation 4.
@@ -129,7 +135,7 @@ public class SegmentFelzenszwalbHuttenlocher04<T extends ImageBase> {
 	 * @param numBins Number of bins.  Try 2000.  More bins the more accurate it will be
 	 */
 	public void configureApproximateSort( int numBins ) {
-		sorterApprox = new ApproximateSort_F32(numBins);
+		approximateSortBins = numBins;
 	}
 
 	/**
@@ -148,11 +154,7 @@ public class SegmentFelzenszwalbHuttenlocher04<T extends ImageBase> {
 		initialize(input,output);
 
 		// compute edges weights
-//		long time0 = System.currentTimeMillis();
 		computeWeights.process(input, edges);
-//		long time1 = System.currentTimeMillis();
-
-//		System.out.println("Edge weights time " + (time1 - time0));
 
 		// Merge regions together
 		mergeRegions();
@@ -190,48 +192,49 @@ public class SegmentFelzenszwalbHuttenlocher04<T extends ImageBase> {
 	protected void mergeRegions() {
 
 		// sort edges
-//		long time0 = System.currentTimeMillis();
-		if( sorterApprox != null ) {
-			sorterApprox.computeRange(edges.data,0,edges.size);
-			sorterApprox.sortObject(edges.data,0,edges.size);
+		FhEdgeStore sorted;
+		if( approximateSortBins > 0 ) {
+			sorted = sorter.sortApproximate(edges,edgesWork,approximateSortBins);
 		} else {
-			sorter.sort(edges.data,edges.size);
+			sorted = sorter.sortExact(edges,edgesWork);
+		}
+		if( sorted != edges ) {
+			edgesWork = edges;
+			edges = sorted;
 		}
-//		long time1 = System.currentTimeMillis();
 
-//		System.out.println("Sort time " + (time1 - time0));
+		final int[] indexA = edges.indexA;
+		final int[] indexB = edges.indexB;
+		final float[] weight = edges.weight;
 
 		// examine each edge to see if it can connect two regions
-		for( int i = 0; i < edges.size(); i++ ) {
+		for( int i = 0; i < edges.size; i++ ) {
 			// compare the two nodes connected by the edge to see if their regions they should be merged
-			Edge e = edges.get(i);
-
-			int rootA = find(e.indexA);
-			int rootB = find(e.indexB);
+			int rootA = find(indexA[i]);
+			int rootB = find(indexB[i]);
 
 			// see if they are already part of the same segment
 			if( rootA == rootB )
 				continue;
 
-			float threshA = threshold.get(rootA);
-			float threshB = threshold.get(rootB);
+			float w = weight[i];
 
-			if( e.weight() <= threshA && e.weight() <= threshB )  {
+			if( w <= threshold.data[rootA] && w <= threshold.data[rootB] )  {
 				// ----- Merge the two regions/components
-				int sizeA = regionSize.get(rootA);
-				int sizeB = regionSize.get(rootB);
+				int sizeA = regionSize.data[rootA];
+				int sizeB = regionSize.data[rootB];
 
 				// Everything is merged into region A, so update its threshold
-				threshold.data[rootA] = e.weight() + K/(sizeA + sizeB);
+				threshold.data[rootA] = w + K/(sizeA + sizeB);
 
 				// Point everything towards rootA
-				graph.data[e.indexB] = rootA;
+				graph.data[indexB[i]] = rootA;
 				graph.data[rootB] = rootA;
 
 				// Update the size of regionA
 				regionSize.data[rootA] = sizeA + sizeB;
 			} else {
-				edgesNotMatched.add(e);
+				edgesNotMatched.add(i);
 			}
 		}
 
@@ -244,10 +247,10 @@ public class SegmentFelzenszwalbHuttenlocher04<T extends ImageBase> {
 	 */
 	protected void mergeSmallRegions() {
 		for( int i = 0; i < edgesNotMatched.size(); i++ ) {
-			Edge e = edgesNotMatched.get(i);
+			int edge = edgesNotMatched.get(i);
 
-			int rootA = find(e.indexA);
-			int rootB = find(e.indexB);
+			int rootA = find(edges.indexA[edge]);
+			int rootB = find(edges.indexB[edge]);
 
 			// see if they are already part of the same segment
 			if( rootA == rootB )
@@ -259,7 +262,7 @@ public class SegmentFelzenszwalbHuttenlocher04<T extends ImageBase> {
 			// merge if one of the regions is too small
 			if( sizeA < minimumSize || sizeB < minimumSize ) {
 				// Point everything towards rootA
-				graph.data[e.indexB] = rootA;
+				graph.data[edges.indexB[edge]] = rootA;
 				graph.data[rootB] = rootA;
 
 				// Update the size of regionA
@@ -332,27 +335,4 @@ public class SegmentFelzenszwalbHuttenlocher04<T extends ImageBase> {
 	public ImageType<T> getInputType() {
 		return computeWeights.getInputType();
 	}
-
-	/**
-	 * Describes the relationship between to adjacent pixels in the image.
-	 *
-	 * The weight is saved in 'sortValue'
-	 */
-	public static class Edge extends SortableParameter_F32 {
-		// indexes of connected pixels in output image.  The index for pixel (x,y) is: index = y*width + x
-		public int indexA;
-		public int indexB;
-
-		public Edge(int indexA, int indexB) {
-			this.indexA = indexA;
-			this.indexB = indexB;
-		}
-
-		public Edge() {
-		}
-
-		public final float weight() {
-			return sortValue;
-		}
-	}
 }
@@ -17,13 +17,11 @@
  */
 package boofcv.alg.segmentation.fh04.impl;
 
+import boofcv.alg.segmentation.fh04.FhEdgeStore;
 import boofcv.alg.segmentation.fh04.FhEdgeWeights;
 import boofcv.struct.image.ImageType;
 import boofcv.struct.image.ImageUInt8;
 import boofcv.struct.image.MultiSpectral;
-import org.ddogleg.struct.FastQueue;
-
-import static boofcv.alg.segmentation.fh04.SegmentFelzenszwalbHuttenlocher04.Edge;
 
 /**
  * <p>Computes edge weight as the F-norm different in pixel value for {@link MultiSpectral} images.
@@ -47,16 +45,31 @@ public class FhEdgeWeights8_MsU8 implements FhEdgeWeights<MultiSpectral<ImageUIn
 
 	@Override
 	public void process(MultiSpectral<ImageUInt8> input,
-						FastQueue<Edge> edges) {
+						FhEdgeStore edges) {
 
 		edges.reset();
+		edges.resize((input.height-1)*innerEdgesPerRow(input.width));
+
+		processRows(input,0,input.height-1,edges);
+		processBorder(input,edges);
+	}
+
+	@Override
+	public int innerEdgesPerRow(int width) {
+		return Math.max(0,4*(width-2));
+	}
+
+	@Override
+	public void processRows(MultiSpectral<ImageUInt8> input, int y0, int y1,
+							FhEdgeStore edges) {
+
 		int w = input.width-1;
-		int h = input.height-1;
+		int edgesPerRow = innerEdgesPerRow(input.width);
 
-		// First consider the inner pixels
-		for( int y = 0; y < h; y++ ) {
+		for( int y = y0; y < y1; y++ ) {
 			int indexSrc = input.startIndex + y*input.stride + 1;
 			int indexDst =                  + y*input.width  + 1;
+			int indexEdge = y*edgesPerRow;
 
 			for( int x = 1; x < w; x++ , indexSrc++ , indexDst++ ) {
 
@@ -80,31 +93,21 @@ public class FhEdgeWeights8_MsU8 implements FhEdgeWeights<MultiSpectral<ImageUIn
 					weight4 += diff4*diff4;
 				}
 
-				Edge e1 = edges.grow();
-				Edge e2 = edges.grow();
-
-				e1.sortValue = (float)Math.sqrt(weight1);
-				e1.indexA = indexDst;
-				e1.indexB = indexDst+1;
-
-				e2.sortValue = (float)Math.sqrt(weight2);
-				e2.indexA = indexDst;
-				e2.indexB = indexDst+input.width;
-
-				Edge e3 = edges.grow();
-				Edge e4 = edges.grow();
-
-				e3.sortValue = (float)Math.sqrt(weight3);
-				e3.indexA = indexDst;
-				e3.indexB = indexDst+1+input.width;
-
-				e4.sortValue = (float)Math.sqrt(weight4);
-				e4.indexA = indexDst;
-				e4.indexB = indexDst-1+input.width;
+				edges.set(indexEdge++, indexDst, indexDst+1, (float)Math.sqrt(weight1));
+				edges.set(indexEdge++, indexDst, indexDst+input.width, (float)Math.sqrt(weight2));
+				edges.set(indexEdge++, indexDst, indexDst+1+input.width, (float)Math.sqrt(weight3));
+				edges.set(indexEdge++, indexDst, indexDst-1+input.width, (float)Math.sqrt(weight4));
 			}
 		}
+	}
+
+	@Override
+	public void processBorder(MultiSpectral<ImageUInt8> input,
+							  FhEdgeStore edges) {
+
+		int w = input.width-1;
+		int h = input.height-1;
 
-		// Handle border pixels
 		for( int y = 0; y < h; y++ ) {
 			checkAround(0,y,input,edges);
 			checkAround(w,y,input,edges);
@@ -117,7 +120,7 @@ public class FhEdgeWeights8_MsU8 implements FhEdgeWeights<MultiSpectral<ImageUIn
 
 	private void checkAround( int x , int y ,
 							  MultiSpectral<ImageUInt8> input ,
-							  FastQueue<Edge> edges )
+							  FhEdgeStore edges )
 	{
 		int indexSrc = input.startIndex + y*input.stride + x;
 		int indexA =                      y*input.width  + x;
@@ -135,7 +138,7 @@ public class FhEdgeWeights8_MsU8 implements FhEdgeWeights<MultiSpectral<ImageUIn
 
 	private void check( int x , int y , int color0[] , int indexA,
 						MultiSpectral<ImageUInt8> input ,
-						FastQueue<Edge> edges ) {
+						FhEdgeStore edges ) {
 		if( !input.isInBounds(x,y) )
 			return;
 
@@ -152,11 +155,7 @@ public class FhEdgeWeights8_MsU8 implements FhEdgeWeights<MultiSpectral<ImageUIn
 			weight += diff*diff;
 		}
 
-		Edge e1 = edges.grow();
-
-		e1.sortValue = (float)Math.sqrt(weight);
-		e1.indexA = indexA;
-		e1.indexB = indexB;
+		edges.add(indexA, indexB, (float)Math.sqrt(weight));
 	}
 
 	@Override
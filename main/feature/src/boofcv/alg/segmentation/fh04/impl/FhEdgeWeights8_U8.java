@@ -17,12 +17,10 @@
  */
 package boofcv.alg.segmentation.fh04.impl;
 
+import boofcv.alg.segmentation.fh04.FhEdgeStore;
 import boofcv.alg.segmentation.fh04.FhEdgeWeights;
 import boofcv.struct.image.ImageType;
 import boofcv.struct.image.ImageUInt8;
-import org.ddogleg.struct.FastQueue;
-
-import static boofcv.alg.segmentation.fh04.SegmentFelzenszwalbHuttenlocher04.Edge;
 
 /**
  * <p>Computes edge weight as the absolute value of the different in pixel value for single band images.
@@ -38,48 +36,56 @@ public class FhEdgeWeights8_U8 implements FhEdgeWeights<ImageUInt8> {
 
 	@Override
 	public void process(ImageUInt8 input,
-						FastQueue<Edge> edges) {
+						FhEdgeStore edges) {
+
+		edges.reset();
+		edges.resize((input.height-1)*innerEdgesPerRow(input.width));
+
+		processRows(input,0,input.height-1,edges);
+		processBorder(input,edges);
+	}
+
+	@Override
+	public int innerEdgesPerRow(int width) {
+		return Math.max(0,4*(width-2));
+	}
+
+	@Override
+	public void processRows(ImageUInt8 input, int y0, int y1,
+							FhEdgeStore edges) {
 
 		int w = input.width-1;
-		int h = input.height-1;
+		int edgesPerRow = innerEdgesPerRow(input.width);
 
-		// First consider the inner pixels
-		for( int y = 0; y < h; y++ ) {
+		for( int y = y0; y < y1; y++ ) {
 			int indexSrc = input.startIndex + y*input.stride + 1;
 			int indexDst =                  + y*input.width  + 1;
+			int indexEdge = y*edgesPerRow;
 
 			for( int x = 1; x < w; x++ , indexSrc++ , indexDst++ ) {
 				int color0 = input.data[indexSrc]& 0xFF;              // (x,y)
 				int color1 = input.data[indexSrc+1]& 0xFF;            // (x+1,y)
 				int color2 = input.data[indexSrc+input.stride]& 0xFF; // (x,y+1)
 
-				Edge e1 = edges.grow();
-				Edge e2 = edges.grow();
-
-				e1.sortValue = Math.abs(color1-color0);
-				e1.indexA = indexDst;
-				e1.indexB = indexDst+1;
-
-				e2.sortValue = Math.abs(color2-color0);
-				e2.indexA = indexDst;
-				e2.indexB = indexDst+input.width;
+				edges.set(indexEdge++, indexDst, indexDst+1, Math.abs(color1-color0));
+				edges.set(indexEdge++, indexDst, indexDst+input.width, Math.abs(color2-color0));
 
 				int color3 = input.data[indexSrc+1+input.stride]& 0xFF; // (x+1,y+1)
 				int color4 = input.data[indexSrc-1+input.stride]& 0xFF; // (x-1,y+1)
 
-				Edge e3 = edges.grow();
-				Edge e4 = edges.grow();
-
-				e3.sortValue = Math.abs(color3-color0);
-				e3.indexA = indexDst;
-				e3.indexB = indexDst+1+input.width;
-
-				e4.sortValue = Math.abs(color4-color0);
-				e4.indexA = indexDst;
-				e4.indexB = indexDst-1+input.width;
+				edges.set(indexEdge++, indexDst, indexDst+1+input.width, Math.abs(color3-color0));
+				edges.set(indexEdge++, indexDst, indexDst-1+input.width, Math.abs(color4-color0));
 			}
 		}
-		// Handle border pixels
+	}
+
+	@Override
+	public void processBorder(ImageUInt8 input,
+							  FhEdgeStore edges) {
+
+		int w = input.width-1;
+		int h = input.height-1;
+
 		for( int y = 0; y < h; y++ ) {
 			checkAround(0,y,input,edges);
 			checkAround(w,y,input,edges);
@@ -89,9 +95,10 @@ public class FhEdgeWeights8_U8 implements FhEdgeWeights<ImageUInt8> {
 			checkAround(x,h,input,edges);
 		}
 	}
+
 	private void checkAround( int x , int y ,
 							  ImageUInt8 input ,
-							  FastQueue<Edge> edges )
+							  FhEdgeStore edges )
 	{
 		int indexSrc = input.startIndex + y*input.stride + x;
 		int indexA =                      y*input.width  + x;
@@ -106,7 +113,7 @@ public class FhEdgeWeights8_U8 implements FhEdgeWeights<ImageUInt8> {
 
 	private void check( int x , int y , int color0 , int indexA,
 						ImageUInt8 input ,
-						FastQueue<Edge> edges ) {
+						FhEdgeStore edges ) {
 		if( !input.isInBounds(x,y) )
 			return;
 
@@ -115,11 +122,7 @@ public class FhEdgeWeights8_U8 implements FhEdgeWeights<ImageUInt8> {
 
 		int colorN = input.data[indexSrc]& 0xFF;
 
-		Edge e1 = edges.grow();
-
-		e1.sortValue = (float)Math.abs(color0-colorN);
-		e1.indexA = indexA;
-		e1.indexB = indexB;
+		edges.add(indexA, indexB, (float)Math.abs(color0-colorN));
 	}
 
 	@Override
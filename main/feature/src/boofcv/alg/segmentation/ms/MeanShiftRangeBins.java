@@ -0,0 +1,150 @@
+/*
+ * Copyright (c) 2011-2015, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package boofcv.alg.segmentation.ms;
+
+/**
+ * <p>
+ * Used by {@link SegmentMeanShiftSearch} to skip samples which are too far away in color space to have
+ * any weight.  The image is divided up into square spacial bins and the range of color values is recorded
+ * for each band inside of each bin.  If the mean color is more than the maximum color distance away from the
+ * range in any band then every sample inside the bin has a weight of zero and can be skipped.
+ * </p>
+ *
+ * <p>
+ * Samples are at sub-pixel locations.  The range of a bin is computed from all the pixels which can be used to
+ * interpolate a sample whose integer coordinate is inside the bin.  This is only valid for interpolation
+ * methods which produce values inside the range of the neighboring pixels, e.g. bilinear.  Since the skipped
+ * samples always have a weight of zero the results are not changed.
+ * </p>
+ *
+ * @author Peter Abeles
+ */
+public class MeanShiftRangeBins {
+
+	// width of a square bin in pixels
+	private int binWidth;
+	private int numBands;
+
+	// number of bins along each axis
+	private int binsX, binsY;
+
+	// minimum and maximum value in each band for each bin.  index = (binY*binsX + binX)*numBands + band
+	private float min[] = new float[0];
+	private float max[] = new float[0];
+
+	// maximum distance a sample can be in a single band and have a non-zero weight.  Slightly enlarged
+	// to ensure round off errors can't cause a sample to be skipped
+	private float maxDistance;
+
+	/**
+	 * Configures the bins
+	 *
+	 * @param binWidth Width of a square bin in pixels.
+	 * @param numBands Number of bands in the image
+	 * @param maxColorDistance Samples which are more than this distance from the mean color have no weight
+	 */
+	public MeanShiftRangeBins(int binWidth, int numBands, float maxColorDistance) {
+		this.binWidth = binWidth;
+		this.numBands = numBands;
+		this.maxDistance = maxColorDistance*1.001f;
+	}
+
+	/**
+	 * Resizes the bins for an image of the specified shape and resets the range of each bin.
+	 */
+	public void reshape( int width , int height ) {
+		binsX = (width + binWidth - 1)/binWidth;
+		binsY = (height + binWidth - 1)/binWidth;
+
+		int N = binsX*binsY*numBands;
+		if( min.length < N ) {
+			min = new float[N];
+			max = new float[N];
+		}
+		for( int i = 0; i < N; i++ ) {
+			min[i] = Float.MAX_VALUE;
+			max[i] = -Float.MAX_VALUE;
+		}
+	}
+
+	/**
+	 * Adds the color of a pixel to all the bins it can influence.  A pixel can be used to interpolate
+	 * samples which are up to two pixels before it, the extra pixel is for round off error when computing
+	 * the sample's coordinate.
+	 *
+	 * @param x pixel x-coordinate
+	 * @param y pixel y-coordinate
+	 * @param color color of the pixel
+	 */
+	public void addPixel( int x , int y , float[] color ) {
+		int binX0 = Math.max(0,x-2)/binWidth;
+		int binX1 = Math.min(binsX-1,x/binWidth);
+		int binY0 = Math.max(0,y-2)/binWidth;
+		int binY1 = Math.min(binsY-1,y/binWidth);
+
+		for( int binY = binY0; binY <= binY1; binY++ ) {
+			for( int binX = binX0; binX <= binX1; binX++ ) {
+				int index = (binY*binsX + binX)*numBands;
+				for( int band = 0; band < numBands; band++ , index++ ) {
+					float value = color[band];
+					if( value < min[index] )
+						min[index] = value;
+					if( value > max[index] )
+						max[index] = value;
+				}
+			}
+		}
+	}
+
+	/**
+	 * Returns true if every sample inside the bin which contains the pixel is too far away from the color
+	 * to have any weight.
+	 *
+	 * @param x pixel x-coordinate
+	 * @param y pixel y-coordinate
+	 * @param color The mean color
+	 */
+	public boolean isOutside( int x , int y , float[] color ) {
+		int index = ((y/binWidth)*binsX + x/binWidth)*numBands;
+		for( int band = 0; band < numBands; band++ , index++ ) {
+			float value = color[band];
+			if( value < min[index] - maxDistance || value > max[index] + maxDistance )
+				return true;
+		}
+		return false;
+	}
+
+	/**
+	 * Single band version of {@link #isOutside(int, int, float[])}
+	 */
+	public boolean isOutside( int x , int y , float value ) {
+		int index = (y/binWidth)*binsX + x/binWidth;
+		return value < min[index] - maxDistance || value > max[index] + maxDistance;
+	}
+
+	/**
+	 * Returns the x-coordinate of the first pixel in the next bin along the x-axis
+	 */
+	public int endOfBinX( int x ) {
+		return (x/binWidth + 1)*binWidth;
+	}
+
+	public int getBinWidth() {
+		return binWidth;
+	}
+}
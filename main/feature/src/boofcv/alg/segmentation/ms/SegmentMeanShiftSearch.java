@@ -18,6 +18,7 @@
 
 package boofcv.alg.segmentation.ms;
 
+import boofcv.alg.misc.ImageMiscOps;
 import boofcv.struct.image.ImageBase;
 import boofcv.struct.image.ImageSInt32;
 import boofcv.struct.image.ImageType;
@@ -48,6 +49,11 @@ import org.ddogleg.struct.GrowQueue_I32;
  * </p>
  *
  * <p>
+ * Samples which are too far away in color space to have any weight can be skipped by turning on
+ * {@link MeanShiftRangeBins}, see {@link #setPruneBinWidth(int)}.  This does not change the results.
+ * </p>
+ *
+ * <p>
  * NOTES:
  * <ul>
  * <li>Spacial distance is normalized by dividing the found Euclidean distance squared by the maximum possible
@@ -90,6 +96,9 @@ public abstract class SegmentMeanShiftSearch<T extends ImageBase> {
 	// to have mean-shift converge to a different pixel
 	protected ImageSInt32 quickMode = new ImageSInt32(1,1);
 
+	// rows in pixelToMode which might have been assigned a mode since it was filled.  y0 inclusive, y1 exclusive
+	protected int assignedY0, assignedY1;
+
 	// location of each peak in image pixel indexes
 	protected FastQueue<Point2D_I32> modeLocation = new FastQueue<Point2D_I32>(Point2D_I32.class,true);
 
@@ -114,6 +123,9 @@ public abstract class SegmentMeanShiftSearch<T extends ImageBase> {
 	// mode of mean-shift
 	protected float modeX, modeY;
 
+	// used to skip samples which are too far away in color space.  null if not used
+	protected MeanShiftRangeBins rangeBins;
+
 	/**
 	 * Configures mean-shift segmentation
 	 *
@@ -160,7 +172,70 @@ public abstract class SegmentMeanShiftSearch<T extends ImageBase> {
 	 *
 	 * @param image Input image
 	 */
-	public abstract void process( T image );
+	public void process( T image ) {
+		initialize(image);
+		processRows(0, image.height);
+	}
+
+	/**
+	 * Initializes data structures for processing the image
+	 */
+	protected void initialize( T image ) {
+		initializeImage(image);
+
+		pixelToMode.reshape(image.width, image.height);
+		quickMode.reshape(image.width, image.height);
+		// mark as -1 so it knows which pixels have been assigned a mode already and can skip them
+		ImageMiscOps.fill(pixelToMode, -1);
+		// mark all pixels are not being a mode
+		ImageMiscOps.fill(quickMode,-1);
+		assignedY0 = image.height;
+		assignedY1 = 0;
+
+		if( rangeBins != null ) {
+			computeRangeBins();
+		}
+	}
+
+	/**
+	 * Specifies the input image and discards previously found modes.  Does not modify pixelToMode, quickMode,
+	 * or the range bins.
+	 */
+	protected abstract void initializeImage( T image );
+
+	/**
+	 * Computes the range of color values inside each bin in {@link #rangeBins} from the input image
+	 */
+	protected abstract void computeRangeBins();
+
+	/**
+	 * Runs mean-shift on every pixel in rows y0 to y1-1 which has not already been assigned a mode.
+	 *
+	 * @param y0 First row, inclusive
+	 * @param y1 Last row, exclusive
+	 */
+	protected abstract void processRows( int y0 , int y1 );
+
+	/**
+	 * Skips samples which are too far away in color space to have any weight.  Only valid when the
+	 * interpolation routine produces values inside the range of neighboring pixels, e.g. bilinear.
+	 *
+	 * @param binWidth Width of a spacial bin in pixels.  If &le; 0 then samples are not pruned.  Try 8.
+	 */
+	public void setPruneBinWidth( int binWidth ) {
+		if( binWidth <= 0 )
+			rangeBins = null;
+		else
+			rangeBins = new MeanShiftRangeBins(binWidth,getImageType().getNumBands(),
+					(float)Math.sqrt(maxColorDistanceSq));
+	}
+
+	/**
+	 * Width of bins used to prune samples.  0 if pruning is turned off.
+	 */
+	public int getPruneBinWidth() {
+		return rangeBins == null ? 0 : rangeBins.getBinWidth();
+	}
 
 	/**
 	 * Returns the Euclidean distance squared between the two vectors
@@ -19,7 +19,6 @@
 package boofcv.alg.segmentation.ms;
 
 import boofcv.alg.interpolate.InterpolatePixelMB;
-import boofcv.alg.misc.ImageMiscOps;
 import boofcv.struct.feature.ColorQueue_F32;
 import boofcv.struct.image.ImageMultiBand;
 import boofcv.struct.image.ImageType;
@@ -68,14 +67,8 @@ public class SegmentMeanShiftSearchColor<T extends ImageMultiBand> extends Segme
 		modeColor = new ColorQueue_F32(numBands);
 	}
 
-	/**
-	 * Performs mean-shift clustering on the input image
-	 *
-	 * @param image Input image
-	 */
 	@Override
-	public void process( T image ) {
-		// initialize data structures
+	protected void initializeImage( T image ) {
 		this.image = image;
 
 		modeLocation.reset();
@@ -83,17 +76,27 @@ public class SegmentMeanShiftSearchColor<T extends ImageMultiBand> extends Segme
 		modeMemberCount.reset();
 
 		interpolate.setImage(image);
+	}
 
-		pixelToMode.reshape(image.width, image.height);
-		quickMode.reshape(image.width, image.height);
-		// mark as -1 so it knows which pixels have been assigned a mode already and can skip them
-		ImageMiscOps.fill(pixelToMode, -1);
-		// mark all pixels are not being a mode
-		ImageMiscOps.fill(quickMode,-1);
+	@Override
+	protected void computeRangeBins() {
+		rangeBins.reshape(image.width, image.height);
+		for( int y = 0; y < image.height; y++ ) {
+			for( int x = 0; x < image.width; x++ ) {
+				interpolate.get(x, y, pixelColor);
+				rangeBins.addPixel(x, y, pixelColor);
+			}
+		}
+	}
+
+	@Override
+	protected void processRows( int y0 , int y1 ) {
+		assignedY0 = Math.min(assignedY0, y0);
+		assignedY1 = Math.max(assignedY1, y1);
 
 		// use mean shift to find the peak of each pixel in the image
-		int indexImg = 0;
-		for( int y = 0; y < image.height; y++ ) {
+		int indexImg = y0*image.width;
+		for( int y = y0; y < y1; y++ ) {
 			for( int x = 0; x < image.width; x++ , indexImg++ ) {
 				if( pixelToMode.data[indexImg] != -1 ) {
 					int peakIndex = pixelToMode.data[indexImg];
@@ -137,6 +140,11 @@ public class SegmentMeanShiftSearchColor<T extends ImageMultiBand> extends Segme
 					int index = pixelToMode.getIndex(px,py);
 					if( pixelToMode.data[index] == -1 ) {
 						pixelToMode.data[index] = modeIndex;
+						// trajectories can leave the rows being processed
+						if( py < assignedY0 )
+							assignedY0 = py;
+						else if( py >= assignedY1 )
+							assignedY1 = py + 1;
 					}
 				}
 			}
@@ -172,16 +180,31 @@ public class SegmentMeanShiftSearchColor<T extends ImageMultiBand> extends Segme
 			// If it is not near the image border it can use faster techniques
 			if( interpolate.isInFastBounds(x0, y0) &&
 					interpolate.isInFastBounds(x0 + widthX - 1, y0 + widthY - 1)) {
+				int pixelX0 = (int)x0;
+				int pixelY0 = (int)y0;
 				for( int yy = 0; yy < widthY; yy++ ) {
-					for( int xx = 0; xx < widthX; xx++ ) {
-						float ds = spacialTable[kernelIndex++];
-						interpolate.get(x0 + xx, y0 + yy, pixelColor);
-						float dc = distanceSq(pixelColor,meanColor)/ maxColorDistanceSq;
-						float weight = dc > 1 ? 0 : weight((ds+dc)/2f);
-						total += weight;
-						sumX += weight*(xx+x0);
-						sumY += weight*(yy+y0);
-						sumColor(sumColor, pixelColor,weight);
+					int xx = 0;
+					while( xx < widthX ) {
+						int end = widthX;
+						if( rangeBins != null ) {
+							// skip all the samples inside the bin if none of them can have any weight
+							end = Math.min(widthX, rangeBins.endOfBinX(pixelX0 + xx) - pixelX0);
+							if( rangeBins.isOutside(pixelX0 + xx, pixelY0 + yy, meanColor) ) {
+								kernelIndex += end - xx;
+								xx = end;
+								continue;
+							}
+						}
+						for( ; xx < end; xx++ ) {
+							float ds = spacialTable[kernelIndex++];
+							interpolate.get(x0 + xx, y0 + yy, pixelColor);
+							float dc = distanceSq(pixelColor,meanColor)/ maxColorDistanceSq;
+							float weight = dc > 1 ? 0 : weight((ds+dc)/2f);
+							total += weight;
+							sumX += weight*(xx+x0);
+							sumY += weight*(yy+y0);
+							sumColor(sumColor, pixelColor,weight);
+						}
 					}
 				}
 			} else {
@@ -0,0 +1,222 @@
+/*
+ * Copyright (c) 2011-2015, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package boofcv.alg.segmentation.ms;
+
+import boofcv.alg.misc.ImageMiscOps;
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.concurrency.IntRangeObjectTask;
+import boofcv.concurrency.WorkerFactory;
+import boofcv.struct.feature.ColorQueue_F32;
+import boofcv.struct.image.ImageBase;
+import boofcv.struct.image.ImageType;
+import georegression.struct.point.Point2D_I32;
+import org.ddogleg.struct.FastQueue;
+import org.ddogleg.struct.GrowQueue_I32;
+
+import java.util.Arrays;
+
+/**
+ * <p>
+ * Concurrent implementation of {@link SegmentMeanShiftSearch}.  The image is split into blocks of rows and each
+ * block is processed by its own instance of the single threaded algorithm, which has its own buffers.  The modes
+ * found in each block are then merged together in the same order as the single threaded algorithm would have
+ * found them.
+ * </p>
+ *
+ * <p>
+ * The range bins are computed once for the whole image and shared by all the blocks.  The buffers in a block
+ * are only filled when the image's shape changes, otherwise just the pixels it assigned are reset.
+ * </p>
+ *
+ * <p>
+ * When the 'fast' approximation is off the output is identical to the single threaded algorithm.  When it is on a
+ * mean-shift trajectory can only be cut short by pixels which were assigned by the same block.  This will cause
+ * minor differences along the border between blocks.
+ * </p>
+ *
+ * @author Peter Abeles
+ */
+public class SegmentMeanShiftSearch_MT<T extends ImageBase> extends SegmentMeanShiftSearch<T> {
+
+	// used to process each block of rows
+	private FastQueue<Block> blocks;
+
+	// used for functions which depend on the image type
+	private SegmentMeanShiftSearch<T> helper;
+
+	// converts the index of a mode in a block into the index of the mode in the output
+	private GrowQueue_I32 blockToMode = new GrowQueue_I32();
+
+	// minimum number of rows processed by a thread
+	private int minBlockRows = 10;
+
+	/**
+	 * @param factory Creates the single threaded algorithm.  Every instance must have the same configuration.
+	 */
+	public SegmentMeanShiftSearch_MT( WorkerFactory<SegmentMeanShiftSearch<T>> factory ) {
+		this(factory, factory.newInstance());
+	}
+
+	@SuppressWarnings("unchecked")
+	private SegmentMeanShiftSearch_MT( final WorkerFactory<SegmentMeanShiftSearch<T>> factory ,
+									   SegmentMeanShiftSearch<T> helper ) {
+		super(helper.maxIterations, helper.convergenceTol, helper.radiusX, helper.radiusY,
+				(float)Math.sqrt(helper.maxColorDistanceSq), helper.fast);
+		this.helper = helper;
+
+		modeColor = new ColorQueue_F32(helper.getImageType().getNumBands());
+		setPruneBinWidth(helper.getPruneBinWidth());
+
+		blocks = new FastQueue<Block>(1,(Class)Block.class,true) {
+			@Override
+			protected Block createInstance() {
+				return new Block(factory.newInstance());
+			}
+		};
+	}
+
+	@Override
+	protected void initializeImage(T image) {
+		this.image = image;
+
+		modeLocation.reset();
+		modeColor.reset();
+		modeMemberCount.reset();
+	}
+
+	@Override
+	protected void computeRangeBins() {
+		helper.rangeBins = rangeBins;
+		helper.initializeImage(image);
+		helper.computeRangeBins();
+	}
+
+	@Override
+	protected void processRows(int y0, int y1) {
+		BoofConcurrency.loopBlocks(y0, y1, minBlockRows, blocks, new IntRangeObjectTask<Block>() {
+			@Override
+			public void call(Block block, int y0, int y1) {
+				block.y0 = y0;
+				block.y1 = y1;
+				initializeBlock(block.alg);
+				block.alg.processRows(y0, y1);
+			}
+		});
+
+		// merge the results from each block in order
+		for( int i = 0; i < blocks.size; i++ ) {
+			mergeBlock(blocks.get(i));
+		}
+	}
+
+	/**
+	 * Prepares the algorithm in a block for processing the image.  Instead of filling the entire image, only the
+	 * pixels which were modified the last time it was used are reset.  The range bins are shared and not modified.
+	 */
+	private void initializeBlock( SegmentMeanShiftSearch<T> alg ) {
+		if( alg.image == null || alg.pixelToMode.width != image.width || alg.pixelToMode.height != image.height ) {
+			alg.pixelToMode.reshape(image.width, image.height);
+			alg.quickMode.reshape(image.width, image.height);
+			ImageMiscOps.fill(alg.pixelToMode, -1);
+			ImageMiscOps.fill(alg.quickMode, -1);
+		} else {
+			// modes found in the previous image are the only pixels marked in quickMode
+			for( int i = 0; i < alg.modeLocation.size; i++ ) {
+				Point2D_I32 p = alg.modeLocation.get(i);
+				alg.quickMode.unsafe_set(p.x, p.y, -1);
+			}
+			if( alg.assignedY0 < alg.assignedY1 ) {
+				Arrays.fill(alg.pixelToMode.data, alg.assignedY0*image.width, alg.assignedY1*image.width, -1);
+			}
+		}
+		alg.assignedY0 = image.height;
+		alg.assignedY1 = 0;
+
+		alg.rangeBins = rangeBins;
+		alg.initializeImage(image);
+	}
+
+	/**
+	 * Adds modes in the block to the output in the order they are encountered and assigns pixels in the block
+	 * to their mode.
+	 */
+	private void mergeBlock( Block block ) {
+		SegmentMeanShiftSearch<T> alg = block.alg;
+
+		blockToMode.resize(alg.modeLocation.size);
+		for( int i = 0; i < blockToMode.size; i++ )
+			blockToMode.data[i] = -1;
+
+		for( int y = block.y0; y < block.y1; y++ ) {
+			int indexImg = y*image.width;
+			for( int x = 0; x < image.width; x++ , indexImg++ ) {
+				int blockMode = alg.pixelToMode.data[indexImg];
+				int modeIndex = blockToMode.data[blockMode];
+
+				if( modeIndex < 0 ) {
+					Point2D_I32 location = alg.modeLocation.get(blockMode);
+					int modePixelIndex = location.y*image.width + location.x;
+
+					modeIndex = quickMode.data[modePixelIndex];
+					// If the mode is new add it to the list
+					if( modeIndex < 0 ) {
+						modeIndex = modeLocation.size();
+						modeLocation.grow().set(location.x, location.y);
+						float[] src = alg.modeColor.get(blockMode);
+						float[] dst = modeColor.grow();
+						System.arraycopy(src, 0, dst, 0, src.length);
+						quickMode.data[modePixelIndex] = modeIndex;
+						modeMemberCount.add(0);
+					}
+					blockToMode.data[blockMode] = modeIndex;
+				}
+
+				pixelToMode.data[indexImg] = modeIndex;
+				modeMemberCount.data[modeIndex]++;
+			}
+		}
+	}
+
+	@Override
+	public ImageType<T> getImageType() {
+		return helper.getImageType();
+	}
+
+	public int getMinBlockRows() {
+		return minBlockRows;
+	}
+
+	/**
+	 * Specifies the smallest number of rows which will be processed by a single thread
+	 */
+	public void setMinBlockRows(int minBlockRows) {
+		this.minBlockRows = minBlockRows;
+	}
+
+	/**
+	 * Single threaded algorithm and the rows it processed
+	 */
+	private class Block {
+		SegmentMeanShiftSearch<T> alg;
+		int y0, y1;
+
+		Block(SegmentMeanShiftSearch<T> alg) {
+			this.alg = alg;
+		}
+	}
+}
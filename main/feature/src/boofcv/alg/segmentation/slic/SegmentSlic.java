@@ -56,6 +56,11 @@ import java.util.Arrays;
  * </p>
  *
  * <p>
+ * For each pixel only the closest cluster and its distance are saved, in flat arrays.  This keeps memory
+ * usage at 8 bytes per pixel, independent of how many cluster windows overlap a pixel.
+ * </p>
+ *
+ * <p>
  * [1] Radhakrishna Achanta, Appu Shaji, Kevin Smith, Aurelien Lucchi, Pascal Fua, and Sabine Süsstrunk,
  * SLIC Superpixels, EPFL Technical Report no. 149300, June 2010.
  * </p>
@@ -68,21 +73,21 @@ public abstract class SegmentSlic<T extends ImageBase> {
 	public static final int BORDER = 2;
 
 	// number of bands in the input image
-	private int numBands;
+	protected int numBands;
 
 	// the number of regions/superpixels.  K in the paper
-	private int numberOfRegions;
+	protected int numberOfRegions;
 
 	// spacial weighting tuning parameter  Is also m in the paper.
-	private float m;
+	protected float m;
 
 	// Number of iterations
-	private int totalIterations;
+	protected int totalIterations;
 
 	// Space between superpixel centers.  S in the paper
 	protected int gridInterval;
 	// Adjustment to spacial distance.  Computed from m and gridInterval
-	private float adjustSpacial;
+	protected float adjustSpacial;
 
 	// The image being processed
 	protected T input;
@@ -99,9 +104,15 @@ public abstract class SegmentSlic<T extends ImageBase> {
 	// ensures that all pixels in segment are connected
 	protected ClusterLabeledImage segment;
 
-	// storage for clusters and pixel information
+	// storage for clusters
 	protected FastQueue<Cluster> clusters;
-	protected FastQueue<Pixel> pixels = new FastQueue<Pixel>(Pixel.class,true);
+
+	// index of the closest cluster to each pixel.  -1 if no cluster is close enough
+	protected int pixelCluster[] = new int[0];
+	// distance of the closest cluster to each pixel
+	protected float pixelDistance[] = new float[0];
+	// number of pixels assigned to each cluster
+	protected GrowQueue_I32 clusterMemberCount = new GrowQueue_I32();
 
 	// type of input image
 	protected ImageType<T> imageType;
@@ -168,7 +179,11 @@ public abstract class SegmentSlic<T extends ImageBase> {
 	 */
 	protected void initalize(T input) {
 		this.input = input;
-		pixels.resize(input.width * input.height);
+		int N = input.width*input.height;
+		if( pixelCluster.length < N ) {
+			pixelCluster = new int[N];
+			pixelDistance = new float[N];
+		}
 		initialSegments.reshape(input.width, input.height);
 
 		// number of usable pixels that cluster centers can be placed in
@@ -260,12 +275,23 @@ public abstract class SegmentSlic<T extends ImageBase> {
 	public abstract float getIntensity(int x, int y);
 
 	/**
-	 * Computes how far away each cluster is from each pixel.  Expectation step.
+	 * Assigns each pixel to its closest cluster.  Expectation step.
 	 */
 	protected void computeClusterDistance() {
-		for( int i = 0; i < pixels.size; i++ ) {
-			pixels.data[i].reset();
-		}
+		assignRows(0,input.height);
+	}
+
+	/**
+	 * Assigns each pixel inside the rows y0 to y1-1 to its closest cluster.  Clusters are considered in order
+	 * and a cluster only replaces the current best if it is strictly closer, so the result doesn't depend on
+	 * how the rows are split up.
+	 *
+	 * @param y0 First row, inclusive
+	 * @param y1 Last row, exclusive
+	 */
+	protected void assignRows( int y0 , int y1 ) {
+		Arrays.fill(pixelCluster, y0*input.width, y1*input.width, -1);
+		Arrays.fill(pixelDistance, y0*input.width, y1*input.width, Float.MAX_VALUE);
 
 		for( int i = 0; i < clusters.size; i++ ) {
 			Cluster c = clusters.data[i];
@@ -274,61 +300,76 @@ public abstract class SegmentSlic<T extends ImageBase> {
 			int centerX = (int)(c.x + 0.5f);
 			int centerY = (int)(c.y + 0.5f);
 
-			int x0 = centerX - gridInterval; int x1 = centerX + gridInterval + 1;
-			int y0 = centerY - gridInterval; int y1 = centerY + gridInterval + 1;
+			int cx0 = centerX - gridInterval; int cx1 = centerX + gridInterval + 1;
+			int cy0 = centerY - gridInterval; int cy1 = centerY + gridInterval + 1;
 
-			if( x0 < 0 ) x0 = 0;
-			if( y0 < 0 ) y0 = 0;
-			if( x1 > input.width ) x1 = input.width;
-			if( y1 > input.height ) y1 = input.height;
+			if( cx0 < 0 ) cx0 = 0;
+			if( cy0 < y0 ) cy0 = y0;
+			if( cx1 > input.width ) cx1 = input.width;
+			if( cy1 > y1 ) cy1 = y1;
 
-			for( int y = y0; y < y1; y++ ) {
-				int indexPixel = y*input.width + x0;
-				int indexInput = input.startIndex + y*input.stride + x0;
+			for( int y = cy0; y < cy1; y++ ) {
+				int indexPixel = y*input.width + cx0;
+				int indexInput = input.startIndex + y*input.stride + cx0;
 
 				int dy = y-centerY;
 
-				for( int x = x0; x < x1; x++ ) {
+				for( int x = cx0; x < cx1; x++ , indexPixel++ ) {
 					int dx = x-centerX;
 
 					float distanceColor = colorDistance(c.color,indexInput++);
 					float distanceSpacial = dx*dx + dy*dy;
-					pixels.data[indexPixel++].add(c,distanceColor + adjustSpacial*distanceSpacial);
+					float distance = distanceColor + adjustSpacial*distanceSpacial;
+
+					if( distance < pixelDistance[indexPixel] ) {
+						pixelDistance[indexPixel] = distance;
+						pixelCluster[indexPixel] = i;
+					}
 				}
 			}
 		}
 	}
 
 	/**
-	 * Update the value of each cluster using  Maximization step.
+	 * Update the value of each cluster using  Maximization step.  Each cluster is moved to the mean of the
+	 * pixels assigned to it.  Clusters which have no pixels assigned to them are not changed.
 	 */
 	protected void updateClusters() {
+		int N = input.width*input.height;
+
+		clusterMemberCount.resize(clusters.size);
+		clusterMemberCount.fill(0);
+		for( int i = 0; i < N; i++ ) {
+			int label = pixelCluster[i];
+			if( label >= 0 )
+				clusterMemberCount.data[label]++;
+		}
+
 		for( int i = 0; i < clusters.size; i++ ) {
-			clusters.data[i].reset();
+			if( clusterMemberCount.data[i] > 0 )
+				clusters.data[i].reset();
 		}
 
 		int indexPixel = 0;
 		for( int y = 0; y < input.height; y++ ) {
 			int indexInput = input.startIndex + y*input.stride;
 			for( int x =0; x < input.width; x++ , indexPixel++ , indexInput++) {
-				Pixel p = pixels.get(indexPixel);
-
-				// convert the distance each cluster is from the pixel into weights
-				p.computeWeights();
-
-				for( int i = 0; i < p.clusters.size; i++ ) {
-					ClusterDistance d = p.clusters.data[i];
-					d.cluster.x += x*d.distance;
-					d.cluster.y += y*d.distance;
-					d.cluster.totalWeight += d.distance;
-					addColor(d.cluster.color,indexInput,d.distance);
-				}
+				int label = pixelCluster[indexPixel];
+				if( label < 0 )
+					continue;
+
+				Cluster c = clusters.data[label];
+				c.x += x;
+				c.y += y;
+				c.totalWeight += 1;
+				addColor(c.color,indexInput,1);
 			}
 		}
 
 		// recompute the center of each cluster
 		for( int i = 0; i < clusters.size; i++ ) {
-			clusters.data[i].update();
+			if( clusterMemberCount.data[i] > 0 )
+				clusters.data[i].update();
 		}
 	}
 
@@ -355,24 +396,16 @@ public abstract class SegmentSlic<T extends ImageBase> {
 		for( int y = 0; y < pixelToRegions.height; y++ ) {
 			int indexOutput = pixelToRegions.startIndex + y*pixelToRegions.stride;
 			for( int x =0; x < pixelToRegions.width; x++ , indexPixel++ , indexOutput++) {
-				Pixel p = pixels.data[indexPixel];
+				int best = pixelCluster[indexPixel];
 
 				// It is possible for a pixel to be unassigned if all the means move too far away from it
 				// Default to a non-existant cluster if that's the case
-				int best = -1;
-				float bestDistance = Float.MAX_VALUE;
-				// find the region/cluster which it is closest to
-				for( int j = 0; j < p.clusters.size; j++ ) {
-					ClusterDistance d = p.clusters.data[j];
-					if( d.distance < bestDistance ) {
-						bestDistance = d.distance;
-						best = d.cluster.id;
-					}
-				}
 				if( best == -1 ) {
 					regionColor.grow();
 					best = regionMemberCount.size();
 					regionMemberCount.add(0);
+				} else {
+					best = clusters.data[best].id;
 				}
 
 				pixelToRegions.data[indexOutput] = best;
@@ -389,52 +422,6 @@ public abstract class SegmentSlic<T extends ImageBase> {
 		return clusters;
 	}
 
-	/**
-	 * K-means clustering information for each pixel.  Stores distance from each cluster mean.
-	 */
-	public static class Pixel
-	{
-		// list of clusters it is interacting with
-		public FastQueue<ClusterDistance> clusters = new FastQueue<ClusterDistance>(12,ClusterDistance.class,true);
-
-		public void add( Cluster c , float distance ) {
-			// make sure it isn't already full.  THis should almost never happen
-			ClusterDistance d = clusters.grow();
-
-			d.cluster = c;
-			d.distance = distance;
-		}
-
-		public void computeWeights() {
-			if( clusters.size == 1 ) {
-				clusters.data[0].distance = 1;
-			} else {
-				float sum = 0;
-				for( int i = 0; i < clusters.size; i++ ) {
-					sum += clusters.data[i].distance;
-				}
-				for( int i = 0; i < clusters.size; i++ ) {
-					clusters.data[i].distance =  1.0f - clusters.data[i].distance/sum;
-				}
-			}
-		}
-
-		public void reset() {
-			clusters.reset();
-		}
-	}
-
-	/**
-	 * Stores how far a cluster is from the specified pixel
-	 */
-	public static class ClusterDistance
-	{
-		// the cluster
-		public Cluster cluster;
-		// how far the pixel is from the cluster
-		public float distance;
-	}
-
 	/**
 	 * The mean in k-means.  Point in image (x,y) and color space.
 	 */
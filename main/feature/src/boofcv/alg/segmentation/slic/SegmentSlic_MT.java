@@ -0,0 +1,102 @@
+/*
+ * Copyright (c) 2011-2015, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.segmentation.slic;
+
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.concurrency.IntRangeTask;
+import boofcv.struct.image.ImageBase;
+
+/**
+ * <p>
+ * Concurrent implementation of {@link SegmentSlic}.  Assigning pixels to clusters is split into blocks of rows.
+ * Inside a block each cluster only examines the part of its search window which overlaps the block, so threads
+ * never write to the same pixel.  Clusters are considered in the same order as the single threaded version and
+ * the output is identical.
+ * </p>
+ *
+ * <p>
+ * Color operations are passed on to the provided single threaded implementation.  They only read from the
+ * input image and can be called from multiple threads at once.
+ * </p>
+ *
+ * @author Peter Abeles
+ */
+public class SegmentSlic_MT<T extends ImageBase> extends SegmentSlic<T> {
+
+	// implementation of the image type specific color operations
+	private SegmentSlic<T> helper;
+
+	// minimum number of rows processed by a thread
+	private int minBlockRows = 10;
+
+	/**
+	 * @param helper Single threaded implementation for the input image type.  Its configuration is copied.
+	 */
+	public SegmentSlic_MT( SegmentSlic<T> helper ) {
+		super(helper.numberOfRegions, helper.m, helper.totalIterations, helper.connectRule, helper.imageType);
+		this.helper = helper;
+	}
+
+	@Override
+	protected void initalize(T input) {
+		super.initalize(input);
+		helper.input = input;
+	}
+
+	@Override
+	protected void computeClusterDistance() {
+		BoofConcurrency.loopBlocks(0, input.height, minBlockRows, new IntRangeTask() {
+			@Override
+			public void call(int y0, int y1) {
+				assignRows(y0, y1);
+			}
+		});
+	}
+
+	@Override
+	public void setColor(float[] color, int x, int y) {
+		helper.setColor(color, x, y);
+	}
+
+	@Override
+	public void addColor(float[] color, int index, float weight) {
+		helper.addColor(color, index, weight);
+	}
+
+	@Override
+	public float colorDistance(float[] color, int index) {
+		return helper.colorDistance(color, index);
+	}
+
+	@Override
+	public float getIntensity(int x, int y) {
+		return helper.getIntensity(x, y);
+	}
+
+	public int getMinBlockRows() {
+		return minBlockRows;
+	}
+
+	/**
+	 * Specifies the smallest number of rows which will be processed by a single thread
+	 */
+	public void setMinBlockRows(int minBlockRows) {
+		this.minBlockRows = minBlockRows;
+	}
+}
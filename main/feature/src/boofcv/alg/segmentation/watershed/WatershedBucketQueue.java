@@ -0,0 +1,481 @@
+/*
+ * Copyright (c) 2011-2015, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.segmentation.watershed;
+
+import boofcv.alg.InputSanityCheck;
+import boofcv.struct.ConnectRule;
+import boofcv.struct.image.ImageSInt32;
+import boofcv.struct.image.ImageUInt8;
+import org.ddogleg.struct.GrowQueue_I32;
+
+import java.util.Arrays;
+
+/**
+ * <p>
+ * Watershed segmentation which floods the image from its minima using a hierarchical bucket queue [1].  Since
+ * the input image is 8-bit there is one FIFO bucket for each gray level.  Pixels are processed in order of their
+ * gray level and pixels on the same plateau in the order they were reached.  The buckets are linked lists stored
+ * inside of an integer array, one element for each pixel, so no objects are declared for individual pixels.
+ * Unlike {@link WatershedVincentSoille1991} each pixel is visited only once and the distance image is not needed.
+ * </p>
+ *
+ * <p>
+ * Pixels on the same plateau are processed in rounds, where each round is one pixel further away from the
+ * labeled pixels.  A pixel is assigned the label of its neighbors which were labeled in an earlier round.  If
+ * those neighbors belong to different regions it becomes a watershed pixel, with a value of {@link #WSHED}.
+ * If {@link #setRemoveWatersheds(boolean) watersheds are removed} then each pixel is instead assigned the
+ * label of the pixel which added it to the queue and rounds are not needed.  This has the same effect as
+ * running {@link RemoveWatersheds} afterwards, but without an additional pass through the image.  Regions
+ * are then labeled starting from 0 instead of 1.
+ * </p>
+ *
+ * <p>
+ * Like {@link WatershedVincentSoille1991} the output image has a 1-pixel wide border to avoid bounds checks.
+ * Border pixels have a value of {@link #QUEUED}.
+ * </p>
+ *
+ * <p>
+ * [1] F. Meyer, "Un algorithme optimal de ligne de partage des eaux," in Proc. 8eme Congres AFCET, 1991
+ * </p>
+ *
+ * @author Peter Abeles
+ */
+public class WatershedBucketQueue {
+
+	// values of pixels belonging to the watershed
+	public static final int WSHED = 0;
+	// initial value of a pixel which has not been reached by the flood
+	public static final int INIT = -1;
+	// pixel which is inside the queue or belongs to the image border.  If watersheds are removed then
+	// pixels in the queue are already labeled
+	public static final int QUEUED = -2;
+	// labels which have been selected in the current round are encoded as PENDING - label
+	protected static final int PENDING = -3;
+
+	// connectivity rule
+	protected ConnectRule rule;
+	// relative indexes of connected pixels in the output image
+	protected int connect[];
+
+	// Output image.  Has a 1-pixel border just like in WatershedVincentSoille1991
+	protected ImageSInt32 output = new ImageSInt32(1,1);
+	// storage for sub-image output
+	protected ImageSInt32 outputSub = new ImageSInt32();
+
+	// pixel values of the input image using the same indexes as 'output'
+	protected byte values[] = new byte[0];
+	// index of the next pixel inside the same bucket.  -1 if it's the last pixel
+	protected int next[] = new int[0];
+
+	// queue and sorted pixels for the entire image
+	protected Flood flood = new Flood();
+
+	// should watersheds be removed while flooding the image
+	protected boolean removeWatersheds = false;
+	// value of the first region's label.  0 if watersheds are removed and 1 if not
+	protected int firstLabel;
+
+	// number of regions, including the watershed
+	protected int totalRegions;
+
+	/**
+	 * Configures the algorithm
+	 *
+	 * @param rule Connectivity rule used when flooding the image
+	 */
+	public WatershedBucketQueue( ConnectRule rule ) {
+		this.rule = rule;
+
+		if( rule == ConnectRule.FOUR )
+			connect = new int[4];
+		else if( rule == ConnectRule.EIGHT )
+			connect = new int[8];
+		else
+			throw new IllegalArgumentException("Unknown connectivity rule");
+	}
+
+	/**
+	 * Perform watershed segmentation on the provided input image.  New basins are created at each local minima.
+	 *
+	 * @param input Input gray-scale image.
+	 */
+	public void process( ImageUInt8 input ) {
+		initialize(input.width,input.height);
+
+		floodUnseeded(flood,input,0,input.height);
+
+		totalRegions = flood.nextLabel;
+	}
+
+	/**
+	 * <p>
+	 * Segments the image using initial seeds for each region.  A seed is any pixel with a value > 0.  No new
+	 * regions will be created beyond those seeds.  If watersheds are removed then the value of each seed is
+	 * reduced by one in the output image.
+	 * </p>
+	 *
+	 * <p>
+	 * Unlike {@link WatershedVincentSoille1991} the value returned by {@link #getTotalRegions()} is valid
+	 * when seeds are used, assuming that the seeds have values from 1 to the number of seeds.
+	 * </p>
+	 *
+	 * @param input (Input) Input image
+	 * @param seeds (Input) Segmented image containing seeds.
+	 */
+	public void process( ImageUInt8 input , ImageSInt32 seeds ) {
+		InputSanityCheck.checkSameShape(input,seeds);
+
+		initialize(input.width,input.height);
+		flood.setRows(output,0,input.height);
+		flood.resetQueue();
+
+		// copy the image and the seeds
+		int shift = removeWatersheds ? 1 : 0;
+		int maxSeed = 0;
+		for( int y = 0; y < input.height; y++ ) {
+			int indexIn = input.startIndex + y*input.stride;
+			int indexSeeds = seeds.startIndex + y*seeds.stride;
+			int indexOut = (y+1)*output.stride + 1;
+			for( int x = 0; x < input.width; x++ , indexIn++ , indexSeeds++ , indexOut++ ) {
+				values[indexOut] = input.data[indexIn];
+				int v = seeds.data[indexSeeds];
+				if( v > 0 ) {
+					output.data[indexOut] = v - shift;
+					if( v > maxSeed )
+						maxSeed = v;
+				} else {
+					output.data[indexOut] = INIT;
+				}
+			}
+		}
+
+		// start flooding from pixels which are next to a seed
+		for( int y = 0; y < input.height; y++ ) {
+			int indexOut = (y+1)*output.stride + 1;
+			for( int x = 0; x < input.width; x++ , indexOut++ ) {
+				int label = output.data[indexOut];
+				if( label >= firstLabel )
+					pushNeighbors(flood,indexOut,0,removeWatersheds ? label : QUEUED);
+			}
+		}
+
+		for( int level = 0; level < 256; level++ ) {
+			drain(flood,level);
+		}
+
+		totalRegions = removeWatersheds ? maxSeed : maxSeed + 1;
+	}
+
+	/**
+	 * Declares data structures and sets the value of the image border
+	 */
+	protected void initialize( int width , int height ) {
+		output.reshape(width+2,height+2);
+		firstLabel = removeWatersheds ? 0 : 1;
+
+		int N = output.width*output.height;
+		if( values.length < N ) {
+			values = new byte[N];
+			next = new int[N];
+		}
+
+		// the border is marked as being in the queue so that it will never be added to it
+		int stride = output.stride;
+		int indexBottom = (output.height-1)*stride;
+		for( int x = 0; x < output.width; x++ ) {
+			output.data[x] = QUEUED;
+			output.data[indexBottom + x] = QUEUED;
+		}
+		for( int y = 1; y < output.height-1; y++ ) {
+			output.data[y*stride] = QUEUED;
+			output.data[y*stride + output.width-1] = QUEUED;
+		}
+
+		connect[0] = 1;
+		connect[1] = -1;
+		connect[2] = stride;
+		connect[3] = -stride;
+		if( connect.length == 8 ) {
+			connect[4] = 1 + stride;
+			connect[5] = -1 + stride;
+			connect[6] = 1 - stride;
+			connect[7] = -1 - stride;
+		}
+	}
+
+	/**
+	 * Floods the rows from y0 to y1, exclusive, creating a new region at each local minimum.  Pixels outside
+	 * of those rows are ignored, which allows different blocks of rows to be processed independently.
+	 *
+	 * @param f Storage for the queue
+	 * @param input Input image
+	 * @param y0 First row, inclusive
+	 * @param y1 Last row, exclusive
+	 */
+	protected void floodUnseeded( Flood f , ImageUInt8 input , int y0 , int y1 ) {
+		f.setRows(output,y0,y1);
+		f.resetQueue();
+		f.minimums.reset();
+		f.nextLabel = firstLabel;
+
+		sortPixels(f,input);
+
+		int levelStart[] = f.levelStart;
+		int sorted[] = f.sorted.data;
+
+		for( int level = 0; level < 256; level++ ) {
+			// pixels which are connected to an existing basin
+			drain(f,level);
+
+			// any pixel at this level which has yet to be reached must be part of a new minimum
+			for( int i = levelStart[level]; i < levelStart[level+1]; i++ ) {
+				int index = sorted[i];
+				if( output.data[index] == INIT ) {
+					int label = f.nextLabel++;
+					output.data[index] = label;
+					f.minimums.add(level);
+					pushNeighbors(f,index,level,removeWatersheds ? label : QUEUED);
+					drain(f,level);
+				}
+			}
+		}
+	}
+
+	/**
+	 * Sorts the pixels inside the rows being processed by their gray level using a counting sort.  The
+	 * pixel values are also copied and the labels initialized.
+	 */
+	protected void sortPixels( Flood f , ImageUInt8 input ) {
+		int levelStart[] = f.levelStart;
+		int levelFill[] = f.levelFill;
+		Arrays.fill(levelStart,0);
+
+		for( int y = f.y0; y < f.y1; y++ ) {
+			int indexIn = input.startIndex + y*input.stride;
+			int indexOut = (y+1)*output.stride + 1;
+			for( int x = 0; x < input.width; x++ , indexIn++ , indexOut++ ) {
+				int v = input.data[indexIn] & 0xFF;
+				values[indexOut] = (byte)v;
+				output.data[indexOut] = INIT;
+				levelStart[v+1]++;
+			}
+		}
+
+		for( int i = 1; i < levelStart.length; i++ ) {
+			levelStart[i] += levelStart[i-1];
+		}
+		System.arraycopy(levelStart,0,levelFill,0,levelFill.length);
+
+		f.sorted.resize(levelStart[256]);
+		int sorted[] = f.sorted.data;
+		for( int y = f.y0; y < f.y1; y++ ) {
+			int indexOut = (y+1)*output.stride + 1;
+			for( int x = 0; x < input.width; x++ , indexOut++ ) {
+				sorted[levelFill[values[indexOut] & 0xFF]++] = indexOut;
+			}
+		}
+	}
+
+	/**
+	 * Removes pixels from the bucket at the specified level until it is empty.  Each pixel is labeled and
+	 * its neighbors added to the queue.
+	 */
+	protected void drain( Flood f , int level ) {
+		int head[] = f.head;
+
+		if( removeWatersheds ) {
+			// pixels were labeled when they were added to the queue
+			while( head[level] != -1 ) {
+				int index = f.pop(level,next);
+				pushNeighbors(f,index,level,output.data[index]);
+			}
+			return;
+		}
+
+		while( head[level] != -1 ) {
+			// All the pixels currently in the bucket are one round.  Their labels are hidden from each other
+			// until the round is finished
+			int first = head[level];
+			int last = f.tail[level];
+
+			int index;
+			do {
+				index = f.pop(level,next);
+				output.data[index] = PENDING - selectLabel(f,index);
+				pushNeighbors(f,index,level,QUEUED);
+			} while( index != last );
+
+			// popping a pixel doesn't modify the linked list, so the round can be traversed again
+			index = first;
+			while( true ) {
+				output.data[index] = PENDING - output.data[index];
+				if( index == last )
+					break;
+				index = next[index];
+			}
+		}
+	}
+
+	/**
+	 * Selects the label of a pixel which has just been removed from the queue using neighbors which were
+	 * labeled in a previous round.
+	 */
+	protected int selectLabel( Flood f , int index ) {
+		int found = WSHED;
+
+		for( int i = 0; i < connect.length; i++ ) {
+			int indexN = index + connect[i];
+			if( indexN < f.indexStart || indexN >= f.indexEnd )
+				continue;
+
+			int label = output.data[indexN];
+			if( label < firstLabel )
+				continue;
+
+			if( found == WSHED )
+				found = label;
+			else if( found != label )
+				return WSHED;
+		}
+
+		return found;
+	}
+
+	/**
+	 * Adds neighbors which have not been reached yet to the queue.  A pixel is placed into the bucket for its
+	 * gray level or the current level, whichever is higher.
+	 *
+	 * @param value Value assigned to pixels which are added to the queue
+	 */
+	protected void pushNeighbors( Flood f , int index , int level , int value ) {
+		for( int i = 0; i < connect.length; i++ ) {
+			int indexN = index + connect[i];
+			if( indexN < f.indexStart || indexN >= f.indexEnd )
+				continue;
+
+			if( output.data[indexN] == INIT ) {
+				output.data[indexN] = value;
+				int v = values[indexN] & 0xFF;
+				f.push(indexN, v > level ? v : level, next);
+			}
+		}
+	}
+
+	/**
+	 * Segmented output image with watersheds.  This is a sub-image of {@link #getOutputBorder()} to remove
+	 * the outside border.
+	 */
+	public ImageSInt32 getOutput() {
+		output.subimage(1,1,output.width-1,output.height-1,outputSub);
+		return outputSub;
+	}
+
+	/**
+	 * The entire segmented image used internally.  This contains a 1-pixel border around the entire
+	 * image filled with pixels of value {@link #QUEUED}.
+	 */
+	public ImageSInt32 getOutputBorder() {
+		return output;
+	}
+
+	/**
+	 * Returns the total number of regions labeled.  If watersheds are not removed then this will include
+	 * the watershed.
+	 *
+	 * @return number of regions.
+	 */
+	public int getTotalRegions() {
+		return totalRegions;
+	}
+
+	public boolean isRemoveWatersheds() {
+		return removeWatersheds;
+	}
+
+	/**
+	 * If true then watershed pixels are merged into a neighboring region while the image is being flooded.
+	 */
+	public void setRemoveWatersheds(boolean removeWatersheds) {
+		this.removeWatersheds = removeWatersheds;
+	}
+
+	public ConnectRule getRule() {
+		return rule;
+	}
+
+	/**
+	 * Bucket queue and sorted pixels for a block of rows.
+	 */
+	protected static class Flood {
+		// first and last pixel in each bucket
+		public int head[] = new int[256];
+		public int tail[] = new int[256];
+
+		// pixels sorted by gray level and the index of the first pixel at each level
+		public GrowQueue_I32 sorted = new GrowQueue_I32();
+		public int levelStart[] = new int[257];
+		public int levelFill[] = new int[256];
+
+		// gray level at each region's minimum
+		public GrowQueue_I32 minimums = new GrowQueue_I32();
+
+		// rows being processed
+		public int y0,y1;
+		// range of pixel indexes inside the output image which can be examined
+		public int indexStart,indexEnd;
+
+		// label which will be assigned to the next region
+		public int nextLabel;
+
+		public void setRows( ImageSInt32 output , int y0 , int y1 ) {
+			this.y0 = y0;
+			this.y1 = y1;
+			indexStart = (y0+1)*output.stride;
+			indexEnd = (y1+1)*output.stride;
+		}
+
+		public void resetQueue() {
+			Arrays.fill(head,-1);
+			Arrays.fill(tail,-1);
+		}
+
+		/**
+		 * Removes the first pixel in the bucket.  The linked list is not modified.
+		 */
+		public int pop( int bucket , int next[] ) {
+			int index = head[bucket];
+			head[bucket] = next[index];
+			if( head[bucket] == -1 )
+				tail[bucket] = -1;
+			return index;
+		}
+
+		/**
+		 * Adds the pixel to the end of the bucket
+		 */
+		public void push( int index , int bucket , int next[] ) {
+			next[index] = -1;
+			if( tail[bucket] == -1 )
+				head[bucket] = index;
+			else
+				next[tail[bucket]] = index;
+			tail[bucket] = index;
+		}
+	}
+}
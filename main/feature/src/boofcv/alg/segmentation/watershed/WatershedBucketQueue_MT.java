@@ -0,0 +1,283 @@
+/*
+ * Copyright (c) 2011-2015, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.segmentation.watershed;
+
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.concurrency.IntOperatorTask;
+import boofcv.struct.ConnectRule;
+import boofcv.struct.image.ImageUInt8;
+import org.ddogleg.struct.FastQueue;
+import org.ddogleg.struct.GrowQueue_I32;
+
+/**
+ * <p>
+ * Concurrent implementation of {@link WatershedBucketQueue}.  The image is split into tiles composed of blocks of
+ * rows which are flooded independently in parallel.  Inside a tile a pixel next to the tile's border can appear
+ * to be a minimum even though it isn't one in the whole image.  Afterwards the tiles are merged by examining
+ * pairs of neighboring pixels along each tile border.  Minima which are part of the same plateau are merged
+ * and a minimum which can flow into another tile without going uphill is merged into its lowest neighbor
+ * across the border.  The regions are then relabeled in parallel.
+ * </p>
+ *
+ * <p>
+ * The number of regions created is the same as the single threaded version, but the shape of regions close to
+ * tile borders can be different.  The tiles only depend on {@link #setTileRows(int) the number of rows in a tile}
+ * so the output does not depend on the number of threads.  Only unseeded segmentation with watersheds removed
+ * is run in parallel.  All other modes are handled by the single threaded code.
+ * </p>
+ *
+ * @author Peter Abeles
+ */
+public class WatershedBucketQueue_MT extends WatershedBucketQueue {
+
+	// number of rows in each tile
+	private int tileRows = 128;
+
+	// storage for each tile
+	private FastQueue<Flood> floods = new FastQueue<Flood>(1,Flood.class,true) {
+		@Override
+		protected Flood createInstance() {
+			return new Flood();
+		}
+	};
+
+	// index of the first region in each tile
+	private GrowQueue_I32 tileOffset = new GrowQueue_I32();
+	// union-find forest of regions from all the tiles
+	private GrowQueue_I32 parent = new GrowQueue_I32();
+	// gray level at each region's minimum
+	private GrowQueue_I32 regionMinimum = new GrowQueue_I32();
+	// region each set of minima will be merged into and the value of the pixel it flows into
+	private GrowQueue_I32 candidate = new GrowQueue_I32();
+	private GrowQueue_I32 candidateValue = new GrowQueue_I32();
+	// lookup table from a region in a tile to its final label
+	private GrowQueue_I32 lookup = new GrowQueue_I32();
+
+	// relative indexes of neighbors in the row below
+	private int connectBelow[];
+
+	public WatershedBucketQueue_MT( ConnectRule rule ) {
+		super(rule);
+		connectBelow = new int[ rule == ConnectRule.FOUR ? 1 : 3 ];
+	}
+
+	@Override
+	public void process( final ImageUInt8 input ) {
+		if( !removeWatersheds || input.height <= tileRows ) {
+			super.process(input);
+			return;
+		}
+
+		initialize(input.width,input.height);
+
+		final int numTiles = (input.height + tileRows - 1)/tileRows;
+		floods.reset();
+		for( int i = 0; i < numTiles; i++ ) {
+			floods.grow();
+		}
+
+		BoofConcurrency.loopFor(0,numTiles,new IntOperatorTask() {
+			@Override
+			public void call(int tile) {
+				int y0 = tile*tileRows;
+				int y1 = Math.min(input.height,y0+tileRows);
+				floodUnseeded(floods.get(tile),input,y0,y1);
+			}
+		});
+
+		mergeTiles(input.width);
+
+		BoofConcurrency.loopFor(0,numTiles,new IntOperatorTask() {
+			@Override
+			public void call(int tile) {
+				relabel(floods.get(tile),tileOffset.data[tile],input.width);
+			}
+		});
+	}
+
+	/**
+	 * Finds regions along the tile borders which are part of the same basin and computes the final label for
+	 * every region.
+	 */
+	private void mergeTiles( int width ) {
+		int numTiles = floods.size;
+
+		tileOffset.resize(numTiles+1);
+		tileOffset.data[0] = 0;
+		for( int i = 0; i < numTiles; i++ ) {
+			tileOffset.data[i+1] = tileOffset.data[i] + floods.get(i).nextLabel;
+		}
+		int total = tileOffset.data[numTiles];
+
+		parent.resize(total);
+		regionMinimum.resize(total);
+		for( int i = 0; i < numTiles; i++ ) {
+			Flood f = floods.get(i);
+			System.arraycopy(f.minimums.data,0,regionMinimum.data,tileOffset.data[i],f.nextLabel);
+		}
+		for( int i = 0; i < total; i++ ) {
+			parent.data[i] = i;
+		}
+
+		int stride = output.stride;
+		connectBelow[0] = stride;
+		if( connectBelow.length == 3 ) {
+			connectBelow[1] = stride + 1;
+			connectBelow[2] = stride - 1;
+		}
+
+		// First merge minima which are part of the same plateau but were split by a tile border
+		examineTileBorders(width,true);
+
+		// A minimum which is next to a lower or equal pixel in another tile isn't really a minimum.  It is
+		// merged into the lowest such neighbor.  Only one neighbor is selected so that two real basins
+		// are never merged together
+		candidate.resize(total);
+		candidateValue.resize(total);
+		for( int i = 0; i < total; i++ ) {
+			candidate.data[i] = -1;
+		}
+		examineTileBorders(width,false);
+		for( int i = 0; i < total; i++ ) {
+			if( candidate.data[i] != -1 )
+				union(i,candidate.data[i]);
+		}
+
+		// assign labels to each set in the order of their first region
+		lookup.resize(total);
+		int count = 0;
+		for( int i = 0; i < total; i++ ) {
+			int root = find(i);
+			if( root == i )
+				lookup.data[i] = count++;
+			else
+				lookup.data[i] = lookup.data[root];
+		}
+		totalRegions = count;
+	}
+
+	/**
+	 * Examines pairs of neighboring pixels along each tile border.
+	 *
+	 * @param plateaus If true then minima on the same plateau are merged.  If false then the lowest neighbor
+	 *                 of each minimum is found.
+	 */
+	private void examineTileBorders( int width , boolean plateaus ) {
+		int numTiles = floods.size;
+		int stride = output.stride;
+
+		for( int tile = 1; tile < numTiles; tile++ ) {
+			int offsetA = tileOffset.data[tile-1];
+			int offsetB = tileOffset.data[tile];
+
+			// last row in the tile above
+			int indexA = floods.get(tile-1).indexEnd - stride + 1;
+			for( int x = 0; x < width; x++ , indexA++ ) {
+				int regionA = offsetA + output.data[indexA];
+				int valueA = values[indexA] & 0xFF;
+				boolean minimumA = valueA == regionMinimum.data[regionA];
+
+				for( int i = 0; i < connectBelow.length; i++ ) {
+					int indexB = indexA + connectBelow[i];
+					int labelB = output.data[indexB];
+					// skip the image border
+					if( labelB < 0 )
+						continue;
+
+					int regionB = offsetB + labelB;
+					int valueB = values[indexB] & 0xFF;
+					boolean minimumB = valueB == regionMinimum.data[regionB];
+
+					if( plateaus ) {
+						if( minimumA && minimumB && valueA == valueB )
+							union(regionA,regionB);
+					} else {
+						if( minimumA && valueB <= valueA )
+							selectCandidate(regionA,regionB,valueB);
+						if( minimumB && valueA <= valueB )
+							selectCandidate(regionB,regionA,valueA);
+					}
+				}
+			}
+		}
+	}
+
+	/**
+	 * Considers merging the set which contains the minimum into the region across the tile border
+	 */
+	private void selectCandidate( int minimum , int neighbor , int value ) {
+		int root = find(minimum);
+		if( root == find(neighbor) )
+			return;
+
+		if( candidate.data[root] == -1 || value < candidateValue.data[root] ) {
+			candidate.data[root] = neighbor;
+			candidateValue.data[root] = value;
+		}
+	}
+
+	/**
+	 * Changes the labels inside a tile into their final value
+	 */
+	private void relabel( Flood f , int offset , int width ) {
+		int lookup[] = this.lookup.data;
+
+		for( int y = f.y0; y < f.y1; y++ ) {
+			int index = (y+1)*output.stride + 1;
+			int end = index + width;
+			for( ; index < end; index++ ) {
+				output.data[index] = lookup[offset + output.data[index]];
+			}
+		}
+	}
+
+	private int find( int region ) {
+		int parent[] = this.parent.data;
+		while( parent[region] != region ) {
+			parent[region] = parent[parent[region]];
+			region = parent[region];
+		}
+		return region;
+	}
+
+	/**
+	 * Merges the two sets.  The root is always the region with the lowest index.
+	 */
+	private void union( int regionA , int regionB ) {
+		int rootA = find(regionA);
+		int rootB = find(regionB);
+
+		if( rootA < rootB )
+			parent.data[rootB] = rootA;
+		else if( rootB < rootA )
+			parent.data[rootA] = rootB;
+	}
+
+	public int getTileRows() {
+		return tileRows;
+	}
+
+	/**
+	 * Specifies the number of rows in each tile.  Images with this many rows or fewer are processed by a
+	 * single thread.
+	 */
+	public void setTileRows(int tileRows) {
+		this.tileRows = tileRows;
+	}
+}
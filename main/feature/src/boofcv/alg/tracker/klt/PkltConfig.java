@@ -33,6 +33,13 @@ public class PkltConfig{
 	/** Scale factor for each layer in the pyramid */
 	public int pyramidScaling[] = new int[]{1,2,4};
 
+	/**
+	 * If greater than zero, new tracks are only spawned in square cells of this width which don't contain any
+	 * active tracks and the feature intensity is only computed inside of those cells.  Default is 0, which
+	 * searches the whole image.
+	 */
+	public int spawnCellWidth = 0;
+
 	public PkltConfig() {
 	}
 
@@ -21,6 +21,8 @@ package boofcv.alg.tracker.klt;
 import boofcv.struct.image.ImageSingleBand;
 import boofcv.struct.pyramid.ImagePyramid;
 
+import java.util.List;
+
 /**
  * <p>
  * A pyramid Kanade-Lucas-Tomasi (KLT) tracker that allows features to be tracker over a larger region than the basic
@@ -70,6 +72,20 @@ public class PyramidKltTracker<InputImage extends ImageSingleBand, DerivativeIma
 		return true;
 	}
 
+	/**
+	 * Sets the description of every feature in the list.  Same as calling {@link #setDescription(PyramidKltFeature)}
+	 * on each feature.
+	 *
+	 * @param features (Input) Features whose description is being setup.
+	 * @param success (Output) true if the description of the feature at the same index was set.  Must be at least
+	 *                as long as the list of features.
+	 */
+	public void setDescription( List<PyramidKltFeature> features , boolean success[] ) {
+		for (int i = 0; i < features.size(); i++) {
+			success[i] = setDescription(features.get(i));
+		}
+	}
+
 	/**
 	 * Sets the current input images for the tracker to use.
 	 * @param image Original image pyramid.
@@ -150,6 +166,20 @@ public class PyramidKltTracker<InputImage extends ImageSingleBand, DerivativeIma
 		return KltTrackFault.SUCCESS;
 	}
 
+	/**
+	 * Tracks every feature in the list.  Same as calling {@link #track(PyramidKltFeature)} on each feature.
+	 * After this function has been called {@link #getError()} is not defined.
+	 *
+	 * @param features (Input) The features being tracked.
+	 * @param faults (Output) Tracking result for the feature at the same index.  Must be at least as long as the
+	 *               list of features.
+	 */
+	public void track( List<PyramidKltFeature> features , KltTrackFault faults[] ) {
+		for (int i = 0; i < features.size(); i++) {
+			faults[i] = track(features.get(i));
+		}
+	}
+
 	/**
 	 * Average error between track template and the image.
 	 *
@@ -0,0 +1,108 @@
+/*
+ * Copyright (c) 2011-2015, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.tracker.klt;
+
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.concurrency.IntRangeObjectTask;
+import boofcv.concurrency.WorkerFactory;
+import boofcv.struct.image.ImageSingleBand;
+import org.ddogleg.struct.FastQueue;
+
+import java.util.List;
+
+/**
+ * Concurrent implementation of {@link PyramidKltTracker}.  When a list of features is processed it is split into
+ * blocks which are tracked in parallel.  Each block has its own {@link KltTracker}, while the image pyramid and its
+ * derivatives are shared and only read from.  Each feature is tracked independently so the results are identical
+ * to the single threaded version.
+ *
+ * @author Peter Abeles
+ */
+public class PyramidKltTracker_MT<InputImage extends ImageSingleBand, DerivativeImage extends ImageSingleBand>
+		extends PyramidKltTracker<InputImage,DerivativeImage>
+{
+	// creates a KLT tracker for each block of features
+	private WorkerFactory<KltTracker<InputImage, DerivativeImage>> factory;
+
+	// trackers used by each block
+	private FastQueue<PyramidKltTracker<InputImage,DerivativeImage>> workers;
+
+	// minimum number of features processed by a thread
+	private int minBlockFeatures = 50;
+
+	/**
+	 * @param factory Creates a new {@link KltTracker} for each block.  All must have the same configuration.
+	 */
+	@SuppressWarnings("unchecked")
+	public PyramidKltTracker_MT(WorkerFactory<KltTracker<InputImage, DerivativeImage>> factory) {
+		super(factory.newInstance());
+		this.factory = factory;
+
+		workers = new FastQueue<PyramidKltTracker<InputImage,DerivativeImage>>(1,(Class)PyramidKltTracker.class,true) {
+			@Override
+			protected PyramidKltTracker<InputImage,DerivativeImage> createInstance() {
+				return new PyramidKltTracker<InputImage,DerivativeImage>(
+						PyramidKltTracker_MT.this.factory.newInstance());
+			}
+		};
+	}
+
+	@Override
+	public void setDescription(final List<PyramidKltFeature> features, final boolean[] success) {
+		BoofConcurrency.loopBlocks(0, features.size(), minBlockFeatures, workers,
+				new IntRangeObjectTask<PyramidKltTracker<InputImage, DerivativeImage>>() {
+			@Override
+			public void call(PyramidKltTracker<InputImage, DerivativeImage> worker, int i0, int i1) {
+				worker.image = image;
+				worker.derivX = derivX;
+				worker.derivY = derivY;
+				for (int i = i0; i < i1; i++) {
+					success[i] = worker.setDescription(features.get(i));
+				}
+			}
+		});
+	}
+
+	@Override
+	public void track(final List<PyramidKltFeature> features, final KltTrackFault[] faults) {
+		BoofConcurrency.loopBlocks(0, features.size(), minBlockFeatures, workers,
+				new IntRangeObjectTask<PyramidKltTracker<InputImage, DerivativeImage>>() {
+			@Override
+			public void call(PyramidKltTracker<InputImage, DerivativeImage> worker, int i0, int i1) {
+				worker.image = image;
+				worker.derivX = derivX;
+				worker.derivY = derivY;
+				for (int i = i0; i < i1; i++) {
+					faults[i] = worker.track(features.get(i));
+				}
+			}
+		});
+	}
+
+	public int getMinBlockFeatures() {
+		return minBlockFeatures;
+	}
+
+	/**
+	 * Specifies the smallest number of features which will be tracked by a single thread
+	 */
+	public void setMinBlockFeatures(int minBlockFeatures) {
+		this.minBlockFeatures = minBlockFeatures;
+	}
+}
@@ -0,0 +1,84 @@
+/*
+ * Copyright (c) 2011-2015, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.factory.feature.dense;
+
+import boofcv.abst.feature.dense.ConfigDenseSurf;
+import boofcv.abst.feature.dense.DescribeImageDense;
+import boofcv.abst.feature.dense.DescribeImageDenseSurf;
+import boofcv.alg.feature.describe.DescribeDenseSurf;
+import boofcv.alg.feature.describe.DescribeDenseSurf_MT;
+import boofcv.alg.feature.describe.DescribePointSurf;
+import boofcv.alg.transform.ii.GIntegralImageOps;
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.concurrency.WorkerFactory;
+import boofcv.factory.feature.describe.FactoryDescribePointAlgs;
+import boofcv.struct.feature.SurfFeature;
+import boofcv.struct.image.ImageSingleBand;
+
+/**
+ * Factory for creating {@link DescribeImageDense}.
+ *
+ * @author Peter Abeles
+ */
+public class FactoryDescribeImageDense {
+
+	/**
+	 * Computes SURF features on a regular grid across the image.  The gradient is only computed once for
+	 * regions which are shared by multiple features.  Features are computed without orientation.
+	 *
+	 * @see DescribeDenseSurf
+	 *
+	 * @param config Dense SURF configuration.  Pass in null for default options.
+	 * @param imageType Type of input image.
+	 * @return Dense SURF
+	 */
+	public static <T extends ImageSingleBand, II extends ImageSingleBand>
+	DescribeImageDense<T,SurfFeature> surfFast( ConfigDenseSurf config , Class<T> imageType ) {
+		if( config == null )
+			config = new ConfigDenseSurf();
+		config.checkValidity();
+
+		final Class<II> integralType = GIntegralImageOps.getIntegralType(imageType);
+		final ConfigDenseSurf _config = config;
+
+		DescribeDenseSurf<II> alg;
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			alg = new DescribeDenseSurf_MT<II>(new WorkerFactory<DescribePointSurf<II>>() {
+				@Override
+				public DescribePointSurf<II> newInstance() {
+					return FactoryDescribePointAlgs.surfSpeed(_config.surf, integralType);
+				}
+			});
+		} else {
+			alg = new DescribeDenseSurf<II>(FactoryDescribePointAlgs.surfSpeed(config.surf, integralType));
+		}
+
+		int featureWidth = (int)Math.ceil(config.scale*featureWidth(config));
+
+		return new DescribeImageDenseSurf<T,II>(alg,config.scale,featureWidth,
+				config.periodColumns,config.periodRows,imageType);
+	}
+
+	/**
+	 * Width of the region sampled by a SURF descriptor at a scale of one, including the sample kernel
+	 */
+	private static int featureWidth( ConfigDenseSurf config ) {
+		return config.surf.widthLargeGrid*config.surf.widthSubRegion + config.surf.widthSample;
+	}
+}
@@ -27,6 +27,7 @@ import boofcv.alg.feature.describe.brief.BinaryCompareDefinition_I32;
 import boofcv.alg.feature.describe.brief.FactoryBriefDefinition;
 import boofcv.alg.feature.detect.interest.SiftImageScaleSpace;
 import boofcv.alg.transform.ii.GIntegralImageOps;
+import boofcv.factory.feature.detect.interest.FactoryInterestPointAlgs;
 import boofcv.factory.filter.blur.FactoryBlurFilter;
 import boofcv.struct.feature.NccFeature;
 import boofcv.struct.feature.SurfFeature;
@@ -159,12 +160,7 @@ public class FactoryDescribeRegionPoint {
 	 */
 	public static DescribeRegionPoint<ImageFloat32,SurfFeature> sift( ConfigSiftScaleSpace configSS,
 																	  ConfigSiftDescribe configDescribe) {
-		if( configSS == null )
-			configSS = new ConfigSiftScaleSpace();
-		configSS.checkValidity();
-
-		SiftImageScaleSpace ss = new SiftImageScaleSpace(configSS.blurSigma, configSS.numScales, configSS.numOctaves,
-				configSS.doubleInputImage);
+		SiftImageScaleSpace ss = FactoryInterestPointAlgs.siftScaleSpace(configSS);
 
 		DescribePointSift alg = FactoryDescribePointAlgs.sift(configDescribe);
 
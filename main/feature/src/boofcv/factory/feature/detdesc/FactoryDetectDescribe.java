@@ -32,12 +32,17 @@ import boofcv.alg.feature.describe.DescribePointSurf;
 import boofcv.alg.feature.describe.DescribePointSurfMod;
 import boofcv.alg.feature.describe.DescribePointSurfMultiSpectral;
 import boofcv.alg.feature.detdesc.DetectDescribeSift;
+import boofcv.alg.feature.detdesc.DetectDescribeSift_MT;
 import boofcv.alg.feature.detdesc.DetectDescribeSurfMultiSpectral;
 import boofcv.alg.feature.detect.interest.FastHessianFeatureDetector;
 import boofcv.alg.feature.detect.interest.SiftDetector;
 import boofcv.alg.feature.detect.interest.SiftImageScaleSpace;
 import boofcv.alg.feature.orientation.OrientationHistogramSift;
+import boofcv.alg.feature.orientation.OrientationIntegralBatch;
+import boofcv.alg.feature.orientation.OrientationIntegralBatch_MT;
 import boofcv.alg.transform.ii.GIntegralImageOps;
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.concurrency.WorkerFactory;
 import boofcv.factory.feature.describe.FactoryDescribePointAlgs;
 import boofcv.factory.feature.detect.interest.FactoryInterestPointAlgs;
 import boofcv.factory.feature.orientation.FactoryOrientationAlgs;
@@ -70,19 +75,19 @@ public class FactoryDetectDescribe {
 		  ConfigSiftOrientation configOri ,
 		  ConfigSiftDescribe configDesc) {
 
-		if( configSS == null )
-			configSS = new ConfigSiftScaleSpace();
-		configSS.checkValidity();
-
-		SiftImageScaleSpace ss = new SiftImageScaleSpace(configSS.blurSigma, configSS.numScales, configSS.numOctaves,
-				configSS.doubleInputImage);
+		SiftImageScaleSpace ss = FactoryInterestPointAlgs.siftScaleSpace(configSS);
 
 		SiftDetector detector = FactoryInterestPointAlgs.siftDetector(configDetector);
 
-		OrientationHistogramSift orientation = FactoryOrientationAlgs.sift(configOri);
-		DescribePointSift describe = FactoryDescribePointAlgs.sift(configDesc);
+		DetectDescribeSift combined;
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			combined = new DetectDescribeSift_MT(ss,detector,configOri,configDesc);
+		} else {
+			OrientationHistogramSift orientation = FactoryOrientationAlgs.sift(configOri);
+			DescribePointSift describe = FactoryDescribePointAlgs.sift(configDesc);
 
-		DetectDescribeSift combined = new DetectDescribeSift(ss,detector,orientation,describe);
+			combined = new DetectDescribeSift(ss,detector,orientation,describe);
+		}
 
 		return new WrapDetectDescribeSift(combined);
 	}
@@ -117,7 +122,7 @@ public class FactoryDetectDescribe {
 
 		FastHessianFeatureDetector<II> detector = FactoryInterestPointAlgs.fastHessian(configDetector);
 		DescribePointSurf<II> describe = FactoryDescribePointAlgs.surfSpeed(configDesc, integralType);
-		OrientationIntegral<II> orientation = FactoryOrientationAlgs.average_ii(configOrientation, integralType);
+		OrientationIntegralBatch<II> orientation = averageBatch(configOrientation, integralType);
 
 		return new WrapDetectDescribeSurf<T,II>( detector, orientation, describe );
 	}
@@ -149,7 +154,7 @@ public class FactoryDetectDescribe {
 
 		FastHessianFeatureDetector<II> detector = FactoryInterestPointAlgs.fastHessian(configDetector);
 		DescribePointSurf<II> describe = FactoryDescribePointAlgs.surfSpeed(configDesc, integralType);
-		OrientationIntegral<II> orientation = FactoryOrientationAlgs.average_ii(configOrientation, integralType);
+		OrientationIntegralBatch<II> orientation = averageBatch(configOrientation, integralType);
 
 		if( imageType.getFamily() == ImageType.Family.MULTI_SPECTRAL ) {
 			DescribePointSurfMultiSpectral<II> describeMulti =
@@ -195,9 +200,9 @@ public class FactoryDetectDescribe {
 
 		FastHessianFeatureDetector<II> detector = FactoryInterestPointAlgs.fastHessian(configDetector);
 		DescribePointSurfMod<II> describe = FactoryDescribePointAlgs.surfStability(configDescribe, integralType);
-		OrientationIntegral<II> orientation = FactoryOrientationAlgs.sliding_ii(configOrientation, integralType);
+		OrientationIntegralBatch<II> orientation = slidingBatch(configOrientation, integralType);
 
-		return new WrapDetectDescribeSurf( detector, orientation, describe );
+		return new WrapDetectDescribeSurf<T,II>( detector, orientation, describe );
 	}
 
 	/**
@@ -228,7 +233,7 @@ public class FactoryDetectDescribe {
 
 		FastHessianFeatureDetector<II> detector = FactoryInterestPointAlgs.fastHessian(configDetector);
 		DescribePointSurfMod<II> describe = FactoryDescribePointAlgs.surfStability(configDescribe, integralType);
-		OrientationIntegral<II> orientation = FactoryOrientationAlgs.sliding_ii(configOrientation, integralType);
+		OrientationIntegralBatch<II> orientation = slidingBatch(configOrientation, integralType);
 
 		if( imageType.getFamily() == ImageType.Family.MULTI_SPECTRAL ) {
 			DescribePointSurfMultiSpectral<II> describeMulti =
@@ -259,4 +264,38 @@ public class FactoryDetectDescribe {
 		return new DetectDescribeFusion<T, D>(detector,orientation,describe);
 	}
 
+
+	/**
+	 * Creates a batch orientation estimator which uses {@link FactoryOrientationAlgs#average_ii}
+	 */
+	private static <II extends ImageSingleBand>
+	OrientationIntegralBatch<II> averageBatch( final ConfigAverageIntegral config , final Class<II> integralType ) {
+		return orientationBatch(new WorkerFactory<OrientationIntegral<II>>() {
+			@Override
+			public OrientationIntegral<II> newInstance() {
+				return FactoryOrientationAlgs.average_ii(config, integralType);
+			}
+		});
+	}
+
+	/**
+	 * Creates a batch orientation estimator which uses {@link FactoryOrientationAlgs#sliding_ii}
+	 */
+	private static <II extends ImageSingleBand>
+	OrientationIntegralBatch<II> slidingBatch( final ConfigSlidingIntegral config , final Class<II> integralType ) {
+		return orientationBatch(new WorkerFactory<OrientationIntegral<II>>() {
+			@Override
+			public OrientationIntegral<II> newInstance() {
+				return FactoryOrientationAlgs.sliding_ii(config, integralType);
+			}
+		});
+	}
+
+	private static <II extends ImageSingleBand>
+	OrientationIntegralBatch<II> orientationBatch( WorkerFactory<OrientationIntegral<II>> factory ) {
+		if( BoofConcurrency.USE_CONCURRENT )
+			return new OrientationIntegralBatch_MT<II>(factory);
+		else
+			return new OrientationIntegralBatch<II>(factory.newInstance());
+	}
 }
@@ -22,6 +22,12 @@ import boofcv.abst.filter.blur.BlurFilter;
 import boofcv.abst.filter.derivative.ImageGradient;
 import boofcv.alg.feature.detect.edge.CannyEdge;
 import boofcv.alg.feature.detect.edge.CannyEdgeDynamic;
+import boofcv.alg.feature.detect.edge.CannyNonMaxStrips;
+import boofcv.alg.feature.detect.edge.CannyNonMaxStrips_MT;
+import boofcv.alg.feature.detect.edge.HysteresisEdgeTraceMark;
+import boofcv.alg.feature.detect.edge.HysteresisEdgeTraceMark_MT;
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.concurrency.WorkerFactory;
 import boofcv.factory.filter.blur.FactoryBlurFilter;
 import boofcv.factory.filter.derivative.FactoryDerivative;
 import boofcv.struct.image.ImageSingleBand;
@@ -58,4 +64,56 @@ public class FactoryEdgeDetectors {
 		else
 			return new CannyEdge<T,D>(blur,gradient,saveTrace);
 	}
+
+	/**
+	 * Canny edge detector which computes the blur, gradient, and non-maximum suppression together in strips of
+	 * rows.  Produces identical results to {@link #canny} at about the same speed, but uses much less memory.  If
+	 * {@link BoofConcurrency#USE_CONCURRENT} is true then strips and hysteresis thresholding are processed
+	 * by multiple threads.
+	 *
+	 * @see CannyNonMaxStrips
+	 * @see HysteresisEdgeTraceMark_MT
+	 *
+	 * @param blurRadius Size of the kernel used to blur the image. Try 1 or 2
+	 * @param saveTrace Should it save a list of points that compose the objects contour/trace?
+	 * @param dynamicThreshold If true then the thresholds have a range from 0 to 1 and are relative to the
+	 * maximum edge intensity, if false then they are absolute intensity values.
+	 * @param imageType Type of input image.
+	 * @param derivType Type of image derivative.
+	 * @return Canny edge detector
+	 */
+	public static <T extends ImageSingleBand, D extends ImageSingleBand>
+	CannyEdge<T,D> cannyFused( final int blurRadius , boolean saveTrace , boolean dynamicThreshold,
+							   final Class<T> imageType , final Class<D> derivType )
+	{
+		WorkerFactory<BlurFilter<T>> blurFactory = new WorkerFactory<BlurFilter<T>>() {
+			@Override
+			public BlurFilter<T> newInstance() {
+				return FactoryBlurFilter.gaussian(imageType, -1, blurRadius);
+			}
+		};
+		WorkerFactory<ImageGradient<T,D>> gradientFactory = new WorkerFactory<ImageGradient<T,D>>() {
+			@Override
+			public ImageGradient<T,D> newInstance() {
+				return FactoryDerivative.three(imageType, derivType);
+			}
+		};
+
+		CannyNonMaxStrips<T,D> strips;
+		HysteresisEdgeTraceMark hysteresis = null;
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			strips = new CannyNonMaxStrips_MT<T,D>(blurFactory,gradientFactory);
+			if( !saveTrace )
+				hysteresis = new HysteresisEdgeTraceMark_MT();
+		} else {
+			strips = new CannyNonMaxStrips<T,D>(blurFactory,gradientFactory);
+			if( !saveTrace )
+				hysteresis = new HysteresisEdgeTraceMark();
+		}
+
+		if( dynamicThreshold )
+			return new CannyEdgeDynamic<T,D>(strips,hysteresis);
+		else
+			return new CannyEdge<T,D>(strips,hysteresis);
+	}
 }
@@ -22,6 +22,8 @@ import boofcv.alg.feature.detect.intensity.FastCornerIntensity;
 import boofcv.alg.feature.detect.intensity.HarrisCornerIntensity;
 import boofcv.alg.feature.detect.intensity.ShiTomasiCornerIntensity;
 import boofcv.alg.feature.detect.intensity.impl.*;
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.concurrency.WorkerFactory;
 import boofcv.struct.image.ImageFloat32;
 import boofcv.struct.image.ImageSInt16;
 import boofcv.struct.image.ImageSingleBand;
@@ -48,14 +50,7 @@ public class FactoryIntensityPointAlg {
 	public static <T extends ImageSingleBand>
 	FastCornerIntensity<T> fast(int pixelTol, int minCont, Class<T> imageType)
 	{
-		FastHelper<T> helper;
-
-		if( imageType == ImageFloat32.class )
-			helper = (FastHelper)new ImplFastHelper_F32(pixelTol);
-		else if( imageType == ImageUInt8.class )
-			helper = (FastHelper)new ImplFastHelper_U8(pixelTol);
-		else
-			throw new IllegalArgumentException("Unsupported image type "+imageType);
+		FastHelper<T> helper = fastHelper(pixelTol, imageType);
 
 		if( minCont == 9 ) {
 			return new ImplFastIntensity9<T>(helper);
@@ -70,6 +65,46 @@ public class FactoryIntensityPointAlg {
 		}
 	}
 
+	/**
+	 * Creates a {@link boofcv.alg.feature.detect.intensity.FastCornerIntensity} which uses a learned decision tree
+	 * to classify pixels.  If {@link BoofConcurrency#USE_CONCURRENT} is true then the concurrent implementation
+	 * is returned.
+	 *
+	 * @param pixelTol How different pixels need to be to be considered part of a corner. Image dependent.  Try 20 to start.
+	 * @param minCont Minimum number of continue pixels in a circle for it ot be a corner.  Can be 9,10,11 or 12.
+	 * @param imageType Type of input image it is computed form.
+	 * @return Fast corner
+	 */
+	public static <T extends ImageSingleBand>
+	FastCornerIntensity<T> fastTree(final int pixelTol, int minCont, final Class<T> imageType)
+	{
+		if( minCont < 9 || minCont > 12 )
+			throw new IllegalArgumentException("Specified minCont is not supported");
+
+		FastDecisionTree tree = FastDecisionTrees.get(minCont);
+
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			return new ImplFastIntensityTree_MT<T>(new WorkerFactory<FastHelper<T>>() {
+				@Override
+				public FastHelper<T> newInstance() {
+					return fastHelper(pixelTol, imageType);
+				}
+			}, tree);
+		} else {
+			return new ImplFastIntensityTree<T>(fastHelper(pixelTol, imageType), tree);
+		}
+	}
+
+	private static <T extends ImageSingleBand>
+	FastHelper<T> fastHelper( int pixelTol, Class<T> imageType ) {
+		if( imageType == ImageFloat32.class )
+			return (FastHelper)new ImplFastHelper_F32(pixelTol);
+		else if( imageType == ImageUInt8.class )
+			return (FastHelper)new ImplFastHelper_U8(pixelTol);
+		else
+			throw new IllegalArgumentException("Unsupported image type "+imageType);
+	}
+
 	/**
 	 * Common interface for creating a {@link boofcv.alg.feature.detect.intensity.HarrisCornerIntensity} from different
 	 * image types.
@@ -27,6 +27,8 @@ import boofcv.alg.feature.detect.intensity.FastCornerIntensity;
 import boofcv.alg.feature.detect.intensity.GradientCornerIntensity;
 import boofcv.alg.feature.detect.intensity.HessianBlobIntensity;
 import boofcv.alg.feature.detect.interest.GeneralFeatureDetector;
+import boofcv.alg.feature.detect.interest.GeneralFeatureDetectorTiled;
+import boofcv.concurrency.WorkerFactory;
 import boofcv.factory.feature.detect.extract.FactoryFeatureExtractor;
 import boofcv.factory.feature.detect.intensity.FactoryIntensityPoint;
 import boofcv.factory.feature.detect.intensity.FactoryIntensityPointAlg;
@@ -44,6 +46,10 @@ import boofcv.struct.image.ImageSingleBand;
  * computed along the image border then it will be full of zeros.  In that case the ignore border region
  * needs to be increased for non-max suppression or else it might generate a false positive.
  * </p>
+ * <p>
+ * If {@link ConfigGeneralDetector#tileWidth} is greater than zero then a {@link GeneralFeatureDetectorTiled} is
+ * returned, which processes the image in tiles concurrently.
+ * </p>
  *
  * @author Peter Abeles
  */
@@ -59,13 +65,19 @@ public class FactoryDetectPoint {
 	 */
 	public static <T extends ImageSingleBand, D extends ImageSingleBand>
 	GeneralFeatureDetector<T, D> createHarris(ConfigGeneralDetector configDetector,
-											  boolean weighted, Class<D> derivType) {
+											  final boolean weighted, final Class<D> derivType) {
 		if( configDetector == null)
 			configDetector = new ConfigGeneralDetector();
 
-		GradientCornerIntensity<D> cornerIntensity =
-				FactoryIntensityPointAlg.harris(configDetector.radius, 0.04f, weighted, derivType);
-		return createGeneral(cornerIntensity, configDetector);
+		final int radius = configDetector.radius;
+		return createGeneral(new WorkerFactory<GeneralFeatureIntensity<T, D>>() {
+			@Override
+			public GeneralFeatureIntensity<T, D> newInstance() {
+				GradientCornerIntensity<D> cornerIntensity =
+						FactoryIntensityPointAlg.harris(radius, 0.04f, weighted, derivType);
+				return new WrapperGradientCornerIntensity<T, D>(cornerIntensity);
+			}
+		}, configDetector);
 	}
 
 	/**
@@ -78,13 +90,19 @@ public class FactoryDetectPoint {
 	 */
 	public static <T extends ImageSingleBand, D extends ImageSingleBand>
 	GeneralFeatureDetector<T, D> createShiTomasi(ConfigGeneralDetector configDetector,
-												 boolean weighted, Class<D> derivType) {
+												 final boolean weighted, final Class<D> derivType) {
 		if( configDetector == null)
 			configDetector = new ConfigGeneralDetector();
 
-		GradientCornerIntensity<D> cornerIntensity =
-				FactoryIntensityPointAlg.shiTomasi(configDetector.radius, weighted, derivType);
-		return createGeneral(cornerIntensity, configDetector);
+		final int radius = configDetector.radius;
+		return createGeneral(new WorkerFactory<GeneralFeatureIntensity<T, D>>() {
+			@Override
+			public GeneralFeatureIntensity<T, D> newInstance() {
+				GradientCornerIntensity<D> cornerIntensity =
+						FactoryIntensityPointAlg.shiTomasi(radius, weighted, derivType);
+				return new WrapperGradientCornerIntensity<T, D>(cornerIntensity);
+			}
+		}, configDetector);
 	}
 
 	/**
@@ -95,12 +113,16 @@ public class FactoryDetectPoint {
 	 * @see boofcv.alg.feature.detect.intensity.KitRosCornerIntensity
 	 */
 	public static <T extends ImageSingleBand, D extends ImageSingleBand>
-	GeneralFeatureDetector<T, D> createKitRos(ConfigGeneralDetector configDetector, Class<D> derivType) {
+	GeneralFeatureDetector<T, D> createKitRos(ConfigGeneralDetector configDetector, final Class<D> derivType) {
 		if( configDetector == null)
 			configDetector = new ConfigGeneralDetector();
 
-		GeneralFeatureIntensity<T, D> intensity = new WrapperKitRosCornerIntensity<T, D>(derivType);
-		return createGeneral(intensity, configDetector);
+		return createGeneral(new WorkerFactory<GeneralFeatureIntensity<T, D>>() {
+			@Override
+			public GeneralFeatureIntensity<T, D> newInstance() {
+				return new WrapperKitRosCornerIntensity<T, D>(derivType);
+			}
+		}, configDetector);
 	}
 
 	/**
@@ -114,7 +136,7 @@ public class FactoryDetectPoint {
 	@SuppressWarnings("UnnecessaryLocalVariable")
 	public static <T extends ImageSingleBand, D extends ImageSingleBand>
 	GeneralFeatureDetector<T, D> createFast( ConfigFast configFast ,
-											 ConfigGeneralDetector configDetector , Class<T> imageType) {
+											 ConfigGeneralDetector configDetector , final Class<T> imageType) {
 
 		if( configFast == null )
 			configFast = new ConfigFast();
@@ -122,11 +144,23 @@ public class FactoryDetectPoint {
 
 		ConfigGeneralDetector d = configDetector;
 
-		FastCornerIntensity<T> alg = FactoryIntensityPointAlg.fast(configFast.pixelTol, configFast.minContinuous, imageType);
-		GeneralFeatureIntensity<T, D> intensity = new WrapperFastCornerIntensity<T, D>(alg);
+		final int pixelTol = configFast.pixelTol;
+		final int minContinuous = configFast.minContinuous;
+		final boolean decisionTree = configFast.decisionTree;
 		ConfigGeneralDetector configExtract =
 				new ConfigGeneralDetector(d.maxFeatures,d.radius,d.threshold,0,true,false,true);
-		return createGeneral(intensity, configExtract);
+		configExtract.tileWidth = d.tileWidth;
+		return createGeneral(new WorkerFactory<GeneralFeatureIntensity<T, D>>() {
+			@Override
+			public GeneralFeatureIntensity<T, D> newInstance() {
+				FastCornerIntensity<T> alg;
+				if( decisionTree )
+					alg = FactoryIntensityPointAlg.fastTree(pixelTol, minContinuous, imageType);
+				else
+					alg = FactoryIntensityPointAlg.fast(pixelTol, minContinuous, imageType);
+				return new WrapperFastCornerIntensity<T, D>(alg);
+			}
+		}, configExtract);
 	}
 
 	/**
@@ -156,13 +190,17 @@ public class FactoryDetectPoint {
 	 * @see HessianBlobIntensity
 	 */
 	public static <T extends ImageSingleBand, D extends ImageSingleBand>
-	GeneralFeatureDetector<T, D> createHessian(HessianBlobIntensity.Type type,
-											   ConfigGeneralDetector configDetector, Class<D> derivType) {
+	GeneralFeatureDetector<T, D> createHessian(final HessianBlobIntensity.Type type,
+											   ConfigGeneralDetector configDetector, final Class<D> derivType) {
 		if( configDetector == null)
 			configDetector = new ConfigGeneralDetector();
 
-		GeneralFeatureIntensity<T, D> intensity = FactoryIntensityPoint.hessian(type, derivType);
-		return createGeneral(intensity, configDetector);
+		return createGeneral(new WorkerFactory<GeneralFeatureIntensity<T, D>>() {
+			@Override
+			public GeneralFeatureIntensity<T, D> newInstance() {
+				return FactoryIntensityPoint.hessian(type, derivType);
+			}
+		}, configDetector);
 	}
 
 	public static <T extends ImageSingleBand, D extends ImageSingleBand>
@@ -182,4 +220,34 @@ public class FactoryDetectPoint {
 
 		return det;
 	}
+
+	/**
+	 * Creates a detector using a factory for the feature intensity.  If tiling is enabled in the configuration
+	 * then a {@link GeneralFeatureDetectorTiled} is returned, otherwise a single instance of the intensity
+	 * is created and a {@link GeneralFeatureDetector} is returned.
+	 *
+	 * @param factoryIntensity Creates new instances of the feature intensity algorithm.
+	 * @param config Configuration for feature detector.
+	 */
+	public static <T extends ImageSingleBand, D extends ImageSingleBand>
+	GeneralFeatureDetector<T, D> createGeneral(WorkerFactory<GeneralFeatureIntensity<T, D>> factoryIntensity,
+											   ConfigGeneralDetector config ) {
+		if( config.tileWidth <= 0 )
+			return createGeneral(factoryIntensity.newInstance(), config);
+
+		config.ignoreBorder += config.radius;
+		// copy so that later changes to the configuration don't affect workers created while processing
+		final ConfigGeneralDetector configExtract = new ConfigGeneralDetector(config.maxFeatures,config);
+		WorkerFactory<NonMaxSuppression> factoryExtractor = new WorkerFactory<NonMaxSuppression>() {
+			@Override
+			public NonMaxSuppression newInstance() {
+				return FactoryFeatureExtractor.nonmax(configExtract);
+			}
+		};
+		GeneralFeatureDetector<T, D> det =
+				new GeneralFeatureDetectorTiled<T, D>(factoryIntensity, factoryExtractor, config.tileWidth);
+		det.setMaxFeatures(config.maxFeatures);
+
+		return det;
+	}
 }
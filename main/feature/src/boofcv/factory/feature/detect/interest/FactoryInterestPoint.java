@@ -142,14 +142,9 @@ public class FactoryInterestPoint {
 	public static InterestPointDetector<ImageFloat32> siftDetector( ConfigSiftScaleSpace configSS,
 																	ConfigSiftDetector configDetector )
 	{
-		if( configSS == null )
-			configSS = new ConfigSiftScaleSpace();
-		configSS.checkValidity();
-
 		SiftDetector alg = FactoryInterestPointAlgs.siftDetector(configDetector);
 
-		SiftImageScaleSpace ss = new SiftImageScaleSpace(configSS.blurSigma, configSS.numScales, configSS.numOctaves,
-				configSS.doubleInputImage);
+		SiftImageScaleSpace ss = FactoryInterestPointAlgs.siftScaleSpace(configSS);
 
 		return new WrapSiftDetector(alg,ss);
 	}
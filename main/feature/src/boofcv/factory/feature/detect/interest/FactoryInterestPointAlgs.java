@@ -20,6 +20,7 @@ package boofcv.factory.feature.detect.interest;
 
 import boofcv.abst.feature.detect.extract.ConfigExtract;
 import boofcv.abst.feature.detect.extract.NonMaxSuppression;
+import boofcv.abst.feature.describe.ConfigSiftScaleSpace;
 import boofcv.abst.feature.detect.intensity.GeneralFeatureIntensity;
 import boofcv.abst.feature.detect.intensity.WrapperGradientCornerIntensity;
 import boofcv.abst.feature.detect.intensity.WrapperHessianBlobIntensity;
@@ -31,6 +32,7 @@ import boofcv.alg.feature.detect.intensity.GradientCornerIntensity;
 import boofcv.alg.feature.detect.intensity.HessianBlobIntensity;
 import boofcv.alg.feature.detect.interest.*;
 import boofcv.alg.filter.derivative.GImageDerivativeOps;
+import boofcv.concurrency.BoofConcurrency;
 import boofcv.core.image.inst.FactoryImageGenerator;
 import boofcv.factory.feature.detect.extract.FactoryFeatureExtractor;
 import boofcv.factory.feature.detect.intensity.FactoryIntensityPointAlg;
@@ -158,7 +160,8 @@ public class FactoryInterestPointAlgs {
 	}
 
 	/**
-	 * Creates a Fast Hessian blob detector used by SURF.
+	 * Creates a Fast Hessian blob detector used by SURF.  If {@link BoofConcurrency#USE_CONCURRENT} is true then
+	 * a concurrent implementation is returned.
 	 *
 	 * @param config Configuration for detector. Pass in null for default options.
 	 * @param <II> Integral Image
@@ -173,12 +176,17 @@ public class FactoryInterestPointAlgs {
 
 		NonMaxSuppression extractor = FactoryFeatureExtractor.nonmax(
 				new ConfigExtract(config.extractRadius, config.detectThreshold, 5, true));
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			return new FastHessianFeatureDetector_MT<II>(extractor, config.maxFeaturesPerScale,
+					config.initialSampleSize, config.initialSize, config.numberScalesPerOctave, config.numberOfOctaves);
+		}
 		return new FastHessianFeatureDetector<II>(extractor, config.maxFeaturesPerScale,
 				config.initialSampleSize, config.initialSize, config.numberScalesPerOctave, config.numberOfOctaves);
 	}
 
 	/**
-	 * Creates a SIFT feature detector.
+	 * Creates a SIFT feature detector.  If {@link BoofConcurrency#USE_CONCURRENT} is true then a concurrent
+	 * implementation is returned.
 	 *
 	 * @see SiftDetector
 	 * @see SiftImageScaleSpace
@@ -191,9 +199,35 @@ public class FactoryInterestPointAlgs {
 			config = new ConfigSiftDetector();
 		config.checkValidity();
 
-		NonMaxSuppression extractor = FactoryFeatureExtractor.nonmax(
-				new ConfigExtract(config.extractRadius, config.detectThreshold, 2, true, true, true));
+		ConfigExtract configExtract =
+				new ConfigExtract(config.extractRadius, config.detectThreshold, 2, true, true, true);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			return new SiftDetector_MT(configExtract,config.maxFeaturesPerScale,config.edgeThreshold);
+		}
+
+		NonMaxSuppression extractor = FactoryFeatureExtractor.nonmax(configExtract);
 		return new SiftDetector(extractor,config.maxFeaturesPerScale,config.edgeThreshold);
 	}
 
+	/**
+	 * Creates the scale-space used by SIFT.  If {@link BoofConcurrency#USE_CONCURRENT} is true then a concurrent
+	 * implementation is returned.
+	 *
+	 * @see SiftImageScaleSpace
+	 *
+	 * @param config Configuration for scale-space. Pass in null for default options.
+	 */
+	public static SiftImageScaleSpace siftScaleSpace( ConfigSiftScaleSpace config ) {
+		if( config == null )
+			config = new ConfigSiftScaleSpace();
+		config.checkValidity();
+
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			return new SiftImageScaleSpace_MT(config.blurSigma, config.numScales, config.numOctaves,
+					config.doubleInputImage);
+		}
+		return new SiftImageScaleSpace(config.blurSigma, config.numScales, config.numOctaves,
+				config.doubleInputImage);
+	}
+
 }
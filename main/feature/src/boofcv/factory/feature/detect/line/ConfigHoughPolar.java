@@ -33,6 +33,11 @@ public class ConfigHoughPolar implements Configuration {
 	 * Maximum number of lines to return. If <= 0 it will return all
 	 */
 	public int maxLines = 0;
+	/**
+	 * If positive then edge pixels only vote for lines with an angle within this tolerance of their
+	 * gradient's direction, in radians.  Much faster.  Try PI/36.  If <= 0 then all angles are voted for.
+	 */
+	public double gradientTolerance = 0;
 
 	public ConfigHoughPolar(int minCounts) {
 		this.minCounts = minCounts;
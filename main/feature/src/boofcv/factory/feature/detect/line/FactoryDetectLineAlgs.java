@@ -19,14 +19,18 @@
 package boofcv.factory.feature.detect.line;
 
 
+import boofcv.abst.feature.detect.extract.ConfigExtract;
+import boofcv.abst.feature.detect.extract.NonMaxSuppression;
 import boofcv.abst.feature.detect.line.DetectLineHoughFoot;
 import boofcv.abst.feature.detect.line.DetectLineHoughFootSubimage;
 import boofcv.abst.feature.detect.line.DetectLineHoughPolar;
 import boofcv.abst.feature.detect.line.DetectLineSegmentsGridRansac;
 import boofcv.abst.filter.derivative.ImageGradient;
-import boofcv.alg.feature.detect.line.ConnectLinesGrid;
-import boofcv.alg.feature.detect.line.GridRansacLineDetector;
+import boofcv.alg.feature.detect.line.*;
 import boofcv.alg.feature.detect.line.gridline.*;
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.concurrency.WorkerFactory;
+import boofcv.factory.feature.detect.extract.FactoryFeatureExtractor;
 import boofcv.factory.filter.derivative.FactoryDerivative;
 import boofcv.struct.image.ImageFloat32;
 import boofcv.struct.image.ImageSInt16;
@@ -66,6 +70,32 @@ public class FactoryDetectLineAlgs {
 
 		ImageGradient<I,D> gradient = FactoryDerivative.sobel(imageType,derivType);
 
+		GridRansacLineDetector<D> alg;
+		ConnectLinesGrid connect = null;
+
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			final int _regionSize = regionSize;
+			final double _thresholdAngle = thresholdAngle;
+			final Class<D> _derivType = derivType;
+			alg = new GridRansacLineDetector_MT<D>(new WorkerFactory<GridRansacLineDetector<D>>() {
+				@Override
+				public GridRansacLineDetector<D> newInstance() {
+					return gridRansac(_regionSize, _thresholdAngle, _derivType);
+				}
+			});
+			if( connectLines )
+				connect = new ConnectLinesGrid_MT(Math.PI*0.01,1,8);
+		} else {
+			alg = gridRansac(regionSize, thresholdAngle, derivType);
+			if( connectLines )
+				connect = new ConnectLinesGrid(Math.PI*0.01,1,8);
+		}
+
+		return new DetectLineSegmentsGridRansac<I,D>(alg,connect,gradient,thresholdEdge,imageType,derivType);
+	}
+
+	private static <D extends ImageSingleBand>
+	GridRansacLineDetector<D> gridRansac( int regionSize , double thresholdAngle , Class<D> derivType ) {
 		ModelManagerLinePolar2D_F32 manager = new ModelManagerLinePolar2D_F32();
 		GridLineModelDistance distance = new GridLineModelDistance((float)thresholdAngle);
 		GridLineModelFitter fitter = new GridLineModelFitter((float)thresholdAngle);
@@ -73,20 +103,13 @@ public class FactoryDetectLineAlgs {
 		ModelMatcher<LinePolar2D_F32, Edgel> matcher =
 				new Ransac<LinePolar2D_F32,Edgel>(123123,manager,fitter,distance,25,1);
 
-		GridRansacLineDetector<D> alg;
 		if( derivType == ImageFloat32.class )  {
-			alg = (GridRansacLineDetector)new ImplGridRansacLineDetector_F32(regionSize,10,matcher);
+			return (GridRansacLineDetector)new ImplGridRansacLineDetector_F32(regionSize,10,matcher);
 		} else if( derivType == ImageSInt16.class ) {
-			alg = (GridRansacLineDetector)new ImplGridRansacLineDetector_S16(regionSize,10,matcher);
+			return (GridRansacLineDetector)new ImplGridRansacLineDetector_S16(regionSize,10,matcher);
 		} else {
 			throw new IllegalArgumentException("Unsupported derivative type");
 		}
-
-		ConnectLinesGrid connect = null;
-		if( connectLines )
-			connect = new ConnectLinesGrid(Math.PI*0.01,1,8);
-
-		return new DetectLineSegmentsGridRansac<I,D>(alg,connect,gradient,thresholdEdge,imageType,derivType);
 	}
 
 	/**
@@ -112,8 +135,15 @@ public class FactoryDetectLineAlgs {
 
 		ImageGradient<I,D> gradient = FactoryDerivative.sobel(imageType,derivType);
 
-		return new DetectLineHoughFoot<I,D>(config.localMaxRadius,config.minCounts,config.minDistanceFromOrigin,
-				config.thresholdEdge,config.maxLines,gradient);
+		NonMaxSuppression extractor = FactoryFeatureExtractor.nonmaxCandidate(
+				new ConfigExtract(config.localMaxRadius, config.minCounts, 0, false));
+		HoughTransformLineFootOfNorm alg;
+		if( BoofConcurrency.USE_CONCURRENT )
+			alg = new HoughTransformLineFootOfNorm_MT(extractor,config.minDistanceFromOrigin);
+		else
+			alg = new HoughTransformLineFootOfNorm(extractor,config.minDistanceFromOrigin);
+
+		return new DetectLineHoughFoot<I,D>(alg,config.thresholdEdge,config.maxLines,gradient);
 	}
 
 	/**
@@ -166,8 +196,18 @@ public class FactoryDetectLineAlgs {
 
 		ImageGradient<I,D> gradient = FactoryDerivative.sobel(imageType,derivType);
 
-		return new DetectLineHoughPolar<I,D>(config.localMaxRadius,config.minCounts,config.resolutionRange,
-				config.resolutionAngle,config.thresholdEdge,config.maxLines,gradient);
+		NonMaxSuppression extractor = FactoryFeatureExtractor.nonmax(
+				new ConfigExtract(config.localMaxRadius, config.minCounts, 0, true));
+		HoughTransformLinePolar alg;
+		if( BoofConcurrency.USE_CONCURRENT )
+			alg = new HoughTransformLinePolar_MT(extractor,1,1);
+		else
+			alg = new HoughTransformLinePolar(extractor,1,1);
+
+		DetectLineHoughPolar<I,D> detector = new DetectLineHoughPolar<I,D>(alg,config.localMaxRadius,
+				config.resolutionRange,config.resolutionAngle,config.thresholdEdge,config.maxLines,gradient);
+		detector.setGradientTolerance(config.gradientTolerance);
+		return detector;
 	}
 
 }
@@ -22,6 +22,7 @@ import boofcv.alg.feature.detect.template.TemplateDiffSquared;
 import boofcv.alg.feature.detect.template.TemplateMatching;
 import boofcv.alg.feature.detect.template.TemplateMatchingIntensity;
 import boofcv.alg.feature.detect.template.TemplateNCC;
+import boofcv.alg.feature.detect.template.TemplateNCCFft;
 import boofcv.struct.image.ImageFloat32;
 import boofcv.struct.image.ImageSingleBand;
 import boofcv.struct.image.ImageUInt8;
@@ -62,10 +63,33 @@ public class FactoryTemplateMatching {
 				} else {
 					throw new IllegalArgumentException("Image type not supported. " + imageType.getSimpleName());
 				}
+
+			case NCC_FFT:
+				if (imageType == ImageUInt8.class || imageType == ImageFloat32.class) {
+					return new TemplateNCCFft<T>();
+				} else {
+					throw new IllegalArgumentException("Image type not supported. " + imageType.getSimpleName());
+				}
 		}
 		throw new IllegalArgumentException("Type not found: " + type);
 	}
 
+	/**
+	 * Creates {@link TemplateNCCFft} which uses a coarse to fine search.  Only the best matches found in
+	 * a down sampled image are evaluated at the original scale.
+	 *
+	 * @param levels Number of times the image is down sampled by a factor of two.  Try 2.
+	 * @param numCandidates Number of matches at the coarse scale which are refined.
+	 * @param imageType Image type being processed
+	 * @return {@link TemplateMatchingIntensity} which uses a coarse to fine search
+	 */
+	public static <T extends ImageSingleBand>
+	TemplateMatchingIntensity<T> createNccCoarseToFine(int levels, int numCandidates, Class<T> imageType) {
+		TemplateNCCFft<T> alg = (TemplateNCCFft<T>)createIntensity(TemplateScoreType.NCC_FFT, imageType);
+		alg.setCoarseToFine(levels, numCandidates);
+		return alg;
+	}
+
 	/**
 	 * Creates an instance of {@link TemplateMatching} for the specified score type.
 	 *
@@ -40,5 +40,14 @@ public enum TemplateScoreType {
 	 *
 	 * @see boofcv.alg.feature.detect.template.TemplateNCC
 	 */
-	NCC
+	NCC,
+	/**
+	 * <p>
+	 * Same score as {@link #NCC} but computed using FFT and integral images.  Its speed does not depend on
+	 * the template's size, making it much faster for large templates.
+	 * </p>
+	 *
+	 * @see boofcv.alg.feature.detect.template.TemplateNCCFft
+	 */
+	NCC_FFT
 }
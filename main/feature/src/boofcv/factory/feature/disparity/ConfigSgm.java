@@ -0,0 +1,87 @@
+/*
+ * Copyright (c) 2011-2015, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.factory.feature.disparity;
+
+import boofcv.alg.transform.census.CensusType;
+import boofcv.struct.Configuration;
+
+/**
+ * Configuration for {@link boofcv.alg.feature.disparity.sgm.SgmStereoDisparity Semi-Global Matching}.
+ *
+ * @author Peter Abeles
+ */
+public class ConfigSgm implements Configuration {
+	/**
+	 * Minimum disparity that it will check. Must be >= 0 and < maxDisparity
+	 */
+	public int minDisparity = 0;
+	/**
+	 * Maximum disparity that it will calculate. Must be > 0
+	 */
+	public int maxDisparity = 64;
+
+	/**
+	 * Which function is used to compute the cost of matching two pixels
+	 */
+	public SgmCostType cost = SgmCostType.CENSUS;
+
+	/**
+	 * Which census transform is used when the cost is {@link SgmCostType#CENSUS}
+	 */
+	public CensusType census = CensusType.REGION_5x5;
+
+	/**
+	 * Penalty for a change in disparity of one.  If <= 0 then a value is selected based on the cost function.
+	 */
+	public int penaltySmallChange = -1;
+
+	/**
+	 * Penalty for a change in disparity of more than one.  Must be >= penaltySmallChange.  If <= 0 then a value
+	 * is selected based on the cost function.
+	 */
+	public int penaltyLargeChange = -1;
+
+	/**
+	 * Number of paths which are aggregated.  4 or 8.  With 4 only horizontal and vertical paths are used.
+	 */
+	public int paths = 8;
+
+	/**
+	 * Tolerance for right to left validation.  Disable with a value < 0.
+	 */
+	public int validateRtoL = 1;
+
+	public ConfigSgm(int minDisparity, int maxDisparity) {
+		this.minDisparity = minDisparity;
+		this.maxDisparity = maxDisparity;
+	}
+
+	public ConfigSgm() {
+	}
+
+	@Override
+	public void checkValidity() {
+		if( maxDisparity <= 0 )
+			throw new IllegalArgumentException("Max disparity must be greater than zero");
+		if( minDisparity < 0 || minDisparity >= maxDisparity )
+			throw new IllegalArgumentException("Min disparity must be >= 0 and < maxDisparity");
+		if( paths != 4 && paths != 8 )
+			throw new IllegalArgumentException("paths must be 4 or 8");
+	}
+}
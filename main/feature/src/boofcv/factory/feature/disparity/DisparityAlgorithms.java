@@ -35,5 +35,15 @@ public enum DisparityAlgorithms {
 	 *
 	 * @see boofcv.alg.feature.disparity.DisparityScoreWindowFive
 	 */
-	RECT_FIVE
+	RECT_FIVE,
+	/**
+	 * Rectangular region using the Hamming distance between census transforms of each pixel.  Insensitive
+	 * to brightness differences between the two images. Only supports {@link boofcv.struct.image.ImageUInt8}.
+	 * The census transform is 9x7 unless a different {@link boofcv.alg.transform.census.CensusType} is passed to
+	 * the factory.  The maximum per pixel error is specified in the number of bits which are different, from 0 to
+	 * {@link boofcv.alg.transform.census.CensusType#getBits()}.
+	 *
+	 * @see boofcv.alg.feature.disparity.DisparityScoreCensusRect
+	 */
+	RECT_CENSUS
 }
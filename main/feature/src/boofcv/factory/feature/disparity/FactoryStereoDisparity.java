@@ -21,11 +21,16 @@ package boofcv.factory.feature.disparity;
 import boofcv.abst.feature.disparity.StereoDisparity;
 import boofcv.abst.feature.disparity.StereoDisparitySparse;
 import boofcv.abst.feature.disparity.WrapDisparitySadRect;
+import boofcv.abst.feature.disparity.WrapDisparitySgm;
 import boofcv.abst.feature.disparity.WrapDisparitySparseSadRect;
 import boofcv.alg.feature.disparity.DisparityScoreRowFormat;
+import boofcv.alg.feature.disparity.DisparityScoreRowFormat_MT;
 import boofcv.alg.feature.disparity.DisparitySelect;
 import boofcv.alg.feature.disparity.DisparitySparseScoreSadRect;
 import boofcv.alg.feature.disparity.DisparitySparseSelect;
+import boofcv.alg.transform.census.CensusType;
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.concurrency.WorkerFactory;
 import boofcv.struct.image.ImageFloat32;
 import boofcv.struct.image.ImageSInt16;
 import boofcv.struct.image.ImageSingleBand;
@@ -64,6 +69,7 @@ public class FactoryStereoDisparity {
 	 *
 	 * <p>
 	 * NOTE: For RECT_FIVE the size of the sub-regions it uses is what is specified.
+	 * For RECT_CENSUS the per pixel error is the number of bits which are different.
 	 * </p>
 	 *
 	 * @param minDisparity Minimum disparity that it will check. Must be >= 0 and < maxDisparity
@@ -85,57 +91,35 @@ public class FactoryStereoDisparity {
 			   int validateRtoL ,
 			   double texture ,
 			   Class<T> imageType ) {
+		return regionWta(whichAlg,minDisparity,maxDisparity,regionRadiusX,regionRadiusY,
+				maxPerPixelError,validateRtoL,texture,CensusType.REGION_9x7,imageType);
+	}
 
+	/**
+	 * Same as {@link #regionWta(DisparityAlgorithms, int, int, int, int, double, int, double, Class)} but the
+	 * shape of the census transform used by RECT_CENSUS can be specified.  The per pixel error for RECT_CENSUS
+	 * can be up to {@link CensusType#getBits()}.
+	 *
+	 * @param census Shape of the census transform.  Only used by RECT_CENSUS.
+	 */
+	public static <T extends ImageSingleBand> StereoDisparity<T,ImageUInt8>
+	regionWta( DisparityAlgorithms whichAlg ,
+			   int minDisparity , int maxDisparity,
+			   int regionRadiusX, int regionRadiusY ,
+			   double maxPerPixelError ,
+			   int validateRtoL ,
+			   double texture ,
+			   CensusType census ,
+			   Class<T> imageType ) {
 		double maxError = (regionRadiusX*2+1)*(regionRadiusY*2+1)*maxPerPixelError;
 
 		// 3 regions are used not just one in this case
 		if( whichAlg == DisparityAlgorithms.RECT_FIVE )
 			maxError *= 3;
 
-		DisparitySelect select;
-		if( imageType == ImageUInt8.class || imageType == ImageSInt16.class ) {
-			select = selectDisparity_S32((int) maxError, validateRtoL, texture);
-		} else if( imageType == ImageFloat32.class ) {
-			select = selectDisparity_F32((int) maxError, validateRtoL, texture);
-		} else {
-			throw new IllegalArgumentException("Unknown image type");
-		}
-
-		DisparityScoreRowFormat<T,ImageUInt8> alg = null;
-
-		switch( whichAlg ) {
-			case RECT:
-				if( imageType == ImageUInt8.class ) {
-					alg = FactoryStereoDisparityAlgs.scoreDisparitySadRect_U8(minDisparity,
-							maxDisparity,regionRadiusX,regionRadiusY,select);
-				} else if( imageType == ImageSInt16.class ) {
-					alg = FactoryStereoDisparityAlgs.scoreDisparitySadRect_S16(minDisparity,
-							maxDisparity, regionRadiusX, regionRadiusY, select);
-				} else if( imageType == ImageFloat32.class ) {
-					alg = FactoryStereoDisparityAlgs.scoreDisparitySadRect_F32(minDisparity,
-							maxDisparity, regionRadiusX, regionRadiusY, select);
-				}
-				break;
-
-			case RECT_FIVE:
-				if( imageType == ImageUInt8.class ) {
-					alg = FactoryStereoDisparityAlgs.scoreDisparitySadRectFive_U8(minDisparity,
-							maxDisparity,regionRadiusX,regionRadiusY,select);
-				} else if( imageType == ImageSInt16.class ) {
-					alg = FactoryStereoDisparityAlgs.scoreDisparitySadRectFive_S16(minDisparity,
-							maxDisparity, regionRadiusX, regionRadiusY, select);
-				} else if( imageType == ImageFloat32.class ) {
-					alg = FactoryStereoDisparityAlgs.scoreDisparitySadRectFive_F32(minDisparity,
-							maxDisparity, regionRadiusX, regionRadiusY, select);
-				}
-				break;
-
-			default:
-				throw new IllegalArgumentException("Unknown algorithms "+whichAlg);
-
-		}
-		if( alg == null)
-			throw new RuntimeException("Image type not supported: "+imageType.getSimpleName() );
+		DisparityScoreRowFormat<T,ImageUInt8> alg =
+				createScore(whichAlg,minDisparity,maxDisparity,regionRadiusX,regionRadiusY,census,
+						false,(int)maxError,validateRtoL,texture,imageType);
 
 		return new WrapDisparitySadRect<T,ImageUInt8>(alg);
 	}
@@ -147,6 +131,7 @@ public class FactoryStereoDisparity {
 	 *
 	 * <p>
 	 * NOTE: For RECT_FIVE the size of the sub-regions it uses is what is specified.
+	 * For RECT_CENSUS the per pixel error is the number of bits which are different.
 	 * </p>
 	 *
 	 * @param minDisparity Minimum disparity that it will check. Must be >= 0 and < maxDisparity
@@ -168,59 +153,68 @@ public class FactoryStereoDisparity {
 					   int validateRtoL ,
 					   double texture ,
 					   Class<T> imageType ) {
+		return regionSubpixelWta(whichAlg,minDisparity,maxDisparity,regionRadiusX,regionRadiusY,
+				maxPerPixelError,validateRtoL,texture,CensusType.REGION_9x7,imageType);
+	}
 
+	/**
+	 * Same as {@link #regionSubpixelWta(DisparityAlgorithms, int, int, int, int, double, int, double, Class)} but
+	 * the shape of the census transform used by RECT_CENSUS can be specified.  The per pixel error for RECT_CENSUS
+	 * can be up to {@link CensusType#getBits()}.
+	 *
+	 * @param census Shape of the census transform.  Only used by RECT_CENSUS.
+	 */
+	public static <T extends ImageSingleBand> StereoDisparity<T,ImageFloat32>
+	regionSubpixelWta( DisparityAlgorithms whichAlg ,
+					   int minDisparity , int maxDisparity,
+					   int regionRadiusX, int regionRadiusY ,
+					   double maxPerPixelError ,
+					   int validateRtoL ,
+					   double texture ,
+					   CensusType census ,
+					   Class<T> imageType ) {
 		double maxError = (regionRadiusX*2+1)*(regionRadiusY*2+1)*maxPerPixelError;
 
 		// 3 regions are used not just one in this case
 		if( whichAlg == DisparityAlgorithms.RECT_FIVE )
 			maxError *= 3;
 
-		DisparitySelect select;
-		if( imageType == ImageUInt8.class || imageType == ImageSInt16.class ) {
-			select = selectDisparitySubpixel_S32((int) maxError, validateRtoL, texture);
-		} else if( imageType == ImageFloat32.class ) {
-			select = selectDisparitySubpixel_F32((int) maxError, validateRtoL, texture);
-		} else {
-			throw new IllegalArgumentException("Unknown image type");
-		}
-
-		DisparityScoreRowFormat<T,ImageFloat32> alg = null;
-
-		switch( whichAlg ) {
-			case RECT:
-				if( imageType == ImageUInt8.class ) {
-					alg = FactoryStereoDisparityAlgs.scoreDisparitySadRect_U8(minDisparity,
-							maxDisparity,regionRadiusX,regionRadiusY,select);
-				} else if( imageType == ImageSInt16.class ) {
-					alg = FactoryStereoDisparityAlgs.scoreDisparitySadRect_S16(minDisparity,
-							maxDisparity, regionRadiusX, regionRadiusY, select);
-				} else if( imageType == ImageFloat32.class ) {
-					alg = FactoryStereoDisparityAlgs.scoreDisparitySadRect_F32(minDisparity,
-							maxDisparity, regionRadiusX, regionRadiusY, select);
-				}
-				break;
+		DisparityScoreRowFormat<T,ImageFloat32> alg =
+				createScore(whichAlg,minDisparity,maxDisparity,regionRadiusX,regionRadiusY,census,
+						true,(int)maxError,validateRtoL,texture,imageType);
 
-			case RECT_FIVE:
-				if( imageType == ImageUInt8.class ) {
-					alg = FactoryStereoDisparityAlgs.scoreDisparitySadRectFive_U8(minDisparity,
-							maxDisparity,regionRadiusX,regionRadiusY,select);
-				} else if( imageType == ImageSInt16.class ) {
-					alg = FactoryStereoDisparityAlgs.scoreDisparitySadRectFive_S16(minDisparity,
-							maxDisparity, regionRadiusX, regionRadiusY, select);
-				} else if( imageType == ImageFloat32.class ) {
-					alg = FactoryStereoDisparityAlgs.scoreDisparitySadRectFive_F32(minDisparity,
-							maxDisparity, regionRadiusX, regionRadiusY, select);
-				}
-				break;
-
-			default:
-				throw new IllegalArgumentException("Unknown algorithms "+whichAlg);
+		return new WrapDisparitySadRect<T,ImageFloat32>(alg);
+	}
 
-		}
-		if( alg == null)
-			throw new RuntimeException("Image type not supported: "+imageType.getSimpleName() );
+	/**
+	 * <p>
+	 * Semi-Global Matching (SGM) dense disparity with pixel level accuracy.  Produces smoother results than the
+	 * region based algorithms in areas with little texture, but is more computationally expensive.
+	 * </p>
+	 *
+	 * @see boofcv.alg.feature.disparity.sgm.SgmStereoDisparity
+	 *
+	 * @param config Configuration
+	 * @return SGM disparity algorithm
+	 */
+	public static StereoDisparity<ImageUInt8,ImageUInt8> sgm( ConfigSgm config ) {
+		return new WrapDisparitySgm<ImageUInt8,ImageUInt8>(
+				FactoryStereoDisparityAlgs.sgm(config, ImageUInt8.class));
+	}
 
-		return new WrapDisparitySadRect<T,ImageFloat32>(alg);
+	/**
+	 * <p>
+	 * Semi-Global Matching (SGM) dense disparity with sub-pixel accuracy.
+	 * </p>
+	 *
+	 * @see boofcv.alg.feature.disparity.sgm.SgmStereoDisparity
+	 *
+	 * @param config Configuration
+	 * @return SGM disparity algorithm
+	 */
+	public static StereoDisparity<ImageUInt8,ImageFloat32> sgmSubpixel( ConfigSgm config ) {
+		return new WrapDisparitySgm<ImageUInt8,ImageFloat32>(
+				FactoryStereoDisparityAlgs.sgm(config, ImageFloat32.class));
 	}
 
 	/**
@@ -273,4 +267,97 @@ public class FactoryStereoDisparity {
 		} else
 			throw new RuntimeException("Image type not supported: "+imageType.getSimpleName() );
 	}
+
+	/**
+	 * Creates the dense disparity algorithm.  If {@link BoofConcurrency#USE_CONCURRENT} is true then rows are
+	 * processed in parallel using {@link DisparityScoreRowFormat_MT}.
+	 */
+	private static <T extends ImageSingleBand, D extends ImageSingleBand> DisparityScoreRowFormat<T,D>
+	createScore( final DisparityAlgorithms whichAlg ,
+				 final int minDisparity , final int maxDisparity,
+				 final int regionRadiusX, final int regionRadiusY , final CensusType census ,
+				 final boolean subpixel , final int maxError , final int validateRtoL , final double texture ,
+				 final Class<T> imageType ) {
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			return new DisparityScoreRowFormat_MT<T,D>(new WorkerFactory<DisparityScoreRowFormat<T, D>>() {
+				@Override
+				public DisparityScoreRowFormat<T, D> newInstance() {
+					DisparitySelect select = createSelect(subpixel,maxError,validateRtoL,texture,imageType);
+					return createScore(whichAlg,minDisparity,maxDisparity,regionRadiusX,regionRadiusY,census,select,imageType);
+				}
+			});
+		} else {
+			DisparitySelect select = createSelect(subpixel,maxError,validateRtoL,texture,imageType);
+			return createScore(whichAlg,minDisparity,maxDisparity,regionRadiusX,regionRadiusY,census,select,imageType);
+		}
+	}
+
+	private static <T extends ImageSingleBand>
+	DisparitySelect createSelect( boolean subpixel , int maxError , int validateRtoL , double texture ,
+								  Class<T> imageType ) {
+		if( imageType == ImageUInt8.class || imageType == ImageSInt16.class ) {
+			if( subpixel )
+				return selectDisparitySubpixel_S32(maxError, validateRtoL, texture);
+			else
+				return selectDisparity_S32(maxError, validateRtoL, texture);
+		} else if( imageType == ImageFloat32.class ) {
+			if( subpixel )
+				return selectDisparitySubpixel_F32(maxError, validateRtoL, texture);
+			else
+				return selectDisparity_F32(maxError, validateRtoL, texture);
+		} else {
+			throw new IllegalArgumentException("Unknown image type");
+		}
+	}
+
+	private static <T extends ImageSingleBand, D extends ImageSingleBand> DisparityScoreRowFormat<T,D>
+	createScore( DisparityAlgorithms whichAlg ,
+				 int minDisparity , int maxDisparity,
+				 int regionRadiusX, int regionRadiusY , CensusType census ,
+				 DisparitySelect select , Class<T> imageType ) {
+		DisparityScoreRowFormat alg = null;
+
+		switch( whichAlg ) {
+			case RECT:
+				if( imageType == ImageUInt8.class ) {
+					alg = FactoryStereoDisparityAlgs.scoreDisparitySadRect_U8(minDisparity,
+							maxDisparity,regionRadiusX,regionRadiusY,select);
+				} else if( imageType == ImageSInt16.class ) {
+					alg = FactoryStereoDisparityAlgs.scoreDisparitySadRect_S16(minDisparity,
+							maxDisparity, regionRadiusX, regionRadiusY, select);
+				} else if( imageType == ImageFloat32.class ) {
+					alg = FactoryStereoDisparityAlgs.scoreDisparitySadRect_F32(minDisparity,
+							maxDisparity, regionRadiusX, regionRadiusY, select);
+				}
+				break;
+
+			case RECT_FIVE:
+				if( imageType == ImageUInt8.class ) {
+					alg = FactoryStereoDisparityAlgs.scoreDisparitySadRectFive_U8(minDisparity,
+							maxDisparity,regionRadiusX,regionRadiusY,select);
+				} else if( imageType == ImageSInt16.class ) {
+					alg = FactoryStereoDisparityAlgs.scoreDisparitySadRectFive_S16(minDisparity,
+							maxDisparity, regionRadiusX, regionRadiusY, select);
+				} else if( imageType == ImageFloat32.class ) {
+					alg = FactoryStereoDisparityAlgs.scoreDisparitySadRectFive_F32(minDisparity,
+							maxDisparity, regionRadiusX, regionRadiusY, select);
+				}
+				break;
+
+			case RECT_CENSUS:
+				if( imageType == ImageUInt8.class ) {
+					alg = FactoryStereoDisparityAlgs.scoreDisparityCensusRect(minDisparity,
+							maxDisparity, regionRadiusX, regionRadiusY, census, select);
+				}
+				break;
+
+			default:
+				throw new IllegalArgumentException("Unknown algorithms "+whichAlg);
+
+		}
+		if( alg == null)
+			throw new RuntimeException("Image type not supported: "+imageType.getSimpleName() );
+
+		return alg;
+	}
 }
@@ -20,6 +20,9 @@ package boofcv.factory.feature.disparity;
 
 import boofcv.alg.feature.disparity.*;
 import boofcv.alg.feature.disparity.impl.*;
+import boofcv.alg.feature.disparity.sgm.*;
+import boofcv.alg.transform.census.CensusType;
+import boofcv.concurrency.BoofConcurrency;
 import boofcv.struct.image.ImageFloat32;
 import boofcv.struct.image.ImageSInt16;
 import boofcv.struct.image.ImageSingleBand;
@@ -151,4 +154,59 @@ public class FactoryStereoDisparityAlgs {
 		return new ImplDisparitySparseScoreSadRect_F32(minDisparity,
 				maxDisparity,regionRadiusX,regionRadiusY);
 	}
+
+	public static <T extends ImageSingleBand> DisparityScoreCensusRect<T>
+	scoreDisparityCensusRect( int minDisparity , int maxDisparity,
+							  int regionRadiusX, int regionRadiusY, CensusType type ,
+							  DisparitySelect<int[],T> computeDisparity)
+	{
+		return new DisparityScoreCensusRect<T>(minDisparity,
+				maxDisparity,regionRadiusX,regionRadiusY,type,computeDisparity);
+	}
+
+	/**
+	 * Creates the function used to compute the cost of matching two pixels in Semi-Global Matching
+	 *
+	 * @param type Type of cost function
+	 * @param census Which census transform is used.  Ignored if not a census cost.
+	 */
+	public static SgmDisparityCost<ImageUInt8> sgmCost( SgmCostType type , CensusType census ) {
+		switch( type ) {
+			case ABSOLUTE_DIFFERENCE:
+				return new SgmCostAbsoluteDifference();
+
+			case CENSUS:
+				return new SgmCostCensus(census);
+
+			default:
+				throw new IllegalArgumentException("Unknown cost "+type);
+		}
+	}
+
+	/**
+	 * Creates Semi-Global Matching.  If {@link BoofConcurrency#USE_CONCURRENT} is true then the concurrent
+	 * implementation is returned.
+	 *
+	 * @param config Configuration
+	 * @param disparityType Type of disparity image.  ImageUInt8 or ImageFloat32 for sub-pixel accuracy.
+	 */
+	public static <D extends ImageSingleBand> SgmStereoDisparity<ImageUInt8,D>
+	sgm( ConfigSgm config , Class<D> disparityType ) {
+		config.checkValidity();
+
+		SgmDisparityCost<ImageUInt8> cost = sgmCost(config.cost, config.census);
+
+		// penalties are relative to the size of the cost
+		int penalty1 = config.penaltySmallChange > 0 ? config.penaltySmallChange : Math.max(1,cost.getMaxCost()/8);
+		int penalty2 = config.penaltyLargeChange > 0 ? config.penaltyLargeChange : cost.getMaxCost();
+		penalty2 = Math.max(penalty1,penalty2);
+
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			return new SgmStereoDisparity_MT<ImageUInt8,D>(cost,config.minDisparity,config.maxDisparity,
+					penalty1,penalty2,config.paths,config.validateRtoL,disparityType);
+		} else {
+			return new SgmStereoDisparity<ImageUInt8,D>(cost,config.minDisparity,config.maxDisparity,
+					penalty1,penalty2,config.paths,config.validateRtoL,disparityType);
+		}
+	}
 }
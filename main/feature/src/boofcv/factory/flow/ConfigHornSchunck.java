@@ -19,6 +19,18 @@ public class ConfigHornSchunck implements Configuration {
 	 */
 	public int numIterations = 1000;
 
+	/**
+	 * Stop iterating when the average squared change in flow per pixel is less than this value.
+	 * If <= 0 then it will always run for numIterations.
+	 */
+	public float convergeTolerance = 0;
+
+	/**
+	 * If true then the flow from the previous frame is used as the initial estimate.  Only use when
+	 * processing a video sequence.
+	 */
+	public boolean warmStart = false;
+
 	@Override
 	public void checkValidity() {
 
@@ -62,6 +62,12 @@ public class ConfigHornSchunckPyramid implements Configuration {
 	 */
 	public int pyrMaxLayers = 10;
 
+	/**
+	 * If true then the flow from the previous frame is used as the initial estimate.  Only use when
+	 * processing a video sequence.
+	 */
+	public boolean warmStart = false;
+
 	/**
 	 * Type of interpolation used.  Bilinear recommended
 	 */
@@ -25,6 +25,8 @@ import boofcv.alg.flow.*;
 import boofcv.alg.interpolate.InterpolatePixelS;
 import boofcv.alg.tracker.klt.PkltConfig;
 import boofcv.alg.tracker.klt.PyramidKltTracker;
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.concurrency.WorkerFactory;
 import boofcv.factory.filter.derivative.FactoryDerivative;
 import boofcv.factory.interpolate.FactoryInterpolation;
 import boofcv.factory.tracker.FactoryTrackerAlg;
@@ -78,7 +80,8 @@ public class FactoryDenseOpticalFlow {
 	}
 
 	/**
-	 * Creates a pyramidal block
+	 * Creates a pyramidal block.  If {@link BoofConcurrency#USE_CONCURRENT} is true then
+	 * {@link DenseOpticalFlowBlockPyramid_MT} is used.
 	 *
 	 * @see boofcv.alg.flow.DenseOpticalFlowBlockPyramid
 	 * @see boofcv.alg.flow.UtilDenseOpticalFlow#standardPyramid(int, int, double, double, int, int, Class)
@@ -94,16 +97,32 @@ public class FactoryDenseOpticalFlow {
 			config = new ConfigOpticalFlowBlockPyramid();
 
 		DenseOpticalFlowBlockPyramid<T> alg;
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			final ConfigOpticalFlowBlockPyramid _config = config;
+			final Class<T> _imageType = imageType;
+			alg = new DenseOpticalFlowBlockPyramid_MT<T>(new WorkerFactory<DenseOpticalFlowBlockPyramid<T>>() {
+				@Override
+				public DenseOpticalFlowBlockPyramid<T> newInstance() {
+					return regionAlg(_config, _imageType);
+				}
+			});
+		} else {
+			alg = regionAlg(config, imageType);
+		}
+
+		return new FlowBlock_to_DenseOpticalFlow<T>(alg,config.pyramidScale,config.maxPyramidLayers,imageType);
+	}
+
+	private static <T extends ImageSingleBand>
+	DenseOpticalFlowBlockPyramid<T> regionAlg( ConfigOpticalFlowBlockPyramid config , Class<T> imageType ) {
 		if( imageType == ImageUInt8.class )
-			alg = (DenseOpticalFlowBlockPyramid)new DenseOpticalFlowBlockPyramid.U8(
+			return (DenseOpticalFlowBlockPyramid)new DenseOpticalFlowBlockPyramid.U8(
 					config.searchRadius,config.regionRadius,config.maxPerPixelError);
 		else if( imageType == ImageFloat32.class )
-			alg = (DenseOpticalFlowBlockPyramid)new DenseOpticalFlowBlockPyramid.F32(
+			return (DenseOpticalFlowBlockPyramid)new DenseOpticalFlowBlockPyramid.F32(
 					config.searchRadius,config.regionRadius,config.maxPerPixelError);
 		else
 			throw new IllegalArgumentException("Unsupported image type "+imageType);
-
-		return new FlowBlock_to_DenseOpticalFlow<T>(alg,config.pyramidScale,config.maxPyramidLayers,imageType);
 	}
 
 	/**
@@ -130,11 +149,17 @@ public class FactoryDenseOpticalFlow {
 		else
 			throw new IllegalArgumentException("Unsupported image type "+imageType);
 
-		return new HornSchunck_to_DenseOpticalFlow<T,D>(alg, ImageType.single(imageType));
+		alg.setConvergeTolerance(config.convergeTolerance);
+
+		HornSchunck_to_DenseOpticalFlow<T,D> ret =
+				new HornSchunck_to_DenseOpticalFlow<T,D>(alg, ImageType.single(imageType));
+		ret.setWarmStart(config.warmStart);
+		return ret;
 	}
 
 	/**
-	 * Creates an instance of {@link HornSchunckPyramid}
+	 * Creates an instance of {@link HornSchunckPyramid}.  If {@link BoofConcurrency#USE_CONCURRENT} is true then
+	 * {@link HornSchunckPyramid_MT} is used.
 	 *
 	 * @see HornSchunckPyramid
 	 *
@@ -150,11 +175,24 @@ public class FactoryDenseOpticalFlow {
 		InterpolatePixelS<ImageFloat32> interpolate =
 				FactoryInterpolation.createPixelS(0,255,config.interpolation, ImageFloat32.class);
 
-		HornSchunckPyramid<T> alg = new HornSchunckPyramid<T>(config,interpolate);
+		HornSchunckPyramid<T> alg;
+		if( BoofConcurrency.USE_CONCURRENT )
+			alg = new HornSchunckPyramid_MT<T>(config,interpolate);
+		else
+			alg = new HornSchunckPyramid<T>(config,interpolate);
 
-		return new HornSchunckPyramid_to_DenseOpticalFlow<T>(alg,imageType);
+		HornSchunckPyramid_to_DenseOpticalFlow<T> ret = new HornSchunckPyramid_to_DenseOpticalFlow<T>(alg,imageType);
+		ret.setWarmStart(config.warmStart);
+		return ret;
 	}
 
+	/**
+	 * Creates an instance of {@link BroxWarpingSpacial}.  If {@link BoofConcurrency#USE_CONCURRENT} is true then
+	 * {@link BroxWarpingSpacial_MT} is used.
+	 *
+	 * @param config Configuration parameters.  If null defaults will be used.
+	 * @return Dense optical flow implementation of BroxWarpingSpacial
+	 */
 	public static <T extends ImageSingleBand>
 	DenseOpticalFlow<T> broxWarping( ConfigBroxWarping config , Class<T> imageType )
 	{
@@ -164,8 +202,14 @@ public class FactoryDenseOpticalFlow {
 		InterpolatePixelS<ImageFloat32> interpolate =
 				FactoryInterpolation.createPixelS(0,255,config.interpolation, ImageFloat32.class);
 
-		BroxWarpingSpacial<T> alg = new BroxWarpingSpacial<T>(config,interpolate);
+		BroxWarpingSpacial<T> alg;
+		if( BoofConcurrency.USE_CONCURRENT )
+			alg = new BroxWarpingSpacial_MT<T>(config,interpolate);
+		else
+			alg = new BroxWarpingSpacial<T>(config,interpolate);
 
-		return new BroxWarpingSpacial_to_DenseOpticalFlow<T>(alg,imageType);
+		BroxWarpingSpacial_to_DenseOpticalFlow<T> ret = new BroxWarpingSpacial_to_DenseOpticalFlow<T>(alg,imageType);
+		ret.setWarmStart(config.warmStart);
+		return ret;
 	}
 }
@@ -47,6 +47,11 @@ public class ConfigSegmentMeanShift {
 	 * Connection rule when segmenting disconnected regions. Try FOUR
 	 */
 	public ConnectRule connectRule = ConnectRule.FOUR;
+	/**
+	 * Width of the spacial bins used to skip samples which are too far away in color to have any weight.
+	 * Does not change the results.  If &le; 0 then samples are not skipped. Try 8
+	 */
+	public int pruneBinWidth = 8;
 
 
 	public ConfigSegmentMeanShift() {
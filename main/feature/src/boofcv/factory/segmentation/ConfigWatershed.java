@@ -37,6 +37,13 @@ public class ConfigWatershed {
 	 */
 	public int minimumRegionSize = 45;
 
+	/**
+	 * If true and {@link boofcv.concurrency.BoofConcurrency#USE_CONCURRENT} is true then the image is split into
+	 * tiles which are flooded in parallel and then merged.  The number of regions is the same, but the shape of
+	 * regions next to tile borders can be different.
+	 */
+	public boolean concurrentTiles = false;
+
 	public ConfigWatershed() {
 	}
 
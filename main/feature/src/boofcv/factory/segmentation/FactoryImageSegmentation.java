@@ -22,7 +22,7 @@ import boofcv.abst.segmentation.*;
 import boofcv.alg.segmentation.fh04.SegmentFelzenszwalbHuttenlocher04;
 import boofcv.alg.segmentation.ms.SegmentMeanShift;
 import boofcv.alg.segmentation.slic.SegmentSlic;
-import boofcv.alg.segmentation.watershed.WatershedVincentSoille1991;
+import boofcv.alg.segmentation.watershed.WatershedBucketQueue;
 import boofcv.struct.image.ImageBase;
 import boofcv.struct.image.ImageType;
 
@@ -63,12 +63,12 @@ public class FactoryImageSegmentation {
 	}
 
 	/**
-	 * Creates an instance of {@link WatershedVincentSoille1991}.  Watershed works better when initial seeds
+	 * Creates an instance of {@link WatershedBucketQueue}.  Watershed works better when initial seeds
 	 * are provided.  In this adaptation of watershed to {@link boofcv.abst.segmentation.ImageSuperpixels} only the more basic algorithm
 	 * is used where each local minima is a region, which causes over segmentation.  Watershed also only can process
 	 * gray scale U8 images.  All other image types are converted into that format.
 	 *
-	 * @see WatershedVincentSoille1991
+	 * @see WatershedBucketQueue
 	 *
 	 * @param config Configuration.  If null default is used.
 	 * @param <T>
@@ -80,7 +80,8 @@ public class FactoryImageSegmentation {
 		if( config == null )
 			config = new ConfigWatershed();
 
-		WatershedVincentSoille1991 watershed = FactorySegmentationAlg.watershed(config.connectRule);
+		WatershedBucketQueue watershed =
+				FactorySegmentationAlg.watershedBucketQueue(config.connectRule,config.concurrentTiles);
 
 		Watershed_to_ImageSuperpixels ret = new Watershed_to_ImageSuperpixels<T>(watershed,config.minimumRegionSize,config.connectRule);
 		ret.setImageType(imageType);
@@ -23,11 +23,16 @@ import boofcv.alg.interpolate.InterpolatePixelS;
 import boofcv.alg.interpolate.TypeInterpolate;
 import boofcv.alg.segmentation.ComputeRegionMeanColor;
 import boofcv.alg.segmentation.fh04.FhEdgeWeights;
+import boofcv.alg.segmentation.fh04.FhEdgeWeights_MT;
 import boofcv.alg.segmentation.fh04.SegmentFelzenszwalbHuttenlocher04;
 import boofcv.alg.segmentation.fh04.impl.*;
 import boofcv.alg.segmentation.ms.*;
 import boofcv.alg.segmentation.slic.*;
+import boofcv.alg.segmentation.watershed.WatershedBucketQueue;
+import boofcv.alg.segmentation.watershed.WatershedBucketQueue_MT;
 import boofcv.alg.segmentation.watershed.WatershedVincentSoille1991;
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.concurrency.WorkerFactory;
 import boofcv.factory.interpolate.FactoryInterpolation;
 import boofcv.struct.ConnectRule;
 import boofcv.struct.image.ImageBase;
@@ -70,14 +75,14 @@ public class FactorySegmentationAlg {
 
 	/**
 	 * Creates an instance of {@link boofcv.alg.segmentation.ms.SegmentMeanShift}.  Uniform distributions are used for spacial and color
-	 * weights.
+	 * weights.  If {@link BoofConcurrency#USE_CONCURRENT} is true then {@link SegmentMeanShiftSearch_MT} is used.
 	 *
 	 * @param config Specify configuration for mean-shift
 	 * @param imageType Type of input image
 	 * @return SegmentMeanShift
 	 */
 	public static<T extends ImageBase>
-	SegmentMeanShift<T> meanShift( ConfigSegmentMeanShift config,  ImageType<T> imageType )
+	SegmentMeanShift<T> meanShift( ConfigSegmentMeanShift config,  final ImageType<T> imageType )
 	{
 		if( config == null )
 			config = new ConfigSegmentMeanShift();
@@ -85,6 +90,35 @@ public class FactorySegmentationAlg {
 		int spacialRadius = config.spacialRadius;
 		float colorRadius = config.colorRadius;
 
+		SegmentMeanShiftSearch<T> search;
+
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			final ConfigSegmentMeanShift _config = config;
+			search = new SegmentMeanShiftSearch_MT<T>(new WorkerFactory<SegmentMeanShiftSearch<T>>() {
+				@Override
+				public SegmentMeanShiftSearch<T> newInstance() {
+					return meanShiftSearch(_config, imageType);
+				}
+			});
+		} else {
+			search = meanShiftSearch(config, imageType);
+		}
+
+		ComputeRegionMeanColor<T> regionColor = regionMeanColor(imageType);
+		MergeRegionMeanShift merge = new MergeRegionMeanShift(spacialRadius/2+1,Math.max(1,colorRadius/2));
+
+		MergeSmallRegions<T> prune = config.minimumRegionSize >= 2 ?
+				new MergeSmallRegions<T>(config.minimumRegionSize,config.connectRule,regionColor) : null;
+
+		return new SegmentMeanShift<T>(search,merge,prune,config.connectRule);
+	}
+
+	private static<T extends ImageBase>
+	SegmentMeanShiftSearch<T> meanShiftSearch( ConfigSegmentMeanShift config,  ImageType<T> imageType )
+	{
+		int spacialRadius = config.spacialRadius;
+		float colorRadius = config.colorRadius;
+
 		int maxIterations = 20;
 		float convergenceTol = 0.1f;
 
@@ -101,13 +135,10 @@ public class FactorySegmentationAlg {
 					spacialRadius,spacialRadius,colorRadius,config.fast,imageType);
 		}
 
-		ComputeRegionMeanColor<T> regionColor = regionMeanColor(imageType);
-		MergeRegionMeanShift merge = new MergeRegionMeanShift(spacialRadius/2+1,Math.max(1,colorRadius/2));
+		// bilinear interpolation is used so pruning samples won't change the results
+		search.setPruneBinWidth(config.pruneBinWidth);
 
-		MergeSmallRegions<T> prune = config.minimumRegionSize >= 2 ?
-				new MergeSmallRegions<T>(config.minimumRegionSize,config.connectRule,regionColor) : null;
-
-		return new SegmentMeanShift<T>(search,merge,prune,config.connectRule);
+		return search;
 	}
 
 	public static <T extends ImageBase>
@@ -150,6 +181,14 @@ public class FactorySegmentationAlg {
 		throw new IllegalArgumentException("Unknown imageType or connect rule");
 	}
 
+	/**
+	 * Creates an instance of {@link SegmentFelzenszwalbHuttenlocher04}.  If {@link BoofConcurrency#USE_CONCURRENT}
+	 * is true then edge weights are computed with {@link FhEdgeWeights_MT}.
+	 *
+	 * @param config Configuration.  If null the default is used.
+	 * @param imageType Type of input image
+	 * @return Felzenszwalb-Huttenlocher segmentation
+	 */
 	public static<T extends ImageBase>
 	SegmentFelzenszwalbHuttenlocher04<T> fh04(ConfigFh04 config, ImageType<T> imageType)
 	{
@@ -159,6 +198,10 @@ public class FactorySegmentationAlg {
 
 		FhEdgeWeights<T> edgeWeights = weightsFelzenszwalb04(config.connectRule,imageType);
 
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			edgeWeights = new FhEdgeWeights_MT<T>(edgeWeights);
+		}
+
 		SegmentFelzenszwalbHuttenlocher04<T> alg =
 				new SegmentFelzenszwalbHuttenlocher04<T>(config.K,config.minimumRegionSize,edgeWeights);
 
@@ -169,33 +212,53 @@ public class FactorySegmentationAlg {
 		return alg;
 	}
 
+	/**
+	 * Creates an instance of {@link SegmentSlic}.  If {@link BoofConcurrency#USE_CONCURRENT} is true then
+	 * {@link SegmentSlic_MT} is used.
+	 *
+	 * @param config Configuration.  Can't be null since the number of regions must be specified.
+	 * @param imageType Type of input image
+	 * @return SLIC superpixels
+	 */
 	public static<T extends ImageBase>
 	SegmentSlic<T> slic( ConfigSlic config , ImageType<T> imageType )
 	{
 		if( config == null )
 			throw new IllegalArgumentException("No default configuration since the number of segments must be specified.");
 
+		SegmentSlic<T> alg = null;
+
 		if( imageType.getFamily() == ImageType.Family.SINGLE_BAND ) {
 				switch( imageType.getDataType() ) {
 					case U8:
-						return (SegmentSlic)new SegmentSlic_U8(config.numberOfRegions,
+						alg = (SegmentSlic)new SegmentSlic_U8(config.numberOfRegions,
 								config.spacialWeight,config.totalIterations,config.connectRule);
+						break;
 					case F32:
-						return (SegmentSlic)new SegmentSlic_F32(config.numberOfRegions,
+						alg = (SegmentSlic)new SegmentSlic_F32(config.numberOfRegions,
 								config.spacialWeight,config.totalIterations,config.connectRule);
+						break;
 				}
 		} else if( imageType.getFamily() == ImageType.Family.MULTI_SPECTRAL ) {
 			int N = imageType.getNumBands();
 				switch( imageType.getDataType() ) {
 					case U8:
-						return (SegmentSlic)new SegmentSlic_MsU8(config.numberOfRegions,
+						alg = (SegmentSlic)new SegmentSlic_MsU8(config.numberOfRegions,
 								config.spacialWeight,config.totalIterations,config.connectRule,N);
+						break;
 					case F32:
-						return (SegmentSlic)new SegmentSlic_MsF32(config.numberOfRegions,
+						alg = (SegmentSlic)new SegmentSlic_MsF32(config.numberOfRegions,
 								config.spacialWeight,config.totalIterations,config.connectRule,N);
+						break;
 				}
 		}
-		throw new IllegalArgumentException("Unknown imageType or connect rule");
+		if( alg == null )
+			throw new IllegalArgumentException("Unknown imageType or connect rule");
+
+		if( BoofConcurrency.USE_CONCURRENT )
+			return new SegmentSlic_MT<T>(alg);
+		else
+			return alg;
 	}
 
 	public static WatershedVincentSoille1991 watershed( ConnectRule rule ) {
@@ -206,4 +269,19 @@ public class FactorySegmentationAlg {
 		else
 			throw new IllegalArgumentException("Unknown connectivity rule");
 	}
+
+	/**
+	 * Creates an instance of {@link WatershedBucketQueue}.  If {@link BoofConcurrency#USE_CONCURRENT} is true
+	 * and concurrentTiles is true then {@link WatershedBucketQueue_MT} is used.
+	 *
+	 * @param rule Connectivity rule
+	 * @param concurrentTiles If true then the image can be split into tiles which are processed in parallel
+	 * @return Bucket queue watershed
+	 */
+	public static WatershedBucketQueue watershedBucketQueue( ConnectRule rule , boolean concurrentTiles ) {
+		if( BoofConcurrency.USE_CONCURRENT && concurrentTiles )
+			return new WatershedBucketQueue_MT(rule);
+		else
+			return new WatershedBucketQueue(rule);
+	}
 }
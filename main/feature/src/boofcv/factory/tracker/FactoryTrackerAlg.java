@@ -28,6 +28,9 @@ import boofcv.alg.tracker.klt.KltConfig;
 import boofcv.alg.tracker.klt.KltTracker;
 import boofcv.alg.tracker.klt.PkltConfig;
 import boofcv.alg.tracker.klt.PyramidKltTracker;
+import boofcv.alg.tracker.klt.PyramidKltTracker_MT;
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.concurrency.WorkerFactory;
 import boofcv.factory.interpolate.FactoryInterpolation;
 import boofcv.struct.feature.TupleDesc;
 import boofcv.struct.image.ImageSingleBand;
@@ -69,6 +72,7 @@ public class FactoryTrackerAlg {
 	 * Creates a {@link PyramidKltTracker}.
 	 *
 	 * NOTE: The pyramid's structure is determined by the input pyramid that is processed.
+	 * If {@link BoofConcurrency#USE_CONCURRENT} is true then {@link PyramidKltTracker_MT} is returned.
 	 *
 	 * @param config KLT configuration
 	 * @param imageType Type of input image
@@ -87,11 +91,19 @@ public class FactoryTrackerAlg {
 		if( derivType == null )
 			derivType = GImageDerivativeOps.getDerivativeType(imageType);
 
-		InterpolateRectangle<I> interpInput = FactoryInterpolation.<I>bilinearRectangle(imageType);
-		InterpolateRectangle<D> interpDeriv = FactoryInterpolation.<D>bilinearRectangle(derivType);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			final KltConfig _config = config;
+			final Class<I> _imageType = imageType;
+			final Class<D> _derivType = derivType;
+			return new PyramidKltTracker_MT<I, D>(new WorkerFactory<KltTracker<I, D>>() {
+				@Override
+				public KltTracker<I, D> newInstance() {
+					return klt(_config, _imageType, _derivType);
+				}
+			});
+		}
 
-		KltTracker<I, D> klt = new KltTracker<I, D>(interpInput, interpDeriv, config);
-		return new PyramidKltTracker<I, D>(klt);
+		return new PyramidKltTracker<I, D>(klt(config, imageType, derivType));
 	}
 
 	/**
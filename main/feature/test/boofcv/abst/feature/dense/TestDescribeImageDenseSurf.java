@@ -0,0 +1,99 @@
+/*
+ * Copyright (c) 2011-2015, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.abst.feature.dense;
+
+import boofcv.abst.feature.describe.ConfigSurfDescribe;
+import boofcv.abst.feature.describe.DescribeRegionPoint;
+import boofcv.alg.misc.ImageMiscOps;
+import boofcv.factory.feature.dense.FactoryDescribeImageDense;
+import boofcv.factory.feature.describe.FactoryDescribeRegionPoint;
+import boofcv.struct.feature.SurfFeature;
+import boofcv.struct.image.ImageUInt8;
+import georegression.struct.point.Point2D_I32;
+import org.ddogleg.struct.FastQueue;
+import org.junit.Test;
+
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * @author Peter Abeles
+ */
+public class TestDescribeImageDenseSurf {
+
+	Random rand = new Random(234);
+
+	/**
+	 * Should produce the same output as the generic dense implementation with a sparse SURF descriptor
+	 */
+	@Test
+	public void compareToGeneric() {
+		ImageUInt8 image = new ImageUInt8(120,95);
+		ImageMiscOps.fillUniform(image, rand, 0, 200);
+
+		ConfigDenseSurf config = new ConfigDenseSurf(12,9,1.5);
+
+		DescribeImageDense<ImageUInt8,SurfFeature> alg =
+				FactoryDescribeImageDense.surfFast(config, ImageUInt8.class);
+
+		DescribeRegionPoint<ImageUInt8,SurfFeature> sparse =
+				FactoryDescribeRegionPoint.surfFast(config.surf, ImageUInt8.class);
+		ConfigSurfDescribe.Speed c = config.surf;
+		int featureWidth = (int)Math.ceil(config.scale*(c.widthLargeGrid*c.widthSubRegion+c.widthSample));
+		GenericDenseDescribeImageDense<ImageUInt8,SurfFeature> generic =
+				new GenericDenseDescribeImageDense<ImageUInt8,SurfFeature>(sparse,config.scale,featureWidth,
+						config.periodColumns,config.periodRows);
+
+		FastQueue<SurfFeature> descFound = createQueue(alg);
+		FastQueue<SurfFeature> descExpected = createQueue(alg);
+		FastQueue<Point2D_I32> locFound = new FastQueue<Point2D_I32>(Point2D_I32.class,true);
+		FastQueue<Point2D_I32> locExpected = new FastQueue<Point2D_I32>(Point2D_I32.class,true);
+
+		alg.process(image, descFound, locFound);
+		generic.process(image, descExpected, locExpected);
+
+		assertEquals(locExpected.size, locFound.size);
+		assertEquals(descExpected.size, descFound.size);
+		for( int i = 0; i < locFound.size; i++ ) {
+			assertEquals(locExpected.get(i).x, locFound.get(i).x);
+			assertEquals(locExpected.get(i).y, locFound.get(i).y);
+
+			SurfFeature a = descExpected.get(i);
+			SurfFeature b = descFound.get(i);
+			for( int j = 0; j < a.size(); j++ ) {
+				assertEquals(a.value[j], b.value[j], 1e-8);
+			}
+			assertEquals(a.laplacianPositive, b.laplacianPositive);
+		}
+
+		// should be able to process an image of a different size
+		ImageUInt8 smaller = new ImageUInt8(60,50);
+		alg.process(smaller, descFound, locFound);
+	}
+
+	private static FastQueue<SurfFeature> createQueue( final DescribeImageDense<?,SurfFeature> alg ) {
+		return new FastQueue<SurfFeature>(SurfFeature.class,true) {
+			@Override
+			protected SurfFeature createInstance() {
+				return alg.createDescription();
+			}
+		};
+	}
+}
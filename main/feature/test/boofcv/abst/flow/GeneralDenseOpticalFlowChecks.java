@@ -18,6 +18,7 @@
 
 package boofcv.abst.flow;
 
+import boofcv.alg.filter.blur.GBlurImageOps;
 import boofcv.alg.misc.GImageMiscOps;
 import boofcv.core.image.GeneralizedImageOps;
 import boofcv.struct.flow.ImageFlow;
@@ -25,6 +26,7 @@ import boofcv.struct.image.ImageSingleBand;
 import boofcv.testing.BoofTesting;
 import org.junit.Test;
 
+import java.lang.reflect.Array;
 import java.util.Random;
 
 import static org.junit.Assert.*;
@@ -195,6 +197,55 @@ public abstract class GeneralDenseOpticalFlowChecks<T extends ImageSingleBand>
 		}
 	}
 
+	/**
+	 * In a video sequence with constant motion, using the previous flow should require fewer iterations.  Only
+	 * called by algorithms which support warm starts.
+	 *
+	 * @param cold Algorithm with warm start turned off
+	 * @param warm Algorithm with warm start turned on
+	 */
+	protected void checkWarmStart( DenseOpticalFlow<T> cold , DenseOpticalFlow<T> warm ) {
+		int width = 60, height = 50;
+
+		T noise = GeneralizedImageOps.createSingleBand(imageType,width+20,height+20);
+		T texture = GeneralizedImageOps.createSingleBand(imageType,width+20,height+20);
+		GImageMiscOps.fillUniform(noise,new Random(234),0,255);
+		GBlurImageOps.gaussian(noise,texture,-1,4,null);
+
+		T frames[] = (T[])Array.newInstance(imageType,3);
+		for( int i = 0; i < frames.length; i++ ) {
+			frames[i] = (T)texture.subimage(2*i,i,2*i+width,i+height,null).clone();
+		}
+
+		ImageFlow flowCold = new ImageFlow(width,height);
+		ImageFlow flowWarm = new ImageFlow(width,height);
+
+		cold.process(frames[0],frames[1],flowCold);
+		warm.process(frames[0],frames[1],flowWarm);
+		// nothing to start from in the first frame
+		assertTrue(getIterations(cold) == getIterations(warm));
+
+		cold.process(frames[1],frames[2],flowCold);
+		warm.process(frames[1],frames[2],flowWarm);
+		assertTrue(getIterations(warm) < getIterations(cold));
+
+		// motion is to the left and up
+		for( int y = 10; y < height-10; y++ ) {
+			for( int x = 10; x < width-10; x++ ) {
+				assertTrue(Math.abs(flowWarm.get(x,y).x+2) < 0.5);
+				assertTrue(Math.abs(flowWarm.get(x,y).y+1) < 0.5);
+			}
+		}
+	}
+
+	/**
+	 * Number of iterations in the most recent call to process.  Must be overridden by algorithms which call
+	 * {@link #checkWarmStart}.
+	 */
+	protected int getIterations( DenseOpticalFlow<T> alg ) {
+		throw new RuntimeException("Not supported");
+	}
+
 	private void shift( T input , int dx , int dy , T output ) {
 
 		int w = input.width;
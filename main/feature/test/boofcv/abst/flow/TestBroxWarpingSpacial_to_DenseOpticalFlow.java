@@ -18,8 +18,10 @@
 
 package boofcv.abst.flow;
 
+import boofcv.alg.flow.ConfigBroxWarping;
 import boofcv.factory.flow.FactoryDenseOpticalFlow;
 import boofcv.struct.image.ImageFloat32;
+import org.junit.Test;
 
 /**
  * @author Peter Abeles
@@ -35,4 +37,19 @@ public class TestBroxWarpingSpacial_to_DenseOpticalFlow extends GeneralDenseOpti
 	public DenseOpticalFlow<ImageFloat32> createAlg(Class<ImageFloat32> imageType) {
 		return FactoryDenseOpticalFlow.broxWarping(null, ImageFloat32.class);
 	}
+
+	@Test
+	public void warmStart() {
+		ConfigBroxWarping config = new ConfigBroxWarping();
+		DenseOpticalFlow<ImageFloat32> cold = FactoryDenseOpticalFlow.broxWarping(config,ImageFloat32.class);
+		config.warmStart = true;
+		DenseOpticalFlow<ImageFloat32> warm = FactoryDenseOpticalFlow.broxWarping(config,ImageFloat32.class);
+
+		checkWarmStart(cold,warm);
+	}
+
+	@Override
+	protected int getIterations(DenseOpticalFlow<ImageFloat32> alg) {
+		return ((BroxWarpingSpacial_to_DenseOpticalFlow)alg).getIterations();
+	}
 }
@@ -18,8 +18,10 @@
 
 package boofcv.abst.flow;
 
+import boofcv.factory.flow.ConfigHornSchunckPyramid;
 import boofcv.factory.flow.FactoryDenseOpticalFlow;
 import boofcv.struct.image.ImageFloat32;
+import org.junit.Test;
 
 /**
  * @author Peter Abeles
@@ -35,4 +37,19 @@ public class TestHornSchunckPyramid_to_DenseOpticalFlow extends GeneralDenseOpti
 	public DenseOpticalFlow<ImageFloat32> createAlg(Class<ImageFloat32> imageType) {
 		return FactoryDenseOpticalFlow.hornSchunckPyramid(null,ImageFloat32.class);
 	}
+
+	@Test
+	public void warmStart() {
+		ConfigHornSchunckPyramid config = new ConfigHornSchunckPyramid();
+		DenseOpticalFlow<ImageFloat32> cold = FactoryDenseOpticalFlow.hornSchunckPyramid(config,ImageFloat32.class);
+		config.warmStart = true;
+		DenseOpticalFlow<ImageFloat32> warm = FactoryDenseOpticalFlow.hornSchunckPyramid(config,ImageFloat32.class);
+
+		checkWarmStart(cold,warm);
+	}
+
+	@Override
+	protected int getIterations(DenseOpticalFlow<ImageFloat32> alg) {
+		return ((HornSchunckPyramid_to_DenseOpticalFlow)alg).getIterations();
+	}
 }
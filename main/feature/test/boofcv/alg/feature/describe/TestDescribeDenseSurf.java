@@ -0,0 +1,158 @@
+/*
+ * Copyright (c) 2011-2015, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.feature.describe;
+
+import boofcv.alg.misc.GImageMiscOps;
+import boofcv.alg.transform.ii.GIntegralImageOps;
+import boofcv.core.image.GeneralizedImageOps;
+import boofcv.struct.feature.SurfFeature;
+import boofcv.struct.image.ImageFloat32;
+import boofcv.struct.image.ImageSingleBand;
+import boofcv.struct.image.ImageUInt8;
+import georegression.struct.point.Point2D_I32;
+import org.ddogleg.struct.FastQueue;
+import org.junit.Test;
+
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * @author Peter Abeles
+ */
+public class TestDescribeDenseSurf {
+
+	Random rand = new Random(234);
+	int width = 80;
+	int height = 70;
+
+	/**
+	 * Compare against the results of computing each descriptor individually.  Includes grid points along the
+	 * image border and the sampled regions go outside the image.
+	 */
+	@Test
+	public void compareToSparse() {
+		compareToSparse(ImageFloat32.class, 1);
+		compareToSparse(ImageFloat32.class, 1.5);
+		compareToSparse(ImageUInt8.class, 1);
+		compareToSparse(ImageUInt8.class, 2.2);
+	}
+
+	public <T extends ImageSingleBand, II extends ImageSingleBand>
+	void compareToSparse( Class<T> imageType , double scale ) {
+		Class<II> integralType = GIntegralImageOps.getIntegralType(imageType);
+
+		T image = (T)GeneralizedImageOps.createSingleBand(imageType, width, height);
+		GImageMiscOps.fillUniform(image, rand, 0, 100);
+		II ii = GIntegralImageOps.transform(image, null);
+
+		DescribePointSurf<II> sparse = new DescribePointSurf<II>(integralType);
+		DescribeDenseSurf<II> alg = createAlg(integralType);
+
+		FastQueue<SurfFeature> descs = createQueue(sparse);
+		FastQueue<Point2D_I32> locations = new FastQueue<Point2D_I32>(Point2D_I32.class,true);
+
+		alg.process(ii, scale, 7, 9, 0, 2, width, height-1, descs, locations);
+
+		int gridWidth = (width+6)/7;
+		int gridHeight = (height-3+8)/9;
+		assertEquals(gridWidth*gridHeight, descs.size);
+		assertEquals(gridWidth*gridHeight, locations.size);
+
+		sparse.setImage(ii);
+		SurfFeature expected = sparse.createDescription();
+		for( int i = 0; i < descs.size; i++ ) {
+			Point2D_I32 p = locations.get(i);
+			assertEquals((i%gridWidth)*7, p.x);
+			assertEquals(2 + (i/gridWidth)*9, p.y);
+
+			sparse.describe(p.x, p.y, 0, scale, expected);
+			SurfFeature found = descs.get(i);
+
+			for( int j = 0; j < expected.size(); j++ ) {
+				assertEquals(expected.value[j], found.value[j], 1e-8);
+			}
+			assertEquals(expected.laplacianPositive, found.laplacianPositive);
+		}
+	}
+
+	/**
+	 * Results should be appended to the end of the output list
+	 */
+	@Test
+	public void appendResults() {
+		ImageFloat32 image = new ImageFloat32(width,height);
+		GImageMiscOps.fillUniform(image, rand, 0, 100);
+		ImageFloat32 ii = GIntegralImageOps.transform(image, null);
+
+		DescribeDenseSurf<ImageFloat32> alg = createAlg(ImageFloat32.class);
+
+		FastQueue<SurfFeature> descsA = createQueue(alg.getSurf());
+		FastQueue<SurfFeature> descsB = createQueue(alg.getSurf());
+
+		alg.process(ii, 1, 10, 10, 10, 10, 30, 30, descsA, null);
+		assertEquals(4, descsA.size);
+
+		descsB.grow();
+		alg.process(ii, 1, 10, 10, 10, 10, 30, 30, descsB, null);
+		assertEquals(5, descsB.size);
+
+		for( int i = 0; i < descsA.size; i++ ) {
+			SurfFeature a = descsA.get(i);
+			SurfFeature b = descsB.get(i+1);
+			for( int j = 0; j < a.size(); j++ ) {
+				assertEquals(a.value[j], b.value[j], 1e-8);
+			}
+		}
+	}
+
+	/**
+	 * Nothing should be computed when the grid is empty
+	 */
+	@Test
+	public void emptyGrid() {
+		ImageFloat32 ii = new ImageFloat32(width,height);
+		DescribeDenseSurf<ImageFloat32> alg = createAlg(ImageFloat32.class);
+
+		FastQueue<SurfFeature> descs = createQueue(alg.getSurf());
+		alg.process(ii, 1, 10, 10, 10, 10, 10, 30, descs, null);
+		assertEquals(0, descs.size);
+	}
+
+	/**
+	 * Classes which extend DescribePointSurf sample the region differently and should be rejected
+	 */
+	@Test(expected=IllegalArgumentException.class)
+	public void rejectChildren() {
+		new DescribeDenseSurf<ImageFloat32>(new DescribePointSurfMod<ImageFloat32>(ImageFloat32.class));
+	}
+
+	protected <II extends ImageSingleBand> DescribeDenseSurf<II> createAlg( Class<II> integralType ) {
+		return new DescribeDenseSurf<II>(new DescribePointSurf<II>(integralType));
+	}
+
+	public static FastQueue<SurfFeature> createQueue( final DescribePointSurf surf ) {
+		return new FastQueue<SurfFeature>(SurfFeature.class,true) {
+			@Override
+			protected SurfFeature createInstance() {
+				return surf.createDescription();
+			}
+		};
+	}
+}
@@ -0,0 +1,43 @@
+/*
+ * Copyright (c) 2011-2015, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.feature.describe;
+
+import boofcv.concurrency.WorkerFactory;
+import boofcv.struct.image.ImageSingleBand;
+
+/**
+ * Runs the same tests as the single threaded version, which compare against the sparse descriptor.
+ *
+ * @author Peter Abeles
+ */
+public class TestDescribeDenseSurf_MT extends TestDescribeDenseSurf {
+
+	@Override
+	protected <II extends ImageSingleBand> DescribeDenseSurf<II> createAlg( final Class<II> integralType ) {
+		DescribeDenseSurf_MT<II> alg = new DescribeDenseSurf_MT<II>(new WorkerFactory<DescribePointSurf<II>>() {
+			@Override
+			public DescribePointSurf<II> newInstance() {
+				return new DescribePointSurf<II>(integralType);
+			}
+		});
+		// make sure the image is split into multiple blocks
+		alg.setMinBlockRows(2);
+		return alg;
+	}
+}
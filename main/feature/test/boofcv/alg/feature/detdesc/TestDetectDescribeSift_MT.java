@@ -0,0 +1,90 @@
+/*
+ * Copyright (c) 2011-2015, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.feature.detdesc;
+
+import boofcv.abst.feature.describe.ConfigSiftDescribe;
+import boofcv.abst.feature.detect.extract.ConfigExtract;
+import boofcv.abst.feature.orientation.ConfigSiftOrientation;
+import boofcv.alg.feature.detect.interest.SiftDetector;
+import boofcv.alg.feature.detect.interest.SiftDetector_MT;
+import boofcv.alg.feature.detect.interest.SiftImageScaleSpace;
+import boofcv.alg.feature.detect.interest.SiftImageScaleSpace_MT;
+import boofcv.alg.misc.GImageMiscOps;
+import boofcv.factory.feature.describe.FactoryDescribePointAlgs;
+import boofcv.factory.feature.detect.extract.FactoryFeatureExtractor;
+import boofcv.factory.feature.orientation.FactoryOrientationAlgs;
+import boofcv.struct.image.ImageFloat32;
+import org.junit.Test;
+
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * @author Peter Abeles
+ */
+public class TestDetectDescribeSift_MT {
+
+	Random rand = new Random(234);
+
+	/**
+	 * The concurrent pipeline should produce the same features in the same order
+	 */
+	@Test
+	public void compareToSingleThread() {
+		ImageFloat32 input = new ImageFloat32(150,120);
+		GImageMiscOps.fillUniform(input, rand, 0, 100);
+
+		ConfigExtract configExtract = new ConfigExtract(2, 1, 2, true, true, true);
+
+		DetectDescribeSift expected = new DetectDescribeSift(new SiftImageScaleSpace(1.6f, 5, 4, false),
+				new SiftDetector(FactoryFeatureExtractor.nonmax(configExtract),-1,5),
+				FactoryOrientationAlgs.sift(null), FactoryDescribePointAlgs.sift(null));
+
+		DetectDescribeSift found = new DetectDescribeSift_MT(new SiftImageScaleSpace_MT(1.6f, 5, 4, false),
+				new SiftDetector_MT(configExtract,-1,5),
+				new ConfigSiftOrientation(), new ConfigSiftDescribe());
+
+		expected.process(input);
+		found.process(input);
+		found.process(input);
+
+		int N = expected.getFeatures().size;
+		assertTrue(N > 0);
+		assertEquals(N, found.getFeatures().size);
+		assertEquals(N, found.getFeatureScales().size);
+		assertEquals(N, found.getFeatureAngles().size);
+		assertEquals(N, found.getLocation().size);
+
+		for( int i = 0; i < N; i++ ) {
+			assertEquals(expected.getLocation().get(i).x, found.getLocation().get(i).x, 1e-8);
+			assertEquals(expected.getLocation().get(i).y, found.getLocation().get(i).y, 1e-8);
+			assertEquals(expected.getFeatureScales().get(i), found.getFeatureScales().get(i), 1e-8);
+			assertEquals(expected.getFeatureAngles().get(i), found.getFeatureAngles().get(i), 1e-8);
+			assertEquals(expected.getFeatures().get(i).laplacianPositive,found.getFeatures().get(i).laplacianPositive);
+
+			double[] a = expected.getFeatures().get(i).value;
+			double[] b = found.getFeatures().get(i).value;
+			for( int j = 0; j < a.length; j++ ) {
+				assertEquals(a[j], b[j], 1e-4);
+			}
+		}
+	}
+}
@@ -21,6 +21,7 @@ package boofcv.alg.feature.detect.edge;
 import boofcv.abst.filter.blur.BlurFilter;
 import boofcv.abst.filter.derivative.ImageGradient;
 import boofcv.alg.misc.ImageMiscOps;
+import boofcv.factory.feature.detect.edge.FactoryEdgeDetectors;
 import boofcv.factory.filter.blur.FactoryBlurFilter;
 import boofcv.factory.filter.derivative.FactoryDerivative;
 import boofcv.struct.image.ImageSInt16;
@@ -194,6 +195,58 @@ public class TestCannyEdge {
 		}
 	}
 
+	/**
+	 * Computing the edge intensity in strips should produce identical results
+	 */
+	@Test
+	public void checkStripsIdentical() {
+		ImageUInt8 input = new ImageUInt8(width,height);
+		ImageUInt8 expected = new ImageUInt8(width,height);
+		ImageUInt8 found = new ImageUInt8(width,height);
+
+		for( int i = 0; i < 5; i++ ) {
+			ImageMiscOps.fillUniform(input,rand,0,200);
+
+			for( boolean dynamic : new boolean[]{false,true}) {
+				float low = dynamic ? 0.1f : 20;
+				float high = dynamic ? 0.5f : 100;
+
+				// binary image
+				CannyEdge<ImageUInt8,ImageSInt16> algA =
+						FactoryEdgeDetectors.canny(2, false, dynamic, ImageUInt8.class, ImageSInt16.class);
+				CannyEdge<ImageUInt8,ImageSInt16> algB =
+						FactoryEdgeDetectors.cannyFused(2, false, dynamic, ImageUInt8.class, ImageSInt16.class);
+				algA.process(input,low,high,expected);
+				algB.process(input,low,high,found);
+				BoofTesting.assertEquals(expected,found,0);
+
+				// contours
+				algA = FactoryEdgeDetectors.canny(2, true, dynamic, ImageUInt8.class, ImageSInt16.class);
+				algB = FactoryEdgeDetectors.cannyFused(2, true, dynamic, ImageUInt8.class, ImageSInt16.class);
+				algA.process(input,low,high,null);
+				algB.process(input,low,high,null);
+
+				List<EdgeContour> contoursA = algA.getContours();
+				List<EdgeContour> contoursB = algB.getContours();
+				assertEquals(contoursA.size(),contoursB.size());
+				for( int j = 0; j < contoursA.size(); j++ ) {
+					List<EdgeSegment> segmentsA = contoursA.get(j).segments;
+					List<EdgeSegment> segmentsB = contoursB.get(j).segments;
+					assertEquals(segmentsA.size(),segmentsB.size());
+					for( int k = 0; k < segmentsA.size(); k++ ) {
+						List<Point2D_I32> pointsA = segmentsA.get(k).points;
+						List<Point2D_I32> pointsB = segmentsB.get(k).points;
+						assertEquals(pointsA.size(),pointsB.size());
+						for( int l = 0; l < pointsA.size(); l++ ) {
+							assertEquals(pointsA.get(l).x,pointsB.get(l).x);
+							assertEquals(pointsA.get(l).y,pointsB.get(l).y);
+						}
+					}
+				}
+			}
+		}
+	}
+
 	/**
 	 * Make sure it can handle sub-images
 	 */
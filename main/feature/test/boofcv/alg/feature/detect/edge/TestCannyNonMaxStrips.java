@@ -0,0 +1,100 @@
+/*
+ * Copyright (c) 2011-2015, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.feature.detect.edge;
+
+import boofcv.abst.filter.blur.BlurFilter;
+import boofcv.abst.filter.derivative.ImageGradient;
+import boofcv.alg.misc.GImageMiscOps;
+import boofcv.concurrency.WorkerFactory;
+import boofcv.core.image.GeneralizedImageOps;
+import boofcv.factory.filter.blur.FactoryBlurFilter;
+import boofcv.factory.filter.derivative.FactoryDerivative;
+import boofcv.struct.image.*;
+import boofcv.testing.BoofTesting;
+import org.junit.Test;
+
+import java.util.Random;
+
+/**
+ * @author Peter Abeles
+ */
+public class TestCannyNonMaxStrips {
+
+	/**
+	 * Compare against processing the whole image at once.  Different image heights and blur radiuses are tried
+	 * so that there are different numbers of strips of varying size.
+	 */
+	@Test
+	public void compareToWholeImage() {
+		int heights[] = new int[]{7,40,97,150};
+
+		for( int height : heights ) {
+			for( int radius = 1; radius <= 3; radius++ ) {
+				compareToWholeImage(ImageUInt8.class, ImageSInt16.class, 55, height, radius, false);
+				compareToWholeImage(ImageFloat32.class, ImageFloat32.class, 55, height, radius, false);
+			}
+		}
+	}
+
+	public static <T extends ImageSingleBand, D extends ImageSingleBand>
+	void compareToWholeImage( Class<T> imageType , Class<D> derivType , int width , int height , int radius ,
+							  boolean concurrent ) {
+		Random rand = new Random(234);
+
+		T input = GeneralizedImageOps.createSingleBand(imageType, width, height);
+		GImageMiscOps.fillUniform(input, rand, 0, 200);
+
+		CannyEdge<T,D> expected = new CannyEdge<T,D>(
+				FactoryBlurFilter.gaussian(imageType, -1, radius), FactoryDerivative.three(imageType, derivType), true);
+		// thresholds are too high for hysteresis to modify the suppressed image
+		expected.process(input, 1e8f, 1e8f, null);
+
+		CannyNonMaxStrips<T,D> alg = create(imageType, derivType, radius, concurrent);
+		alg.setStripRows(1);
+
+		ImageFloat32 suppressed = new ImageFloat32(1,1);
+		ImageSInt8 direction = new ImageSInt8(1,1);
+		alg.process(BoofTesting.createSubImageOf(input), suppressed, direction);
+
+		BoofTesting.assertEquals(expected.suppressed, suppressed, 0);
+		BoofTesting.assertEquals(expected.direction, direction, 0);
+	}
+
+	public static <T extends ImageSingleBand, D extends ImageSingleBand>
+	CannyNonMaxStrips<T,D> create( final Class<T> imageType , final Class<D> derivType , final int radius ,
+								   boolean concurrent ) {
+		WorkerFactory<BlurFilter<T>> blur = new WorkerFactory<BlurFilter<T>>() {
+			@Override
+			public BlurFilter<T> newInstance() {
+				return FactoryBlurFilter.gaussian(imageType, -1, radius);
+			}
+		};
+		WorkerFactory<ImageGradient<T,D>> gradient = new WorkerFactory<ImageGradient<T,D>>() {
+			@Override
+			public ImageGradient<T,D> newInstance() {
+				return FactoryDerivative.three(imageType, derivType);
+			}
+		};
+
+		if( concurrent )
+			return new CannyNonMaxStrips_MT<T,D>(blur, gradient);
+		else
+			return new CannyNonMaxStrips<T,D>(blur, gradient);
+	}
+}
@@ -0,0 +1,40 @@
+/*
+ * Copyright (c) 2011-2015, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.feature.detect.edge;
+
+import boofcv.struct.image.ImageFloat32;
+import boofcv.struct.image.ImageSInt16;
+import boofcv.struct.image.ImageUInt8;
+import org.junit.Test;
+
+/**
+ * @author Peter Abeles
+ */
+public class TestCannyNonMaxStrips_MT {
+
+	@Test
+	public void compareToWholeImage() {
+		int heights[] = new int[]{7,40,150};
+
+		for( int height : heights ) {
+			TestCannyNonMaxStrips.compareToWholeImage(ImageUInt8.class, ImageSInt16.class, 55, height, 2, true);
+			TestCannyNonMaxStrips.compareToWholeImage(ImageFloat32.class, ImageFloat32.class, 55, height, 2, true);
+		}
+	}
+}
@@ -0,0 +1,92 @@
+/*
+ * Copyright (c) 2011-2015, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.feature.detect.edge;
+
+import boofcv.alg.misc.ImageMiscOps;
+import boofcv.struct.image.ImageFloat32;
+import boofcv.struct.image.ImageSInt8;
+import boofcv.struct.image.ImageUInt8;
+import boofcv.testing.BoofTesting;
+import org.junit.Test;
+
+import java.util.Random;
+
+/**
+ * @author Peter Abeles
+ */
+public class TestHysteresisEdgeTraceMark_MT extends CommonHysteresisEdgeTrace {
+
+	Random rand = new Random(234);
+
+	@Test
+	public void standardTests() {
+		int tests[] = new int[]{0,1,3,4};
+		for( int which : tests ) {
+			ImageFloat32 inten = intensity(which);
+			ImageSInt8 dir = direction(which);
+			ImageUInt8 out = new ImageUInt8(inten.width,inten.height);
+
+			HysteresisEdgeTraceMark_MT alg = new HysteresisEdgeTraceMark_MT();
+			alg.setMinBlockRows(1);
+
+			alg.process(inten,dir,2,5,out);
+
+			BoofTesting.assertEquals(expected(which),out,0);
+		}
+	}
+
+	/**
+	 * Compare against the single threaded algorithm on random inputs.  The modified intensity image should
+	 * also be identical.
+	 */
+	@Test
+	public void compareToSingle() {
+		float thresholds[][] = new float[][]{{20,60},{5,80},{60,20},{0,50}};
+
+		for( float[] t : thresholds ) {
+			for( int i = 0; i < 5; i++ ) {
+				ImageFloat32 intensity = new ImageFloat32(45,60);
+				ImageSInt8 direction = new ImageSInt8(45,60);
+				ImageMiscOps.fillUniform(intensity, rand, 0, 100);
+				ImageMiscOps.fillUniform(direction, rand, -1, 3);
+
+				compareToSingle(intensity, direction, t[0], t[1]);
+				compareToSingle(BoofTesting.createSubImageOf(intensity),
+						BoofTesting.createSubImageOf(direction), t[0], t[1]);
+			}
+		}
+	}
+
+	private void compareToSingle( ImageFloat32 intensity , ImageSInt8 direction , float lower , float upper ) {
+		ImageFloat32 intensitySingle = intensity.clone();
+		ImageUInt8 expected = new ImageUInt8(intensity.width,intensity.height);
+		ImageUInt8 found = new ImageUInt8(intensity.width,intensity.height);
+		ImageMiscOps.fill(found, 5);
+
+		HysteresisEdgeTraceMark single = new HysteresisEdgeTraceMark();
+		HysteresisEdgeTraceMark_MT alg = new HysteresisEdgeTraceMark_MT();
+		alg.setMinBlockRows(3);
+
+		single.process(intensitySingle, direction, lower, upper, expected);
+		alg.process(intensity, direction, lower, upper, found);
+
+		BoofTesting.assertEquals(expected, found, 0);
+		BoofTesting.assertEquals(intensitySingle, intensity, 0);
+	}
+}
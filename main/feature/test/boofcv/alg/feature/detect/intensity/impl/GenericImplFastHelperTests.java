@@ -127,6 +127,23 @@ public abstract class GenericImplFastHelperTests<T extends ImageSingleBand> {
 		assertFalse(alg.checkPixelUpper(image.getIndex(10,14)));
 	}
 
+	@Test
+	public void checkPixel() {
+		GImageMiscOps.fill(image, 0);
+
+		alg.setImage(image,offsets);
+		GeneralizedImageOps.set(image,10,11,30);
+		GeneralizedImageOps.set(image,10,12,30-threshold-1);
+		GeneralizedImageOps.set(image,10,13,30+threshold+1);
+		GeneralizedImageOps.set(image,10,14,30);
+
+		alg.setThresholds(image.getIndex(10,11));
+
+		assertEquals(-1, alg.checkPixel(image.getIndex(10, 12)));
+		assertEquals(1, alg.checkPixel(image.getIndex(10, 13)));
+		assertEquals(0, alg.checkPixel(image.getIndex(10, 14)));
+	}
+
 	private void setCircle( int x , int y , int value ) {
 		for( int i = 0; i < offsets.length; i++ ) {
 			int offY = offsets[i] / image.stride;
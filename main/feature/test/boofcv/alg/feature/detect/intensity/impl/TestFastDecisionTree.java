@@ -0,0 +1,80 @@
+/*
+ * Copyright (c) 2011-2015, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.feature.detect.intensity.impl;
+
+import boofcv.alg.feature.detect.intensity.DetectorFastNaive;
+import boofcv.alg.misc.GImageMiscOps;
+import boofcv.struct.image.ImageFloat32;
+import boofcv.struct.image.ImageUInt8;
+import org.junit.Test;
+
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * @author Peter Abeles
+ */
+public class TestFastDecisionTree {
+
+	Random rand = new Random(234);
+
+	@Test
+	public void encode_decode() {
+		FastDecisionTree original = FastDecisionTrees.get(11);
+
+		String text = original.encode();
+		FastDecisionTree found = FastDecisionTree.decode(text);
+
+		assertEquals(original.getMinContinuous(),found.getMinContinuous());
+		assertEquals(original.getNumNodes(),found.getNumNodes());
+		assertEquals(text,found.encode());
+	}
+
+	/**
+	 * Learn a tree from one image and see if it produces the correct results on another.  Since the tree
+	 * only declares a leaf when the outcome is certain it should always be correct.
+	 */
+	@Test
+	public void learn_exact() {
+		ImageUInt8 train = new ImageUInt8(60,50);
+		ImageUInt8 test = new ImageUInt8(60,50);
+		GImageMiscOps.fillUniform(train, rand, 0, 80);
+		GImageMiscOps.fillUniform(test, rand, 0, 80);
+
+		FastDecisionTreeLearner learner = new FastDecisionTreeLearner(12);
+		learner.addImage(train,20);
+		FastDecisionTree tree = learner.process();
+
+		assertEquals(12,tree.getMinContinuous());
+
+		ImplFastIntensityTree<ImageUInt8> alg =
+				new ImplFastIntensityTree<ImageUInt8>(new ImplFastHelper_U8(20),tree);
+		alg.process(test,new ImageFloat32(test.width,test.height));
+
+		DetectorFastNaive validator = new DetectorFastNaive(3,12,20);
+		validator.process(test);
+
+		assertEquals(validator.getCandidates().size,alg.getCandidates().size);
+		for( int i = 0; i < validator.getCandidates().size; i++ ) {
+			assertEquals(validator.getCandidates().get(i).x,alg.getCandidates().get(i).x);
+			assertEquals(validator.getCandidates().get(i).y,alg.getCandidates().get(i).y);
+		}
+	}
+}
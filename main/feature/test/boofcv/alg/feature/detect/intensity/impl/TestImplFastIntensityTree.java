@@ -0,0 +1,94 @@
+/*
+ * Copyright (c) 2011-2015, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.feature.detect.intensity.impl;
+
+import boofcv.alg.feature.detect.intensity.DetectorFastNaive;
+import boofcv.alg.misc.GImageMiscOps;
+import boofcv.core.image.ConvertImage;
+import boofcv.factory.feature.detect.intensity.FactoryIntensityPointAlg;
+import boofcv.struct.QueueCorner;
+import boofcv.struct.image.ImageFloat32;
+import boofcv.struct.image.ImageUInt8;
+import org.junit.Test;
+
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * @author Peter Abeles
+ */
+public class TestImplFastIntensityTree extends GenericImplFastIntensity {
+
+	public TestImplFastIntensityTree() {
+		super(new ImplFastIntensityTree<ImageUInt8>(new ImplFastHelper_U8(20),FastDecisionTrees.get(9)), 9, 20);
+	}
+
+	/**
+	 * The learned trees should produce the exact same results as the hand coded tests for all supported
+	 * number of continuous pixels
+	 */
+	@Test
+	public void compareToHandCoded() {
+		Random rand = new Random(2345);
+
+		ImageUInt8 input = new ImageUInt8(80,70);
+		GImageMiscOps.fillUniform(input, rand, 0, 80);
+		ImageFloat32 inputF = new ImageFloat32(input.width,input.height);
+		ConvertImage.convert(input,inputF);
+
+		ImageFloat32 expected = new ImageFloat32(input.width,input.height);
+		ImageFloat32 found = new ImageFloat32(input.width,input.height);
+
+		for( int minContinuous = 9; minContinuous <= 12; minContinuous++ ) {
+			for( int tol : new int[]{10,20,30} ) {
+				ImplFastIntensityTree<ImageUInt8> alg =
+						new ImplFastIntensityTree<ImageUInt8>(new ImplFastHelper_U8(tol),FastDecisionTrees.get(minContinuous));
+				ImplFastIntensityTree<ImageFloat32> algF =
+						new ImplFastIntensityTree<ImageFloat32>(new ImplFastHelper_F32(tol),FastDecisionTrees.get(minContinuous));
+
+				DetectorFastNaive validator = new DetectorFastNaive(3,minContinuous,tol);
+				validator.process(input);
+
+				alg.process(input,found);
+				checkSame(validator.getCandidates(),alg.getCandidates());
+				FactoryIntensityPointAlg.fast(tol,minContinuous,ImageUInt8.class).process(input,expected);
+				checkSame(expected,found);
+
+				algF.process(inputF,found);
+				checkSame(validator.getCandidates(),algF.getCandidates());
+				FactoryIntensityPointAlg.fast(tol,minContinuous,ImageFloat32.class).process(inputF,expected);
+				checkSame(expected,found);
+			}
+		}
+	}
+
+	private static void checkSame( ImageFloat32 expected , ImageFloat32 found ) {
+		for( int i = 0; i < expected.data.length; i++ )
+			assertEquals(expected.data[i],found.data[i],1e-4f);
+	}
+
+	private static void checkSame( QueueCorner expected , QueueCorner found ) {
+		assertEquals(expected.size,found.size);
+		for( int i = 0; i < expected.size; i++ ) {
+			assertEquals(expected.get(i).x,found.get(i).x);
+			assertEquals(expected.get(i).y,found.get(i).y);
+		}
+	}
+}
@@ -0,0 +1,88 @@
+/*
+ * Copyright (c) 2011-2015, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.feature.detect.intensity.impl;
+
+import boofcv.alg.misc.GImageMiscOps;
+import boofcv.concurrency.WorkerFactory;
+import boofcv.struct.QueueCorner;
+import boofcv.struct.image.ImageFloat32;
+import boofcv.struct.image.ImageUInt8;
+import boofcv.testing.BoofTesting;
+import org.junit.Test;
+
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * @author Peter Abeles
+ */
+public class TestImplFastIntensityTree_MT extends GenericImplFastIntensity {
+
+	public TestImplFastIntensityTree_MT() {
+		super(new ImplFastIntensityTree_MT<ImageUInt8>(new FactoryHelper(20),FastDecisionTrees.get(9)), 9, 20);
+	}
+
+	/**
+	 * Compare against the single threaded version on an image large enough to be split into several blocks
+	 */
+	@Test
+	public void compareToSingleThread() {
+		Random rand = new Random(2345);
+
+		ImageUInt8 input = new ImageUInt8(120,150);
+		GImageMiscOps.fillUniform(input, rand, 0, 80);
+
+		ImageFloat32 expected = new ImageFloat32(input.width,input.height);
+		ImageFloat32 found = new ImageFloat32(input.width,input.height);
+
+		ImplFastIntensityTree<ImageUInt8> single =
+				new ImplFastIntensityTree<ImageUInt8>(new ImplFastHelper_U8(20),FastDecisionTrees.get(10));
+		ImplFastIntensityTree_MT<ImageUInt8> alg =
+				new ImplFastIntensityTree_MT<ImageUInt8>(new FactoryHelper(20),FastDecisionTrees.get(10));
+
+		single.process(input,expected);
+		// process twice to make sure it is reset correctly
+		alg.process(input,found);
+		alg.process(input,found);
+
+		BoofTesting.assertEquals(expected,found,1e-4);
+
+		QueueCorner a = single.getCandidates();
+		QueueCorner b = alg.getCandidates();
+		assertEquals(a.size,b.size);
+		for( int i = 0; i < a.size; i++ ) {
+			assertEquals(a.get(i).x,b.get(i).x);
+			assertEquals(a.get(i).y,b.get(i).y);
+		}
+	}
+
+	private static class FactoryHelper implements WorkerFactory<FastHelper<ImageUInt8>> {
+		int tol;
+
+		private FactoryHelper(int tol) {
+			this.tol = tol;
+		}
+
+		@Override
+		public FastHelper<ImageUInt8> newInstance() {
+			return new ImplFastHelper_U8(tol);
+		}
+	}
+}
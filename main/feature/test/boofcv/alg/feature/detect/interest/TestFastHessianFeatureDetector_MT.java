@@ -0,0 +1,97 @@
+/*
+ * Copyright (c) 2011-2015, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.feature.detect.interest;
+
+import boofcv.abst.feature.detect.extract.ConfigExtract;
+import boofcv.abst.feature.detect.extract.NonMaxSuppression;
+import boofcv.alg.misc.ImageMiscOps;
+import boofcv.alg.transform.ii.IntegralImageOps;
+import boofcv.factory.feature.detect.extract.FactoryFeatureExtractor;
+import boofcv.struct.feature.ScalePoint;
+import boofcv.struct.image.ImageFloat32;
+import org.junit.Test;
+
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * @author Peter Abeles
+ */
+public class TestFastHessianFeatureDetector_MT extends GenericFeatureDetector {
+
+	Random rand = new Random(234);
+
+	public TestFastHessianFeatureDetector_MT() {
+		this.scaleTolerance = 0.3;
+	}
+
+	@Override
+	protected Object createDetector( int maxFeatures ) {
+		NonMaxSuppression extractor = FactoryFeatureExtractor.nonmax(new ConfigExtract(1, 1, 5, true));
+		return new FastHessianFeatureDetector_MT(extractor,maxFeatures, 1, 9,4,4);
+	}
+
+	@SuppressWarnings({"unchecked"})
+	@Override
+	protected int detectFeature(ImageFloat32 input, Object detector) {
+		FastHessianFeatureDetector<ImageFloat32> alg = (FastHessianFeatureDetector<ImageFloat32>)detector;
+		ImageFloat32 integral = IntegralImageOps.transform(input,null);
+		alg.detect(integral);
+
+		return alg.getFoundPoints().size();
+	}
+
+	/**
+	 * The found features should be identical to the single threaded version and in the same order
+	 */
+	@Test
+	public void compareToSingleThread() {
+		ImageFloat32 input = new ImageFloat32(200,150);
+		ImageMiscOps.fillUniform(input, rand, 0, 200);
+		ImageFloat32 integral = IntegralImageOps.transform(input,null);
+
+		for( int maxFeatures : new int[]{-1,20} ) {
+			FastHessianFeatureDetector<ImageFloat32> expected = new FastHessianFeatureDetector<ImageFloat32>(
+					FactoryFeatureExtractor.nonmax(new ConfigExtract(1, 1, 5, true)), maxFeatures, 1, 9, 4, 4);
+			FastHessianFeatureDetector<ImageFloat32> found = new FastHessianFeatureDetector_MT<ImageFloat32>(
+					FactoryFeatureExtractor.nonmax(new ConfigExtract(1, 1, 5, true)), maxFeatures, 1, 9, 4, 4);
+
+			expected.detect(integral);
+			// process it twice to make sure internal state is correctly reset
+			found.detect(integral);
+			found.detect(integral);
+
+			List<ScalePoint> listE = expected.getFoundPoints();
+			List<ScalePoint> listF = found.getFoundPoints();
+
+			assertTrue(listE.size() > 0);
+			assertEquals(listE.size(), listF.size());
+			for( int i = 0; i < listE.size(); i++ ) {
+				ScalePoint e = listE.get(i);
+				ScalePoint f = listF.get(i);
+				assertEquals(e.x, f.x, 1e-8);
+				assertEquals(e.y, f.y, 1e-8);
+				assertEquals(e.scale, f.scale, 1e-8);
+			}
+		}
+	}
+}
@@ -0,0 +1,83 @@
+/*
+ * Copyright (c) 2011-2015, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.feature.detect.interest;
+
+import boofcv.struct.ImageRectangle;
+import org.junit.Test;
+
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * @author Peter Abeles
+ */
+public class TestFeatureCoverageGrid {
+
+	/**
+	 * Nothing is covered so each row should be a single region
+	 */
+	@Test
+	public void empty() {
+		FeatureCoverageGrid alg = new FeatureCoverageGrid(10);
+		alg.reset(35,22);
+		alg.process();
+
+		List<ImageRectangle> found = alg.getUncovered();
+		assertEquals(3, found.size());
+		check(found.get(0), 0, 0, 35, 10);
+		check(found.get(1), 0, 10, 35, 20);
+		check(found.get(2), 0, 20, 35, 22);
+		assertEquals(1.0, alg.getFractionUncovered(), 1e-8);
+	}
+
+	@Test
+	public void covered() {
+		FeatureCoverageGrid alg = new FeatureCoverageGrid(10);
+		alg.reset(35,22);
+
+		alg.markCovered(12,3);
+		alg.markCovered(15,7);
+		alg.markCovered(34,21);
+		// outside the image and should be ignored
+		alg.markCovered(-1,5);
+		alg.markCovered(5,22);
+		alg.process();
+
+		List<ImageRectangle> found = alg.getUncovered();
+		assertEquals(4, found.size());
+		check(found.get(0), 0, 0, 10, 10);
+		check(found.get(1), 20, 0, 35, 10);
+		check(found.get(2), 0, 10, 35, 20);
+		check(found.get(3), 0, 20, 30, 22);
+		assertEquals(10.0/12.0, alg.getFractionUncovered(), 1e-8);
+
+		// see if it's reset correctly
+		alg.reset(35,22);
+		alg.process();
+		assertEquals(3, alg.getUncovered().size());
+	}
+
+	private static void check( ImageRectangle r , int x0 , int y0 , int x1 , int y1 ) {
+		assertEquals(x0, r.x0);
+		assertEquals(y0, r.y0);
+		assertEquals(x1, r.x1);
+		assertEquals(y1, r.y1);
+	}
+}
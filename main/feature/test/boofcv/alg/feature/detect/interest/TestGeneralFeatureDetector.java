@@ -21,11 +21,23 @@ package boofcv.alg.feature.detect.interest;
 import boofcv.abst.feature.detect.extract.ConfigExtract;
 import boofcv.abst.feature.detect.extract.NonMaxSuppression;
 import boofcv.abst.feature.detect.intensity.GeneralFeatureIntensity;
+import boofcv.abst.feature.detect.interest.ConfigFast;
+import boofcv.abst.feature.detect.interest.ConfigGeneralDetector;
+import boofcv.alg.filter.derivative.GradientSobel;
+import boofcv.alg.misc.ImageMiscOps;
+import boofcv.core.image.border.FactoryImageBorderAlgs;
 import boofcv.factory.feature.detect.extract.FactoryFeatureExtractor;
+import boofcv.factory.feature.detect.interest.FactoryDetectPoint;
+import boofcv.struct.ImageRectangle;
 import boofcv.struct.QueueCorner;
 import boofcv.struct.image.ImageFloat32;
+import georegression.struct.point.Point2D_I16;
 import org.junit.Test;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
 import static org.junit.Assert.*;
 
 
@@ -274,6 +286,79 @@ public class TestGeneralFeatureDetector {
 		assertTrue(detector.isDetectMaximums());
 	}
 
+	/**
+	 * Features found inside of regions should be the same as the ones found when processing the whole image
+	 */
+	@Test
+	public void processRegions() {
+		ImageFloat32 input = new ImageFloat32(70,60);
+		ImageFloat32 derivX = new ImageFloat32(70,60);
+		ImageFloat32 derivY = new ImageFloat32(70,60);
+		ImageMiscOps.fillUniform(input, new Random(234), 0, 200);
+		GradientSobel.process(input, derivX, derivY, FactoryImageBorderAlgs.extend(input));
+
+		List<ImageRectangle> regions = new ArrayList<ImageRectangle>();
+		regions.add(new ImageRectangle(0,0,20,15));
+		regions.add(new ImageRectangle(30,25,50,45));
+		regions.add(new ImageRectangle(55,40,80,70)); // extends outside the image
+
+		QueueCorner exclude = new QueueCorner();
+		exclude.add(35,30);
+		exclude.add(4,5);
+
+		for( int i = 0; i < 2; i++ ) {
+			ConfigGeneralDetector config = new ConfigGeneralDetector(-1, 2, 1);
+			GeneralFeatureDetector<ImageFloat32,ImageFloat32> alg = i == 0 ?
+					FactoryDetectPoint.<ImageFloat32,ImageFloat32>createShiTomasi(config, false, ImageFloat32.class) :
+					FactoryDetectPoint.<ImageFloat32,ImageFloat32>createFast(new ConfigFast(), config, ImageFloat32.class);
+			alg.setExcludeMaximum(exclude);
+
+			alg.process(input, derivX, derivY, null, null, null);
+			QueueCorner expected = new QueueCorner();
+			for( int j = 0; j < alg.getMaximums().size(); j++ ) {
+				Point2D_I16 p = alg.getMaximums().get(j);
+				if( inside(regions,p) )
+					expected.add(p);
+			}
+			assertTrue(expected.size() > 0);
+			ImageFloat32 expectedIntensity = alg.getIntensity().clone();
+
+			alg.process(input, derivX, derivY, null, null, null, regions);
+			QueueCorner found = alg.getMaximums();
+
+			assertEquals(expected.size(), found.size());
+			for( int j = 0; j < expected.size(); j++ ) {
+				Point2D_I16 p = expected.get(j);
+				assertTrue(contains(found, p));
+				// sliding window sums start at different locations so there will be small round off errors
+				float value = expectedIntensity.get(p.x,p.y);
+				assertEquals(value, alg.getIntensity().get(p.x,p.y), Math.abs(value)*1e-4f);
+			}
+
+			// the maximum number of features should be applied across all the regions
+			alg.setMaxFeatures(exclude.size() + 3);
+			alg.process(input, derivX, derivY, null, null, null, regions);
+			assertEquals(3, alg.getMaximums().size());
+		}
+	}
+
+	private static boolean inside( List<ImageRectangle> regions , Point2D_I16 p ) {
+		for( ImageRectangle r : regions ) {
+			if( p.x >= r.x0 && p.x < r.x1 && p.y >= r.y0 && p.y < r.y1 )
+				return true;
+		}
+		return false;
+	}
+
+	private static boolean contains( QueueCorner list , Point2D_I16 p ) {
+		for( int i = 0; i < list.size(); i++ ) {
+			Point2D_I16 a = list.get(i);
+			if( a.x == p.x && a.y == p.y )
+				return true;
+		}
+		return false;
+	}
+
 	public class HelperExtractor implements NonMaxSuppression {
 
 		boolean usesCandidates;
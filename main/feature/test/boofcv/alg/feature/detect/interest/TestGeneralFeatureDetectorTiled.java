@@ -0,0 +1,298 @@
+/*
+ * Copyright (c) 2011-2015, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.feature.detect.interest;
+
+import boofcv.abst.feature.detect.interest.ConfigFast;
+import boofcv.abst.feature.detect.interest.ConfigGeneralDetector;
+import boofcv.alg.feature.detect.intensity.HessianBlobIntensity;
+import boofcv.alg.filter.derivative.GradientSobel;
+import boofcv.alg.filter.derivative.HessianSobel;
+import boofcv.alg.misc.ImageMiscOps;
+import boofcv.core.image.border.FactoryImageBorderAlgs;
+import boofcv.factory.feature.detect.interest.FactoryDetectPoint;
+import boofcv.struct.ImageRectangle;
+import boofcv.struct.QueueCorner;
+import boofcv.struct.image.ImageFloat32;
+import georegression.struct.point.Point2D_I16;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * @author Peter Abeles
+ */
+public class TestGeneralFeatureDetectorTiled {
+
+	Random rand = new Random(234);
+
+	int width = 95;
+	int height = 80;
+
+	ImageFloat32 input = new ImageFloat32(width,height);
+	ImageFloat32 derivX = new ImageFloat32(width,height);
+	ImageFloat32 derivY = new ImageFloat32(width,height);
+	ImageFloat32 derivXX = new ImageFloat32(width,height);
+	ImageFloat32 derivYY = new ImageFloat32(width,height);
+	ImageFloat32 derivXY = new ImageFloat32(width,height);
+
+	@Before
+	public void before() {
+		ImageMiscOps.fillUniform(input, rand, 0, 200);
+		GradientSobel.process(input, derivX, derivY, FactoryImageBorderAlgs.extend(input));
+		HessianSobel.process(input, derivXX, derivYY, derivXY, FactoryImageBorderAlgs.extend(input));
+	}
+
+	/**
+	 * Without a limit on the number of features the tiled detector should find the same features as
+	 * the regular detector, just in a different order.  Tile sizes are selected so that they don't evenly
+	 * divide the image.
+	 */
+	@Test
+	public void compareToSingle() {
+		for( int tileWidth : new int[]{7,20,200} ) {
+			// Harris has an intensity border
+			GeneralFeatureDetector<ImageFloat32,ImageFloat32> expected =
+					FactoryDetectPoint.createHarris(createConfig(-1, 0), false, ImageFloat32.class);
+			GeneralFeatureDetector<ImageFloat32,ImageFloat32> found =
+					FactoryDetectPoint.createHarris(createConfig(-1, tileWidth), false, ImageFloat32.class);
+			compare(expected, found);
+
+			// uses second derivatives and detects minimums and maximums
+			expected = FactoryDetectPoint.createHessian(HessianBlobIntensity.Type.TRACE,
+					createConfig(-1, 0, true), ImageFloat32.class);
+			found = FactoryDetectPoint.createHessian(HessianBlobIntensity.Type.TRACE,
+					createConfig(-1, tileWidth, true), ImageFloat32.class);
+			compare(expected, found);
+
+			// uses candidates
+			expected = FactoryDetectPoint.createFast(null, createConfig(-1, 0), ImageFloat32.class);
+			found = FactoryDetectPoint.createFast(new ConfigFast(), createConfig(-1, tileWidth), ImageFloat32.class);
+			compare(expected, found);
+		}
+	}
+
+	private void compare( GeneralFeatureDetector<ImageFloat32,ImageFloat32> expected,
+						  GeneralFeatureDetector<ImageFloat32,ImageFloat32> found ) {
+		assertTrue(found instanceof GeneralFeatureDetectorTiled);
+
+		expected.process(input, derivX, derivY, derivXX, derivYY, derivXY);
+		// process twice to make sure it's reset correctly
+		found.process(input, derivX, derivY, derivXX, derivYY, derivXY);
+		found.process(input, derivX, derivY, derivXX, derivYY, derivXY);
+
+		assertTrue(expected.getMaximums().size() > 0);
+		checkSame(expected.getMaximums(), found.getMaximums());
+		checkSame(expected.getMinimums(), found.getMinimums());
+
+		// the assembled intensity image should be the same inside the region which isn't ignored.  Sliding window
+		// sums start at different locations so there can be small round off errors
+		int border = expected.intensity.getIgnoreBorder();
+		ImageFloat32 a = expected.getIntensity();
+		ImageFloat32 b = found.getIntensity();
+		for( int y = border; y < height-border; y++ ) {
+			for( int x = border; x < width-border; x++ ) {
+				float expectedValue = a.get(x,y);
+				assertEquals(expectedValue, b.get(x,y), Math.max(1,Math.abs(expectedValue))*1e-4f);
+			}
+		}
+	}
+
+	/**
+	 * When processing regions only features inside of the regions should be found and they should be the
+	 * same as when the whole image is processed
+	 */
+	@Test
+	public void processRegions() {
+		List<ImageRectangle> regions = new ArrayList<ImageRectangle>();
+		regions.add(new ImageRectangle(12,15,50,33));
+
+		GeneralFeatureDetector<ImageFloat32,ImageFloat32> expected =
+				FactoryDetectPoint.createHarris(createConfig(-1, 0), false, ImageFloat32.class);
+		GeneralFeatureDetector<ImageFloat32,ImageFloat32> found =
+				FactoryDetectPoint.createHarris(createConfig(-1, 20), false, ImageFloat32.class);
+
+		expected.process(input, derivX, derivY, derivXX, derivYY, derivXY);
+		found.process(input, derivX, derivY, derivXX, derivYY, derivXY, regions);
+
+		QueueCorner inside = new QueueCorner();
+		for( int i = 0; i < expected.getMaximums().size(); i++ ) {
+			Point2D_I16 p = expected.getMaximums().get(i);
+			if( p.x >= 12 && p.x < 50 && p.y >= 15 && p.y < 33 )
+				inside.add(p);
+		}
+		assertTrue(inside.size() > 0);
+		checkSame(inside, found.getMaximums());
+	}
+
+	/**
+	 * Two regions which are inside the same tile but don't overlap.  No features should be found in the gap
+	 * between them.
+	 */
+	@Test
+	public void processRegions_separatedInsideTile() {
+		List<ImageRectangle> regions = new ArrayList<ImageRectangle>();
+		regions.add(new ImageRectangle(5,5,20,20));
+		regions.add(new ImageRectangle(40,40,60,60));
+
+		GeneralFeatureDetector<ImageFloat32,ImageFloat32> expected =
+				FactoryDetectPoint.createHarris(createConfig(-1, 0), false, ImageFloat32.class);
+		GeneralFeatureDetector<ImageFloat32,ImageFloat32> found =
+				FactoryDetectPoint.createHarris(createConfig(-1, 64), false, ImageFloat32.class);
+
+		expected.process(input, derivX, derivY, derivXX, derivYY, derivXY);
+		found.process(input, derivX, derivY, derivXX, derivYY, derivXY, regions);
+
+		QueueCorner inside = new QueueCorner();
+		for( int i = 0; i < expected.getMaximums().size(); i++ ) {
+			Point2D_I16 p = expected.getMaximums().get(i);
+			if( isInside(regions, p) )
+				inside.add(p);
+		}
+		assertTrue(inside.size() > 0);
+		for( int i = 0; i < found.getMaximums().size(); i++ ) {
+			assertTrue(isInside(regions, found.getMaximums().get(i)));
+		}
+		checkSame(inside, found.getMaximums());
+
+		// the tile's quota is shared by the regions inside of it
+		found = FactoryDetectPoint.createHarris(createConfig(3, 64), false, ImageFloat32.class);
+		found.process(input, derivX, derivY, derivXX, derivYY, derivXY, regions);
+		assertEquals(3, found.getMaximums().size());
+		for( int i = 0; i < found.getMaximums().size(); i++ ) {
+			assertTrue(isInside(regions, found.getMaximums().get(i)));
+		}
+	}
+
+	private static boolean isInside( List<ImageRectangle> regions , Point2D_I16 p ) {
+		for( ImageRectangle r : regions ) {
+			if( p.x >= r.x0 && p.x < r.x1 && p.y >= r.y0 && p.y < r.y1 )
+				return true;
+		}
+		return false;
+	}
+
+	/**
+	 * The maximum number of features should be applied to each tile
+	 */
+	@Test
+	public void maxFeaturesPerTile() {
+		int tileWidth = 20;
+		int maxFeatures = 3;
+		GeneralFeatureDetector<ImageFloat32,ImageFloat32> alg =
+				FactoryDetectPoint.createHarris(createConfig(maxFeatures, tileWidth), false, ImageFloat32.class);
+
+		alg.process(input, derivX, derivY, derivXX, derivYY, derivXY);
+
+		int numTilesX = (width+tileWidth-1)/tileWidth;
+		int numTilesY = (height+tileWidth-1)/tileWidth;
+		int counts[] = countPerTile(alg.getMaximums(), tileWidth, numTilesX, numTilesY);
+
+		int total = 0;
+		for( int i = 0; i < counts.length; i++ ) {
+			assertTrue(counts[i] <= maxFeatures);
+			total += counts[i];
+		}
+		assertTrue(total > maxFeatures);
+		assertEquals(total, alg.getMaximums().size());
+	}
+
+	/**
+	 * Excluded points count against the quota of the tile they are inside of
+	 */
+	@Test
+	public void excludedReduceQuota() {
+		int tileWidth = 20;
+		int maxFeatures = 3;
+		GeneralFeatureDetector<ImageFloat32,ImageFloat32> alg =
+				FactoryDetectPoint.createHarris(createConfig(maxFeatures, tileWidth), false, ImageFloat32.class);
+
+		// exclude two points inside the first tile
+		QueueCorner exclude = new QueueCorner();
+		exclude.add(5, 5);
+		exclude.add(12, 12);
+		alg.setExcludeMaximum(exclude);
+		alg.process(input, derivX, derivY, derivXX, derivYY, derivXY);
+
+		int numTilesX = (width+tileWidth-1)/tileWidth;
+		int numTilesY = (height+tileWidth-1)/tileWidth;
+		int counts[] = countPerTile(alg.getMaximums(), tileWidth, numTilesX, numTilesY);
+
+		assertEquals(1, counts[0]);
+		for( int i = 0; i < alg.getMaximums().size(); i++ ) {
+			Point2D_I16 p = alg.getMaximums().get(i);
+			assertTrue(!(p.x == 5 && p.y == 5));
+			assertTrue(!(p.x == 12 && p.y == 12));
+		}
+	}
+
+	private int[] countPerTile( QueueCorner found , int tileWidth , int numTilesX , int numTilesY ) {
+		int counts[] = new int[numTilesX*numTilesY];
+		for( int i = 0; i < found.size(); i++ ) {
+			Point2D_I16 p = found.get(i);
+			counts[(p.y/tileWidth)*numTilesX + p.x/tileWidth]++;
+		}
+		return counts;
+	}
+
+	private ConfigGeneralDetector createConfig( int maxFeatures , int tileWidth ) {
+		return createConfig(maxFeatures, tileWidth, false);
+	}
+
+	private ConfigGeneralDetector createConfig( int maxFeatures , int tileWidth , boolean minimums ) {
+		ConfigGeneralDetector config = new ConfigGeneralDetector(maxFeatures, 2, 1, 0, true, minimums, true);
+		config.tileWidth = tileWidth;
+		return config;
+	}
+
+	private void checkSame( QueueCorner expected , QueueCorner found ) {
+		assertEquals(expected.size(), found.size());
+
+		List<Point2D_I16> a = sort(expected);
+		List<Point2D_I16> b = sort(found);
+
+		for( int i = 0; i < a.size(); i++ ) {
+			assertEquals(a.get(i).x, b.get(i).x);
+			assertEquals(a.get(i).y, b.get(i).y);
+		}
+	}
+
+	private List<Point2D_I16> sort( QueueCorner points ) {
+		List<Point2D_I16> list = new ArrayList<Point2D_I16>();
+		for( int i = 0; i < points.size(); i++ ) {
+			list.add(points.get(i));
+		}
+		Collections.sort(list, new Comparator<Point2D_I16>() {
+			@Override
+			public int compare(Point2D_I16 a, Point2D_I16 b) {
+				if( a.y != b.y )
+					return a.y - b.y;
+				return a.x - b.x;
+			}
+		});
+		return list;
+	}
+}
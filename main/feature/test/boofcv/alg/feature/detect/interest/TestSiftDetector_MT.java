@@ -0,0 +1,77 @@
+/*
+ * Copyright (c) 2011-2015, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.feature.detect.interest;
+
+import boofcv.abst.feature.detect.extract.ConfigExtract;
+import boofcv.alg.misc.GImageMiscOps;
+import boofcv.factory.feature.detect.extract.FactoryFeatureExtractor;
+import boofcv.struct.feature.ScalePoint;
+import boofcv.struct.image.ImageFloat32;
+import org.ddogleg.struct.FastQueue;
+import org.junit.Test;
+
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * @author Peter Abeles
+ */
+public class TestSiftDetector_MT {
+
+	Random rand = new Random(234);
+
+	/**
+	 * Should find the same features in the same order as the single threaded version
+	 */
+	@Test
+	public void compareToSingleThread() {
+		ImageFloat32 input = new ImageFloat32(150,120);
+		GImageMiscOps.fillUniform(input, rand, 0, 100);
+
+		SiftImageScaleSpace ss = new SiftImageScaleSpace(1.6f, 5, 4, false);
+		ss.constructPyramid(input);
+		ss.computeFeatureIntensity();
+
+		for( int maxFeatures : new int[]{-1,5} ) {
+			ConfigExtract config = new ConfigExtract(2, 1, 2, true, true, true);
+			SiftDetector expected = new SiftDetector(FactoryFeatureExtractor.nonmax(config),maxFeatures,5);
+			SiftDetector found = new SiftDetector_MT(config,maxFeatures,5);
+
+			expected.process(ss);
+			found.process(ss);
+			found.process(ss);
+
+			FastQueue<ScalePoint> listE = expected.getFoundPoints();
+			FastQueue<ScalePoint> listF = found.getFoundPoints();
+
+			assertTrue(listE.size() > 0);
+			assertEquals(listE.size(), listF.size());
+			for( int i = 0; i < listE.size(); i++ ) {
+				ScalePoint e = listE.get(i);
+				ScalePoint f = listF.get(i);
+				assertEquals(e.x, f.x, 1e-8);
+				assertEquals(e.y, f.y, 1e-8);
+				assertEquals(e.scale, f.scale, 1e-8);
+				assertEquals(e.white, f.white);
+			}
+		}
+	}
+}
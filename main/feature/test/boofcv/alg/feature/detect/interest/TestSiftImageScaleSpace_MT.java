@@ -0,0 +1,95 @@
+/*
+ * Copyright (c) 2011-2015, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.feature.detect.interest;
+
+import boofcv.alg.misc.GImageMiscOps;
+import boofcv.struct.image.ImageFloat32;
+import boofcv.testing.BoofTesting;
+import org.junit.Test;
+
+import java.util.Random;
+
+/**
+ * @author Peter Abeles
+ */
+public class TestSiftImageScaleSpace_MT {
+
+	Random rand = new Random(234);
+
+	/**
+	 * Compare every image in the scale-space against the single threaded version
+	 */
+	@Test
+	public void compareToSingleThread() {
+		for( boolean doubleInput : new boolean[]{false,true}) {
+			SiftImageScaleSpace expected = new SiftImageScaleSpace(1.6f, 5, 4, doubleInput);
+			SiftImageScaleSpace found = new SiftImageScaleSpace_MT(1.6f, 5, 4, doubleInput);
+
+			ImageFloat32 input = new ImageFloat32(120,90);
+			GImageMiscOps.fillUniform(input, rand, 0, 100);
+
+			expected.constructPyramid(input);
+			expected.computeFeatureIntensity();
+			expected.computeDerivatives();
+
+			found.constructPyramid(input);
+			found.computeFeatureIntensity();
+			found.computeDerivatives();
+
+			for( int i = 0; i < expected.scale.length; i++ ) {
+				BoofTesting.assertEquals(expected.scale[i], found.scale[i], 1e-4);
+				BoofTesting.assertEquals(expected.derivX[i], found.derivX[i], 1e-4);
+				BoofTesting.assertEquals(expected.derivY[i], found.derivY[i], 1e-4);
+			}
+			for( int i = 0; i < expected.dog.length; i++ ) {
+				BoofTesting.assertEquals(expected.dog[i], found.dog[i], 1e-4);
+			}
+		}
+	}
+
+	/**
+	 * Only the selected layers should have their derivatives computed
+	 */
+	@Test
+	public void computeDerivatives_selected() {
+		SiftImageScaleSpace expected = new SiftImageScaleSpace(1.6f, 5, 2, false);
+		SiftImageScaleSpace found = new SiftImageScaleSpace_MT(1.6f, 5, 2, false);
+
+		ImageFloat32 input = new ImageFloat32(60,70);
+		GImageMiscOps.fillUniform(input, rand, 0, 100);
+
+		expected.constructPyramid(input);
+		expected.computeDerivatives();
+		found.constructPyramid(input);
+
+		boolean layers[] = new boolean[found.getTotalLayers()];
+		layers[1] = layers[7] = true;
+		found.computeDerivatives(layers);
+
+		for( int i = 0; i < layers.length; i++ ) {
+			if( layers[i] ) {
+				BoofTesting.assertEquals(expected.derivX[i], found.derivX[i], 1e-4);
+				BoofTesting.assertEquals(expected.derivY[i], found.derivY[i], 1e-4);
+			} else {
+				// never computed so the derivative shouldn't have been resized
+				org.junit.Assert.assertEquals(1, found.derivX[i].width);
+			}
+		}
+	}
+}
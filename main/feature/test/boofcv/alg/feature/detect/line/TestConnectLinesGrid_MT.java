@@ -0,0 +1,92 @@
+/*
+ * Copyright (c) 2011-2015, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.feature.detect.line;
+
+import boofcv.struct.feature.MatrixOfList;
+import georegression.struct.line.LineSegment2D_F32;
+import org.junit.Test;
+
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * @author Peter Abeles
+ */
+public class TestConnectLinesGrid_MT {
+
+	Random rand = new Random(234);
+
+	/**
+	 * Randomly generated short segments along a few lines.  The output should be identical.
+	 */
+	@Test
+	public void compareToSingle() {
+		int regionSize = 20;
+		MatrixOfList<LineSegment2D_F32> gridA = new MatrixOfList<LineSegment2D_F32>(6,7);
+		MatrixOfList<LineSegment2D_F32> gridB = new MatrixOfList<LineSegment2D_F32>(6,7);
+
+		for( int i = 0; i < gridA.height; i++ ) {
+			for( int j = 0; j < gridA.width; j++ ) {
+				int numLines = rand.nextInt(6);
+				for( int k = 0; k < numLines; k++ ) {
+					// mostly horizontal or vertical lines so that there is something to connect
+					float x0 = j*regionSize + rand.nextInt(regionSize);
+					float y0 = i*regionSize + rand.nextInt(regionSize);
+					float length = 2 + rand.nextInt(8);
+					float x1,y1;
+					if( rand.nextBoolean() ) {
+						x0 = j*regionSize + 10; x1 = x0 + rand.nextFloat()*0.1f; y1 = y0 + length;
+					} else {
+						y0 = i*regionSize + 10; y1 = y0 + rand.nextFloat()*0.1f; x1 = x0 + length;
+					}
+					gridA.get(j,i).add(new LineSegment2D_F32(x0,y0,x1,y1));
+					gridB.get(j,i).add(new LineSegment2D_F32(x0,y0,x1,y1));
+				}
+			}
+		}
+
+		int before = gridA.createSingleList().size();
+
+		ConnectLinesGrid expected = new ConnectLinesGrid(0.1,1,8);
+		ConnectLinesGrid_MT found = new ConnectLinesGrid_MT(0.1,1,8);
+
+		expected.process(gridA);
+		found.process(gridB);
+
+		List<LineSegment2D_F32> listA = gridA.createSingleList();
+		List<LineSegment2D_F32> listB = gridB.createSingleList();
+
+		// sanity check to make sure lines were connected
+		assertTrue(listA.size() < before);
+
+		assertEquals(listA.size(), listB.size());
+		for( int i = 0; i < listA.size(); i++ ) {
+			LineSegment2D_F32 a = listA.get(i);
+			LineSegment2D_F32 b = listB.get(i);
+
+			assertEquals(a.a.x, b.a.x, 0);
+			assertEquals(a.a.y, b.a.y, 0);
+			assertEquals(a.b.x, b.b.x, 0);
+			assertEquals(a.b.y, b.b.y, 0);
+		}
+	}
+}
@@ -0,0 +1,122 @@
+/*
+ * Copyright (c) 2011-2015, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.feature.detect.line;
+
+import boofcv.alg.feature.detect.line.gridline.*;
+import boofcv.concurrency.WorkerFactory;
+import boofcv.struct.feature.MatrixOfList;
+import boofcv.struct.image.ImageFloat32;
+import boofcv.struct.image.ImageUInt8;
+import georegression.fitting.line.ModelManagerLinePolar2D_F32;
+import georegression.struct.line.LinePolar2D_F32;
+import georegression.struct.line.LineSegment2D_F32;
+import org.ddogleg.fitting.modelset.ModelMatcher;
+import org.ddogleg.fitting.modelset.ransac.Ransac;
+import org.junit.Test;
+
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * @author Peter Abeles
+ */
+public class TestGridRansacLineDetector_MT extends CommonGridRansacLineDetectorChecks<ImageFloat32> {
+
+	public TestGridRansacLineDetector_MT() {
+		super(ImageFloat32.class);
+	}
+
+	@Override
+	public GridRansacLineDetector<ImageFloat32> createDetector(final int regionSize, final int maxDetectLines,
+															   ModelMatcher<LinePolar2D_F32, Edgel> robustMatcher) {
+		GridRansacLineDetector_MT<ImageFloat32> alg = new GridRansacLineDetector_MT<ImageFloat32>(
+				new WorkerFactory<GridRansacLineDetector<ImageFloat32>>() {
+			@Override
+			public GridRansacLineDetector<ImageFloat32> newInstance() {
+				return createSingle(regionSize, maxDetectLines);
+			}
+		});
+		return alg;
+	}
+
+	private static GridRansacLineDetector<ImageFloat32> createSingle( int regionSize, int maxDetectLines ) {
+		ModelManagerLinePolar2D_F32 manager = new ModelManagerLinePolar2D_F32();
+		GridLineModelDistance distance = new GridLineModelDistance(0.9f);
+		GridLineModelFitter fitter = new GridLineModelFitter(0.9f);
+
+		ModelMatcher<LinePolar2D_F32, Edgel> matcher =
+				new Ransac<LinePolar2D_F32,Edgel>(123123,manager,fitter,distance,25,1);
+		return new ImplGridRansacLineDetector_F32(regionSize, maxDetectLines, matcher);
+	}
+
+	/**
+	 * Every region contains an obvious line, which should be found no matter which thread processes the region.
+	 * When a single thread is used the results should be identical.
+	 */
+	@Test
+	public void compareToSingle() {
+		int width = 100, height = 90, regionSize = 15;
+		ImageUInt8 edgeImage = new ImageUInt8(width,height);
+		ImageFloat32 derivX = new ImageFloat32(width,height);
+		ImageFloat32 derivY = new ImageFloat32(width,height);
+
+		for( int y = 0; y < height; y++ ) {
+			for( int x = 0; x < width; x++ ) {
+				if( x % regionSize == 4 ) {
+					edgeImage.set(x, y, 1);
+					derivX.set(x, y, 20);
+				}
+			}
+		}
+
+		GridRansacLineDetector<ImageFloat32> expected = createSingle(regionSize, 5);
+		GridRansacLineDetector_MT<ImageFloat32> found =
+				(GridRansacLineDetector_MT<ImageFloat32>)createDetector(regionSize, 5, null);
+
+		expected.process(derivX, derivY, edgeImage);
+
+		for( int minBlockRows : new int[]{1,100} ) {
+			found.setMinBlockRows(minBlockRows);
+			found.process(derivX, derivY, edgeImage);
+
+			MatrixOfList<LineSegment2D_F32> a = expected.getFoundLines();
+			MatrixOfList<LineSegment2D_F32> b = found.getFoundLines();
+
+			assertEquals(a.width, b.width);
+			assertEquals(a.height, b.height);
+
+			for( int i = 0; i < a.height; i++ ) {
+				for( int j = 0; j < a.width; j++ ) {
+					List<LineSegment2D_F32> la = a.get(j, i);
+					List<LineSegment2D_F32> lb = b.get(j, i);
+
+					assertEquals(1, la.size());
+					assertEquals(la.size(), lb.size());
+					for( int k = 0; k < la.size(); k++ ) {
+						assertEquals(la.get(k).a.x, lb.get(k).a.x, 0.1);
+						assertEquals(la.get(k).b.x, lb.get(k).b.x, 0.1);
+						assertEquals(Math.min(la.get(k).a.y,la.get(k).b.y),Math.min(lb.get(k).a.y,lb.get(k).b.y), 0.1);
+						assertEquals(Math.max(la.get(k).a.y,la.get(k).b.y),Math.max(lb.get(k).a.y,lb.get(k).b.y), 0.1);
+					}
+				}
+			}
+		}
+	}
+}
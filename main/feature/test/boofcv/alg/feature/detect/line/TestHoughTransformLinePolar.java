@@ -20,12 +20,18 @@ package boofcv.alg.feature.detect.line;
 
 import boofcv.abst.feature.detect.extract.ConfigExtract;
 import boofcv.abst.feature.detect.extract.NonMaxSuppression;
+import boofcv.alg.misc.ImageMiscOps;
+import boofcv.alg.misc.ImageStatistics;
+import boofcv.core.image.GeneralizedImageOps;
 import boofcv.factory.feature.detect.extract.FactoryFeatureExtractor;
-import boofcv.struct.image.ImageUInt8;
+import boofcv.struct.image.*;
+import boofcv.testing.BoofTesting;
 import georegression.struct.line.LineParametric2D_F32;
 import org.ddogleg.struct.FastQueue;
 import org.junit.Test;
 
+import java.util.Random;
+
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertTrue;
 
@@ -65,4 +71,70 @@ public class TestHoughTransformLinePolar {
 			assertEquals(Math.abs(l.slope.y),1,0.1);
 		}
 	}
+
+	/**
+	 * Only vote for angles close to the gradient and see if the line is still detected
+	 */
+	@Test
+	public void obviousLines_gradient() {
+		obviousLines_gradient(ImageFloat32.class);
+		obviousLines_gradient(ImageSInt16.class);
+		obviousLines_gradient(ImageSInt32.class);
+	}
+
+	private <D extends ImageSingleBand> void obviousLines_gradient( Class<D> derivType ) {
+		ImageUInt8 binary = new ImageUInt8(width,height);
+		D derivX = GeneralizedImageOps.createSingleBand(derivType, width, height);
+		D derivY = GeneralizedImageOps.createSingleBand(derivType, width, height);
+
+		for( int i = 0; i < height; i++ ) {
+			binary.set(5, i, 1);
+			GeneralizedImageOps.set(derivX,5,i,20);
+		}
+
+		NonMaxSuppression extractor = FactoryFeatureExtractor.nonmax(new ConfigExtract(4,5,0, true));
+		HoughTransformLinePolar alg = new HoughTransformLinePolar(extractor,40,180);
+		alg.setGradientTolerance(Math.PI/36);
+
+		alg.transform(derivX,derivY,binary);
+
+		// each pixel should vote for 11 angles instead of 180
+		assertEquals(height*11, ImageStatistics.sum(alg.getTransform()), 1e-4);
+
+		FastQueue<LineParametric2D_F32> lines =  alg.extractLines();
+
+		assertTrue(lines.size() > 0);
+
+		for( int i = 0; i < lines.size(); i++ ) {
+			LineParametric2D_F32 l = lines.get(i);
+			assertEquals(l.p.x,5,0.1);
+			assertEquals(Math.abs(l.slope.x),0,1e-4);
+			assertEquals(Math.abs(l.slope.y),1,0.1);
+		}
+	}
+
+	/**
+	 * If the tolerance includes every angle then the gradient should have no effect
+	 */
+	@Test
+	public void gradient_allAngles() {
+		ImageUInt8 binary = new ImageUInt8(width,height);
+		ImageFloat32 derivX = new ImageFloat32(width,height);
+		ImageFloat32 derivY = new ImageFloat32(width,height);
+
+		Random rand = new Random(234);
+		ImageMiscOps.fillUniform(binary, rand, 0, 2);
+		ImageMiscOps.fillUniform(derivX, rand, -10, 10);
+		ImageMiscOps.fillUniform(derivY, rand, -10, 10);
+
+		NonMaxSuppression extractor = FactoryFeatureExtractor.nonmax(new ConfigExtract(4,5,0, true));
+		HoughTransformLinePolar expected = new HoughTransformLinePolar(extractor,40,180);
+		HoughTransformLinePolar found = new HoughTransformLinePolar(extractor,40,180);
+		found.setGradientTolerance(Math.PI);
+
+		expected.transform(binary);
+		found.transform(derivX,derivY,binary);
+
+		BoofTesting.assertEquals(expected.getTransform(), found.getTransform(), 1e-8);
+	}
 }
@@ -0,0 +1,77 @@
+/*
+ * Copyright (c) 2011-2015, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.feature.detect.line;
+
+import boofcv.abst.feature.detect.extract.ConfigExtract;
+import boofcv.abst.feature.detect.extract.NonMaxSuppression;
+import boofcv.alg.misc.GImageMiscOps;
+import boofcv.alg.misc.ImageMiscOps;
+import boofcv.core.image.GeneralizedImageOps;
+import boofcv.factory.feature.detect.extract.FactoryFeatureExtractor;
+import boofcv.struct.image.*;
+import boofcv.testing.BoofTesting;
+import org.junit.Test;
+
+import java.util.Random;
+
+/**
+ * @author Peter Abeles
+ */
+public class TestHoughTransformLinePolar_MT {
+
+	Random rand = new Random(234);
+	int width = 60;
+
+	@Test
+	public void compareToSingle() {
+		int heights[] = new int[]{5,40,95};
+
+		for( int height : heights ) {
+			compareToSingle(ImageFloat32.class, height);
+			compareToSingle(ImageSInt16.class, height);
+			compareToSingle(ImageSInt32.class, height);
+		}
+	}
+
+	private <D extends ImageSingleBand> void compareToSingle( Class<D> derivType , int height ) {
+		ImageUInt8 binary = new ImageUInt8(width,height);
+		D derivX = GeneralizedImageOps.createSingleBand(derivType, width, height);
+		D derivY = GeneralizedImageOps.createSingleBand(derivType, width, height);
+
+		ImageMiscOps.fillUniform(binary, rand, 0, 2);
+		GImageMiscOps.fillUniform(derivX, rand, -10, 10);
+		GImageMiscOps.fillUniform(derivY, rand, -10, 10);
+
+		NonMaxSuppression extractor = FactoryFeatureExtractor.nonmax(new ConfigExtract(4,5,0, true));
+		HoughTransformLinePolar expected = new HoughTransformLinePolar(extractor,50,180);
+		HoughTransformLinePolar_MT found = new HoughTransformLinePolar_MT(extractor,50,180);
+		found.setMinBlockRows(2);
+
+		// call it twice to make sure the accumulators are reset
+		for( int trial = 0; trial < 2; trial++ ) {
+			expected.transform(binary);
+			found.transform(binary);
+			BoofTesting.assertEquals(expected.getTransform(), found.getTransform(), 1e-8);
+
+			expected.transform(derivX, derivY, binary);
+			found.transform(derivX, derivY, binary);
+			BoofTesting.assertEquals(expected.getTransform(), found.getTransform(), 1e-8);
+		}
+	}
+}
@@ -0,0 +1,163 @@
+/*
+ * Copyright (c) 2011-2015, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.feature.detect.template;
+
+import boofcv.alg.misc.GImageMiscOps;
+import boofcv.alg.misc.ImageMiscOps;
+import boofcv.core.image.GeneralizedImageOps;
+import boofcv.struct.image.ImageFloat32;
+import boofcv.struct.image.ImageSingleBand;
+import boofcv.struct.image.ImageUInt8;
+import boofcv.testing.BoofTesting;
+import org.junit.Test;
+
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * @author Peter Abeles
+ */
+public class TestTemplateNCCFft {
+
+	Random rand = new Random(234);
+
+	@Test
+	public void instanceF32() {
+		new GeneralTemplateMatchTests<ImageFloat32>(new TemplateNCCFft<ImageFloat32>(), ImageFloat32.class) {
+		}.allTests();
+	}
+
+	@Test
+	public void instanceU8() {
+		new GeneralTemplateMatchTests<ImageUInt8>(new TemplateNCCFft<ImageUInt8>(), ImageUInt8.class) {
+		}.allTests();
+	}
+
+	/**
+	 * Compare against the direct computation.  Several image sizes are tried so that the image is processed
+	 * with one tile and multiple tiles.
+	 */
+	@Test
+	public void compareToDirect() {
+		compareToDirect(new TemplateNCC.F32(), ImageFloat32.class, 30, 40, 5, 8);
+		compareToDirect(new TemplateNCC.F32(), ImageFloat32.class, 100, 90, 7, 6);
+		compareToDirect(new TemplateNCC.F32(), ImageFloat32.class, 150, 125, 20, 17);
+		compareToDirect(new TemplateNCC.U8(), ImageUInt8.class, 100, 90, 7, 6);
+	}
+
+	private <T extends ImageSingleBand>
+	void compareToDirect( TemplateNCC<T> direct , Class<T> imageType , int width , int height , int tw , int th ) {
+		T image = GeneralizedImageOps.createSingleBand(imageType, width, height);
+		T template = GeneralizedImageOps.createSingleBand(imageType, tw, th);
+		GImageMiscOps.fillUniform(image, rand, 0, 200);
+		GImageMiscOps.fillUniform(template, rand, 0, 200);
+
+		TemplateNCCFft<T> alg = new TemplateNCCFft<T>();
+
+		direct.process(image, template);
+		alg.process(BoofTesting.createSubImageOf(image), template);
+
+		assertEquals(direct.getOffsetX(), alg.getOffsetX());
+		assertEquals(direct.getOffsetY(), alg.getOffsetY());
+
+		ImageFloat32 expected = direct.getIntensity();
+		ImageFloat32 found = alg.getIntensity();
+
+		// the maximum possible score is the template's area
+		float tol = tw*th*1e-4f;
+
+		for( int y = 0; y < height - th; y++ ) {
+			for( int x = 0; x < width - tw; x++ ) {
+				int xx = x + alg.getOffsetX();
+				int yy = y + alg.getOffsetY();
+				assertEquals(expected.get(xx, yy), found.get(xx, yy), tol);
+			}
+		}
+	}
+
+	/**
+	 * The coarse to fine search should find the same match as the full search and evaluate it
+	 * with the same score.
+	 */
+	@Test
+	public void coarseToFine() {
+		ImageFloat32 image = new ImageFloat32(120,100);
+		ImageFloat32 template = new ImageFloat32(16,12);
+
+		// smooth random pattern so that it is still distinctive after being down sampled
+		ImageMiscOps.fillUniform(image, rand, 0, 200);
+		for( int y = 0; y < template.height; y++ ) {
+			for( int x = 0; x < template.width; x++ ) {
+				template.set(x, y, 100 + 80*(float)Math.sin(x*0.5 + y*0.3));
+			}
+		}
+		int locationX = 50, locationY = 37;
+		image.subimage(locationX, locationY, locationX + template.width, locationY + template.height, null).setTo(template);
+
+		TemplateNCCFft<ImageFloat32> full = new TemplateNCCFft<ImageFloat32>();
+		TemplateNCCFft<ImageFloat32> alg = new TemplateNCCFft<ImageFloat32>();
+		alg.setCoarseToFine(2, 5);
+
+		full.process(image, template);
+		alg.process(image, template);
+
+		int x = locationX + alg.getOffsetX();
+		int y = locationY + alg.getOffsetY();
+
+		assertEquals(full.getIntensity().get(x, y), alg.getIntensity().get(x, y), 1e-2f);
+
+		// the match should be the best score in the image and most locations should not be evaluated
+		int numEvaluated = 0;
+		float best = -Float.MAX_VALUE;
+		ImageFloat32 intensity = alg.getIntensity();
+		for( int i = 0; i < intensity.height; i++ ) {
+			for( int j = 0; j < intensity.width; j++ ) {
+				float v = intensity.get(j, i);
+				if( v != -Float.MAX_VALUE ) {
+					numEvaluated++;
+					best = Math.max(best, v);
+				}
+			}
+		}
+		assertEquals(best, intensity.get(x, y), 1e-4f);
+		assertTrue(numEvaluated < intensity.width*intensity.height/4);
+	}
+
+	/**
+	 * If the template is too small to down sample then the full search should be used
+	 */
+	@Test
+	public void coarseToFine_smallTemplate() {
+		ImageFloat32 image = new ImageFloat32(30,40);
+		ImageFloat32 template = new ImageFloat32(5,6);
+		ImageMiscOps.fillUniform(image, rand, 0, 200);
+		ImageMiscOps.fillUniform(template, rand, 0, 200);
+
+		TemplateNCCFft<ImageFloat32> full = new TemplateNCCFft<ImageFloat32>();
+		TemplateNCCFft<ImageFloat32> alg = new TemplateNCCFft<ImageFloat32>();
+		alg.setCoarseToFine(2, 5);
+
+		full.process(image, template);
+		alg.process(image, template);
+
+		BoofTesting.assertEquals(full.getIntensity(), alg.getIntensity(), 1e-8);
+	}
+}
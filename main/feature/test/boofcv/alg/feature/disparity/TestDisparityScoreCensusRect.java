@@ -0,0 +1,226 @@
+/*
+ * Copyright (c) 2011-2015, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.feature.disparity;
+
+import boofcv.alg.feature.disparity.impl.ImplSelectRectStandard_S32_U8;
+import boofcv.alg.misc.ImageMiscOps;
+import boofcv.alg.transform.census.CensusTransform;
+import boofcv.alg.transform.census.CensusType;
+import boofcv.struct.image.ImageSInt32;
+import boofcv.struct.image.ImageSInt64;
+import boofcv.struct.image.ImageUInt8;
+import boofcv.testing.BoofTesting;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * @author Peter Abeles
+ */
+public class TestDisparityScoreCensusRect {
+
+	Random rand = new Random(234);
+
+	int width = 40, height = 30;
+
+	// census transform of the input images used by the naive implementation
+	ImageSInt32 census32L, census32R;
+	ImageSInt64 census64L, census64R;
+
+	/**
+	 * Compare the scores passed to DisparitySelect against a brute force computation
+	 */
+	@Test
+	public void compareScoresToNaive() {
+		compareScoresToNaive(CensusType.REGION_5x5, 0, 10, 2, 1);
+		compareScoresToNaive(CensusType.REGION_5x5, 3, 12, 1, 2);
+		compareScoresToNaive(CensusType.REGION_9x7, 0, 10, 2, 1);
+		compareScoresToNaive(CensusType.REGION_9x7, 3, 12, 1, 2);
+	}
+
+	private void compareScoresToNaive( CensusType type , int minDisparity , int maxDisparity ,
+									   int radiusX , int radiusY ) {
+		ImageUInt8 left = new ImageUInt8(width,height);
+		ImageUInt8 right = new ImageUInt8(width,height);
+		ImageMiscOps.fillUniform(left, rand, 0, 255);
+		ImageMiscOps.fillUniform(right, rand, 0, 255);
+
+		RecordScores select = new RecordScores();
+		DisparityScoreCensusRect<ImageUInt8> alg =
+				new DisparityScoreCensusRect<ImageUInt8>(minDisparity,maxDisparity,radiusX,radiusY,type,select);
+		alg.process(left, right, new ImageUInt8(width, height));
+
+		if( type == CensusType.REGION_5x5 ) {
+			census32L = CensusTransform.region5x5(left, null);
+			census32R = CensusTransform.region5x5(right, null);
+		} else {
+			census64L = CensusTransform.region9x7(left, null);
+			census64R = CensusTransform.region9x7(right, null);
+		}
+
+		int cx = type.getRadiusX(), cy = type.getRadiusY();
+		int innerWidth = width - 2*cx;
+
+		assertEquals(height - 2*cy - 2*radiusY, select.rows.size());
+
+		for( int i = 0; i < select.rows.size(); i++ ) {
+			int y = select.rows.get(i);
+			assertEquals(radiusY + i, y);
+			int scores[] = select.scores.get(i);
+
+			for( int d = minDisparity; d < maxDisparity; d++ ) {
+				for( int x = radiusX + d; x < innerWidth - radiusX; x++ ) {
+					int expected = naive(type, x + cx, y + cy, d, radiusX, radiusY);
+					int found = scores[innerWidth*(d - minDisparity) + x - radiusX - minDisparity];
+					assertEquals(expected, found);
+				}
+			}
+		}
+	}
+
+	/**
+	 * The census transform should be insensitive to changes in gain and bias between the two images
+	 */
+	@Test
+	public void knownShift_gainBias() {
+		for( CensusType type : CensusType.values() ) {
+			int shift = 4;
+			ImageUInt8 left = new ImageUInt8(width,height);
+			ImageUInt8 right = new ImageUInt8(width,height);
+			ImageMiscOps.fillUniform(left, rand, 0, 100);
+
+			for( int y = 0; y < height; y++ ) {
+				for( int x = 0; x < width-shift; x++ ) {
+					right.set(x, y, left.get(x + shift, y)*2 + 30);
+				}
+			}
+
+			DisparityScoreCensusRect<ImageUInt8> alg = new DisparityScoreCensusRect<ImageUInt8>(
+					1,10,2,2,type,new ImplSelectRectStandard_S32_U8(-1,-1,-1));
+			ImageUInt8 disparity = new ImageUInt8(width,height);
+			alg.process(left, right, disparity);
+
+			int borderX = alg.getBorderX(), borderY = alg.getBorderY();
+			for( int y = borderY; y < height - borderY; y++ ) {
+				for( int x = borderX + 10; x < width - borderX - shift; x++ ) {
+					assertEquals(shift - 1, disparity.get(x, y));
+				}
+			}
+		}
+	}
+
+	/**
+	 * The image border is not modified
+	 */
+	@Test
+	public void checkBorder() {
+		ImageUInt8 left = new ImageUInt8(width,height);
+		ImageUInt8 right = new ImageUInt8(width,height);
+		ImageMiscOps.fillUniform(left, rand, 0, 255);
+		ImageMiscOps.fillUniform(right, rand, 0, 255);
+
+		DisparityScoreCensusRect<ImageUInt8> alg = new DisparityScoreCensusRect<ImageUInt8>(
+				0,10,2,1,CensusType.REGION_9x7,new ImplSelectRectStandard_S32_U8(-1,-1,-1));
+		ImageUInt8 disparity = new ImageUInt8(width,height);
+		ImageMiscOps.fill(disparity, 200);
+		alg.process(left, right, disparity);
+
+		assertEquals(6, alg.getBorderX());
+		assertEquals(4, alg.getBorderY());
+
+		for( int y = 0; y < height; y++ ) {
+			for( int x = 0; x < width; x++ ) {
+				boolean inside = x >= 6 && x < width-6 && y >= 4 && y < height-4;
+				if( !inside )
+					assertEquals(200, disparity.get(x, y));
+				else
+					assertTrue(disparity.get(x, y) <= 11);
+			}
+		}
+	}
+
+	@Test
+	public void subimage() {
+		ImageUInt8 left = new ImageUInt8(width,height);
+		ImageUInt8 right = new ImageUInt8(width,height);
+		ImageMiscOps.fillUniform(left, rand, 0, 255);
+		ImageMiscOps.fillUniform(right, rand, 0, 255);
+
+		DisparityScoreCensusRect<ImageUInt8> alg = new DisparityScoreCensusRect<ImageUInt8>(
+				2,10,2,1,CensusType.REGION_5x5,new ImplSelectRectStandard_S32_U8(-1,2,-1));
+
+		ImageUInt8 expected = new ImageUInt8(width,height);
+		alg.process(left, right, expected);
+
+		ImageUInt8 found = BoofTesting.createSubImageOf(expected);
+		ImageMiscOps.fill(found, 0);
+		alg.process(BoofTesting.createSubImageOf(left), BoofTesting.createSubImageOf(right), found);
+
+		BoofTesting.assertEquals(expected, found, 0);
+	}
+
+	private int naive( CensusType type ,
+					   int x , int y , int d , int radiusX , int radiusY ) {
+		int total = 0;
+		if( type == CensusType.REGION_5x5 ) {
+			for( int i = -radiusY; i <= radiusY; i++ ) {
+				for( int j = -radiusX; j <= radiusX; j++ ) {
+					total += Integer.bitCount(census32L.get(x + j, y + i) ^ census32R.get(x + j - d, y + i));
+				}
+			}
+		} else {
+			for( int i = -radiusY; i <= radiusY; i++ ) {
+				for( int j = -radiusX; j <= radiusX; j++ ) {
+					total += Long.bitCount(census64L.get(x + j, y + i) ^ census64R.get(x + j - d, y + i));
+				}
+			}
+		}
+		return total;
+	}
+
+	/**
+	 * Saves a copy of the scores for each row
+	 */
+	private static class RecordScores implements DisparitySelect<int[],ImageUInt8> {
+		List<Integer> rows = new ArrayList<Integer>();
+		List<int[]> scores = new ArrayList<int[]>();
+
+		@Override
+		public void configure(ImageUInt8 imageDisparity, int minDisparity, int maxDisparity, int radiusX) {
+			rows.clear();
+			scores.clear();
+		}
+
+		@Override
+		public void process(int row, int[] scoresArray) {
+			rows.add(row);
+			scores.add(scoresArray.clone());
+		}
+
+		@Override
+		public Class<ImageUInt8> getDisparityType() {
+			return ImageUInt8.class;
+		}
+	}
+}
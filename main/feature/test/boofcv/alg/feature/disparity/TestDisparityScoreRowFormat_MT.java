@@ -0,0 +1,147 @@
+/*
+ * Copyright (c) 2011-2015, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.feature.disparity;
+
+import boofcv.alg.feature.disparity.impl.ImplDisparityScoreSadRectFive_U8;
+import boofcv.alg.feature.disparity.impl.ImplDisparityScoreSadRect_F32;
+import boofcv.alg.feature.disparity.impl.ImplDisparityScoreSadRect_U8;
+import boofcv.alg.feature.disparity.impl.ImplSelectRectStandard_S32_U8;
+import boofcv.alg.feature.disparity.impl.SelectRectSubpixel;
+import boofcv.alg.misc.GImageMiscOps;
+import boofcv.alg.transform.census.CensusType;
+import boofcv.concurrency.WorkerFactory;
+import boofcv.core.image.GeneralizedImageOps;
+import boofcv.struct.image.ImageFloat32;
+import boofcv.struct.image.ImageSingleBand;
+import boofcv.struct.image.ImageUInt8;
+import boofcv.testing.BoofTesting;
+import org.junit.Test;
+
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * @author Peter Abeles
+ */
+public class TestDisparityScoreRowFormat_MT {
+
+	Random rand = new Random(234);
+
+	int width = 80;
+	int height = 95;
+
+	@Test
+	public void compareToSingle_rect_U8() {
+		compareToSingle(new WorkerFactory<DisparityScoreRowFormat<ImageUInt8, ImageUInt8>>() {
+			@Override
+			public DisparityScoreRowFormat<ImageUInt8, ImageUInt8> newInstance() {
+				return new ImplDisparityScoreSadRect_U8<ImageUInt8>(2,20,2,3,
+						new ImplSelectRectStandard_S32_U8(-1,2,0.1));
+			}
+		}, ImageUInt8.class);
+	}
+
+	@Test
+	public void compareToSingle_five_U8() {
+		compareToSingle(new WorkerFactory<DisparityScoreRowFormat<ImageUInt8, ImageFloat32>>() {
+			@Override
+			public DisparityScoreRowFormat<ImageUInt8, ImageFloat32> newInstance() {
+				return new ImplDisparityScoreSadRectFive_U8<ImageFloat32>(0,20,2,2,
+						new SelectRectSubpixel.S32_F32(-1,2,0.1));
+			}
+		}, ImageUInt8.class);
+	}
+
+	@Test
+	public void compareToSingle_rect_F32() {
+		compareToSingle(new WorkerFactory<DisparityScoreRowFormat<ImageFloat32, ImageFloat32>>() {
+			@Override
+			public DisparityScoreRowFormat<ImageFloat32, ImageFloat32> newInstance() {
+				return new ImplDisparityScoreSadRect_F32<ImageFloat32>(0,15,3,1,
+						new SelectRectSubpixel.F32_F32(-1,-1,0.1));
+			}
+		}, ImageFloat32.class);
+	}
+
+	@Test
+	public void compareToSingle_census() {
+		compareToSingle(new WorkerFactory<DisparityScoreRowFormat<ImageUInt8, ImageFloat32>>() {
+			@Override
+			public DisparityScoreRowFormat<ImageUInt8, ImageFloat32> newInstance() {
+				return new DisparityScoreCensusRect<ImageFloat32>(1,15,2,2, CensusType.REGION_9x7,
+						new SelectRectSubpixel.S32_F32(-1,2,0.1));
+			}
+		}, ImageUInt8.class);
+	}
+
+	@Test
+	public void configuration() {
+		DisparityScoreRowFormat_MT<ImageUInt8,ImageFloat32> alg =
+				new DisparityScoreRowFormat_MT<ImageUInt8,ImageFloat32>(
+						new WorkerFactory<DisparityScoreRowFormat<ImageUInt8, ImageFloat32>>() {
+			@Override
+			public DisparityScoreRowFormat<ImageUInt8, ImageFloat32> newInstance() {
+				return new ImplDisparityScoreSadRectFive_U8<ImageFloat32>(2,20,3,2,
+						new SelectRectSubpixel.S32_F32(-1,2,0.1));
+			}
+		});
+
+		assertEquals(2,alg.getMinDisparity());
+		assertEquals(20,alg.getMaxDisparity());
+		assertEquals(6,alg.getBorderX());
+		assertEquals(4,alg.getBorderY());
+		assertEquals(ImageUInt8.class,alg.getInputType());
+		assertEquals(ImageFloat32.class,alg.getDisparityType());
+	}
+
+	private <T extends ImageSingleBand, D extends ImageSingleBand>
+	void compareToSingle( WorkerFactory<DisparityScoreRowFormat<T,D>> factory , Class<T> imageType ) {
+		T left = GeneralizedImageOps.createSingleBand(imageType,width,height);
+		T right = GeneralizedImageOps.createSingleBand(imageType,width,height);
+		GImageMiscOps.fillUniform(left, rand, 0, 30);
+		GImageMiscOps.fillUniform(right, rand, 0, 30);
+
+		DisparityScoreRowFormat<T,D> single = factory.newInstance();
+		DisparityScoreRowFormat_MT<T,D> alg = new DisparityScoreRowFormat_MT<T,D>(factory);
+		// small blocks to make sure the image is split up
+		alg.setMinBlockRows(3);
+
+		D expected = GeneralizedImageOps.createSingleBand(single.getDisparityType(),width,height);
+		D found = GeneralizedImageOps.createSingleBand(single.getDisparityType(),width,height);
+		GImageMiscOps.fill(expected,100);
+		GImageMiscOps.fill(found,100);
+
+		single.process(left,right,expected);
+		// process twice to see if it's reset correctly
+		alg.process(left,right,found);
+		alg.process(left,right,found);
+
+		BoofTesting.assertEquals(expected,found,1e-4);
+
+		// try it on a sub-image
+		T subLeft = BoofTesting.createSubImageOf(left);
+		T subRight = BoofTesting.createSubImageOf(right);
+		D subFound = BoofTesting.createSubImageOf(found);
+		GImageMiscOps.fill(subFound,100);
+		alg.process(subLeft,subRight,subFound);
+
+		BoofTesting.assertEquals(expected,subFound,1e-4);
+	}
+}
@@ -0,0 +1,66 @@
+/*
+ * Copyright (c) 2011-2015, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.feature.disparity.sgm;
+
+import boofcv.alg.misc.ImageMiscOps;
+import boofcv.struct.image.ImageUInt8;
+import boofcv.testing.BoofTesting;
+import org.junit.Test;
+
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * @author Peter Abeles
+ */
+public class TestSgmCostAbsoluteDifference {
+
+	Random rand = new Random(234);
+
+	@Test
+	public void computeRow() {
+		ImageUInt8 left = new ImageUInt8(30,20);
+		ImageUInt8 right = new ImageUInt8(30,20);
+		ImageMiscOps.fillUniform(left, rand, 0, 255);
+		ImageMiscOps.fillUniform(right, rand, 0, 255);
+
+		checkRow(left, right);
+		checkRow(BoofTesting.createSubImageOf(left), BoofTesting.createSubImageOf(right));
+	}
+
+	private void checkRow(ImageUInt8 left, ImageUInt8 right) {
+		SgmCostAbsoluteDifference alg = new SgmCostAbsoluteDifference();
+		alg.setImages(left, right);
+
+		int minDisparity = 2, range = 10, y = 7;
+		short cost[] = new short[left.width*range];
+		alg.computeRow(y, 0, left.width, minDisparity, range, cost);
+
+		for (int x = 0; x < left.width; x++) {
+			for (int k = 0; k < range; k++) {
+				int xr = x - minDisparity - k;
+				int expected = 255;
+				if( xr >= 0 )
+					expected = Math.abs(left.get(x, y) - right.get(xr, y));
+				assertEquals(expected, cost[x*range + k]);
+			}
+		}
+	}
+}
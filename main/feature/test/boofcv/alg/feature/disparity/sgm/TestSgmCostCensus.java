@@ -0,0 +1,96 @@
+/*
+ * Copyright (c) 2011-2015, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.feature.disparity.sgm;
+
+import boofcv.alg.misc.ImageMiscOps;
+import boofcv.alg.transform.census.CensusTransform;
+import boofcv.alg.transform.census.CensusType;
+import boofcv.struct.image.ImageSInt32;
+import boofcv.struct.image.ImageSInt64;
+import boofcv.struct.image.ImageUInt8;
+import org.junit.Test;
+
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * @author Peter Abeles
+ */
+public class TestSgmCostCensus {
+
+	Random rand = new Random(234);
+
+	@Test
+	public void computeRow_5x5() {
+		ImageUInt8 left = new ImageUInt8(30,20);
+		ImageUInt8 right = new ImageUInt8(30,20);
+		ImageMiscOps.fillUniform(left, rand, 0, 255);
+		ImageMiscOps.fillUniform(right, rand, 0, 255);
+
+		ImageSInt32 censusLeft = CensusTransform.region5x5(left, null);
+		ImageSInt32 censusRight = CensusTransform.region5x5(right, null);
+
+		SgmCostCensus alg = new SgmCostCensus(CensusType.REGION_5x5);
+		alg.setImages(left, right);
+
+		int minDisparity = 2, range = 10, y = 7;
+		short cost[] = new short[left.width*range];
+		alg.computeRow(y, 3, 25, minDisparity, range, cost);
+
+		for (int x = 3; x < 25; x++) {
+			for (int k = 0; k < range; k++) {
+				int xr = x - minDisparity - k;
+				int expected = 24;
+				if( xr >= 0 )
+					expected = Integer.bitCount(censusLeft.get(x, y) ^ censusRight.get(xr, y));
+				assertEquals(expected, cost[x*range + k]);
+			}
+		}
+	}
+
+	@Test
+	public void computeRow_9x7() {
+		ImageUInt8 left = new ImageUInt8(30,20);
+		ImageUInt8 right = new ImageUInt8(30,20);
+		ImageMiscOps.fillUniform(left, rand, 0, 255);
+		ImageMiscOps.fillUniform(right, rand, 0, 255);
+
+		ImageSInt64 censusLeft = CensusTransform.region9x7(left, null);
+		ImageSInt64 censusRight = CensusTransform.region9x7(right, null);
+
+		SgmCostCensus alg = new SgmCostCensus(CensusType.REGION_9x7);
+		alg.setImages(left, right);
+		assertEquals(62, alg.getMaxCost());
+
+		int minDisparity = 1, range = 8, y = 12;
+		short cost[] = new short[left.width*range];
+		alg.computeRow(y, 0, left.width, minDisparity, range, cost);
+
+		for (int x = 0; x < left.width; x++) {
+			for (int k = 0; k < range; k++) {
+				int xr = x - minDisparity - k;
+				int expected = 62;
+				if( xr >= 0 )
+					expected = Long.bitCount(censusLeft.get(x, y) ^ censusRight.get(xr, y));
+				assertEquals(expected, cost[x*range + k]);
+			}
+		}
+	}
+}
@@ -0,0 +1,240 @@
+/*
+ * Copyright (c) 2011-2015, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.feature.disparity.sgm;
+
+import boofcv.alg.misc.ImageMiscOps;
+import boofcv.struct.image.ImageFloat32;
+import boofcv.struct.image.ImageSingleBand;
+import boofcv.struct.image.ImageUInt8;
+import org.junit.Test;
+
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * @author Peter Abeles
+ */
+public class TestSgmStereoDisparity {
+
+	Random rand = new Random(234);
+
+	int width = 40;
+	int height = 30;
+
+	/**
+	 * Compare the aggregated cost against a naive implementation which stores the cost along every path
+	 */
+	@Test
+	public void aggregated_naive() {
+		ImageUInt8 left = new ImageUInt8(width,height);
+		ImageUInt8 right = new ImageUInt8(width,height);
+		ImageMiscOps.fillUniform(left, rand, 0, 255);
+		ImageMiscOps.fillUniform(right, rand, 0, 255);
+
+		for( int numPaths : new int[]{4,8}) {
+			SgmStereoDisparity<ImageUInt8,ImageUInt8> alg = create(numPaths, -1, ImageUInt8.class);
+			alg.process(left, right, new ImageUInt8(width, height));
+
+			int expected[] = naiveAggregate(alg, left, right, numPaths);
+			for (int i = 0; i < expected.length; i++) {
+				assertEquals(expected[i], alg.aggregated[i]);
+			}
+		}
+	}
+
+	/**
+	 * The right image is the left image shifted by a known amount.  See if it finds that amount
+	 */
+	@Test
+	public void knownShift() {
+		for( SgmDisparityCost<ImageUInt8> cost : new SgmDisparityCost[]{
+				new SgmCostCensus(), new SgmCostAbsoluteDifference()}) {
+			int minDisparity = 2;
+			int shift = 7;
+			ImageUInt8 left = new ImageUInt8(width,height);
+			ImageUInt8 right = new ImageUInt8(width,height);
+			createShifted(left, right, shift);
+
+			SgmStereoDisparity<ImageUInt8,ImageUInt8> alg =
+					new SgmStereoDisparity<ImageUInt8,ImageUInt8>(cost,minDisparity,12,3,20,8,1,ImageUInt8.class);
+
+			ImageUInt8 disparity = new ImageUInt8(width,height);
+			alg.process(left, right, disparity);
+
+			for (int y = 2; y < height-2; y++) {
+				for (int x = 0; x < width; x++) {
+					int found = disparity.get(x,y);
+					if( x < minDisparity ) {
+						// nothing to match against
+						assertEquals(11, found);
+					} else if( x >= shift + 2 && x < width - 2 ) {
+						// pixels close to the image border are less reliable
+						assertEquals(shift - minDisparity, found);
+					}
+				}
+			}
+		}
+	}
+
+	@Test
+	public void knownShift_subpixel() {
+		int shift = 5;
+		ImageUInt8 left = new ImageUInt8(width,height);
+		ImageUInt8 right = new ImageUInt8(width,height);
+		createShifted(left, right, shift);
+
+		SgmStereoDisparity<ImageUInt8,ImageFloat32> alg = create(8, 1, ImageFloat32.class);
+
+		ImageFloat32 disparity = new ImageFloat32(width,height);
+		alg.process(left, right, disparity);
+
+		// the sub-pixel estimate should be close to the true value
+		double error = 0;
+		int total = 0;
+		for (int y = 2; y < height-2; y++) {
+			for (int x = shift+2; x < width-2; x++) {
+				assertEquals(shift, disparity.get(x, y), 0.5);
+				error += Math.abs(shift - disparity.get(x, y));
+				total++;
+			}
+		}
+		assertTrue(error/total < 0.15);
+	}
+
+	/**
+	 * Occluded regions should be marked as invalid by the right to left validation
+	 */
+	@Test
+	public void rightToLeft() {
+		ImageUInt8 left = new ImageUInt8(width,height);
+		ImageUInt8 right = new ImageUInt8(width,height);
+		createShifted(left, right, 5);
+		// random noise in the left image which can't be seen in the right
+		for (int y = 0; y < height; y++) {
+			for (int x = 15; x < 25; x++) {
+				left.set(x, y, rand.nextInt(256));
+			}
+		}
+
+		ImageUInt8 disparity = new ImageUInt8(width,height);
+
+		create(8, -1, ImageUInt8.class).process(left, right, disparity);
+		int invalidWithout = countInvalid(disparity);
+		create(8, 0, ImageUInt8.class).process(left, right, disparity);
+		int invalidWith = countInvalid(disparity);
+
+		assertTrue(invalidWith > invalidWithout);
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void checkOverflow() {
+		new SgmStereoDisparity<ImageUInt8,ImageUInt8>(new SgmCostAbsoluteDifference(),0,10,10,4000,8,1,
+				ImageUInt8.class);
+	}
+
+	private int countInvalid( ImageUInt8 disparity ) {
+		int total = 0;
+		for (int y = 0; y < height; y++) {
+			for (int x = 0; x < width; x++) {
+				if( disparity.get(x, y) > 10 )
+					total++;
+			}
+		}
+		return total;
+	}
+
+	private <D extends ImageSingleBand> SgmStereoDisparity<ImageUInt8,D>
+	create( int numPaths , int rightToLeft , Class<D> type ) {
+		return new SgmStereoDisparity<ImageUInt8,D>(new SgmCostCensus(),0,10,3,20,numPaths,rightToLeft,type);
+	}
+
+	/**
+	 * Creates a textured left image and a right image which is the left image shifted by the specified amount
+	 */
+	private void createShifted( ImageUInt8 left , ImageUInt8 right , int shift ) {
+		ImageMiscOps.fillUniform(left, rand, 0, 255);
+		for (int y = 0; y < height; y++) {
+			for (int x = 0; x < width; x++) {
+				int xl = x + shift;
+				right.set(x, y, xl < width ? left.get(xl, y) : rand.nextInt(256));
+			}
+		}
+	}
+
+	/**
+	 * Computes the aggregated cost by storing the path cost for every pixel, path, and disparity
+	 */
+	private int[] naiveAggregate( SgmStereoDisparity alg , ImageUInt8 left , ImageUInt8 right , int numPaths ) {
+		int R = alg.rangeDisparity;
+		int P1 = alg.penalty1, P2 = alg.penalty2;
+
+		SgmDisparityCost<ImageUInt8> cost = alg.getCost();
+		cost.setImages(left, right);
+		short C[][] = new short[height][width*R];
+		for (int y = 0; y < height; y++) {
+			cost.computeRow(y, 0, width, alg.minDisparity, R, C[y]);
+		}
+
+		int directions[][];
+		if( numPaths == 4 )
+			directions = new int[][]{{1,0},{-1,0},{0,1},{0,-1}};
+		else
+			directions = new int[][]{{1,0},{-1,0},{0,1},{0,-1},{1,1},{-1,1},{1,-1},{-1,-1}};
+
+		int total[] = new int[width*height*R];
+
+		for( int dir[] : directions ) {
+			int dx = dir[0], dy = dir[1];
+			int L[][][] = new int[height][width][R];
+
+			for (int i = 0; i < height; i++) {
+				int y = dy >= 0 ? i : height - 1 - i;
+				for (int j = 0; j < width; j++) {
+					int x = dx >= 0 ? j : width - 1 - j;
+
+					int px = x - dx, py = y - dy;
+					boolean start = px < 0 || px >= width || py < 0 || py >= height;
+
+					int minPrev = Integer.MAX_VALUE;
+					if( !start ) {
+						for (int k = 0; k < R; k++)
+							minPrev = Math.min(minPrev, L[py][px][k]);
+					}
+
+					for (int k = 0; k < R; k++) {
+						int c = C[y][x*R + k];
+						if( start ) {
+							L[y][x][k] = c;
+						} else {
+							int best = L[py][px][k];
+							if( k > 0 ) best = Math.min(best, L[py][px][k-1] + P1);
+							if( k < R-1 ) best = Math.min(best, L[py][px][k+1] + P1);
+							best = Math.min(best, minPrev + P2);
+							L[y][x][k] = c + best - minPrev;
+						}
+						total[(y*width + x)*R + k] += L[y][x][k];
+					}
+				}
+			}
+		}
+		return total;
+	}
+}
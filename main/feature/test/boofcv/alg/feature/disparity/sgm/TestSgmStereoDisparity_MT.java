@@ -0,0 +1,65 @@
+/*
+ * Copyright (c) 2011-2015, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.feature.disparity.sgm;
+
+import boofcv.alg.misc.ImageMiscOps;
+import boofcv.struct.image.ImageFloat32;
+import boofcv.struct.image.ImageUInt8;
+import boofcv.testing.BoofTesting;
+import org.junit.Test;
+
+import java.util.Random;
+
+/**
+ * @author Peter Abeles
+ */
+public class TestSgmStereoDisparity_MT {
+
+	Random rand = new Random(234);
+
+	int width = 60;
+	int height = 45;
+
+	@Test
+	public void compareToSingle() {
+		ImageUInt8 left = new ImageUInt8(width,height);
+		ImageUInt8 right = new ImageUInt8(width,height);
+		ImageMiscOps.fillUniform(left, rand, 0, 255);
+		ImageMiscOps.fillUniform(right, rand, 0, 255);
+
+		for( int numPaths : new int[]{4,8}) {
+			SgmStereoDisparity<ImageUInt8,ImageFloat32> single =
+					new SgmStereoDisparity<ImageUInt8,ImageFloat32>(
+							new SgmCostCensus(),1,15,3,20,numPaths,1,ImageFloat32.class);
+			SgmStereoDisparity_MT<ImageUInt8,ImageFloat32> alg =
+					new SgmStereoDisparity_MT<ImageUInt8,ImageFloat32>(
+							new SgmCostCensus(),1,15,3,20,numPaths,1,ImageFloat32.class);
+
+			ImageFloat32 expected = new ImageFloat32(width,height);
+			ImageFloat32 found = new ImageFloat32(width,height);
+
+			single.process(left, right, expected);
+			// process twice to make sure it's reset correctly
+			alg.process(left, right, found);
+			alg.process(left, right, found);
+
+			BoofTesting.assertEquals(expected, found, 1e-4);
+		}
+	}
+}
@@ -19,11 +19,15 @@
 package boofcv.alg.feature.orientation;
 
 import boofcv.abst.feature.orientation.OrientationIntegral;
+import boofcv.alg.misc.GImageMiscOps;
 import boofcv.alg.transform.ii.GIntegralImageOps;
 import boofcv.core.image.GeneralizedImageOps;
 import boofcv.struct.image.ImageSingleBand;
 import georegression.metric.UtilAngle;
 
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertTrue;
 
 
@@ -65,6 +69,7 @@ public class GenericOrientationIntegralTests<T extends ImageSingleBand> {
 		setScale();
 		checkSubImages();
 		checkBorderExplode();
+		checkCacheGradient();
 	}
 
 	/**
@@ -162,6 +167,53 @@ public class GenericOrientationIntegralTests<T extends ImageSingleBand> {
 		assertTrue( angle+" "+found,UtilAngle.dist(angle,found) < angleTolerance );
 	}
 
+	/**
+	 * Caching the gradient should not change the estimated orientation.  Features overlap each other and
+	 * the image border.
+	 */
+	public void checkCacheGradient() {
+		if( !(alg instanceof OrientationIntegralBase) )
+			return;
+		OrientationIntegralBase base = (OrientationIntegralBase)alg;
+
+		Random rand = new Random(234);
+		T input = (T)ii._createNew(width,height);
+		GImageMiscOps.fillUniform(input, rand, 0, 100);
+		GIntegralImageOps.transform(input,ii);
+
+		double scales[] = new double[]{1,1.2,2};
+		double expected[] = new double[width*height*scales.length];
+
+		alg.setImage(ii);
+		int index = 0;
+		for( double scale : scales ) {
+			alg.setScale(scale);
+			for( int y = 0; y < height; y++ ) {
+				for( int x = 0; x < width; x++ ) {
+					expected[index++] = alg.compute(x+0.3,y);
+				}
+			}
+		}
+
+		base.setCacheGradient(true);
+		assertTrue(base.isCacheGradient());
+		// go through it twice, the second time should be entirely from the cache
+		for( int trial = 0; trial < 2; trial++ ) {
+			alg.setImage(ii);
+			index = 0;
+			for( double scale : scales ) {
+				alg.setScale(scale);
+				for( int y = 0; y < height; y++ ) {
+					for( int x = 0; x < width; x++ ) {
+						assertEquals(expected[index++], alg.compute(x+0.3,y), 1e-8);
+					}
+				}
+			}
+		}
+		base.setCacheGradient(false);
+		assertTrue(!base.isCacheGradient());
+	}
+
 	/**
 	 * Creates an integral image where the whole image has a gradient in the specified direction.
 	 * @param angle
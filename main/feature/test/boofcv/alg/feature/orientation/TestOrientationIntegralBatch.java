@@ -0,0 +1,149 @@
+/*
+ * Copyright (c) 2011-2015, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.feature.orientation;
+
+import boofcv.abst.feature.orientation.OrientationIntegral;
+import boofcv.alg.misc.ImageMiscOps;
+import boofcv.alg.transform.ii.IntegralImageOps;
+import boofcv.factory.feature.orientation.FactoryOrientationAlgs;
+import boofcv.struct.feature.ScalePoint;
+import boofcv.struct.image.ImageFloat32;
+import georegression.struct.point.Point2D_F64;
+import org.ddogleg.struct.GrowQueue_F64;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * @author Peter Abeles
+ */
+public class TestOrientationIntegralBatch {
+
+	Random rand = new Random(234);
+	int width = 80;
+	int height = 70;
+
+	ImageFloat32 ii;
+
+	public TestOrientationIntegralBatch() {
+		ImageFloat32 input = new ImageFloat32(width,height);
+		ImageMiscOps.fillUniform(input, rand, 0, 100);
+		ii = IntegralImageOps.transform(input, null);
+	}
+
+	/**
+	 * Compare against computing the orientation of each feature individually.  Densely packed features with
+	 * a few different scales, some of which touch the image border.
+	 */
+	@Test
+	public void compute_scalePoint() {
+		List<ScalePoint> points = new ArrayList<ScalePoint>();
+		for( int i = 0; i < 300; i++ ) {
+			double x = rand.nextDouble()*(width-1);
+			double y = rand.nextDouble()*(height-1);
+			double scale = 1 + rand.nextInt(3)*0.7 + rand.nextDouble()*0.1;
+			points.add( new ScalePoint(x,y,scale));
+		}
+
+		checkAllAlgorithms(points, -1);
+	}
+
+	@Test
+	public void compute_point() {
+		List<Point2D_F64> points = new ArrayList<Point2D_F64>();
+		for( int i = 0; i < 300; i++ ) {
+			points.add( new Point2D_F64(rand.nextDouble()*(width-1),rand.nextDouble()*(height-1)));
+		}
+
+		checkAllAlgorithms(points, 1.5);
+	}
+
+	private void checkAllAlgorithms( List points , double scale ) {
+		List<OrientationIntegral<ImageFloat32>> algs = createAlgs();
+		for( OrientationIntegral<ImageFloat32> alg : algs ) {
+			checkCompute(alg, points, scale);
+		}
+	}
+
+	protected List<OrientationIntegral<ImageFloat32>> createAlgs() {
+		List<OrientationIntegral<ImageFloat32>> algs = new ArrayList<OrientationIntegral<ImageFloat32>>();
+		algs.add(FactoryOrientationAlgs.average_ii(null, ImageFloat32.class));
+		algs.add(FactoryOrientationAlgs.sliding_ii(null, ImageFloat32.class));
+		algs.add(FactoryOrientationAlgs.image_ii(6, 1, 4, 0, ImageFloat32.class));
+		return algs;
+	}
+
+	protected OrientationIntegralBatch<ImageFloat32> createBatch( OrientationIntegral<ImageFloat32> alg ) {
+		return new OrientationIntegralBatch<ImageFloat32>(alg);
+	}
+
+	private void checkCompute( OrientationIntegral<ImageFloat32> alg , List points , double scale ) {
+		double expected[] = new double[points.size()];
+		alg.setImage(ii);
+		if( scale > 0 )
+			alg.setScale(scale);
+		for( int i = 0; i < points.size(); i++ ) {
+			Point2D_F64 p = (Point2D_F64)points.get(i);
+			if( scale <= 0 )
+				alg.setScale(((ScalePoint)p).scale);
+			expected[i] = alg.compute(p.x,p.y);
+		}
+
+		OrientationIntegralBatch<ImageFloat32> batch = createBatch(alg);
+		GrowQueue_F64 found = new GrowQueue_F64();
+
+		// do it twice with and without the cache to make sure the output is resized and nothing carries over
+		for( int trial = 0; trial < 4; trial++ ) {
+			batch.setCacheGradient(trial >= 2);
+			batch.setImage(ii);
+			if( scale > 0 )
+				batch.compute((List<Point2D_F64>)points, scale, found);
+			else
+				batch.compute((List<ScalePoint>)points, found);
+
+			assertEquals(points.size(), found.size);
+			for( int i = 0; i < points.size(); i++ ) {
+				assertEquals(expected[i], found.get(i), 1e-8);
+			}
+		}
+	}
+
+	/**
+	 * Makes sure the cache is turned on and off
+	 */
+	@Test
+	public void setCacheGradient() {
+		OrientationIntegralBase alg = (OrientationIntegralBase)FactoryOrientationAlgs.average_ii(null, ImageFloat32.class);
+		OrientationIntegralBatch<ImageFloat32> batch = new OrientationIntegralBatch<ImageFloat32>(alg);
+
+		batch.setCacheGradient(true);
+		batch.setImage(ii);
+		assertTrue(alg.isCacheGradient());
+
+		batch.setCacheGradient(false);
+		batch.setImage(ii);
+		assertFalse(alg.isCacheGradient());
+	}
+}
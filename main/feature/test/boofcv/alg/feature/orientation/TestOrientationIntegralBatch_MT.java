@@ -0,0 +1,50 @@
+/*
+ * Copyright (c) 2011-2015, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.feature.orientation;
+
+import boofcv.abst.feature.orientation.OrientationIntegral;
+import boofcv.concurrency.WorkerFactory;
+import boofcv.struct.image.ImageFloat32;
+
+/**
+ * Runs the same tests as the single threaded version, which compare against individually computed orientations.
+ *
+ * @author Peter Abeles
+ */
+public class TestOrientationIntegralBatch_MT extends TestOrientationIntegralBatch {
+
+	@Override
+	protected OrientationIntegralBatch<ImageFloat32> createBatch( final OrientationIntegral<ImageFloat32> alg ) {
+		// create new instances of the same algorithm
+		OrientationIntegralBatch_MT<ImageFloat32> batch = new OrientationIntegralBatch_MT<ImageFloat32>(
+				new WorkerFactory<OrientationIntegral<ImageFloat32>>() {
+			@Override
+			public OrientationIntegral<ImageFloat32> newInstance() {
+				for( OrientationIntegral<ImageFloat32> a : createAlgs() ) {
+					if( a.getClass() == alg.getClass() )
+						return a;
+				}
+				throw new RuntimeException("Unknown algorithm");
+			}
+		});
+		// make sure the features are split into multiple blocks
+		batch.setMinBlockFeatures(20);
+		return batch;
+	}
+}
@@ -28,6 +28,7 @@ import org.junit.Test;
 
 import java.util.Random;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertTrue;
 
 /**
@@ -74,6 +75,39 @@ public abstract class ChecksHornSchunck<T extends ImageSingleBand, D extends Ima
 		}
 	}
 
+	/**
+	 * Should stop early when the tolerance is reached and use the output as an initial estimate if told to
+	 */
+	@Test
+	public void convergeTolerance_initial() {
+		HornSchunck<T,D> alg = createAlg();
+		alg.setNumIterations(500);
+
+		T image1 = GeneralizedImageOps.createSingleBand(imageType, width, height);
+		T image2 = GeneralizedImageOps.createSingleBand(imageType,width,height);
+		ImageFlow output = new ImageFlow(width,height);
+
+		GImageMiscOps.fillRectangle(image1, 100, 10, 0, 20, 30);
+		GImageMiscOps.fillRectangle(image2, 100, 11, 0, 20, 30);
+
+		// tolerance is disabled
+		alg.process(image1, image2, output);
+		assertEquals(500,alg.getIterations());
+
+		alg.setConvergeTolerance(1e-6f);
+		alg.process(image1, image2, output);
+		int coldIterations = alg.getIterations();
+		assertTrue(coldIterations < 500);
+
+		// start from the previous solution
+		alg.setResetOutput(false);
+		alg.process(image1, image2, output);
+		assertTrue(alg.getIterations() < coldIterations);
+		for( int y = 0; y < height-1; y++ ) {
+			assertTrue( output.get(10,y).x > 0.9);
+		}
+	}
+
 	@Test
 	public void computeDerivX() {
 		Point[] samples = new Point[8];
@@ -21,6 +21,7 @@ package boofcv.alg.flow;
 import boofcv.alg.interpolate.InterpolatePixelS;
 import boofcv.alg.misc.ImageMiscOps;
 import boofcv.factory.interpolate.FactoryInterpolation;
+import boofcv.struct.flow.ImageFlow;
 import boofcv.struct.image.ImageFloat32;
 import boofcv.struct.pyramid.PyramidFloat;
 import org.junit.Test;
@@ -28,6 +29,7 @@ import org.junit.Test;
 import java.util.Random;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
 
 /**
  * @author Peter Abeles
@@ -71,6 +73,54 @@ public class TestBroxWarpingSpacial {
 
 	}
 
+	/**
+	 * Providing the solution as the initial estimate should require fewer iterations
+	 */
+	@Test
+	public void setInitialFlow() {
+		int width = 30;
+		int height = 40;
+
+		ImageFloat32 original1 = new ImageFloat32(width,height);
+		ImageFloat32 original2 = new ImageFloat32(width,height);
+
+		ImageMiscOps.fillRectangle(original1,40,10,0,10,height);
+		ImageMiscOps.fillRectangle(original2,40,15,0,10,height);
+
+		PyramidFloat<ImageFloat32> pyr1 = UtilDenseOpticalFlow.standardPyramid(width,height,0.7,0,5,12,ImageFloat32.class);
+		PyramidFloat<ImageFloat32> pyr2 = UtilDenseOpticalFlow.standardPyramid(width,height,0.7,0,5,12,ImageFloat32.class);
+
+		pyr1.process(original1);
+		pyr2.process(original2);
+
+		BroxWarpingSpacial<ImageFloat32> alg = new BroxWarpingSpacial<ImageFloat32>(new ConfigBroxWarping(),interpolate);
+		alg.process(pyr1,pyr2);
+		int coldIterations = alg.getTotalIterations();
+		assertTrue(coldIterations > 0);
+
+		ImageFlow initial = new ImageFlow(width,height);
+		for( int y = 0; y < height; y++ ) {
+			for( int x = 0; x < width; x++ ) {
+				initial.get(x,y).set(alg.getFlowX().get(x,y),alg.getFlowY().get(x,y));
+			}
+		}
+
+		alg.setInitialFlow(initial);
+		alg.process(pyr1,pyr2);
+		assertTrue(alg.getTotalIterations() < coldIterations);
+
+		for( int y = 0; y < height; y++ ) {
+			for( int x = 10; x < 20; x++ ) {
+				assertEquals(5,alg.getFlowX().get(x,y),1);
+				assertEquals(0,alg.getFlowY().get(x,y),1);
+			}
+		}
+
+		// the initial flow is only used once
+		alg.process(pyr1,pyr2);
+		assertEquals(coldIterations,alg.getTotalIterations());
+	}
+
 	@Test
 	public void computePsiDataPsiGradient() {
 		BroxWarpingSpacial<ImageFloat32> alg = new BroxWarpingSpacial<ImageFloat32>(new ConfigBroxWarping(),interpolate);
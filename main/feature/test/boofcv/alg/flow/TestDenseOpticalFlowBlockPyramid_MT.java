@@ -0,0 +1,95 @@
+/*
+ * Copyright (c) 2011-2015, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.flow;
+
+import boofcv.alg.misc.ImageMiscOps;
+import boofcv.concurrency.WorkerFactory;
+import boofcv.factory.transform.pyramid.FactoryPyramid;
+import boofcv.struct.flow.ImageFlow;
+import boofcv.struct.image.ImageUInt8;
+import boofcv.struct.pyramid.ImagePyramid;
+import org.junit.Test;
+
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * @author Peter Abeles
+ */
+public class TestDenseOpticalFlowBlockPyramid_MT {
+
+	Random rand = new Random(234);
+
+	/**
+	 * Results should be identical to the single threaded implementation
+	 */
+	@Test
+	public void compareToSingle() {
+		int width = 60, height = 70;
+
+		ImageUInt8 image1 = new ImageUInt8(width,height);
+		ImageUInt8 image2 = new ImageUInt8(width,height);
+		ImageMiscOps.fillUniform(image1, rand, 0, 200);
+		// shift the image and add a bit of noise so that the neighbor check has something to do
+		for( int y = 0; y < height; y++ ) {
+			for( int x = 0; x < width; x++ ) {
+				int value = image1.get(Math.max(0,x-2),Math.max(0,y-1)) + rand.nextInt(5);
+				image2.set(x,y,value);
+			}
+		}
+
+		ImagePyramid<ImageUInt8> pyr1 = FactoryPyramid.discreteGaussian(new int[]{1,2,4},-1,2,true,ImageUInt8.class);
+		ImagePyramid<ImageUInt8> pyr2 = FactoryPyramid.discreteGaussian(new int[]{1,2,4},-1,2,true,ImageUInt8.class);
+		pyr1.process(image1);
+		pyr2.process(image2);
+
+		DenseOpticalFlowBlockPyramid<ImageUInt8> single = new DenseOpticalFlowBlockPyramid.U8(3,2,20);
+		DenseOpticalFlowBlockPyramid_MT<ImageUInt8> alg = new DenseOpticalFlowBlockPyramid_MT<ImageUInt8>(
+				new WorkerFactory<DenseOpticalFlowBlockPyramid<ImageUInt8>>() {
+			@Override
+			public DenseOpticalFlowBlockPyramid<ImageUInt8> newInstance() {
+				return new DenseOpticalFlowBlockPyramid.U8(3,2,20);
+			}
+		});
+		alg.setMinBlockRows(3);
+
+		single.process(pyr1,pyr2);
+		alg.process(pyr1,pyr2);
+
+		ImageFlow expected = single.getOpticalFlow();
+		ImageFlow found = alg.getOpticalFlow();
+
+		int totalValid = 0;
+		for( int y = 0; y < height; y++ ) {
+			for( int x = 0; x < width; x++ ) {
+				ImageFlow.D e = expected.get(x,y);
+				ImageFlow.D f = found.get(x,y);
+				assertEquals(e.isValid(),f.isValid());
+				if( e.isValid() ) {
+					assertEquals(e.x,f.x,0);
+					assertEquals(e.y,f.y,0);
+					totalValid++;
+				}
+			}
+		}
+		// sanity check
+		assertEquals(true,totalValid > 0);
+	}
+}
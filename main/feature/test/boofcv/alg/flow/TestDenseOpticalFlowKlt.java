@@ -108,6 +108,33 @@ public class TestDenseOpticalFlowKlt {
 		check(flow.get(11,13),true,1,1);
 	}
 
+	/**
+	 * The motion is too large to be found starting from zero, but an initial estimate is provided
+	 */
+	@Test
+	public void process_initial() {
+		ImageMiscOps.fillRectangle(image0,50,10,12,2,2);
+		ImageMiscOps.fillRectangle(image1,50,17,18,2,2);
+
+		processInputImage();
+
+		DenseOpticalFlowKlt<ImageFloat32,ImageFloat32> alg = createAlg();
+
+		ImageFlow flow = new ImageFlow(image0.width,image0.height);
+		alg.process(prev,prevDerivX,prevDerivY,curr,flow);
+		assertTrue(!flow.get(10, 12).isValid() || Math.abs(flow.get(10, 12).x - 7) > 0.05f);
+
+		ImageFlow initial = new ImageFlow(image0.width,image0.height);
+		initial.fillZero();
+		initial.get(10,12).set(6.5f,5.5f);
+		initial.get(0,0).markInvalid();
+
+		alg.process(prev,prevDerivX,prevDerivY,curr,initial,flow);
+
+		check(flow.get(10,12),true,7,6);
+		check(flow.get(0,0),false,0,0);
+	}
+
 	private void check( ImageFlow.D flow , boolean valid , float x , float y ) {
 		assertEquals(valid,flow.isValid());
 		if( valid ) {
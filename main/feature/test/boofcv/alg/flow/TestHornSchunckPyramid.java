@@ -24,6 +24,7 @@ import boofcv.alg.misc.ImageMiscOps;
 import boofcv.core.image.border.BorderType;
 import boofcv.factory.flow.ConfigHornSchunckPyramid;
 import boofcv.factory.interpolate.FactoryInterpolation;
+import boofcv.struct.flow.ImageFlow;
 import boofcv.struct.image.ImageFloat32;
 import boofcv.struct.pyramid.PyramidFloat;
 import org.junit.Test;
@@ -31,6 +32,7 @@ import org.junit.Test;
 import java.util.Random;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
 
 /**
  * @author Peter Abeles
@@ -71,6 +73,55 @@ public class TestHornSchunckPyramid {
 
 	}
 
+	/**
+	 * Providing the solution as the initial estimate should require fewer iterations
+	 */
+	@Test
+	public void setInitialFlow() {
+		int width = 30;
+		int height = 40;
+
+		ImageFloat32 original1 = new ImageFloat32(width,height);
+		ImageFloat32 original2 = new ImageFloat32(width,height);
+
+		ImageMiscOps.fillRectangle(original1,40,10,0,10,height);
+		ImageMiscOps.fillRectangle(original2,40,15,0,10,height);
+
+		PyramidFloat<ImageFloat32> pyr1 = UtilDenseOpticalFlow.standardPyramid(width,height,0.7,0,5,12,ImageFloat32.class);
+		PyramidFloat<ImageFloat32> pyr2 = UtilDenseOpticalFlow.standardPyramid(width,height,0.7,0,5,12,ImageFloat32.class);
+
+		pyr1.process(original1);
+		pyr2.process(original2);
+
+		InterpolatePixelS<ImageFloat32> interpolate = FactoryInterpolation.bilinearPixelS(ImageFloat32.class);
+		HornSchunckPyramid<ImageFloat32> alg = new HornSchunckPyramid<ImageFloat32>(new ConfigHornSchunckPyramid(20f,100),interpolate);
+		alg.process(pyr1,pyr2);
+		int coldIterations = alg.getTotalIterations();
+		assertTrue(coldIterations > 0);
+
+		ImageFlow initial = new ImageFlow(width,height);
+		for( int y = 0; y < height; y++ ) {
+			for( int x = 0; x < width; x++ ) {
+				initial.get(x,y).set(alg.getFlowX().get(x,y),alg.getFlowY().get(x,y));
+			}
+		}
+
+		alg.setInitialFlow(initial);
+		alg.process(pyr1,pyr2);
+		assertTrue(alg.getTotalIterations() < coldIterations);
+
+		for( int y = 0; y < height; y++ ) {
+			for( int x = 0; x < width; x++ ) {
+				assertEquals(5,alg.getFlowX().get(x,y),0.25f);
+				assertEquals(0,alg.getFlowY().get(x,y),0.25f);
+			}
+		}
+
+		// the initial flow is only used once
+		alg.process(pyr1,pyr2);
+		assertEquals(coldIterations,alg.getTotalIterations());
+	}
+
 	@Test
 	public void processLayer() {
 		ImageFloat32 image1 = new ImageFloat32(width,height);
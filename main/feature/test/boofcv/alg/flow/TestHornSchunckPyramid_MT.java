@@ -0,0 +1,77 @@
+/*
+ * Copyright (c) 2011-2015, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.flow;
+
+import boofcv.alg.interpolate.InterpolatePixelS;
+import boofcv.alg.misc.ImageMiscOps;
+import boofcv.factory.flow.ConfigHornSchunckPyramid;
+import boofcv.factory.interpolate.FactoryInterpolation;
+import boofcv.struct.image.ImageFloat32;
+import boofcv.struct.pyramid.PyramidFloat;
+import org.junit.Test;
+
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * @author Peter Abeles
+ */
+public class TestHornSchunckPyramid_MT {
+
+	Random rand = new Random(234);
+
+	/**
+	 * Results should be identical to the single threaded implementation
+	 */
+	@Test
+	public void compareToSingle() {
+		int width = 30;
+		int height = 40;
+
+		ImageFloat32 original1 = new ImageFloat32(width,height);
+		ImageFloat32 original2 = new ImageFloat32(width,height);
+
+		ImageMiscOps.fillUniform(original1, rand, 0, 10);
+		ImageMiscOps.fillRectangle(original1,40,10,0,10,height);
+		ImageMiscOps.fillUniform(original2, rand, 0, 10);
+		ImageMiscOps.fillRectangle(original2,40,13,2,10,height);
+
+		PyramidFloat<ImageFloat32> pyr1 = UtilDenseOpticalFlow.standardPyramid(width,height,0.7,0,5,12,ImageFloat32.class);
+		PyramidFloat<ImageFloat32> pyr2 = UtilDenseOpticalFlow.standardPyramid(width,height,0.7,0,5,12,ImageFloat32.class);
+
+		pyr1.process(original1);
+		pyr2.process(original2);
+
+		InterpolatePixelS<ImageFloat32> interpolate = FactoryInterpolation.bilinearPixelS(ImageFloat32.class);
+		HornSchunckPyramid<ImageFloat32> single = new HornSchunckPyramid<ImageFloat32>(new ConfigHornSchunckPyramid(20f,100),interpolate);
+		HornSchunckPyramid_MT<ImageFloat32> alg = new HornSchunckPyramid_MT<ImageFloat32>(new ConfigHornSchunckPyramid(20f,100),interpolate);
+		alg.setMinBlockRows(3);
+
+		single.process(pyr1,pyr2);
+		alg.process(pyr1,pyr2);
+
+		for( int y = 0; y < height; y++ ) {
+			for( int x = 0; x < width; x++ ) {
+				assertEquals(single.getFlowX().get(x,y),alg.getFlowX().get(x,y),0);
+				assertEquals(single.getFlowY().get(x,y),alg.getFlowY().get(x,y),0);
+			}
+		}
+	}
+}
@@ -18,11 +18,13 @@
 
 package boofcv.alg.flow;
 
+import boofcv.struct.flow.ImageFlow;
 import boofcv.struct.image.ImageFloat32;
 import boofcv.struct.pyramid.ImagePyramid;
 import org.junit.Test;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 
 /**
@@ -81,4 +83,35 @@ public class TestUtilDenseOpticalFlow {
 			assertEquals(0, pyr.getSigma(i), 1e-8);
 	}
 
+	@Test
+	public void forwardWarp() {
+		ImageFlow prev = new ImageFlow(6,5);
+		prev.fillZero();
+
+		prev.get(1,1).set(2,1);
+		prev.get(4,3).set(0.6f,-0.4f);
+		prev.get(0,4).markInvalid();
+
+		ImageFlow found = new ImageFlow(1,1);
+		UtilDenseOpticalFlow.forwardWarp(prev,found);
+
+		assertEquals(6,found.width);
+		assertEquals(5,found.height);
+
+		// moved to the predicted location
+		assertEquals(2,found.get(3,2).x,1e-8);
+		assertEquals(1,found.get(3,2).y,1e-8);
+		assertEquals(0.6f,found.get(5,3).x,1e-8);
+		assertEquals(-0.4f,found.get(5,3).y,1e-8);
+
+		// nothing was warped into these pixels so they keep their original value
+		assertEquals(2,found.get(1,1).x,1e-8);
+		assertEquals(0.6f,found.get(4,3).x,1e-8);
+		assertFalse(found.get(0,4).isValid());
+
+		// zero motion pixels are copied over
+		assertEquals(0,found.get(2,2).x,1e-8);
+		assertEquals(0,found.get(2,2).y,1e-8);
+	}
+
 }
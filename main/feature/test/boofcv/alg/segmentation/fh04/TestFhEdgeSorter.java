@@ -0,0 +1,172 @@
+/*
+ * Copyright (c) 2011-2015, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package boofcv.alg.segmentation.fh04;
+
+import org.junit.Test;
+
+import java.util.Random;
+
+import static org.junit.Assert.*;
+
+/**
+ * @author Peter Abeles
+ */
+public class TestFhEdgeSorter {
+
+	Random rand = new Random(234);
+
+	@Test
+	public void sortExact() {
+		FhEdgeSorter alg = new FhEdgeSorter();
+
+		// few unique values to test stability, small values, and a large range
+		checkSortExact(alg, 2000, 10);
+		checkSortExact(alg, 2000, 0.001f);
+		checkSortExact(alg, 2000, 1e6f);
+
+		// every weight is the same.  The order should not change
+		FhEdgeStore edges = createEdges(100, 0);
+		FhEdgeStore sorted = alg.sortExact(copy(edges), new FhEdgeStore());
+		assertIdentical(edges, sorted);
+	}
+
+	private void checkSortExact(FhEdgeSorter alg, int N, float maxWeight) {
+		FhEdgeStore edges = createEdges(N, maxWeight);
+		// make sure there are a lot of duplicates
+		for( int i = 0; i < N; i += 3 ) {
+			edges.weight[i] = (int)edges.weight[i];
+		}
+
+		FhEdgeStore sorted = alg.sortExact(copy(edges), new FhEdgeStore());
+
+		checkSorted(edges, sorted, false);
+	}
+
+	@Test
+	public void sortApproximate() {
+		FhEdgeSorter alg = new FhEdgeSorter();
+
+		int numBins = 20;
+		FhEdgeStore edges = createEdges(2000, 100);
+		FhEdgeStore sorted = alg.sortApproximate(copy(edges), new FhEdgeStore(), numBins);
+
+		assertEquals(edges.size, sorted.size);
+
+		float min = Float.MAX_VALUE, max = -Float.MAX_VALUE;
+		for( int i = 0; i < edges.size; i++ ) {
+			min = Math.min(min, edges.weight[i]);
+			max = Math.max(max, edges.weight[i]);
+		}
+		float scale = numBins/(max-min);
+
+		// edges should be sorted by bin and in their original order inside the bin
+		int previousBin = -1;
+		int previousIndexA = -1;
+		for( int i = 0; i < sorted.size; i++ ) {
+			int bin = Math.min(numBins-1, (int)((sorted.weight[i]-min)*scale));
+			assertTrue(bin >= previousBin);
+			if( bin == previousBin )
+				assertTrue(sorted.indexA[i] > previousIndexA);
+			previousBin = bin;
+			previousIndexA = sorted.indexA[i];
+
+			// index A is used to look up the original edge
+			assertEquals(edges.indexB[sorted.indexA[i]], sorted.indexB[i]);
+			assertEquals(edges.weight[sorted.indexA[i]], sorted.weight[i], 0);
+		}
+	}
+
+	/**
+	 * Sorting the same number of bins as edges should produce a fully sorted list when weights are evenly spaced
+	 */
+	@Test
+	public void sortApproximate_evenlySpaced() {
+		FhEdgeSorter alg = new FhEdgeSorter();
+
+		FhEdgeStore edges = new FhEdgeStore();
+		for( int i = 0; i < 100; i++ ) {
+			edges.add(i, i+1, 99-i);
+		}
+
+		FhEdgeStore sorted = alg.sortApproximate(copy(edges), new FhEdgeStore(), 100);
+		checkSorted(edges, sorted, true);
+	}
+
+	@Test
+	public void empty() {
+		FhEdgeSorter alg = new FhEdgeSorter();
+		FhEdgeStore edges = new FhEdgeStore();
+
+		assertTrue(edges == alg.sortExact(edges, new FhEdgeStore()));
+		assertTrue(edges == alg.sortApproximate(edges, new FhEdgeStore(), 10));
+	}
+
+	/**
+	 * Checks to see if the list is sorted and stable.  indexA is used to store the original location
+	 */
+	private void checkSorted(FhEdgeStore original, FhEdgeStore sorted, boolean strict) {
+		assertEquals(original.size, sorted.size);
+
+		boolean used[] = new boolean[original.size];
+		for( int i = 0; i < sorted.size; i++ ) {
+			int which = sorted.indexA[i];
+			assertFalse(used[which]);
+			used[which] = true;
+
+			assertEquals(original.indexB[which], sorted.indexB[i]);
+			assertEquals(original.weight[which], sorted.weight[i], 0);
+
+			if( i > 0 ) {
+				if( strict )
+					assertTrue(sorted.weight[i-1] < sorted.weight[i]);
+				else
+					assertTrue(sorted.weight[i-1] <= sorted.weight[i]);
+				if( sorted.weight[i-1] == sorted.weight[i] )
+					assertTrue(sorted.indexA[i-1] < which);
+			}
+		}
+	}
+
+	/**
+	 * Creates a list of edges where indexA is the edge's original location
+	 */
+	private FhEdgeStore createEdges(int N, float maxWeight) {
+		FhEdgeStore edges = new FhEdgeStore();
+		for( int i = 0; i < N; i++ ) {
+			edges.add(i, rand.nextInt(1000), rand.nextFloat()*maxWeight);
+		}
+		return edges;
+	}
+
+	private FhEdgeStore copy(FhEdgeStore src) {
+		FhEdgeStore dst = new FhEdgeStore();
+		for( int i = 0; i < src.size; i++ ) {
+			dst.add(src.indexA[i], src.indexB[i], src.weight[i]);
+		}
+		return dst;
+	}
+
+	private void assertIdentical(FhEdgeStore a, FhEdgeStore b) {
+		assertEquals(a.size, b.size);
+		for( int i = 0; i < a.size; i++ ) {
+			assertEquals(a.indexA[i], b.indexA[i]);
+			assertEquals(a.indexB[i], b.indexB[i]);
+			assertEquals(a.weight[i], b.weight[i], 0);
+		}
+	}
+}
@@ -0,0 +1,70 @@
+/*
+ * Copyright (c) 2011-2015, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package boofcv.alg.segmentation.fh04;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * @author Peter Abeles
+ */
+public class TestFhEdgeStore {
+
+	@Test
+	public void add() {
+		FhEdgeStore alg = new FhEdgeStore();
+
+		for( int i = 0; i < 100; i++ ) {
+			alg.add(i, i+2, i*0.5f);
+		}
+
+		assertEquals(100, alg.size());
+		for( int i = 0; i < 100; i++ ) {
+			assertEquals(i, alg.indexA[i]);
+			assertEquals(i+2, alg.indexB[i]);
+			assertEquals(i*0.5f, alg.weight[i], 1e-8f);
+		}
+
+		alg.reset();
+		assertEquals(0, alg.size());
+	}
+
+	@Test
+	public void resize() {
+		FhEdgeStore alg = new FhEdgeStore();
+
+		alg.add(1, 2, 3);
+		alg.resize(50);
+
+		assertEquals(50, alg.size);
+		assertTrue(alg.indexA.length >= 50);
+		assertTrue(alg.indexB.length >= 50);
+		assertTrue(alg.weight.length >= 50);
+
+		// original data should be saved
+		assertEquals(1, alg.indexA[0]);
+		assertEquals(2, alg.indexB[0]);
+		assertEquals(3, alg.weight[0], 1e-8f);
+
+		// should be able to set edges up to the new size
+		alg.set(49, 4, 5, 6);
+		assertEquals(4, alg.indexA[49]);
+	}
+}
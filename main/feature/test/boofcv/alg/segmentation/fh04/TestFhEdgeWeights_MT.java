@@ -0,0 +1,73 @@
+/*
+ * Copyright (c) 2011-2015, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package boofcv.alg.segmentation.fh04;
+
+import boofcv.alg.misc.GImageMiscOps;
+import boofcv.factory.segmentation.FactorySegmentationAlg;
+import boofcv.struct.ConnectRule;
+import boofcv.struct.image.ImageBase;
+import boofcv.struct.image.ImageFloat32;
+import boofcv.struct.image.ImageType;
+import boofcv.struct.image.ImageUInt8;
+import org.junit.Test;
+
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * @author Peter Abeles
+ */
+public class TestFhEdgeWeights_MT {
+
+	Random rand = new Random(234);
+
+	@Test
+	public void compareToSingle() {
+		ImageType types[] = new ImageType[]{
+				ImageType.single(ImageUInt8.class), ImageType.single(ImageFloat32.class),
+				ImageType.ms(3, ImageUInt8.class), ImageType.ms(3, ImageFloat32.class)};
+
+		for( ImageType type : types ) {
+			compareToSingle(type, ConnectRule.FOUR);
+			compareToSingle(type, ConnectRule.EIGHT);
+		}
+	}
+
+	private <T extends ImageBase> void compareToSingle(ImageType<T> type, ConnectRule rule) {
+		T input = type.createImage(45, 62);
+		GImageMiscOps.fillUniform(input, rand, 0, 200);
+
+		FhEdgeWeights<T> single = FactorySegmentationAlg.weightsFelzenszwalb04(rule, type);
+		FhEdgeWeights_MT<T> alg = new FhEdgeWeights_MT<T>(FactorySegmentationAlg.weightsFelzenszwalb04(rule, type));
+		alg.setMinBlockRows(3);
+
+		FhEdgeStore expected = new FhEdgeStore();
+		FhEdgeStore found = new FhEdgeStore();
+
+		single.process(input, expected);
+		alg.process(input, found);
+
+		assertEquals(expected.size, found.size);
+		for( int i = 0; i < expected.size; i++ ) {
+			assertEquals(expected.indexA[i], found.indexA[i]);
+			assertEquals(expected.indexB[i], found.indexB[i]);
+			assertEquals(expected.weight[i], found.weight[i], 0);
+		}
+	}
+}
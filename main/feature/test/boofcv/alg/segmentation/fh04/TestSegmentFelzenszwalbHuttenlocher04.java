@@ -26,7 +26,6 @@ import boofcv.testing.BoofTesting;
 import org.ddogleg.struct.GrowQueue_I32;
 import org.junit.Test;
 
-import java.util.Collections;
 import java.util.Random;
 
 import static org.junit.Assert.assertEquals;
@@ -82,20 +81,16 @@ public class TestSegmentFelzenszwalbHuttenlocher04 {
 		SegmentFelzenszwalbHuttenlocher04 alg = new SegmentFelzenszwalbHuttenlocher04(0,10,null);
 
 		// add edges.  Design it such that order is important and to make sure the equality checks
-		// are done correctly
-		alg.edges.add( edge(1, 0, 20));
-		alg.edges.add( edge(2, 0, 25));
-		alg.edges.add( edge(14, 0, 40));
-		alg.edges.add( edge(3,4,20));
-		alg.edges.add( edge(5,4,20));
-		alg.edges.add( edge(10,11,20));
-		alg.edges.add( edge(12,11,5));
-		alg.edges.add( edge(13,11,5));
-
-		// randomize their order
-		Collections.shuffle(alg.edges.toList(),rand);
-		// NOTE the order after sorting is undefined.  So the checks below could be incorrect if they are processed
-		// in a different order
+		// are done correctly.  They are added out of order, but the sort is stable so edges with the same
+		// weight will be processed in the order they are added
+		alg.edges.add(14,0,40);
+		alg.edges.add(12,11,5);
+		alg.edges.add(3,4,20);
+		alg.edges.add(2,0,25);
+		alg.edges.add(5,4,20);
+		alg.edges.add(1,0,20);
+		alg.edges.add(13,11,5);
+		alg.edges.add(10,11,20);
 
 		alg.graph = new ImageSInt32(4,5);
 		alg.graph.data = new int[]{
@@ -162,8 +157,10 @@ public class TestSegmentFelzenszwalbHuttenlocher04 {
 				15,15,15,15,
 				15,15,15,15};
 
-		alg.edgesNotMatched.add( new SegmentFelzenszwalbHuttenlocher04.Edge(1,5));
-		alg.edgesNotMatched.add( new SegmentFelzenszwalbHuttenlocher04.Edge(12,8));
+		alg.edges.add(1,5,0);
+		alg.edges.add(12,8,0);
+		alg.edgesNotMatched.add(0);
+		alg.edgesNotMatched.add(1);
 
 		alg.mergeSmallRegions();
 
@@ -232,12 +229,4 @@ public class TestSegmentFelzenszwalbHuttenlocher04 {
 
 		BoofTesting.assertEquals(expected, alg.graph, 1e-4);
 	}
-
-	private SegmentFelzenszwalbHuttenlocher04.Edge edge( int indexA , int indexB , float weight ) {
-		SegmentFelzenszwalbHuttenlocher04.Edge e = new SegmentFelzenszwalbHuttenlocher04.Edge();
-		e.indexA = indexA;
-		e.indexB = indexB;
-		e.sortValue = weight;
-		return e;
-	}
 }
@@ -19,17 +19,16 @@
 package boofcv.alg.segmentation.fh04.impl;
 
 import boofcv.alg.misc.GImageMiscOps;
+import boofcv.alg.segmentation.fh04.FhEdgeStore;
 import boofcv.alg.segmentation.fh04.FhEdgeWeights;
 import boofcv.struct.ConnectRule;
 import boofcv.struct.image.ImageBase;
 import boofcv.struct.image.ImageType;
 import boofcv.testing.BoofTesting;
-import org.ddogleg.struct.FastQueue;
 import org.junit.Test;
 
 import java.util.Random;
 
-import static boofcv.alg.segmentation.fh04.SegmentFelzenszwalbHuttenlocher04.Edge;
 import static org.junit.Assert.assertEquals;
 
 /**
@@ -57,23 +56,21 @@ public abstract class GenericFhEdgeWeightsChecks<T extends ImageBase> {
 		GImageMiscOps.fillUniform(input, rand, 0, 200);
 
 		FhEdgeWeights<T> alg = createAlg();
-		FastQueue<Edge> edges = new FastQueue<Edge>(Edge.class,true);
+		FhEdgeStore edges = new FhEdgeStore();
 		alg.process(input,edges);
 
 		int hist[] = new int[input.width*input.height];
 
 		// see if the edges computed the expected weight
 		for( int i = 0; i < edges.size(); i++ ) {
-			Edge e = edges.get(i);
-
-			int indexA = e.indexA;
-			int indexB = e.indexB;
+			int indexA = edges.indexA[i];
+			int indexB = edges.indexB[i];
 
 			hist[indexA]++;
 			hist[indexB]++;
 
 			float expected = weight(input,indexA,indexB);
-			assertEquals(expected,e.weight(),1e-4f);
+			assertEquals(expected,edges.weight[i],1e-4f);
 		}
 
 		// make sure each pixel was inspected
@@ -126,22 +123,55 @@ public abstract class GenericFhEdgeWeightsChecks<T extends ImageBase> {
 		T inputSub = BoofTesting.createSubImageOf(input);
 
 		FhEdgeWeights<T> alg = createAlg();
-		FastQueue<Edge> edges0 = new FastQueue<Edge>(Edge.class,true);
-		FastQueue<Edge> edges1 = new FastQueue<Edge>(Edge.class,true);
+		FhEdgeStore edges0 = new FhEdgeStore();
+		FhEdgeStore edges1 = new FhEdgeStore();
 
 		alg.process(input,edges0);
 		alg.process(inputSub,edges1);
 
 		// both should be identical
+		assertIdentical(edges0, edges1);
+	}
+
+	/**
+	 * Computing the inner edges in several blocks of rows should produce the same output as process()
+	 */
+	@Test
+	public void processRows() {
+		T input = imageType.createImage(10,12);
+		GImageMiscOps.fillUniform(input, rand, 0, 200);
+
+		FhEdgeWeights<T> alg = createAlg();
+		FhEdgeStore expected = new FhEdgeStore();
+		alg.process(input,expected);
+
+		assertEquals(11*alg.innerEdgesPerRow(10),expected.size-numberOfBorderEdges(10,12));
+
+		// process the rows out of order to make sure the location of each edge is fixed
+		FhEdgeStore found = new FhEdgeStore();
+		found.resize(11*alg.innerEdgesPerRow(10));
+		alg.processRows(input,4,11,found);
+		alg.processRows(input,0,1,found);
+		alg.processRows(input,1,4,found);
+		alg.processBorder(input,found);
+
+		assertIdentical(expected, found);
+	}
+
+	private int numberOfBorderEdges( int width , int height ) {
+		if( rule == ConnectRule.FOUR )
+			return (height-1) + (width-1);
+		else
+			return 5*(height-1) + (width-1);
+	}
+
+	private void assertIdentical( FhEdgeStore edges0 , FhEdgeStore edges1 ) {
 		assertEquals(edges0.size, edges1.size);
 
 		for( int i = 0; i < edges0.size; i++ ) {
-			Edge e0 = edges0.get(i);
-			Edge e1 = edges1.get(i);
-
-			assertEquals("i = "+i,e0.indexA,e1.indexA);
-			assertEquals("i = "+i,e0.indexB,e1.indexB);
-			assertEquals("i = "+i,e0.sortValue,e1.sortValue,1e-4f);
+			assertEquals("i = "+i,edges0.indexA[i],edges1.indexA[i]);
+			assertEquals("i = "+i,edges0.indexB[i],edges1.indexB[i]);
+			assertEquals("i = "+i,edges0.weight[i],edges1.weight[i],1e-4f);
 		}
 	}
 }
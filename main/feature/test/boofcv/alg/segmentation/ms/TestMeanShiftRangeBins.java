@@ -0,0 +1,103 @@
+/*
+ * Copyright (c) 2011-2015, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.segmentation.ms;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * @author Peter Abeles
+ */
+public class TestMeanShiftRangeBins {
+
+	/**
+	 * A pixel should influence the bin it is inside of and bins which have samples two pixels before it
+	 */
+	@Test
+	public void addPixel() {
+		MeanShiftRangeBins alg = new MeanShiftRangeBins(4,2,10);
+		alg.reshape(20,15);
+
+		alg.addPixel(9,5,new float[]{100,200});
+
+		// bin which contains the pixel
+		assertFalse(alg.isOutside(8, 4, new float[]{100, 200}));
+		// pixel is within two of the previous bin
+		assertFalse(alg.isOutside(7, 4, new float[]{100, 200}));
+		assertFalse(alg.isOutside(8, 3, new float[]{100, 200}));
+		assertFalse(alg.isOutside(7, 3, new float[]{100, 200}));
+		// too far away
+		assertTrue(alg.isOutside(12, 4, new float[]{100, 200}));
+		assertTrue(alg.isOutside(8, 8, new float[]{100, 200}));
+		assertTrue(alg.isOutside(0, 0, new float[]{100, 200}));
+	}
+
+	@Test
+	public void isOutside() {
+		MeanShiftRangeBins alg = new MeanShiftRangeBins(4,2,10);
+		alg.reshape(8,8);
+
+		alg.addPixel(1,1,new float[]{100,200});
+		alg.addPixel(2,1,new float[]{120,190});
+
+		// inside or within the max distance of the range in both bands
+		assertFalse(alg.isOutside(0, 0, new float[]{110, 195}));
+		assertFalse(alg.isOutside(0, 0, new float[]{91, 181}));
+		assertFalse(alg.isOutside(0, 0, new float[]{129, 209}));
+		// outside in a single band is enough
+		assertTrue(alg.isOutside(0, 0, new float[]{89, 195}));
+		assertTrue(alg.isOutside(0, 0, new float[]{131, 195}));
+		assertTrue(alg.isOutside(0, 0, new float[]{110, 179}));
+		assertTrue(alg.isOutside(0, 0, new float[]{110, 211}));
+
+		// single band version
+		MeanShiftRangeBins gray = new MeanShiftRangeBins(4,1,10);
+		gray.reshape(8,8);
+		gray.addPixel(1,1,new float[]{100});
+		assertFalse(gray.isOutside(0, 0, 109.5f));
+		assertTrue(gray.isOutside(0, 0, 111f));
+		assertTrue(gray.isOutside(0, 0, 89f));
+	}
+
+	/**
+	 * Reshape should reset the range of every bin
+	 */
+	@Test
+	public void reshape() {
+		MeanShiftRangeBins alg = new MeanShiftRangeBins(4,1,10);
+		alg.reshape(8,8);
+		alg.addPixel(1,1,new float[]{100});
+		assertFalse(alg.isOutside(0, 0, 100));
+
+		alg.reshape(8,8);
+		assertTrue(alg.isOutside(0, 0, 100));
+	}
+
+	@Test
+	public void endOfBinX() {
+		MeanShiftRangeBins alg = new MeanShiftRangeBins(4,1,10);
+
+		assertEquals(4,alg.endOfBinX(0));
+		assertEquals(4,alg.endOfBinX(3));
+		assertEquals(8,alg.endOfBinX(4));
+	}
+}
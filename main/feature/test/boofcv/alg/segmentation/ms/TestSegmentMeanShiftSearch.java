@@ -67,7 +67,13 @@ public class TestSegmentMeanShiftSearch {
 		}
 
 		@Override
-		public void process(ImageBase image) {}
+		protected void initializeImage(ImageBase image) {}
+
+		@Override
+		protected void computeRangeBins() {}
+
+		@Override
+		protected void processRows(int y0, int y1) {}
 
 		@Override
 		public ImageType getImageType() {
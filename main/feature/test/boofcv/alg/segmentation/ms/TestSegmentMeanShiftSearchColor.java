@@ -189,4 +189,38 @@ public class TestSegmentMeanShiftSearchColor {
 			}
 		}
 	}
+
+	/**
+	 * Skipping samples using range bins should not change the results
+	 */
+	@Test
+	public void pruneBinWidth() {
+		MultiSpectral<ImageFloat32> image = new MultiSpectral<ImageFloat32>(ImageFloat32.class,30,25,2);
+
+		// two regions with very different colors so that bins are skipped
+		GImageMiscOps.fillUniform(image, rand, 0, 20);
+		GImageMiscOps.fillRectangle(image.getBand(1), 200, 12, 0, 18, 25);
+		GImageMiscOps.fillRectangle(image.getBand(0), 100, 0, 10, 30, 5);
+
+		ImageType<MultiSpectral<ImageFloat32>> imageType = ImageType.ms(2,ImageFloat32.class);
+
+		for( boolean fast : new boolean[]{false,true}) {
+			SegmentMeanShiftSearchColor<MultiSpectral<ImageFloat32>> expected = createPrune(imageType,fast);
+			SegmentMeanShiftSearchColor<MultiSpectral<ImageFloat32>> found = createPrune(imageType,fast);
+			found.setPruneBinWidth(4);
+			assertEquals(4,found.getPruneBinWidth());
+
+			expected.process(image);
+			found.process(image);
+
+			TestSegmentMeanShiftSearch_MT.checkIdentical(expected,found);
+		}
+	}
+
+	private SegmentMeanShiftSearchColor<MultiSpectral<ImageFloat32>>
+	createPrune( ImageType<MultiSpectral<ImageFloat32>> imageType , boolean fast ) {
+		InterpolatePixelMB<MultiSpectral<ImageFloat32>> interp =
+				FactoryInterpolation.createPixelMB(0,255,TypeInterpolate.BILINEAR,imageType);
+		return new SegmentMeanShiftSearchColor<MultiSpectral<ImageFloat32>>(30,0.05f,interp,3,3,30,fast,imageType);
+	}
 }
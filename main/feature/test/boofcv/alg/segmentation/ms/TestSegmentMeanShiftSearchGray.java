@@ -127,4 +127,29 @@ public class TestSegmentMeanShiftSearchGray {
 		assertEquals( cx , alg.modeX, 0.5f );
 		assertEquals( cy , alg.modeY, 0.5f );
 	}
+
+	/**
+	 * Skipping samples using range bins should not change the results
+	 */
+	@Test
+	public void pruneBinWidth() {
+		ImageFloat32 image = new ImageFloat32(30,25);
+
+		// two regions with very different values so that bins are skipped
+		ImageMiscOps.fillUniform(image, rand, 0, 20);
+		ImageMiscOps.fillRectangle(image, 200, 12, 0, 18, 25);
+
+		for( boolean fast : new boolean[]{false,true}) {
+			SegmentMeanShiftSearchGray<ImageFloat32> expected =
+					new SegmentMeanShiftSearchGray<ImageFloat32>(30,0.05f,interp,3,3,30,fast);
+			SegmentMeanShiftSearchGray<ImageFloat32> found =
+					new SegmentMeanShiftSearchGray<ImageFloat32>(30,0.05f,FactoryInterpolation.bilinearPixelS(ImageFloat32.class),3,3,30,fast);
+			found.setPruneBinWidth(4);
+
+			expected.process(image);
+			found.process(image);
+
+			TestSegmentMeanShiftSearch_MT.checkIdentical(expected,found);
+		}
+	}
 }
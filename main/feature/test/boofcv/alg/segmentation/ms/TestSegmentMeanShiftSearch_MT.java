@@ -0,0 +1,201 @@
+/*
+ * Copyright (c) 2011-2015, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.segmentation.ms;
+
+import boofcv.alg.interpolate.InterpolatePixelMB;
+import boofcv.alg.interpolate.TypeInterpolate;
+import boofcv.alg.misc.GImageMiscOps;
+import boofcv.concurrency.WorkerFactory;
+import boofcv.factory.interpolate.FactoryInterpolation;
+import boofcv.struct.image.ImageFloat32;
+import boofcv.struct.image.ImageSInt32;
+import boofcv.struct.image.ImageType;
+import boofcv.struct.image.MultiSpectral;
+import org.junit.Test;
+
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * @author Peter Abeles
+ */
+public class TestSegmentMeanShiftSearch_MT {
+
+	Random rand = new Random(234);
+
+	/**
+	 * Without the fast approximation the results should be identical
+	 */
+	@Test
+	public void compareToSingle_gray() {
+		ImageFloat32 image = new ImageFloat32(30,40);
+		GImageMiscOps.fillUniform(image, rand, 0, 256);
+
+		WorkerFactory<SegmentMeanShiftSearch<ImageFloat32>> factory = gray(false);
+		SegmentMeanShiftSearch<ImageFloat32> expected = factory.newInstance();
+		SegmentMeanShiftSearch_MT<ImageFloat32> found = new SegmentMeanShiftSearch_MT<ImageFloat32>(factory);
+		found.setMinBlockRows(3);
+
+		expected.process(image);
+		found.process(image);
+
+		checkIdentical(expected, found);
+	}
+
+	@Test
+	public void compareToSingle_color() {
+		MultiSpectral<ImageFloat32> image = new MultiSpectral<ImageFloat32>(ImageFloat32.class,30,40,3);
+		GImageMiscOps.fillUniform(image, rand, 0, 256);
+
+		WorkerFactory<SegmentMeanShiftSearch<MultiSpectral<ImageFloat32>>> factory = color(3,false);
+		SegmentMeanShiftSearch<MultiSpectral<ImageFloat32>> expected = factory.newInstance();
+		SegmentMeanShiftSearch_MT<MultiSpectral<ImageFloat32>> found =
+				new SegmentMeanShiftSearch_MT<MultiSpectral<ImageFloat32>>(factory);
+		found.setMinBlockRows(3);
+
+		expected.process(image);
+		found.process(image);
+
+		checkIdentical(expected, found);
+	}
+
+	/**
+	 * With the fast approximation results can differ slightly, just make sure the output is consistent
+	 */
+	@Test
+	public void fast_sanity() {
+		ImageFloat32 image = new ImageFloat32(30,40);
+		GImageMiscOps.fillUniform(image, rand, 0, 256);
+
+		SegmentMeanShiftSearch_MT<ImageFloat32> alg = new SegmentMeanShiftSearch_MT<ImageFloat32>(gray(true));
+		alg.setMinBlockRows(3);
+		alg.process(image);
+
+		assertEquals(alg.getModeLocation().size, alg.getModeColor().size);
+		assertEquals(alg.getModeLocation().size, alg.getRegionMemberCount().size);
+
+		int totalMembers = 0;
+		for( int i = 0; i < alg.getRegionMemberCount().size; i++ ) {
+			totalMembers += alg.getRegionMemberCount().get(i);
+		}
+		assertEquals(30*40, totalMembers);
+
+		ImageSInt32 pixelToRegion = alg.getPixelToRegion();
+		for( int i = 0; i < pixelToRegion.data.length; i++ ) {
+			int region = pixelToRegion.data[i];
+			assertEquals(true, region >= 0 && region < alg.getModeLocation().size);
+		}
+	}
+
+	/**
+	 * The same image should be processable multiple times
+	 */
+	@Test
+	public void multipleCalls() {
+		ImageFloat32 image = new ImageFloat32(30,40);
+		GImageMiscOps.fillUniform(image, rand, 0, 256);
+
+		WorkerFactory<SegmentMeanShiftSearch<ImageFloat32>> factory = gray(false);
+		SegmentMeanShiftSearch<ImageFloat32> expected = factory.newInstance();
+		SegmentMeanShiftSearch_MT<ImageFloat32> found = new SegmentMeanShiftSearch_MT<ImageFloat32>(factory);
+		found.setMinBlockRows(3);
+
+		expected.process(image);
+		found.process(new ImageFloat32(15,12));
+		found.process(image);
+
+		checkIdentical(expected, found);
+	}
+
+	/**
+	 * When the image shape doesn't change each block only resets the pixels it modified.  Trajectories in the
+	 * fast approximation leave the block's rows, so the results should be the same as a new instance.
+	 */
+	@Test
+	public void multipleCalls_sameShape() {
+		ImageFloat32 first = new ImageFloat32(30,40);
+		ImageFloat32 image = new ImageFloat32(30,40);
+		GImageMiscOps.fillUniform(first, rand, 0, 256);
+		GImageMiscOps.fillUniform(image, rand, 0, 256);
+
+		SegmentMeanShiftSearch_MT<ImageFloat32> expected = new SegmentMeanShiftSearch_MT<ImageFloat32>(gray(true));
+		SegmentMeanShiftSearch_MT<ImageFloat32> found = new SegmentMeanShiftSearch_MT<ImageFloat32>(gray(true));
+		expected.setMinBlockRows(3);
+		found.setMinBlockRows(3);
+
+		expected.process(image);
+		found.process(first);
+		found.process(image);
+
+		checkIdentical(expected, found);
+	}
+
+	public static void checkIdentical( SegmentMeanShiftSearch<?> expected , SegmentMeanShiftSearch<?> found ) {
+		assertEquals(expected.getModeLocation().size, found.getModeLocation().size);
+		assertEquals(expected.getModeColor().size, found.getModeColor().size);
+		assertEquals(expected.getRegionMemberCount().size, found.getRegionMemberCount().size);
+
+		for( int i = 0; i < expected.getModeLocation().size; i++ ) {
+			assertEquals(expected.getModeLocation().get(i).x, found.getModeLocation().get(i).x);
+			assertEquals(expected.getModeLocation().get(i).y, found.getModeLocation().get(i).y);
+			assertEquals(expected.getRegionMemberCount().get(i), found.getRegionMemberCount().get(i));
+
+			float[] a = (float[])expected.getModeColor().get(i);
+			float[] b = (float[])found.getModeColor().get(i);
+			assertEquals(a.length, b.length);
+			for( int j = 0; j < a.length; j++ )
+				assertEquals(a[j], b[j], 0);
+		}
+
+		ImageSInt32 a = expected.getPixelToRegion();
+		ImageSInt32 b = found.getPixelToRegion();
+		for( int y = 0; y < a.height; y++ ) {
+			for( int x = 0; x < a.width; x++ ) {
+				assertEquals(a.get(x, y), b.get(x, y));
+			}
+		}
+	}
+
+	private WorkerFactory<SegmentMeanShiftSearch<ImageFloat32>> gray( final boolean fast ) {
+		return new WorkerFactory<SegmentMeanShiftSearch<ImageFloat32>>() {
+			@Override
+			public SegmentMeanShiftSearch<ImageFloat32> newInstance() {
+				SegmentMeanShiftSearch<ImageFloat32> alg = new SegmentMeanShiftSearchGray<ImageFloat32>(
+						30, 0.05f, FactoryInterpolation.bilinearPixelS(ImageFloat32.class), 2, 2, 100, fast);
+				alg.setPruneBinWidth(4);
+				return alg;
+			}
+		};
+	}
+
+	private WorkerFactory<SegmentMeanShiftSearch<MultiSpectral<ImageFloat32>>>
+	color( final int numBands , final boolean fast ) {
+		return new WorkerFactory<SegmentMeanShiftSearch<MultiSpectral<ImageFloat32>>>() {
+			@Override
+			public SegmentMeanShiftSearch<MultiSpectral<ImageFloat32>> newInstance() {
+				ImageType<MultiSpectral<ImageFloat32>> imageType = ImageType.ms(numBands, ImageFloat32.class);
+				InterpolatePixelMB<MultiSpectral<ImageFloat32>> interp =
+						FactoryInterpolation.createPixelMB(0, 255, TypeInterpolate.BILINEAR, imageType);
+				return new SegmentMeanShiftSearchColor<MultiSpectral<ImageFloat32>>(
+						30, 0.05f, interp, 2, 2, 100, fast, imageType);
+			}
+		};
+	}
+}
@@ -18,6 +18,7 @@
 
 package boofcv.alg.segmentation.slic;
 
+import boofcv.alg.misc.ImageMiscOps;
 import boofcv.struct.ConnectRule;
 import boofcv.struct.feature.ColorQueue_F32;
 import boofcv.struct.image.ImageSInt32;
@@ -27,8 +28,9 @@ import org.ddogleg.struct.FastQueue;
 import org.ddogleg.struct.GrowQueue_I32;
 import org.junit.Test;
 
+import java.util.Random;
+
 import static org.junit.Assert.assertEquals;
-import static org.junit.Assert.assertTrue;
 
 /**
  * @author Peter Abeles
@@ -88,31 +90,64 @@ public class TestSegmentSlic {
 		alg.gridInterval = 2;
 		alg.computeClusterDistance();
 
-		checkPixelContains(0,2,0,2,c0,alg);
-		checkPixelContains(5,7,0,2,c1,alg);
-		checkPixelContains(5,7,7,9,c2,alg);
-		checkPixelContains(0,2,7,9,c3,alg);
+		checkPixelContains(0,2,0,2,0,alg);
+		checkPixelContains(5,7,0,2,1,alg);
+		checkPixelContains(5,7,7,9,2,alg);
+		checkPixelContains(0,2,7,9,3,alg);
 	}
 
 	private void checkPixelContains( int x0 , int x1 , int y0 , int y1 ,
-									 SegmentSlic.Cluster c ,
+									 int cluster ,
 									 DummySlic alg ) {
 
 		for( int y = y0; y < y1; y++ ) {
 			for( int x = x0; x < x1; x++ ) {
 				int index = y*alg.input.width + x;
-				SegmentSlic.Pixel p = alg.pixels.get(index);
-
-				boolean contains = false;
-				for( int i = 0; i < p.clusters.size; i++ ) {
-					if( p.clusters.data[i].cluster == c )
-						contains = true;
-				}
-				assertTrue(contains);
+				assertEquals(cluster,alg.pixelCluster[index]);
 			}
 		}
 	}
 
+	/**
+	 * The assignment should be the same no matter how the rows are split up
+	 */
+	@Test
+	public void assignRows() {
+		DummySlic alg = new DummySlic(4,1,10) {
+			@Override
+			public float colorDistance(float[] color, int index) {
+				return Math.abs(color[0] - input.data[index]);
+			}
+		};
+
+		ImageUInt8 input = new ImageUInt8(30,25);
+		ImageMiscOps.fillUniform(input,new Random(234),0,100);
+		alg.initalize(input);
+		alg.gridInterval = 5;
+
+		Random rand = new Random(234);
+		for( int i = 0; i < 30; i++ ) {
+			SegmentSlic.Cluster c = alg.clusters.grow();
+			c.x = rand.nextFloat()*30;
+			c.y = rand.nextFloat()*25;
+			c.color = new float[]{rand.nextFloat()*100};
+		}
+
+		alg.assignRows(0, input.height);
+		int expectedCluster[] = alg.pixelCluster.clone();
+		float expectedDistance[] = alg.pixelDistance.clone();
+
+		alg.assignRows(0, 7);
+		alg.assignRows(7, 8);
+		alg.assignRows(8, input.height);
+
+		int N = input.width*input.height;
+		for( int i = 0; i < N; i++ ) {
+			assertEquals(expectedCluster[i],alg.pixelCluster[i]);
+			assertEquals(expectedDistance[i],alg.pixelDistance[i],0);
+		}
+	}
+
 	@Test
 	public void updateClusters() {
 		DummySlic alg = new DummySlic(4,1,10);
@@ -120,31 +155,27 @@ public class TestSegmentSlic {
 		SegmentSlic.Cluster c0 = alg.clusters.grow();
 		SegmentSlic.Cluster c1 = alg.clusters.grow();
 		SegmentSlic.Cluster c2 = alg.clusters.grow();
+		SegmentSlic.Cluster c3 = alg.clusters.grow();
 
-		alg.pixels.resize(6);
-		alg.pixels.get(0).add(c0,2); // 0.666666
-		alg.pixels.get(0).add(c1,4); // 0.333333
-
-		alg.pixels.get(1).add(c1,1); // 0.75
-		alg.pixels.get(1).add(c0,3); // 0.25
-
-		for( int i = 2; i < 6; i++ ) {
-			alg.pixels.get(i).add(c2,0.2f);
-		}
+		// no pixels are assigned to this cluster so it should not change
+		c3.x = 3; c3.y = 4;
 
 		alg.input = new ImageUInt8(2,3);
+		alg.pixelCluster = new int[]{0,1,0,2,2,-1};
+
 		alg.updateClusters();
 
-		double w = (2.0/3.0) + 0.25;
-		assertEquals((0*0.666 + 1*0.25)/w,c0.x,1e-4);
-		assertEquals((0*0.666 + 0*0.25)/w,c0.y,1e-4);
+		assertEquals(0,c0.x,1e-4);
+		assertEquals(0.5,c0.y,1e-4);
 
-		w = (1.0/3.0) + 0.75;
-		assertEquals((0*0.333 + 1*0.75)/w,c1.x,1e-4);
-		assertEquals((0*0.333 + 0*0.75)/w,c1.y,1e-4);
+		assertEquals(1,c1.x,1e-4);
+		assertEquals(0,c1.y,1e-4);
 
 		assertEquals(0.5,c2.x,1e-4);
 		assertEquals(1.5,c2.y,1e-4);
+
+		assertEquals(3,c3.x,1e-4);
+		assertEquals(4,c3.y,1e-4);
 	}
 
 	@Test
@@ -156,18 +187,8 @@ public class TestSegmentSlic {
 		SegmentSlic.Cluster c2 = alg.clusters.grow();
 		c0.id = 0; c1.id = 1; c2.id = 2;
 
-		alg.pixels.resize(6);
-		alg.pixels.get(0).add(c0,2);
-		alg.pixels.get(0).add(c1,4);
-		alg.pixels.get(0).add(c2,0.1f);
-
-		alg.pixels.get(1).add(c1,1);
-		alg.pixels.get(1).add(c0,2);
-
-		for( int i = 2; i < 6; i++ ) {
-			alg.pixels.get(i).add(c1,0);
-			alg.pixels.get(i).add(c2,0.2f);
-		}
+		// the last pixel isn't close to any cluster
+		alg.pixelCluster = new int[]{2,1,1,1,1,-1};
 
 		ImageSInt32 image = new ImageSInt32(2,3);
 		GrowQueue_I32 regionMemberCount = new GrowQueue_I32();
@@ -175,62 +196,20 @@ public class TestSegmentSlic {
 
 		alg.assignLabelsToPixels(image,regionMemberCount,regionColor);
 
-		assertEquals(3,regionMemberCount.size);
-		assertEquals(3,regionColor.size);
+		assertEquals(4,regionMemberCount.size);
+		assertEquals(4,regionColor.size);
 
 		assertEquals(0,regionMemberCount.get(0));
-		assertEquals(5,regionMemberCount.get(1));
+		assertEquals(4,regionMemberCount.get(1));
 		assertEquals(1,regionMemberCount.get(2));
+		assertEquals(1,regionMemberCount.get(3));
 
 		assertEquals(2,image.get(0,0));
 		assertEquals(1,image.get(1,0));
-		for( int i = 2; i < 6; i++ ) {
+		for( int i = 2; i < 5; i++ ) {
 			assertEquals(1,image.data[i]);
 		}
-
-	}
-
-	@Test
-	public void Pixel_add()
-	{
-		SegmentSlic.Cluster c0 = new SegmentSlic.Cluster();
-		SegmentSlic.Cluster c1 = new SegmentSlic.Cluster();
-
-		SegmentSlic.Pixel p = new SegmentSlic.Pixel();
-
-		assertEquals(0,p.clusters.size);
-
-		p.add(c0, 2.2f);
-		assertEquals(1, p.clusters.size);
-		assertEquals(2.2f, p.clusters.data[0].distance, 1e-4f);
-		assertTrue(c0 == p.clusters.data[0].cluster);
-
-		p.add(c1, 1.2f);
-		assertEquals(2, p.clusters.size);
-		assertEquals(1.2f, p.clusters.data[1].distance, 1e-4f);
-		assertTrue(c1 == p.clusters.data[1].cluster);
-	}
-
-
-	@Test
-	public void Pixel_computeWeights() {
-		SegmentSlic.Pixel p = new SegmentSlic.Pixel();
-
-		p.clusters.grow().distance = 2;
-		p.clusters.grow().distance = 0.3f;
-
-		p.computeWeights();
-
-		assertEquals(1.0f - 2f/2.3f,p.clusters.data[0].distance,1e-4f);
-		assertEquals(1.0f - 0.3f/2.3f,p.clusters.data[1].distance,1e-4f);
-
-		// check special case of 1 item.  The weight will be 1 since it is the only one
-		p.clusters.size = 1;
-		p.clusters.data[0].distance = 2;
-
-		p.computeWeights();
-
-		assertEquals(1.0f,p.clusters.data[0].distance,1e-4f);
+		assertEquals(3,image.data[5]);
 	}
 
 	@Test
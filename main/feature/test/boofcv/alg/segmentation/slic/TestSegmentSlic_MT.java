@@ -0,0 +1,81 @@
+/*
+ * Copyright (c) 2011-2015, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.segmentation.slic;
+
+import boofcv.alg.filter.blur.GBlurImageOps;
+import boofcv.alg.misc.GImageMiscOps;
+import boofcv.struct.ConnectRule;
+import boofcv.struct.image.ImageBase;
+import boofcv.struct.image.ImageFloat32;
+import boofcv.struct.image.ImageSInt32;
+import boofcv.struct.image.ImageUInt8;
+import boofcv.struct.image.MultiSpectral;
+import org.junit.Test;
+
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * @author Peter Abeles
+ */
+public class TestSegmentSlic_MT {
+
+	Random rand = new Random(234);
+
+	/**
+	 * Results should be identical to the single threaded implementation
+	 */
+	@Test
+	public void compareToSingle() {
+		MultiSpectral<ImageUInt8> inputU8 = new MultiSpectral<ImageUInt8>(ImageUInt8.class,60,45,3);
+		MultiSpectral<ImageFloat32> inputF32 = new MultiSpectral<ImageFloat32>(ImageFloat32.class,60,45,3);
+		GImageMiscOps.fillUniform(inputU8, rand, 0, 200);
+		GImageMiscOps.fillUniform(inputF32, rand, 0, 200);
+
+		compareToSingle(new SegmentSlic_MsU8(20,200,10,ConnectRule.EIGHT,3),
+				new SegmentSlic_MsU8(20,200,10,ConnectRule.EIGHT,3),inputU8);
+		compareToSingle(new SegmentSlic_MsF32(20,200,10,ConnectRule.FOUR,3),
+				new SegmentSlic_MsF32(20,200,10,ConnectRule.FOUR,3),inputF32);
+	}
+
+	private <T extends ImageBase> void compareToSingle( SegmentSlic<T> single , SegmentSlic<T> helper , T input ) {
+		// smooth the image so that the superpixels have something to find
+		T blurred = (T)input._createNew(input.width,input.height);
+		GBlurImageOps.gaussian(input,blurred,-1,3,null);
+
+		SegmentSlic_MT<T> alg = new SegmentSlic_MT<T>(helper);
+		alg.setMinBlockRows(3);
+
+		ImageSInt32 expected = new ImageSInt32(input.width,input.height);
+		ImageSInt32 found = new ImageSInt32(input.width,input.height);
+
+		single.process(blurred,expected);
+		alg.process(blurred,found);
+
+		assertEquals(single.getRegionMemberCount().size,alg.getRegionMemberCount().size);
+		for( int i = 0; i < expected.data.length; i++ ) {
+			assertEquals(expected.data[i],found.data[i]);
+		}
+		for( int i = 0; i < single.getClusters().size; i++ ) {
+			assertEquals(single.getClusters().get(i).x,alg.getClusters().get(i).x,0);
+			assertEquals(single.getClusters().get(i).y,alg.getClusters().get(i).y,0);
+		}
+	}
+}
@@ -0,0 +1,338 @@
+/*
+ * Copyright (c) 2011-2015, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.segmentation.watershed;
+
+import boofcv.alg.misc.ImageMiscOps;
+import boofcv.struct.ConnectRule;
+import boofcv.struct.image.ImageSInt32;
+import boofcv.struct.image.ImageUInt8;
+import boofcv.testing.BoofTesting;
+import org.junit.Test;
+
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * @author Peter Abeles
+ */
+public class TestWatershedBucketQueue {
+
+	Random rand = new Random(234);
+
+	protected WatershedBucketQueue createAlg( ConnectRule rule ) {
+		return new WatershedBucketQueue(rule);
+	}
+
+	@Test
+	public void basic() {
+		for( ConnectRule rule : new ConnectRule[]{ConnectRule.FOUR,ConnectRule.EIGHT}) {
+			ImageUInt8 image = new ImageUInt8(300,320);
+			ImageMiscOps.fill(image, 255);
+			image.set(10, 15, 10);
+			image.set(100, 200, 50);
+			image.set(200, 250, 20);
+
+			WatershedBucketQueue alg = createAlg(rule);
+
+			alg.process(image);
+			// one region for each minimum plus the watersheds
+			assertEquals(4,alg.getTotalRegions());
+
+			alg.setRemoveWatersheds(true);
+			alg.process(image);
+			assertEquals(3,alg.getTotalRegions());
+			checkAllLabeled(alg.getOutput(),3);
+		}
+	}
+
+	@Test
+	public void example0() {
+		ImageUInt8 image = new ImageUInt8(3,4);
+		image.data = new byte[]
+				{1,5,1,
+				 1,5,1,
+				 1,5,1,
+				 1,5,1};
+
+		WatershedBucketQueue alg = createAlg(ConnectRule.FOUR);
+
+		alg.process(image);
+
+		assertEquals(3,alg.getTotalRegions());
+		ImageSInt32 found = alg.getOutput();
+
+		int a = found.get(0,0);
+		int b = found.get(2,0);
+
+		assertTrue(a>0);
+		assertTrue(b>0);
+		assertTrue(a!=b);
+
+		for( int y = 0; y < image.height; y++ ) {
+			assertEquals(a,found.get(0,y));
+			assertEquals(0,found.get(1,y));
+			assertEquals(b,found.get(2,y));
+		}
+	}
+
+	@Test
+	public void example1() {
+		ImageUInt8 image = new ImageUInt8(4,4);
+		image.data = new byte[]
+				{1,5,5,1,
+				 1,5,5,1,
+				 1,5,5,1,
+				 1,5,5,1};
+
+		WatershedBucketQueue alg = createAlg(ConnectRule.FOUR);
+
+		alg.process(image);
+
+		assertEquals(3,alg.getTotalRegions());
+		ImageSInt32 found = alg.getOutput();
+
+		int a = found.get(0,0);
+		int b = found.get(3,0);
+
+		assertTrue(a>0);
+		assertTrue(b>0);
+		assertTrue(a!=b);
+
+		for( int y = 0; y < image.height; y++ ) {
+			assertEquals(a,found.get(0,y));
+			assertEquals(a,found.get(1,y));
+			assertEquals(b,found.get(2,y));
+			assertEquals(b,found.get(3,y));
+		}
+	}
+
+	@Test
+	public void example2() {
+		ImageUInt8 image = new ImageUInt8(5,4);
+		image.data = new byte[]
+				{5,5,5,5,5,
+				 5,1,5,1,5,
+				 5,5,5,5,5,
+				 5,5,5,5,5};
+
+		WatershedBucketQueue alg = createAlg(ConnectRule.FOUR);
+
+		alg.process(image);
+
+		ImageSInt32 found = alg.getOutput();
+
+		assertEquals(3,alg.getTotalRegions());
+		int a = found.get(0,0);
+		int b = found.get(4,0);
+
+		assertTrue(a>0);
+		assertTrue(b>0);
+		assertTrue(a!=b);
+
+		for( int y = 0; y < image.height; y++ ) {
+			assertEquals(a,found.get(0,y));
+			assertEquals(a,found.get(1,y));
+			assertEquals(0,found.get(2,y));
+			assertEquals(b,found.get(3,y));
+			assertEquals(b,found.get(4,y));
+		}
+	}
+
+	/**
+	 * A plateau next to the minimum should be part of the same region
+	 */
+	@Test
+	public void example5() {
+		ImageUInt8 image = new ImageUInt8(5,4);
+		image.data = new byte[] {
+				1,1,1,5,5,
+				1,1,1,5,5,
+				0,1,1,5,5,
+				1,1,1,5,5};
+
+		WatershedBucketQueue alg = createAlg(ConnectRule.FOUR);
+
+		alg.process(image);
+
+		ImageSInt32 found = alg.getOutput();
+
+		assertEquals(2,alg.getTotalRegions());
+
+		for( int y = 0; y < image.height; y++ ) {
+			for( int x = 0; x < image.width; x++ ) {
+				assertEquals(1,found.get(x,y));
+			}
+		}
+	}
+
+	/**
+	 * When watersheds are removed each watershed pixel should be assigned to one of its neighbors and
+	 * labels start at zero.
+	 */
+	@Test
+	public void removeWatersheds() {
+		ImageUInt8 image = new ImageUInt8(5,4);
+		image.data = new byte[]
+				{5,5,5,5,5,
+				 5,1,5,1,5,
+				 5,5,5,5,5,
+				 5,5,5,5,5};
+
+		WatershedBucketQueue alg = createAlg(ConnectRule.FOUR);
+		alg.setRemoveWatersheds(true);
+		alg.process(image);
+
+		ImageSInt32 found = alg.getOutput();
+		assertEquals(2,alg.getTotalRegions());
+		checkAllLabeled(found,2);
+
+		assertEquals(0,found.get(1,1));
+		assertEquals(1,found.get(3,1));
+		for( int y = 0; y < image.height; y++ ) {
+			assertEquals(0,found.get(0,y));
+			assertEquals(1,found.get(4,y));
+		}
+	}
+
+	/**
+	 * Removing watersheds while flooding should produce the same number of regions as removing
+	 * them afterwards
+	 */
+	@Test
+	public void removeWatersheds_random() {
+		ImageUInt8 image = new ImageUInt8(40,35);
+		ImageMiscOps.fillUniform(image,rand,0,20);
+
+		WatershedBucketQueue alg = createAlg(ConnectRule.FOUR);
+		alg.process(image);
+		int withLines = alg.getTotalRegions();
+
+		new RemoveWatersheds().remove(alg.getOutputBorder());
+		checkAllLabeled(alg.getOutput(),withLines-1);
+
+		alg.setRemoveWatersheds(true);
+		alg.process(image);
+		assertEquals(withLines-1,alg.getTotalRegions());
+		checkAllLabeled(alg.getOutput(),withLines-1);
+	}
+
+	@Test
+	public void seeds() {
+		ImageUInt8 image = new ImageUInt8(5,4);
+		image.data = new byte[]
+				{5,5,5,5,5,
+				 5,1,4,2,5,
+				 5,5,5,5,5,
+				 5,5,5,4,5};
+
+		ImageSInt32 seeds = new ImageSInt32(5,4);
+		seeds.set(1,1,1);
+		seeds.set(3,3,2);
+
+		WatershedBucketQueue alg = createAlg(ConnectRule.FOUR);
+		alg.process(image,seeds);
+
+		// no new regions should be created at the minimum at (3,1)
+		ImageSInt32 found = alg.getOutput();
+		assertEquals(3,alg.getTotalRegions());
+		for( int y = 0; y < image.height; y++ ) {
+			for( int x = 0; x < image.width; x++ ) {
+				int v = found.get(x,y);
+				assertTrue(v >= 0 && v <= 2);
+			}
+		}
+		assertEquals(1,found.get(1,1));
+		assertEquals(2,found.get(3,3));
+
+		// labels are shifted by one when watersheds are removed
+		alg.setRemoveWatersheds(true);
+		alg.process(image, BoofTesting.createSubImageOf(seeds));
+		assertEquals(2,alg.getTotalRegions());
+		checkAllLabeled(alg.getOutput(),2);
+		assertEquals(0,alg.getOutput().get(1,1));
+		assertEquals(1,alg.getOutput().get(3,3));
+	}
+
+	/**
+	 * A single seed in a flat image should claim every pixel
+	 */
+	@Test
+	public void seeds_flat() {
+		ImageUInt8 image = new ImageUInt8(5,4);
+		ImageSInt32 seeds = new ImageSInt32(5,4);
+		seeds.set(1,1,1);
+
+		WatershedBucketQueue alg = createAlg(ConnectRule.FOUR);
+		alg.setRemoveWatersheds(true);
+		alg.process(image,seeds);
+		checkAllLabeled(alg.getOutput(),1);
+
+		// sanity check the border
+		ImageSInt32 border = alg.getOutputBorder();
+		assertEquals(WatershedBucketQueue.QUEUED,border.get(0,0));
+		assertEquals(WatershedBucketQueue.QUEUED,border.get(6,5));
+	}
+
+	/**
+	 * Process an image then a smaller image.  Nothing from the first should be carried over.
+	 */
+	@Test
+	public void differentShapes() {
+		WatershedBucketQueue alg = createAlg(ConnectRule.FOUR);
+		alg.setRemoveWatersheds(true);
+
+		ImageUInt8 image = new ImageUInt8(30,40);
+		ImageMiscOps.fillUniform(image,rand,0,50);
+		alg.process(image);
+
+		image = new ImageUInt8(20,25);
+		ImageMiscOps.fillUniform(image,rand,0,50);
+		alg.process(BoofTesting.createSubImageOf(image));
+		checkAllLabeled(alg.getOutput(),alg.getTotalRegions());
+
+		ImageSInt32 expected = createAlgNoLines(image);
+		BoofTesting.assertEquals(expected,alg.getOutput(),0);
+	}
+
+	private ImageSInt32 createAlgNoLines( ImageUInt8 image ) {
+		WatershedBucketQueue alg = createAlg(ConnectRule.FOUR);
+		alg.setRemoveWatersheds(true);
+		alg.process(image);
+		return alg.getOutput().clone();
+	}
+
+	/**
+	 * Makes sure every pixel has a label from 0 to numRegions-1 and that every label is used
+	 */
+	protected static void checkAllLabeled( ImageSInt32 found , int numRegions ) {
+		boolean used[] = new boolean[numRegions];
+		for( int y = 0; y < found.height; y++ ) {
+			for( int x = 0; x < found.width; x++ ) {
+				int v = found.get(x,y);
+				assertTrue(v >= 0 && v < numRegions);
+				used[v] = true;
+			}
+		}
+		for( int i = 0; i < numRegions; i++ ) {
+			assertTrue(used[i]);
+		}
+	}
+}
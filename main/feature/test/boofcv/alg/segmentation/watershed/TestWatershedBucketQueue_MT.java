@@ -0,0 +1,165 @@
+/*
+ * Copyright (c) 2011-2015, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.segmentation.watershed;
+
+import boofcv.alg.misc.ImageMiscOps;
+import boofcv.struct.ConnectRule;
+import boofcv.struct.image.ImageSInt32;
+import boofcv.struct.image.ImageUInt8;
+import boofcv.testing.BoofTesting;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Runs the same tests as the single threaded version with tiles that are only a few rows tall.
+ *
+ * @author Peter Abeles
+ */
+public class TestWatershedBucketQueue_MT extends TestWatershedBucketQueue {
+
+	@Override
+	protected WatershedBucketQueue createAlg( ConnectRule rule ) {
+		WatershedBucketQueue_MT alg = new WatershedBucketQueue_MT(rule);
+		alg.setTileRows(3);
+		return alg;
+	}
+
+	/**
+	 * The last row is a tile by itself and is a flat plateau.  It should be merged into the first basin
+	 * it can flow into.
+	 */
+	@Override
+	@Test
+	public void removeWatersheds() {
+		ImageUInt8 image = new ImageUInt8(5,4);
+		image.data = new byte[]
+				{5,5,5,5,5,
+				 5,1,5,1,5,
+				 5,5,5,5,5,
+				 5,5,5,5,5};
+
+		WatershedBucketQueue alg = createAlg(ConnectRule.FOUR);
+		alg.setRemoveWatersheds(true);
+		alg.process(image);
+
+		ImageSInt32 found = alg.getOutput();
+		assertEquals(2,alg.getTotalRegions());
+		checkAllLabeled(found,2);
+
+		for( int y = 0; y < 3; y++ ) {
+			assertEquals(0,found.get(0,y));
+			assertEquals(1,found.get(4,y));
+		}
+		for( int x = 0; x < 5; x++ ) {
+			assertEquals(0,found.get(x,3));
+		}
+	}
+
+	/**
+	 * Basins which cross tile borders should be merged back together.  The image is composed of cones, so
+	 * every tile will have false minima along its borders.
+	 */
+	@Test
+	public void mergeAcrossTiles() {
+		for( ConnectRule rule : new ConnectRule[]{ConnectRule.FOUR,ConnectRule.EIGHT}) {
+			ImageUInt8 image = new ImageUInt8(60,50);
+			int cx[] = new int[]{10,45,30};
+			int cy[] = new int[]{12,8,40};
+
+			for( int y = 0; y < image.height; y++ ) {
+				for( int x = 0; x < image.width; x++ ) {
+					int best = Integer.MAX_VALUE;
+					for( int i = 0; i < cx.length; i++ ) {
+						best = Math.min(best,Math.abs(x-cx[i]) + Math.abs(y-cy[i]));
+					}
+					image.set(x,y,best);
+				}
+			}
+
+			WatershedBucketQueue single = new WatershedBucketQueue(rule);
+			single.setRemoveWatersheds(true);
+			single.process(image);
+			assertEquals(3,single.getTotalRegions());
+
+			WatershedBucketQueue_MT alg = new WatershedBucketQueue_MT(rule);
+			alg.setRemoveWatersheds(true);
+			alg.setTileRows(7);
+			alg.process(image);
+
+			assertEquals(3,alg.getTotalRegions());
+			checkAllLabeled(alg.getOutput(),3);
+
+			// the center of each basin is far from the tile borders and should match
+			ImageSInt32 expected = single.getOutput();
+			ImageSInt32 found = alg.getOutput();
+			for( int i = 0; i < cx.length; i++ ) {
+				for( int j = 0; j < cx.length; j++ ) {
+					boolean sameA = expected.get(cx[i],cy[i]) == expected.get(cx[j],cy[j]);
+					boolean sameB = found.get(cx[i],cy[i]) == found.get(cx[j],cy[j]);
+					assertTrue(sameA == sameB);
+				}
+			}
+		}
+	}
+
+	/**
+	 * The number of regions should be the same as the single threaded version for random images
+	 */
+	@Test
+	public void compareToSingle_random() {
+		ImageUInt8 image = new ImageUInt8(60,50);
+		ImageMiscOps.fillUniform(image,rand,0,30);
+
+		for( ConnectRule rule : new ConnectRule[]{ConnectRule.FOUR,ConnectRule.EIGHT}) {
+			WatershedBucketQueue single = new WatershedBucketQueue(rule);
+			single.setRemoveWatersheds(true);
+			single.process(image);
+
+			WatershedBucketQueue_MT alg = new WatershedBucketQueue_MT(rule);
+			alg.setRemoveWatersheds(true);
+			alg.setTileRows(5);
+			alg.process(BoofTesting.createSubImageOf(image));
+
+			assertEquals(single.getTotalRegions(),alg.getTotalRegions());
+			checkAllLabeled(alg.getOutput(),alg.getTotalRegions());
+		}
+	}
+
+	/**
+	 * If there is only one tile the results should be identical
+	 */
+	@Test
+	public void compareToSingle_oneTile() {
+		ImageUInt8 image = new ImageUInt8(60,50);
+		ImageMiscOps.fillUniform(image,rand,0,30);
+
+		WatershedBucketQueue single = new WatershedBucketQueue(ConnectRule.EIGHT);
+		single.setRemoveWatersheds(true);
+		single.process(image);
+
+		WatershedBucketQueue_MT alg = new WatershedBucketQueue_MT(ConnectRule.EIGHT);
+		alg.setRemoveWatersheds(true);
+		alg.setTileRows(50);
+		alg.process(image);
+
+		BoofTesting.assertEquals(single.getOutput(),alg.getOutput(),0);
+	}
+}
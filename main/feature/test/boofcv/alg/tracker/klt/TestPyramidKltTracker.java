@@ -25,6 +25,9 @@ import boofcv.core.image.border.ImageBorder1D_F32;
 import org.junit.Before;
 import org.junit.Test;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import static org.junit.Assert.*;
 
 /**
@@ -95,6 +98,74 @@ public class TestPyramidKltTracker extends PyramidKltTestBase {
 		assertFalse(tracker.setDescription(feature));
 	}
 
+	/**
+	 * Describing a list of features should produce the same results as describing them individually
+	 */
+	@Test
+	public void setDescription_list() {
+		tracker.setImage(pyramid,derivX,derivY);
+
+		List<PyramidKltFeature> features = new ArrayList<PyramidKltFeature>();
+		for( int i = 0; i < 20; i++ ) {
+			PyramidKltFeature f = new PyramidKltFeature(pyramid.getNumLayers(),featureReadius);
+			f.setPosition(rand.nextFloat()*(width+10)-5,rand.nextFloat()*(height+10)-5);
+			features.add(f);
+		}
+		boolean found[] = new boolean[features.size()];
+		tracker.setDescription(features, found);
+
+		for( int i = 0; i < features.size(); i++ ) {
+			PyramidKltFeature f = features.get(i);
+			PyramidKltFeature e = new PyramidKltFeature(pyramid.getNumLayers(),featureReadius);
+			e.setPosition(f.x,f.y);
+			assertEquals(tracker.setDescription(e), found[i]);
+			if( found[i] ) {
+				for( int layer = 0; layer < pyramid.getNumLayers(); layer++ ) {
+					assertEquals(e.desc[layer].Gxx, f.desc[layer].Gxx, 0);
+					assertEquals(e.desc[layer].Gxy, f.desc[layer].Gxy, 0);
+				}
+			}
+		}
+	}
+
+	/**
+	 * Tracking a list of features should produce the same results as tracking them individually
+	 */
+	@Test
+	public void track_list() {
+		tracker.setImage(pyramid,derivX,derivY);
+
+		List<PyramidKltFeature> features = new ArrayList<PyramidKltFeature>();
+		List<PyramidKltFeature> expected = new ArrayList<PyramidKltFeature>();
+		for( int i = 0; i < 20; i++ ) {
+			float x = cornerX + rand.nextFloat()*20-10;
+			float y = cornerY + rand.nextFloat()*20-10;
+			PyramidKltFeature f = new PyramidKltFeature(pyramid.getNumLayers(),featureReadius);
+			PyramidKltFeature e = new PyramidKltFeature(pyramid.getNumLayers(),featureReadius);
+			f.setPosition(x, y);
+			e.setPosition(x, y);
+			tracker.setDescription(f);
+			tracker.setDescription(e);
+			x += rand.nextFloat()*4-2;
+			y += rand.nextFloat()*4-2;
+			f.setPosition(x, y);
+			e.setPosition(x, y);
+			features.add(f);
+			expected.add(e);
+		}
+
+		KltTrackFault found[] = new KltTrackFault[features.size()];
+		tracker.track(features, found);
+
+		for( int i = 0; i < features.size(); i++ ) {
+			PyramidKltFeature f = features.get(i);
+			PyramidKltFeature e = expected.get(i);
+			assertTrue(tracker.track(e) == found[i]);
+			assertEquals(e.x, f.x, 0);
+			assertEquals(e.y, f.y, 0);
+		}
+	}
+
 	/**
 	 * Test positive examples of tracking when there should be no fault at any point.
 	 *
@@ -0,0 +1,109 @@
+/*
+ * Copyright (c) 2011-2015, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.tracker.klt;
+
+import boofcv.concurrency.WorkerFactory;
+import boofcv.struct.image.ImageFloat32;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * @author Peter Abeles
+ */
+public class TestPyramidKltTracker_MT extends PyramidKltTestBase {
+
+	@Before
+	public void setup() {
+		super.setup();
+	}
+
+	/**
+	 * Results should be identical to the single threaded tracker
+	 */
+	@Test
+	public void compareToSingle() {
+		PyramidKltTracker_MT<ImageFloat32,ImageFloat32> alg = new PyramidKltTracker_MT<ImageFloat32,ImageFloat32>(
+				new WorkerFactory<KltTracker<ImageFloat32, ImageFloat32>>() {
+			@Override
+			public KltTracker<ImageFloat32, ImageFloat32> newInstance() {
+				return TestKltTracker.createDefaultTracker();
+			}
+		});
+		alg.setMinBlockFeatures(5);
+
+		// features across the whole image, including the border
+		List<PyramidKltFeature> expected = new ArrayList<PyramidKltFeature>();
+		List<PyramidKltFeature> found = new ArrayList<PyramidKltFeature>();
+		for( int y = -2; y < height+2; y += 3 ) {
+			for( int x = -2; x < width+2; x += 3 ) {
+				PyramidKltFeature e = new PyramidKltFeature(pyramid.getNumLayers(),featureReadius);
+				PyramidKltFeature f = new PyramidKltFeature(pyramid.getNumLayers(),featureReadius);
+				e.setPosition(x + 0.2f, y + 0.3f);
+				f.setPosition(x + 0.2f, y + 0.3f);
+				expected.add(e);
+				found.add(f);
+			}
+		}
+
+		boolean describedE[] = new boolean[expected.size()];
+		boolean describedF[] = new boolean[found.size()];
+
+		tracker.setImage(pyramid,derivX,derivY);
+		alg.setImage(pyramid,derivX,derivY);
+		tracker.setDescription(expected, describedE);
+		alg.setDescription(found, describedF);
+
+		for( int i = 0; i < expected.size(); i++ ) {
+			assertEquals(describedE[i], describedF[i]);
+		}
+
+		// perturb the location and track them
+		for( int i = 0; i < expected.size(); i++ ) {
+			float dx = rand.nextFloat()*3-1.5f;
+			float dy = rand.nextFloat()*3-1.5f;
+			PyramidKltFeature e = expected.get(i);
+			PyramidKltFeature f = found.get(i);
+			e.setPosition(e.x+dx, e.y+dy);
+			f.setPosition(f.x+dx, f.y+dy);
+		}
+
+		KltTrackFault faultsE[] = new KltTrackFault[expected.size()];
+		KltTrackFault faultsF[] = new KltTrackFault[found.size()];
+
+		tracker.track(expected, faultsE);
+		alg.track(found, faultsF);
+
+		int total = 0;
+		for( int i = 0; i < expected.size(); i++ ) {
+			assertTrue(faultsE[i] == faultsF[i]);
+			assertEquals(expected.get(i).x, found.get(i).x, 0);
+			assertEquals(expected.get(i).y, found.get(i).y, 0);
+			if( faultsE[i] == KltTrackFault.SUCCESS )
+				total++;
+		}
+		// sanity check
+		assertTrue(total > 0);
+	}
+}
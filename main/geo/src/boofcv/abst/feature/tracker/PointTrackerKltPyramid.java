@@ -19,6 +19,7 @@
 package boofcv.abst.feature.tracker;
 
 import boofcv.abst.filter.derivative.ImageGradient;
+import boofcv.alg.feature.detect.interest.FeatureCoverageGrid;
 import boofcv.alg.feature.detect.interest.GeneralFeatureDetector;
 import boofcv.alg.interpolate.InterpolateRectangle;
 import boofcv.alg.tracker.klt.*;
@@ -69,11 +70,18 @@ public class PointTrackerKltPyramid<I extends ImageSingleBand,D extends ImageSin
 
 	// the tracker
 	protected PyramidKltTracker<I, D> tracker;
+	// storage for the results of tracking or describing a list of features
+	protected KltTrackFault faults[] = new KltTrackFault[0];
+	protected boolean described[] = new boolean[0];
+	// tracks which are described after being successfully tracked
+	private List<PyramidKltFeature> candidates = new ArrayList<PyramidKltFeature>();
 
 	// selects point features
 	private GeneralFeatureDetector<I, D> detector;
 	// list of corners which should be ignored by the corner detector
 	private QueueCorner excludeList = new QueueCorner(10);
+	// if not null then new tracks are only searched for in cells without active tracks
+	private FeatureCoverageGrid spawnGrid;
 
 	// number of features tracked so far
 	private long totalFeatures = 0;
@@ -92,7 +100,25 @@ public class PointTrackerKltPyramid<I extends ImageSingleBand,D extends ImageSin
 								  InterpolateRectangle<I> interpInput,
 								  InterpolateRectangle<D> interpDeriv,
 								  Class<D> derivType ) {
-		this(config,templateRadius,pyramid,gradient,interpInput,interpDeriv,derivType);
+		this(config,templateRadius,pyramid,detector,gradient,
+				new PyramidKltTracker<I, D>(new KltTracker<I, D>(interpInput, interpDeriv,config)),derivType);
+	}
+
+	/**
+	 * Constructor which specified the KLT track manager and how the image pyramids are computed.
+	 *
+	 * @param config KLT tracker configuration
+	 * @param gradient Computes gradient image pyramid.
+	 * @param tracker Tracker for individual features.  Must have been created using the same configuration.
+	 */
+	public PointTrackerKltPyramid(KltConfig config,
+								  int templateRadius ,
+								  PyramidDiscrete<I> pyramid,
+								  GeneralFeatureDetector<I, D> detector,
+								  ImageGradient<I, D> gradient,
+								  PyramidKltTracker<I, D> tracker,
+								  Class<D> derivType ) {
+		this(config,templateRadius,pyramid,gradient,tracker,derivType);
 
 		if( detector.getRequiresHessian() )
 			throw new IllegalArgumentException("Hessian based feature detectors not yet supported");
@@ -108,14 +134,22 @@ public class PointTrackerKltPyramid<I extends ImageSingleBand,D extends ImageSin
 								  InterpolateRectangle<I> interpInput,
 								  InterpolateRectangle<D> interpDeriv,
 								  Class<D> derivType ) {
+		this(config,templateRadius,pyramid,gradient,
+				new PyramidKltTracker<I, D>(new KltTracker<I, D>(interpInput, interpDeriv,config)),derivType);
+	}
+
+	public PointTrackerKltPyramid(KltConfig config,
+								  int templateRadius ,
+								  PyramidDiscrete<I> pyramid,
+								  ImageGradient<I, D> gradient,
+								  PyramidKltTracker<I, D> tracker,
+								  Class<D> derivType ) {
 
 		this.config = config;
 		this.templateRadius = templateRadius;
 		this.gradient = gradient;
 		this.basePyramid = pyramid;
-
-		KltTracker<I, D> klt = new KltTracker<I, D>(interpInput, interpDeriv,config);
-		tracker = new PyramidKltTracker<I, D>(klt);
+		this.tracker = tracker;
 	}
 
 	private void addTrackToUnused() {
@@ -179,7 +213,23 @@ public class PointTrackerKltPyramid<I extends ImageSingleBand,D extends ImageSin
 
 		// find new tracks, but no more than the max
 		detector.setExcludeMaximum(excludeList);
-		detector.process(basePyramid.getLayer(0), derivX[0], derivY[0], null, null, null);
+		I layer = basePyramid.getLayer(0);
+		if( spawnGrid == null ) {
+			detector.process(layer, derivX[0], derivY[0], null, null, null);
+		} else {
+			// only compute the feature intensity where there are no active tracks
+			spawnGrid.reset(layer.width, layer.height);
+			for (int i = 0; i < excludeList.size; i++) {
+				Point2D_I16 p = excludeList.get(i);
+				spawnGrid.markCovered(p.x, p.y);
+			}
+			spawnGrid.process();
+
+			if( spawnGrid.getFractionUncovered() < 1 )
+				detector.process(layer, derivX[0], derivY[0], null, null, null, spawnGrid.getUncovered());
+			else
+				detector.process(layer, derivX[0], derivY[0], null, null, null);
+		}
 
 		// extract the features
 		QueueCorner found = detector.getMaximums();
@@ -214,6 +264,20 @@ public class PointTrackerKltPyramid<I extends ImageSingleBand,D extends ImageSin
 		}
 	}
 
+	/**
+	 * Specifies the size of the cells used when spawning tracks.  New tracks will only be spawned inside of cells
+	 * which don't have any active tracks and the feature intensity is only computed inside of those cells.  When
+	 * most of the image is already covered by tracks this is much faster.
+	 *
+	 * @param cellWidth Width of a cell in pixels at the bottom layer.  If <= 0 then the whole image is searched.
+	 */
+	public void setSpawnCellWidth( int cellWidth ) {
+		if( cellWidth <= 0 )
+			spawnGrid = null;
+		else
+			spawnGrid = new FeatureCoverageGrid(cellWidth);
+	}
+
 	/**
 	 * Returns true if a new track can be spawned here.  Intended to be overloaded
 	 */
@@ -242,28 +306,51 @@ public class PointTrackerKltPyramid<I extends ImageSingleBand,D extends ImageSin
 
 		// track features
 		tracker.setImage(basePyramid,derivX,derivY);
-		for( int i = 0; i < active.size(); ) {
+		declareResults(active.size());
+		tracker.track(active, faults);
+
+		// update the description of tracks which are still inside the image
+		candidates.clear();
+		for( int i = 0; i < active.size(); i++ ) {
 			PyramidKltFeature t = active.get(i);
-			KltTrackFault ret = tracker.track(t);
+			// discard a track if its center drifts outside the image.
+			if( faults[i] == KltTrackFault.SUCCESS && image.isInBounds((int)t.x,(int)t.y) )
+				candidates.add(t);
+		}
+		tracker.setDescription(candidates, described);
 
-			boolean success = false;
+		// candidates are in the same order as the active list
+		int indexCandidate = 0;
+		int numActive = 0;
+		for( int i = 0; i < active.size(); i++ ) {
+			PyramidKltFeature t = active.get(i);
 
-			if( ret == KltTrackFault.SUCCESS ) {
-				// discard a track if its center drifts outside the image.
-				if( image.isInBounds((int)t.x,(int)t.y) && tracker.setDescription(t) ) {
-					PointTrack p = t.getCookie();
-					p.set(t.x,t.y);
-					i++;
-					success = true;
-				}
+			boolean success = false;
+			if( indexCandidate < candidates.size() && candidates.get(indexCandidate) == t ) {
+				success = described[indexCandidate++];
 			}
 
-			if( !success ) {
-				active.remove(i);
+			if( success ) {
+				PointTrack p = t.getCookie();
+				p.set(t.x,t.y);
+				active.set(numActive++, t);
+			} else {
 				dropped.add( t );
 				unused.add( t );
 			}
 		}
+		while( active.size() > numActive )
+			active.remove(active.size()-1);
+	}
+
+	/**
+	 * Makes sure there is enough storage for the results of the specified number of features
+	 */
+	protected void declareResults( int numFeatures ) {
+		if( faults.length < numFeatures ) {
+			faults = new KltTrackFault[numFeatures];
+			described = new boolean[numFeatures];
+		}
 	}
 
 	protected void declareOutput() {
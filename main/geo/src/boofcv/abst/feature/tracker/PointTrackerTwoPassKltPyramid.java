@@ -24,6 +24,7 @@ import boofcv.alg.interpolate.InterpolateRectangle;
 import boofcv.alg.tracker.klt.KltConfig;
 import boofcv.alg.tracker.klt.KltTrackFault;
 import boofcv.alg.tracker.klt.PyramidKltFeature;
+import boofcv.alg.tracker.klt.PyramidKltTracker;
 import boofcv.alg.transform.pyramid.PyramidOps;
 import boofcv.misc.BoofMiscOps;
 import boofcv.struct.image.ImageSingleBand;
@@ -61,6 +62,17 @@ public class PointTrackerTwoPassKltPyramid<I extends ImageSingleBand,D extends I
 				gradient.getDerivType().getImageClass());
 	}
 
+	public PointTrackerTwoPassKltPyramid(KltConfig config,
+										 int templateRadius ,
+										 PyramidDiscrete<I> pyramid,
+										 GeneralFeatureDetector<I, D> detector,
+										 ImageGradient<I, D> gradient,
+										 PyramidKltTracker<I, D> tracker)
+	{
+		super(config, templateRadius, pyramid , detector, gradient, tracker,
+				gradient.getDerivType().getImageClass());
+	}
+
 	@Override
 	public void process(I image) {
 		this.input = image;
@@ -83,26 +95,7 @@ public class PointTrackerTwoPassKltPyramid<I extends ImageSingleBand,D extends I
 		active.clear();
 
 		tracker.setImage(basePyramid,derivX,derivY);
-		for( int i = 0; i < originalActive.size(); i++ ) {
-			PyramidKltFeature t = originalActive.get(i);
-			KltTrackFault ret = tracker.track(t);
-
-			boolean success = false;
-
-			if( ret == KltTrackFault.SUCCESS ) {
-				// discard a track if its center drifts outside the image.
-				if( BoofMiscOps.checkInside(input, t.x, t.y)) {
-					active.add(t);
-					PointTrack p = t.getCookie();
-					p.set(t.x,t.y);
-					success = true;
-				}
-			}
-
-			if( !success ) {
-				candidateDrop.add(t);
-			}
-		}
+		trackOriginalActive();
 	}
 
 	@Override
@@ -110,22 +103,32 @@ public class PointTrackerTwoPassKltPyramid<I extends ImageSingleBand,D extends I
 		candidateDrop.clear();
 		active.clear();
 
+		trackOriginalActive();
+	}
+
+	/**
+	 * Tracks all the features in the original active list and sorts them into active and dropped lists
+	 */
+	private void trackOriginalActive() {
+		declareResults(originalActive.size());
+		tracker.track(originalActive, faults);
+
 		for( int i = 0; i < originalActive.size(); i++ ) {
 			PyramidKltFeature t = originalActive.get(i);
-			KltTrackFault ret = tracker.track(t);
 
 			boolean success = false;
 
-			if( ret == KltTrackFault.SUCCESS ) {
+			if( faults[i] == KltTrackFault.SUCCESS ) {
 				// discard a track if its center drifts outside the image.
-				if(BoofMiscOps.checkInside(input, t.x, t.y)) {
+				if( BoofMiscOps.checkInside(input, t.x, t.y)) {
 					active.add(t);
 					PointTrack p = t.getCookie();
 					p.set(t.x,t.y);
 					success = true;
 				}
 			}
-			if( !success) {
+
+			if( !success ) {
 				candidateDrop.add(t);
 			}
 		}
@@ -133,15 +136,20 @@ public class PointTrackerTwoPassKltPyramid<I extends ImageSingleBand,D extends I
 
 	@Override
 	public void finishTracking() {
-		for( int i = 0; i < active.size(); ) {
+		declareResults(active.size());
+		tracker.setDescription(active, described);
+
+		int numActive = 0;
+		for( int i = 0; i < active.size(); i++ ) {
 			PyramidKltFeature t = active.get(i);
-			if( tracker.setDescription(t) ) {
-				i++;
+			if( described[i] ) {
+				active.set(numActive++, t);
 			} else {
 				candidateDrop.add(t);
-				active.remove(i);
 			}
 		}
+		while( active.size() > numActive )
+			active.remove(active.size()-1);
 
 		for( int i = 0; i < candidateDrop.size(); i++ ) {
 			PyramidKltFeature t = candidateDrop.get(i);
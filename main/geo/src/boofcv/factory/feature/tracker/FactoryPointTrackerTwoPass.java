@@ -26,10 +26,10 @@ import boofcv.abst.feature.tracker.*;
 import boofcv.abst.filter.derivative.ImageGradient;
 import boofcv.alg.feature.detect.interest.EasyGeneralFeatureDetector;
 import boofcv.alg.feature.detect.interest.GeneralFeatureDetector;
-import boofcv.alg.interpolate.InterpolateRectangle;
 import boofcv.alg.tracker.klt.PkltConfig;
+import boofcv.alg.tracker.klt.PyramidKltTracker;
 import boofcv.factory.filter.derivative.FactoryDerivative;
-import boofcv.factory.interpolate.FactoryInterpolation;
+import boofcv.factory.tracker.FactoryTrackerAlg;
 import boofcv.factory.transform.pyramid.FactoryPyramid;
 import boofcv.struct.feature.TupleDesc;
 import boofcv.struct.image.ImageSingleBand;
@@ -55,15 +55,17 @@ public class FactoryPointTrackerTwoPass {
 
 		GeneralFeatureDetector<I, D> detector = createShiTomasi(configExtract, derivType);
 
-		InterpolateRectangle<I> interpInput = FactoryInterpolation.<I>bilinearRectangle(imageType);
-		InterpolateRectangle<D> interpDeriv = FactoryInterpolation.<D>bilinearRectangle(derivType);
+		PyramidKltTracker<I, D> klt = FactoryTrackerAlg.kltPyramid(config.config, imageType, derivType);
 
 		ImageGradient<I,D> gradient = FactoryDerivative.sobel(imageType, derivType);
 
 		PyramidDiscrete<I> pyramid = FactoryPyramid.discreteGaussian(config.pyramidScaling,-1,2,true,imageType);
 
-		return new PointTrackerTwoPassKltPyramid<I, D>(config.config,config.templateRadius,pyramid,detector,
-				gradient,interpInput,interpDeriv);
+		PointTrackerTwoPassKltPyramid<I, D> tracker = new PointTrackerTwoPassKltPyramid<I, D>(config.config,
+				config.templateRadius,pyramid,detector,gradient,klt);
+		tracker.setSpawnCellWidth(config.spawnCellWidth);
+
+		return tracker;
 	}
 
 	public static <I extends ImageSingleBand, D extends ImageSingleBand, Desc extends TupleDesc>
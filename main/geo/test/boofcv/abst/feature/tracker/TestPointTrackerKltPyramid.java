@@ -26,6 +26,7 @@ import boofcv.struct.image.ImageFloat32;
 import org.junit.Test;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 
 
@@ -72,6 +73,46 @@ public class TestPointTrackerKltPyramid extends StandardPointTracker<ImageFloat3
 		assertEquals(difference,alg.unused.size());
 	}
 
+	/**
+	 * When a spawn cell width is specified new tracks should only be spawned in cells without active tracks
+	 */
+	@Test
+	public void spawnCellWidth() {
+		PointTrackerKltPyramid<ImageFloat32,ImageFloat32> alg =
+				(PointTrackerKltPyramid<ImageFloat32,ImageFloat32>)createTracker();
+		int cellWidth = 20;
+		alg.setSpawnCellWidth(cellWidth);
+
+		alg.process(image);
+		alg.spawnTracks();
+		int total = alg.active.size();
+		assertTrue(total > 0);
+
+		// drop all the tracks in the left side of the image
+		for( int i = alg.active.size()-1; i >= 0; i-- ) {
+			PyramidKltFeature f = alg.active.get(i);
+			if( f.x < image.width/2 )
+				alg.dropTrack((PointTrack)f.cookie);
+		}
+		assertTrue(alg.active.size() < total);
+
+		// cells which contain active tracks
+		int numCols = (image.width+cellWidth-1)/cellWidth;
+		int numRows = (image.height+cellWidth-1)/cellWidth;
+		boolean covered[] = new boolean[numCols*numRows];
+		for( PyramidKltFeature f : alg.active ) {
+			covered[((int)f.y/cellWidth)*numCols + (int)f.x/cellWidth] = true;
+		}
+
+		alg.process(image);
+		alg.spawnTracks();
+
+		assertTrue(alg.spawned.size() > 0);
+		for( PyramidKltFeature f : alg.spawned ) {
+			assertFalse(covered[((int)f.y/cellWidth)*numCols + (int)f.x/cellWidth]);
+		}
+	}
+
 	@Test
 	public void checkRecycleDropAll() {
 		PointTrackerKltPyramid<ImageFloat32,ImageFloat32> alg =
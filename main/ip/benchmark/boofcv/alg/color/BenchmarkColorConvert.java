@@ -19,9 +19,13 @@
 package boofcv.alg.color;
 
 import boofcv.alg.misc.GImageMiscOps;
+import boofcv.concurrency.BoofConcurrency;
 import boofcv.misc.PerformerBase;
 import boofcv.misc.ProfileOperation;
 import boofcv.struct.image.ImageFloat32;
+import boofcv.struct.image.ImageUInt8;
+import boofcv.struct.image.InterleavedF32;
+import boofcv.struct.image.InterleavedU8;
 import boofcv.struct.image.MultiSpectral;
 
 import java.util.Random;
@@ -38,6 +42,11 @@ public class BenchmarkColorConvert {
 
 	public static MultiSpectral<ImageFloat32> src_F32;
 	public static MultiSpectral<ImageFloat32> dst_F32;
+	public static MultiSpectral<ImageUInt8> src_U8;
+	public static MultiSpectral<ImageUInt8> dst_U8;
+	public static InterleavedF32 srcI_F32;
+	public static InterleavedF32 dstI_F32;
+	public static InterleavedU8 srcI_U8;
 
 	public static class RGB_to_HSV_F32 extends PerformerBase {
 
@@ -71,6 +80,76 @@ public class BenchmarkColorConvert {
 		}
 	}
 
+	public static class RGB_to_YCbCr_U8 extends PerformerBase {
+
+		@Override
+		public void process() {
+			ColorYuv.rgbToYCbCr_U8(src_U8,dst_U8);
+		}
+	}
+
+	public static class YCbCr_to_RGB_U8 extends PerformerBase {
+
+		@Override
+		public void process() {
+			ColorYuv.ycbcrToRgb_U8(src_U8,dst_U8);
+		}
+	}
+
+	public static class RGB_to_XYZ_U8 extends PerformerBase {
+
+		@Override
+		public void process() {
+			ColorXyz.rgbToXyz_U8(src_U8,dst_F32);
+		}
+	}
+
+	public static class RGB_to_LAB_U8 extends PerformerBase {
+
+		@Override
+		public void process() {
+			ColorLab.rgbToLab_U8(src_U8,dst_F32);
+		}
+	}
+
+	public static class RGB_to_LAB_F32 extends PerformerBase {
+
+		@Override
+		public void process() {
+			ColorLab.rgbToLab_F32(src_F32,dst_F32);
+		}
+	}
+
+	public static class RGB_to_HSV_Interleaved_F32 extends PerformerBase {
+
+		@Override
+		public void process() {
+			ColorHsv.rgbToHsv_F32(srcI_F32,dstI_F32);
+		}
+	}
+
+	public static class RGB_to_LAB_Interleaved_U8 extends PerformerBase {
+
+		@Override
+		public void process() {
+			ColorLab.rgbToLab_U8(srcI_U8,dstI_F32);
+		}
+	}
+
+	public static void profile() {
+		ProfileOperation.printOpsPerSec(new RGB_to_HSV_F32(),TEST_TIME);
+		ProfileOperation.printOpsPerSec(new HSV_to_RGB_F32(),TEST_TIME);
+		ProfileOperation.printOpsPerSec(new RGB_to_YUV_F32(),TEST_TIME);
+		ProfileOperation.printOpsPerSec(new YUV_to_RGB_F32(),TEST_TIME);
+		ProfileOperation.printOpsPerSec(new RGB_to_YCbCr_U8(),TEST_TIME);
+		ProfileOperation.printOpsPerSec(new YCbCr_to_RGB_U8(),TEST_TIME);
+		ProfileOperation.printOpsPerSec(new RGB_to_XYZ_U8(),TEST_TIME);
+		ProfileOperation.printOpsPerSec(new RGB_to_LAB_U8(),TEST_TIME);
+		ProfileOperation.printOpsPerSec(new RGB_to_LAB_F32(),TEST_TIME);
+		ProfileOperation.printOpsPerSec(new RGB_to_HSV_Interleaved_F32(),TEST_TIME);
+		ProfileOperation.printOpsPerSec(new RGB_to_LAB_Interleaved_U8(),TEST_TIME);
+	}
+
 	public static void main( String args[] ) {
 		System.out.println("=========  Profile Image Size " + imgWidth + " x " + imgHeight + " ==========");
 		System.out.println();
@@ -78,11 +157,23 @@ public class BenchmarkColorConvert {
 		src_F32 = new MultiSpectral<ImageFloat32>(ImageFloat32.class,imgWidth,imgHeight,3);
 		dst_F32 = new MultiSpectral<ImageFloat32>(ImageFloat32.class,imgWidth,imgHeight,3);
 
+		src_U8 = new MultiSpectral<ImageUInt8>(ImageUInt8.class,imgWidth,imgHeight,3);
+		dst_U8 = new MultiSpectral<ImageUInt8>(ImageUInt8.class,imgWidth,imgHeight,3);
+		srcI_F32 = new InterleavedF32(imgWidth,imgHeight,3);
+		dstI_F32 = new InterleavedF32(imgWidth,imgHeight,3);
+		srcI_U8 = new InterleavedU8(imgWidth,imgHeight,3);
+
 		GImageMiscOps.addUniform(src_F32,rand,0,255);
+		GImageMiscOps.fillUniform(src_U8,rand,0,255);
+		GImageMiscOps.fillUniform(srcI_F32,rand,0,255);
+		GImageMiscOps.fillUniform(srcI_U8,rand,0,255);
 
-		ProfileOperation.printOpsPerSec(new RGB_to_HSV_F32(),TEST_TIME);
-		ProfileOperation.printOpsPerSec(new HSV_to_RGB_F32(),TEST_TIME);
-		ProfileOperation.printOpsPerSec(new RGB_to_YUV_F32(),TEST_TIME);
-		ProfileOperation.printOpsPerSec(new YUV_to_RGB_F32(),TEST_TIME);
+		System.out.println("Single Thread");
+		BoofConcurrency.USE_CONCURRENT = false;
+		profile();
+		System.out.println();
+		System.out.println("Concurrent");
+		BoofConcurrency.USE_CONCURRENT = true;
+		profile();
 	}
 }
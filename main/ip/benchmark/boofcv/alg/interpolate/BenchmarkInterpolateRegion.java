@@ -55,6 +55,23 @@ public class BenchmarkInterpolateRegion {
 		}
 	}
 
+	/**
+	 * Many small regions, similar to what a KLT tracker requests
+	 */
+	public static class Bilinear_F32_Small extends PerformerBase {
+		BilinearRectangle_F32 alg = new BilinearRectangle_F32(imgFloat32);
+		ImageFloat32 small = new ImageFloat32(11,11);
+
+		@Override
+		public void process() {
+			for( int i = 0; i < 2000; i++ ) {
+				float x = 10.1f + (i*7)%600;
+				float y = 10.3f + (i*13)%450;
+				alg.region(x, y, small);
+			}
+		}
+	}
+
 	public static void main(String args[]) {
 		imgInt8 = new ImageUInt8(imgWidth, imgHeight);
 		imgFloat32 = new ImageFloat32(imgWidth, imgHeight);
@@ -69,6 +86,7 @@ public class BenchmarkInterpolateRegion {
 		System.out.println();
 
 		ProfileOperation.printOpsPerSec(new Bilinear_F32(), TEST_TIME);
+		ProfileOperation.printOpsPerSec(new Bilinear_F32_Small(), TEST_TIME);
 
 		System.out.println("   ---- Sub-Image ----");
 		outputImage = BoofTesting.createSubImageOf(outputImage);
@@ -0,0 +1,149 @@
+/*
+ * Copyright (c) 2011-2015, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.misc;
+
+import boofcv.misc.PerformerBase;
+import boofcv.misc.ProfileOperation;
+import boofcv.struct.image.ImageFloat32;
+import boofcv.struct.image.ImageUInt8;
+import boofcv.struct.image.InterleavedU8;
+
+import java.util.Random;
+
+/**
+ * Compares the single threaded functions in {@link PixelMath} and {@link ImageMiscOps} against their
+ * concurrent versions.
+ *
+ * @author Peter Abeles
+ */
+public class BenchmarkPixelMath_MT {
+	public static final int imgWidth = 1920;
+	public static final int imgHeight = 1080;
+	public static final Random rand = new Random(234);
+
+	public static final int TEST_TIME = 1000;
+
+	public static ImageFloat32 srcA_F32 = new ImageFloat32(imgWidth,imgHeight);
+	public static ImageFloat32 srcB_F32 = new ImageFloat32(imgWidth,imgHeight);
+	public static ImageFloat32 dst_F32 = new ImageFloat32(imgWidth,imgHeight);
+	public static ImageUInt8 src_U8 = new ImageUInt8(imgWidth,imgHeight);
+	public static ImageUInt8 dst_U8 = new ImageUInt8(imgWidth,imgHeight);
+	public static ImageUInt8 rotated_U8 = new ImageUInt8(imgHeight,imgWidth);
+	public static InterleavedU8 srcI_U8 = new InterleavedU8(imgWidth,imgHeight,3);
+	public static InterleavedU8 dstI_U8 = new InterleavedU8(imgWidth,imgHeight,3);
+
+	public static class Add_F32 extends PerformerBase {
+		@Override
+		public void process() {
+			PixelMath.add(srcA_F32,srcB_F32,dst_F32);
+		}
+	}
+
+	public static class Add_F32_MT extends PerformerBase {
+		@Override
+		public void process() {
+			PixelMath_MT.add(srcA_F32,srcB_F32,dst_F32);
+		}
+	}
+
+	public static class Sqrt_F32 extends PerformerBase {
+		@Override
+		public void process() {
+			PixelMath.sqrt(srcA_F32,dst_F32);
+		}
+	}
+
+	public static class Sqrt_F32_MT extends PerformerBase {
+		@Override
+		public void process() {
+			PixelMath_MT.sqrt(srcA_F32,dst_F32);
+		}
+	}
+
+	public static class MultiplyBounded_U8 extends PerformerBase {
+		@Override
+		public void process() {
+			PixelMath.multiply(src_U8,1.5,0,255,dst_U8);
+		}
+	}
+
+	public static class MultiplyBounded_U8_MT extends PerformerBase {
+		@Override
+		public void process() {
+			PixelMath_MT.multiply(src_U8,1.5,0,255,dst_U8);
+		}
+	}
+
+	public static class MultiplyBounded_IU8_MT extends PerformerBase {
+		@Override
+		public void process() {
+			PixelMath_MT.multiply(srcI_U8,1.5,0,255,dstI_U8);
+		}
+	}
+
+	public static class FlipHorizontal_U8 extends PerformerBase {
+		@Override
+		public void process() {
+			ImageMiscOps.flipHorizontal(dst_U8);
+		}
+	}
+
+	public static class FlipHorizontal_U8_MT extends PerformerBase {
+		@Override
+		public void process() {
+			ImageMiscOps_MT.flipHorizontal(dst_U8);
+		}
+	}
+
+	public static class RotateCW_U8 extends PerformerBase {
+		@Override
+		public void process() {
+			ImageMiscOps.rotateCW(src_U8,rotated_U8);
+		}
+	}
+
+	public static class RotateCW_U8_MT extends PerformerBase {
+		@Override
+		public void process() {
+			ImageMiscOps_MT.rotateCW(src_U8,rotated_U8);
+		}
+	}
+
+	public static void main( String args[] ) {
+		System.out.println("=========  Profile Image Size " + imgWidth + " x " + imgHeight + " ==========");
+		System.out.println();
+
+		GImageMiscOps.fillUniform(srcA_F32,rand,0,255);
+		GImageMiscOps.fillUniform(srcB_F32,rand,0,255);
+		GImageMiscOps.fillUniform(src_U8,rand,0,255);
+		GImageMiscOps.fillUniform(srcI_U8,rand,0,255);
+
+		ProfileOperation.printOpsPerSec(new Add_F32(),TEST_TIME);
+		ProfileOperation.printOpsPerSec(new Add_F32_MT(),TEST_TIME);
+		ProfileOperation.printOpsPerSec(new Sqrt_F32(),TEST_TIME);
+		ProfileOperation.printOpsPerSec(new Sqrt_F32_MT(),TEST_TIME);
+		ProfileOperation.printOpsPerSec(new MultiplyBounded_U8(),TEST_TIME);
+		ProfileOperation.printOpsPerSec(new MultiplyBounded_U8_MT(),TEST_TIME);
+		ProfileOperation.printOpsPerSec(new MultiplyBounded_IU8_MT(),TEST_TIME);
+		ProfileOperation.printOpsPerSec(new FlipHorizontal_U8(),TEST_TIME);
+		ProfileOperation.printOpsPerSec(new FlipHorizontal_U8_MT(),TEST_TIME);
+		ProfileOperation.printOpsPerSec(new RotateCW_U8(),TEST_TIME);
+		ProfileOperation.printOpsPerSec(new RotateCW_U8_MT(),TEST_TIME);
+	}
+}
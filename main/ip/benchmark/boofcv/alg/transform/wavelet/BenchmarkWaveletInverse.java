@@ -22,6 +22,7 @@ import boofcv.alg.misc.ImageMiscOps;
 import boofcv.alg.transform.wavelet.impl.ImplWaveletTransformNaive;
 import boofcv.core.image.border.BorderType;
 import boofcv.factory.transform.wavelet.FactoryWaveletDaub;
+import boofcv.factory.transform.wavelet.FactoryWaveletLifting;
 import boofcv.misc.PerformerBase;
 import boofcv.misc.ProfileOperation;
 import boofcv.struct.image.ImageFloat32;
@@ -86,6 +87,23 @@ public class BenchmarkWaveletInverse {
 	}
 
 
+	public static class Lifting_F32 extends PerformerBase {
+
+		WaveletTransformLifting_F32 alg;
+		ImageFloat32 copy = new ImageFloat32(imgWidth,imgHeight);
+
+		public Lifting_F32(WaveletTransformLifting_F32 alg) {
+			this.alg = alg;
+		}
+
+		@Override
+		public void process() {
+			// the inverse is computed in place
+			copy.setTo(tran_F32);
+			alg.inverseN(copy,temp1_F32,1,0,255);
+		}
+	}
+
 	public static void main(String args[]) {
 
 		Random rand = new Random(234);
@@ -97,6 +115,10 @@ public class BenchmarkWaveletInverse {
 
 		ProfileOperation.printOpsPerSec(new Naive_F32(), TEST_TIME);
 		ProfileOperation.printOpsPerSec(new Standard_F32(), TEST_TIME);
+		ProfileOperation.printOpsPerSec(new Lifting_F32(new WaveletTransformLifting_F32(
+				FactoryWaveletLifting.biorthogonal_F32(5, BorderType.REFLECT))), TEST_TIME);
+		ProfileOperation.printOpsPerSec(new Lifting_F32(new WaveletTransformLifting_F32_MT(
+				FactoryWaveletLifting.biorthogonal_F32(5, BorderType.REFLECT))), TEST_TIME);
 		ProfileOperation.printOpsPerSec(new Naive_I32(), TEST_TIME);
 		ProfileOperation.printOpsPerSec(new Standard_I32(), TEST_TIME);
 	}
@@ -22,6 +22,7 @@ import boofcv.alg.misc.ImageMiscOps;
 import boofcv.alg.transform.wavelet.impl.ImplWaveletTransformNaive;
 import boofcv.core.image.border.BorderType;
 import boofcv.factory.transform.wavelet.FactoryWaveletDaub;
+import boofcv.factory.transform.wavelet.FactoryWaveletLifting;
 import boofcv.misc.PerformerBase;
 import boofcv.misc.ProfileOperation;
 import boofcv.struct.image.ImageDimension;
@@ -107,6 +108,37 @@ public class BenchmarkWaveletTransform {
 	}
 
 
+	public static class Lifting_F32 extends PerformerBase {
+
+		WaveletTransformLifting_F32 alg;
+
+		public Lifting_F32(WaveletTransformLifting_F32 alg) {
+			this.alg = alg;
+		}
+
+		@Override
+		public void process() {
+			alg.transformN(orig_F32,temp1_F32,1);
+		}
+	}
+
+	public static class LiftingLevel3_F32 extends PerformerBase {
+
+		WaveletTransformLifting_F32 alg;
+		ImageFloat32 tran;
+
+		public LiftingLevel3_F32(WaveletTransformLifting_F32 alg) {
+			this.alg = alg;
+			ImageDimension dim = UtilWavelet.transformDimension(orig_F32,3);
+			tran = new ImageFloat32(dim.width,dim.height);
+		}
+
+		@Override
+		public void process() {
+			alg.transformN(orig_F32,tran,3);
+		}
+	}
+
 	public static void main(String args[]) {
 
 		Random rand = new Random(234);
@@ -117,8 +149,16 @@ public class BenchmarkWaveletTransform {
 		System.out.println();
 
 		ProfileOperation.printOpsPerSec(new FullLevel3_F32(), TEST_TIME);
+		ProfileOperation.printOpsPerSec(new LiftingLevel3_F32(new WaveletTransformLifting_F32(
+				FactoryWaveletLifting.biorthogonal_F32(5, BorderType.REFLECT))), TEST_TIME);
+		ProfileOperation.printOpsPerSec(new LiftingLevel3_F32(new WaveletTransformLifting_F32_MT(
+				FactoryWaveletLifting.biorthogonal_F32(5, BorderType.REFLECT))), TEST_TIME);
 		ProfileOperation.printOpsPerSec(new Naive_F32(), TEST_TIME);
 		ProfileOperation.printOpsPerSec(new Standard_F32(), TEST_TIME);
+		ProfileOperation.printOpsPerSec(new Lifting_F32(new WaveletTransformLifting_F32(
+				FactoryWaveletLifting.biorthogonal_F32(5, BorderType.REFLECT))), TEST_TIME);
+		ProfileOperation.printOpsPerSec(new Lifting_F32(new WaveletTransformLifting_F32_MT(
+				FactoryWaveletLifting.biorthogonal_F32(5, BorderType.REFLECT))), TEST_TIME);
 		ProfileOperation.printOpsPerSec(new Naive_I32(), TEST_TIME);
 		ProfileOperation.printOpsPerSec(new Standard_I32(), TEST_TIME);
 	}
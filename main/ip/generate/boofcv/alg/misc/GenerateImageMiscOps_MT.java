@@ -0,0 +1,317 @@
+/*
+ * Copyright (c) 2011-2015, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.misc;
+
+import boofcv.misc.AutoTypeImage;
+import boofcv.misc.CodeGeneratorBase;
+
+import java.io.FileNotFoundException;
+
+
+/**
+ * Generates {@link ImageMiscOps_MT}, concurrent versions of the copy, fill, flip, and rotate functions in
+ * {@link ImageMiscOps} for single band and interleaved images.
+ *
+ * @author Peter Abeles
+ */
+public class GenerateImageMiscOps_MT extends CodeGeneratorBase {
+
+	String className = "ImageMiscOps_MT";
+
+	private AutoTypeImage imageType;
+	private String imageName;
+	private String dataType;
+
+	public void generate() throws FileNotFoundException {
+		printPreamble();
+		printAllGeneric();
+		out.println("}");
+	}
+
+	private void printPreamble() throws FileNotFoundException {
+		setOutputFile(className);
+		out.print("import boofcv.concurrency.BoofConcurrency;\n" +
+				"import boofcv.concurrency.IntRangeTask;\n" +
+				"import boofcv.struct.image.*;\n" +
+				"\n" +
+				"\n" +
+				"/**\n" +
+				" * <p>\n" +
+				" * Concurrent implementations of the copy, fill, flip, and rotate functions in {@link ImageMiscOps} for single\n" +
+				" * band and interleaved images.  Rows are split into blocks which are processed by {@link BoofConcurrency}.\n" +
+				" * Images with less than {@link BoofConcurrency#MIN_BLOCK_PIXELS} elements per block are processed by the\n" +
+				" * calling thread.  Functions which use a random number generator have no concurrent version since\n" +
+				" * their output depends on the order pixels are processed in.\n" +
+				" * </p>\n" +
+				" *\n" +
+				" * <p>DO NOT MODIFY: Generated by {@link " + getClass().getName() + "}.</p>\n" +
+				" *\n" +
+				" * @author Peter Abeles\n" +
+				" */\n" +
+				"public class " + className + " {\n\n");
+	}
+
+	public void printAllGeneric() {
+		AutoTypeImage types[] = AutoTypeImage.getGenericTypes();
+
+		for( AutoTypeImage t : types ) {
+			imageType = t;
+			dataType = t.getDataType();
+			for( int i = 0; i < 2; i++ ) {
+				boolean interleaved = i == 1;
+				imageName = interleaved ? t.getInterleavedName() : t.getSingleBandName();
+				printCopy(interleaved);
+				printFill(interleaved);
+				printFlipVertical(interleaved);
+				printFlipHorizontal(interleaved);
+				printRotateCW_two(interleaved);
+				printRotateCCW_two(interleaved);
+			}
+		}
+	}
+
+	/**
+	 * Prints the check on the number of bands in interleaved images
+	 */
+	private void printBandCheck( boolean interleaved ) {
+		if( interleaved ) {
+			out.print("\t\tif( input.numBands != output.numBands )\n" +
+					"\t\t\tthrow new IllegalArgumentException(\"Number of bands must be the same\");\n");
+		}
+	}
+
+	public void printCopy( boolean interleaved ) {
+		String bands = interleaved ? "*input.numBands" : "";
+		out.print("\t/**\n" +
+				"\t * Copies a rectangular region from one image into another.<br>\n" +
+				"\t * output[dstX:(dstX+width) , dstY:(dstY+height-1)] = input[srcX:(srcX+width) , srcY:(srcY+height-1)]\n" +
+				"\t *\n" +
+				"\t * @param srcX x-coordinate of corner in input image\n" +
+				"\t * @param srcY y-coordinate of corner in input image\n" +
+				"\t * @param dstX x-coordinate of corner in output image\n" +
+				"\t * @param dstY y-coordinate of corner in output image\n" +
+				"\t * @param width Width of region to be copied\n" +
+				"\t * @param height Height of region to be copied\n" +
+				"\t * @param input Input image\n" +
+				"\t * @param output output image\n" +
+				"\t */\n" +
+				"\tpublic static void copy( final int srcX , final int srcY , final int dstX , final int dstY ,\n" +
+				"\t\t\t\t\t\t\t final int width , final int height ,\n" +
+				"\t\t\t\t\t\t\t final "+imageName+" input , final "+imageName+" output ) {\n" +
+				"\n" +
+				"\t\tif( input.width < srcX+width || input.height < srcY+height )\n" +
+				"\t\t\tthrow new IllegalArgumentException(\"Copy region must be contained input image\");\n" +
+				"\t\tif( output.width < dstX+width || output.height < dstY+height )\n" +
+				"\t\t\tthrow new IllegalArgumentException(\"Copy region must be contained output image\");\n");
+		printBandCheck(interleaved);
+		out.print("\n" +
+				"\t\tfinal int rowLength = width"+bands+";\n" +
+				"\n" +
+				"\t\tBoofConcurrency.loopBlocks(0,height,BoofConcurrency.minBlockRows(rowLength),new IntRangeTask() {\n" +
+				"\t\t\t@Override\n" +
+				"\t\t\tpublic void call(int y0, int y1) {\n" +
+				"\t\t\t\tfor( int y = y0; y < y1; y++ ) {\n" +
+				"\t\t\t\t\tint indexSrc = input.startIndex + (srcY + y) * input.stride + srcX"+bands+";\n" +
+				"\t\t\t\t\tint indexDst = output.startIndex + (dstY + y) * output.stride + dstX"+bands+";\n" +
+				"\n" +
+				"\t\t\t\t\tSystem.arraycopy(input.data,indexSrc,output.data,indexDst,rowLength);\n" +
+				"\t\t\t\t}\n" +
+				"\t\t\t}\n" +
+				"\t\t});\n" +
+				"\t}\n\n");
+	}
+
+	public void printFill( boolean interleaved ) {
+		String typeCast = imageType.getTypeCastFromSum();
+		String rowLength = interleaved ? "input.width*input.numBands" : "input.width";
+		out.print("\t/**\n" +
+				"\t * Fills the whole image with the specified value\n" +
+				"\t *\n" +
+				"\t * @param input An image.\n" +
+				"\t * @param value The value that the image is being filled with.\n" +
+				"\t */\n" +
+				"\tpublic static void fill( final "+imageName+" input, final "+imageType.getSumType()+" value) {\n" +
+				"\t\tfinal int rowLength = "+rowLength+";\n" +
+				"\n" +
+				"\t\tBoofConcurrency.loopBlocks(0,input.height,BoofConcurrency.minBlockRows(rowLength),new IntRangeTask() {\n" +
+				"\t\t\t@Override\n" +
+				"\t\t\tpublic void call(int y0, int y1) {\n" +
+				"\t\t\t\tfor( int y = y0; y < y1; y++ ) {\n" +
+				"\t\t\t\t\tint index = input.startIndex + y * input.stride;\n" +
+				"\t\t\t\t\tint end = index + rowLength;\n" +
+				"\t\t\t\t\tfor( ; index < end; index++ ) {\n" +
+				"\t\t\t\t\t\tinput.data[index] = "+typeCast+"value;\n" +
+				"\t\t\t\t\t}\n" +
+				"\t\t\t\t}\n" +
+				"\t\t\t}\n" +
+				"\t\t});\n" +
+				"\t}\n\n");
+	}
+
+	public void printFlipVertical( boolean interleaved ) {
+		String sumType = imageType.getSumType();
+		String rowLength = interleaved ? "input.width*input.numBands" : "input.width";
+
+		out.print("\t/**\n" +
+				"\t * Flips the image from top to bottom\n" +
+				"\t */\n" +
+				"\tpublic static void flipVertical( final "+imageName+" input ) {\n" +
+				"\t\tfinal int rowLength = "+rowLength+";\n" +
+				"\n" +
+				"\t\t// each row in the top half is swapped with a row in the bottom half\n" +
+				"\t\tBoofConcurrency.loopBlocks(0,input.height/2,BoofConcurrency.minBlockRows(rowLength*2),new IntRangeTask() {\n" +
+				"\t\t\t@Override\n" +
+				"\t\t\tpublic void call(int y0, int y1) {\n" +
+				"\t\t\t\tfor( int y = y0; y < y1; y++ ) {\n" +
+				"\t\t\t\t\tint index1 = input.startIndex + y * input.stride;\n" +
+				"\t\t\t\t\tint index2 = input.startIndex + (input.height - y - 1) * input.stride;\n" +
+				"\n" +
+				"\t\t\t\t\tint end = index1 + rowLength;\n" +
+				"\n" +
+				"\t\t\t\t\twhile( index1 < end ) {\n" +
+				"\t\t\t\t\t\t"+sumType+" tmp = input.data[index1];\n" +
+				"\t\t\t\t\t\tinput.data[index1++] = input.data[index2];\n" +
+				"\t\t\t\t\t\tinput.data[index2++] = ("+dataType+")tmp;\n" +
+				"\t\t\t\t\t}\n" +
+				"\t\t\t\t}\n" +
+				"\t\t\t}\n" +
+				"\t\t});\n" +
+				"\t}\n\n");
+	}
+
+	public void printFlipHorizontal( boolean interleaved ) {
+		String sumType = imageType.getSumType();
+
+		out.print("\t/**\n" +
+				"\t * Flips the image from left to right\n" +
+				"\t */\n" +
+				"\tpublic static void flipHorizontal( final "+imageName+" input ) {\n" +
+				"\t\tfinal int w2 = input.width/2;\n" +
+				"\n" +
+				"\t\tBoofConcurrency.loopBlocks(0,input.height,BoofConcurrency.minBlockRows("+
+				(interleaved ? "input.width*input.numBands" : "input.width")+"),new IntRangeTask() {\n" +
+				"\t\t\t@Override\n" +
+				"\t\t\tpublic void call(int y0, int y1) {\n" +
+				"\t\t\t\tfor( int y = y0; y < y1; y++ ) {\n");
+		if( interleaved ) {
+			out.print("\t\t\t\t\tint index1 = input.startIndex + y * input.stride;\n" +
+					"\t\t\t\t\tint index2 = index1 + (input.width-1)*input.numBands;\n" +
+					"\n" +
+					"\t\t\t\t\tint end = index1 + w2*input.numBands;\n" +
+					"\n" +
+					"\t\t\t\t\twhile( index1 < end ) {\n" +
+					"\t\t\t\t\t\tfor( int band = 0; band < input.numBands; band++ ) {\n" +
+					"\t\t\t\t\t\t\t"+sumType+" tmp = input.data[index1+band];\n" +
+					"\t\t\t\t\t\t\tinput.data[index1+band] = input.data[index2+band];\n" +
+					"\t\t\t\t\t\t\tinput.data[index2+band] = ("+dataType+")tmp;\n" +
+					"\t\t\t\t\t\t}\n" +
+					"\t\t\t\t\t\tindex1 += input.numBands;\n" +
+					"\t\t\t\t\t\tindex2 -= input.numBands;\n" +
+					"\t\t\t\t\t}\n");
+		} else {
+			out.print("\t\t\t\t\tint index1 = input.startIndex + y * input.stride;\n" +
+					"\t\t\t\t\tint index2 = index1 + input.width-1;\n" +
+					"\n" +
+					"\t\t\t\t\tint end = index1 + w2;\n" +
+					"\n" +
+					"\t\t\t\t\twhile( index1 < end ) {\n" +
+					"\t\t\t\t\t\t"+sumType+" tmp = input.data[index1];\n" +
+					"\t\t\t\t\t\tinput.data[index1++] = input.data[index2];\n" +
+					"\t\t\t\t\t\tinput.data[index2--] = ("+dataType+")tmp;\n" +
+					"\t\t\t\t\t}\n");
+		}
+		out.print("\t\t\t\t}\n" +
+				"\t\t\t}\n" +
+				"\t\t});\n" +
+				"\t}\n\n");
+	}
+
+	/**
+	 * Prints the inner loop for rotating images.  Each output row is read from a column in the input image
+	 * so that every thread writes to its own contiguous block of memory.
+	 *
+	 * @param firstInput index of the first input pixel for output row 'y'
+	 * @param step change in the input index between adjacent output pixels
+	 */
+	private void printRotateInner( boolean interleaved , String firstInput , String step ) {
+		String rowLength = interleaved ? "output.width*output.numBands" : "output.width";
+		out.print("\t\tBoofConcurrency.loopBlocks(0,output.height,BoofConcurrency.minBlockRows("+rowLength+"),new IntRangeTask() {\n" +
+				"\t\t\t@Override\n" +
+				"\t\t\tpublic void call(int y0, int y1) {\n" +
+				"\t\t\t\tfor( int y = y0; y < y1; y++ ) {\n" +
+				"\t\t\t\t\tint indexIn = "+firstInput+";\n" +
+				"\t\t\t\t\tint indexOut = output.startIndex + y*output.stride;\n" +
+				"\t\t\t\t\tint end = indexOut + "+rowLength+";\n" +
+				"\n");
+		if( interleaved ) {
+			out.print("\t\t\t\t\twhile( indexOut < end ) {\n" +
+					"\t\t\t\t\t\tfor( int band = 0; band < input.numBands; band++ ) {\n" +
+					"\t\t\t\t\t\t\toutput.data[indexOut++] = input.data[indexIn+band];\n" +
+					"\t\t\t\t\t\t}\n" +
+					"\t\t\t\t\t\tindexIn += "+step+";\n" +
+					"\t\t\t\t\t}\n");
+		} else {
+			out.print("\t\t\t\t\twhile( indexOut < end ) {\n" +
+					"\t\t\t\t\t\toutput.data[indexOut++] = input.data[indexIn];\n" +
+					"\t\t\t\t\t\tindexIn += "+step+";\n" +
+					"\t\t\t\t\t}\n");
+		}
+		out.print("\t\t\t\t}\n" +
+				"\t\t\t}\n" +
+				"\t\t});\n" +
+				"\t}\n\n");
+	}
+
+	public void printRotateCW_two( boolean interleaved ) {
+		String bands = interleaved ? "*input.numBands" : "";
+		out.print("\t/**\n" +
+				"\t * Rotates the image 90 degrees in the clockwise direction.\n" +
+				"\t */\n" +
+				"\tpublic static void rotateCW( final "+imageName+" input , final "+imageName+" output ) {\n" +
+				"\t\tif( input.width != output.height || input.height != output.width )\n" +
+				"\t\t\tthrow new IllegalArgumentException(\"Incompatible shapes\");\n");
+		printBandCheck(interleaved);
+		out.print("\n" +
+				"\t\t// output(x,y) = input(y,h-x)\n" +
+				"\t\tfinal int h = input.height-1;\n" +
+				"\n");
+		printRotateInner(interleaved,"input.startIndex + h*input.stride + y"+bands,"-input.stride");
+	}
+
+	public void printRotateCCW_two( boolean interleaved ) {
+		String bands = interleaved ? "*input.numBands" : "";
+		out.print("\t/**\n" +
+				"\t * Rotates the image 90 degrees in the counter-clockwise direction.\n" +
+				"\t */\n" +
+				"\tpublic static void rotateCCW( final "+imageName+" input , final "+imageName+" output ) {\n" +
+				"\t\tif( input.width != output.height || input.height != output.width )\n" +
+				"\t\t\tthrow new IllegalArgumentException(\"Incompatible shapes\");\n");
+		printBandCheck(interleaved);
+		out.print("\n" +
+				"\t\t// output(x,y) = input(w-y,x)\n" +
+				"\t\tfinal int w = input.width-1;\n" +
+				"\n");
+		printRotateInner(interleaved,"input.startIndex + (w-y)"+bands,"input.stride");
+	}
+
+	public static void main( String args[] ) throws FileNotFoundException {
+		GenerateImageMiscOps_MT gen = new GenerateImageMiscOps_MT();
+		gen.generate();
+	}
+}
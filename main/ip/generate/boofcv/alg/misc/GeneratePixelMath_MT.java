@@ -0,0 +1,522 @@
+/*
+ * Copyright (c) 2011-2015, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.misc;
+
+import boofcv.misc.AutoTypeImage;
+import boofcv.misc.CodeGeneratorBase;
+
+import java.io.FileNotFoundException;
+
+import static boofcv.misc.AutoTypeImage.*;
+
+
+/**
+ * Generates {@link PixelMath_MT}, concurrent versions of the functions in {@link PixelMath} for
+ * single band and interleaved images.
+ *
+ * @author Peter Abeles
+ */
+public class GeneratePixelMath_MT extends CodeGeneratorBase {
+
+	String className = "PixelMath_MT";
+
+	private AutoTypeImage input;
+
+	public void generate() throws FileNotFoundException {
+		printPreamble();
+		printAllSigned();
+		printAll();
+		out.println("}");
+	}
+
+	private void printPreamble() throws FileNotFoundException {
+		setOutputFile(className);
+		out.print("import boofcv.alg.InputSanityCheck;\n" +
+				"import boofcv.concurrency.BoofConcurrency;\n" +
+				"import boofcv.concurrency.IntRangeTask;\n" +
+				"import boofcv.struct.image.*;\n" +
+				"\n" +
+				"/**\n" +
+				" * <p>\n" +
+				" * Concurrent implementations of the functions in {@link PixelMath} for single band and interleaved images.\n" +
+				" * Rows are split into blocks which are processed by {@link BoofConcurrency}.  Images with less than\n" +
+				" * {@link BoofConcurrency#MIN_BLOCK_PIXELS} elements per block are processed by the calling thread.\n" +
+				" * Results are identical to the single threaded functions.\n" +
+				" * </p>\n" +
+				" *\n" +
+				" * <p>DO NOT MODIFY: Generated by {@link "+getClass().getName()+"}.</p>\n"+
+				" *\n"+
+				" * @author Peter Abeles\n" +
+				" */\n" +
+				"public class "+className+" {\n\n");
+	}
+
+	public void printAll() {
+		AutoTypeImage types[] = AutoTypeImage.getSpecificTypes();
+
+		for( AutoTypeImage t : types ) {
+			input = t;
+			for( int i = 0; i < 2; i++ ) {
+				boolean interleaved = i == 1;
+				printMultiply(interleaved);
+				printMultiplyBounded(interleaved);
+				printDivide(interleaved);
+				printDivideBounded(interleaved);
+				printPlus(interleaved);
+				printPlusBounded(interleaved);
+				printBoundImage(interleaved);
+				printDiffAbs(interleaved);
+			}
+		}
+
+		AutoTypeImage outputsAdd[] = new AutoTypeImage[]{U16,S16,S32,S32,S32,S64,F32,F64};
+		AutoTypeImage outputsSub[] = new AutoTypeImage[]{I16,S16,S32,S32,S32,S64,F32,F64};
+
+		for( int i = 0; i < types.length; i++ ) {
+			for( int j = 0; j < 2; j++ ) {
+				boolean interleaved = j == 1;
+				printAddTwoImages(types[i], outputsAdd[i], interleaved);
+				printSubtractTwoImages(types[i], outputsSub[i], interleaved);
+
+				if (!types[i].isInteger()) {
+					printMultTwoImages(types[i], types[i], interleaved);
+					printDivTwoImages(types[i], types[i], interleaved);
+					printLog(types[i], types[i], interleaved);
+					printPow2(types[i], types[i], interleaved);
+					printSqrt(types[i], types[i], interleaved);
+				}
+			}
+		}
+	}
+
+	public void printAllSigned() {
+		AutoTypeImage types[] = AutoTypeImage.getSigned();
+
+		for( AutoTypeImage t : types ) {
+			input = t;
+			printAbs(false);
+			printAbs(true);
+			printInvert(false);
+			printInvert(true);
+		}
+	}
+
+	private static String imageName( AutoTypeImage type , boolean interleaved ) {
+		return interleaved ? type.getInterleavedName() : type.getSingleBandName();
+	}
+
+	/**
+	 * Number of array elements in a row of the image
+	 */
+	private static String rowLength( String image , boolean interleaved ) {
+		return interleaved ? image+".width*"+image+".numBands" : image+".width";
+	}
+
+	/**
+	 * Prints the checks on the image's shape and, for interleaved images, the number of bands
+	 */
+	private void printSanityCheck( boolean interleaved , String ...images ) {
+		String list = images[0];
+		for( int i = 1; i < images.length; i++ ) {
+			list += ","+images[i];
+		}
+		if( images.length > 1 )
+			out.print("\t\tInputSanityCheck.checkSameShape("+list+");\n");
+		if( interleaved ) {
+			String condition = "";
+			for( int i = 1; i < images.length; i++ ) {
+				if( i > 1 )
+					condition += " || ";
+				condition += images[0]+".numBands != "+images[i]+".numBands";
+			}
+			if( images.length > 1 ) {
+				out.print("\t\tif( " + condition + " )\n" +
+						"\t\t\tthrow new IllegalArgumentException(\"Number of bands must be the same\");\n");
+			}
+		}
+		out.print("\n");
+	}
+
+	/**
+	 * Prints a function which processes each element in the input image and writes the results into the output
+	 * image.  Inside the inner loop 'input.data[indexSrc]' is the input element and 'output.data[indexDst]'
+	 * is the output element.
+	 */
+	private void printUnary( String javadoc , String name , AutoTypeImage typeIn , AutoTypeImage typeOut ,
+							 String parameters , String inner , boolean interleaved ) {
+		out.print(javadoc+
+				"\tpublic static void "+name+"( final "+imageName(typeIn,interleaved)+" input , "+parameters+
+				"final "+imageName(typeOut,interleaved)+" output ) {\n" +
+				"\n");
+		printSanityCheck(interleaved,"input","output");
+		out.print("\t\tBoofConcurrency.loopBlocks(0,input.height,BoofConcurrency.minBlockRows("+rowLength("input",interleaved)+"),new IntRangeTask() {\n" +
+				"\t\t\t@Override\n" +
+				"\t\t\tpublic void call(int y0, int y1) {\n" +
+				"\t\t\t\tfor( int y = y0; y < y1; y++ ) {\n" +
+				"\t\t\t\t\tint indexSrc = input.startIndex + y* input.stride;\n" +
+				"\t\t\t\t\tint indexDst = output.startIndex + y* output.stride;\n" +
+				"\t\t\t\t\tint end = indexSrc + "+rowLength("input",interleaved)+";\n" +
+				"\n" +
+				"\t\t\t\t\tfor( ; indexSrc < end; indexSrc++ , indexDst++) {\n" +
+				inner +
+				"\t\t\t\t\t}\n" +
+				"\t\t\t\t}\n" +
+				"\t\t\t}\n" +
+				"\t\t});\n" +
+				"\t}\n\n");
+	}
+
+	/**
+	 * Prints a function which combines two images element by element.  Inside the inner loop
+	 * 'imgA.data[indexA]' and 'imgB.data[indexB]' are the input elements and 'output.data[indexOut]' is
+	 * the output element.
+	 */
+	private void printBinary( String javadoc , String name , AutoTypeImage typeIn , AutoTypeImage typeOut ,
+							  String outputName , String inner , boolean interleaved ) {
+		String nameIn = imageName(typeIn,interleaved);
+		out.print(javadoc+
+				"\tpublic static void "+name+"( final "+nameIn+" imgA , final "+nameIn+" imgB , " +
+				"final "+imageName(typeOut,interleaved)+" "+outputName+" ) {\n" +
+				"\n");
+		printSanityCheck(interleaved,"imgA","imgB",outputName);
+		out.print("\t\tBoofConcurrency.loopBlocks(0,imgA.height,BoofConcurrency.minBlockRows("+rowLength("imgA",interleaved)+"),new IntRangeTask() {\n" +
+				"\t\t\t@Override\n" +
+				"\t\t\tpublic void call(int y0, int y1) {\n" +
+				"\t\t\t\tfor( int y = y0; y < y1; y++ ) {\n" +
+				"\t\t\t\t\tint indexA = imgA.startIndex + y * imgA.stride;\n" +
+				"\t\t\t\t\tint indexB = imgB.startIndex + y * imgB.stride;\n" +
+				"\t\t\t\t\tint indexOut = "+outputName+".startIndex + y * "+outputName+".stride;\n" +
+				"\n" +
+				"\t\t\t\t\tint indexEnd = indexA + "+rowLength("imgA",interleaved)+";\n" +
+				"\t\t\t\t\tfor( ; indexA < indexEnd; indexA++, indexB++, indexOut++ ) {\n" +
+				inner +
+				"\t\t\t\t\t}\n" +
+				"\t\t\t\t}\n" +
+				"\t\t\t}\n" +
+				"\t\t});\n" +
+				"\t}\n\n");
+	}
+
+	public void printAbs( boolean interleaved ) {
+		String javadoc = "\t/**\n" +
+				"\t * Sets each pixel in the output image to be the absolute value of the input image.\n" +
+				"\t * Both the input and output image can be the same instance.\n" +
+				"\t *\n" +
+				"\t * @param input The input image. Not modified.\n" +
+				"\t * @param output Where the absolute value image is written to. Modified.\n" +
+				"\t */\n";
+		String inner = "\t\t\t\t\t\toutput.data[indexDst] = "+input.getTypeCastFromSum()+"Math.abs(input.data[indexSrc]);\n";
+		printUnary(javadoc,"abs",input,input,"",inner,interleaved);
+	}
+
+	public void printInvert( boolean interleaved ) {
+		String javadoc = "\t/**\n" +
+				"\t * Changes the sign of every pixel in the image: output[x,y] = -input[x,y]\n" +
+				"\t *\n" +
+				"\t * @param input The input image. Not modified.\n" +
+				"\t * @param output Where the inverted image is written to. Modified.\n" +
+				"\t */\n";
+		String inner = "\t\t\t\t\t\toutput.data[indexDst] = "+input.getTypeCastFromSum()+"-input.data[indexSrc];\n";
+		printUnary(javadoc,"invert",input,input,"",inner,interleaved);
+	}
+
+	public void printDivide( boolean interleaved ) {
+		String scaleType = input.isInteger() ? "double" : input.getSumType();
+		String typeCast = scaleType.compareTo(input.getSumType()) != 0 ? "("+input.getDataType()+")" : "";
+
+		String javadoc = "\t/**\n" +
+				"\t * Divide each element by a scalar value. Both input and output images can be the same instance.\n" +
+				"\t *\n" +
+				"\t * @param input The input image. Not modified.\n" +
+				"\t * @param denominator What each element is divided by.\n" +
+				"\t * @param output The output image. Modified.\n" +
+				"\t */\n";
+		String inner = "\t\t\t\t\t\toutput.data[indexDst] = "+typeCast+"((input.data[indexSrc] "+input.getBitWise()+") / denominator);\n";
+		printUnary(javadoc,"divide",input,input,"final "+scaleType+" denominator , ",inner,interleaved);
+	}
+
+	public void printDivideBounded( boolean interleaved ) {
+		String scaleType = input.isInteger() ? "double" : input.getSumType();
+		String sumType = input.getSumType();
+		String typeCast = scaleType.compareTo(input.getSumType()) != 0 ? "("+input.getSumType()+")" : "";
+
+		String javadoc = "\t/**\n" +
+				"\t * Divide each element by a scalar value and bounds the result. Both input and output images can be the same instance.\n" +
+				"\t *\n" +
+				"\t * @param input The input image. Not modified.\n" +
+				"\t * @param denominator What each element is divided by.\n" +
+				"\t * @param lower Lower bound on output. Inclusive.\n" +
+				"\t * @param upper Upper bound on output. Inclusive.\n" +
+				"\t * @param output The output image. Modified.\n" +
+				"\t */\n";
+		String inner = "\t\t\t\t\t\t"+sumType+" val = "+typeCast+"((input.data[indexSrc] "+input.getBitWise()+") / denominator);\n" +
+				"\t\t\t\t\t\tif( val < lower ) val = lower;\n" +
+				"\t\t\t\t\t\tif( val > upper ) val = upper;\n" +
+				"\t\t\t\t\t\toutput.data[indexDst] = "+input.getTypeCastFromSum()+"val;\n";
+		printUnary(javadoc,"divide",input,input,"final "+scaleType+" denominator , final "+
+				sumType+" lower , final "+sumType+" upper , ",inner,interleaved);
+	}
+
+	public void printMultiply( boolean interleaved ) {
+		String scaleType = input.isInteger() ? "double" : input.getSumType();
+		String typeCast = scaleType.compareTo(input.getSumType()) != 0 ? "("+input.getDataType()+")" : "";
+
+		String javadoc = "\t/**\n" +
+				"\t * Multiply each element by a scalar value. Both input and output images can\n" +
+				"\t * be the same instance.\n" +
+				"\t *\n" +
+				"\t * @param input The input image. Not modified.\n" +
+				"\t * @param value What each element is multiplied by.\n" +
+				"\t * @param output The output image. Modified.\n" +
+				"\t */\n";
+		String inner = "\t\t\t\t\t\toutput.data[indexDst] = "+typeCast+"((input.data[indexSrc] "+input.getBitWise()+") * value);\n";
+		printUnary(javadoc,"multiply",input,input,"final "+scaleType+" value , ",inner,interleaved);
+	}
+
+	public void printMultiplyBounded( boolean interleaved ) {
+		String scaleType = input.isInteger() ? "double" : input.getSumType();
+		String sumType = input.getSumType();
+		String typeCast = scaleType.compareTo(input.getSumType()) != 0 ? "("+input.getSumType()+")" : "";
+
+		String javadoc = "\t/**\n" +
+				"\t * Multiply each element by a scalar value and bounds the result. Both input and output images can\n" +
+				"\t * be the same instance.\n" +
+				"\t *\n" +
+				"\t * @param input The input image. Not modified.\n" +
+				"\t * @param value What each element is multiplied by.\n" +
+				"\t * @param lower Lower bound on output. Inclusive.\n" +
+				"\t * @param upper Upper bound on output. Inclusive.\n" +
+				"\t * @param output The output image. Modified.\n" +
+				"\t */\n";
+		String inner = "\t\t\t\t\t\t"+sumType+" val = "+typeCast+"((input.data[indexSrc] "+input.getBitWise()+") * value);\n" +
+				"\t\t\t\t\t\tif( val < lower ) val = lower;\n" +
+				"\t\t\t\t\t\tif( val > upper ) val = upper;\n" +
+				"\t\t\t\t\t\toutput.data[indexDst] = "+input.getTypeCastFromSum()+"val;\n";
+		printUnary(javadoc,"multiply",input,input,"final "+scaleType+" value , final "+
+				sumType+" lower , final "+sumType+" upper , ",inner,interleaved);
+	}
+
+	public void printPlus( boolean interleaved ) {
+		String javadoc = "\t/**\n" +
+				"\t * Add a scalar value to each element. Both input and output images can be the same instance.\n" +
+				"\t *\n" +
+				"\t * @param input The input image. Not modified.\n" +
+				"\t * @param value What is added to each element.\n" +
+				"\t * @param output The output image. Modified.\n" +
+				"\t */\n";
+		String inner = "\t\t\t\t\t\toutput.data[indexDst] = "+input.getTypeCastFromSum()+"((input.data[indexSrc] "+input.getBitWise()+") + value);\n";
+		printUnary(javadoc,"plus",input,input,"final "+input.getSumType()+" value , ",inner,interleaved);
+	}
+
+	public void printPlusBounded( boolean interleaved ) {
+		String sumType = input.getSumType();
+
+		String javadoc = "\t/**\n" +
+				"\t * Add a scalar value to each element and bounds the result. Both input and output images can be the same instance.\n" +
+				"\t *\n" +
+				"\t * @param input The input image. Not modified.\n" +
+				"\t * @param value What is added to each element.\n" +
+				"\t * @param lower Lower bound on output. Inclusive.\n" +
+				"\t * @param upper Upper bound on output. Inclusive.\n" +
+				"\t * @param output The output image. Modified.\n" +
+				"\t */\n";
+		String inner = "\t\t\t\t\t\t"+sumType+" val = (input.data[indexSrc] "+input.getBitWise()+") + value;\n" +
+				"\t\t\t\t\t\tif( val < lower ) val = lower;\n" +
+				"\t\t\t\t\t\tif( val > upper ) val = upper;\n" +
+				"\t\t\t\t\t\toutput.data[indexDst] = "+input.getTypeCastFromSum()+"val;\n";
+		printUnary(javadoc,"plus",input,input,"final "+sumType+" value , final "+
+				sumType+" lower , final "+sumType+" upper , ",inner,interleaved);
+	}
+
+	public void printBoundImage( boolean interleaved ) {
+
+		String bitWise = input.getBitWise();
+		String sumType = input.getSumType();
+
+		out.print("\t/**\n" +
+				"\t * Bounds image pixels to be between these two values\n" +
+				"\t *\n" +
+				"\t * @param img Image\n" +
+				"\t * @param min minimum value.\n" +
+				"\t * @param max maximum value.\n" +
+				"\t */\n" +
+				"\tpublic static void boundImage( final "+imageName(input,interleaved)+" img , final "+sumType+" min , final "+sumType+" max ) {\n" +
+				"\t\tfinal int rowLength = "+rowLength("img",interleaved)+";\n" +
+				"\n" +
+				"\t\tBoofConcurrency.loopBlocks(0,img.height,BoofConcurrency.minBlockRows(rowLength),new IntRangeTask() {\n" +
+				"\t\t\t@Override\n" +
+				"\t\t\tpublic void call(int y0, int y1) {\n" +
+				"\t\t\t\t"+input.getDataType()+"[] data = img.data;\n" +
+				"\n" +
+				"\t\t\t\tfor( int y = y0; y < y1; y++ ) {\n" +
+				"\t\t\t\t\tint index = img.startIndex + y * img.stride;\n" +
+				"\t\t\t\t\tint indexEnd = index+rowLength;\n" +
+				"\t\t\t\t\tfor( ; index < indexEnd; index++ ) {\n" +
+				"\t\t\t\t\t\t"+sumType+" value = data[index]"+bitWise+";\n" +
+				"\t\t\t\t\t\tif( value < min )\n" +
+				"\t\t\t\t\t\t\tdata[index] = "+input.getTypeCastFromSum()+"min;\n" +
+				"\t\t\t\t\t\telse if( value > max )\n" +
+				"\t\t\t\t\t\t\tdata[index] = "+input.getTypeCastFromSum()+"max;\n" +
+				"\t\t\t\t\t}\n" +
+				"\t\t\t\t}\n" +
+				"\t\t\t}\n" +
+				"\t\t});\n" +
+				"\t}\n\n");
+	}
+
+	public void printDiffAbs( boolean interleaved ) {
+
+		String bitWise = input.getBitWise();
+		String typeCast = input.isInteger() ? "("+input.getDataType()+")" : "";
+
+		String javadoc = "\t/**\n" +
+				"\t * <p>\n" +
+				"\t * Computes the absolute value of the difference between each pixel in the two images.<br>\n" +
+				"\t * d(x,y) = |img1(x,y) - img2(x,y)|\n" +
+				"\t * </p>\n" +
+				"\t * @param imgA Input image. Not modified.\n" +
+				"\t * @param imgB Input image. Not modified.\n" +
+				"\t * @param diff Absolute value of difference image. Modified.\n" +
+				"\t */\n";
+		String inner = "\t\t\t\t\t\tdiff.data[indexOut] = "+typeCast+"Math.abs((imgA.data[indexA] "+bitWise+") - (imgB.data[indexB] "+bitWise+"));\n";
+		printBinary(javadoc,"diffAbs",input,input,"diff",inner,interleaved);
+	}
+
+	public void printAddTwoImages( AutoTypeImage typeIn , AutoTypeImage typeOut , boolean interleaved ) {
+
+		String bitWise = typeIn.getBitWise();
+		String typeCast = typeOut.isInteger() ? "("+typeOut.getDataType()+")" : "";
+
+		String javadoc = "\t/**\n" +
+				"\t * <p>\n" +
+				"\t * Performs pixel-wise addition<br>\n" +
+				"\t * output(x,y) = imgA(x,y) + imgB(x,y)\n" +
+				"\t * </p>\n" +
+				"\t * @param imgA Input image. Not modified.\n" +
+				"\t * @param imgB Input image. Not modified.\n" +
+				"\t * @param output Output image. Modified.\n" +
+				"\t */\n";
+		String inner = "\t\t\t\t\t\toutput.data[indexOut] = "+typeCast+"((imgA.data[indexA] "+bitWise+") + (imgB.data[indexB] "+bitWise+"));\n";
+		printBinary(javadoc,"add",typeIn,typeOut,"output",inner,interleaved);
+	}
+
+	public void printSubtractTwoImages( AutoTypeImage typeIn , AutoTypeImage typeOut , boolean interleaved ) {
+
+		String bitWise = typeIn.getBitWise();
+		String typeCast = typeOut.isInteger() ? "("+typeOut.getDataType()+")" : "";
+
+		String javadoc = "\t/**\n" +
+				"\t * <p>\n" +
+				"\t * Performs pixel-wise subtraction.<br>\n" +
+				"\t * output(x,y) = imgA(x,y) - imgB(x,y)\n" +
+				"\t * </p>\n" +
+				"\t * @param imgA Input image. Not modified.\n" +
+				"\t * @param imgB Input image. Not modified.\n" +
+				"\t * @param output Output image. Modified.\n" +
+				"\t */\n";
+		String inner = "\t\t\t\t\t\toutput.data[indexOut] = "+typeCast+"((imgA.data[indexA] "+bitWise+") - (imgB.data[indexB] "+bitWise+"));\n";
+		printBinary(javadoc,"subtract",typeIn,typeOut,"output",inner,interleaved);
+	}
+
+	public void printMultTwoImages( AutoTypeImage typeIn , AutoTypeImage typeOut , boolean interleaved ) {
+
+		String bitWise = typeIn.getBitWise();
+		String typeCast = typeOut.isInteger() ? "("+typeOut.getDataType()+")" : "";
+
+		String javadoc = "\t/**\n" +
+				"\t * <p>\n" +
+				"\t * Performs pixel-wise multiplication<br>\n" +
+				"\t * output(x,y) = imgA(x,y) * imgB(x,y)\n" +
+				"\t * </p>\n" +
+				"\t * @param imgA Input image. Not modified.\n" +
+				"\t * @param imgB Input image. Not modified.\n" +
+				"\t * @param output Output image. Modified.\n" +
+				"\t */\n";
+		String inner = "\t\t\t\t\t\toutput.data[indexOut] = "+typeCast+"((imgA.data[indexA] "+bitWise+") * (imgB.data[indexB] "+bitWise+"));\n";
+		printBinary(javadoc,"multiply",typeIn,typeOut,"output",inner,interleaved);
+	}
+
+	public void printDivTwoImages( AutoTypeImage typeIn , AutoTypeImage typeOut , boolean interleaved ) {
+
+		String bitWise = typeIn.getBitWise();
+		String typeCast = typeOut.isInteger() ? "("+typeOut.getDataType()+")" : "";
+
+		String javadoc = "\t/**\n" +
+				"\t * <p>\n" +
+				"\t * Performs pixel-wise division<br>\n" +
+				"\t * output(x,y) = imgA(x,y) / imgB(x,y)\n" +
+				"\t * </p>\n" +
+				"\t * @param imgA Input image. Not modified.\n" +
+				"\t * @param imgB Input image. Not modified.\n" +
+				"\t * @param output Output image. Modified.\n" +
+				"\t */\n";
+		String inner = "\t\t\t\t\t\toutput.data[indexOut] = "+typeCast+"((imgA.data[indexA] "+bitWise+") / (imgB.data[indexB] "+bitWise+"));\n";
+		printBinary(javadoc,"divide",typeIn,typeOut,"output",inner,interleaved);
+	}
+
+	public void printLog( AutoTypeImage typeIn , AutoTypeImage typeOut , boolean interleaved ) {
+		String bitWise = typeIn.getBitWise();
+		String typeCast = typeOut != AutoTypeImage.F64 ? "("+typeOut.getDataType()+")" : "";
+
+		String javadoc = "\t/**\n" +
+				"\t * Sets each pixel in the output image to log( 1 + input(x,y)) of the input image.\n" +
+				"\t * Both the input and output image can be the same instance.\n" +
+				"\t *\n" +
+				"\t * @param input The input image. Not modified.\n" +
+				"\t * @param output Where the log image is written to. Modified.\n" +
+				"\t */\n";
+		String inner = "\t\t\t\t\t\toutput.data[indexDst] = "+typeCast+"Math.log(1 + input.data[indexSrc]"+bitWise+");\n";
+		printUnary(javadoc,"log",typeIn,typeOut,"",inner,interleaved);
+	}
+
+	public void printPow2( AutoTypeImage typeIn , AutoTypeImage typeOut , boolean interleaved ) {
+		String bitWise = typeIn.getBitWise();
+
+		String javadoc = "\t/**\n" +
+				"\t * Raises each pixel in the input image to the power of two. Both the input and output image can be the\n" +
+				"\t * same instance.\n" +
+				"\t *\n" +
+				"\t * @param input The input image. Not modified.\n" +
+				"\t * @param output Where the pow2 image is written to. Modified.\n" +
+				"\t */\n";
+		String inner = "\t\t\t\t\t\t"+typeOut.getDataType()+" v = input.data[indexSrc]"+bitWise+";\n" +
+				"\t\t\t\t\t\toutput.data[indexDst] = v*v;\n";
+		printUnary(javadoc,"pow2",typeIn,typeOut,"",inner,interleaved);
+	}
+
+	public void printSqrt( AutoTypeImage typeIn , AutoTypeImage typeOut , boolean interleaved ) {
+		String bitWise = typeIn.getBitWise();
+		String typeCast = typeOut != AutoTypeImage.F64 ? "("+typeOut.getDataType()+")" : "";
+
+		String javadoc = "\t/**\n" +
+				"\t * Computes the square root of each pixel in the input image. Both the input and output image can be the\n" +
+				"\t * same instance.\n" +
+				"\t *\n" +
+				"\t * @param input The input image. Not modified.\n" +
+				"\t * @param output Where the sqrt() image is written to. Modified.\n" +
+				"\t */\n";
+		String inner = "\t\t\t\t\t\toutput.data[indexDst] = "+typeCast+"Math.sqrt(input.data[indexSrc]"+bitWise+");\n";
+		printUnary(javadoc,"sqrt",typeIn,typeOut,"",inner,interleaved);
+	}
+
+	public static void main( String args[] ) throws FileNotFoundException {
+		GeneratePixelMath_MT gen = new GeneratePixelMath_MT();
+		gen.generate();
+	}
+}
@@ -23,8 +23,10 @@ import boofcv.alg.denoise.DenoiseWavelet;
 import boofcv.core.image.border.BorderType;
 import boofcv.factory.denoise.FactoryDenoiseWaveletAlg;
 import boofcv.factory.transform.wavelet.FactoryWaveletDaub;
+import boofcv.factory.transform.wavelet.FactoryWaveletLifting;
 import boofcv.factory.transform.wavelet.FactoryWaveletTransform;
 import boofcv.struct.image.ImageDataType;
+import boofcv.struct.image.ImageFloat32;
 import boofcv.struct.image.ImageSingleBand;
 import boofcv.struct.image.ImageType;
 import boofcv.struct.wavelet.WaveletDescription;
@@ -100,6 +102,36 @@ public class FactoryImageDenoise {
 		return new WaveletDenoiseFilter<T>(descTran,denoiser);
 	}
 
+	/**
+	 * <p>
+	 * Denoises an {@link ImageFloat32} using a Daub-4 wavelet transform which is computed in place with a
+	 * lifting scheme, see {@link FactoryWaveletTransform#lifting_F32}.  Subband statistics are computed along
+	 * with the transform and passed to the denoiser.
+	 * </p>
+	 *
+	 * <p>
+	 * NOTE: The output is not the same as the default transform used by the other functions.  The lifting
+	 * transform wraps the border at the size of each level, while the default transform wraps at the input's
+	 * size rounded up to an even number and treats the rest of the padding as zero.  The two only agree when
+	 * the padding is at most one pixel.
+	 * </p>
+	 *
+	 * @param denoiser Algorithm which removes noise from the transform, see {@link FactoryDenoiseWaveletAlg}.
+	 * @param numLevels Number of levels in the wavelet transform.  If not sure, try using 3.
+	 * @param minPixelValue Minimum allowed pixel intensity value
+	 * @param maxPixelValue Maximum allowed pixel intensity value
+	 * @return filter for image noise removal.
+	 */
+	public static WaveletDenoiseFilter<ImageFloat32>
+	waveletLifting( DenoiseWavelet<ImageFloat32> denoiser ,
+					int numLevels , double minPixelValue , double maxPixelValue )
+	{
+		WaveletTransform descTran = FactoryWaveletTransform.lifting_F32(FactoryWaveletLifting.daubJ_F32(4),
+				numLevels,(float)minPixelValue,(float)maxPixelValue);
+
+		return new WaveletDenoiseFilter<ImageFloat32>(descTran,denoiser);
+	}
+
 	/**
 	 * Default wavelet transform used for denoising images.
 	 */
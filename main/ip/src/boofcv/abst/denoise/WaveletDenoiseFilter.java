@@ -20,7 +20,9 @@ package boofcv.abst.denoise;
 
 import boofcv.abst.filter.FilterImageInterface;
 import boofcv.abst.transform.wavelet.WaveletTransform;
+import boofcv.abst.transform.wavelet.impl.WaveletTransformLiftingFloat32;
 import boofcv.alg.denoise.DenoiseWavelet;
+import boofcv.alg.denoise.DenoiseWaveletStatistics;
 import boofcv.alg.transform.wavelet.UtilWavelet;
 import boofcv.struct.image.ImageDimension;
 import boofcv.struct.image.ImageSingleBand;
@@ -46,6 +48,9 @@ public class WaveletDenoiseFilter<T extends ImageSingleBand> implements FilterIm
 	// where the wavelet transform is stored
 	private ImageSingleBand transform;
 
+	// if not null then subband statistics are computed along with the transform and passed to the denoiser
+	private WaveletTransformLiftingFloat32 lifting;
+
 	/**
 	 * Specifies which wavelet and algorithm is used for removing image noise.
 	 *
@@ -56,6 +61,11 @@ public class WaveletDenoiseFilter<T extends ImageSingleBand> implements FilterIm
 								DenoiseWavelet denoiser) {
 		this.wavelet = (WaveletTransform<T,ImageSingleBand,?>)wavelet;
 		this.alg = denoiser;
+
+		if( wavelet instanceof WaveletTransformLiftingFloat32 && denoiser instanceof DenoiseWaveletStatistics ) {
+			lifting = (WaveletTransformLiftingFloat32)wavelet;
+			lifting.setComputeStatistics(true);
+		}
 	}
 
 	@Override
@@ -69,7 +79,10 @@ public class WaveletDenoiseFilter<T extends ImageSingleBand> implements FilterIm
 		transform = wavelet.transform(original,transform);
 
 		// remove noise from the transformed image
-		alg.denoise(transform,wavelet.getLevels());
+		if( lifting != null )
+			((DenoiseWaveletStatistics)alg).denoise(transform,wavelet.getLevels(),lifting.getStatistics());
+		else
+			alg.denoise(transform,wavelet.getLevels());
 
 		// reverse the transform
 		wavelet.invert(transform,denoised);
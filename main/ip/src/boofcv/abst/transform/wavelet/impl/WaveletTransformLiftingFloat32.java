@@ -0,0 +1,115 @@
+/*
+ * Copyright (c) 2011-2015, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.abst.transform.wavelet.impl;
+
+import boofcv.abst.transform.wavelet.WaveletTransform;
+import boofcv.alg.transform.wavelet.UtilWavelet;
+import boofcv.alg.transform.wavelet.WaveletSubbandStatistics;
+import boofcv.alg.transform.wavelet.WaveletTransformLifting_F32;
+import boofcv.core.image.border.BorderType;
+import boofcv.struct.image.ImageDimension;
+import boofcv.struct.image.ImageFloat32;
+import boofcv.struct.wavelet.WaveletDescription;
+import boofcv.struct.wavelet.WlCoef_F32;
+
+
+/**
+ * Implementation of {@link WaveletTransform} for {@link ImageFloat32} using {@link WaveletTransformLifting_F32}.
+ *
+ * @author Peter Abeles
+ */
+public class WaveletTransformLiftingFloat32 implements WaveletTransform<ImageFloat32,ImageFloat32, WlCoef_F32> {
+
+	WaveletTransformLifting_F32 alg;
+	// copy of the transform, since the inverse is computed in place
+	ImageFloat32 copy = new ImageFloat32(1,1);
+	// number of levels in the transform
+	int numLevels;
+
+	// minimum and maximum allowed pixel values
+	float minPixelValue;
+	float maxPixelValue;
+
+	public WaveletTransformLiftingFloat32(WaveletTransformLifting_F32 alg, int numLevels,
+										  float minPixelValue , float maxPixelValue ) {
+		this.alg = alg;
+		this.numLevels = numLevels;
+		this.minPixelValue = minPixelValue;
+		this.maxPixelValue = maxPixelValue;
+	}
+
+	@Override
+	public ImageFloat32 transform(ImageFloat32 original, ImageFloat32 transformed) {
+
+		if( transformed == null ) {
+			ImageDimension d = UtilWavelet.transformDimension(original,numLevels);
+			transformed = new ImageFloat32(d.width,d.height);
+		}
+
+		alg.transformN(original,transformed,numLevels);
+
+		return transformed;
+	}
+
+	@Override
+	public void invert(ImageFloat32 transformed, ImageFloat32 original) {
+		copy.reshape(transformed.width,transformed.height);
+		copy.setTo(transformed);
+
+		alg.inverseN(copy,original,numLevels,minPixelValue,maxPixelValue);
+	}
+
+	/**
+	 * If true then subband statistics are computed by {@link #transform}.
+	 */
+	public void setComputeStatistics( boolean compute ) {
+		alg.setComputeStatistics(compute);
+	}
+
+	/**
+	 * Subband statistics of the most recent transform, or null if they are not computed.
+	 */
+	public WaveletSubbandStatistics getStatistics() {
+		return alg.getStatistics();
+	}
+
+	@Override
+	public int getLevels() {
+		return numLevels;
+	}
+
+	@Override
+	public BorderType getBorderType() {
+		return UtilWavelet.convertToType(alg.getDescription().getBorder());
+	}
+
+	@Override
+	public WaveletDescription<WlCoef_F32> getDescription() {
+		return alg.getDescription();
+	}
+
+	@Override
+	public Class<ImageFloat32> getOriginalType() {
+		return ImageFloat32.class;
+	}
+
+	public WaveletTransformLifting_F32 getAlgorithm() {
+		return alg;
+	}
+}
@@ -19,8 +19,13 @@
 package boofcv.alg.color;
 
 import boofcv.alg.InputSanityCheck;
+import boofcv.alg.color.impl.ImplColorLab;
+import boofcv.alg.color.impl.ImplColorLab_MT;
+import boofcv.concurrency.BoofConcurrency;
 import boofcv.struct.image.ImageFloat32;
 import boofcv.struct.image.ImageUInt8;
+import boofcv.struct.image.InterleavedF32;
+import boofcv.struct.image.InterleavedU8;
 import boofcv.struct.image.MultiSpectral;
 
 /**
@@ -107,52 +112,37 @@ public class ColorLab {
 	 * Convert a 3-channel {@link boofcv.struct.image.MultiSpectral} image from RGB into LAB.  RGB is assumed
 	 * to have a range from 0:255
 	 *
-	 * NOTE: Input and output image can be the same instance.
-	 *
 	 * @param rgb (Input) RGB encoded image
 	 * @param lab (Output) LAB encoded image
 	 */
 	public static void rgbToLab_U8( MultiSpectral<ImageUInt8> rgb , MultiSpectral<ImageFloat32> lab ) {
 
-		InputSanityCheck.checkSameShape(lab, rgb);
-
-		ImageUInt8 R = rgb.getBand(0);
-		ImageUInt8 G = rgb.getBand(1);
-		ImageUInt8 B = rgb.getBand(2);
-
-		ImageFloat32 L_ = lab.getBand(0);
-		ImageFloat32 A_ = lab.getBand(1);
-		ImageFloat32 B_ = lab.getBand(2);
-
-		for( int row = 0; row < lab.height; row++ ) {
-			int indexLab = lab.startIndex + row*lab.stride;
-			int indexRgb = rgb.startIndex + row*rgb.stride;
-
-			for( int col = 0; col < lab.width; col++ , indexLab++ , indexRgb++) {
-				float r = (R.data[indexRgb]&0xFF)/255f;
-				float g = (G.data[indexRgb]&0xFF)/255f;
-				float b = (B.data[indexRgb]&0xFF)/255f;
-
-				float X = 0.412453f*r + 0.35758f*g + 0.180423f*b;
-				float Y = 0.212671f*r + 0.71516f*g + 0.072169f*b;
-				float Z = 0.019334f*r + 0.119193f*g + 0.950227f*b;
-
-				float xr = X/Xr_f;
-				float yr = Y/Yr_f;
-				float zr = Z/Zr_f;
-
-				float fx, fy, fz;
-				if(xr > epsilon_f)	fx = (float)Math.pow(xr, 1.0f/3.0f);
-				else				fx = (kappa_f*xr + 16.0f)/116.0f;
-				if(yr > epsilon_f)	fy = (float)Math.pow(yr, 1.0/3.0f);
-				else				fy = (kappa_f*yr + 16.0f)/116.0f;
-				if(zr > epsilon_f)	fz = (float)Math.pow(zr, 1.0/3.0f);
-				else				fz = (kappa_f*zr + 16.0f)/116.0f;
-
-				L_.data[indexLab] = 116.0f*fy-16.0f;
-				A_.data[indexLab] = 500.0f*(fx-fy);
-				B_.data[indexLab] = 200.0f*(fy-fz);
-			}
+		InputSanityCheck.checkSameShape(rgb, lab);
+
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplColorLab_MT.rgbToLab_U8(rgb, lab);
+		} else {
+			ImplColorLab.rgbToLab_U8(rgb, lab, 0, rgb.height);
+		}
+	}
+
+	/**
+	 * Convert a 3-channel {@link boofcv.struct.image.ImageInterleaved} image from RGB into LAB.  RGB is assumed
+	 * to have a range from 0:255
+	 *
+	 * @param rgb (Input) RGB encoded image
+	 * @param lab (Output) LAB encoded image
+	 */
+	public static void rgbToLab_U8( InterleavedU8 rgb , InterleavedF32 lab ) {
+
+		InputSanityCheck.checkSameShape(rgb, lab);
+		if( rgb.getNumBands() != 3 || lab.getNumBands() != 3 )
+			throw new IllegalArgumentException("Both images must have 3 bands");
+
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplColorLab_MT.rgbToLab_U8(rgb, lab);
+		} else {
+			ImplColorLab.rgbToLab_U8(rgb, lab, 0, rgb.height);
 		}
 	}
 
@@ -167,45 +157,34 @@ public class ColorLab {
 	 */
 	public static void rgbToLab_F32( MultiSpectral<ImageFloat32> rgb , MultiSpectral<ImageFloat32> lab ) {
 
-		InputSanityCheck.checkSameShape(lab, rgb);
-
-		ImageFloat32 R = rgb.getBand(0);
-		ImageFloat32 G = rgb.getBand(1);
-		ImageFloat32 B = rgb.getBand(2);
-
-		ImageFloat32 L_ = lab.getBand(0);
-		ImageFloat32 A_ = lab.getBand(1);
-		ImageFloat32 B_ = lab.getBand(2);
-
-		for( int row = 0; row < lab.height; row++ ) {
-			int indexLab = lab.startIndex + row*lab.stride;
-			int indexRgb = rgb.startIndex + row*rgb.stride;
-
-			for( int col = 0; col < lab.width; col++ , indexLab++ , indexRgb++) {
-				float r = R.data[indexRgb]/255f;
-				float g = G.data[indexRgb]/255f;
-				float b = B.data[indexRgb]/255f;
-
-				float X = 0.412453f*r + 0.35758f*g + 0.180423f*b;
-				float Y = 0.212671f*r + 0.71516f*g + 0.072169f*b;
-				float Z = 0.019334f*r + 0.119193f*g + 0.950227f*b;
-
-				float xr = X/Xr_f;
-				float yr = Y/Yr_f;
-				float zr = Z/Zr_f;
-
-				float fx, fy, fz;
-				if(xr > epsilon_f)	fx = (float)Math.pow(xr, 1.0f/3.0f);
-				else				fx = (kappa_f*xr + 16.0f)/116.0f;
-				if(yr > epsilon_f)	fy = (float)Math.pow(yr, 1.0/3.0f);
-				else				fy = (kappa_f*yr + 16.0f)/116.0f;
-				if(zr > epsilon_f)	fz = (float)Math.pow(zr, 1.0/3.0f);
-				else				fz = (kappa_f*zr + 16.0f)/116.0f;
-
-				L_.data[indexLab] = 116.0f*fy-16.0f;
-				A_.data[indexLab] = 500.0f*(fx-fy);
-				B_.data[indexLab] = 200.0f*(fy-fz);
-			}
+		InputSanityCheck.checkSameShape(rgb, lab);
+
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplColorLab_MT.rgbToLab_F32(rgb, lab);
+		} else {
+			ImplColorLab.rgbToLab_F32(rgb, lab, 0, rgb.height);
+		}
+	}
+
+	/**
+	 * Convert a 3-channel {@link boofcv.struct.image.ImageInterleaved} image from RGB into LAB.  RGB is assumed
+	 * to have a range from 0:255
+	 *
+	 * NOTE: Input and output image can be the same instance.
+	 *
+	 * @param rgb (Input) RGB encoded image
+	 * @param lab (Output) LAB encoded image
+	 */
+	public static void rgbToLab_F32( InterleavedF32 rgb , InterleavedF32 lab ) {
+
+		InputSanityCheck.checkSameShape(rgb, lab);
+		if( rgb.getNumBands() != 3 || lab.getNumBands() != 3 )
+			throw new IllegalArgumentException("Both images must have 3 bands");
+
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplColorLab_MT.rgbToLab_F32(rgb, lab);
+		} else {
+			ImplColorLab.rgbToLab_F32(rgb, lab, 0, rgb.height);
 		}
 	}
 }
@@ -19,8 +19,13 @@
 package boofcv.alg.color;
 
 import boofcv.alg.InputSanityCheck;
+import boofcv.alg.color.impl.ImplColorXyz;
+import boofcv.alg.color.impl.ImplColorXyz_MT;
+import boofcv.concurrency.BoofConcurrency;
 import boofcv.struct.image.ImageFloat32;
 import boofcv.struct.image.ImageUInt8;
+import boofcv.struct.image.InterleavedF32;
+import boofcv.struct.image.InterleavedU8;
 import boofcv.struct.image.MultiSpectral;
 
 /**
@@ -108,29 +113,34 @@ public class ColorXyz {
 	 */
 	public static void rgbToXyz_F32( MultiSpectral<ImageFloat32> rgb , MultiSpectral<ImageFloat32> xyz ) {
 
-		InputSanityCheck.checkSameShape(xyz, rgb);
+		InputSanityCheck.checkSameShape(rgb, xyz);
 
-		ImageFloat32 R = rgb.getBand(0);
-		ImageFloat32 G = rgb.getBand(1);
-		ImageFloat32 B = rgb.getBand(2);
-
-		ImageFloat32 X = xyz.getBand(0);
-		ImageFloat32 Y = xyz.getBand(1);
-		ImageFloat32 Z = xyz.getBand(2);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplColorXyz_MT.rgbToXyz_F32(rgb, xyz);
+		} else {
+			ImplColorXyz.rgbToXyz_F32(rgb, xyz, 0, rgb.height);
+		}
+	}
 
-		for( int row = 0; row < xyz.height; row++ ) {
-			int indexXyz = xyz.startIndex + row*xyz.stride;
-			int indexRgb = rgb.startIndex + row*rgb.stride;
+	/**
+	 * Convert a 3-channel {@link boofcv.struct.image.ImageInterleaved} image from RGB into XYZ.  RGB is assumed
+	 * to have a range from 0:255
+	 *
+	 * NOTE: Input and output image can be the same instance.
+	 *
+	 * @param rgb (Input) RGB encoded image
+	 * @param xyz (Output) XYZ encoded image
+	 */
+	public static void rgbToXyz_F32( InterleavedF32 rgb , InterleavedF32 xyz ) {
 
-			for( int col = 0; col < xyz.width; col++ , indexXyz++ , indexRgb++) {
-				float r = R.data[indexRgb]/255f;
-				float g = G.data[indexRgb]/255f;
-				float b = B.data[indexRgb]/255f;
+		InputSanityCheck.checkSameShape(rgb, xyz);
+		if( rgb.getNumBands() != 3 || xyz.getNumBands() != 3 )
+			throw new IllegalArgumentException("Both images must have 3 bands");
 
-				X.data[indexXyz] = 0.412453f*r + 0.35758f*g + 0.180423f*b;
-				Y.data[indexXyz] = 0.212671f*r + 0.71516f*g + 0.072169f*b;
-				Z.data[indexXyz] = 0.019334f*r + 0.119193f*g + 0.950227f*b;
-			}
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplColorXyz_MT.rgbToXyz_F32(rgb, xyz);
+		} else {
+			ImplColorXyz.rgbToXyz_F32(rgb, xyz, 0, rgb.height);
 		}
 	}
 
@@ -138,36 +148,37 @@ public class ColorXyz {
 	 * Convert a 3-channel {@link boofcv.struct.image.MultiSpectral} image from RGB into XYZ.  RGB is assumed
 	 * to have a range from 0:255
 	 *
-	 * NOTE: Input and output image can be the same instance.
-	 *
 	 * @param rgb (Input) RGB encoded image
 	 * @param xyz (Output) XYZ encoded image
 	 */
 	public static void rgbToXyz_U8( MultiSpectral<ImageUInt8> rgb , MultiSpectral<ImageFloat32> xyz ) {
 
-		InputSanityCheck.checkSameShape(xyz, rgb);
-
-		ImageUInt8 R = rgb.getBand(0);
-		ImageUInt8 G = rgb.getBand(1);
-		ImageUInt8 B = rgb.getBand(2);
+		InputSanityCheck.checkSameShape(rgb, xyz);
 
-		ImageFloat32 X = xyz.getBand(0);
-		ImageFloat32 Y = xyz.getBand(1);
-		ImageFloat32 Z = xyz.getBand(2);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplColorXyz_MT.rgbToXyz_U8(rgb, xyz);
+		} else {
+			ImplColorXyz.rgbToXyz_U8(rgb, xyz, 0, rgb.height);
+		}
+	}
 
-		for( int row = 0; row < xyz.height; row++ ) {
-			int indexXyz = xyz.startIndex + row*xyz.stride;
-			int indexRgb = rgb.startIndex + row*rgb.stride;
+	/**
+	 * Convert a 3-channel {@link boofcv.struct.image.ImageInterleaved} image from RGB into XYZ.  RGB is assumed
+	 * to have a range from 0:255
+	 *
+	 * @param rgb (Input) RGB encoded image
+	 * @param xyz (Output) XYZ encoded image
+	 */
+	public static void rgbToXyz_U8( InterleavedU8 rgb , InterleavedF32 xyz ) {
 
-			for( int col = 0; col < xyz.width; col++ , indexXyz++ , indexRgb++) {
-				float r = (R.data[indexRgb]&0xFF)/255f;
-				float g = (G.data[indexRgb]&0xFF)/255f;
-				float b = (B.data[indexRgb]&0xFF)/255f;
+		InputSanityCheck.checkSameShape(rgb, xyz);
+		if( rgb.getNumBands() != 3 || xyz.getNumBands() != 3 )
+			throw new IllegalArgumentException("Both images must have 3 bands");
 
-				X.data[indexXyz] = 0.412453f*r + 0.35758f*g + 0.180423f*b;
-				Y.data[indexXyz] = 0.212671f*r + 0.71516f*g + 0.072169f*b;
-				Z.data[indexXyz] = 0.019334f*r + 0.119193f*g + 0.950227f*b;
-			}
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplColorXyz_MT.rgbToXyz_U8(rgb, xyz);
+		} else {
+			ImplColorXyz.rgbToXyz_U8(rgb, xyz, 0, rgb.height);
 		}
 	}
 }
@@ -19,8 +19,14 @@
 package boofcv.alg.color;
 
 import boofcv.alg.InputSanityCheck;
+import boofcv.alg.color.impl.ImplColorYuv;
+import boofcv.alg.color.impl.ImplColorYuv_MT;
+import boofcv.concurrency.BoofConcurrency;
 import boofcv.struct.image.ImageFloat32;
+import boofcv.struct.image.ImageInterleaved;
 import boofcv.struct.image.ImageUInt8;
+import boofcv.struct.image.InterleavedF32;
+import boofcv.struct.image.InterleavedU8;
 import boofcv.struct.image.MultiSpectral;
 
 /**
@@ -134,34 +140,40 @@ public class ColorYuv {
 	/**
 	 * Convert a 3-channel {@link MultiSpectral} image from YUV into RGB.
 	 *
-	 * @param rgb (Input) RGB encoded image
-	 * @param yuv (Output) YUV encoded image
+	 * NOTE: Input and output image can be the same instance.
+	 *
+	 * @param yuv (Input) YUV encoded image
+	 * @param rgb (Output) RGB encoded image
 	 */
 	public static void yuvToRgb_F32( MultiSpectral<ImageFloat32> yuv , MultiSpectral<ImageFloat32> rgb ) {
 
-		InputSanityCheck.checkSameShape(yuv,rgb);
+		InputSanityCheck.checkSameShape(yuv, rgb);
 
-		ImageFloat32 Y = yuv.getBand(0);
-		ImageFloat32 U = yuv.getBand(1);
-		ImageFloat32 V = yuv.getBand(2);
-
-		ImageFloat32 R = rgb.getBand(0);
-		ImageFloat32 G = rgb.getBand(1);
-		ImageFloat32 B = rgb.getBand(2);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplColorYuv_MT.yuvToRgb_F32(yuv, rgb);
+		} else {
+			ImplColorYuv.yuvToRgb_F32(yuv, rgb, 0, yuv.height);
+		}
+	}
 
-		for( int row = 0; row < yuv.height; row++ ) {
-			int indexYuv = yuv.startIndex + row*yuv.stride;
-			int indexRgb = rgb.startIndex + row*rgb.stride;
+	/**
+	 * Convert a 3-channel {@link ImageInterleaved} image from YUV into RGB.
+	 *
+	 * NOTE: Input and output image can be the same instance.
+	 *
+	 * @param yuv (Input) YUV encoded image
+	 * @param rgb (Output) RGB encoded image
+	 */
+	public static void yuvToRgb_F32( InterleavedF32 yuv , InterleavedF32 rgb ) {
 
-			for( int col = 0; col < yuv.width; col++ , indexYuv++ , indexRgb++) {
-				float y = Y.data[indexYuv];
-				float u = U.data[indexYuv];
-				float v = V.data[indexYuv];
+		InputSanityCheck.checkSameShape(yuv, rgb);
+		if( yuv.getNumBands() != 3 || rgb.getNumBands() != 3 )
+			throw new IllegalArgumentException("Both images must have 3 bands");
 
-				R.data[indexRgb] = y + 1.13983f*v;
-				G.data[indexRgb] = y - 0.39465f*u - 0.58060f*v;
-				B.data[indexRgb] = y + 2.032f*u;
-			}
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplColorYuv_MT.yuvToRgb_F32(yuv, rgb);
+		} else {
+			ImplColorYuv.yuvToRgb_F32(yuv, rgb, 0, yuv.height);
 		}
 	}
 
@@ -175,79 +187,113 @@ public class ColorYuv {
 	 */
 	public static void rgbToYuv_F32( MultiSpectral<ImageFloat32> rgb , MultiSpectral<ImageFloat32> yuv ) {
 
-		InputSanityCheck.checkSameShape(yuv,rgb);
+		InputSanityCheck.checkSameShape(rgb, yuv);
 
-		ImageFloat32 R = rgb.getBand(0);
-		ImageFloat32 G = rgb.getBand(1);
-		ImageFloat32 B = rgb.getBand(2);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplColorYuv_MT.rgbToYuv_F32(rgb, yuv);
+		} else {
+			ImplColorYuv.rgbToYuv_F32(rgb, yuv, 0, rgb.height);
+		}
+	}
 
-		ImageFloat32 Y = yuv.getBand(0);
-		ImageFloat32 U = yuv.getBand(1);
-		ImageFloat32 V = yuv.getBand(2);
+	/**
+	 * Convert a 3-channel {@link ImageInterleaved} image from RGB into YUV.
+	 *
+	 * NOTE: Input and output image can be the same instance.
+	 *
+	 * @param rgb (Input) RGB encoded image
+	 * @param yuv (Output) YUV encoded image
+	 */
+	public static void rgbToYuv_F32( InterleavedF32 rgb , InterleavedF32 yuv ) {
 
-		for( int row = 0; row < yuv.height; row++ ) {
-			int indexYuv = yuv.startIndex + row*yuv.stride;
-			int indexRgb = rgb.startIndex + row*rgb.stride;
+		InputSanityCheck.checkSameShape(rgb, yuv);
+		if( rgb.getNumBands() != 3 || yuv.getNumBands() != 3 )
+			throw new IllegalArgumentException("Both images must have 3 bands");
 
-			for( int col = 0; col < yuv.width; col++ , indexYuv++ , indexRgb++) {
-				float r = R.data[indexRgb];
-				float g = G.data[indexRgb];
-				float b = B.data[indexRgb];
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplColorYuv_MT.rgbToYuv_F32(rgb, yuv);
+		} else {
+			ImplColorYuv.rgbToYuv_F32(rgb, yuv, 0, rgb.height);
+		}
+	}
 
-				float y = 0.299f*r + 0.587f*g + 0.114f*b;
+	/**
+	 * Conversion from RGB to YCbCr using fixed point math.
+	 *
+	 * NOTE: Input and output image can be the same instance.
+	 *
+	 * @param rgb (Input) RGB encoded 8-bit image
+	 * @param yuv (Output) YCbCr encoded 8-bit image
+	 */
+	public static void rgbToYCbCr_U8( MultiSpectral<ImageUInt8> rgb , MultiSpectral<ImageUInt8> yuv ) {
 
-				Y.data[indexYuv] = y;
-				U.data[indexYuv] = 0.492f*(b-y);
-				V.data[indexYuv] = 0.877f*(r-y);
-			}
+		InputSanityCheck.checkSameShape(rgb, yuv);
+
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplColorYuv_MT.rgbToYCbCr_U8(rgb, yuv);
+		} else {
+			ImplColorYuv.rgbToYCbCr_U8(rgb, yuv, 0, rgb.height);
 		}
 	}
 
 	/**
-	 * Conversion from YCbCr to RGB.
+	 * Conversion from RGB to YCbCr using fixed point math.
 	 *
 	 * NOTE: Input and output image can be the same instance.
 	 *
-	 * @param yuv YCbCr encoded 8-bit image
-	 * @param rgb RGB encoded 8-bit image
+	 * @param rgb (Input) RGB encoded 8-bit image
+	 * @param yuv (Output) YCbCr encoded 8-bit image
 	 */
-	public static void ycbcrToRgb_U8( MultiSpectral<ImageUInt8> yuv , MultiSpectral<ImageUInt8> rgb ) {
+	public static void rgbToYCbCr_U8( InterleavedU8 rgb , InterleavedU8 yuv ) {
 
-		ImageUInt8 Y = yuv.getBand(0);
-		ImageUInt8 U = yuv.getBand(1);
-		ImageUInt8 V = yuv.getBand(2);
+		InputSanityCheck.checkSameShape(rgb, yuv);
+		if( rgb.getNumBands() != 3 || yuv.getNumBands() != 3 )
+			throw new IllegalArgumentException("Both images must have 3 bands");
 
-		ImageUInt8 R = rgb.getBand(0);
-		ImageUInt8 G = rgb.getBand(1);
-		ImageUInt8 B = rgb.getBand(2);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplColorYuv_MT.rgbToYCbCr_U8(rgb, yuv);
+		} else {
+			ImplColorYuv.rgbToYCbCr_U8(rgb, yuv, 0, rgb.height);
+		}
+	}
 
-		for( int row = 0; row < yuv.height; row++ ) {
-			int indexYuv = yuv.startIndex + row*yuv.stride;
-			int indexRgb = rgb.startIndex + row*rgb.stride;
+	/**
+	 * Conversion from YCbCr to RGB.
+	 *
+	 * NOTE: Input and output image can be the same instance.
+	 *
+	 * @param yuv (Input) YCbCr encoded 8-bit image
+	 * @param rgb (Output) RGB encoded 8-bit image
+	 */
+	public static void ycbcrToRgb_U8( MultiSpectral<ImageUInt8> yuv , MultiSpectral<ImageUInt8> rgb ) {
 
-			for( int col = 0; col < yuv.width; col++ , indexYuv++ , indexRgb++) {
-				int y = 1191*((Y.data[indexYuv]&0xFF) - 16);
-				int cb = (U.data[indexYuv]&0xFF) - 128;
-				int cr = (V.data[indexYuv]&0xFF) - 128;
+		InputSanityCheck.checkSameShape(yuv, rgb);
 
-				if( y < 0 ) y = 0;
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplColorYuv_MT.ycbcrToRgb_U8(yuv, rgb);
+		} else {
+			ImplColorYuv.ycbcrToRgb_U8(yuv, rgb, 0, yuv.height);
+		}
+	}
 
-				int r = (y + 1836*cr) >> 10;
-				int g = (y - 547*cr - 218*cb) >> 10;
-				int b = (y + 2165*cb) >> 10;
+	/**
+	 * Conversion from YCbCr to RGB.
+	 *
+	 * NOTE: Input and output image can be the same instance.
+	 *
+	 * @param yuv (Input) YCbCr encoded 8-bit image
+	 * @param rgb (Output) RGB encoded 8-bit image
+	 */
+	public static void ycbcrToRgb_U8( InterleavedU8 yuv , InterleavedU8 rgb ) {
 
-				if( r < 0 ) r = 0;
-				else if( r > 255 ) r = 255;
-				if( g < 0 ) g = 0;
-				else if( g > 255 ) g = 255;
-				if( b < 0 ) b = 0;
-				else if( b > 255 ) b = 255;
+		InputSanityCheck.checkSameShape(yuv, rgb);
+		if( yuv.getNumBands() != 3 || rgb.getNumBands() != 3 )
+			throw new IllegalArgumentException("Both images must have 3 bands");
 
-				R.data[indexRgb] = (byte)r;
-				G.data[indexRgb] = (byte)g;
-				B.data[indexRgb] = (byte)b;
-			}
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplColorYuv_MT.ycbcrToRgb_U8(yuv, rgb);
+		} else {
+			ImplColorYuv.ycbcrToRgb_U8(yuv, rgb, 0, yuv.height);
 		}
 	}
-
 }
@@ -0,0 +1,216 @@
+/*
+ * Copyright (c) 2011-2015, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.color.impl;
+
+import boofcv.alg.color.ColorHsv;
+import boofcv.struct.image.ImageFloat32;
+import boofcv.struct.image.InterleavedF32;
+import boofcv.struct.image.MultiSpectral;
+
+import static boofcv.alg.color.ColorHsv.PI2_F32;
+import static boofcv.alg.color.ColorHsv.d60_F32;
+
+/**
+ * Implementation of image conversions in {@link ColorHsv}.  Only rows from y0 to y1, exclusive, are converted
+ * so that the image can be split between threads, see {@link ImplColorHsv_MT}.
+ *
+ * @author Peter Abeles
+ */
+public class ImplColorHsv {
+
+	public static void hsvToRgb_F32( MultiSpectral<ImageFloat32> hsv , MultiSpectral<ImageFloat32> rgb ,
+									 int y0 , int y1 ) {
+		float H[] = hsv.getBand(0).data;
+		float S[] = hsv.getBand(1).data;
+		float V[] = hsv.getBand(2).data;
+
+		float R[] = rgb.getBand(0).data;
+		float G[] = rgb.getBand(1).data;
+		float B[] = rgb.getBand(2).data;
+
+		for( int row = y0; row < y1; row++ ) {
+			int indexHsv = hsv.startIndex + row*hsv.stride;
+			int indexRgb = rgb.startIndex + row*rgb.stride;
+
+			for( int col = 0; col < hsv.width; col++ , indexHsv++ , indexRgb++) {
+				float h = H[indexHsv];
+				float s = S[indexHsv];
+				float v = V[indexHsv];
+
+				if( s == 0 ) {
+					R[indexRgb] = v;
+					G[indexRgb] = v;
+					B[indexRgb] = v;
+					continue;
+				}
+				h /= d60_F32;
+				int h_int = (int)h;
+				float remainder = h - h_int;
+				float p = v * ( 1 - s );
+				float q = v * ( 1 - s * remainder );
+				float t = v * ( 1 - s * ( 1 - remainder ) );
+
+				if( h_int < 1 ) {
+					R[indexRgb] = v; G[indexRgb] = t; B[indexRgb] = p;
+				} else if( h_int < 2 ) {
+					R[indexRgb] = q; G[indexRgb] = v; B[indexRgb] = p;
+				} else if( h_int < 3 ) {
+					R[indexRgb] = p; G[indexRgb] = v; B[indexRgb] = t;
+				} else if( h_int < 4 ) {
+					R[indexRgb] = p; G[indexRgb] = q; B[indexRgb] = v;
+				} else if( h_int < 5 ) {
+					R[indexRgb] = t; G[indexRgb] = p; B[indexRgb] = v;
+				} else {
+					R[indexRgb] = v; G[indexRgb] = p; B[indexRgb] = q;
+				}
+			}
+		}
+	}
+
+	public static void hsvToRgb_F32( InterleavedF32 hsv , InterleavedF32 rgb , int y0 , int y1 ) {
+		float out[] = rgb.data;
+
+		for( int row = y0; row < y1; row++ ) {
+			int indexHsv = hsv.startIndex + row*hsv.stride;
+			int indexRgb = rgb.startIndex + row*rgb.stride;
+			int end = indexHsv + hsv.width*3;
+
+			for( ; indexHsv < end; indexHsv += 3 , indexRgb += 3 ) {
+				float h = hsv.data[indexHsv];
+				float s = hsv.data[indexHsv+1];
+				float v = hsv.data[indexHsv+2];
+
+				if( s == 0 ) {
+					out[indexRgb] = v; out[indexRgb+1] = v; out[indexRgb+2] = v;
+					continue;
+				}
+				h /= d60_F32;
+				int h_int = (int)h;
+				float remainder = h - h_int;
+				float p = v * ( 1 - s );
+				float q = v * ( 1 - s * remainder );
+				float t = v * ( 1 - s * ( 1 - remainder ) );
+
+				if( h_int < 1 ) {
+					out[indexRgb] = v; out[indexRgb+1] = t; out[indexRgb+2] = p;
+				} else if( h_int < 2 ) {
+					out[indexRgb] = q; out[indexRgb+1] = v; out[indexRgb+2] = p;
+				} else if( h_int < 3 ) {
+					out[indexRgb] = p; out[indexRgb+1] = v; out[indexRgb+2] = t;
+				} else if( h_int < 4 ) {
+					out[indexRgb] = p; out[indexRgb+1] = q; out[indexRgb+2] = v;
+				} else if( h_int < 5 ) {
+					out[indexRgb] = t; out[indexRgb+1] = p; out[indexRgb+2] = v;
+				} else {
+					out[indexRgb] = v; out[indexRgb+1] = p; out[indexRgb+2] = q;
+				}
+			}
+		}
+	}
+
+	public static void rgbToHsv_F32( MultiSpectral<ImageFloat32> rgb , MultiSpectral<ImageFloat32> hsv ,
+									 int y0 , int y1 ) {
+		float R[] = rgb.getBand(0).data;
+		float G[] = rgb.getBand(1).data;
+		float B[] = rgb.getBand(2).data;
+
+		float H[] = hsv.getBand(0).data;
+		float S[] = hsv.getBand(1).data;
+		float V[] = hsv.getBand(2).data;
+
+		for( int row = y0; row < y1; row++ ) {
+			int indexRgb = rgb.startIndex + row*rgb.stride;
+			int indexHsv = hsv.startIndex + row*hsv.stride;
+
+			for( int col = 0; col < hsv.width; col++ , indexHsv++ , indexRgb++) {
+				float r = R[indexRgb];
+				float g = G[indexRgb];
+				float b = B[indexRgb];
+
+				float max = r > g ? ( r > b ? r : b) : ( g > b ? g : b );
+				float min = r < g ? ( r < b ? r : b) : ( g < b ? g : b );
+
+				float delta = max - min;
+
+				V[indexHsv] = max;
+
+				if( max != 0 )
+					S[indexHsv] = delta / max;
+				else {
+					H[indexHsv] = Float.NaN;
+					S[indexHsv] = 0;
+					continue;
+				}
+
+				H[indexHsv] = hue(r,g,b,max,delta);
+			}
+		}
+	}
+
+	public static void rgbToHsv_F32( InterleavedF32 rgb , InterleavedF32 hsv , int y0 , int y1 ) {
+		float out[] = hsv.data;
+
+		for( int row = y0; row < y1; row++ ) {
+			int indexRgb = rgb.startIndex + row*rgb.stride;
+			int indexHsv = hsv.startIndex + row*hsv.stride;
+			int end = indexHsv + hsv.width*3;
+
+			for( ; indexHsv < end; indexHsv += 3 , indexRgb += 3 ) {
+				float r = rgb.data[indexRgb];
+				float g = rgb.data[indexRgb+1];
+				float b = rgb.data[indexRgb+2];
+
+				float max = r > g ? ( r > b ? r : b) : ( g > b ? g : b );
+				float min = r < g ? ( r < b ? r : b) : ( g < b ? g : b );
+
+				float delta = max - min;
+
+				out[indexHsv+2] = max;
+
+				if( max != 0 )
+					out[indexHsv+1] = delta / max;
+				else {
+					out[indexHsv] = Float.NaN;
+					out[indexHsv+1] = 0;
+					continue;
+				}
+
+				out[indexHsv] = hue(r,g,b,max,delta);
+			}
+		}
+	}
+
+	/**
+	 * Computes the hue in radians from 0 to 2*PI
+	 */
+	private static float hue( float r , float g , float b , float max , float delta ) {
+		float h;
+		if( r == max )
+			h = ( g - b ) / delta;
+		else if( g == max )
+			h = 2 + ( b - r ) / delta;
+		else
+			h = 4 + ( r - g ) / delta;
+
+		h *= d60_F32;
+		if( h < 0 )
+			h += PI2_F32;
+		return h;
+	}
+}
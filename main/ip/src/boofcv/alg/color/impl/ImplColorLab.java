@@ -0,0 +1,174 @@
+/*
+ * Copyright (c) 2011-2015, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.color.impl;
+
+import boofcv.alg.color.ColorLab;
+import boofcv.struct.image.ImageFloat32;
+import boofcv.struct.image.ImageUInt8;
+import boofcv.struct.image.InterleavedF32;
+import boofcv.struct.image.InterleavedU8;
+import boofcv.struct.image.MultiSpectral;
+
+import static boofcv.alg.color.ColorLab.*;
+
+/**
+ * <p>
+ * Implementation of image conversions in {@link ColorLab}.  Only rows from y0 to y1, exclusive, are converted
+ * so that the image can be split between threads, see {@link ImplColorLab_MT}.
+ * </p>
+ *
+ * <p>
+ * 8-bit images are converted into XYZ using lookup tables, see {@link ImplColorXyz}, which already include the
+ * division by the reference white.  The cube root is computed with {@link Math#cbrt} instead of {@link Math#pow}.
+ * </p>
+ *
+ * @author Peter Abeles
+ */
+public class ImplColorLab {
+
+	// RGB to XYZ divided by the reference white
+	public static final float TABLE_X[] = ImplColorXyz.createTable(0.412453, 0.35758, 0.180423, Xr);
+	public static final float TABLE_Y[] = ImplColorXyz.createTable(0.212671, 0.71516, 0.072169, Yr);
+	public static final float TABLE_Z[] = ImplColorXyz.createTable(0.019334, 0.119193, 0.950227, Zr);
+
+	// coefficients for RGB with a range of 0:255 divided by the reference white
+	private static final float X_R = (float)(0.412453/255.0/Xr);
+	private static final float X_G = (float)(0.35758/255.0/Xr);
+	private static final float X_B = (float)(0.180423/255.0/Xr);
+	private static final float Y_R = (float)(0.212671/255.0/Yr);
+	private static final float Y_G = (float)(0.71516/255.0/Yr);
+	private static final float Y_B = (float)(0.072169/255.0/Yr);
+	private static final float Z_R = (float)(0.019334/255.0/Zr);
+	private static final float Z_G = (float)(0.119193/255.0/Zr);
+	private static final float Z_B = (float)(0.950227/255.0/Zr);
+
+	/**
+	 * Nonlinear function applied to XYZ after it has been divided by the reference white
+	 */
+	public static float f( float t ) {
+		if( t > epsilon_f )
+			return (float)Math.cbrt(t);
+		else
+			return (kappa_f*t + 16.0f)/116.0f;
+	}
+
+	public static void rgbToLab_U8( MultiSpectral<ImageUInt8> rgb , MultiSpectral<ImageFloat32> lab ,
+									int y0 , int y1 ) {
+		byte R[] = rgb.getBand(0).data;
+		byte G[] = rgb.getBand(1).data;
+		byte B[] = rgb.getBand(2).data;
+
+		float L_[] = lab.getBand(0).data;
+		float A_[] = lab.getBand(1).data;
+		float B_[] = lab.getBand(2).data;
+
+		for( int row = y0; row < y1; row++ ) {
+			int indexLab = lab.startIndex + row*lab.stride;
+			int indexRgb = rgb.startIndex + row*rgb.stride;
+
+			for( int col = 0; col < lab.width; col++ , indexLab++ , indexRgb++) {
+				int r = R[indexRgb]&0xFF;
+				int g = (G[indexRgb]&0xFF) + 256;
+				int b = (B[indexRgb]&0xFF) + 512;
+
+				float fx = f(TABLE_X[r] + TABLE_X[g] + TABLE_X[b]);
+				float fy = f(TABLE_Y[r] + TABLE_Y[g] + TABLE_Y[b]);
+				float fz = f(TABLE_Z[r] + TABLE_Z[g] + TABLE_Z[b]);
+
+				L_[indexLab] = 116.0f*fy-16.0f;
+				A_[indexLab] = 500.0f*(fx-fy);
+				B_[indexLab] = 200.0f*(fy-fz);
+			}
+		}
+	}
+
+	public static void rgbToLab_U8( InterleavedU8 rgb , InterleavedF32 lab , int y0 , int y1 ) {
+		for( int row = y0; row < y1; row++ ) {
+			int indexLab = lab.startIndex + row*lab.stride;
+			int indexRgb = rgb.startIndex + row*rgb.stride;
+			int end = indexLab + lab.width*3;
+
+			for( ; indexLab < end; indexLab += 3 , indexRgb += 3 ) {
+				int r = rgb.data[indexRgb]&0xFF;
+				int g = (rgb.data[indexRgb+1]&0xFF) + 256;
+				int b = (rgb.data[indexRgb+2]&0xFF) + 512;
+
+				float fx = f(TABLE_X[r] + TABLE_X[g] + TABLE_X[b]);
+				float fy = f(TABLE_Y[r] + TABLE_Y[g] + TABLE_Y[b]);
+				float fz = f(TABLE_Z[r] + TABLE_Z[g] + TABLE_Z[b]);
+
+				lab.data[indexLab]   = 116.0f*fy-16.0f;
+				lab.data[indexLab+1] = 500.0f*(fx-fy);
+				lab.data[indexLab+2] = 200.0f*(fy-fz);
+			}
+		}
+	}
+
+	public static void rgbToLab_F32( MultiSpectral<ImageFloat32> rgb , MultiSpectral<ImageFloat32> lab ,
+									 int y0 , int y1 ) {
+		float R[] = rgb.getBand(0).data;
+		float G[] = rgb.getBand(1).data;
+		float B[] = rgb.getBand(2).data;
+
+		float L_[] = lab.getBand(0).data;
+		float A_[] = lab.getBand(1).data;
+		float B_[] = lab.getBand(2).data;
+
+		for( int row = y0; row < y1; row++ ) {
+			int indexLab = lab.startIndex + row*lab.stride;
+			int indexRgb = rgb.startIndex + row*rgb.stride;
+
+			for( int col = 0; col < lab.width; col++ , indexLab++ , indexRgb++) {
+				float r = R[indexRgb];
+				float g = G[indexRgb];
+				float b = B[indexRgb];
+
+				float fx = f(X_R*r + X_G*g + X_B*b);
+				float fy = f(Y_R*r + Y_G*g + Y_B*b);
+				float fz = f(Z_R*r + Z_G*g + Z_B*b);
+
+				L_[indexLab] = 116.0f*fy-16.0f;
+				A_[indexLab] = 500.0f*(fx-fy);
+				B_[indexLab] = 200.0f*(fy-fz);
+			}
+		}
+	}
+
+	public static void rgbToLab_F32( InterleavedF32 rgb , InterleavedF32 lab , int y0 , int y1 ) {
+		for( int row = y0; row < y1; row++ ) {
+			int indexLab = lab.startIndex + row*lab.stride;
+			int indexRgb = rgb.startIndex + row*rgb.stride;
+			int end = indexLab + lab.width*3;
+
+			for( ; indexLab < end; indexLab += 3 , indexRgb += 3 ) {
+				float r = rgb.data[indexRgb];
+				float g = rgb.data[indexRgb+1];
+				float b = rgb.data[indexRgb+2];
+
+				float fx = f(X_R*r + X_G*g + X_B*b);
+				float fy = f(Y_R*r + Y_G*g + Y_B*b);
+				float fz = f(Z_R*r + Z_G*g + Z_B*b);
+
+				lab.data[indexLab]   = 116.0f*fy-16.0f;
+				lab.data[indexLab+1] = 500.0f*(fx-fy);
+				lab.data[indexLab+2] = 200.0f*(fy-fz);
+			}
+		}
+	}
+}
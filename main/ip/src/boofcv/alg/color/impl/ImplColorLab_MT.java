@@ -0,0 +1,73 @@
+/*
+ * Copyright (c) 2011-2015, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.color.impl;
+
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.concurrency.IntRangeTask;
+import boofcv.struct.image.ImageFloat32;
+import boofcv.struct.image.ImageUInt8;
+import boofcv.struct.image.InterleavedF32;
+import boofcv.struct.image.InterleavedU8;
+import boofcv.struct.image.MultiSpectral;
+
+/**
+ * Concurrent implementation of {@link ImplColorLab}.  The image is split into blocks of rows which are
+ * converted by different threads.  The number of rows in a block is selected using
+ * {@link BoofConcurrency#minBlockRows(int)} so that small images are not split up.
+ *
+ * @author Peter Abeles
+ */
+public class ImplColorLab_MT {
+
+	public static void rgbToLab_U8( final MultiSpectral<ImageUInt8> rgb , final MultiSpectral<ImageFloat32> lab ) {
+		BoofConcurrency.loopBlocks(0, rgb.height, BoofConcurrency.minBlockRows(rgb.width), new IntRangeTask() {
+			@Override
+			public void call(int y0, int y1) {
+				ImplColorLab.rgbToLab_U8(rgb, lab, y0, y1);
+			}
+		});
+	}
+
+	public static void rgbToLab_U8( final InterleavedU8 rgb , final InterleavedF32 lab ) {
+		BoofConcurrency.loopBlocks(0, rgb.height, BoofConcurrency.minBlockRows(rgb.width), new IntRangeTask() {
+			@Override
+			public void call(int y0, int y1) {
+				ImplColorLab.rgbToLab_U8(rgb, lab, y0, y1);
+			}
+		});
+	}
+
+	public static void rgbToLab_F32( final MultiSpectral<ImageFloat32> rgb , final MultiSpectral<ImageFloat32> lab ) {
+		BoofConcurrency.loopBlocks(0, rgb.height, BoofConcurrency.minBlockRows(rgb.width), new IntRangeTask() {
+			@Override
+			public void call(int y0, int y1) {
+				ImplColorLab.rgbToLab_F32(rgb, lab, y0, y1);
+			}
+		});
+	}
+
+	public static void rgbToLab_F32( final InterleavedF32 rgb , final InterleavedF32 lab ) {
+		BoofConcurrency.loopBlocks(0, rgb.height, BoofConcurrency.minBlockRows(rgb.width), new IntRangeTask() {
+			@Override
+			public void call(int y0, int y1) {
+				ImplColorLab.rgbToLab_F32(rgb, lab, y0, y1);
+			}
+		});
+	}
+}
@@ -0,0 +1,160 @@
+/*
+ * Copyright (c) 2011-2015, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.color.impl;
+
+import boofcv.alg.color.ColorXyz;
+import boofcv.struct.image.ImageFloat32;
+import boofcv.struct.image.ImageUInt8;
+import boofcv.struct.image.InterleavedF32;
+import boofcv.struct.image.InterleavedU8;
+import boofcv.struct.image.MultiSpectral;
+
+/**
+ * <p>
+ * Implementation of image conversions in {@link ColorXyz}.  Only rows from y0 to y1, exclusive, are converted
+ * so that the image can be split between threads, see {@link ImplColorXyz_MT}.
+ * </p>
+ *
+ * <p>
+ * 8-bit images are converted using lookup tables.  Each table contains the contribution of R, G, and B to one
+ * of the output components.  The contribution of R is at index 'value', G at '256+value', and B at '512+value'.
+ * The tables include the normalization by 255 so converting a pixel requires only lookups and additions.
+ * </p>
+ *
+ * @author Peter Abeles
+ */
+public class ImplColorXyz {
+
+	public static final float TABLE_X[] = createTable(0.412453, 0.35758, 0.180423, 1.0);
+	public static final float TABLE_Y[] = createTable(0.212671, 0.71516, 0.072169, 1.0);
+	public static final float TABLE_Z[] = createTable(0.019334, 0.119193, 0.950227, 1.0);
+
+	// coefficients for normalized RGB with a range of 0:255
+	private static final float X_R = 0.412453f/255f, X_G = 0.35758f/255f, X_B = 0.180423f/255f;
+	private static final float Y_R = 0.212671f/255f, Y_G = 0.71516f/255f, Y_B = 0.072169f/255f;
+	private static final float Z_R = 0.019334f/255f, Z_G = 0.119193f/255f, Z_B = 0.950227f/255f;
+
+	/**
+	 * Creates a lookup table for one output component which is a linear combination of normalized 8-bit RGB.
+	 *
+	 * @param cr Coefficient for red
+	 * @param cg Coefficient for green
+	 * @param cb Coefficient for blue
+	 * @param divisor The output is divided by this number
+	 * @return Lookup table with 768 elements
+	 */
+	public static float[] createTable( double cr , double cg , double cb , double divisor ) {
+		float table[] = new float[768];
+		for( int i = 0; i < 256; i++ ) {
+			double v = i/255.0/divisor;
+			table[i]     = (float)(cr*v);
+			table[256+i] = (float)(cg*v);
+			table[512+i] = (float)(cb*v);
+		}
+		return table;
+	}
+
+	public static void rgbToXyz_U8( MultiSpectral<ImageUInt8> rgb , MultiSpectral<ImageFloat32> xyz ,
+									int y0 , int y1 ) {
+		byte R[] = rgb.getBand(0).data;
+		byte G[] = rgb.getBand(1).data;
+		byte B[] = rgb.getBand(2).data;
+
+		float X[] = xyz.getBand(0).data;
+		float Y[] = xyz.getBand(1).data;
+		float Z[] = xyz.getBand(2).data;
+
+		for( int row = y0; row < y1; row++ ) {
+			int indexXyz = xyz.startIndex + row*xyz.stride;
+			int indexRgb = rgb.startIndex + row*rgb.stride;
+
+			for( int col = 0; col < xyz.width; col++ , indexXyz++ , indexRgb++) {
+				int r = R[indexRgb]&0xFF;
+				int g = (G[indexRgb]&0xFF) + 256;
+				int b = (B[indexRgb]&0xFF) + 512;
+
+				X[indexXyz] = TABLE_X[r] + TABLE_X[g] + TABLE_X[b];
+				Y[indexXyz] = TABLE_Y[r] + TABLE_Y[g] + TABLE_Y[b];
+				Z[indexXyz] = TABLE_Z[r] + TABLE_Z[g] + TABLE_Z[b];
+			}
+		}
+	}
+
+	public static void rgbToXyz_U8( InterleavedU8 rgb , InterleavedF32 xyz , int y0 , int y1 ) {
+		for( int row = y0; row < y1; row++ ) {
+			int indexXyz = xyz.startIndex + row*xyz.stride;
+			int indexRgb = rgb.startIndex + row*rgb.stride;
+			int end = indexXyz + xyz.width*3;
+
+			for( ; indexXyz < end; indexXyz += 3 , indexRgb += 3 ) {
+				int r = rgb.data[indexRgb]&0xFF;
+				int g = (rgb.data[indexRgb+1]&0xFF) + 256;
+				int b = (rgb.data[indexRgb+2]&0xFF) + 512;
+
+				xyz.data[indexXyz]   = TABLE_X[r] + TABLE_X[g] + TABLE_X[b];
+				xyz.data[indexXyz+1] = TABLE_Y[r] + TABLE_Y[g] + TABLE_Y[b];
+				xyz.data[indexXyz+2] = TABLE_Z[r] + TABLE_Z[g] + TABLE_Z[b];
+			}
+		}
+	}
+
+	public static void rgbToXyz_F32( MultiSpectral<ImageFloat32> rgb , MultiSpectral<ImageFloat32> xyz ,
+									 int y0 , int y1 ) {
+		float R[] = rgb.getBand(0).data;
+		float G[] = rgb.getBand(1).data;
+		float B[] = rgb.getBand(2).data;
+
+		float X[] = xyz.getBand(0).data;
+		float Y[] = xyz.getBand(1).data;
+		float Z[] = xyz.getBand(2).data;
+
+		for( int row = y0; row < y1; row++ ) {
+			int indexXyz = xyz.startIndex + row*xyz.stride;
+			int indexRgb = rgb.startIndex + row*rgb.stride;
+
+			for( int col = 0; col < xyz.width; col++ , indexXyz++ , indexRgb++) {
+				float r = R[indexRgb];
+				float g = G[indexRgb];
+				float b = B[indexRgb];
+
+				X[indexXyz] = X_R*r + X_G*g + X_B*b;
+				Y[indexXyz] = Y_R*r + Y_G*g + Y_B*b;
+				Z[indexXyz] = Z_R*r + Z_G*g + Z_B*b;
+			}
+		}
+	}
+
+	public static void rgbToXyz_F32( InterleavedF32 rgb , InterleavedF32 xyz , int y0 , int y1 ) {
+		for( int row = y0; row < y1; row++ ) {
+			int indexXyz = xyz.startIndex + row*xyz.stride;
+			int indexRgb = rgb.startIndex + row*rgb.stride;
+			int end = indexXyz + xyz.width*3;
+
+			for( ; indexXyz < end; indexXyz += 3 , indexRgb += 3 ) {
+				float r = rgb.data[indexRgb];
+				float g = rgb.data[indexRgb+1];
+				float b = rgb.data[indexRgb+2];
+
+				xyz.data[indexXyz]   = X_R*r + X_G*g + X_B*b;
+				xyz.data[indexXyz+1] = Y_R*r + Y_G*g + Y_B*b;
+				xyz.data[indexXyz+2] = Z_R*r + Z_G*g + Z_B*b;
+			}
+		}
+	}
+}
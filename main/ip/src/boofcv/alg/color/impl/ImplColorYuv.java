@@ -0,0 +1,230 @@
+/*
+ * Copyright (c) 2011-2015, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.color.impl;
+
+import boofcv.alg.color.ColorYuv;
+import boofcv.struct.image.*;
+
+/**
+ * Implementation of image conversions in {@link ColorYuv}.  Only rows from y0 to y1, exclusive, are converted
+ * so that the image can be split between threads, see {@link ImplColorYuv_MT}.  The 8-bit YCbCr conversions
+ * are done entirely with fixed point integer math.
+ *
+ * @author Peter Abeles
+ */
+public class ImplColorYuv {
+
+	public static void yuvToRgb_F32( MultiSpectral<ImageFloat32> yuv , MultiSpectral<ImageFloat32> rgb ,
+									 int y0 , int y1 ) {
+		float Y[] = yuv.getBand(0).data;
+		float U[] = yuv.getBand(1).data;
+		float V[] = yuv.getBand(2).data;
+
+		float R[] = rgb.getBand(0).data;
+		float G[] = rgb.getBand(1).data;
+		float B[] = rgb.getBand(2).data;
+
+		for( int row = y0; row < y1; row++ ) {
+			int indexYuv = yuv.startIndex + row*yuv.stride;
+			int indexRgb = rgb.startIndex + row*rgb.stride;
+
+			for( int col = 0; col < yuv.width; col++ , indexYuv++ , indexRgb++) {
+				float y = Y[indexYuv];
+				float u = U[indexYuv];
+				float v = V[indexYuv];
+
+				R[indexRgb] = y + 1.13983f*v;
+				G[indexRgb] = y - 0.39465f*u - 0.58060f*v;
+				B[indexRgb] = y + 2.032f*u;
+			}
+		}
+	}
+
+	public static void yuvToRgb_F32( InterleavedF32 yuv , InterleavedF32 rgb , int y0 , int y1 ) {
+		float out[] = rgb.data;
+
+		for( int row = y0; row < y1; row++ ) {
+			int indexYuv = yuv.startIndex + row*yuv.stride;
+			int indexRgb = rgb.startIndex + row*rgb.stride;
+			int end = indexYuv + yuv.width*3;
+
+			for( ; indexYuv < end; indexYuv += 3 , indexRgb += 3 ) {
+				float y = yuv.data[indexYuv];
+				float u = yuv.data[indexYuv+1];
+				float v = yuv.data[indexYuv+2];
+
+				out[indexRgb  ] = y + 1.13983f*v;
+				out[indexRgb+1] = y - 0.39465f*u - 0.58060f*v;
+				out[indexRgb+2] = y + 2.032f*u;
+			}
+		}
+	}
+
+	public static void rgbToYuv_F32( MultiSpectral<ImageFloat32> rgb , MultiSpectral<ImageFloat32> yuv ,
+									 int y0 , int y1 ) {
+		float R[] = rgb.getBand(0).data;
+		float G[] = rgb.getBand(1).data;
+		float B[] = rgb.getBand(2).data;
+
+		float Y[] = yuv.getBand(0).data;
+		float U[] = yuv.getBand(1).data;
+		float V[] = yuv.getBand(2).data;
+
+		for( int row = y0; row < y1; row++ ) {
+			int indexYuv = yuv.startIndex + row*yuv.stride;
+			int indexRgb = rgb.startIndex + row*rgb.stride;
+
+			for( int col = 0; col < yuv.width; col++ , indexYuv++ , indexRgb++) {
+				float r = R[indexRgb];
+				float g = G[indexRgb];
+				float b = B[indexRgb];
+
+				float y = 0.299f*r + 0.587f*g + 0.114f*b;
+
+				Y[indexYuv] = y;
+				U[indexYuv] = 0.492f*(b-y);
+				V[indexYuv] = 0.877f*(r-y);
+			}
+		}
+	}
+
+	public static void rgbToYuv_F32( InterleavedF32 rgb , InterleavedF32 yuv , int y0 , int y1 ) {
+		float out[] = yuv.data;
+
+		for( int row = y0; row < y1; row++ ) {
+			int indexYuv = yuv.startIndex + row*yuv.stride;
+			int indexRgb = rgb.startIndex + row*rgb.stride;
+			int end = indexRgb + rgb.width*3;
+
+			for( ; indexRgb < end; indexYuv += 3 , indexRgb += 3 ) {
+				float r = rgb.data[indexRgb];
+				float g = rgb.data[indexRgb+1];
+				float b = rgb.data[indexRgb+2];
+
+				float y = 0.299f*r + 0.587f*g + 0.114f*b;
+
+				out[indexYuv  ] = y;
+				out[indexYuv+1] = 0.492f*(b-y);
+				out[indexYuv+2] = 0.877f*(r-y);
+			}
+		}
+	}
+
+	public static void rgbToYCbCr_U8( MultiSpectral<ImageUInt8> rgb , MultiSpectral<ImageUInt8> yuv ,
+									  int y0 , int y1 ) {
+		byte R[] = rgb.getBand(0).data;
+		byte G[] = rgb.getBand(1).data;
+		byte B[] = rgb.getBand(2).data;
+
+		byte Y[] = yuv.getBand(0).data;
+		byte U[] = yuv.getBand(1).data;
+		byte V[] = yuv.getBand(2).data;
+
+		for( int row = y0; row < y1; row++ ) {
+			int indexYuv = yuv.startIndex + row*yuv.stride;
+			int indexRgb = rgb.startIndex + row*rgb.stride;
+
+			for( int col = 0; col < yuv.width; col++ , indexYuv++ , indexRgb++) {
+				int r = R[indexRgb]&0xFF;
+				int g = G[indexRgb]&0xFF;
+				int b = B[indexRgb]&0xFF;
+
+				Y[indexYuv] = (byte)((( 187*r + 629*g + 63*b ) >> 10) + 16);
+				U[indexYuv] = (byte)(((-103*r - 346*g + 450*b) >> 10) + 128);
+				V[indexYuv] = (byte)((( 450*r - 409*g - 41*b ) >> 10) + 128);
+			}
+		}
+	}
+
+	public static void rgbToYCbCr_U8( InterleavedU8 rgb , InterleavedU8 yuv , int y0 , int y1 ) {
+		byte out[] = yuv.data;
+
+		for( int row = y0; row < y1; row++ ) {
+			int indexYuv = yuv.startIndex + row*yuv.stride;
+			int indexRgb = rgb.startIndex + row*rgb.stride;
+			int end = indexRgb + rgb.width*3;
+
+			for( ; indexRgb < end; indexYuv += 3 , indexRgb += 3 ) {
+				int r = rgb.data[indexRgb  ]&0xFF;
+				int g = rgb.data[indexRgb+1]&0xFF;
+				int b = rgb.data[indexRgb+2]&0xFF;
+
+				out[indexYuv  ] = (byte)((( 187*r + 629*g + 63*b ) >> 10) + 16);
+				out[indexYuv+1] = (byte)(((-103*r - 346*g + 450*b) >> 10) + 128);
+				out[indexYuv+2] = (byte)((( 450*r - 409*g - 41*b ) >> 10) + 128);
+			}
+		}
+	}
+
+	public static void ycbcrToRgb_U8( MultiSpectral<ImageUInt8> yuv , MultiSpectral<ImageUInt8> rgb ,
+									  int y0 , int y1 ) {
+		byte Y[] = yuv.getBand(0).data;
+		byte U[] = yuv.getBand(1).data;
+		byte V[] = yuv.getBand(2).data;
+
+		byte R[] = rgb.getBand(0).data;
+		byte G[] = rgb.getBand(1).data;
+		byte B[] = rgb.getBand(2).data;
+
+		for( int row = y0; row < y1; row++ ) {
+			int indexYuv = yuv.startIndex + row*yuv.stride;
+			int indexRgb = rgb.startIndex + row*rgb.stride;
+
+			for( int col = 0; col < yuv.width; col++ , indexYuv++ , indexRgb++) {
+				int y = 1191*((Y[indexYuv]&0xFF) - 16);
+				int cb = (U[indexYuv]&0xFF) - 128;
+				int cr = (V[indexYuv]&0xFF) - 128;
+
+				if( y < 0 ) y = 0;
+
+				R[indexRgb] = clamp((y + 1836*cr) >> 10);
+				G[indexRgb] = clamp((y - 547*cr - 218*cb) >> 10);
+				B[indexRgb] = clamp((y + 2165*cb) >> 10);
+			}
+		}
+	}
+
+	public static void ycbcrToRgb_U8( InterleavedU8 yuv , InterleavedU8 rgb , int y0 , int y1 ) {
+		byte out[] = rgb.data;
+
+		for( int row = y0; row < y1; row++ ) {
+			int indexYuv = yuv.startIndex + row*yuv.stride;
+			int indexRgb = rgb.startIndex + row*rgb.stride;
+			int end = indexYuv + yuv.width*3;
+
+			for( ; indexYuv < end; indexYuv += 3 , indexRgb += 3 ) {
+				int y = 1191*((yuv.data[indexYuv]&0xFF) - 16);
+				int cb = (yuv.data[indexYuv+1]&0xFF) - 128;
+				int cr = (yuv.data[indexYuv+2]&0xFF) - 128;
+
+				if( y < 0 ) y = 0;
+
+				out[indexRgb  ] = clamp((y + 1836*cr) >> 10);
+				out[indexRgb+1] = clamp((y - 547*cr - 218*cb) >> 10);
+				out[indexRgb+2] = clamp((y + 2165*cb) >> 10);
+			}
+		}
+	}
+
+	private static byte clamp( int value ) {
+		if( value < 0 ) return 0;
+		else if( value > 255 ) return (byte)255;
+		return (byte)value;
+	}
+}
@@ -0,0 +1,41 @@
+/*
+ * Copyright (c) 2011-2015, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.denoise;
+
+import boofcv.alg.transform.wavelet.WaveletSubbandStatistics;
+import boofcv.struct.image.ImageSingleBand;
+
+
+/**
+ * Wavelet denoising algorithm which can make use of {@link WaveletSubbandStatistics} that were computed
+ * along with the transform, instead of making extra passes through the transform to compute them.
+ *
+ * @author Peter Abeles
+ */
+public interface DenoiseWaveletStatistics<T extends ImageSingleBand> extends DenoiseWavelet<T> {
+
+	/**
+	 * Removes noise from the multi-level wavelet transform.
+	 *
+	 * @param transform Transform of the original image.
+	 * @param numLevels Number of levels in the transform.
+	 * @param stats Statistics of the transform's subbands.
+	 */
+	public void denoise( T transform , int numLevels , WaveletSubbandStatistics stats );
+}
@@ -18,8 +18,10 @@
 
 package boofcv.alg.denoise.wavelet;
 
+import boofcv.alg.denoise.DenoiseWaveletStatistics;
 import boofcv.alg.denoise.ShrinkThresholdRule;
 import boofcv.alg.misc.ImageStatistics;
+import boofcv.alg.transform.wavelet.WaveletSubbandStatistics;
 import boofcv.struct.image.ImageFloat32;
 
 
@@ -42,10 +44,14 @@ import boofcv.struct.image.ImageFloat32;
  *
  * @author Peter Abeles
  */
-public class DenoiseBayesShrink_F32 extends SubbandShrink<ImageFloat32> {
-
+public class DenoiseBayesShrink_F32 extends SubbandShrink<ImageFloat32>
+		implements DenoiseWaveletStatistics<ImageFloat32>
+{
 	float noiseVariance;
 
+	// statistics computed along with the transform.  null if not available
+	WaveletSubbandStatistics stats;
+
 	public DenoiseBayesShrink_F32( ShrinkThresholdRule<ImageFloat32> rule ) {
 		super(rule);
 	}
@@ -53,6 +59,26 @@ public class DenoiseBayesShrink_F32 extends SubbandShrink<ImageFloat32> {
 	@Override
 	protected Number computeThreshold( ImageFloat32 subband )
 	{
+		float varianceY;
+		if( stats != null && stats.isShape(level,subband.width,subband.height) ) {
+			varianceY = (float)stats.getMeanSquare(level,band);
+		} else {
+			varianceY = computeVariance(subband);
+		}
+
+		// signal standard deviation
+		float inner = varianceY-noiseVariance;
+
+		if( inner < 0 )
+			return Float.POSITIVE_INFINITY;
+		else
+			return noiseVariance/(float)Math.sqrt(inner);
+	}
+
+	/**
+	 * Computes the variance of the coefficients in the subband, which are modeled as being zero mean
+	 */
+	private float computeVariance( ImageFloat32 subband ) {
 		// the maximum magnitude coefficient is used to normalize all the other coefficients
 		// and reduce numerical round-off error
 		float max = ImageStatistics.maxAbs(subband);
@@ -68,15 +94,7 @@ public class DenoiseBayesShrink_F32 extends SubbandShrink<ImageFloat32> {
 		}
 		// undo normalization.
 		// these coefficients are modeled as being zero mean, so the variance can be computed this way
-		varianceY = (varianceY/(subband.width*subband.height))*max*max;
-
-		// signal standard deviation
-		float inner = varianceY-noiseVariance;
-
-		if( inner < 0 )
-			return Float.POSITIVE_INFINITY;
-		else
-			return noiseVariance/(float)Math.sqrt(inner);
+		return (varianceY/(subband.width*subband.height))*max*max;
 	}
 
 	@Override
@@ -93,4 +111,14 @@ public class DenoiseBayesShrink_F32 extends SubbandShrink<ImageFloat32> {
 
 		performShrinkage(transform,numLevels);
 	}
+
+	@Override
+	public void denoise( ImageFloat32 transform , int numLevels , WaveletSubbandStatistics stats ) {
+		this.stats = stats;
+		noiseVariance = stats.getNoiseStdDev();
+		noiseVariance *= noiseVariance;
+
+		performShrinkage(transform,numLevels);
+		this.stats = null;
+	}
 }
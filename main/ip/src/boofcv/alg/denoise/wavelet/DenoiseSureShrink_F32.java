@@ -18,6 +18,8 @@
 
 package boofcv.alg.denoise.wavelet;
 
+import boofcv.alg.denoise.DenoiseWaveletStatistics;
+import boofcv.alg.transform.wavelet.WaveletSubbandStatistics;
 import boofcv.struct.image.ImageFloat32;
 
 import java.util.Arrays;
@@ -41,8 +43,9 @@ import java.util.Arrays;
  *
  * @author Peter Abeles
  */
-public class DenoiseSureShrink_F32 extends SubbandShrink<ImageFloat32> {
-
+public class DenoiseSureShrink_F32 extends SubbandShrink<ImageFloat32>
+		implements DenoiseWaveletStatistics<ImageFloat32>
+{
 	float noiseSigma;
 
 	public DenoiseSureShrink_F32() {
@@ -95,4 +98,11 @@ public class DenoiseSureShrink_F32 extends SubbandShrink<ImageFloat32> {
 
 		performShrinkage(transform,numLevels);
 	}
+
+	@Override
+	public void denoise( ImageFloat32 transform , int numLevels , WaveletSubbandStatistics stats ) {
+		noiseSigma = stats.getNoiseStdDev();
+
+		performShrinkage(transform,numLevels);
+	}
 }
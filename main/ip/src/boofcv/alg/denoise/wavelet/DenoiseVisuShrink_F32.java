@@ -18,9 +18,10 @@
 
 package boofcv.alg.denoise.wavelet;
 
-import boofcv.alg.denoise.DenoiseWavelet;
+import boofcv.alg.denoise.DenoiseWaveletStatistics;
 import boofcv.alg.denoise.ShrinkThresholdRule;
 import boofcv.alg.transform.wavelet.UtilWavelet;
+import boofcv.alg.transform.wavelet.WaveletSubbandStatistics;
 import boofcv.struct.image.ImageFloat32;
 
 
@@ -37,7 +38,7 @@ import boofcv.struct.image.ImageFloat32;
  *
  * @author Peter Abeles
  */
-public class DenoiseVisuShrink_F32 implements DenoiseWavelet<ImageFloat32> {
+public class DenoiseVisuShrink_F32 implements DenoiseWaveletStatistics<ImageFloat32> {
 
 	ShrinkThresholdRule<ImageFloat32> rule = new ShrinkThresholdSoft_F32();
 
@@ -50,6 +51,26 @@ public class DenoiseVisuShrink_F32 implements DenoiseWavelet<ImageFloat32> {
 	 */
 	@Override
 	public void denoise( ImageFloat32 transform , int numLevels ) {
+		final int h = transform.height;
+		final int w = transform.width;
+
+		ImageFloat32 subbandHH = transform.subimage(w/2,h/2,w,h, null);
+		float sigma = UtilDenoiseWavelet.estimateNoiseStdDev(subbandHH,null);
+
+		shrink(transform,numLevels,sigma);
+	}
+
+	@Override
+	public void denoise( ImageFloat32 transform , int numLevels , WaveletSubbandStatistics stats ) {
+		shrink(transform,numLevels,stats.getNoiseStdDev());
+	}
+
+	/**
+	 * Applies the universal threshold to all the wavelet coefficients
+	 *
+	 * @param sigma Estimated noise standard deviation
+	 */
+	private void shrink( ImageFloat32 transform , int numLevels , float sigma ) {
 		int scale = UtilWavelet.computeScale(numLevels);
 
 		final int h = transform.height;
@@ -59,8 +80,8 @@ public class DenoiseVisuShrink_F32 implements DenoiseWavelet<ImageFloat32> {
 		final int innerWidth = w/scale;
 		final int innerHeight = h/scale;
 
+		// the threshold only depends on the HH subband's size
 		ImageFloat32 subbandHH = transform.subimage(w/2,h/2,w,h, null);
-		float sigma = UtilDenoiseWavelet.estimateNoiseStdDev(subbandHH,null);
 		float threshold = (float) UtilDenoiseWavelet.universalThreshold(subbandHH,sigma);
 
 		// apply same threshold to all wavelet coefficients
@@ -20,6 +20,7 @@ package boofcv.alg.denoise.wavelet;
 
 import boofcv.alg.denoise.DenoiseWavelet;
 import boofcv.alg.denoise.ShrinkThresholdRule;
+import boofcv.alg.transform.wavelet.WaveletSubbandStatistics;
 import boofcv.struct.image.ImageSingleBand;
 
 
@@ -34,6 +35,10 @@ public abstract class SubbandShrink<I extends ImageSingleBand<I>> implements Den
 	// specifies how the threshold is applied to each pixel in the image
 	protected ShrinkThresholdRule<I> rule;
 
+	// level and subband which the threshold is being computed for
+	protected int level;
+	protected int band;
+
 	protected SubbandShrink(ShrinkThresholdRule<I> rule) {
 		this.rule = rule;
 	}
@@ -57,6 +62,7 @@ public abstract class SubbandShrink<I extends ImageSingleBand<I>> implements Den
 
 		// step through each layer in the pyramid.
 		for( int i = 0; i < numLevels; i++ ) {
+			level = i;
 			int w = transform.width;
 			int h = transform.height;
 			int ww = w/2;
@@ -65,6 +71,7 @@ public abstract class SubbandShrink<I extends ImageSingleBand<I>> implements Den
 			I subband;
 
 			// HL
+			band = WaveletSubbandStatistics.HL;
 			subband = transform.subimage(ww,0,w,hh, null);
 			threshold = computeThreshold(subband);
 			rule.process(subband,threshold);
@@ -72,6 +79,7 @@ public abstract class SubbandShrink<I extends ImageSingleBand<I>> implements Den
 //			System.out.print("HL = "+threshold);
 
 			// LH
+			band = WaveletSubbandStatistics.LH;
 			subband = transform.subimage(0,hh,ww,h, null);
 			threshold = computeThreshold(subband);
 			rule.process(subband,threshold);
@@ -79,6 +87,7 @@ public abstract class SubbandShrink<I extends ImageSingleBand<I>> implements Den
 //			System.out.print("  LH = "+threshold);
 
 			// HH
+			band = WaveletSubbandStatistics.HH;
 			subband = transform.subimage(ww,hh,w,h, null);
 			threshold = computeThreshold(subband);
 			rule.process(subband,threshold);
@@ -0,0 +1,2104 @@
+/*
+ * Copyright (c) 2011-2015, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package boofcv.alg.misc;
+
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.concurrency.IntRangeTask;
+import boofcv.struct.image.*;
+
+
+/**
+ * <p>
+ * Concurrent implementations of the copy, fill, flip, and rotate functions in {@link ImageMiscOps} for single
+ * band and interleaved images.  Rows are split into blocks which are processed by {@link BoofConcurrency}.
+ * Images with less than {@link BoofConcurrency#MIN_BLOCK_PIXELS} elements per block are processed by the
+ * calling thread.  Functions which use a random number generator have no concurrent version since
+ * their output depends on the order pixels are processed in.
+ * </p>
+ *
+ * <p>DO NOT MODIFY: Generated by {@link boofcv.alg.misc.GenerateImageMiscOps_MT}.</p>
+ *
+ * @author Peter Abeles
+ */
+public class ImageMiscOps_MT {
+
+	/**
+	 * Copies a rectangular region from one image into another.<br>
+	 * output[dstX:(dstX+width) , dstY:(dstY+height-1)] = input[srcX:(srcX+width) , srcY:(srcY+height-1)]
+	 *
+	 * @param srcX x-coordinate of corner in input image
+	 * @param srcY y-coordinate of corner in input image
+	 * @param dstX x-coordinate of corner in output image
+	 * @param dstY y-coordinate of corner in output image
+	 * @param width Width of region to be copied
+	 * @param height Height of region to be copied
+	 * @param input Input image
+	 * @param output output image
+	 */
+	public static void copy( final int srcX , final int srcY , final int dstX , final int dstY ,
+							 final int width , final int height ,
+							 final ImageInt8 input , final ImageInt8 output ) {
+
+		if( input.width < srcX+width || input.height < srcY+height )
+			throw new IllegalArgumentException("Copy region must be contained input image");
+		if( output.width < dstX+width || output.height < dstY+height )
+			throw new IllegalArgumentException("Copy region must be contained output image");
+
+		final int rowLength = width;
+
+		BoofConcurrency.loopBlocks(0,height,BoofConcurrency.minBlockRows(rowLength),new IntRangeTask() {
+			@Override
+			public void call(int y0, int y1) {
+				for( int y = y0; y < y1; y++ ) {
+					int indexSrc = input.startIndex + (srcY + y) * input.stride + srcX;
+					int indexDst = output.startIndex + (dstY + y) * output.stride + dstX;
+
+					System.arraycopy(input.data,indexSrc,output.data,indexDst,rowLength);
+				}
+			}
+		});
+	}
+
+	/**
+	 * Fills the whole image with the specified value
+	 *
+	 * @param input An image.
+	 * @param value The value that the image is being filled with.
+	 */
+	public static void fill( final ImageInt8 input, final int value) {
+		final int rowLength = input.width;
+
+		BoofConcurrency.loopBlocks(0,input.height,BoofConcurrency.minBlockRows(rowLength),new IntRangeTask() {
+			@Override
+			public void call(int y0, int y1) {
+				for( int y = y0; y < y1; y++ ) {
+					int index = input.startIndex + y * input.stride;
+					int end = index + rowLength;
+					for( ; index < end; index++ ) {
+						input.data[index] = (byte)value;
+					}
+				}
+			}
+		});
+	}
+
+	/**
+	 * Flips the image from top to bottom
+	 */
+	public static void flipVertical( final ImageInt8 input ) {
+		final int rowLength = input.width;
+
+		// each row in the top half is swapped with a row in the bottom half
+		BoofConcurrency.loopBlocks(0,input.height/2,BoofConcurrency.minBlockRows(rowLength*2),new IntRangeTask() {
+			@Override
+			public void call(int y0, int y1) {
+				for( int y = y0; y < y1; y++ ) {
+					int index1 = input.startIndex + y * input.stride;
+					int index2 = input.startIndex + (input.height - y - 1) * input.stride;
+
+					int end = index1 + rowLength;
+
+					while( index1 < end ) {
+						int tmp = input.data[index1];
+						input.data[index1++] = input.data[index2];
+						input.data[index2++] = (byte)tmp;
+					}
+				}
+			}
+		});
+	}
+
+	/**
+	 * Flips the image from left to right
+	 */
+	public static void flipHorizontal( final ImageInt8 input ) {
+		final int w2 = input.width/2;
+
+		BoofConcurrency.loopBlocks(0,input.height,BoofConcurrency.minBlockRows(input.width),new IntRangeTask() {
+			@Override
+			public void call(int y0, int y1) {
+				for( int y = y0; y < y1; y++ ) {
+					int index1 = input.startIndex + y * input.stride;
+					int index2 = index1 + input.width-1;
+
+					int end = index1 + w2;
+
+					while( index1 < end ) {
+						int tmp = input.data[index1];
+						input.data[index1++] = input.data[index2];
+						input.data[index2--] = (byte)tmp;
+					}
+				}
+			}
+		});
+	}
+
+	/**
+	 * Rotates the image 90 degrees in the clockwise direction.
+	 */
+	public static void rotateCW( final ImageInt8 input , final ImageInt8 output ) {
+		if( input.width != output.height || input.height != output.width )
+			throw new IllegalArgumentException("Incompatible shapes");
+
+		// output(x,y) = input(y,h-x)
+		final int h = input.height-1;
+
+		BoofConcurrency.loopBlocks(0,output.height,BoofConcurrency.minBlockRows(output.width),new IntRangeTask() {
+			@Override
+			public void call(int y0, int y1) {
+				for( int y = y0; y < y1; y++ ) {
+					int indexIn = input.startIndex + h*input.stride + y;
+					int indexOut = output.startIndex + y*output.stride;
+					int end = indexOut + output.width;
+
+					while( indexOut < end ) {
+						output.data[indexOut++] = input.data[indexIn];
+						indexIn += -input.stride;
+					}
+				}
+			}
+		});
+	}
+
+	/**
+	 * Rotates the image 90 degrees in the counter-clockwise direction.
+	 */
+	public static void rotateCCW( final ImageInt8 input , final ImageInt8 output ) {
+		if( input.width != output.height || input.height != output.width )
+			throw new IllegalArgumentException("Incompatible shapes");
+
+		// output(x,y) = input(w-y,x)
+		final int w = input.width-1;
+
+		BoofConcurrency.loopBlocks(0,output.height,BoofConcurrency.minBlockRows(output.width),new IntRangeTask() {
+			@Override
+			public void call(int y0, int y1) {
+				for( int y = y0; y < y1; y++ ) {
+					int indexIn = input.startIndex + (w-y);
+					int indexOut = output.startIndex + y*output.stride;
+					int end = indexOut + output.width;
+
+					while( indexOut < end ) {
+						output.data[indexOut++] = input.data[indexIn];
+						indexIn += input.stride;
+					}
+				}
+			}
+		});
+	}
+
+	/**
+	 * Copies a rectangular region from one image into another.<br>
+	 * output[dstX:(dstX+width) , dstY:(dstY+height-1)] = input[srcX:(srcX+width) , srcY:(srcY+height-1)]
+	 *
+	 * @param srcX x-coordinate of corner in input image
+	 * @param srcY y-coordinate of corner in input image
+	 * @param dstX x-coordinate of corner in output image
+	 * @param dstY y-coordinate of corner in output image
+	 * @param width Width of region to be copied
+	 * @param height Height of region to be copied
+	 * @param input Input image
+	 * @param output output image
+	 */
+	public static void copy( final int srcX , final int srcY , final int dstX , final int dstY ,
+							 final int width , final int height ,
+							 final InterleavedI8 input , final InterleavedI8 output ) {
+
+		if( input.width < srcX+width || input.height < srcY+height )
+			throw new IllegalArgumentException("Copy region must be contained input image");
+		if( output.width < dstX+width || output.height < dstY+height )
+			throw new IllegalArgumentException("Copy region must be contained output image");
+		if( input.numBands != output.numBands )
+			throw new IllegalArgumentException("Number of bands must be the same");
+
+		final int rowLength = width*input.numBands;
+
+		BoofConcurrency.loopBlocks(0,height,BoofConcurrency.minBlockRows(rowLength),new IntRangeTask() {
+			@Override
+			public void call(int y0, int y1) {
+				for( int y = y0; y < y1; y++ ) {
+					int indexSrc = input.startIndex + (srcY + y) * input.stride + srcX*input.numBands;
+					int indexDst = output.startIndex + (dstY + y) * output.stride + dstX*input.numBands;
+
+					System.arraycopy(input.data,indexSrc,output.data,indexDst,rowLength);
+				}
+			}
+		});
+	}
+
+	/**
+	 * Fills the whole image with the specified value
+	 *
+	 * @param input An image.
+	 * @param value The value that the image is being filled with.
+	 */
+	public static void fill( final InterleavedI8 input, final int value) {
+		final int rowLength = input.width*input.numBands;
+
+		BoofConcurrency.loopBlocks(0,input.height,BoofConcurrency.minBlockRows(rowLength),new IntRangeTask() {
+			@Override
+			public void call(int y0, int y1) {
+				for( int y = y0; y < y1; y++ ) {
+					int index = input.startIndex + y * input.stride;
+					int end = index + rowLength;
+					for( ; index < end; index++ ) {
+						input.data[index] = (byte)value;
+					}
+				}
+			}
+		});
+	}
+
+	/**
+	 * Flips the image from top to bottom
+	 */
+	public static void flipVertical( final InterleavedI8 input ) {
+		final int rowLength = input.width*input.numBands;
+
+		// each row in the top half is swapped with a row in the bottom half
+		BoofConcurrency.loopBlocks(0,input.height/2,BoofConcurrency.minBlockRows(rowLength*2),new IntRangeTask() {
+			@Override
+			public void call(int y0, int y1) {
+				for( int y = y0; y < y1; y++ ) {
+					int index1 = input.startIndex + y * input.stride;
+					int index2 = input.startIndex + (input.height - y - 1) * input.stride;
+
+					int end = index1 + rowLength;
+
+					while( index1 < end ) {
+						int tmp = input.data[index1];
+						input.data[index1++] = input.data[index2];
+						input.data[index2++] = (byte)tmp;
+					}
+				}
+			}
+		});
+	}
+
+	/**
+	 * Flips the image from left to right
+	 */
+	public static void flipHorizontal( final InterleavedI8 input ) {
+		final int w2 = input.width/2;
+
+		BoofConcurrency.loopBlocks(0,input.height,BoofConcurrency.minBlockRows(input.width*input.numBands),new IntRangeTask() {
+			@Override
+			public void call(int y0, int y1) {
+				for( int y = y0; y < y1; y++ ) {
+					int index1 = input.startIndex + y * input.stride;
+					int index2 = index1 + (input.width-1)*input.numBands;
+
+					int end = index1 + w2*input.numBands;
+
+					while( index1 < end ) {
+						for( int band = 0; band < input.numBands; band++ ) {
+							int tmp = input.data[index1+band];
+							input.data[index1+band] = input.data[index2+band];
+							input.data[index2+band] = (byte)tmp;
+						}
+						index1 += input.numBands;
+						index2 -= input.numBands;
+					}
+				}
+			}
+		});
+	}
+
+	/**
+	 * Rotates the image 90 degrees in the clockwise direction.
+	 */
+	public static void rotateCW( final InterleavedI8 input , final InterleavedI8 output ) {
+		if( input.width != output.height || input.height != output.width )
+			throw new IllegalArgumentException("Incompatible shapes");
+		if( input.numBands != output.numBands )
+			throw new IllegalArgumentException("Number of bands must be the same");
+
+		// output(x,y) = input(y,h-x)
+		final int h = input.height-1;
+
+		BoofConcurrency.loopBlocks(0,output.height,BoofConcurrency.minBlockRows(output.width*output.numBands),new IntRangeTask() {
+			@Override
+			public void call(int y0, int y1) {
+				for( int y = y0; y < y1; y++ ) {
+					int indexIn = input.startIndex + h*input.stride + y*input.numBands;
+					int indexOut = output.startIndex + y*output.stride;
+					int end = indexOut + output.width*output.numBands;
+
+					while( indexOut < end ) {
+						for( int band = 0; band < input.numBands; band++ ) {
+							output.data[indexOut++] = input.data[indexIn+band];
+						}
+						indexIn += -input.stride;
+					}
+				}
+			}
+		});
+	}
+
+	/**
+	 * Rotates the image 90 degrees in the counter-clockwise direction.
+	 */
+	public static void rotateCCW( final InterleavedI8 input , final InterleavedI8 output ) {
+		if( input.width != output.height || input.height != output.width )
+			throw new IllegalArgumentException("Incompatible shapes");
+		if( input.numBands != output.numBands )
+			throw new IllegalArgumentException("Number of bands must be the same");
+
+		// output(x,y) = input(w-y,x)
+		final int w = input.width-1;
+
+		BoofConcurrency.loopBlocks(0,output.height,BoofConcurrency.minBlockRows(output.width*output.numBands),new IntRangeTask() {
+			@Override
+			public void call(int y0, int y1) {
+				for( int y = y0; y < y1; y++ ) {
+					int indexIn = input.startIndex + (w-y)*input.numBands;
+					int indexOut = output.startIndex + y*output.stride;
+					int end = indexOut + output.width*output.numBands;
+
+					while( indexOut < end ) {
+						for( int band = 0; band < input.numBands; band++ ) {
+							output.data[indexOut++] = input.data[indexIn+band];
+						}
+						indexIn += input.stride;
+					}
+				}
+			}
+		});
+	}
+
+	/**
+	 * Copies a rectangular region from one image into another.<br>
+	 * output[dstX:(dstX+width) , dstY:(dstY+height-1)] = input[srcX:(srcX+width) , srcY:(srcY+height-1)]
+	 *
+	 * @param srcX x-coordinate of corner in input image
+	 * @param srcY y-coordinate of corner in input image
+	 * @param dstX x-coordinate of corner in output image
+	 * @param dstY y-coordinate of corner in output image
+	 * @param width Width of region to be copied
+	 * @param height Height of region to be copied
+	 * @param input Input image
+	 * @param output output image
+	 */
+	public static void copy( final int srcX , final int srcY , final int dstX , final int dstY ,
+							 final int width , final int height ,
+							 final ImageInt16 input , final ImageInt16 output ) {
+
+		if( input.width < srcX+width || input.height < srcY+height )
+			throw new IllegalArgumentException("Copy region must be contained input image");
+		if( output.width < dstX+width || output.height < dstY+height )
+			throw new IllegalArgumentException("Copy region must be contained output image");
+
+		final int rowLength = width;
+
+		BoofConcurrency.loopBlocks(0,height,BoofConcurrency.minBlockRows(rowLength),new IntRangeTask() {
+			@Override
+			public void call(int y0, int y1) {
+				for( int y = y0; y < y1; y++ ) {
+					int indexSrc = input.startIndex + (srcY + y) * input.stride + srcX;
+					int indexDst = output.startIndex + (dstY + y) * output.stride + dstX;
+
+					System.arraycopy(input.data,indexSrc,output.data,indexDst,rowLength);
+				}
+			}
+		});
+	}
+
+	/**
+	 * Fills the whole image with the specified value
+	 *
+	 * @param input An image.
+	 * @param value The value that the image is being filled with.
+	 */
+	public static void fill( final ImageInt16 input, final int value) {
+		final int rowLength = input.width;
+
+		BoofConcurrency.loopBlocks(0,input.height,BoofConcurrency.minBlockRows(rowLength),new IntRangeTask() {
+			@Override
+			public void call(int y0, int y1) {
+				for( int y = y0; y < y1; y++ ) {
+					int index = input.startIndex + y * input.stride;
+					int end = index + rowLength;
+					for( ; index < end; index++ ) {
+						input.data[index] = (short)value;
+					}
+				}
+			}
+		});
+	}
+
+	/**
+	 * Flips the image from top to bottom
+	 */
+	public static void flipVertical( final ImageInt16 input ) {
+		final int rowLength = input.width;
+
+		// each row in the top half is swapped with a row in the bottom half
+		BoofConcurrency.loopBlocks(0,input.height/2,BoofConcurrency.minBlockRows(rowLength*2),new IntRangeTask() {
+			@Override
+			public void call(int y0, int y1) {
+				for( int y = y0; y < y1; y++ ) {
+					int index1 = input.startIndex + y * input.stride;
+					int index2 = input.startIndex + (input.height - y - 1) * input.stride;
+
+					int end = index1 + rowLength;
+
+					while( index1 < end ) {
+						int tmp = input.data[index1];
+						input.data[index1++] = input.data[index2];
+						input.data[index2++] = (short)tmp;
+					}
+				}
+			}
+		});
+	}
+
+	/**
+	 * Flips the image from left to right
+	 */
+	public static void flipHorizontal( final ImageInt16 input ) {
+		final int w2 = input.width/2;
+
+		BoofConcurrency.loopBlocks(0,input.height,BoofConcurrency.minBlockRows(input.width),new IntRangeTask() {
+			@Override
+			public void call(int y0, int y1) {
+				for( int y = y0; y < y1; y++ ) {
+					int index1 = input.startIndex + y * input.stride;
+					int index2 = index1 + input.width-1;
+
+					int end = index1 + w2;
+
+					while( index1 < end ) {
+						int tmp = input.data[index1];
+						input.data[index1++] = input.data[index2];
+						input.data[index2--] = (short)tmp;
+					}
+				}
+			}
+		});
+	}
+
+	/**
+	 * Rotates the image 90 degrees in the clockwise direction.
+	 */
+	public static void rotateCW( final ImageInt16 input , final ImageInt16 output ) {
+		if( input.width != output.height || input.height != output.width )
+			throw new IllegalArgumentException("Incompatible shapes");
+
+		// output(x,y) = input(y,h-x)
+		final int h = input.height-1;
+
+		BoofConcurrency.loopBlocks(0,output.height,BoofConcurrency.minBlockRows(output.width),new IntRangeTask() {
+			@Override
+			public void call(int y0, int y1) {
+				for( int y = y0; y < y1; y++ ) {
+					int indexIn = input.startIndex + h*input.stride + y;
+					int indexOut = output.startIndex + y*output.stride;
+					int end = indexOut + output.width;
+
+					while( indexOut < end ) {
+						output.data[indexOut++] = input.data[indexIn];
+						indexIn += -input.stride;
+					}
+				}
+			}
+		});
+	}
+
+	/**
+	 * Rotates the image 90 degrees in the counter-clockwise direction.
+	 */
+	public static void rotateCCW( final ImageInt16 input , final ImageInt16 output ) {
+		if( input.width != output.height || input.height != output.width )
+			throw new IllegalArgumentException("Incompatible shapes");
+
+		// output(x,y) = input(w-y,x)
+		final int w = input.width-1;
+
+		BoofConcurrency.loopBlocks(0,output.height,BoofConcurrency.minBlockRows(output.width),new IntRangeTask() {
+			@Override
+			public void call(int y0, int y1) {
+				for( int y = y0; y < y1; y++ ) {
+					int indexIn = input.startIndex + (w-y);
+					int indexOut = output.startIndex + y*output.stride;
+					int end = indexOut + output.width;
+
+					while( indexOut < end ) {
+						output.data[indexOut++] = input.data[indexIn];
+						indexIn += input.stride;
+					}
+				}
+			}
+		});
+	}
+
+	/**
+	 * Copies a rectangular region from one image into another.<br>
+	 * output[dstX:(dstX+width) , dstY:(dstY+height-1)] = input[srcX:(srcX+width) , srcY:(srcY+height-1)]
+	 *
+	 * @param srcX x-coordinate of corner in input image
+	 * @param srcY y-coordinate of corner in input image
+	 * @param dstX x-coordinate of corner in output image
+	 * @param dstY y-coordinate of corner in output image
+	 * @param width Width of region to be copied
+	 * @param height Height of region to be copied
+	 * @param input Input image
+	 * @param output output image
+	 */
+	public static void copy( final int srcX , final int srcY , final int dstX , final int dstY ,
+							 final int width , final int height ,
+							 final InterleavedI16 input , final InterleavedI16 output ) {
+
+		if( input.width < srcX+width || input.height < srcY+height )
+			throw new IllegalArgumentException("Copy region must be contained input image");
+		if( output.width < dstX+width || output.height < dstY+height )
+			throw new IllegalArgumentException("Copy region must be contained output image");
+		if( input.numBands != output.numBands )
+			throw new IllegalArgumentException("Number of bands must be the same");
+
+		final int rowLength = width*input.numBands;
+
+		BoofConcurrency.loopBlocks(0,height,BoofConcurrency.minBlockRows(rowLength),new IntRangeTask() {
+			@Override
+			public void call(int y0, int y1) {
+				for( int y = y0; y < y1; y++ ) {
+					int indexSrc = input.startIndex + (srcY + y) * input.stride + srcX*input.numBands;
+					int indexDst = output.startIndex + (dstY + y) * output.stride + dstX*input.numBands;
+
+					System.arraycopy(input.data,indexSrc,output.data,indexDst,rowLength);
+				}
+			}
+		});
+	}
+
+	/**
+	 * Fills the whole image with the specified value
+	 *
+	 * @param input An image.
+	 * @param value The value that the image is being filled with.
+	 */
+	public static void fill( final InterleavedI16 input, final int value) {
+		final int rowLength = input.width*input.numBands;
+
+		BoofConcurrency.loopBlocks(0,input.height,BoofConcurrency.minBlockRows(rowLength),new IntRangeTask() {
+			@Override
+			public void call(int y0, int y1) {
+				for( int y = y0; y < y1; y++ ) {
+					int index = input.startIndex + y * input.stride;
+					int end = index + rowLength;
+					for( ; index < end; index++ ) {
+						input.data[index] = (short)value;
+					}
+				}
+			}
+		});
+	}
+
+	/**
+	 * Flips the image from top to bottom
+	 */
+	public static void flipVertical( final InterleavedI16 input ) {
+		final int rowLength = input.width*input.numBands;
+
+		// each row in the top half is swapped with a row in the bottom half
+		BoofConcurrency.loopBlocks(0,input.height/2,BoofConcurrency.minBlockRows(rowLength*2),new IntRangeTask() {
+			@Override
+			public void call(int y0, int y1) {
+				for( int y = y0; y < y1; y++ ) {
+					int index1 = input.startIndex + y * input.stride;
+					int index2 = input.startIndex + (input.height - y - 1) * input.stride;
+
+					int end = index1 + rowLength;
+
+					while( index1 < end ) {
+						int tmp = input.data[index1];
+						input.data[index1++] = input.data[index2];
+						input.data[index2++] = (short)tmp;
+					}
+				}
+			}
+		});
+	}
+
+	/**
+	 * Flips the image from left to right
+	 */
+	public static void flipHorizontal( final InterleavedI16 input ) {
+		final int w2 = input.width/2;
+
+		BoofConcurrency.loopBlocks(0,input.height,BoofConcurrency.minBlockRows(input.width*input.numBands),new IntRangeTask() {
+			@Override
+			public void call(int y0, int y1) {
+				for( int y = y0; y < y1; y++ ) {
+					int index1 = input.startIndex + y * input.stride;
+					int index2 = index1 + (input.width-1)*input.numBands;
+
+					int end = index1 + w2*input.numBands;
+
+					while( index1 < end ) {
+						for( int band = 0; band < input.numBands; band++ ) {
+							int tmp = input.data[index1+band];
+							input.data[index1+band] = input.data[index2+band];
+							input.data[index2+band] = (short)tmp;
+						}
+						index1 += input.numBands;
+						index2 -= input.numBands;
+					}
+				}
+			}
+		});
+	}
+
+	/**
+	 * Rotates the image 90 degrees in the clockwise direction.
+	 */
+	public static void rotateCW( final InterleavedI16 input , final InterleavedI16 output ) {
+		if( input.width != output.height || input.height != output.width )
+			throw new IllegalArgumentException("Incompatible shapes");
+		if( input.numBands != output.numBands )
+			throw new IllegalArgumentException("Number of bands must be the same");
+
+		// output(x,y) = input(y,h-x)
+		final int h = input.height-1;
+
+		BoofConcurrency.loopBlocks(0,output.height,BoofConcurrency.minBlockRows(output.width*output.numBands),new IntRangeTask() {
+			@Override
+			public void call(int y0, int y1) {
+				for( int y = y0; y < y1; y++ ) {
+					int indexIn = input.startIndex + h*input.stride + y*input.numBands;
+					int indexOut = output.startIndex + y*output.stride;
+					int end = indexOut + output.width*output.numBands;
+
+					while( indexOut < end ) {
+						for( int band = 0; band < input.numBands; band++ ) {
+							output.data[indexOut++] = input.data[indexIn+band];
+						}
+						indexIn += -input.stride;
+					}
+				}
+			}
+		});
+	}
+
+	/**
+	 * Rotates the image 90 degrees in the counter-clockwise direction.
+	 */
+	public static void rotateCCW( final InterleavedI16 input , final InterleavedI16 output ) {
+		if( input.width != output.height || input.height != output.width )
+			throw new IllegalArgumentException("Incompatible shapes");
+		if( input.numBands != output.numBands )
+			throw new IllegalArgumentException("Number of bands must be the same");
+
+		// output(x,y) = input(w-y,x)
+		final int w = input.width-1;
+
+		BoofConcurrency.loopBlocks(0,output.height,BoofConcurrency.minBlockRows(output.width*output.numBands),new IntRangeTask() {
+			@Override
+			public void call(int y0, int y1) {
+				for( int y = y0; y < y1; y++ ) {
+					int indexIn = input.startIndex + (w-y)*input.numBands;
+					int indexOut = output.startIndex + y*output.stride;
+					int end = indexOut + output.width*output.numBands;
+
+					while( indexOut < end ) {
+						for( int band = 0; band < input.numBands; band++ ) {
+							output.data[indexOut++] = input.data[indexIn+band];
+						}
+						indexIn += input.stride;
+					}
+				}
+			}
+		});
+	}
+
+	/**
+	 * Copies a rectangular region from one image into another.<br>
+	 * output[dstX:(dstX+width) , dstY:(dstY+height-1)] = input[srcX:(srcX+width) , srcY:(srcY+height-1)]
+	 *
+	 * @param srcX x-coordinate of corner in input image
+	 * @param srcY y-coordinate of corner in input image
+	 * @param dstX x-coordinate of corner in output image
+	 * @param dstY y-coordinate of corner in output image
+	 * @param width Width of region to be copied
+	 * @param height Height of region to be copied
+	 * @param input Input image
+	 * @param output output image
+	 */
+	public static void copy( final int srcX , final int srcY , final int dstX , final int dstY ,
+							 final int width , final int height ,
+							 final ImageSInt32 input , final ImageSInt32 output ) {
+
+		if( input.width < srcX+width || input.height < srcY+height )
+			throw new IllegalArgumentException("Copy region must be contained input image");
+		if( output.width < dstX+width || output.height < dstY+height )
+			throw new IllegalArgumentException("Copy region must be contained output image");
+
+		final int rowLength = width;
+
+		BoofConcurrency.loopBlocks(0,height,BoofConcurrency.minBlockRows(rowLength),new IntRangeTask() {
+			@Override
+			public void call(int y0, int y1) {
+				for( int y = y0; y < y1; y++ ) {
+					int indexSrc = input.startIndex + (srcY + y) * input.stride + srcX;
+					int indexDst = output.startIndex + (dstY + y) * output.stride + dstX;
+
+					System.arraycopy(input.data,indexSrc,output.data,indexDst,rowLength);
+				}
+			}
+		});
+	}
+
+	/**
+	 * Fills the whole image with the specified value
+	 *
+	 * @param input An image.
+	 * @param value The value that the image is being filled with.
+	 */
+	public static void fill( final ImageSInt32 input, final int value) {
+		final int rowLength = input.width;
+
+		BoofConcurrency.loopBlocks(0,input.height,BoofConcurrency.minBlockRows(rowLength),new IntRangeTask() {
+			@Override
+			public void call(int y0, int y1) {
+				for( int y = y0; y < y1; y++ ) {
+					int index = input.startIndex + y * input.stride;
+					int end = index + rowLength;
+					for( ; index < end; index++ ) {
+						input.data[index] = value;
+					}
+				}
+			}
+		});
+	}
+
+	/**
+	 * Flips the image from top to bottom
+	 */
+	public static void flipVertical( final ImageSInt32 input ) {
+		final int rowLength = input.width;
+
+		// each row in the top half is swapped with a row in the bottom half
+		BoofConcurrency.loopBlocks(0,input.height/2,BoofConcurrency.minBlockRows(rowLength*2),new IntRangeTask() {
+			@Override
+			public void call(int y0, int y1) {
+				for( int y = y0; y < y1; y++ ) {
+					int index1 = input.startIndex + y * input.stride;
+					int index2 = input.startIndex + (input.height - y - 1) * input.stride;
+
+					int end = index1 + rowLength;
+
+					while( index1 < end ) {
+						int tmp = input.data[index1];
+						input.data[index1++] = input.data[index2];
+						input.data[index2++] = (int)tmp;
+					}
+				}
+			}
+		});
+	}
+
+	/**
+	 * Flips the image from left to right
+	 */
+	public static void flipHorizontal( final ImageSInt32 input ) {
+		final int w2 = input.width/2;
+
+		BoofConcurrency.loopBlocks(0,input.height,BoofConcurrency.minBlockRows(input.width),new IntRangeTask() {
+			@Override
+			public void call(int y0, int y1) {
+				for( int y = y0; y < y1; y++ ) {
+					int index1 = input.startIndex + y * input.stride;
+					int index2 = index1 + input.width-1;
+
+					int end = index1 + w2;
+
+					while( index1 < end ) {
+						int tmp = input.data[index1];
+						input.data[index1++] = input.data[index2];
+						input.data[index2--] = (int)tmp;
+					}
+				}
+			}
+		});
+	}
+
+	/**
+	 * Rotates the image 90 degrees in the clockwise direction.
+	 */
+	public static void rotateCW( final ImageSInt32 input , final ImageSInt32 output ) {
+		if( input.width != output.height || input.height != output.width )
+			throw new IllegalArgumentException("Incompatible shapes");
+
+		// output(x,y) = input(y,h-x)
+		final int h = input.height-1;
+
+		BoofConcurrency.loopBlocks(0,output.height,BoofConcurrency.minBlockRows(output.width),new IntRangeTask() {
+			@Override
+			public void call(int y0, int y1) {
+				for( int y = y0; y < y1; y++ ) {
+					int indexIn = input.startIndex + h*input.stride + y;
+					int indexOut = output.startIndex + y*output.stride;
+					int end = indexOut + output.width;
+
+					while( indexOut < end ) {
+						output.data[indexOut++] = input.data[indexIn];
+						indexIn += -input.stride;
+					}
+				}
+			}
+		});
+	}
+
+	/**
+	 * Rotates the image 90 degrees in the counter-clockwise direction.
+	 */
+	public static void rotateCCW( final ImageSInt32 input , final ImageSInt32 output ) {
+		if( input.width != output.height || input.height != output.width )
+			throw new IllegalArgumentException("Incompatible shapes");
+
+		// output(x,y) = input(w-y,x)
+		final int w = input.width-1;
+
+		BoofConcurrency.loopBlocks(0,output.height,BoofConcurrency.minBlockRows(output.width),new IntRangeTask() {
+			@Override
+			public void call(int y0, int y1) {
+				for( int y = y0; y < y1; y++ ) {
+					int indexIn = input.startIndex + (w-y);
+					int indexOut = output.startIndex + y*output.stride;
+					int end = indexOut + output.width;
+
+					while( indexOut < end ) {
+						output.data[indexOut++] = input.data[indexIn];
+						indexIn += input.stride;
+					}
+				}
+			}
+		});
+	}
+
+	/**
+	 * Copies a rectangular region from one image into another.<br>
+	 * output[dstX:(dstX+width) , dstY:(dstY+height-1)] = input[srcX:(srcX+width) , srcY:(srcY+height-1)]
+	 *
+	 * @param srcX x-coordinate of corner in input image
+	 * @param srcY y-coordinate of corner in input image
+	 * @param dstX x-coordinate of corner in output image
+	 * @param dstY y-coordinate of corner in output image
+	 * @param width Width of region to be copied
+	 * @param height Height of region to be copied
+	 * @param input Input image
+	 * @param output output image
+	 */
+	public static void copy( final int srcX , final int srcY , final int dstX , final int dstY ,
+							 final int width , final int height ,
+							 final InterleavedS32 input , final InterleavedS32 output ) {
+
+		if( input.width < srcX+width || input.height < srcY+height )
+			throw new IllegalArgumentException("Copy region must be contained input image");
+		if( output.width < dstX+width || output.height < dstY+height )
+			throw new IllegalArgumentException("Copy region must be contained output image");
+		if( input.numBands != output.numBands )
+			throw new IllegalArgumentException("Number of bands must be the same");
+
+		final int rowLength = width*input.numBands;
+
+		BoofConcurrency.loopBlocks(0,height,BoofConcurrency.minBlockRows(rowLength),new IntRangeTask() {
+			@Override
+			public void call(int y0, int y1) {
+				for( int y = y0; y < y1; y++ ) {
+					int indexSrc = input.startIndex + (srcY + y) * input.stride + srcX*input.numBands;
+					int indexDst = output.startIndex + (dstY + y) * output.stride + dstX*input.numBands;
+
+					System.arraycopy(input.data,indexSrc,output.data,indexDst,rowLength);
+				}
+			}
+		});
+	}
+
+	/**
+	 * Fills the whole image with the specified value
+	 *
+	 * @param input An image.
+	 * @param value The value that the image is being filled with.
+	 */
+	public static void fill( final InterleavedS32 input, final int value) {
+		final int rowLength = input.width*input.numBands;
+
+		BoofConcurrency.loopBlocks(0,input.height,BoofConcurrency.minBlockRows(rowLength),new IntRangeTask() {
+			@Override
+			public void call(int y0, int y1) {
+				for( int y = y0; y < y1; y++ ) {
+					int index = input.startIndex + y * input.stride;
+					int end = index + rowLength;
+					for( ; index < end; index++ ) {
+						input.data[index] = value;
+					}
+				}
+			}
+		});
+	}
+
+	/**
+	 * Flips the image from top to bottom
+	 */
+	public static void flipVertical( final InterleavedS32 input ) {
+		final int rowLength = input.width*input.numBands;
+
+		// each row in the top half is swapped with a row in the bottom half
+		BoofConcurrency.loopBlocks(0,input.height/2,BoofConcurrency.minBlockRows(rowLength*2),new IntRangeTask() {
+			@Override
+			public void call(int y0, int y1) {
+				for( int y = y0; y < y1; y++ ) {
+					int index1 = input.startIndex + y * input.stride;
+					int index2 = input.startIndex + (input.height - y - 1) * input.stride;
+
+					int end = index1 + rowLength;
+
+					while( index1 < end ) {
+						int tmp = input.data[index1];
+						input.data[index1++] = input.data[index2];
+						input.data[index2++] = (int)tmp;
+					}
+				}
+			}
+		});
+	}
+
+	/**
+	 * Flips the image from left to right
+	 */
+	public static void flipHorizontal( final InterleavedS32 input ) {
+		final int w2 = input.width/2;
+
+		BoofConcurrency.loopBlocks(0,input.height,BoofConcurrency.minBlockRows(input.width*input.numBands),new IntRangeTask() {
+			@Override
+			public void call(int y0, int y1) {
+				for( int y = y0; y < y1; y++ ) {
+					int index1 = input.startIndex + y * input.stride;
+					int index2 = index1 + (input.width-1)*input.numBands;
+
+					int end = index1 + w2*input.numBands;
+
+					while( index1 < end ) {
+						for( int band = 0; band < input.numBands; band++ ) {
+							int tmp = input.data[index1+band];
+							input.data[index1+band] = input.data[index2+band];
+							input.data[index2+band] = (int)tmp;
+						}
+						index1 += input.numBands;
+						index2 -= input.numBands;
+					}
+				}
+			}
+		});
+	}
+
+	/**
+	 * Rotates the image 90 degrees in the clockwise direction.
+	 */
+	public static void rotateCW( final InterleavedS32 input , final InterleavedS32 output ) {
+		if( input.width != output.height || input.height != output.width )
+			throw new IllegalArgumentException("Incompatible shapes");
+		if( input.numBands != output.numBands )
+			throw new IllegalArgumentException("Number of bands must be the same");
+
+		// output(x,y) = input(y,h-x)
+		final int h = input.height-1;
+
+		BoofConcurrency.loopBlocks(0,output.height,BoofConcurrency.minBlockRows(output.width*output.numBands),new IntRangeTask() {
+			@Override
+			public void call(int y0, int y1) {
+				for( int y = y0; y < y1; y++ ) {
+					int indexIn = input.startIndex + h*input.stride + y*input.numBands;
+					int indexOut = output.startIndex + y*output.stride;
+					int end = indexOut + output.width*output.numBands;
+
+					while( indexOut < end ) {
+						for( int band = 0; band < input.numBands; band++ ) {
+							output.data[indexOut++] = input.data[indexIn+band];
+						}
+						indexIn += -input.stride;
+					}
+				}
+			}
+		});
+	}
+
+	/**
+	 * Rotates the image 90 degrees in the counter-clockwise direction.
+	 */
+	public static void rotateCCW( final InterleavedS32 input , final InterleavedS32 output ) {
+		if( input.width != output.height || input.height != output.width )
+			throw new IllegalArgumentException("Incompatible shapes");
+		if( input.numBands != output.numBands )
+			throw new IllegalArgumentException("Number of bands must be the same");
+
+		// output(x,y) = input(w-y,x)
+		final int w = input.width-1;
+
+		BoofConcurrency.loopBlocks(0,output.height,BoofConcurrency.minBlockRows(output.width*output.numBands),new IntRangeTask() {
+			@Override
+			public void call(int y0, int y1) {
+				for( int y = y0; y < y1; y++ ) {
+					int indexIn = input.startIndex + (w-y)*input.numBands;
+					int indexOut = output.startIndex + y*output.stride;
+					int end = indexOut + output.width*output.numBands;
+
+					while( indexOut < end ) {
+						for( int band = 0; band < input.numBands; band++ ) {
+							output.data[indexOut++] = input.data[indexIn+band];
+						}
+						indexIn += input.stride;
+					}
+				}
+			}
+		});
+	}
+
+	/**
+	 * Copies a rectangular region from one image into another.<br>
+	 * output[dstX:(dstX+width) , dstY:(dstY+height-1)] = input[srcX:(srcX+width) , srcY:(srcY+height-1)]
+	 *
+	 * @param srcX x-coordinate of corner in input image
+	 * @param srcY y-coordinate of corner in input image
+	 * @param dstX x-coordinate of corner in output image
+	 * @param dstY y-coordinate of corner in output image
+	 * @param width Width of region to be copied
+	 * @param height Height of region to be copied
+	 * @param input Input image
+	 * @param output output image
+	 */
+	public static void copy( final int srcX , final int srcY , final int dstX , final int dstY ,
+							 final int width , final int height ,
+							 final ImageSInt64 input , final ImageSInt64 output ) {
+
+		if( input.width < srcX+width || input.height < srcY+height )
+			throw new IllegalArgumentException("Copy region must be contained input image");
+		if( output.width < dstX+width || output.height < dstY+height )
+			throw new IllegalArgumentException("Copy region must be contained output image");
+
+		final int rowLength = width;
+
+		BoofConcurrency.loopBlocks(0,height,BoofConcurrency.minBlockRows(rowLength),new IntRangeTask() {
+			@Override
+			public void call(int y0, int y1) {
+				for( int y = y0; y < y1; y++ ) {
+					int indexSrc = input.startIndex + (srcY + y) * input.stride + srcX;
+					int indexDst = output.startIndex + (dstY + y) * output.stride + dstX;
+
+					System.arraycopy(input.data,indexSrc,output.data,indexDst,rowLength);
+				}
+			}
+		});
+	}
+
+	/**
+	 * Fills the whole image with the specified value
+	 *
+	 * @param input An image.
+	 * @param value The value that the image is being filled with.
+	 */
+	public static void fill( final ImageSInt64 input, final long value) {
+		final int rowLength = input.width;
+
+		BoofConcurrency.loopBlocks(0,input.height,BoofConcurrency.minBlockRows(rowLength),new IntRangeTask() {
+			@Override
+			public void call(int y0, int y1) {
+				for( int y = y0; y < y1; y++ ) {
+					int index = input.startIndex + y * input.stride;
+					int end = index + rowLength;
+					for( ; index < end; index++ ) {
+						input.data[index] = value;
+					}
+				}
+			}
+		});
+	}
+
+	/**
+	 * Flips the image from top to bottom
+	 */
+	public static void flipVertical( final ImageSInt64 input ) {
+		final int rowLength = input.width;
+
+		// each row in the top half is swapped with a row in the bottom half
+		BoofConcurrency.loopBlocks(0,input.height/2,BoofConcurrency.minBlockRows(rowLength*2),new IntRangeTask() {
+			@Override
+			public void call(int y0, int y1) {
+				for( int y = y0; y < y1; y++ ) {
+					int index1 = input.startIndex + y * input.stride;
+					int index2 = input.startIndex + (input.height - y - 1) * input.stride;
+
+					int end = index1 + rowLength;
+
+					while( index1 < end ) {
+						long tmp = input.data[index1];
+						input.data[index1++] = input.data[index2];
+						input.data[index2++] = (long)tmp;
+					}
+				}
+			}
+		});
+	}
+
+	/**
+	 * Flips the image from left to right
+	 */
+	public static void flipHorizontal( final ImageSInt64 input ) {
+		final int w2 = input.width/2;
+
+		BoofConcurrency.loopBlocks(0,input.height,BoofConcurrency.minBlockRows(input.width),new IntRangeTask() {
+			@Override
+			public void call(int y0, int y1) {
+				for( int y = y0; y < y1; y++ ) {
+					int index1 = input.startIndex + y * input.stride;
+					int index2 = index1 + input.width-1;
+
+					int end = index1 + w2;
+
+					while( index1 < end ) {
+						long tmp = input.data[index1];
+						input.data[index1++] = input.data[index2];
+						input.data[index2--] = (long)tmp;
+					}
+				}
+			}
+		});
+	}
+
+	/**
+	 * Rotates the image 90 degrees in the clockwise direction.
+	 */
+	public static void rotateCW( final ImageSInt64 input , final ImageSInt64 output ) {
+		if( input.width != output.height || input.height != output.width )
+			throw new IllegalArgumentException("Incompatible shapes");
+
+		// output(x,y) = input(y,h-x)
+		final int h = input.height-1;
+
+		BoofConcurrency.loopBlocks(0,output.height,BoofConcurrency.minBlockRows(output.width),new IntRangeTask() {
+			@Override
+			public void call(int y0, int y1) {
+				for( int y = y0; y < y1; y++ ) {
+					int indexIn = input.startIndex + h*input.stride + y;
+					int indexOut = output.startIndex + y*output.stride;
+					int end = indexOut + output.width;
+
+					while( indexOut < end ) {
+						output.data[indexOut++] = input.data[indexIn];
+						indexIn += -input.stride;
+					}
+				}
+			}
+		});
+	}
+
+	/**
+	 * Rotates the image 90 degrees in the counter-clockwise direction.
+	 */
+	public static void rotateCCW( final ImageSInt64 input , final ImageSInt64 output ) {
+		if( input.width != output.height || input.height != output.width )
+			throw new IllegalArgumentException("Incompatible shapes");
+
+		// output(x,y) = input(w-y,x)
+		final int w = input.width-1;
+
+		BoofConcurrency.loopBlocks(0,output.height,BoofConcurrency.minBlockRows(output.width),new IntRangeTask() {
+			@Override
+			public void call(int y0, int y1) {
+				for( int y = y0; y < y1; y++ ) {
+					int indexIn = input.startIndex + (w-y);
+					int indexOut = output.startIndex + y*output.stride;
+					int end = indexOut + output.width;
+
+					while( indexOut < end ) {
+						output.data[indexOut++] = input.data[indexIn];
+						indexIn += input.stride;
+					}
+				}
+			}
+		});
+	}
+
+	/**
+	 * Copies a rectangular region from one image into another.<br>
+	 * output[dstX:(dstX+width) , dstY:(dstY+height-1)] = input[srcX:(srcX+width) , srcY:(srcY+height-1)]
+	 *
+	 * @param srcX x-coordinate of corner in input image
+	 * @param srcY y-coordinate of corner in input image
+	 * @param dstX x-coordinate of corner in output image
+	 * @param dstY y-coordinate of corner in output image
+	 * @param width Width of region to be copied
+	 * @param height Height of region to be copied
+	 * @param input Input image
+	 * @param output output image
+	 */
+	public static void copy( final int srcX , final int srcY , final int dstX , final int dstY ,
+							 final int width , final int height ,
+							 final InterleavedS64 input , final InterleavedS64 output ) {
+
+		if( input.width < srcX+width || input.height < srcY+height )
+			throw new IllegalArgumentException("Copy region must be contained input image");
+		if( output.width < dstX+width || output.height < dstY+height )
+			throw new IllegalArgumentException("Copy region must be contained output image");
+		if( input.numBands != output.numBands )
+			throw new IllegalArgumentException("Number of bands must be the same");
+
+		final int rowLength = width*input.numBands;
+
+		BoofConcurrency.loopBlocks(0,height,BoofConcurrency.minBlockRows(rowLength),new IntRangeTask() {
+			@Override
+			public void call(int y0, int y1) {
+				for( int y = y0; y < y1; y++ ) {
+					int indexSrc = input.startIndex + (srcY + y) * input.stride + srcX*input.numBands;
+					int indexDst = output.startIndex + (dstY + y) * output.stride + dstX*input.numBands;
+
+					System.arraycopy(input.data,indexSrc,output.data,indexDst,rowLength);
+				}
+			}
+		});
+	}
+
+	/**
+	 * Fills the whole image with the specified value
+	 *
+	 * @param input An image.
+	 * @param value The value that the image is being filled with.
+	 */
+	public static void fill( final InterleavedS64 input, final long value) {
+		final int rowLength = input.width*input.numBands;
+
+		BoofConcurrency.loopBlocks(0,input.height,BoofConcurrency.minBlockRows(rowLength),new IntRangeTask() {
+			@Override
+			public void call(int y0, int y1) {
+				for( int y = y0; y < y1; y++ ) {
+					int index = input.startIndex + y * input.stride;
+					int end = index + rowLength;
+					for( ; index < end; index++ ) {
+						input.data[index] = value;
+					}
+				}
+			}
+		});
+	}
+
+	/**
+	 * Flips the image from top to bottom
+	 */
+	public static void flipVertical( final InterleavedS64 input ) {
+		final int rowLength = input.width*input.numBands;
+
+		// each row in the top half is swapped with a row in the bottom half
+		BoofConcurrency.loopBlocks(0,input.height/2,BoofConcurrency.minBlockRows(rowLength*2),new IntRangeTask() {
+			@Override
+			public void call(int y0, int y1) {
+				for( int y = y0; y < y1; y++ ) {
+					int index1 = input.startIndex + y * input.stride;
+					int index2 = input.startIndex + (input.height - y - 1) * input.stride;
+
+					int end = index1 + rowLength;
+
+					while( index1 < end ) {
+						long tmp = input.data[index1];
+						input.data[index1++] = input.data[index2];
+						input.data[index2++] = (long)tmp;
+					}
+				}
+			}
+		});
+	}
+
+	/**
+	 * Flips the image from left to right
+	 */
+	public static void flipHorizontal( final InterleavedS64 input ) {
+		final int w2 = input.width/2;
+
+		BoofConcurrency.loopBlocks(0,input.height,BoofConcurrency.minBlockRows(input.width*input.numBands),new IntRangeTask() {
+			@Override
+			public void call(int y0, int y1) {
+				for( int y = y0; y < y1; y++ ) {
+					int index1 = input.startIndex + y * input.stride;
+					int index2 = index1 + (input.width-1)*input.numBands;
+
+					int end = index1 + w2*input.numBands;
+
+					while( index1 < end ) {
+						for( int band = 0; band < input.numBands; band++ ) {
+							long tmp = input.data[index1+band];
+							input.data[index1+band] = input.data[index2+band];
+							input.data[index2+band] = (long)tmp;
+						}
+						index1 += input.numBands;
+						index2 -= input.numBands;
+					}
+				}
+			}
+		});
+	}
+
+	/**
+	 * Rotates the image 90 degrees in the clockwise direction.
+	 */
+	public static void rotateCW( final InterleavedS64 input , final InterleavedS64 output ) {
+		if( input.width != output.height || input.height != output.width )
+			throw new IllegalArgumentException("Incompatible shapes");
+		if( input.numBands != output.numBands )
+			throw new IllegalArgumentException("Number of bands must be the same");
+
+		// output(x,y) = input(y,h-x)
+		final int h = input.height-1;
+
+		BoofConcurrency.loopBlocks(0,output.height,BoofConcurrency.minBlockRows(output.width*output.numBands),new IntRangeTask() {
+			@Override
+			public void call(int y0, int y1) {
+				for( int y = y0; y < y1; y++ ) {
+					int indexIn = input.startIndex + h*input.stride + y*input.numBands;
+					int indexOut = output.startIndex + y*output.stride;
+					int end = indexOut + output.width*output.numBands;
+
+					while( indexOut < end ) {
+						for( int band = 0; band < input.numBands; band++ ) {
+							output.data[indexOut++] = input.data[indexIn+band];
+						}
+						indexIn += -input.stride;
+					}
+				}
+			}
+		});
+	}
+
+	/**
+	 * Rotates the image 90 degrees in the counter-clockwise direction.
+	 */
+	public static void rotateCCW( final InterleavedS64 input , final InterleavedS64 output ) {
+		if( input.width != output.height || input.height != output.width )
+			throw new IllegalArgumentException("Incompatible shapes");
+		if( input.numBands != output.numBands )
+			throw new IllegalArgumentException("Number of bands must be the same");
+
+		// output(x,y) = input(w-y,x)
+		final int w = input.width-1;
+
+		BoofConcurrency.loopBlocks(0,output.height,BoofConcurrency.minBlockRows(output.width*output.numBands),new IntRangeTask() {
+			@Override
+			public void call(int y0, int y1) {
+				for( int y = y0; y < y1; y++ ) {
+					int indexIn = input.startIndex + (w-y)*input.numBands;
+					int indexOut = output.startIndex + y*output.stride;
+					int end = indexOut + output.width*output.numBands;
+
+					while( indexOut < end ) {
+						for( int band = 0; band < input.numBands; band++ ) {
+							output.data[indexOut++] = input.data[indexIn+band];
+						}
+						indexIn += input.stride;
+					}
+				}
+			}
+		});
+	}
+
+	/**
+	 * Copies a rectangular region from one image into another.<br>
+	 * output[dstX:(dstX+width) , dstY:(dstY+height-1)] = input[srcX:(srcX+width) , srcY:(srcY+height-1)]
+	 *
+	 * @param srcX x-coordinate of corner in input image
+	 * @param srcY y-coordinate of corner in input image
+	 * @param dstX x-coordinate of corner in output image
+	 * @param dstY y-coordinate of corner in output image
+	 * @param width Width of region to be copied
+	 * @param height Height of region to be copied
+	 * @param input Input image
+	 * @param output output image
+	 */
+	public static void copy( final int srcX , final int srcY , final int dstX , final int dstY ,
+							 final int width , final int height ,
+							 final ImageFloat32 input , final ImageFloat32 output ) {
+
+		if( input.width < srcX+width || input.height < srcY+height )
+			throw new IllegalArgumentException("Copy region must be contained input image");
+		if( output.width < dstX+width || output.height < dstY+height )
+			throw new IllegalArgumentException("Copy region must be contained output image");
+
+		final int rowLength = width;
+
+		BoofConcurrency.loopBlocks(0,height,BoofConcurrency.minBlockRows(rowLength),new IntRangeTask() {
+			@Override
+			public void call(int y0, int y1) {
+				for( int y = y0; y < y1; y++ ) {
+					int indexSrc = input.startIndex + (srcY + y) * input.stride + srcX;
+					int indexDst = output.startIndex + (dstY + y) * output.stride + dstX;
+
+					System.arraycopy(input.data,indexSrc,output.data,indexDst,rowLength);
+				}
+			}
+		});
+	}
+
+	/**
+	 * Fills the whole image with the specified value
+	 *
+	 * @param input An image.
+	 * @param value The value that the image is being filled with.
+	 */
+	public static void fill( final ImageFloat32 input, final float value) {
+		final int rowLength = input.width;
+
+		BoofConcurrency.loopBlocks(0,input.height,BoofConcurrency.minBlockRows(rowLength),new IntRangeTask() {
+			@Override
+			public void call(int y0, int y1) {
+				for( int y = y0; y < y1; y++ ) {
+					int index = input.startIndex + y * input.stride;
+					int end = index + rowLength;
+					for( ; index < end; index++ ) {
+						input.data[index] = value;
+					}
+				}
+			}
+		});
+	}
+
+	/**
+	 * Flips the image from top to bottom
+	 */
+	public static void flipVertical( final ImageFloat32 input ) {
+		final int rowLength = input.width;
+
+		// each row in the top half is swapped with a row in the bottom half
+		BoofConcurrency.loopBlocks(0,input.height/2,BoofConcurrency.minBlockRows(rowLength*2),new IntRangeTask() {
+			@Override
+			public void call(int y0, int y1) {
+				for( int y = y0; y < y1; y++ ) {
+					int index1 = input.startIndex + y * input.stride;
+					int index2 = input.startIndex + (input.height - y - 1) * input.stride;
+
+					int end = index1 + rowLength;
+
+					while( index1 < end ) {
+						float tmp = input.data[index1];
+						input.data[index1++] = input.data[index2];
+						input.data[index2++] = (float)tmp;
+					}
+				}
+			}
+		});
+	}
+
+	/**
+	 * Flips the image from left to right
+	 */
+	public static void flipHorizontal( final ImageFloat32 input ) {
+		final int w2 = input.width/2;
+
+		BoofConcurrency.loopBlocks(0,input.height,BoofConcurrency.minBlockRows(input.width),new IntRangeTask() {
+			@Override
+			public void call(int y0, int y1) {
+				for( int y = y0; y < y1; y++ ) {
+					int index1 = input.startIndex + y * input.stride;
+					int index2 = index1 + input.width-1;
+
+					int end = index1 + w2;
+
+					while( index1 < end ) {
+						float tmp = input.data[index1];
+						input.data[index1++] = input.data[index2];
+						input.data[index2--] = (float)tmp;
+					}
+				}
+			}
+		});
+	}
+
+	/**
+	 * Rotates the image 90 degrees in the clockwise direction.
+	 */
+	public static void rotateCW( final ImageFloat32 input , final ImageFloat32 output ) {
+		if( input.width != output.height || input.height != output.width )
+			throw new IllegalArgumentException("Incompatible shapes");
+
+		// output(x,y) = input(y,h-x)
+		final int h = input.height-1;
+
+		BoofConcurrency.loopBlocks(0,output.height,BoofConcurrency.minBlockRows(output.width),new IntRangeTask() {
+			@Override
+			public void call(int y0, int y1) {
+				for( int y = y0; y < y1; y++ ) {
+					int indexIn = input.startIndex + h*input.stride + y;
+					int indexOut = output.startIndex + y*output.stride;
+					int end = indexOut + output.width;
+
+					while( indexOut < end ) {
+						output.data[indexOut++] = input.data[indexIn];
+						indexIn += -input.stride;
+					}
+				}
+			}
+		});
+	}
+
+	/**
+	 * Rotates the image 90 degrees in the counter-clockwise direction.
+	 */
+	public static void rotateCCW( final ImageFloat32 input , final ImageFloat32 output ) {
+		if( input.width != output.height || input.height != output.width )
+			throw new IllegalArgumentException("Incompatible shapes");
+
+		// output(x,y) = input(w-y,x)
+		final int w = input.width-1;
+
+		BoofConcurrency.loopBlocks(0,output.height,BoofConcurrency.minBlockRows(output.width),new IntRangeTask() {
+			@Override
+			public void call(int y0, int y1) {
+				for( int y = y0; y < y1; y++ ) {
+					int indexIn = input.startIndex + (w-y);
+					int indexOut = output.startIndex + y*output.stride;
+					int end = indexOut + output.width;
+
+					while( indexOut < end ) {
+						output.data[indexOut++] = input.data[indexIn];
+						indexIn += input.stride;
+					}
+				}
+			}
+		});
+	}
+
+	/**
+	 * Copies a rectangular region from one image into another.<br>
+	 * output[dstX:(dstX+width) , dstY:(dstY+height-1)] = input[srcX:(srcX+width) , srcY:(srcY+height-1)]
+	 *
+	 * @param srcX x-coordinate of corner in input image
+	 * @param srcY y-coordinate of corner in input image
+	 * @param dstX x-coordinate of corner in output image
+	 * @param dstY y-coordinate of corner in output image
+	 * @param width Width of region to be copied
+	 * @param height Height of region to be copied
+	 * @param input Input image
+	 * @param output output image
+	 */
+	public static void copy( final int srcX , final int srcY , final int dstX , final int dstY ,
+							 final int width , final int height ,
+							 final InterleavedF32 input , final InterleavedF32 output ) {
+
+		if( input.width < srcX+width || input.height < srcY+height )
+			throw new IllegalArgumentException("Copy region must be contained input image");
+		if( output.width < dstX+width || output.height < dstY+height )
+			throw new IllegalArgumentException("Copy region must be contained output image");
+		if( input.numBands != output.numBands )
+			throw new IllegalArgumentException("Number of bands must be the same");
+
+		final int rowLength = width*input.numBands;
+
+		BoofConcurrency.loopBlocks(0,height,BoofConcurrency.minBlockRows(rowLength),new IntRangeTask() {
+			@Override
+			public void call(int y0, int y1) {
+				for( int y = y0; y < y1; y++ ) {
+					int indexSrc = input.startIndex + (srcY + y) * input.stride + srcX*input.numBands;
+					int indexDst = output.startIndex + (dstY + y) * output.stride + dstX*input.numBands;
+
+					System.arraycopy(input.data,indexSrc,output.data,indexDst,rowLength);
+				}
+			}
+		});
+	}
+
+	/**
+	 * Fills the whole image with the specified value
+	 *
+	 * @param input An image.
+	 * @param value The value that the image is being filled with.
+	 */
+	public static void fill( final InterleavedF32 input, final float value) {
+		final int rowLength = input.width*input.numBands;
+
+		BoofConcurrency.loopBlocks(0,input.height,BoofConcurrency.minBlockRows(rowLength),new IntRangeTask() {
+			@Override
+			public void call(int y0, int y1) {
+				for( int y = y0; y < y1; y++ ) {
+					int index = input.startIndex + y * input.stride;
+					int end = index + rowLength;
+					for( ; index < end; index++ ) {
+						input.data[index] = value;
+					}
+				}
+			}
+		});
+	}
+
+	/**
+	 * Flips the image from top to bottom
+	 */
+	public static void flipVertical( final InterleavedF32 input ) {
+		final int rowLength = input.width*input.numBands;
+
+		// each row in the top half is swapped with a row in the bottom half
+		BoofConcurrency.loopBlocks(0,input.height/2,BoofConcurrency.minBlockRows(rowLength*2),new IntRangeTask() {
+			@Override
+			public void call(int y0, int y1) {
+				for( int y = y0; y < y1; y++ ) {
+					int index1 = input.startIndex + y * input.stride;
+					int index2 = input.startIndex + (input.height - y - 1) * input.stride;
+
+					int end = index1 + rowLength;
+
+					while( index1 < end ) {
+						float tmp = input.data[index1];
+						input.data[index1++] = input.data[index2];
+						input.data[index2++] = (float)tmp;
+					}
+				}
+			}
+		});
+	}
+
+	/**
+	 * Flips the image from left to right
+	 */
+	public static void flipHorizontal( final InterleavedF32 input ) {
+		final int w2 = input.width/2;
+
+		BoofConcurrency.loopBlocks(0,input.height,BoofConcurrency.minBlockRows(input.width*input.numBands),new IntRangeTask() {
+			@Override
+			public void call(int y0, int y1) {
+				for( int y = y0; y < y1; y++ ) {
+					int index1 = input.startIndex + y * input.stride;
+					int index2 = index1 + (input.width-1)*input.numBands;
+
+					int end = index1 + w2*input.numBands;
+
+					while( index1 < end ) {
+						for( int band = 0; band < input.numBands; band++ ) {
+							float tmp = input.data[index1+band];
+							input.data[index1+band] = input.data[index2+band];
+							input.data[index2+band] = (float)tmp;
+						}
+						index1 += input.numBands;
+						index2 -= input.numBands;
+					}
+				}
+			}
+		});
+	}
+
+	/**
+	 * Rotates the image 90 degrees in the clockwise direction.
+	 */
+	public static void rotateCW( final InterleavedF32 input , final InterleavedF32 output ) {
+		if( input.width != output.height || input.height != output.width )
+			throw new IllegalArgumentException("Incompatible shapes");
+		if( input.numBands != output.numBands )
+			throw new IllegalArgumentException("Number of bands must be the same");
+
+		// output(x,y) = input(y,h-x)
+		final int h = input.height-1;
+
+		BoofConcurrency.loopBlocks(0,output.height,BoofConcurrency.minBlockRows(output.width*output.numBands),new IntRangeTask() {
+			@Override
+			public void call(int y0, int y1) {
+				for( int y = y0; y < y1; y++ ) {
+					int indexIn = input.startIndex + h*input.stride + y*input.numBands;
+					int indexOut = output.startIndex + y*output.stride;
+					int end = indexOut + output.width*output.numBands;
+
+					while( indexOut < end ) {
+						for( int band = 0; band < input.numBands; band++ ) {
+							output.data[indexOut++] = input.data[indexIn+band];
+						}
+						indexIn += -input.stride;
+					}
+				}
+			}
+		});
+	}
+
+	/**
+	 * Rotates the image 90 degrees in the counter-clockwise direction.
+	 */
+	public static void rotateCCW( final InterleavedF32 input , final InterleavedF32 output ) {
+		if( input.width != output.height || input.height != output.width )
+			throw new IllegalArgumentException("Incompatible shapes");
+		if( input.numBands != output.numBands )
+			throw new IllegalArgumentException("Number of bands must be the same");
+
+		// output(x,y) = input(w-y,x)
+		final int w = input.width-1;
+
+		BoofConcurrency.loopBlocks(0,output.height,BoofConcurrency.minBlockRows(output.width*output.numBands),new IntRangeTask() {
+			@Override
+			public void call(int y0, int y1) {
+				for( int y = y0; y < y1; y++ ) {
+					int indexIn = input.startIndex + (w-y)*input.numBands;
+					int indexOut = output.startIndex + y*output.stride;
+					int end = indexOut + output.width*output.numBands;
+
+					while( indexOut < end ) {
+						for( int band = 0; band < input.numBands; band++ ) {
+							output.data[indexOut++] = input.data[indexIn+band];
+						}
+						indexIn += input.stride;
+					}
+				}
+			}
+		});
+	}
+
+	/**
+	 * Copies a rectangular region from one image into another.<br>
+	 * output[dstX:(dstX+width) , dstY:(dstY+height-1)] = input[srcX:(srcX+width) , srcY:(srcY+height-1)]
+	 *
+	 * @param srcX x-coordinate of corner in input image
+	 * @param srcY y-coordinate of corner in input image
+	 * @param dstX x-coordinate of corner in output image
+	 * @param dstY y-coordinate of corner in output image
+	 * @param width Width of region to be copied
+	 * @param height Height of region to be copied
+	 * @param input Input image
+	 * @param output output image
+	 */
+	public static void copy( final int srcX , final int srcY , final int dstX , final int dstY ,
+							 final int width , final int height ,
+							 final ImageFloat64 input , final ImageFloat64 output ) {
+
+		if( input.width < srcX+width || input.height < srcY+height )
+			throw new IllegalArgumentException("Copy region must be contained input image");
+		if( output.width < dstX+width || output.height < dstY+height )
+			throw new IllegalArgumentException("Copy region must be contained output image");
+
+		final int rowLength = width;
+
+		BoofConcurrency.loopBlocks(0,height,BoofConcurrency.minBlockRows(rowLength),new IntRangeTask() {
+			@Override
+			public void call(int y0, int y1) {
+				for( int y = y0; y < y1; y++ ) {
+					int indexSrc = input.startIndex + (srcY + y) * input.stride + srcX;
+					int indexDst = output.startIndex + (dstY + y) * output.stride + dstX;
+
+					System.arraycopy(input.data,indexSrc,output.data,indexDst,rowLength);
+				}
+			}
+		});
+	}
+
+	/**
+	 * Fills the whole image with the specified value
+	 *
+	 * @param input An image.
+	 * @param value The value that the image is being filled with.
+	 */
+	public static void fill( final ImageFloat64 input, final double value) {
+		final int rowLength = input.width;
+
+		BoofConcurrency.loopBlocks(0,input.height,BoofConcurrency.minBlockRows(rowLength),new IntRangeTask() {
+			@Override
+			public void call(int y0, int y1) {
+				for( int y = y0; y < y1; y++ ) {
+					int index = input.startIndex + y * input.stride;
+					int end = index + rowLength;
+					for( ; index < end; index++ ) {
+						input.data[index] = value;
+					}
+				}
+			}
+		});
+	}
+
+	/**
+	 * Flips the image from top to bottom
+	 */
+	public static void flipVertical( final ImageFloat64 input ) {
+		final int rowLength = input.width;
+
+		// each row in the top half is swapped with a row in the bottom half
+		BoofConcurrency.loopBlocks(0,input.height/2,BoofConcurrency.minBlockRows(rowLength*2),new IntRangeTask() {
+			@Override
+			public void call(int y0, int y1) {
+				for( int y = y0; y < y1; y++ ) {
+					int index1 = input.startIndex + y * input.stride;
+					int index2 = input.startIndex + (input.height - y - 1) * input.stride;
+
+					int end = index1 + rowLength;
+
+					while( index1 < end ) {
+						double tmp = input.data[index1];
+						input.data[index1++] = input.data[index2];
+						input.data[index2++] = (double)tmp;
+					}
+				}
+			}
+		});
+	}
+
+	/**
+	 * Flips the image from left to right
+	 */
+	public static void flipHorizontal( final ImageFloat64 input ) {
+		final int w2 = input.width/2;
+
+		BoofConcurrency.loopBlocks(0,input.height,BoofConcurrency.minBlockRows(input.width),new IntRangeTask() {
+			@Override
+			public void call(int y0, int y1) {
+				for( int y = y0; y < y1; y++ ) {
+					int index1 = input.startIndex + y * input.stride;
+					int index2 = index1 + input.width-1;
+
+					int end = index1 + w2;
+
+					while( index1 < end ) {
+						double tmp = input.data[index1];
+						input.data[index1++] = input.data[index2];
+						input.data[index2--] = (double)tmp;
+					}
+				}
+			}
+		});
+	}
+
+	/**
+	 * Rotates the image 90 degrees in the clockwise direction.
+	 */
+	public static void rotateCW( final ImageFloat64 input , final ImageFloat64 output ) {
+		if( input.width != output.height || input.height != output.width )
+			throw new IllegalArgumentException("Incompatible shapes");
+
+		// output(x,y) = input(y,h-x)
+		final int h = input.height-1;
+
+		BoofConcurrency.loopBlocks(0,output.height,BoofConcurrency.minBlockRows(output.width),new IntRangeTask() {
+			@Override
+			public void call(int y0, int y1) {
+				for( int y = y0; y < y1; y++ ) {
+					int indexIn = input.startIndex + h*input.stride + y;
+					int indexOut = output.startIndex + y*output.stride;
+					int end = indexOut + output.width;
+
+					while( indexOut < end ) {
+						output.data[indexOut++] = input.data[indexIn];
+						indexIn += -input.stride;
+					}
+				}
+			}
+		});
+	}
+
+	/**
+	 * Rotates the image 90 degrees in the counter-clockwise direction.
+	 */
+	public static void rotateCCW( final ImageFloat64 input , final ImageFloat64 output ) {
+		if( input.width != output.height || input.height != output.width )
+			throw new IllegalArgumentException("Incompatible shapes");
+
+		// output(x,y) = input(w-y,x)
+		final int w = input.width-1;
+
+		BoofConcurrency.loopBlocks(0,output.height,BoofConcurrency.minBlockRows(output.width),new IntRangeTask() {
+			@Override
+			public void call(int y0, int y1) {
+				for( int y = y0; y < y1; y++ ) {
+					int indexIn = input.startIndex + (w-y);
+					int indexOut = output.startIndex + y*output.stride;
+					int end = indexOut + output.width;
+
+					while( indexOut < end ) {
+						output.data[indexOut++] = input.data[indexIn];
+						indexIn += input.stride;
+					}
+				}
+			}
+		});
+	}
+
+	/**
+	 * Copies a rectangular region from one image into another.<br>
+	 * output[dstX:(dstX+width) , dstY:(dstY+height-1)] = input[srcX:(srcX+width) , srcY:(srcY+height-1)]
+	 *
+	 * @param srcX x-coordinate of corner in input image
+	 * @param srcY y-coordinate of corner in input image
+	 * @param dstX x-coordinate of corner in output image
+	 * @param dstY y-coordinate of corner in output image
+	 * @param width Width of region to be copied
+	 * @param height Height of region to be copied
+	 * @param input Input image
+	 * @param output output image
+	 */
+	public static void copy( final int srcX , final int srcY , final int dstX , final int dstY ,
+							 final int width , final int height ,
+							 final InterleavedF64 input , final InterleavedF64 output ) {
+
+		if( input.width < srcX+width || input.height < srcY+height )
+			throw new IllegalArgumentException("Copy region must be contained input image");
+		if( output.width < dstX+width || output.height < dstY+height )
+			throw new IllegalArgumentException("Copy region must be contained output image");
+		if( input.numBands != output.numBands )
+			throw new IllegalArgumentException("Number of bands must be the same");
+
+		final int rowLength = width*input.numBands;
+
+		BoofConcurrency.loopBlocks(0,height,BoofConcurrency.minBlockRows(rowLength),new IntRangeTask() {
+			@Override
+			public void call(int y0, int y1) {
+				for( int y = y0; y < y1; y++ ) {
+					int indexSrc = input.startIndex + (srcY + y) * input.stride + srcX*input.numBands;
+					int indexDst = output.startIndex + (dstY + y) * output.stride + dstX*input.numBands;
+
+					System.arraycopy(input.data,indexSrc,output.data,indexDst,rowLength);
+				}
+			}
+		});
+	}
+
+	/**
+	 * Fills the whole image with the specified value
+	 *
+	 * @param input An image.
+	 * @param value The value that the image is being filled with.
+	 */
+	public static void fill( final InterleavedF64 input, final double value) {
+		final int rowLength = input.width*input.numBands;
+
+		BoofConcurrency.loopBlocks(0,input.height,BoofConcurrency.minBlockRows(rowLength),new IntRangeTask() {
+			@Override
+			public void call(int y0, int y1) {
+				for( int y = y0; y < y1; y++ ) {
+					int index = input.startIndex + y * input.stride;
+					int end = index + rowLength;
+					for( ; index < end; index++ ) {
+						input.data[index] = value;
+					}
+				}
+			}
+		});
+	}
+
+	/**
+	 * Flips the image from top to bottom
+	 */
+	public static void flipVertical( final InterleavedF64 input ) {
+		final int rowLength = input.width*input.numBands;
+
+		// each row in the top half is swapped with a row in the bottom half
+		BoofConcurrency.loopBlocks(0,input.height/2,BoofConcurrency.minBlockRows(rowLength*2),new IntRangeTask() {
+			@Override
+			public void call(int y0, int y1) {
+				for( int y = y0; y < y1; y++ ) {
+					int index1 = input.startIndex + y * input.stride;
+					int index2 = input.startIndex + (input.height - y - 1) * input.stride;
+
+					int end = index1 + rowLength;
+
+					while( index1 < end ) {
+						double tmp = input.data[index1];
+						input.data[index1++] = input.data[index2];
+						input.data[index2++] = (double)tmp;
+					}
+				}
+			}
+		});
+	}
+
+	/**
+	 * Flips the image from left to right
+	 */
+	public static void flipHorizontal( final InterleavedF64 input ) {
+		final int w2 = input.width/2;
+
+		BoofConcurrency.loopBlocks(0,input.height,BoofConcurrency.minBlockRows(input.width*input.numBands),new IntRangeTask() {
+			@Override
+			public void call(int y0, int y1) {
+				for( int y = y0; y < y1; y++ ) {
+					int index1 = input.startIndex + y * input.stride;
+					int index2 = index1 + (input.width-1)*input.numBands;
+
+					int end = index1 + w2*input.numBands;
+
+					while( index1 < end ) {
+						for( int band = 0; band < input.numBands; band++ ) {
+							double tmp = input.data[index1+band];
+							input.data[index1+band] = input.data[index2+band];
+							input.data[index2+band] = (double)tmp;
+						}
+						index1 += input.numBands;
+						index2 -= input.numBands;
+					}
+				}
+			}
+		});
+	}
+
+	/**
+	 * Rotates the image 90 degrees in the clockwise direction.
+	 */
+	public static void rotateCW( final InterleavedF64 input , final InterleavedF64 output ) {
+		if( input.width != output.height || input.height != output.width )
+			throw new IllegalArgumentException("Incompatible shapes");
+		if( input.numBands != output.numBands )
+			throw new IllegalArgumentException("Number of bands must be the same");
+
+		// output(x,y) = input(y,h-x)
+		final int h = input.height-1;
+
+		BoofConcurrency.loopBlocks(0,output.height,BoofConcurrency.minBlockRows(output.width*output.numBands),new IntRangeTask() {
+			@Override
+			public void call(int y0, int y1) {
+				for( int y = y0; y < y1; y++ ) {
+					int indexIn = input.startIndex + h*input.stride + y*input.numBands;
+					int indexOut = output.startIndex + y*output.stride;
+					int end = indexOut + output.width*output.numBands;
+
+					while( indexOut < end ) {
+						for( int band = 0; band < input.numBands; band++ ) {
+							output.data[indexOut++] = input.data[indexIn+band];
+						}
+						indexIn += -input.stride;
+					}
+				}
+			}
+		});
+	}
+
+	/**
+	 * Rotates the image 90 degrees in the counter-clockwise direction.
+	 */
+	public static void rotateCCW( final InterleavedF64 input , final InterleavedF64 output ) {
+		if( input.width != output.height || input.height != output.width )
+			throw new IllegalArgumentException("Incompatible shapes");
+		if( input.numBands != output.numBands )
+			throw new IllegalArgumentException("Number of bands must be the same");
+
+		// output(x,y) = input(w-y,x)
+		final int w = input.width-1;
+
+		BoofConcurrency.loopBlocks(0,output.height,BoofConcurrency.minBlockRows(output.width*output.numBands),new IntRangeTask() {
+			@Override
+			public void call(int y0, int y1) {
+				for( int y = y0; y < y1; y++ ) {
+					int indexIn = input.startIndex + (w-y)*input.numBands;
+					int indexOut = output.startIndex + y*output.stride;
+					int end = indexOut + output.width*output.numBands;
+
+					while( indexOut < end ) {
+						for( int band = 0; band < input.numBands; band++ ) {
+							output.data[indexOut++] = input.data[indexIn+band];
+						}
+						indexIn += input.stride;
+					}
+				}
+			}
+		});
+	}
+
+}
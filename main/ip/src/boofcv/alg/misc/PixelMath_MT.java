@@ -0,0 +1,6215 @@
+/*
+ * Copyright (c) 2011-2015, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package boofcv.alg.misc;
+
+import boofcv.alg.InputSanityCheck;
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.concurrency.IntRangeTask;
+import boofcv.struct.image.*;
+
+/**
+ * <p>
+ * Concurrent implementations of the functions in {@link PixelMath} for single band and interleaved images.
+ * Rows are split into blocks which are processed by {@link BoofConcurrency}.  Images with less than
+ * {@link BoofConcurrency#MIN_BLOCK_PIXELS} elements per block are processed by the calling thread.
+ * Results are identical to the single threaded functions.
+ * </p>
+ *
+ * <p>DO NOT MODIFY: Generated by {@link boofcv.alg.misc.GeneratePixelMath_MT}.</p>
+ *
+ * @author Peter Abeles
+ */
+public class PixelMath_MT {
+
+	/**
+	 * Sets each pixel in the output image to be the absolute value of the input image.
+	 * Both the input and output image can be the same instance.
+	 *
+	 * @param input The input image. Not modified.
+	 * @param output Where the absolute value image is written to. Modified.
+	 */
+	public static void abs( final ImageSInt8 input , final ImageSInt8 output ) {
+
+		InputSanityCheck.checkSameShape(input,output);
+
+		BoofConcurrency.loopBlocks(0,input.height,BoofConcurrency.minBlockRows(input.width),new IntRangeTask() {
+			@Override
+			public void call(int y0, int y1) {
+				for( int y = y0; y < y1; y++ ) {
+					int indexSrc = input.startIndex + y* input.stride;
+					int indexDst = output.startIndex + y* output.stride;
+					int end = indexSrc + input.width;
+
+					for( ; indexSrc < end; indexSrc++ , indexDst++) {
+						output.data[indexDst] = (byte)Math.abs(input.data[indexSrc]);
+					}
+				}
+			}
+		});
+	}
+
+	/**
+	 * Sets each pixel in the output image to be the absolute value of the input image.
+	 * Both the input and output image can be the same instance.
+	 *
+	 * @param input The input image. Not modified.
+	 * @param output Where the absolute value image is written to. Modified.
+	 */
+	public static void abs( final InterleavedS8 input , final InterleavedS8 output ) {
+
+		InputSanityCheck.checkSameShape(input,output);
+		if( input.numBands != output.numBands )
+			throw new IllegalArgumentException("Number of bands must be the same");
+
+		BoofConcurrency.loopBlocks(0,input.height,BoofConcurrency.minBlockRows(input.width*input.numBands),new IntRangeTask() {
+			@Override
+			public void call(int y0, int y1) {
+				for( int y = y0; y < y1; y++ ) {
+					int indexSrc = input.startIndex + y* input.stride;
+					int indexDst = output.startIndex + y* output.stride;
+					int end = indexSrc + input.width*input.numBands;
+
+					for( ; indexSrc < end; indexSrc++ , indexDst++) {
+						output.data[indexDst] = (byte)Math.abs(input.data[indexSrc]);
+					}
+				}
+			}
+		});
+	}
+
+	/**
+	 * Changes the sign of every pixel in the image: output[x,y] = -input[x,y]
+	 *
+	 * @param input The input image. Not modified.
+	 * @param output Where the inverted image is written to. Modified.
+	 */
+	public static void invert( final ImageSInt8 input , final ImageSInt8 output ) {
+
+		InputSanityCheck.checkSameShape(input,output);
+
+		BoofConcurrency.loopBlocks(0,input.height,BoofConcurrency.minBlockRows(input.width),new IntRangeTask() {
+			@Override
+			public void call(int y0, int y1) {
+				for( int y = y0; y < y1; y++ ) {
+					int indexSrc = input.startIndex + y* input.stride;
+					int indexDst = output.startIndex + y* output.stride;
+					int end = indexSrc + input.width;
+
+					for( ; indexSrc < end; indexSrc++ , indexDst++) {
+						output.data[indexDst] = (byte)-input.data[indexSrc];
+					}
+				}
+			}
+		});
+	}
+
+	/**
+	 * Changes the sign of every pixel in the image: output[x,y] = -input[x,y]
+	 *
+	 * @param input The input image. Not modified.
+	 * @param output Where the inverted image is written to. Modified.
+	 */
+	public static void invert( final InterleavedS8 input , final InterleavedS8 output ) {
+
+		InputSanityCheck.checkSameShape(input,output);
+		if( input.numBands != output.numBands )
+			throw new IllegalArgumentException("Number of bands must be the same");
+
+		BoofConcurrency.loopBlocks(0,input.height,BoofConcurrency.minBlockRows(input.width*input.numBands),new IntRangeTask() {
+			@Override
+			public void call(int y0, int y1) {
+				for( int y = y0; y < y1; y++ ) {
+					int indexSrc = input.startIndex + y* input.stride;
+					int indexDst = output.startIndex + y* output.stride;
+					int end = indexSrc + input.width*input.numBands;
+
+					for( ; indexSrc < end; indexSrc++ , indexDst++) {
+						output.data[indexDst] = (byte)-input.data[indexSrc];
+					}
+				}
+			}
+		});
+	}
+
+	/**
+	 * Sets each pixel in the output image to be the absolute value of the input image.
+	 * Both the input and output image can be the same instance.
+	 *
+	 * @param input The input image. Not modified.
+	 * @param output Where the absolute value image is written to. Modified.
+	 */
+	public static void abs( final ImageSInt16 input , final ImageSInt16 output ) {
+
+		InputSanityCheck.checkSameShape(input,output);
+
+		BoofConcurrency.loopBlocks(0,input.height,BoofConcurrency.minBlockRows(input.width),new IntRangeTask() {
+			@Override
+			public void call(int y0, int y1) {
+				for( int y = y0; y < y1; y++ ) {
+					int indexSrc = input.startIndex + y* input.stride;
+					int indexDst = output.startIndex + y* output.stride;
+					int end = indexSrc + input.width;
+
+					for( ; indexSrc < end; indexSrc++ , indexDst++) {
+						output.data[indexDst] = (short)Math.abs(input.data[indexSrc]);
+					}
+				}
+			}
+		});
+	}
+
+	/**
+	 * Sets each pixel in the output image to be the absolute value of the input image.
+	 * Both the input and output image can be the same instance.
+	 *
+	 * @param input The input image. Not modified.
+	 * @param output Where the absolute value image is written to. Modified.
+	 */
+	public static void abs( final InterleavedS16 input , final InterleavedS16 output ) {
+
+		InputSanityCheck.checkSameShape(input,output);
+		if( input.numBands != output.numBands )
+			throw new IllegalArgumentException("Number of bands must be the same");
+
+		BoofConcurrency.loopBlocks(0,input.height,BoofConcurrency.minBlockRows(input.width*input.numBands),new IntRangeTask() {
+			@Override
+			public void call(int y0, int y1) {
+				for( int y = y0; y < y1; y++ ) {
+					int indexSrc = input.startIndex + y* input.stride;
+					int indexDst = output.startIndex + y* output.stride;
+					int end = indexSrc + input.width*input.numBands;
+
+					for( ; indexSrc < end; indexSrc++ , indexDst++) {
+						output.data[indexDst] = (short)Math.abs(input.data[indexSrc]);
+					}
+				}
+			}
+		});
+	}
+
+	/**
+	 * Changes the sign of every pixel in the image: output[x,y] = -input[x,y]
+	 *
+	 * @param input The input image. Not modified.
+	 * @param output Where the inverted image is written to. Modified.
+	 */
+	public static void invert( final ImageSInt16 input , final ImageSInt16 output ) {
+
+		InputSanityCheck.checkSameShape(input,output);
+
+		BoofConcurrency.loopBlocks(0,input.height,BoofConcurrency.minBlockRows(input.width),new IntRangeTask() {
+			@Override
+			public void call(int y0, int y1) {
+				for( int y = y0; y < y1; y++ ) {
+					int indexSrc = input.startIndex + y* input.stride;
+					int indexDst = output.startIndex + y* output.stride;
+					int end = indexSrc + input.width;
+
+					for( ; indexSrc < end; indexSrc++ , indexDst++) {
+						output.data[indexDst] = (short)-input.data[indexSrc];
+					}
+				}
+			}
+		});
+	}
+
+	/**
+	 * Changes the sign of every pixel in the image: output[x,y] = -input[x,y]
+	 *
+	 * @param input The input image. Not modified.
+	 * @param output Where the inverted image is written to. Modified.
+	 */
+	public static void invert( final InterleavedS16 input , final InterleavedS16 output ) {
+
+		InputSanityCheck.checkSameShape(input,output);
+		if( input.numBands != output.numBands )
+			throw new IllegalArgumentException("Number of bands must be the same");
+
+		BoofConcurrency.loopBlocks(0,input.height,BoofConcurrency.minBlockRows(input.width*input.numBands),new IntRangeTask() {
+			@Override
+			public void call(int y0, int y1) {
+				for( int y = y0; y < y1; y++ ) {
+					int indexSrc = input.startIndex + y* input.stride;
+					int indexDst = output.startIndex + y* output.stride;
+					int end = indexSrc + input.width*input.numBands;
+
+					for( ; indexSrc < end; indexSrc++ , indexDst++) {
+						output.data[indexDst] = (short)-input.data[indexSrc];
+					}
+				}
+			}
+		});
+	}
+
+	/**
+	 * Sets each pixel in the output image to be the absolute value of the input image.
+	 * Both the input and output image can be the same instance.
+	 *
+	 * @param input The input image. Not modified.
+	 * @param output Where the absolute value image is written to. Modified.
+	 */
+	public static void abs( final ImageSInt32 input , final ImageSInt32 output ) {
+
+		InputSanityCheck.checkSameShape(input,output);
+
+		BoofConcurrency.loopBlocks(0,input.height,BoofConcurrency.minBlockRows(input.width),new IntRangeTask() {
+			@Override
+			public void call(int y0, int y1) {
+				for( int y = y0; y < y1; y++ ) {
+					int indexSrc = input.startIndex + y* input.stride;
+					int indexDst = output.startIndex + y* output.stride;
+					int end = indexSrc + input.width;
+
+					for( ; indexSrc < end; indexSrc++ , indexDst++) {
+						output.data[indexDst] = Math.abs(input.data[indexSrc]);
+					}
+				}
+			}
+		});
+	}
+
+	/**
+	 * Sets each pixel in the output image to be the absolute value of the input image.
+	 * Both the input and output image can be the same instance.
+	 *
+	 * @param input The input image. Not modified.
+	 * @param output Where the absolute value image is written to. Modified.
+	 */
+	public static void abs( final InterleavedS32 input , final InterleavedS32 output ) {
+
+		InputSanityCheck.checkSameShape(input,output);
+		if( input.numBands != output.numBands )
+			throw new IllegalArgumentException("Number of bands must be the same");
+
+		BoofConcurrency.loopBlocks(0,input.height,BoofConcurrency.minBlockRows(input.width*input.numBands),new IntRangeTask() {
+			@Override
+			public void call(int y0, int y1) {
+				for( int y = y0; y < y1; y++ ) {
+					int indexSrc = input.startIndex + y* input.stride;
+					int indexDst = output.startIndex + y* output.stride;
+					int end = indexSrc + input.width*input.numBands;
+
+					for( ; indexSrc < end; indexSrc++ , indexDst++) {
+						output.data[indexDst] = Math.abs(input.data[indexSrc]);
+					}
+				}
+			}
+		});
+	}
+
+	/**
+	 * Changes the sign of every pixel in the image: output[x,y] = -input[x,y]
+	 *
+	 * @param input The input image. Not modified.
+	 * @param output Where the inverted image is written to. Modified.
+	 */
+	public static void invert( final ImageSInt32 input , final ImageSInt32 output ) {
+
+		InputSanityCheck.checkSameShape(input,output);
+
+		BoofConcurrency.loopBlocks(0,input.height,BoofConcurrency.minBlockRows(input.width),new IntRangeTask() {
+			@Override
+			public void call(int y0, int y1) {
+				for( int y = y0; y < y1; y++ ) {
+					int indexSrc = input.startIndex + y* input.stride;
+					int indexDst = output.startIndex + y* output.stride;
+					int end = indexSrc + input.width;
+
+					for( ; indexSrc < end; indexSrc++ , indexDst++) {
+						output.data[indexDst] = -input.data[indexSrc];
+					}
+				}
+			}
+		});
+	}
+
+	/**
+	 * Changes the sign of every pixel in the image: output[x,y] = -input[x,y]
+	 *
+	 * @param input The input image. Not modified.
+	 * @param output Where the inverted image is written to. Modified.
+	 */
+	public static void invert( final InterleavedS32 input , final InterleavedS32 output ) {
+
+		InputSanityCheck.checkSameShape(input,output);
+		if( input.numBands != output.numBands )
+			throw new IllegalArgumentException("Number of bands must be the same");
+
+		BoofConcurrency.loopBlocks(0,input.height,BoofConcurrency.minBlockRows(input.width*input.numBands),new IntRangeTask() {
+			@Override
+			public void call(int y0, int y1) {
+				for( int y = y0; y < y1; y++ ) {
+					int indexSrc = input.startIndex + y* input.stride;
+					int indexDst = output.startIndex + y* output.stride;
+					int end = indexSrc + input.width*input.numBands;
+
+					for( ; indexSrc < end; indexSrc++ , indexDst++) {
+						output.data[indexDst] = -input.data[indexSrc];
+					}
+				}
+			}
+		});
+	}
+
+	/**
+	 * Sets each pixel in the output image to be the absolute value of the input image.
+	 * Both the input and output image can be the same instance.
+	 *
+	 * @param input The input image. Not modified.
+	 * @param output Where the absolute value image is written to. Modified.
+	 */
+	public static void abs( final ImageSInt64 input , final ImageSInt64 output ) {
+
+		InputSanityCheck.checkSameShape(input,output);
+
+		BoofConcurrency.loopBlocks(0,input.height,BoofConcurrency.minBlockRows(input.width),new IntRangeTask() {
+			@Override
+			public void call(int y0, int y1) {
+				for( int y = y0; y < y1; y++ ) {
+					int indexSrc = input.startIndex + y* input.stride;
+					int indexDst = output.startIndex + y* output.stride;
+					int end = indexSrc + input.width;
+
+					for( ; indexSrc < end; indexSrc++ , indexDst++) {
+						output.data[indexDst] = Math.abs(input.data[indexSrc]);
+					}
+				}
+			}
+		});
+	}
+
+	/**
+	 * Sets each pixel in the output image to be the absolute value of the input image.
+	 * Both the input and output image can be the same instance.
+	 *
+	 * @param input The input image. Not modified.
+	 * @param output Where the absolute value image is written to. Modified.
+	 */
+	public static void abs( final InterleavedS64 input , final InterleavedS64 output ) {
+
+		InputSanityCheck.checkSameShape(input,output);
+		if( input.numBands != output.numBands )
+			throw new IllegalArgumentException("Number of bands must be the same");
+
+		BoofConcurrency.loopBlocks(0,input.height,BoofConcurrency.minBlockRows(input.width*input.numBands),new IntRangeTask() {
+			@Override
+			public void call(int y0, int y1) {
+				for( int y = y0; y < y1; y++ ) {
+					int indexSrc = input.startIndex + y* input.stride;
+					int indexDst = output.startIndex + y* output.stride;
+					int end = indexSrc + input.width*input.numBands;
+
+					for( ; indexSrc < end; indexSrc++ , indexDst++) {
+						output.data[indexDst] = Math.abs(input.data[indexSrc]);
+					}
+				}
+			}
+		});
+	}
+
+	/**
+	 * Changes the sign of every pixel in the image: output[x,y] = -input[x,y]
+	 *
+	 * @param input The input image. Not modified.
+	 * @param output Where the inverted image is written to. Modified.
+	 */
+	public static void invert( final ImageSInt64 input , final ImageSInt64 output ) {
+
+		InputSanityCheck.checkSameShape(input,output);
+
+		BoofConcurrency.loopBlocks(0,input.height,BoofConcurrency.minBlockRows(input.width),new IntRangeTask() {
+			@Override
+			public void call(int y0, int y1) {
+				for( int y = y0; y < y1; y++ ) {
+					int indexSrc = input.startIndex + y* input.stride;
+					int indexDst = output.startIndex + y* output.stride;
+					int end = indexSrc + input.width;
+
+					for( ; indexSrc < end; indexSrc++ , indexDst++) {
+						output.data[indexDst] = -input.data[indexSrc];
+					}
+				}
+			}
+		});
+	}
+
+	/**
+	 * Changes the sign of every pixel in the image: output[x,y] = -input[x,y]
+	 *
+	 * @param input The input image. Not modified.
+	 * @param output Where the inverted image is written to. Modified.
+	 */
+	public static void invert( final InterleavedS64 input , final InterleavedS64 output ) {
+
+		InputSanityCheck.checkSameShape(input,output);
+		if( input.numBands != output.numBands )
+			throw new IllegalArgumentException("Number of bands must be the same");
+
+		BoofConcurrency.loopBlocks(0,input.height,BoofConcurrency.minBlockRows(input.width*input.numBands),new IntRangeTask() {
+			@Override
+			public void call(int y0, int y1) {
+				for( int y = y0; y < y1; y++ ) {
+					int indexSrc = input.startIndex + y* input.stride;
+					int indexDst = output.startIndex + y* output.stride;
+					int end = indexSrc + input.width*input.numBands;
+
+					for( ; indexSrc < end; indexSrc++ , indexDst++) {
+						output.data[indexDst] = -input.data[indexSrc];
+					}
+				}
+			}
+		});
+	}
+
+	/**
+	 * Sets each pixel in the output image to be the absolute value of the input image.
+	 * Both the input and output image can be the same instance.
+	 *
+	 * @param input The input image. Not modified.
+	 * @param output Where the absolute value image is written to. Modified.
+	 */
+	public static void abs( final ImageFloat32 input , final ImageFloat32 output ) {
+
+		InputSanityCheck.checkSameShape(input,output);
+
+		BoofConcurrency.loopBlocks(0,input.height,BoofConcurrency.minBlockRows(input.width),new IntRangeTask() {
+			@Override
+			public void call(int y0, int y1) {
+				for( int y = y0; y < y1; y++ ) {
+					int indexSrc = input.startIndex + y* input.stride;
+					int indexDst = output.startIndex + y* output.stride;
+					int end = indexSrc + input.width;
+
+					for( ; indexSrc < end; indexSrc++ , indexDst++) {
+						output.data[indexDst] = Math.abs(input.data[indexSrc]);
+					}
+				}
+			}
+		});
+	}
+
+	/**
+	 * Sets each pixel in the output image to be the absolute value of the input image.
+	 * Both the input and output image can be the same instance.
+	 *
+	 * @param input The input image. Not modified.
+	 * @param output Where the absolute value image is written to. Modified.
+	 */
+	public static void abs( final InterleavedF32 input , final InterleavedF32 output ) {
+
+		InputSanityCheck.checkSameShape(input,output);
+		if( input.numBands != output.numBands )
+			throw new IllegalArgumentException("Number of bands must be the same");
+
+		BoofConcurrency.loopBlocks(0,input.height,BoofConcurrency.minBlockRows(input.width*input.numBands),new IntRangeTask() {
+			@Override
+			public void call(int y0, int y1) {
+				for( int y = y0; y < y1; y++ ) {
+					int indexSrc = input.startIndex + y* input.stride;
+					int indexDst = output.startIndex + y* output.stride;
+					int end = indexSrc + input.width*input.numBands;
+
+					for( ; indexSrc < end; indexSrc++ , indexDst++) {
+						output.data[indexDst] = Math.abs(input.data[indexSrc]);
+					}
+				}
+			}
+		});
+	}
+
+	/**
+	 * Changes the sign of every pixel in the image: output[x,y] = -input[x,y]
+	 *
+	 * @param input The input image. Not modified.
+	 * @param output Where the inverted image is written to. Modified.
+	 */
+	public static void invert( final ImageFloat32 input , final ImageFloat32 output ) {
+
+		InputSanityCheck.checkSameShape(input,output);
+
+		BoofConcurrency.loopBlocks(0,input.height,BoofConcurrency.minBlockRows(input.width),new IntRangeTask() {
+			@Override
+			public void call(int y0, int y1) {
+				for( int y = y0; y < y1; y++ ) {
+					int indexSrc = input.startIndex + y* input.stride;
+					int indexDst = output.startIndex + y* output.stride;
+					int end = indexSrc + input.width;
+
+					for( ; indexSrc < end; indexSrc++ , indexDst++) {
+						output.data[indexDst] = -input.data[indexSrc];
+					}
+				}
+			}
+		});
+	}
+
+	/**
+	 * Changes the sign of every pixel in the image: output[x,y] = -input[x,y]
+	 *
+	 * @param input The input image. Not modified.
+	 * @param output Where the inverted image is written to. Modified.
+	 */
+	public static void invert( final InterleavedF32 input , final InterleavedF32 output ) {
+
+		InputSanityCheck.checkSameShape(input,output);
+		if( input.numBands != output.numBands )
+			throw new IllegalArgumentException("Number of bands must be the same");
+
+		BoofConcurrency.loopBlocks(0,input.height,BoofConcurrency.minBlockRows(input.width*input.numBands),new IntRangeTask() {
+			@Override
+			public void call(int y0, int y1) {
+				for( int y = y0; y < y1; y++ ) {
+					int indexSrc = input.startIndex + y* input.stride;
+					int indexDst = output.startIndex + y* output.stride;
+					int end = indexSrc + input.width*input.numBands;
+
+					for( ; indexSrc < end; indexSrc++ , indexDst++) {
+						output.data[indexDst] = -input.data[indexSrc];
+					}
+				}
+			}
+		});
+	}
+
+	/**
+	 * Sets each pixel in the output image to be the absolute value of the input image.
+	 * Both the input and output image can be the same instance.
+	 *
+	 * @param input The input image. Not modified.
+	 * @param output Where the absolute value image is written to. Modified.
+	 */
+	public static void abs( final ImageFloat64 input , final ImageFloat64 output ) {
+
+		InputSanityCheck.checkSameShape(input,output);
+
+		BoofConcurrency.loopBlocks(0,input.height,BoofConcurrency.minBlockRows(input.width),new IntRangeTask() {
+			@Override
+			public void call(int y0, int y1) {
+				for( int y = y0; y < y1; y++ ) {
+					int indexSrc = input.startIndex + y* input.stride;
+					int indexDst = output.startIndex + y* output.stride;
+					int end = indexSrc + input.width;
+
+					for( ; indexSrc < end; indexSrc++ , indexDst++) {
+						output.data[indexDst] = Math.abs(input.data[indexSrc]);
+					}
+				}
+			}
+		});
+	}
+
+	/**
+	 * Sets each pixel in the output image to be the absolute value of the input image.
+	 * Both the input and output image can be the same instance.
+	 *
+	 * @param input The input image. Not modified.
+	 * @param output Where the absolute value image is written to. Modified.
+	 */
+	public static void abs( final InterleavedF64 input , final InterleavedF64 output ) {
+
+		InputSanityCheck.checkSameShape(input,output);
+		if( input.numBands != output.numBands )
+			throw new IllegalArgumentException("Number of bands must be the same");
+
+		BoofConcurrency.loopBlocks(0,input.height,BoofConcurrency.minBlockRows(input.width*input.numBands),new IntRangeTask() {
+			@Override
+			public void call(int y0, int y1) {
+				for( int y = y0; y < y1; y++ ) {
+					int indexSrc = input.startIndex + y* input.stride;
+					int indexDst = output.startIndex + y* output.stride;
+					int end = indexSrc + input.width*input.numBands;
+
+					for( ; indexSrc < end; indexSrc++ , indexDst++) {
+						output.data[indexDst] = Math.abs(input.data[indexSrc]);
+					}
+				}
+			}
+		});
+	}
+
+	/**
+	 * Changes the sign of every pixel in the image: output[x,y] = -input[x,y]
+	 *
+	 * @param input The input image. Not modified.
+	 * @param output Where the inverted image is written to. Modified.
+	 */
+	public static void invert( final ImageFloat64 input , final ImageFloat64 output ) {
+
+		InputSanityCheck.checkSameShape(input,output);
+
+		BoofConcurrency.loopBlocks(0,input.height,BoofConcurrency.minBlockRows(input.width),new IntRangeTask() {
+			@Override
+			public void call(int y0, int y1) {
+				for( int y = y0; y < y1; y++ ) {
+					int indexSrc = input.startIndex + y* input.stride;
+					int indexDst = output.startIndex + y* output.stride;
+					int end = indexSrc + input.width;
+
+					for( ; indexSrc < end; indexSrc++ , indexDst++) {
+						output.data[indexDst] = -input.data[indexSrc];
+					}
+				}
+			}
+		});
+	}
+
+	/**
+	 * Changes the sign of every pixel in the image: output[x,y] = -input[x,y]
+	 *
+	 * @param input The input image. Not modified.
+	 * @param output Where the inverted image is written to. Modified.
+	 */
+	public static void invert( final InterleavedF64 input , final InterleavedF64 output ) {
+
+		InputSanityCheck.checkSameShape(input,output);
+		if( input.numBands != output.numBands )
+			throw new IllegalArgumentException("Number of bands must be the same");
+
+		BoofConcurrency.loopBlocks(0,input.height,BoofConcurrency.minBlockRows(input.width*input.numBands),new IntRangeTask() {
+			@Override
+			public void call(int y0, int y1) {
+				for( int y = y0; y < y1; y++ ) {
+					int indexSrc = input.startIndex + y* input.stride;
+					int indexDst = output.startIndex + y* output.stride;
+					int end = indexSrc + input.width*input.numBands;
+
+					for( ; indexSrc < end; indexSrc++ , indexDst++) {
+						output.data[indexDst] = -input.data[indexSrc];
+					}
+				}
+			}
+		});
+	}
+
+	/**
+	 * Multiply each element by a scalar value. Both input and output images can
+	 * be the same instance.
+	 *
+	 * @param input The input image. Not modified.
+	 * @param value What each element is multiplied by.
+	 * @param output The output image. Modified.
+	 */
+	public static void multiply( final ImageUInt8 input , final double value , final ImageUInt8 output ) {
+
+		InputSanityCheck.checkSameShape(input,output);
+
+		BoofConcurrency.loopBlocks(0,input.height,BoofConcurrency.minBlockRows(input.width),new IntRangeTask() {
+			@Override
+			public void call(int y0, int y1) {
+				for( int y = y0; y < y1; y++ ) {
+					int indexSrc = input.startIndex + y* input.stride;
+					int indexDst = output.startIndex + y* output.stride;
+					int end = indexSrc + input.width;
+
+					for( ; indexSrc < end; indexSrc++ , indexDst++) {
+						output.data[indexDst] = (byte)((input.data[indexSrc] & 0xFF) * value);
+					}
+				}
+			}
+		});
+	}
+
+	/**
+	 * Multiply each element by a scalar value and bounds the result. Both input and output images can
+	 * be the same instance.
+	 *
+	 * @param input The input image. Not modified.
+	 * @param value What each element is multiplied by.
+	 * @param lower Lower bound on output. Inclusive.
+	 * @param upper Upper bound on output. Inclusive.
+	 * @param output The output image. Modified.
+	 */
+	public static void multiply( final ImageUInt8 input , final double value , final int lower , final int upper , final ImageUInt8 output ) {
+
+		InputSanityCheck.checkSameShape(input,output);
+
+		BoofConcurrency.loopBlocks(0,input.height,BoofConcurrency.minBlockRows(input.width),new IntRangeTask() {
+			@Override
+			public void call(int y0, int y1) {
+				for( int y = y0; y < y1; y++ ) {
+					int indexSrc = input.startIndex + y* input.stride;
+					int indexDst = output.startIndex + y* output.stride;
+					int end = indexSrc + input.width;
+
+					for( ; indexSrc < end; indexSrc++ , indexDst++) {
+						int val = (int)((input.data[indexSrc] & 0xFF) * value);
+						if( val < lower ) val = lower;
+						if( val > upper ) val = upper;
+						output.data[indexDst] = (byte)val;
+					}
+				}
+			}
+		});
+	}
+
+	/**
+	 * Divide each element by a scalar value. Both input and output images can be the same instance.
+	 *
+	 * @param input The input image. Not modified.
+	 * @param denominator What each element is divided by.
+	 * @param output The output image. Modified.
+	 */
+	public static void divide( final ImageUInt8 input , final double denominator , final ImageUInt8 output ) {
+
+		InputSanityCheck.checkSameShape(input,output);
+
+		BoofConcurrency.loopBlocks(0,input.height,BoofConcurrency.minBlockRows(input.width),new IntRangeTask() {
+			@Override
+			public void call(int y0, int y1) {
+				for( int y = y0; y < y1; y++ ) {
+					int indexSrc = input.startIndex + y* input.stride;
+					int indexDst = output.startIndex + y* output.stride;
+					int end = indexSrc + input.width;
+
+					for( ; indexSrc < end; indexSrc++ , indexDst++) {
+						output.data[indexDst] = (byte)((input.data[indexSrc] & 0xFF) / denominator);
+					}
+				}
+			}
+		});
+	}
+
+	/**
+	 * Divide each element by a scalar value and bounds the result. Both input and output images can be the same instance.
+	 *
+	 * @param input The input image. Not modified.
+	 * @param denominator What each element is divided by.
+	 * @param lower Lower bound on output. Inclusive.
+	 * @param upper Upper bound on output. Inclusive.
+	 * @param output The output image. Modified.
+	 */
+	public static void divide( final ImageUInt8 input , final double denominator , final int lower , final int upper , final ImageUInt8 output ) {
+
+		InputSanityCheck.checkSameShape(input,output);
+
+		BoofConcurrency.loopBlocks(0,input.height,BoofConcurrency.minBlockRows(input.width),new IntRangeTask() {
+			@Override
+			public void call(int y0, int y1) {
+				for( int y = y0; y < y1; y++ ) {
+					int indexSrc = input.startIndex + y* input.stride;
+					int indexDst = output.startIndex + y* output.stride;
+					int end = indexSrc + input.width;
+
+					for( ; indexSrc < end; indexSrc++ , indexDst++) {
+						int val = (int)((input.data[indexSrc] & 0xFF) / denominator);
+						if( val < lower ) val = lower;
+						if( val > upper ) val = upper;
+						output.data[indexDst] = (byte)val;
+					}
+				}
+			}
+		});
+	}
+
+	/**
+	 * Add a scalar value to each element. Both input and output images can be the same instance.
+	 *
+	 * @param input The input image. Not modified.
+	 * @param value What is added to each element.
+	 * @param output The output image. Modified.
+	 */
+	public static void plus( final ImageUInt8 input , final int value , final ImageUInt8 output ) {
+
+		InputSanityCheck.checkSameShape(input,output);
+
+		BoofConcurrency.loopBlocks(0,input.height,BoofConcurrency.minBlockRows(input.width),new IntRangeTask() {
+			@Override
+			public void call(int y0, int y1) {
+				for( int y = y0; y < y1; y++ ) {
+					int indexSrc = input.startIndex + y* input.stride;
+					int indexDst = output.startIndex + y* output.stride;
+					int end = indexSrc + input.width;
+
+					for( ; indexSrc < end; indexSrc++ , indexDst++) {
+						output.data[indexDst] = (byte)((input.data[indexSrc] & 0xFF) + value);
+					}
+				}
+			}
+		});
+	}
+
+	/**
+	 * Add a scalar value to each element and bounds the result. Both input and output images can be the same instance.
+	 *
+	 * @param input The input image. Not modified.
+	 * @param value What is added to each element.
+	 * @param lower Lower bound on output. Inclusive.
+	 * @param upper Upper bound on output. Inclusive.
+	 * @param output The output image. Modified.
+	 */
+	public static void plus( final ImageUInt8 input , final int value , final int lower , final int upper , final ImageUInt8 output ) {
+
+		InputSanityCheck.checkSameShape(input,output);
+
+		BoofConcurrency.loopBlocks(0,input.height,BoofConcurrency.minBlockRows(input.width),new IntRangeTask() {
+			@Override
+			public void call(int y0, int y1) {
+				for( int y = y0; y < y1; y++ ) {
+					int indexSrc = input.startIndex + y* input.stride;
+					int indexDst = output.startIndex + y* output.stride;
+					int end = indexSrc + input.width;
+
+					for( ; indexSrc < end; indexSrc++ , indexDst++) {
+						int val = (input.data[indexSrc] & 0xFF) + value;
+						if( val < lower ) val = lower;
+						if( val > upper ) val = upper;
+						output.data[indexDst] = (byte)val;
+					}
+				}
+			}
+		});
+	}
+
+	/**
+	 * Bounds image pixels to be between these two values
+	 *
+	 * @param img Image
+	 * @param min minimum value.
+	 * @param max maximum value.
+	 */
+	public static void boundImage( final ImageUInt8 img , final int min , final int max ) {
+		final int rowLength = img.width;
+
+		BoofConcurrency.loopBlocks(0,img.height,BoofConcurrency.minBlockRows(rowLength),new IntRangeTask() {
+			@Override
+			public void call(int y0, int y1) {
+				byte[] data = img.data;
+
+				for( int y = y0; y < y1; y++ ) {
+					int index = img.startIndex + y * img.stride;
+					int indexEnd = index+rowLength;
+					for( ; index < indexEnd; index++ ) {
+						int value = data[index]& 0xFF;
+						if( value < min )
+							data[index] = (byte)min;
+						else if( value > max )
+							data[index] = (byte)max;
+					}
+				}
+			}
+		});
+	}
+
+	/**
+	 * <p>
+	 * Computes the absolute value of the difference between each pixel in the two images.<br>
+	 * d(x,y) = |img1(x,y) - img2(x,y)|
+	 * </p>
+	 * @param imgA Input image. Not modified.
+	 * @param imgB Input image. Not modified.
+	 * @param diff Absolute value of difference image. Modified.
+	 */
+	public static void diffAbs( final ImageUInt8 imgA , final ImageUInt8 imgB , final ImageUInt8 diff ) {
+
+		InputSanityCheck.checkSameShape(imgA,imgB,diff);
+
+		BoofConcurrency.loopBlocks(0,imgA.height,BoofConcurrency.minBlockRows(imgA.width),new IntRangeTask() {
+			@Override
+			public void call(int y0, int y1) {
+				for( int y = y0; y < y1; y++ ) {
+					int indexA = imgA.startIndex + y * imgA.stride;
+					int indexB = imgB.startIndex + y * imgB.stride;
+					int indexOut = diff.startIndex + y * diff.stride;
+
+					int indexEnd = indexA + imgA.width;
+					for( ; indexA < indexEnd; indexA++, indexB++, indexOut++ ) {
+						diff.data[indexOut] = (byte)Math.abs((imgA.data[indexA] & 0xFF) - (imgB.data[indexB] & 0xFF));
+					}
+				}
+			}
+		});
+	}
+
+	/**
+	 * Multiply each element by a scalar value. Both input and output images can
+	 * be the same instance.
+	 *
+	 * @param input The input image. Not modified.
+	 * @param value What each element is multiplied by.
+	 * @param output The output image. Modified.
+	 */
+	public static void multiply( final InterleavedU8 input , final double value , final InterleavedU8 output ) {
+
+		InputSanityCheck.checkSameShape(input,output);
+		if( input.numBands != output.numBands )
+			throw new IllegalArgumentException("Number of bands must be the same");
+
+		BoofConcurrency.loopBlocks(0,input.height,BoofConcurrency.minBlockRows(input.width*input.numBands),new IntRangeTask() {
+			@Override
+			public void call(int y0, int y1) {
+				for( int y = y0; y < y1; y++ ) {
+					int indexSrc = input.startIndex + y* input.stride;
+					int indexDst = output.startIndex + y* output.stride;
+					int end = indexSrc + input.width*input.numBands;
+
+					for( ; indexSrc < end; indexSrc++ , indexDst++) {
+						output.data[indexDst] = (byte)((input.data[indexSrc] & 0xFF) * value);
+					}
+				}
+			}
+		});
+	}
+
+	/**
+	 * Multiply each element by a scalar value and bounds the result. Both input and output images can
+	 * be the same instance.
+	 *
+	 * @param input The input image. Not modified.
+	 * @param value What each element is multiplied by.
+	 * @param lower Lower bound on output. Inclusive.
+	 * @param upper Upper bound on output. Inclusive.
+	 * @param output The output image. Modified.
+	 */
+	public static void multiply( final InterleavedU8 input , final double value , final int lower , final int upper , final InterleavedU8 output ) {
+
+		InputSanityCheck.checkSameShape(input,output);
+		if( input.numBands != output.numBands )
+			throw new IllegalArgumentException("Number of bands must be the same");
+
+		BoofConcurrency.loopBlocks(0,input.height,BoofConcurrency.minBlockRows(input.width*input.numBands),new IntRangeTask() {
+			@Override
+			public void call(int y0, int y1) {
+				for( int y = y0; y < y1; y++ ) {
+					int indexSrc = input.startIndex + y* input.stride;
+					int indexDst = output.startIndex + y* output.stride;
+					int end = indexSrc + input.width*input.numBands;
+
+					for( ; indexSrc < end; indexSrc++ , indexDst++) {
+						int val = (int)((input.data[indexSrc] & 0xFF) * value);
+						if( val < lower ) val = lower;
+						if( val > upper ) val = upper;
+						output.data[indexDst] = (byte)val;
+					}
+				}
+			}
+		});
+	}
+
+	/**
+	 * Divide each element by a scalar value. Both input and output images can be the same instance.
+	 *
+	 * @param input The input image. Not modified.
+	 * @param denominator What each element is divided by.
+	 * @param output The output image. Modified.
+	 */
+	public static void divide( final InterleavedU8 input , final double denominator , final InterleavedU8 output ) {
+
+		InputSanityCheck.checkSameShape(input,output);
+		if( input.numBands != output.numBands )
+			throw new IllegalArgumentException("Number of bands must be the same");
+
+		BoofConcurrency.loopBlocks(0,input.height,BoofConcurrency.minBlockRows(input.width*input.numBands),new IntRangeTask() {
+			@Override
+			public void call(int y0, int y1) {
+				for( int y = y0; y < y1; y++ ) {
+					int indexSrc = input.startIndex + y* input.stride;
+					int indexDst = output.startIndex + y* output.stride;
+					int end = indexSrc + input.width*input.numBands;
+
+					for( ; indexSrc < end; indexSrc++ , indexDst++) {
+						output.data[indexDst] = (byte)((input.data[indexSrc] & 0xFF) / denominator);
+					}
+				}
+			}
+		});
+	}
+
+	/**
+	 * Divide each element by a scalar value and bounds the result. Both input and output images can be the same instance.
+	 *
+	 * @param input The input image. Not modified.
+	 * @param denominator What each element is divided by.
+	 * @param lower Lower bound on output. Inclusive.
+	 * @param upper Upper bound on output. Inclusive.
+	 * @param output The output image. Modified.
+	 */
+	public static void divide( final InterleavedU8 input , final double denominator , final int lower , final int upper , final InterleavedU8 output ) {
+
+		InputSanityCheck.checkSameShape(input,output);
+		if( input.numBands != output.numBands )
+			throw new IllegalArgumentException("Number of bands must be the same");
+
+		BoofConcurrency.loopBlocks(0,input.height,BoofConcurrency.minBlockRows(input.width*input.numBands),new IntRangeTask() {
+			@Override
+			public void call(int y0, int y1) {
+				for( int y = y0; y < y1; y++ ) {
+					int indexSrc = input.startIndex + y* input.stride;
+					int indexDst = output.startIndex + y* output.stride;
+					int end = indexSrc + input.width*input.numBands;
+
+					for( ; indexSrc < end; indexSrc++ , indexDst++) {
+						int val = (int)((input.data[indexSrc] & 0xFF) / denominator);
+						if( val < lower ) val = lower;
+						if( val > upper ) val = upper;
+						output.data[indexDst] = (byte)val;
+					}
+				}
+			}
+		});
+	}
+
+	/**
+	 * Add a scalar value to each element. Both input and output images can be the same instance.
+	 *
+	 * @param input The input image. Not modified.
+	 * @param value What is added to each element.
+	 * @param output The output image. Modified.
+	 */
+	public static void plus( final InterleavedU8 input , final int value , final InterleavedU8 output ) {
+
+		InputSanityCheck.checkSameShape(input,output);
+		if( input.numBands != output.numBands )
+			throw new IllegalArgumentException("Number of bands must be the same");
+
+		BoofConcurrency.loopBlocks(0,input.height,BoofConcurrency.minBlockRows(input.width*input.numBands),new IntRangeTask() {
+			@Override
+			public void call(int y0, int y1) {
+				for( int y = y0; y < y1; y++ ) {
+					int indexSrc = input.startIndex + y* input.stride;
+					int indexDst = output.startIndex + y* output.stride;
+					int end = indexSrc + input.width*input.numBands;
+
+					for( ; indexSrc < end; indexSrc++ , indexDst++) {
+						output.data[indexDst] = (byte)((input.data[indexSrc] & 0xFF) + value);
+					}
+				}
+			}
+		});
+	}
+
+	/**
+	 * Add a scalar value to each element and bounds the result. Both input and output images can be the same instance.
+	 *
+	 * @param input The input image. Not modified.
+	 * @param value What is added to each element.
+	 * @param lower Lower bound on output. Inclusive.
+	 * @param upper Upper bound on output. Inclusive.
+	 * @param output The output image. Modified.
+	 */
+	public static void plus( final InterleavedU8 input , final int value , final int lower , final int upper , final InterleavedU8 output ) {
+
+		InputSanityCheck.checkSameShape(input,output);
+		if( input.numBands != output.numBands )
+			throw new IllegalArgumentException("Number of bands must be the same");
+
+		BoofConcurrency.loopBlocks(0,input.height,BoofConcurrency.minBlockRows(input.width*input.numBands),new IntRangeTask() {
+			@Override
+			public void call(int y0, int y1) {
+				for( int y = y0; y < y1; y++ ) {
+					int indexSrc = input.startIndex + y* input.stride;
+					int indexDst = output.startIndex + y* output.stride;
+					int end = indexSrc + input.width*input.numBands;
+
+					for( ; indexSrc < end; indexSrc++ , indexDst++) {
+						int val = (input.data[indexSrc] & 0xFF) + value;
+						if( val < lower ) val = lower;
+						if( val > upper ) val = upper;
+						output.data[indexDst] = (byte)val;
+					}
+				}
+			}
+		});
+	}
+
+	/**
+	 * Bounds image pixels to be between these two values
+	 *
+	 * @param img Image
+	 * @param min minimum value.
+	 * @param max maximum value.
+	 */
+	public static void boundImage( final InterleavedU8 img , final int min , final int max ) {
+		final int rowLength = img.width*img.numBands;
+
+		BoofConcurrency.loopBlocks(0,img.height,BoofConcurrency.minBlockRows(rowLength),new IntRangeTask() {
+			@Override
+			public void call(int y0, int y1) {
+				byte[] data = img.data;
+
+				for( int y = y0; y < y1; y++ ) {
+					int index = img.startIndex + y * img.stride;
+					int indexEnd = index+rowLength;
+					for( ; index < indexEnd; index++ ) {
+						int value = data[index]& 0xFF;
+						if( value < min )
+							data[index] = (byte)min;
+						else if( value > max )
+							data[index] = (byte)max;
+					}
+				}
+			}
+		});
+	}
+
+	/**
+	 * <p>
+	 * Computes the absolute value of the difference between each pixel in the two images.<br>
+	 * d(x,y) = |img1(x,y) - img2(x,y)|
+	 * </p>
+	 * @param imgA Input image. Not modified.
+	 * @param imgB Input image. Not modified.
+	 * @param diff Absolute value of difference image. Modified.
+	 */
+	public static void diffAbs( final InterleavedU8 imgA , final InterleavedU8 imgB , final InterleavedU8 diff ) {
+
+		InputSanityCheck.checkSameShape(imgA,imgB,diff);
+		if( imgA.numBands != imgB.numBands || imgA.numBands != diff.numBands )
+			throw new IllegalArgumentException("Number of bands must be the same");
+
+		BoofConcurrency.loopBlocks(0,imgA.height,BoofConcurrency.minBlockRows(imgA.width*imgA.numBands),new IntRangeTask() {
+			@Override
+			public void call(int y0, int y1) {
+				for( int y = y0; y < y1; y++ ) {
+					int indexA = imgA.startIndex + y * imgA.stride;
+					int indexB = imgB.startIndex + y * imgB.stride;
+					int indexOut = diff.startIndex + y * diff.stride;
+
+					int indexEnd = indexA + imgA.width*imgA.numBands;
+					for( ; indexA < indexEnd; indexA++, indexB++, indexOut++ ) {
+						diff.data[indexOut] = (byte)Math.abs((imgA.data[indexA] & 0xFF) - (imgB.data[indexB] & 0xFF));
+					}
+				}
+			}
+		});
+	}
+
+	/**
+	 * Multiply each element by a scalar value. Both input and output images can
+	 * be the same instance.
+	 *
+	 * @param input The input image. Not modified.
+	 * @param value What each element is multiplied by.
+	 * @param output The output image. Modified.
+	 */
+	public static void multiply( final ImageSInt8 input , final double value , final ImageSInt8 output ) {
+
+		InputSanityCheck.checkSameShape(input,output);
+
+		BoofConcurrency.loopBlocks(0,input.height,BoofConcurrency.minBlockRows(input.width),new IntRangeTask() {
+			@Override
+			public void call(int y0, int y1) {
+				for( int y = y0; y < y1; y++ ) {
+					int indexSrc = input.startIndex + y* input.stride;
+					int indexDst = output.startIndex + y* output.stride;
+					int end = indexSrc + input.width;
+
+					for( ; indexSrc < end; indexSrc++ , indexDst++) {
+						output.data[indexDst] = (byte)((input.data[indexSrc] ) * value);
+					}
+				}
+			}
+		});
+	}
+
+	/**
+	 * Multiply each element by a scalar value and bounds the result. Both input and output images can
+	 * be the same instance.
+	 *
+	 * @param input The input image. Not modified.
+	 * @param value What each element is multiplied by.
+	 * @param lower Lower bound on output. Inclusive.
+	 * @param upper Upper bound on output. Inclusive.
+	 * @param output The output image. Modified.
+	 */
+	public static void multiply( final ImageSInt8 input , final double value , final int lower , final int upper , final ImageSInt8 output ) {
+
+		InputSanityCheck.checkSameShape(input,output);
+
+		BoofConcurrency.loopBlocks(0,input.height,BoofConcurrency.minBlockRows(input.width),new IntRangeTask() {
+			@Override
+			public void call(int y0, int y1) {
+				for( int y = y0; y < y1; y++ ) {
+					int indexSrc = input.startIndex + y* input.stride;
+					int indexDst = output.startIndex + y* output.stride;
+					int end = indexSrc + input.width;
+
+					for( ; indexSrc < end; indexSrc++ , indexDst++) {
+						int val = (int)((input.data[indexSrc] ) * value);
+						if( val < lower ) val = lower;
+						if( val > upper ) val = upper;
+						output.data[indexDst] = (byte)val;
+					}
+				}
+			}
+		});
+	}
+
+	/**
+	 * Divide each element by a scalar value. Both input and output images can be the same instance.
+	 *
+	 * @param input The input image. Not modified.
+	 * @param denominator What each element is divided by.
+	 * @param output The output image. Modified.
+	 */
+	public static void divide( final ImageSInt8 input , final double denominator , final ImageSInt8 output ) {
+
+		InputSanityCheck.checkSameShape(input,output);
+
+		BoofConcurrency.loopBlocks(0,input.height,BoofConcurrency.minBlockRows(input.width),new IntRangeTask() {
+			@Override
+			public void call(int y0, int y1) {
+				for( int y = y0; y < y1; y++ ) {
+					int indexSrc = input.startIndex + y* input.stride;
+					int indexDst = output.startIndex + y* output.stride;
+					int end = indexSrc + input.width;
+
+					for( ; indexSrc < end; indexSrc++ , indexDst++) {
+						output.data[indexDst] = (byte)((input.data[indexSrc] ) / denominator);
+					}
+				}
+			}
+		});
+	}
+
+	/**
+	 * Divide each element by a scalar value and bounds the result. Both input and output images can be the same instance.
+	 *
+	 * @param input The input image. Not modified.
+	 * @param denominator What each element is divided by.
+	 * @param lower Lower bound on output. Inclusive.
+	 * @param upper Upper bound on output. Inclusive.
+	 * @param output The output image. Modified.
+	 */
+	public static void divide( final ImageSInt8 input , final double denominator , final int lower , final int upper , final ImageSInt8 output ) {
+
+		InputSanityCheck.checkSameShape(input,output);
+
+		BoofConcurrency.loopBlocks(0,input.height,BoofConcurrency.minBlockRows(input.width),new IntRangeTask() {
+			@Override
+			public void call(int y0, int y1) {
+				for( int y = y0; y < y1; y++ ) {
+					int indexSrc = input.startIndex + y* input.stride;
+					int indexDst = output.startIndex + y* output.stride;
+					int end = indexSrc + input.width;
+
+					for( ; indexSrc < end; indexSrc++ , indexDst++) {
+						int val = (int)((input.data[indexSrc] ) / denominator);
+						if( val < lower ) val = lower;
+						if( val > upper ) val = upper;
+						output.data[indexDst] = (byte)val;
+					}
+				}
+			}
+		});
+	}
+
+	/**
+	 * Add a scalar value to each element. Both input and output images can be the same instance.
+	 *
+	 * @param input The input image. Not modified.
+	 * @param value What is added to each element.
+	 * @param output The output image. Modified.
+	 */
+	public static void plus( final ImageSInt8 input , final int value , final ImageSInt8 output ) {
+
+		InputSanityCheck.checkSameShape(input,output);
+
+		BoofConcurrency.loopBlocks(0,input.height,BoofConcurrency.minBlockRows(input.width),new IntRangeTask() {
+			@Override
+			public void call(int y0, int y1) {
+				for( int y = y0; y < y1; y++ ) {
+					int indexSrc = input.startIndex + y* input.stride;
+					int indexDst = output.startIndex + y* output.stride;
+					int end = indexSrc + input.width;
+
+					for( ; indexSrc < end; indexSrc++ , indexDst++) {
+						output.data[indexDst] = (byte)((input.data[indexSrc] ) + value);
+					}
+				}
+			}
+		});
+	}
+
+	/**
+	 * Add a scalar value to each element and bounds the result. Both input and output images can be the same instance.
+	 *
+	 * @param input The input image. Not modified.
+	 * @param value What is added to each element.
+	 * @param lower Lower bound on output. Inclusive.
+	 * @param upper Upper bound on output. Inclusive.
+	 * @param output The output image. Modified.
+	 */
+	public static void plus( final ImageSInt8 input , final int value , final int lower , final int upper , final ImageSInt8 output ) {
+
+		InputSanityCheck.checkSameShape(input,output);
+
+		BoofConcurrency.loopBlocks(0,input.height,BoofConcurrency.minBlockRows(input.width),new IntRangeTask() {
+			@Override
+			public void call(int y0, int y1) {
+				for( int y = y0; y < y1; y++ ) {
+					int indexSrc = input.startIndex + y* input.stride;
+					int indexDst = output.startIndex + y* output.stride;
+					int end = indexSrc + input.width;
+
+					for( ; indexSrc < end; indexSrc++ , indexDst++) {
+						int val = (input.data[indexSrc] ) + value;
+						if( val < lower ) val = lower;
+						if( val > upper ) val = upper;
+						output.data[indexDst] = (byte)val;
+					}
+				}
+			}
+		});
+	}
+
+	/**
+	 * Bounds image pixels to be between these two values
+	 *
+	 * @param img Image
+	 * @param min minimum value.
+	 * @param max maximum value.
+	 */
+	public static void boundImage( final ImageSInt8 img , final int min , final int max ) {
+		final int rowLength = img.width;
+
+		BoofConcurrency.loopBlocks(0,img.height,BoofConcurrency.minBlockRows(rowLength),new IntRangeTask() {
+			@Override
+			public void call(int y0, int y1) {
+				byte[] data = img.data;
+
+				for( int y = y0; y < y1; y++ ) {
+					int index = img.startIndex + y * img.stride;
+					int indexEnd = index+rowLength;
+					for( ; index < indexEnd; index++ ) {
+						int value = data[index];
+						if( value < min )
+							data[index] = (byte)min;
+						else if( value > max )
+							data[index] = (byte)max;
+					}
+				}
+			}
+		});
+	}
+
+	/**
+	 * <p>
+	 * Computes the absolute value of the difference between each pixel in the two images.<br>
+	 * d(x,y) = |img1(x,y) - img2(x,y)|
+	 * </p>
+	 * @param imgA Input image. Not modified.
+	 * @param imgB Input image. Not modified.
+	 * @param diff Absolute value of difference image. Modified.
+	 */
+	public static void diffAbs( final ImageSInt8 imgA , final ImageSInt8 imgB , final ImageSInt8 diff ) {
+
+		InputSanityCheck.checkSameShape(imgA,imgB,diff);
+
+		BoofConcurrency.loopBlocks(0,imgA.height,BoofConcurrency.minBlockRows(imgA.width),new IntRangeTask() {
+			@Override
+			public void call(int y0, int y1) {
+				for( int y = y0; y < y1; y++ ) {
+					int indexA = imgA.startIndex + y * imgA.stride;
+					int indexB = imgB.startIndex + y * imgB.stride;
+					int indexOut = diff.startIndex + y * diff.stride;
+
+					int indexEnd = indexA + imgA.width;
+					for( ; indexA < indexEnd; indexA++, indexB++, indexOut++ ) {
+						diff.data[indexOut] = (byte)Math.abs((imgA.data[indexA] ) - (imgB.data[indexB] ));
+					}
+				}
+			}
+		});
+	}
+
+	/**
+	 * Multiply each element by a scalar value. Both input and output images can
+	 * be the same instance.
+	 *
+	 * @param input The input image. Not modified.
+	 * @param value What each element is multiplied by.
+	 * @param output The output image. Modified.
+	 */
+	public static void multiply( final InterleavedS8 input , final double value , final InterleavedS8 output ) {
+
+		InputSanityCheck.checkSameShape(input,output);
+		if( input.numBands != output.numBands )
+			throw new IllegalArgumentException("Number of bands must be the same");
+
+		BoofConcurrency.loopBlocks(0,input.height,BoofConcurrency.minBlockRows(input.width*input.numBands),new IntRangeTask() {
+			@Override
+			public void call(int y0, int y1) {
+				for( int y = y0; y < y1; y++ ) {
+					int indexSrc = input.startIndex + y* input.stride;
+					int indexDst = output.startIndex + y* output.stride;
+					int end = indexSrc + input.width*input.numBands;
+
+					for( ; indexSrc < end; indexSrc++ , indexDst++) {
+						output.data[indexDst] = (byte)((input.data[indexSrc] ) * value);
+					}
+				}
+			}
+		});
+	}
+
+	/**
+	 * Multiply each element by a scalar value and bounds the result. Both input and output images can
+	 * be the same instance.
+	 *
+	 * @param input The input image. Not modified.
+	 * @param value What each element is multiplied by.
+	 * @param lower Lower bound on output. Inclusive.
+	 * @param upper Upper bound on output. Inclusive.
+	 * @param output The output image. Modified.
+	 */
+	public static void multiply( final InterleavedS8 input , final double value , final int lower , final int upper , final InterleavedS8 output ) {
+
+		InputSanityCheck.checkSameShape(input,output);
+		if( input.numBands != output.numBands )
+			throw new IllegalArgumentException("Number of bands must be the same");
+
+		BoofConcurrency.loopBlocks(0,input.height,BoofConcurrency.minBlockRows(input.width*input.numBands),new IntRangeTask() {
+			@Override
+			public void call(int y0, int y1) {
+				for( int y = y0; y < y1; y++ ) {
+					int indexSrc = input.startIndex + y* input.stride;
+					int indexDst = output.startIndex + y* output.stride;
+					int end = indexSrc + input.width*input.numBands;
+
+					for( ; indexSrc < end; indexSrc++ , indexDst++) {
+						int val = (int)((input.data[indexSrc] ) * value);
+						if( val < lower ) val = lower;
+						if( val > upper ) val = upper;
+						output.data[indexDst] = (byte)val;
+					}
+				}
+			}
+		});
+	}
+
+	/**
+	 * Divide each element by a scalar value. Both input and output images can be the same instance.
+	 *
+	 * @param input The input image. Not modified.
+	 * @param denominator What each element is divided by.
+	 * @param output The output image. Modified.
+	 */
+	public static void divide( final InterleavedS8 input , final double denominator , final InterleavedS8 output ) {
+
+		InputSanityCheck.checkSameShape(input,output);
+		if( input.numBands != output.numBands )
+			throw new IllegalArgumentException("Number of bands must be the same");
+
+		BoofConcurrency.loopBlocks(0,input.height,BoofConcurrency.minBlockRows(input.width*input.numBands),new IntRangeTask() {
+			@Override
+			public void call(int y0, int y1) {
+				for( int y = y0; y < y1; y++ ) {
+					int indexSrc = input.startIndex + y* input.stride;
+					int indexDst = output.startIndex + y* output.stride;
+					int end = indexSrc + input.width*input.numBands;
+
+					for( ; indexSrc < end; indexSrc++ , indexDst++) {
+						output.data[indexDst] = (byte)((input.data[indexSrc] ) / denominator);
+					}
+				}
+			}
+		});
+	}
+
+	/**
+	 * Divide each element by a scalar value and bounds the result. Both input and output images can be the same instance.
+	 *
+	 * @param input The input image. Not modified.
+	 * @param denominator What each element is divided by.
+	 * @param lower Lower bound on output. Inclusive.
+	 * @param upper Upper bound on output. Inclusive.
+	 * @param output The output image. Modified.
+	 */
+	public static void divide( final InterleavedS8 input , final double denominator , final int lower , final int upper , final InterleavedS8 output ) {
+
+		InputSanityCheck.checkSameShape(input,output);
+		if( input.numBands != output.numBands )
+			throw new IllegalArgumentException("Number of bands must be the same");
+
+		BoofConcurrency.loopBlocks(0,input.height,BoofConcurrency.minBlockRows(input.width*input.numBands),new IntRangeTask() {
+			@Override
+			public void call(int y0, int y1) {
+				for( int y = y0; y < y1; y++ ) {
+					int indexSrc = input.startIndex + y* input.stride;
+					int indexDst = output.startIndex + y* output.stride;
+					int end = indexSrc + input.width*input.numBands;
+
+					for( ; indexSrc < end; indexSrc++ , indexDst++) {
+						int val = (int)((input.data[indexSrc] ) / denominator);
+						if( val < lower ) val = lower;
+						if( val > upper ) val = upper;
+						output.data[indexDst] = (byte)val;
+					}
+				}
+			}
+		});
+	}
+
+	/**
+	 * Add a scalar value to each element. Both input and output images can be the same instance.
+	 *
+	 * @param input The input image. Not modified.
+	 * @param value What is added to each element.
+	 * @param output The output image. Modified.
+	 */
+	public static void plus( final InterleavedS8 input , final int value , final InterleavedS8 output ) {
+
+		InputSanityCheck.checkSameShape(input,output);
+		if( input.numBands != output.numBands )
+			throw new IllegalArgumentException("Number of bands must be the same");
+
+		BoofConcurrency.loopBlocks(0,input.height,BoofConcurrency.minBlockRows(input.width*input.numBands),new IntRangeTask() {
+			@Override
+			public void call(int y0, int y1) {
+				for( int y = y0; y < y1; y++ ) {
+					int indexSrc = input.startIndex + y* input.stride;
+					int indexDst = output.startIndex + y* output.stride;
+					int end = indexSrc + input.width*input.numBands;
+
+					for( ; indexSrc < end; indexSrc++ , indexDst++) {
+						output.data[indexDst] = (byte)((input.data[indexSrc] ) + value);
+					}
+				}
+			}
+		});
+	}
+
+	/**
+	 * Add a scalar value to each element and bounds the result. Both input and output images can be the same instance.
+	 *
+	 * @param input The input image. Not modified.
+	 * @param value What is added to each element.
+	 * @param lower Lower bound on output. Inclusive.
+	 * @param upper Upper bound on output. Inclusive.
+	 * @param output The output image. Modified.
+	 */
+	public static void plus( final InterleavedS8 input , final int value , final int lower , final int upper , final InterleavedS8 output ) {
+
+		InputSanityCheck.checkSameShape(input,output);
+		if( input.numBands != output.numBands )
+			throw new IllegalArgumentException("Number of bands must be the same");
+
+		BoofConcurrency.loopBlocks(0,input.height,BoofConcurrency.minBlockRows(input.width*input.numBands),new IntRangeTask() {
+			@Override
+			public void call(int y0, int y1) {
+				for( int y = y0; y < y1; y++ ) {
+					int indexSrc = input.startIndex + y* input.stride;
+					int indexDst = output.startIndex + y* output.stride;
+					int end = indexSrc + input.width*input.numBands;
+
+					for( ; indexSrc < end; indexSrc++ , indexDst++) {
+						int val = (input.data[indexSrc] ) + value;
+						if( val < lower ) val = lower;
+						if( val > upper ) val = upper;
+						output.data[indexDst] = (byte)val;
+					}
+				}
+			}
+		});
+	}
+
+	/**
+	 * Bounds image pixels to be between these two values
+	 *
+	 * @param img Image
+	 * @param min minimum value.
+	 * @param max maximum value.
+	 */
+	public static void boundImage( final InterleavedS8 img , final int min , final int max ) {
+		final int rowLength = img.width*img.numBands;
+
+		BoofConcurrency.loopBlocks(0,img.height,BoofConcurrency.minBlockRows(rowLength),new IntRangeTask() {
+			@Override
+			public void call(int y0, int y1) {
+				byte[] data = img.data;
+
+				for( int y = y0; y < y1; y++ ) {
+					int index = img.startIndex + y * img.stride;
+					int indexEnd = index+rowLength;
+					for( ; index < indexEnd; index++ ) {
+						int value = data[index];
+						if( value < min )
+							data[index] = (byte)min;
+						else if( value > max )
+							data[index] = (byte)max;
+					}
+				}
+			}
+		});
+	}
+
+	/**
+	 * <p>
+	 * Computes the absolute value of the difference between each pixel in the two images.<br>
+	 * d(x,y) = |img1(x,y) - img2(x,y)|
+	 * </p>
+	 * @param imgA Input image. Not modified.
+	 * @param imgB Input image. Not modified.
+	 * @param diff Absolute value of difference image. Modified.
+	 */
+	public static void diffAbs( final InterleavedS8 imgA , final InterleavedS8 imgB , final InterleavedS8 diff ) {
+
+		InputSanityCheck.checkSameShape(imgA,imgB,diff);
+		if( imgA.numBands != imgB.numBands || imgA.numBands != diff.numBands )
+			throw new IllegalArgumentException("Number of bands must be the same");
+
+		BoofConcurrency.loopBlocks(0,imgA.height,BoofConcurrency.minBlockRows(imgA.width*imgA.numBands),new IntRangeTask() {
+			@Override
+			public void call(int y0, int y1) {
+				for( int y = y0; y < y1; y++ ) {
+					int indexA = imgA.startIndex + y * imgA.stride;
+					int indexB = imgB.startIndex + y * imgB.stride;
+					int indexOut = diff.startIndex + y * diff.stride;
+
+					int indexEnd = indexA + imgA.width*imgA.numBands;
+					for( ; indexA < indexEnd; indexA++, indexB++, indexOut++ ) {
+						diff.data[indexOut] = (byte)Math.abs((imgA.data[indexA] ) - (imgB.data[indexB] ));
+					}
+				}
+			}
+		});
+	}
+
+	/**
+	 * Multiply each element by a scalar value. Both input and output images can
+	 * be the same instance.
+	 *
+	 * @param input The input image. Not modified.
+	 * @param value What each element is multiplied by.
+	 * @param output The output image. Modified.
+	 */
+	public static void multiply( final ImageUInt16 input , final double value , final ImageUInt16 output ) {
+
+		InputSanityCheck.checkSameShape(input,output);
+
+		BoofConcurrency.loopBlocks(0,input.height,BoofConcurrency.minBlockRows(input.width),new IntRangeTask() {
+			@Override
+			public void call(int y0, int y1) {
+				for( int y = y0; y < y1; y++ ) {
+					int indexSrc = input.startIndex + y* input.stride;
+					int indexDst = output.startIndex + y* output.stride;
+					int end = indexSrc + input.width;
+
+					for( ; indexSrc < end; indexSrc++ , indexDst++) {
+						output.data[indexDst] = (short)((input.data[indexSrc] & 0xFFFF) * value);
+					}
+				}
+			}
+		});
+	}
+
+	/**
+	 * Multiply each element by a scalar value and bounds the result. Both input and output images can
+	 * be the same instance.
+	 *
+	 * @param input The input image. Not modified.
+	 * @param value What each element is multiplied by.
+	 * @param lower Lower bound on output. Inclusive.
+	 * @param upper Upper bound on output. Inclusive.
+	 * @param output The output image. Modified.
+	 */
+	public static void multiply( final ImageUInt16 input , final double value , final int lower , final int upper , final ImageUInt16 output ) {
+
+		InputSanityCheck.checkSameShape(input,output);
+
+		BoofConcurrency.loopBlocks(0,input.height,BoofConcurrency.minBlockRows(input.width),new IntRangeTask() {
+			@Override
+			public void call(int y0, int y1) {
+				for( int y = y0; y < y1; y++ ) {
+					int indexSrc = input.startIndex + y* input.stride;
+					int indexDst = output.startIndex + y* output.stride;
+					int end = indexSrc + input.width;
+
+					for( ; indexSrc < end; indexSrc++ , indexDst++) {
+						int val = (int)((input.data[indexSrc] & 0xFFFF) * value);
+						if( val < lower ) val = lower;
+						if( val > upper ) val = upper;
+						output.data[indexDst] = (short)val;
+					}
+				}
+			}
+		});
+	}
+
+	/**
+	 * Divide each element by a scalar value. Both input and output images can be the same instance.
+	 *
+	 * @param input The input image. Not modified.
+	 * @param denominator What each element is divided by.
+	 * @param output The output image. Modified.
+	 */
+	public static void divide( final ImageUInt16 input , final double denominator , final ImageUInt16 output ) {
+
+		InputSanityCheck.checkSameShape(input,output);
+
+		BoofConcurrency.loopBlocks(0,input.height,BoofConcurrency.minBlockRows(input.width),new IntRangeTask() {
+			@Override
+			public void call(int y0, int y1) {
+				for( int y = y0; y < y1; y++ ) {
+					int indexSrc = input.startIndex + y* input.stride;
+					int indexDst = output.startIndex + y* output.stride;
+					int end = indexSrc + input.width;
+
+					for( ; indexSrc < end; indexSrc++ , indexDst++) {
+						output.data[indexDst] = (short)((input.data[indexSrc] & 0xFFFF) / denominator);
+					}
+				}
+			}
+		});
+	}
+
+	/**
+	 * Divide each element by a scalar value and bounds the result. Both input and output images can be the same instance.
+	 *
+	 * @param input The input image. Not modified.
+	 * @param denominator What each element is divided by.
+	 * @param lower Lower bound on output. Inclusive.
+	 * @param upper Upper bound on output. Inclusive.
+	 * @param output The output image. Modified.
+	 */
+	public static void divide( final ImageUInt16 input , final double denominator , final int lower , final int upper , final ImageUInt16 output ) {
+
+		InputSanityCheck.checkSameShape(input,output);
+
+		BoofConcurrency.loopBlocks(0,input.height,BoofConcurrency.minBlockRows(input.width),new IntRangeTask() {
+			@Override
+			public void call(int y0, int y1) {
+				for( int y = y0; y < y1; y++ ) {
+					int indexSrc = input.startIndex + y* input.stride;
+					int indexDst = output.startIndex + y* output.stride;
+					int end = indexSrc + input.width;
+
+					for( ; indexSrc < end; indexSrc++ , indexDst++) {
+						int val = (int)((input.data[indexSrc] & 0xFFFF) / denominator);
+						if( val < lower ) val = lower;
+						if( val > upper ) val = upper;
+						output.data[indexDst] = (short)val;
+					}
+				}
+			}
+		});
+	}
+
+	/**
+	 * Add a scalar value to each element. Both input and output images can be the same instance.
+	 *
+	 * @param input The input image. Not modified.
+	 * @param value What is added to each element.
+	 * @param output The output image. Modified.
+	 */
+	public static void plus( final ImageUInt16 input , final int value , final ImageUInt16 output ) {
+
+		InputSanityCheck.checkSameShape(input,output);
+
+		BoofConcurrency.loopBlocks(0,input.height,BoofConcurrency.minBlockRows(input.width),new IntRangeTask() {
+			@Override
+			public void call(int y0, int y1) {
+				for( int y = y0; y < y1; y++ ) {
+					int indexSrc = input.startIndex + y* input.stride;
+					int indexDst = output.startIndex + y* output.stride;
+					int end = indexSrc + input.width;
+
+					for( ; indexSrc < end; indexSrc++ , indexDst++) {
+						output.data[indexDst] = (short)((input.data[indexSrc] & 0xFFFF) + value);
+					}
+				}
+			}
+		});
+	}
+
+	/**
+	 * Add a scalar value to each element and bounds the result. Both input and output images can be the same instance.
+	 *
+	 * @param input The input image. Not modified.
+	 * @param value What is added to each element.
+	 * @param lower Lower bound on output. Inclusive.
+	 * @param upper Upper bound on output. Inclusive.
+	 * @param output The output image. Modified.
+	 */
+	public static void plus( final ImageUInt16 input , final int value , final int lower , final int upper , final ImageUInt16 output ) {
+
+		InputSanityCheck.checkSameShape(input,output);
+
+		BoofConcurrency.loopBlocks(0,input.height,BoofConcurrency.minBlockRows(input.width),new IntRangeTask() {
+			@Override
+			public void call(int y0, int y1) {
+				for( int y = y0; y < y1; y++ ) {
+					int indexSrc = input.startIndex + y* input.stride;
+					int indexDst = output.startIndex + y* output.stride;
+					int end = indexSrc + input.width;
+
+					for( ; indexSrc < end; indexSrc++ , indexDst++) {
+						int val = (input.data[indexSrc] & 0xFFFF) + value;
+						if( val < lower ) val = lower;
+						if( val > upper ) val = upper;
+						output.data[indexDst] = (short)val;
+					}
+				}
+			}
+		});
+	}
+
+	/**
+	 * Bounds image pixels to be between these two values
+	 *
+	 * @param img Image
+	 * @param min minimum value.
+	 * @param max maximum value.
+	 */
+	public static void boundImage( final ImageUInt16 img , final int min , final int max ) {
+		final int rowLength = img.width;
+
+		BoofConcurrency.loopBlocks(0,img.height,BoofConcurrency.minBlockRows(rowLength),new IntRangeTask() {
+			@Override
+			public void call(int y0, int y1) {
+				short[] data = img.data;
+
+				for( int y = y0; y < y1; y++ ) {
+					int index = img.startIndex + y * img.stride;
+					int indexEnd = index+rowLength;
+					for( ; index < indexEnd; index++ ) {
+						int value = data[index]& 0xFFFF;
+						if( value < min )
+							data[index] = (short)min;
+						else if( value > max )
+							data[index] = (short)max;
+					}
+				}
+			}
+		});
+	}
+
+	/**
+	 * <p>
+	 * Computes the absolute value of the difference between each pixel in the two images.<br>
+	 * d(x,y) = |img1(x,y) - img2(x,y)|
+	 * </p>
+	 * @param imgA Input image. Not modified.
+	 * @param imgB Input image. Not modified.
+	 * @param diff Absolute value of difference image. Modified.
+	 */
+	public static void diffAbs( final ImageUInt16 imgA , final ImageUInt16 imgB , final ImageUInt16 diff ) {
+
+		InputSanityCheck.checkSameShape(imgA,imgB,diff);
+
+		BoofConcurrency.loopBlocks(0,imgA.height,BoofConcurrency.minBlockRows(imgA.width),new IntRangeTask() {
+			@Override
+			public void call(int y0, int y1) {
+				for( int y = y0; y < y1; y++ ) {
+					int indexA = imgA.startIndex + y * imgA.stride;
+					int indexB = imgB.startIndex + y * imgB.stride;
+					int indexOut = diff.startIndex + y * diff.stride;
+
+					int indexEnd = indexA + imgA.width;
+					for( ; indexA < indexEnd; indexA++, indexB++, indexOut++ ) {
+						diff.data[indexOut] = (short)Math.abs((imgA.data[indexA] & 0xFFFF) - (imgB.data[indexB] & 0xFFFF));
+					}
+				}
+			}
+		});
+	}
+
+	/**
+	 * Multiply each element by a scalar value. Both input and output images can
+	 * be the same instance.
+	 *
+	 * @param input The input image. Not modified.
+	 * @param value What each element is multiplied by.
+	 * @param output The output image. Modified.
+	 */
+	public static void multiply( final InterleavedU16 input , final double value , final InterleavedU16 output ) {
+
+		InputSanityCheck.checkSameShape(input,output);
+		if( input.numBands != output.numBands )
+			throw new IllegalArgumentException("Number of bands must be the same");
+
+		BoofConcurrency.loopBlocks(0,input.height,BoofConcurrency.minBlockRows(input.width*input.numBands),new IntRangeTask() {
+			@Override
+			public void call(int y0, int y1) {
+				for( int y = y0; y < y1; y++ ) {
+					int indexSrc = input.startIndex + y* input.stride;
+					int indexDst = output.startIndex + y* output.stride;
+					int end = indexSrc + input.width*input.numBands;
+
+					for( ; indexSrc < end; indexSrc++ , indexDst++) {
+						output.data[indexDst] = (short)((input.data[indexSrc] & 0xFFFF) * value);
+					}
+				}
+			}
+		});
+	}
+
+	/**
+	 * Multiply each element by a scalar value and bounds the result. Both input and output images can
+	 * be the same instance.
+	 *
+	 * @param input The input image. Not modified.
+	 * @param value What each element is multiplied by.
+	 * @param lower Lower bound on output. Inclusive.
+	 * @param upper Upper bound on output. Inclusive.
+	 * @param output The output image. Modified.
+	 */
+	public static void multiply( final InterleavedU16 input , final double value , final int lower , final int upper , final InterleavedU16 output ) {
+
+		InputSanityCheck.checkSameShape(input,output);
+		if( input.numBands != output.numBands )
+			throw new IllegalArgumentException("Number of bands must be the same");
+
+		BoofConcurrency.loopBlocks(0,input.height,BoofConcurrency.minBlockRows(input.width*input.numBands),new IntRangeTask() {
+			@Override
+			public void call(int y0, int y1) {
+				for( int y = y0; y < y1; y++ ) {
+					int indexSrc = input.startIndex + y* input.stride;
+					int indexDst = output.startIndex + y* output.stride;
+					int end = indexSrc + input.width*input.numBands;
+
+					for( ; indexSrc < end; indexSrc++ , indexDst++) {
+						int val = (int)((input.data[indexSrc] & 0xFFFF) * value);
+						if( val < lower ) val = lower;
+						if( val > upper ) val = upper;
+						output.data[indexDst] = (short)val;
+					}
+				}
+			}
+		});
+	}
+
+	/**
+	 * Divide each element by a scalar value. Both input and output images can be the same instance.
+	 *
+	 * @param input The input image. Not modified.
+	 * @param denominator What each element is divided by.
+	 * @param output The output image. Modified.
+	 */
+	public static void divide( final InterleavedU16 input , final double denominator , final InterleavedU16 output ) {
+
+		InputSanityCheck.checkSameShape(input,output);
+		if( input.numBands != output.numBands )
+			throw new IllegalArgumentException("Number of bands must be the same");
+
+		BoofConcurrency.loopBlocks(0,input.height,BoofConcurrency.minBlockRows(input.width*input.numBands),new IntRangeTask() {
+			@Override
+			public void call(int y0, int y1) {
+				for( int y = y0; y < y1; y++ ) {
+					int indexSrc = input.startIndex + y* input.stride;
+					int indexDst = output.startIndex + y* output.stride;
+					int end = indexSrc + input.width*input.numBands;
+
+					for( ; indexSrc < end; indexSrc++ , indexDst++) {
+						output.data[indexDst] = (short)((input.data[indexSrc] & 0xFFFF) / denominator);
+					}
+				}
+			}
+		});
+	}
+
+	/**
+	 * Divide each element by a scalar value and bounds the result. Both input and output images can be the same instance.
+	 *
+	 * @param input The input image. Not modified.
+	 * @param denominator What each element is divided by.
+	 * @param lower Lower bound on output. Inclusive.
+	 * @param upper Upper bound on output. Inclusive.
+	 * @param output The output image. Modified.
+	 */
+	public static void divide( final InterleavedU16 input , final double denominator , final int lower , final int upper , final InterleavedU16 output ) {
+
+		InputSanityCheck.checkSameShape(input,output);
+		if( input.numBands != output.numBands )
+			throw new IllegalArgumentException("Number of bands must be the same");
+
+		BoofConcurrency.loopBlocks(0,input.height,BoofConcurrency.minBlockRows(input.width*input.numBands),new IntRangeTask() {
+			@Override
+			public void call(int y0, int y1) {
+				for( int y = y0; y < y1; y++ ) {
+					int indexSrc = input.startIndex + y* input.stride;
+					int indexDst = output.startIndex + y* output.stride;
+					int end = indexSrc + input.width*input.numBands;
+
+					for( ; indexSrc < end; indexSrc++ , indexDst++) {
+						int val = (int)((input.data[indexSrc] & 0xFFFF) / denominator);
+						if( val < lower ) val = lower;
+						if( val > upper ) val = upper;
+						output.data[indexDst] = (short)val;
+					}
+				}
+			}
+		});
+	}
+
+	/**
+	 * Add a scalar value to each element. Both input and output images can be the same instance.
+	 *
+	 * @param input The input image. Not modified.
+	 * @param value What is added to each element.
+	 * @param output The output image. Modified.
+	 */
+	public static void plus( final InterleavedU16 input , final int value , final InterleavedU16 output ) {
+
+		InputSanityCheck.checkSameShape(input,output);
+		if( input.numBands != output.numBands )
+			throw new IllegalArgumentException("Number of bands must be the same");
+
+		BoofConcurrency.loopBlocks(0,input.height,BoofConcurrency.minBlockRows(input.width*input.numBands),new IntRangeTask() {
+			@Override
+			public void call(int y0, int y1) {
+				for( int y = y0; y < y1; y++ ) {
+					int indexSrc = input.startIndex + y* input.stride;
+					int indexDst = output.startIndex + y* output.stride;
+					int end = indexSrc + input.width*input.numBands;
+
+					for( ; indexSrc < end; indexSrc++ , indexDst++) {
+						output.data[indexDst] = (short)((input.data[indexSrc] & 0xFFFF) + value);
+					}
+				}
+			}
+		});
+	}
+
+	/**
+	 * Add a scalar value to each element and bounds the result. Both input and output images can be the same instance.
+	 *
+	 * @param input The input image. Not modified.
+	 * @param value What is added to each element.
+	 * @param lower Lower bound on output. Inclusive.
+	 * @param upper Upper bound on output. Inclusive.
+	 * @param output The output image. Modified.
+	 */
+	public static void plus( final InterleavedU16 input , final int value , final int lower , final int upper , final InterleavedU16 output ) {
+
+		InputSanityCheck.checkSameShape(input,output);
+		if( input.numBands != output.numBands )
+			throw new IllegalArgumentException("Number of bands must be the same");
+
+		BoofConcurrency.loopBlocks(0,input.height,BoofConcurrency.minBlockRows(input.width*input.numBands),new IntRangeTask() {
+			@Override
+			public void call(int y0, int y1) {
+				for( int y = y0; y < y1; y++ ) {
+					int indexSrc = input.startIndex + y* input.stride;
+					int indexDst = output.startIndex + y* output.stride;
+					int end = indexSrc + input.width*input.numBands;
+
+					for( ; indexSrc < end; indexSrc++ , indexDst++) {
+						int val = (input.data[indexSrc] & 0xFFFF) + value;
+						if( val < lower ) val = lower;
+						if( val > upper ) val = upper;
+						output.data[indexDst] = (short)val;
+					}
+				}
+			}
+		});
+	}
+
+	/**
+	 * Bounds image pixels to be between these two values
+	 *
+	 * @param img Image
+	 * @param min minimum value.
+	 * @param max maximum value.
+	 */
+	public static void boundImage( final InterleavedU16 img , final int min , final int max ) {
+		final int rowLength = img.width*img.numBands;
+
+		BoofConcurrency.loopBlocks(0,img.height,BoofConcurrency.minBlockRows(rowLength),new IntRangeTask() {
+			@Override
+			public void call(int y0, int y1) {
+				short[] data = img.data;
+
+				for( int y = y0; y < y1; y++ ) {
+					int index = img.startIndex + y * img.stride;
+					int indexEnd = index+rowLength;
+					for( ; index < indexEnd; index++ ) {
+						int value = data[index]& 0xFFFF;
+						if( value < min )
+							data[index] = (short)min;
+						else if( value > max )
+							data[index] = (short)max;
+					}
+				}
+			}
+		});
+	}
+
+	/**
+	 * <p>
+	 * Computes the absolute value of the difference between each pixel in the two images.<br>
+	 * d(x,y) = |img1(x,y) - img2(x,y)|
+	 * </p>
+	 * @param imgA Input image. Not modified.
+	 * @param imgB Input image. Not modified.
+	 * @param diff Absolute value of difference image. Modified.
+	 */
+	public static void diffAbs( final InterleavedU16 imgA , final InterleavedU16 imgB , final InterleavedU16 diff ) {
+
+		InputSanityCheck.checkSameShape(imgA,imgB,diff);
+		if( imgA.numBands != imgB.numBands || imgA.numBands != diff.numBands )
+			throw new IllegalArgumentException("Number of bands must be the same");
+
+		BoofConcurrency.loopBlocks(0,imgA.height,BoofConcurrency.minBlockRows(imgA.width*imgA.numBands),new IntRangeTask() {
+			@Override
+			public void call(int y0, int y1) {
+				for( int y = y0; y < y1; y++ ) {
+					int indexA = imgA.startIndex + y * imgA.stride;
+					int indexB = imgB.startIndex + y * imgB.stride;
+					int indexOut = diff.startIndex + y * diff.stride;
+
+					int indexEnd = indexA + imgA.width*imgA.numBands;
+					for( ; indexA < indexEnd; indexA++, indexB++, indexOut++ ) {
+						diff.data[indexOut] = (short)Math.abs((imgA.data[indexA] & 0xFFFF) - (imgB.data[indexB] & 0xFFFF));
+					}
+				}
+			}
+		});
+	}
+
+	/**
+	 * Multiply each element by a scalar value. Both input and output images can
+	 * be the same instance.
+	 *
+	 * @param input The input image. Not modified.
+	 * @param value What each element is multiplied by.
+	 * @param output The output image. Modified.
+	 */
+	public static void multiply( final ImageSInt16 input , final double value , final ImageSInt16 output ) {
+
+		InputSanityCheck.checkSameShape(input,output);
+
+		BoofConcurrency.loopBlocks(0,input.height,BoofConcurrency.minBlockRows(input.width),new IntRangeTask() {
+			@Override
+			public void call(int y0, int y1) {
+				for( int y = y0; y < y1; y++ ) {
+					int indexSrc = input.startIndex + y* input.stride;
+					int indexDst = output.startIndex + y* output.stride;
+					int end = indexSrc + input.width;
+
+					for( ; indexSrc < end; indexSrc++ , indexDst++) {
+						output.data[indexDst] = (short)((input.data[indexSrc] ) * value);
+					}
+				}
+			}
+		});
+	}
+
+	/**
+	 * Multiply each element by a scalar value and bounds the result. Both input and output images can
+	 * be the same instance.
+	 *
+	 * @param input The input image. Not modified.
+	 * @param value What each element is multiplied by.
+	 * @param lower Lower bound on output. Inclusive.
+	 * @param upper Upper bound on output. Inclusive.
+	 * @param output The output image. Modified.
+	 */
+	public static void multiply( final ImageSInt16 input , final double value , final int lower , final int upper , final ImageSInt16 output ) {
+
+		InputSanityCheck.checkSameShape(input,output);
+
+		BoofConcurrency.loopBlocks(0,input.height,BoofConcurrency.minBlockRows(input.width),new IntRangeTask() {
+			@Override
+			public void call(int y0, int y1) {
+				for( int y = y0; y < y1; y++ ) {
+					int indexSrc = input.startIndex + y* input.stride;
+					int indexDst = output.startIndex + y* output.stride;
+					int end = indexSrc + input.width;
+
+					for( ; indexSrc < end; indexSrc++ , indexDst++) {
+						int val = (int)((input.data[indexSrc] ) * value);
+						if( val < lower ) val = lower;
+						if( val > upper ) val = upper;
+						output.data[indexDst] = (short)val;
+					}
+				}
+			}
+		});
+	}
+
+	/**
+	 * Divide each element by a scalar value. Both input and output images can be the same instance.
+	 *
+	 * @param input The input image. Not modified.
+	 * @param denominator What each element is divided by.
+	 * @param output The output image. Modified.
+	 */
+	public static void divide( final ImageSInt16 input , final double denominator , final ImageSInt16 output ) {
+
+		InputSanityCheck.checkSameShape(input,output);
+
+		BoofConcurrency.loopBlocks(0,input.height,BoofConcurrency.minBlockRows(input.width),new IntRangeTask() {
+			@Override
+			public void call(int y0, int y1) {
+				for( int y = y0; y < y1; y++ ) {
+					int indexSrc = input.startIndex + y* input.stride;
+					int indexDst = output.startIndex + y* output.stride;
+					int end = indexSrc + input.width;
+
+					for( ; indexSrc < end; indexSrc++ , indexDst++) {
+						output.data[indexDst] = (short)((input.data[indexSrc] ) / denominator);
+					}
+				}
+			}
+		});
+	}
+
+	/**
+	 * Divide each element by a scalar value and bounds the result. Both input and output images can be the same instance.
+	 *
+	 * @param input The input image. Not modified.
+	 * @param denominator What each element is divided by.
+	 * @param lower Lower bound on output. Inclusive.
+	 * @param upper Upper bound on output. Inclusive.
+	 * @param output The output image. Modified.
+	 */
+	public static void divide( final ImageSInt16 input , final double denominator , final int lower , final int upper , final ImageSInt16 output ) {
+
+		InputSanityCheck.checkSameShape(input,output);
+
+		BoofConcurrency.loopBlocks(0,input.height,BoofConcurrency.minBlockRows(input.width),new IntRangeTask() {
+			@Override
+			public void call(int y0, int y1) {
+				for( int y = y0; y < y1; y++ ) {
+					int indexSrc = input.startIndex + y* input.stride;
+					int indexDst = output.startIndex + y* output.stride;
+					int end = indexSrc + input.width;
+
+					for( ; indexSrc < end; indexSrc++ , indexDst++) {
+						int val = (int)((input.data[indexSrc] ) / denominator);
+						if( val < lower ) val = lower;
+						if( val > upper ) val = upper;
+						output.data[indexDst] = (short)val;
+					}
+				}
+			}
+		});
+	}
+
+	/**
+	 * Add a scalar value to each element. Both input and output images can be the same instance.
+	 *
+	 * @param input The input image. Not modified.
+	 * @param value What is added to each element.
+	 * @param output The output image. Modified.
+	 */
+	public static void plus( final ImageSInt16 input , final int value , final ImageSInt16 output ) {
+
+		InputSanityCheck.checkSameShape(input,output);
+
+		BoofConcurrency.loopBlocks(0,input.height,BoofConcurrency.minBlockRows(input.width),new IntRangeTask() {
+			@Override
+			public void call(int y0, int y1) {
+				for( int y = y0; y < y1; y++ ) {
+					int indexSrc = input.startIndex + y* input.stride;
+					int indexDst = output.startIndex + y* output.stride;
+					int end = indexSrc + input.width;
+
+					for( ; indexSrc < end; indexSrc++ , indexDst++) {
+						output.data[indexDst] = (short)((input.data[indexSrc] ) + value);
+					}
+				}
+			}
+		});
+	}
+
+	/**
+	 * Add a scalar value to each element and bounds the result. Both input and output images can be the same instance.
+	 *
+	 * @param input The input image. Not modified.
+	 * @param value What is added to each element.
+	 * @param lower Lower bound on output. Inclusive.
+	 * @param upper Upper bound on output. Inclusive.
+	 * @param output The output image. Modified.
+	 */
+	public static void plus( final ImageSInt16 input , final int value , final int lower , final int upper , final ImageSInt16 output ) {
+
+		InputSanityCheck.checkSameShape(input,output);
+
+		BoofConcurrency.loopBlocks(0,input.height,BoofConcurrency.minBlockRows(input.width),new IntRangeTask() {
+			@Override
+			public void call(int y0, int y1) {
+				for( int y = y0; y < y1; y++ ) {
+					int indexSrc = input.startIndex + y* input.stride;
+					int indexDst = output.startIndex + y* output.stride;
+					int end = indexSrc + input.width;
+
+					for( ; indexSrc < end; indexSrc++ , indexDst++) {
+						int val = (input.data[indexSrc] ) + value;
+						if( val < lower ) val = lower;
+						if( val > upper ) val = upper;
+						output.data[indexDst] = (short)val;
+					}
+				}
+			}
+		});
+	}
+
+	/**
+	 * Bounds image pixels to be between these two values
+	 *
+	 * @param img Image
+	 * @param min minimum value.
+	 * @param max maximum value.
+	 */
+	public static void boundImage( final ImageSInt16 img , final int min , final int max ) {
+		final int rowLength = img.width;
+
+		BoofConcurrency.loopBlocks(0,img.height,BoofConcurrency.minBlockRows(rowLength),new IntRangeTask() {
+			@Override
+			public void call(int y0, int y1) {
+				short[] data = img.data;
+
+				for( int y = y0; y < y1; y++ ) {
+					int index = img.startIndex + y * img.stride;
+					int indexEnd = index+rowLength;
+					for( ; index < indexEnd; index++ ) {
+						int value = data[index];
+						if( value < min )
+							data[index] = (short)min;
+						else if( value > max )
+							data[index] = (short)max;
+					}
+				}
+			}
+		});
+	}
+
+	/**
+	 * <p>
+	 * Computes the absolute value of the difference between each pixel in the two images.<br>
+	 * d(x,y) = |img1(x,y) - img2(x,y)|
+	 * </p>
+	 * @param imgA Input image. Not modified.
+	 * @param imgB Input image. Not modified.
+	 * @param diff Absolute value of difference image. Modified.
+	 */
+	public static void diffAbs( final ImageSInt16 imgA , final ImageSInt16 imgB , final ImageSInt16 diff ) {
+
+		InputSanityCheck.checkSameShape(imgA,imgB,diff);
+
+		BoofConcurrency.loopBlocks(0,imgA.height,BoofConcurrency.minBlockRows(imgA.width),new IntRangeTask() {
+			@Override
+			public void call(int y0, int y1) {
+				for( int y = y0; y < y1; y++ ) {
+					int indexA = imgA.startIndex + y * imgA.stride;
+					int indexB = imgB.startIndex + y * imgB.stride;
+					int indexOut = diff.startIndex + y * diff.stride;
+
+					int indexEnd = indexA + imgA.width;
+					for( ; indexA < indexEnd; indexA++, indexB++, indexOut++ ) {
+						diff.data[indexOut] = (short)Math.abs((imgA.data[indexA] ) - (imgB.data[indexB] ));
+					}
+				}
+			}
+		});
+	}
+
+	/**
+	 * Multiply each element by a scalar value. Both input and output images can
+	 * be the same instance.
+	 *
+	 * @param input The input image. Not modified.
+	 * @param value What each element is multiplied by.
+	 * @param output The output image. Modified.
+	 */
+	public static void multiply( final InterleavedS16 input , final double value , final InterleavedS16 output ) {
+
+		InputSanityCheck.checkSameShape(input,output);
+		if( input.numBands != output.numBands )
+			throw new IllegalArgumentException("Number of bands must be the same");
+
+		BoofConcurrency.loopBlocks(0,input.height,BoofConcurrency.minBlockRows(input.width*input.numBands),new IntRangeTask() {
+			@Override
+			public void call(int y0, int y1) {
+				for( int y = y0; y < y1; y++ ) {
+					int indexSrc = input.startIndex + y* input.stride;
+					int indexDst = output.startIndex + y* output.stride;
+					int end = indexSrc + input.width*input.numBands;
+
+					for( ; indexSrc < end; indexSrc++ , indexDst++) {
+						output.data[indexDst] = (short)((input.data[indexSrc] ) * value);
+					}
+				}
+			}
+		});
+	}
+
+	/**
+	 * Multiply each element by a scalar value and bounds the result. Both input and output images can
+	 * be the same instance.
+	 *
+	 * @param input The input image. Not modified.
+	 * @param value What each element is multiplied by.
+	 * @param lower Lower bound on output. Inclusive.
+	 * @param upper Upper bound on output. Inclusive.
+	 * @param output The output image. Modified.
+	 */
+	public static void multiply( final InterleavedS16 input , final double value , final int lower , final int upper , final InterleavedS16 output ) {
+
+		InputSanityCheck.checkSameShape(input,output);
+		if( input.numBands != output.numBands )
+			throw new IllegalArgumentException("Number of bands must be the same");
+
+		BoofConcurrency.loopBlocks(0,input.height,BoofConcurrency.minBlockRows(input.width*input.numBands),new IntRangeTask() {
+			@Override
+			public void call(int y0, int y1) {
+				for( int y = y0; y < y1; y++ ) {
+					int indexSrc = input.startIndex + y* input.stride;
+					int indexDst = output.startIndex + y* output.stride;
+					int end = indexSrc + input.width*input.numBands;
+
+					for( ; indexSrc < end; indexSrc++ , indexDst++) {
+						int val = (int)((input.data[indexSrc] ) * value);
+						if( val < lower ) val = lower;
+						if( val > upper ) val = upper;
+						output.data[indexDst] = (short)val;
+					}
+				}
+			}
+		});
+	}
+
+	/**
+	 * Divide each element by a scalar value. Both input and output images can be the same instance.
+	 *
+	 * @param input The input image. Not modified.
+	 * @param denominator What each element is divided by.
+	 * @param output The output image. Modified.
+	 */
+	public static void divide( final InterleavedS16 input , final double denominator , final InterleavedS16 output ) {
+
+		InputSanityCheck.checkSameShape(input,output);
+		if( input.numBands != output.numBands )
+			throw new IllegalArgumentException("Number of bands must be the same");
+
+		BoofConcurrency.loopBlocks(0,input.height,BoofConcurrency.minBlockRows(input.width*input.numBands),new IntRangeTask() {
+			@Override
+			public void call(int y0, int y1) {
+				for( int y = y0; y < y1; y++ ) {
+					int indexSrc = input.startIndex + y* input.stride;
+					int indexDst = output.startIndex + y* output.stride;
+					int end = indexSrc + input.width*input.numBands;
+
+					for( ; indexSrc < end; indexSrc++ , indexDst++) {
+						output.data[indexDst] = (short)((input.data[indexSrc] ) / denominator);
+					}
+				}
+			}
+		});
+	}
+
+	/**
+	 * Divide each element by a scalar value and bounds the result. Both input and output images can be the same instance.
+	 *
+	 * @param input The input image. Not modified.
+	 * @param denominator What each element is divided by.
+	 * @param lower Lower bound on output. Inclusive.
+	 * @param upper Upper bound on output. Inclusive.
+	 * @param output The output image. Modified.
+	 */
+	public static void divide( final InterleavedS16 input , final double denominator , final int lower , final int upper , final InterleavedS16 output ) {
+
+		InputSanityCheck.checkSameShape(input,output);
+		if( input.numBands != output.numBands )
+			throw new IllegalArgumentException("Number of bands must be the same");
+
+		BoofConcurrency.loopBlocks(0,input.height,BoofConcurrency.minBlockRows(input.width*input.numBands),new IntRangeTask() {
+			@Override
+			public void call(int y0, int y1) {
+				for( int y = y0; y < y1; y++ ) {
+					int indexSrc = input.startIndex + y* input.stride;
+					int indexDst = output.startIndex + y* output.stride;
+					int end = indexSrc + input.width*input.numBands;
+
+					for( ; indexSrc < end; indexSrc++ , indexDst++) {
+						int val = (int)((input.data[indexSrc] ) / denominator);
+						if( val < lower ) val = lower;
+						if( val > upper ) val = upper;
+						output.data[indexDst] = (short)val;
+					}
+				}
+			}
+		});
+	}
+
+	/**
+	 * Add a scalar value to each element. Both input and output images can be the same instance.
+	 *
+	 * @param input The input image. Not modified.
+	 * @param value What is added to each element.
+	 * @param output The output image. Modified.
+	 */
+	public static void plus( final InterleavedS16 input , final int value , final InterleavedS16 output ) {
+
+		InputSanityCheck.checkSameShape(input,output);
+		if( input.numBands != output.numBands )
+			throw new IllegalArgumentException("Number of bands must be the same");
+
+		BoofConcurrency.loopBlocks(0,input.height,BoofConcurrency.minBlockRows(input.width*input.numBands),new IntRangeTask() {
+			@Override
+			public void call(int y0, int y1) {
+				for( int y = y0; y < y1; y++ ) {
+					int indexSrc = input.startIndex + y* input.stride;
+					int indexDst = output.startIndex + y* output.stride;
+					int end = indexSrc + input.width*input.numBands;
+
+					for( ; indexSrc < end; indexSrc++ , indexDst++) {
+						output.data[indexDst] = (short)((input.data[indexSrc] ) + value);
+					}
+				}
+			}
+		});
+	}
+
+	/**
+	 * Add a scalar value to each element and bounds the result. Both input and output images can be the same instance.
+	 *
+	 * @param input The input image. Not modified.
+	 * @param value What is added to each element.
+	 * @param lower Lower bound on output. Inclusive.
+	 * @param upper Upper bound on output. Inclusive.
+	 * @param output The output image. Modified.
+	 */
+	public static void plus( final InterleavedS16 input , final int value , final int lower , final int upper , final InterleavedS16 output ) {
+
+		InputSanityCheck.checkSameShape(input,output);
+		if( input.numBands != output.numBands )
+			throw new IllegalArgumentException("Number of bands must be the same");
+
+		BoofConcurrency.loopBlocks(0,input.height,BoofConcurrency.minBlockRows(input.width*input.numBands),new IntRangeTask() {
+			@Override
+			public void call(int y0, int y1) {
+				for( int y = y0; y < y1; y++ ) {
+					int indexSrc = input.startIndex + y* input.stride;
+					int indexDst = output.startIndex + y* output.stride;
+					int end = indexSrc + input.width*input.numBands;
+
+					for( ; indexSrc < end; indexSrc++ , indexDst++) {
+						int val = (input.data[indexSrc] ) + value;
+						if( val < lower ) val = lower;
+						if( val > upper ) val = upper;
+						output.data[indexDst] = (short)val;
+					}
+				}
+			}
+		});
+	}
+
+	/**
+	 * Bounds image pixels to be between these two values
+	 *
+	 * @param img Image
+	 * @param min minimum value.
+	 * @param max maximum value.
+	 */
+	public static void boundImage( final InterleavedS16 img , final int min , final int max ) {
+		final int rowLength = img.width*img.numBands;
+
+		BoofConcurrency.loopBlocks(0,img.height,BoofConcurrency.minBlockRows(rowLength),new IntRangeTask() {
+			@Override
+			public void call(int y0, int y1) {
+				short[] data = img.data;
+
+				for( int y = y0; y < y1; y++ ) {
+					int index = img.startIndex + y * img.stride;
+					int indexEnd = index+rowLength;
+					for( ; index < indexEnd; index++ ) {
+						int value = data[index];
+						if( value < min )
+							data[index] = (short)min;
+						else if( value > max )
+							data[index] = (short)max;
+					}
+				}
+			}
+		});
+	}
+
+	/**
+	 * <p>
+	 * Computes the absolute value of the difference between each pixel in the two images.<br>
+	 * d(x,y) = |img1(x,y) - img2(x,y)|
+	 * </p>
+	 * @param imgA Input image. Not modified.
+	 * @param imgB Input image. Not modified.
+	 * @param diff Absolute value of difference image. Modified.
+	 */
+	public static void diffAbs( final InterleavedS16 imgA , final InterleavedS16 imgB , final InterleavedS16 diff ) {
+
+		InputSanityCheck.checkSameShape(imgA,imgB,diff);
+		if( imgA.numBands != imgB.numBands || imgA.numBands != diff.numBands )
+			throw new IllegalArgumentException("Number of bands must be the same");
+
+		BoofConcurrency.loopBlocks(0,imgA.height,BoofConcurrency.minBlockRows(imgA.width*imgA.numBands),new IntRangeTask() {
+			@Override
+			public void call(int y0, int y1) {
+				for( int y = y0; y < y1; y++ ) {
+					int indexA = imgA.startIndex + y * imgA.stride;
+					int indexB = imgB.startIndex + y * imgB.stride;
+					int indexOut = diff.startIndex + y * diff.stride;
+
+					int indexEnd = indexA + imgA.width*imgA.numBands;
+					for( ; indexA < indexEnd; indexA++, indexB++, indexOut++ ) {
+						diff.data[indexOut] = (short)Math.abs((imgA.data[indexA] ) - (imgB.data[indexB] ));
+					}
+				}
+			}
+		});
+	}
+
+	/**
+	 * Multiply each element by a scalar value. Both input and output images can
+	 * be the same instance.
+	 *
+	 * @param input The input image. Not modified.
+	 * @param value What each element is multiplied by.
+	 * @param output The output image. Modified.
+	 */
+	public static void multiply( final ImageSInt32 input , final double value , final ImageSInt32 output ) {
+
+		InputSanityCheck.checkSameShape(input,output);
+
+		BoofConcurrency.loopBlocks(0,input.height,BoofConcurrency.minBlockRows(input.width),new IntRangeTask() {
+			@Override
+			public void call(int y0, int y1) {
+				for( int y = y0; y < y1; y++ ) {
+					int indexSrc = input.startIndex + y* input.stride;
+					int indexDst = output.startIndex + y* output.stride;
+					int end = indexSrc + input.width;
+
+					for( ; indexSrc < end; indexSrc++ , indexDst++) {
+						output.data[indexDst] = (int)((input.data[indexSrc] ) * value);
+					}
+				}
+			}
+		});
+	}
+
+	/**
+	 * Multiply each element by a scalar value and bounds the result. Both input and output images can
+	 * be the same instance.
+	 *
+	 * @param input The input image. Not modified.
+	 * @param value What each element is multiplied by.
+	 * @param lower Lower bound on output. Inclusive.
+	 * @param upper Upper bound on output. Inclusive.
+	 * @param output The output image. Modified.
+	 */
+	public static void multiply( final ImageSInt32 input , final double value , final int lower , final int upper , final ImageSInt32 output ) {
+
+		InputSanityCheck.checkSameShape(input,output);
+
+		BoofConcurrency.loopBlocks(0,input.height,BoofConcurrency.minBlockRows(input.width),new IntRangeTask() {
+			@Override
+			public void call(int y0, int y1) {
+				for( int y = y0; y < y1; y++ ) {
+					int indexSrc = input.startIndex + y* input.stride;
+					int indexDst = output.startIndex + y* output.stride;
+					int end = indexSrc + input.width;
+
+					for( ; indexSrc < end; indexSrc++ , indexDst++) {
+						int val = (int)((input.data[indexSrc] ) * value);
+						if( val < lower ) val = lower;
+						if( val > upper ) val = upper;
+						output.data[indexDst] = val;
+					}
+				}
+			}
+		});
+	}
+
+	/**
+	 * Divide each element by a scalar value. Both input and output images can be the same instance.
+	 *
+	 * @param input The input image. Not modified.
+	 * @param denominator What each element is divided by.
+	 * @param output The output image. Modified.
+	 */
+	public static void divide( final ImageSInt32 input , final double denominator , final ImageSInt32 output ) {
+
+		InputSanityCheck.checkSameShape(input,output);
+
+		BoofConcurrency.loopBlocks(0,input.height,BoofConcurrency.minBlockRows(input.width),new IntRangeTask() {
+			@Override
+			public void call(int y0, int y1) {
+				for( int y = y0; y < y1; y++ ) {
+					int indexSrc = input.startIndex + y* input.stride;
+					int indexDst = output.startIndex + y* output.stride;
+					int end = indexSrc + input.width;
+
+					for( ; indexSrc < end; indexSrc++ , indexDst++) {
+						output.data[indexDst] = (int)((input.data[indexSrc] ) / denominator);
+					}
+				}
+			}
+		});
+	}
+
+	/**
+	 * Divide each element by a scalar value and bounds the result. Both input and output images can be the same instance.
+	 *
+	 * @param input The input image. Not modified.
+	 * @param denominator What each element is divided by.
+	 * @param lower Lower bound on output. Inclusive.
+	 * @param upper Upper bound on output. Inclusive.
+	 * @param output The output image. Modified.
+	 */
+	public static void divide( final ImageSInt32 input , final double denominator , final int lower , final int upper , final ImageSInt32 output ) {
+
+		InputSanityCheck.checkSameShape(input,output);
+
+		BoofConcurrency.loopBlocks(0,input.height,BoofConcurrency.minBlockRows(input.width),new IntRangeTask() {
+			@Override
+			public void call(int y0, int y1) {
+				for( int y = y0; y < y1; y++ ) {
+					int indexSrc = input.startIndex + y* input.stride;
+					int indexDst = output.startIndex + y* output.stride;
+					int end = indexSrc + input.width;
+
+					for( ; indexSrc < end; indexSrc++ , indexDst++) {
+						int val = (int)((input.data[indexSrc] ) / denominator);
+						if( val < lower ) val = lower;
+						if( val > upper ) val = upper;
+						output.data[indexDst] = val;
+					}
+				}
+			}
+		});
+	}
+
+	/**
+	 * Add a scalar value to each element. Both input and output images can be the same instance.
+	 *
+	 * @param input The input image. Not modified.
+	 * @param value What is added to each element.
+	 * @param output The output image. Modified.
+	 */
+	public static void plus( final ImageSInt32 input , final int value , final ImageSInt32 output ) {
+
+		InputSanityCheck.checkSameShape(input,output);
+
+		BoofConcurrency.loopBlocks(0,input.height,BoofConcurrency.minBlockRows(input.width),new IntRangeTask() {
+			@Override
+			public void call(int y0, int y1) {
+				for( int y = y0; y < y1; y++ ) {
+					int indexSrc = input.startIndex + y* input.stride;
+					int indexDst = output.startIndex + y* output.stride;
+					int end = indexSrc + input.width;
+
+					for( ; indexSrc < end; indexSrc++ , indexDst++) {
+						output.data[indexDst] = ((input.data[indexSrc] ) + value);
+					}
+				}
+			}
+		});
+	}
+
+	/**
+	 * Add a scalar value to each element and bounds the result. Both input and output images can be the same instance.
+	 *
+	 * @param input The input image. Not modified.
+	 * @param value What is added to each element.
+	 * @param lower Lower bound on output. Inclusive.
+	 * @param upper Upper bound on output. Inclusive.
+	 * @param output The output image. Modified.
+	 */
+	public static void plus( final ImageSInt32 input , final int value , final int lower , final int upper , final ImageSInt32 output ) {
+
+		InputSanityCheck.checkSameShape(input,output);
+
+		BoofConcurrency.loopBlocks(0,input.height,BoofConcurrency.minBlockRows(input.width),new IntRangeTask() {
+			@Override
+			public void call(int y0, int y1) {
+				for( int y = y0; y < y1; y++ ) {
+					int indexSrc = input.startIndex + y* input.stride;
+					int indexDst = output.startIndex + y* output.stride;
+					int end = indexSrc + input.width;
+
+					for( ; indexSrc < end; indexSrc++ , indexDst++) {
+						int val = (input.data[indexSrc] ) + value;
+						if( val < lower ) val = lower;
+						if( val > upper ) val = upper;
+						output.data[indexDst] = val;
+					}
+				}
+			}
+		});
+	}
+
+	/**
+	 * Bounds image pixels to be between these two values
+	 *
+	 * @param img Image
+	 * @param min minimum value.
+	 * @param max maximum value.
+	 */
+	public static void boundImage( final ImageSInt32 img , final int min , final int max ) {
+		final int rowLength = img.width;
+
+		BoofConcurrency.loopBlocks(0,img.height,BoofConcurrency.minBlockRows(rowLength),new IntRangeTask() {
+			@Override
+			public void call(int y0, int y1) {
+				int[] data = img.data;
+
+				for( int y = y0; y < y1; y++ ) {
+					int index = img.startIndex + y * img.stride;
+					int indexEnd = index+rowLength;
+					for( ; index < indexEnd; index++ ) {
+						int value = data[index];
+						if( value < min )
+							data[index] = min;
+						else if( value > max )
+							data[index] = max;
+					}
+				}
+			}
+		});
+	}
+
+	/**
+	 * <p>
+	 * Computes the absolute value of the difference between each pixel in the two images.<br>
+	 * d(x,y) = |img1(x,y) - img2(x,y)|
+	 * </p>
+	 * @param imgA Input image. Not modified.
+	 * @param imgB Input image. Not modified.
+	 * @param diff Absolute value of difference image. Modified.
+	 */
+	public static void diffAbs( final ImageSInt32 imgA , final ImageSInt32 imgB , final ImageSInt32 diff ) {
+
+		InputSanityCheck.checkSameShape(imgA,imgB,diff);
+
+		BoofConcurrency.loopBlocks(0,imgA.height,BoofConcurrency.minBlockRows(imgA.width),new IntRangeTask() {
+			@Override
+			public void call(int y0, int y1) {
+				for( int y = y0; y < y1; y++ ) {
+					int indexA = imgA.startIndex + y * imgA.stride;
+					int indexB = imgB.startIndex + y * imgB.stride;
+					int indexOut = diff.startIndex + y * diff.stride;
+
+					int indexEnd = indexA + imgA.width;
+					for( ; indexA < indexEnd; indexA++, indexB++, indexOut++ ) {
+						diff.data[indexOut] = (int)Math.abs((imgA.data[indexA] ) - (imgB.data[indexB] ));
+					}
+				}
+			}
+		});
+	}
+
+	/**
+	 * Multiply each element by a scalar value. Both input and output images can
+	 * be the same instance.
+	 *
+	 * @param input The input image. Not modified.
+	 * @param value What each element is multiplied by.
+	 * @param output The output image. Modified.
+	 */
+	public static void multiply( final InterleavedS32 input , final double value , final InterleavedS32 output ) {
+
+		InputSanityCheck.checkSameShape(input,output);
+		if( input.numBands != output.numBands )
+			throw new IllegalArgumentException("Number of bands must be the same");
+
+		BoofConcurrency.loopBlocks(0,input.height,BoofConcurrency.minBlockRows(input.width*input.numBands),new IntRangeTask() {
+			@Override
+			public void call(int y0, int y1) {
+				for( int y = y0; y < y1; y++ ) {
+					int indexSrc = input.startIndex + y* input.stride;
+					int indexDst = output.startIndex + y* output.stride;
+					int end = indexSrc + input.width*input.numBands;
+
+					for( ; indexSrc < end; indexSrc++ , indexDst++) {
+						output.data[indexDst] = (int)((input.data[indexSrc] ) * value);
+					}
+				}
+			}
+		});
+	}
+
+	/**
+	 * Multiply each element by a scalar value and bounds the result. Both input and output images can
+	 * be the same instance.
+	 *
+	 * @param input The input image. Not modified.
+	 * @param value What each element is multiplied by.
+	 * @param lower Lower bound on output. Inclusive.
+	 * @param upper Upper bound on output. Inclusive.
+	 * @param output The output image. Modified.
+	 */
+	public static void multiply( final InterleavedS32 input , final double value , final int lower , final int upper , final InterleavedS32 output ) {
+
+		InputSanityCheck.checkSameShape(input,output);
+		if( input.numBands != output.numBands )
+			throw new IllegalArgumentException("Number of bands must be the same");
+
+		BoofConcurrency.loopBlocks(0,input.height,BoofConcurrency.minBlockRows(input.width*input.numBands),new IntRangeTask() {
+			@Override
+			public void call(int y0, int y1) {
+				for( int y = y0; y < y1; y++ ) {
+					int indexSrc = input.startIndex + y* input.stride;
+					int indexDst = output.startIndex + y* output.stride;
+					int end = indexSrc + input.width*input.numBands;
+
+					for( ; indexSrc < end; indexSrc++ , indexDst++) {
+						int val = (int)((input.data[indexSrc] ) * value);
+						if( val < lower ) val = lower;
+						if( val > upper ) val = upper;
+						output.data[indexDst] = val;
+					}
+				}
+			}
+		});
+	}
+
+	/**
+	 * Divide each element by a scalar value. Both input and output images can be the same instance.
+	 *
+	 * @param input The input image. Not modified.
+	 * @param denominator What each element is divided by.
+	 * @param output The output image. Modified.
+	 */
+	public static void divide( final InterleavedS32 input , final double denominator , final InterleavedS32 output ) {
+
+		InputSanityCheck.checkSameShape(input,output);
+		if( input.numBands != output.numBands )
+			throw new IllegalArgumentException("Number of bands must be the same");
+
+		BoofConcurrency.loopBlocks(0,input.height,BoofConcurrency.minBlockRows(input.width*input.numBands),new IntRangeTask() {
+			@Override
+			public void call(int y0, int y1) {
+				for( int y = y0; y < y1; y++ ) {
+					int indexSrc = input.startIndex + y* input.stride;
+					int indexDst = output.startIndex + y* output.stride;
+					int end = indexSrc + input.width*input.numBands;
+
+					for( ; indexSrc < end; indexSrc++ , indexDst++) {
+						output.data[indexDst] = (int)((input.data[indexSrc] ) / denominator);
+					}
+				}
+			}
+		});
+	}
+
+	/**
+	 * Divide each element by a scalar value and bounds the result. Both input and output images can be the same instance.
+	 *
+	 * @param input The input image. Not modified.
+	 * @param denominator What each element is divided by.
+	 * @param lower Lower bound on output. Inclusive.
+	 * @param upper Upper bound on output. Inclusive.
+	 * @param output The output image. Modified.
+	 */
+	public static void divide( final InterleavedS32 input , final double denominator , final int lower , final int upper , final InterleavedS32 output ) {
+
+		InputSanityCheck.checkSameShape(input,output);
+		if( input.numBands != output.numBands )
+			throw new IllegalArgumentException("Number of bands must be the same");
+
+		BoofConcurrency.loopBlocks(0,input.height,BoofConcurrency.minBlockRows(input.width*input.numBands),new IntRangeTask() {
+			@Override
+			public void call(int y0, int y1) {
+				for( int y = y0; y < y1; y++ ) {
+					int indexSrc = input.startIndex + y* input.stride;
+					int indexDst = output.startIndex + y* output.stride;
+					int end = indexSrc + input.width*input.numBands;
+
+					for( ; indexSrc < end; indexSrc++ , indexDst++) {
+						int val = (int)((input.data[indexSrc] ) / denominator);
+						if( val < lower ) val = lower;
+						if( val > upper ) val = upper;
+						output.data[indexDst] = val;
+					}
+				}
+			}
+		});
+	}
+
+	/**
+	 * Add a scalar value to each element. Both input and output images can be the same instance.
+	 *
+	 * @param input The input image. Not modified.
+	 * @param value What is added to each element.
+	 * @param output The output image. Modified.
+	 */
+	public static void plus( final InterleavedS32 input , final int value , final InterleavedS32 output ) {
+
+		InputSanityCheck.checkSameShape(input,output);
+		if( input.numBands != output.numBands )
+			throw new IllegalArgumentException("Number of bands must be the same");
+
+		BoofConcurrency.loopBlocks(0,input.height,BoofConcurrency.minBlockRows(input.width*input.numBands),new IntRangeTask() {
+			@Override
+			public void call(int y0, int y1) {
+				for( int y = y0; y < y1; y++ ) {
+					int indexSrc = input.startIndex + y* input.stride;
+					int indexDst = output.startIndex + y* output.stride;
+					int end = indexSrc + input.width*input.numBands;
+
+					for( ; indexSrc < end; indexSrc++ , indexDst++) {
+						output.data[indexDst] = ((input.data[indexSrc] ) + value);
+					}
+				}
+			}
+		});
+	}
+
+	/**
+	 * Add a scalar value to each element and bounds the result. Both input and output images can be the same instance.
+	 *
+	 * @param input The input image. Not modified.
+	 * @param value What is added to each element.
+	 * @param lower Lower bound on output. Inclusive.
+	 * @param upper Upper bound on output. Inclusive.
+	 * @param output The output image. Modified.
+	 */
+	public static void plus( final InterleavedS32 input , final int value , final int lower , final int upper , final InterleavedS32 output ) {
+
+		InputSanityCheck.checkSameShape(input,output);
+		if( input.numBands != output.numBands )
+			throw new IllegalArgumentException("Number of bands must be the same");
+
+		BoofConcurrency.loopBlocks(0,input.height,BoofConcurrency.minBlockRows(input.width*input.numBands),new IntRangeTask() {
+			@Override
+			public void call(int y0, int y1) {
+				for( int y = y0; y < y1; y++ ) {
+					int indexSrc = input.startIndex + y* input.stride;
+					int indexDst = output.startIndex + y* output.stride;
+					int end = indexSrc + input.width*input.numBands;
+
+					for( ; indexSrc < end; indexSrc++ , indexDst++) {
+						int val = (input.data[indexSrc] ) + value;
+						if( val < lower ) val = lower;
+						if( val > upper ) val = upper;
+						output.data[indexDst] = val;
+					}
+				}
+			}
+		});
+	}
+
+	/**
+	 * Bounds image pixels to be between these two values
+	 *
+	 * @param img Image
+	 * @param min minimum value.
+	 * @param max maximum value.
+	 */
+	public static void boundImage( final InterleavedS32 img , final int min , final int max ) {
+		final int rowLength = img.width*img.numBands;
+
+		BoofConcurrency.loopBlocks(0,img.height,BoofConcurrency.minBlockRows(rowLength),new IntRangeTask() {
+			@Override
+			public void call(int y0, int y1) {
+				int[] data = img.data;
+
+				for( int y = y0; y < y1; y++ ) {
+					int index = img.startIndex + y * img.stride;
+					int indexEnd = index+rowLength;
+					for( ; index < indexEnd; index++ ) {
+						int value = data[index];
+						if( value < min )
+							data[index] = min;
+						else if( value > max )
+							data[index] = max;
+					}
+				}
+			}
+		});
+	}
+
+	/**
+	 * <p>
+	 * Computes the absolute value of the difference between each pixel in the two images.<br>
+	 * d(x,y) = |img1(x,y) - img2(x,y)|
+	 * </p>
+	 * @param imgA Input image. Not modified.
+	 * @param imgB Input image. Not modified.
+	 * @param diff Absolute value of difference image. Modified.
+	 */
+	public static void diffAbs( final InterleavedS32 imgA , final InterleavedS32 imgB , final InterleavedS32 diff ) {
+
+		InputSanityCheck.checkSameShape(imgA,imgB,diff);
+		if( imgA.numBands != imgB.numBands || imgA.numBands != diff.numBands )
+			throw new IllegalArgumentException("Number of bands must be the same");
+
+		BoofConcurrency.loopBlocks(0,imgA.height,BoofConcurrency.minBlockRows(imgA.width*imgA.numBands),new IntRangeTask() {
+			@Override
+			public void call(int y0, int y1) {
+				for( int y = y0; y < y1; y++ ) {
+					int indexA = imgA.startIndex + y * imgA.stride;
+					int indexB = imgB.startIndex + y * imgB.stride;
+					int indexOut = diff.startIndex + y * diff.stride;
+
+					int indexEnd = indexA + imgA.width*imgA.numBands;
+					for( ; indexA < indexEnd; indexA++, indexB++, indexOut++ ) {
+						diff.data[indexOut] = (int)Math.abs((imgA.data[indexA] ) - (imgB.data[indexB] ));
+					}
+				}
+			}
+		});
+	}
+
+	/**
+	 * Multiply each element by a scalar value. Both input and output images can
+	 * be the same instance.
+	 *
+	 * @param input The input image. Not modified.
+	 * @param value What each element is multiplied by.
+	 * @param output The output image. Modified.
+	 */
+	public static void multiply( final ImageSInt64 input , final double value , final ImageSInt64 output ) {
+
+		InputSanityCheck.checkSameShape(input,output);
+
+		BoofConcurrency.loopBlocks(0,input.height,BoofConcurrency.minBlockRows(input.width),new IntRangeTask() {
+			@Override
+			public void call(int y0, int y1) {
+				for( int y = y0; y < y1; y++ ) {
+					int indexSrc = input.startIndex + y* input.stride;
+					int indexDst = output.startIndex + y* output.stride;
+					int end = indexSrc + input.width;
+
+					for( ; indexSrc < end; indexSrc++ , indexDst++) {
+						output.data[indexDst] = (long)((input.data[indexSrc] ) * value);
+					}
+				}
+			}
+		});
+	}
+
+	/**
+	 * Multiply each element by a scalar value and bounds the result. Both input and output images can
+	 * be the same instance.
+	 *
+	 * @param input The input image. Not modified.
+	 * @param value What each element is multiplied by.
+	 * @param lower Lower bound on output. Inclusive.
+	 * @param upper Upper bound on output. Inclusive.
+	 * @param output The output image. Modified.
+	 */
+	public static void multiply( final ImageSInt64 input , final double value , final long lower , final long upper , final ImageSInt64 output ) {
+
+		InputSanityCheck.checkSameShape(input,output);
+
+		BoofConcurrency.loopBlocks(0,input.height,BoofConcurrency.minBlockRows(input.width),new IntRangeTask() {
+			@Override
+			public void call(int y0, int y1) {
+				for( int y = y0; y < y1; y++ ) {
+					int indexSrc = input.startIndex + y* input.stride;
+					int indexDst = output.startIndex + y* output.stride;
+					int end = indexSrc + input.width;
+
+					for( ; indexSrc < end; indexSrc++ , indexDst++) {
+						long val = (long)((input.data[indexSrc] ) * value);
+						if( val < lower ) val = lower;
+						if( val > upper ) val = upper;
+						output.data[indexDst] = val;
+					}
+				}
+			}
+		});
+	}
+
+	/**
+	 * Divide each element by a scalar value. Both input and output images can be the same instance.
+	 *
+	 * @param input The input image. Not modified.
+	 * @param denominator What each element is divided by.
+	 * @param output The output image. Modified.
+	 */
+	public static void divide( final ImageSInt64 input , final double denominator , final ImageSInt64 output ) {
+
+		InputSanityCheck.checkSameShape(input,output);
+
+		BoofConcurrency.loopBlocks(0,input.height,BoofConcurrency.minBlockRows(input.width),new IntRangeTask() {
+			@Override
+			public void call(int y0, int y1) {
+				for( int y = y0; y < y1; y++ ) {
+					int indexSrc = input.startIndex + y* input.stride;
+					int indexDst = output.startIndex + y* output.stride;
+					int end = indexSrc + input.width;
+
+					for( ; indexSrc < end; indexSrc++ , indexDst++) {
+						output.data[indexDst] = (long)((input.data[indexSrc] ) / denominator);
+					}
+				}
+			}
+		});
+	}
+
+	/**
+	 * Divide each element by a scalar value and bounds the result. Both input and output images can be the same instance.
+	 *
+	 * @param input The input image. Not modified.
+	 * @param denominator What each element is divided by.
+	 * @param lower Lower bound on output. Inclusive.
+	 * @param upper Upper bound on output. Inclusive.
+	 * @param output The output image. Modified.
+	 */
+	public static void divide( final ImageSInt64 input , final double denominator , final long lower , final long upper , final ImageSInt64 output ) {
+
+		InputSanityCheck.checkSameShape(input,output);
+
+		BoofConcurrency.loopBlocks(0,input.height,BoofConcurrency.minBlockRows(input.width),new IntRangeTask() {
+			@Override
+			public void call(int y0, int y1) {
+				for( int y = y0; y < y1; y++ ) {
+					int indexSrc = input.startIndex + y* input.stride;
+					int indexDst = output.startIndex + y* output.stride;
+					int end = indexSrc + input.width;
+
+					for( ; indexSrc < end; indexSrc++ , indexDst++) {
+						long val = (long)((input.data[indexSrc] ) / denominator);
+						if( val < lower ) val = lower;
+						if( val > upper ) val = upper;
+						output.data[indexDst] = val;
+					}
+				}
+			}
+		});
+	}
+
+	/**
+	 * Add a scalar value to each element. Both input and output images can be the same instance.
+	 *
+	 * @param input The input image. Not modified.
+	 * @param value What is added to each element.
+	 * @param output The output image. Modified.
+	 */
+	public static void plus( final ImageSInt64 input , final long value , final ImageSInt64 output ) {
+
+		InputSanityCheck.checkSameShape(input,output);
+
+		BoofConcurrency.loopBlocks(0,input.height,BoofConcurrency.minBlockRows(input.width),new IntRangeTask() {
+			@Override
+			public void call(int y0, int y1) {
+				for( int y = y0; y < y1; y++ ) {
+					int indexSrc = input.startIndex + y* input.stride;
+					int indexDst = output.startIndex + y* output.stride;
+					int end = indexSrc + input.width;
+
+					for( ; indexSrc < end; indexSrc++ , indexDst++) {
+						output.data[indexDst] = ((input.data[indexSrc] ) + value);
+					}
+				}
+			}
+		});
+	}
+
+	/**
+	 * Add a scalar value to each element and bounds the result. Both input and output images can be the same instance.
+	 *
+	 * @param input The input image. Not modified.
+	 * @param value What is added to each element.
+	 * @param lower Lower bound on output. Inclusive.
+	 * @param upper Upper bound on output. Inclusive.
+	 * @param output The output image. Modified.
+	 */
+	public static void plus( final ImageSInt64 input , final long value , final long lower , final long upper , final ImageSInt64 output ) {
+
+		InputSanityCheck.checkSameShape(input,output);
+
+		BoofConcurrency.loopBlocks(0,input.height,BoofConcurrency.minBlockRows(input.width),new IntRangeTask() {
+			@Override
+			public void call(int y0, int y1) {
+				for( int y = y0; y < y1; y++ ) {
+					int indexSrc = input.startIndex + y* input.stride;
+					int indexDst = output.startIndex + y* output.stride;
+					int end = indexSrc + input.width;
+
+					for( ; indexSrc < end; indexSrc++ , indexDst++) {
+						long val = (input.data[indexSrc] ) + value;
+						if( val < lower ) val = lower;
+						if( val > upper ) val = upper;
+						output.data[indexDst] = val;
+					}
+				}
+			}
+		});
+	}
+
+	/**
+	 * Bounds image pixels to be between these two values
+	 *
+	 * @param img Image
+	 * @param min minimum value.
+	 * @param max maximum value.
+	 */
+	public static void boundImage( final ImageSInt64 img , final long min , final long max ) {
+		final int rowLength = img.width;
+
+		BoofConcurrency.loopBlocks(0,img.height,BoofConcurrency.minBlockRows(rowLength),new IntRangeTask() {
+			@Override
+			public void call(int y0, int y1) {
+				long[] data = img.data;
+
+				for( int y = y0; y < y1; y++ ) {
+					int index = img.startIndex + y * img.stride;
+					int indexEnd = index+rowLength;
+					for( ; index < indexEnd; index++ ) {
+						long value = data[index];
+						if( value < min )
+							data[index] = min;
+						else if( value > max )
+							data[index] = max;
+					}
+				}
+			}
+		});
+	}
+
+	/**
+	 * <p>
+	 * Computes the absolute value of the difference between each pixel in the two images.<br>
+	 * d(x,y) = |img1(x,y) - img2(x,y)|
+	 * </p>
+	 * @param imgA Input image. Not modified.
+	 * @param imgB Input image. Not modified.
+	 * @param diff Absolute value of difference image. Modified.
+	 */
+	public static void diffAbs( final ImageSInt64 imgA , final ImageSInt64 imgB , final ImageSInt64 diff ) {
+
+		InputSanityCheck.checkSameShape(imgA,imgB,diff);
+
+		BoofConcurrency.loopBlocks(0,imgA.height,BoofConcurrency.minBlockRows(imgA.width),new IntRangeTask() {
+			@Override
+			public void call(int y0, int y1) {
+				for( int y = y0; y < y1; y++ ) {
+					int indexA = imgA.startIndex + y * imgA.stride;
+					int indexB = imgB.startIndex + y * imgB.stride;
+					int indexOut = diff.startIndex + y * diff.stride;
+
+					int indexEnd = indexA + imgA.width;
+					for( ; indexA < indexEnd; indexA++, indexB++, indexOut++ ) {
+						diff.data[indexOut] = (long)Math.abs((imgA.data[indexA] ) - (imgB.data[indexB] ));
+					}
+				}
+			}
+		});
+	}
+
+	/**
+	 * Multiply each element by a scalar value. Both input and output images can
+	 * be the same instance.
+	 *
+	 * @param input The input image. Not modified.
+	 * @param value What each element is multiplied by.
+	 * @param output The output image. Modified.
+	 */
+	public static void multiply( final InterleavedS64 input , final double value , final InterleavedS64 output ) {
+
+		InputSanityCheck.checkSameShape(input,output);
+		if( input.numBands != output.numBands )
+			throw new IllegalArgumentException("Number of bands must be the same");
+
+		BoofConcurrency.loopBlocks(0,input.height,BoofConcurrency.minBlockRows(input.width*input.numBands),new IntRangeTask() {
+			@Override
+			public void call(int y0, int y1) {
+				for( int y = y0; y < y1; y++ ) {
+					int indexSrc = input.startIndex + y* input.stride;
+					int indexDst = output.startIndex + y* output.stride;
+					int end = indexSrc + input.width*input.numBands;
+
+					for( ; indexSrc < end; indexSrc++ , indexDst++) {
+						output.data[indexDst] = (long)((input.data[indexSrc] ) * value);
+					}
+				}
+			}
+		});
+	}
+
+	/**
+	 * Multiply each element by a scalar value and bounds the result. Both input and output images can
+	 * be the same instance.
+	 *
+	 * @param input The input image. Not modified.
+	 * @param value What each element is multiplied by.
+	 * @param lower Lower bound on output. Inclusive.
+	 * @param upper Upper bound on output. Inclusive.
+	 * @param output The output image. Modified.
+	 */
+	public static void multiply( final InterleavedS64 input , final double value , final long lower , final long upper , final InterleavedS64 output ) {
+
+		InputSanityCheck.checkSameShape(input,output);
+		if( input.numBands != output.numBands )
+			throw new IllegalArgumentException("Number of bands must be the same");
+
+		BoofConcurrency.loopBlocks(0,input.height,BoofConcurrency.minBlockRows(input.width*input.numBands),new IntRangeTask() {
+			@Override
+			public void call(int y0, int y1) {
+				for( int y = y0; y < y1; y++ ) {
+					int indexSrc = input.startIndex + y* input.stride;
+					int indexDst = output.startIndex + y* output.stride;
+					int end = indexSrc + input.width*input.numBands;
+
+					for( ; indexSrc < end; indexSrc++ , indexDst++) {
+						long val = (long)((input.data[indexSrc] ) * value);
+						if( val < lower ) val = lower;
+						if( val > upper ) val = upper;
+						output.data[indexDst] = val;
+					}
+				}
+			}
+		});
+	}
+
+	/**
+	 * Divide each element by a scalar value. Both input and output images can be the same instance.
+	 *
+	 * @param input The input image. Not modified.
+	 * @param denominator What each element is divided by.
+	 * @param output The output image. Modified.
+	 */
+	public static void divide( final InterleavedS64 input , final double denominator , final InterleavedS64 output ) {
+
+		InputSanityCheck.checkSameShape(input,output);
+		if( input.numBands != output.numBands )
+			throw new IllegalArgumentException("Number of bands must be the same");
+
+		BoofConcurrency.loopBlocks(0,input.height,BoofConcurrency.minBlockRows(input.width*input.numBands),new IntRangeTask() {
+			@Override
+			public void call(int y0, int y1) {
+				for( int y = y0; y < y1; y++ ) {
+					int indexSrc = input.startIndex + y* input.stride;
+					int indexDst = output.startIndex + y* output.stride;
+					int end = indexSrc + input.width*input.numBands;
+
+					for( ; indexSrc < end; indexSrc++ , indexDst++) {
+						output.data[indexDst] = (long)((input.data[indexSrc] ) / denominator);
+					}
+				}
+			}
+		});
+	}
+
+	/**
+	 * Divide each element by a scalar value and bounds the result. Both input and output images can be the same instance.
+	 *
+	 * @param input The input image. Not modified.
+	 * @param denominator What each element is divided by.
+	 * @param lower Lower bound on output. Inclusive.
+	 * @param upper Upper bound on output. Inclusive.
+	 * @param output The output image. Modified.
+	 */
+	public static void divide( final InterleavedS64 input , final double denominator , final long lower , final long upper , final InterleavedS64 output ) {
+
+		InputSanityCheck.checkSameShape(input,output);
+		if( input.numBands != output.numBands )
+			throw new IllegalArgumentException("Number of bands must be the same");
+
+		BoofConcurrency.loopBlocks(0,input.height,BoofConcurrency.minBlockRows(input.width*input.numBands),new IntRangeTask() {
+			@Override
+			public void call(int y0, int y1) {
+				for( int y = y0; y < y1; y++ ) {
+					int indexSrc = input.startIndex + y* input.stride;
+					int indexDst = output.startIndex + y* output.stride;
+					int end = indexSrc + input.width*input.numBands;
+
+					for( ; indexSrc < end; indexSrc++ , indexDst++) {
+						long val = (long)((input.data[indexSrc] ) / denominator);
+						if( val < lower ) val = lower;
+						if( val > upper ) val = upper;
+						output.data[indexDst] = val;
+					}
+				}
+			}
+		});
+	}
+
+	/**
+	 * Add a scalar value to each element. Both input and output images can be the same instance.
+	 *
+	 * @param input The input image. Not modified.
+	 * @param value What is added to each element.
+	 * @param output The output image. Modified.
+	 */
+	public static void plus( final InterleavedS64 input , final long value , final InterleavedS64 output ) {
+
+		InputSanityCheck.checkSameShape(input,output);
+		if( input.numBands != output.numBands )
+			throw new IllegalArgumentException("Number of bands must be the same");
+
+		BoofConcurrency.loopBlocks(0,input.height,BoofConcurrency.minBlockRows(input.width*input.numBands),new IntRangeTask() {
+			@Override
+			public void call(int y0, int y1) {
+				for( int y = y0; y < y1; y++ ) {
+					int indexSrc = input.startIndex + y* input.stride;
+					int indexDst = output.startIndex + y* output.stride;
+					int end = indexSrc + input.width*input.numBands;
+
+					for( ; indexSrc < end; indexSrc++ , indexDst++) {
+						output.data[indexDst] = ((input.data[indexSrc] ) + value);
+					}
+				}
+			}
+		});
+	}
+
+	/**
+	 * Add a scalar value to each element and bounds the result. Both input and output images can be the same instance.
+	 *
+	 * @param input The input image. Not modified.
+	 * @param value What is added to each element.
+	 * @param lower Lower bound on output. Inclusive.
+	 * @param upper Upper bound on output. Inclusive.
+	 * @param output The output image. Modified.
+	 */
+	public static void plus( final InterleavedS64 input , final long value , final long lower , final long upper , final InterleavedS64 output ) {
+
+		InputSanityCheck.checkSameShape(input,output);
+		if( input.numBands != output.numBands )
+			throw new IllegalArgumentException("Number of bands must be the same");
+
+		BoofConcurrency.loopBlocks(0,input.height,BoofConcurrency.minBlockRows(input.width*input.numBands),new IntRangeTask() {
+			@Override
+			public void call(int y0, int y1) {
+				for( int y = y0; y < y1; y++ ) {
+					int indexSrc = input.startIndex + y* input.stride;
+					int indexDst = output.startIndex + y* output.stride;
+					int end = indexSrc + input.width*input.numBands;
+
+					for( ; indexSrc < end; indexSrc++ , indexDst++) {
+						long val = (input.data[indexSrc] ) + value;
+						if( val < lower ) val = lower;
+						if( val > upper ) val = upper;
+						output.data[indexDst] = val;
+					}
+				}
+			}
+		});
+	}
+
+	/**
+	 * Bounds image pixels to be between these two values
+	 *
+	 * @param img Image
+	 * @param min minimum value.
+	 * @param max maximum value.
+	 */
+	public static void boundImage( final InterleavedS64 img , final long min , final long max ) {
+		final int rowLength = img.width*img.numBands;
+
+		BoofConcurrency.loopBlocks(0,img.height,BoofConcurrency.minBlockRows(rowLength),new IntRangeTask() {
+			@Override
+			public void call(int y0, int y1) {
+				long[] data = img.data;
+
+				for( int y = y0; y < y1; y++ ) {
+					int index = img.startIndex + y * img.stride;
+					int indexEnd = index+rowLength;
+					for( ; index < indexEnd; index++ ) {
+						long value = data[index];
+						if( value < min )
+							data[index] = min;
+						else if( value > max )
+							data[index] = max;
+					}
+				}
+			}
+		});
+	}
+
+	/**
+	 * <p>
+	 * Computes the absolute value of the difference between each pixel in the two images.<br>
+	 * d(x,y) = |img1(x,y) - img2(x,y)|
+	 * </p>
+	 * @param imgA Input image. Not modified.
+	 * @param imgB Input image. Not modified.
+	 * @param diff Absolute value of difference image. Modified.
+	 */
+	public static void diffAbs( final InterleavedS64 imgA , final InterleavedS64 imgB , final InterleavedS64 diff ) {
+
+		InputSanityCheck.checkSameShape(imgA,imgB,diff);
+		if( imgA.numBands != imgB.numBands || imgA.numBands != diff.numBands )
+			throw new IllegalArgumentException("Number of bands must be the same");
+
+		BoofConcurrency.loopBlocks(0,imgA.height,BoofConcurrency.minBlockRows(imgA.width*imgA.numBands),new IntRangeTask() {
+			@Override
+			public void call(int y0, int y1) {
+				for( int y = y0; y < y1; y++ ) {
+					int indexA = imgA.startIndex + y * imgA.stride;
+					int indexB = imgB.startIndex + y * imgB.stride;
+					int indexOut = diff.startIndex + y * diff.stride;
+
+					int indexEnd = indexA + imgA.width*imgA.numBands;
+					for( ; indexA < indexEnd; indexA++, indexB++, indexOut++ ) {
+						diff.data[indexOut] = (long)Math.abs((imgA.data[indexA] ) - (imgB.data[indexB] ));
+					}
+				}
+			}
+		});
+	}
+
+	/**
+	 * Multiply each element by a scalar value. Both input and output images can
+	 * be the same instance.
+	 *
+	 * @param input The input image. Not modified.
+	 * @param value What each element is multiplied by.
+	 * @param output The output image. Modified.
+	 */
+	public static void multiply( final ImageFloat32 input , final float value , final ImageFloat32 output ) {
+
+		InputSanityCheck.checkSameShape(input,output);
+
+		BoofConcurrency.loopBlocks(0,input.height,BoofConcurrency.minBlockRows(input.width),new IntRangeTask() {
+			@Override
+			public void call(int y0, int y1) {
+				for( int y = y0; y < y1; y++ ) {
+					int indexSrc = input.startIndex + y* input.stride;
+					int indexDst = output.startIndex + y* output.stride;
+					int end = indexSrc + input.width;
+
+					for( ; indexSrc < end; indexSrc++ , indexDst++) {
+						output.data[indexDst] = ((input.data[indexSrc] ) * value);
+					}
+				}
+			}
+		});
+	}
+
+	/**
+	 * Multiply each element by a scalar value and bounds the result. Both input and output images can
+	 * be the same instance.
+	 *
+	 * @param input The input image. Not modified.
+	 * @param value What each element is multiplied by.
+	 * @param lower Lower bound on output. Inclusive.
+	 * @param upper Upper bound on output. Inclusive.
+	 * @param output The output image. Modified.
+	 */
+	public static void multiply( final ImageFloat32 input , final float value , final float lower , final float upper , final ImageFloat32 output ) {
+
+		InputSanityCheck.checkSameShape(input,output);
+
+		BoofConcurrency.loopBlocks(0,input.height,BoofConcurrency.minBlockRows(input.width),new IntRangeTask() {
+			@Override
+			public void call(int y0, int y1) {
+				for( int y = y0; y < y1; y++ ) {
+					int indexSrc = input.startIndex + y* input.stride;
+					int indexDst = output.startIndex + y* output.stride;
+					int end = indexSrc + input.width;
+
+					for( ; indexSrc < end; indexSrc++ , indexDst++) {
+						float val = ((input.data[indexSrc] ) * value);
+						if( val < lower ) val = lower;
+						if( val > upper ) val = upper;
+						output.data[indexDst] = val;
+					}
+				}
+			}
+		});
+	}
+
+	/**
+	 * Divide each element by a scalar value. Both input and output images can be the same instance.
+	 *
+	 * @param input The input image. Not modified.
+	 * @param denominator What each element is divided by.
+	 * @param output The output image. Modified.
+	 */
+	public static void divide( final ImageFloat32 input , final float denominator , final ImageFloat32 output ) {
+
+		InputSanityCheck.checkSameShape(input,output);
+
+		BoofConcurrency.loopBlocks(0,input.height,BoofConcurrency.minBlockRows(input.width),new IntRangeTask() {
+			@Override
+			public void call(int y0, int y1) {
+				for( int y = y0; y < y1; y++ ) {
+					int indexSrc = input.startIndex + y* input.stride;
+					int indexDst = output.startIndex + y* output.stride;
+					int end = indexSrc + input.width;
+
+					for( ; indexSrc < end; indexSrc++ , indexDst++) {
+						output.data[indexDst] = ((input.data[indexSrc] ) / denominator);
+					}
+				}
+			}
+		});
+	}
+
+	/**
+	 * Divide each element by a scalar value and bounds the result. Both input and output images can be the same instance.
+	 *
+	 * @param input The input image. Not modified.
+	 * @param denominator What each element is divided by.
+	 * @param lower Lower bound on output. Inclusive.
+	 * @param upper Upper bound on output. Inclusive.
+	 * @param output The output image. Modified.
+	 */
+	public static void divide( final ImageFloat32 input , final float denominator , final float lower , final float upper , final ImageFloat32 output ) {
+
+		InputSanityCheck.checkSameShape(input,output);
+
+		BoofConcurrency.loopBlocks(0,input.height,BoofConcurrency.minBlockRows(input.width),new IntRangeTask() {
+			@Override
+			public void call(int y0, int y1) {
+				for( int y = y0; y < y1; y++ ) {
+					int indexSrc = input.startIndex + y* input.stride;
+					int indexDst = output.startIndex + y* output.stride;
+					int end = indexSrc + input.width;
+
+					for( ; indexSrc < end; indexSrc++ , indexDst++) {
+						float val = ((input.data[indexSrc] ) / denominator);
+						if( val < lower ) val = lower;
+						if( val > upper ) val = upper;
+						output.data[indexDst] = val;
+					}
+				}
+			}
+		});
+	}
+
+	/**
+	 * Add a scalar value to each element. Both input and output images can be the same instance.
+	 *
+	 * @param input The input image. Not modified.
+	 * @param value What is added to each element.
+	 * @param output The output image. Modified.
+	 */
+	public static void plus( final ImageFloat32 input , final float value , final ImageFloat32 output ) {
+
+		InputSanityCheck.checkSameShape(input,output);
+
+		BoofConcurrency.loopBlocks(0,input.height,BoofConcurrency.minBlockRows(input.width),new IntRangeTask() {
+			@Override
+			public void call(int y0, int y1) {
+				for( int y = y0; y < y1; y++ ) {
+					int indexSrc = input.startIndex + y* input.stride;
+					int indexDst = output.startIndex + y* output.stride;
+					int end = indexSrc + input.width;
+
+					for( ; indexSrc < end; indexSrc++ , indexDst++) {
+						output.data[indexDst] = ((input.data[indexSrc] ) + value);
+					}
+				}
+			}
+		});
+	}
+
+	/**
+	 * Add a scalar value to each element and bounds the result. Both input and output images can be the same instance.
+	 *
+	 * @param input The input image. Not modified.
+	 * @param value What is added to each element.
+	 * @param lower Lower bound on output. Inclusive.
+	 * @param upper Upper bound on output. Inclusive.
+	 * @param output The output image. Modified.
+	 */
+	public static void plus( final ImageFloat32 input , final float value , final float lower , final float upper , final ImageFloat32 output ) {
+
+		InputSanityCheck.checkSameShape(input,output);
+
+		BoofConcurrency.loopBlocks(0,input.height,BoofConcurrency.minBlockRows(input.width),new IntRangeTask() {
+			@Override
+			public void call(int y0, int y1) {
+				for( int y = y0; y < y1; y++ ) {
+					int indexSrc = input.startIndex + y* input.stride;
+					int indexDst = output.startIndex + y* output.stride;
+					int end = indexSrc + input.width;
+
+					for( ; indexSrc < end; indexSrc++ , indexDst++) {
+						float val = (input.data[indexSrc] ) + value;
+						if( val < lower ) val = lower;
+						if( val > upper ) val = upper;
+						output.data[indexDst] = val;
+					}
+				}
+			}
+		});
+	}
+
+	/**
+	 * Bounds image pixels to be between these two values
+	 *
+	 * @param img Image
+	 * @param min minimum value.
+	 * @param max maximum value.
+	 */
+	public static void boundImage( final ImageFloat32 img , final float min , final float max ) {
+		final int rowLength = img.width;
+
+		BoofConcurrency.loopBlocks(0,img.height,BoofConcurrency.minBlockRows(rowLength),new IntRangeTask() {
+			@Override
+			public void call(int y0, int y1) {
+				float[] data = img.data;
+
+				for( int y = y0; y < y1; y++ ) {
+					int index = img.startIndex + y * img.stride;
+					int indexEnd = index+rowLength;
+					for( ; index < indexEnd; index++ ) {
+						float value = data[index];
+						if( value < min )
+							data[index] = min;
+						else if( value > max )
+							data[index] = max;
+					}
+				}
+			}
+		});
+	}
+
+	/**
+	 * <p>
+	 * Computes the absolute value of the difference between each pixel in the two images.<br>
+	 * d(x,y) = |img1(x,y) - img2(x,y)|
+	 * </p>
+	 * @param imgA Input image. Not modified.
+	 * @param imgB Input image. Not modified.
+	 * @param diff Absolute value of difference image. Modified.
+	 */
+	public static void diffAbs( final ImageFloat32 imgA , final ImageFloat32 imgB , final ImageFloat32 diff ) {
+
+		InputSanityCheck.checkSameShape(imgA,imgB,diff);
+
+		BoofConcurrency.loopBlocks(0,imgA.height,BoofConcurrency.minBlockRows(imgA.width),new IntRangeTask() {
+			@Override
+			public void call(int y0, int y1) {
+				for( int y = y0; y < y1; y++ ) {
+					int indexA = imgA.startIndex + y * imgA.stride;
+					int indexB = imgB.startIndex + y * imgB.stride;
+					int indexOut = diff.startIndex + y * diff.stride;
+
+					int indexEnd = indexA + imgA.width;
+					for( ; indexA < indexEnd; indexA++, indexB++, indexOut++ ) {
+						diff.data[indexOut] = Math.abs((imgA.data[indexA] ) - (imgB.data[indexB] ));
+					}
+				}
+			}
+		});
+	}
+
+	/**
+	 * Multiply each element by a scalar value. Both input and output images can
+	 * be the same instance.
+	 *
+	 * @param input The input image. Not modified.
+	 * @param value What each element is multiplied by.
+	 * @param output The output image. Modified.
+	 */
+	public static void multiply( final InterleavedF32 input , final float value , final InterleavedF32 output ) {
+
+		InputSanityCheck.checkSameShape(input,output);
+		if( input.numBands != output.numBands )
+			throw new IllegalArgumentException("Number of bands must be the same");
+
+		BoofConcurrency.loopBlocks(0,input.height,BoofConcurrency.minBlockRows(input.width*input.numBands),new IntRangeTask() {
+			@Override
+			public void call(int y0, int y1) {
+				for( int y = y0; y < y1; y++ ) {
+					int indexSrc = input.startIndex + y* input.stride;
+					int indexDst = output.startIndex + y* output.stride;
+					int end = indexSrc + input.width*input.numBands;
+
+					for( ; indexSrc < end; indexSrc++ , indexDst++) {
+						output.data[indexDst] = ((input.data[indexSrc] ) * value);
+					}
+				}
+			}
+		});
+	}
+
+	/**
+	 * Multiply each element by a scalar value and bounds the result. Both input and output images can
+	 * be the same instance.
+	 *
+	 * @param input The input image. Not modified.
+	 * @param value What each element is multiplied by.
+	 * @param lower Lower bound on output. Inclusive.
+	 * @param upper Upper bound on output. Inclusive.
+	 * @param output The output image. Modified.
+	 */
+	public static void multiply( final InterleavedF32 input , final float value , final float lower , final float upper , final InterleavedF32 output ) {
+
+		InputSanityCheck.checkSameShape(input,output);
+		if( input.numBands != output.numBands )
+			throw new IllegalArgumentException("Number of bands must be the same");
+
+		BoofConcurrency.loopBlocks(0,input.height,BoofConcurrency.minBlockRows(input.width*input.numBands),new IntRangeTask() {
+			@Override
+			public void call(int y0, int y1) {
+				for( int y = y0; y < y1; y++ ) {
+					int indexSrc = input.startIndex + y* input.stride;
+					int indexDst = output.startIndex + y* output.stride;
+					int end = indexSrc + input.width*input.numBands;
+
+					for( ; indexSrc < end; indexSrc++ , indexDst++) {
+						float val = ((input.data[indexSrc] ) * value);
+						if( val < lower ) val = lower;
+						if( val > upper ) val = upper;
+						output.data[indexDst] = val;
+					}
+				}
+			}
+		});
+	}
+
+	/**
+	 * Divide each element by a scalar value. Both input and output images can be the same instance.
+	 *
+	 * @param input The input image. Not modified.
+	 * @param denominator What each element is divided by.
+	 * @param output The output image. Modified.
+	 */
+	public static void divide( final InterleavedF32 input , final float denominator , final InterleavedF32 output ) {
+
+		InputSanityCheck.checkSameShape(input,output);
+		if( input.numBands != output.numBands )
+			throw new IllegalArgumentException("Number of bands must be the same");
+
+		BoofConcurrency.loopBlocks(0,input.height,BoofConcurrency.minBlockRows(input.width*input.numBands),new IntRangeTask() {
+			@Override
+			public void call(int y0, int y1) {
+				for( int y = y0; y < y1; y++ ) {
+					int indexSrc = input.startIndex + y* input.stride;
+					int indexDst = output.startIndex + y* output.stride;
+					int end = indexSrc + input.width*input.numBands;
+
+					for( ; indexSrc < end; indexSrc++ , indexDst++) {
+						output.data[indexDst] = ((input.data[indexSrc] ) / denominator);
+					}
+				}
+			}
+		});
+	}
+
+	/**
+	 * Divide each element by a scalar value and bounds the result. Both input and output images can be the same instance.
+	 *
+	 * @param input The input image. Not modified.
+	 * @param denominator What each element is divided by.
+	 * @param lower Lower bound on output. Inclusive.
+	 * @param upper Upper bound on output. Inclusive.
+	 * @param output The output image. Modified.
+	 */
+	public static void divide( final InterleavedF32 input , final float denominator , final float lower , final float upper , final InterleavedF32 output ) {
+
+		InputSanityCheck.checkSameShape(input,output);
+		if( input.numBands != output.numBands )
+			throw new IllegalArgumentException("Number of bands must be the same");
+
+		BoofConcurrency.loopBlocks(0,input.height,BoofConcurrency.minBlockRows(input.width*input.numBands),new IntRangeTask() {
+			@Override
+			public void call(int y0, int y1) {
+				for( int y = y0; y < y1; y++ ) {
+					int indexSrc = input.startIndex + y* input.stride;
+					int indexDst = output.startIndex + y* output.stride;
+					int end = indexSrc + input.width*input.numBands;
+
+					for( ; indexSrc < end; indexSrc++ , indexDst++) {
+						float val = ((input.data[indexSrc] ) / denominator);
+						if( val < lower ) val = lower;
+						if( val > upper ) val = upper;
+						output.data[indexDst] = val;
+					}
+				}
+			}
+		});
+	}
+
+	/**
+	 * Add a scalar value to each element. Both input and output images can be the same instance.
+	 *
+	 * @param input The input image. Not modified.
+	 * @param value What is added to each element.
+	 * @param output The output image. Modified.
+	 */
+	public static void plus( final InterleavedF32 input , final float value , final InterleavedF32 output ) {
+
+		InputSanityCheck.checkSameShape(input,output);
+		if( input.numBands != output.numBands )
+			throw new IllegalArgumentException("Number of bands must be the same");
+
+		BoofConcurrency.loopBlocks(0,input.height,BoofConcurrency.minBlockRows(input.width*input.numBands),new IntRangeTask() {
+			@Override
+			public void call(int y0, int y1) {
+				for( int y = y0; y < y1; y++ ) {
+					int indexSrc = input.startIndex + y* input.stride;
+					int indexDst = output.startIndex + y* output.stride;
+					int end = indexSrc + input.width*input.numBands;
+
+					for( ; indexSrc < end; indexSrc++ , indexDst++) {
+						output.data[indexDst] = ((input.data[indexSrc] ) + value);
+					}
+				}
+			}
+		});
+	}
+
+	/**
+	 * Add a scalar value to each element and bounds the result. Both input and output images can be the same instance.
+	 *
+	 * @param input The input image. Not modified.
+	 * @param value What is added to each element.
+	 * @param lower Lower bound on output. Inclusive.
+	 * @param upper Upper bound on output. Inclusive.
+	 * @param output The output image. Modified.
+	 */
+	public static void plus( final InterleavedF32 input , final float value , final float lower , final float upper , final InterleavedF32 output ) {
+
+		InputSanityCheck.checkSameShape(input,output);
+		if( input.numBands != output.numBands )
+			throw new IllegalArgumentException("Number of bands must be the same");
+
+		BoofConcurrency.loopBlocks(0,input.height,BoofConcurrency.minBlockRows(input.width*input.numBands),new IntRangeTask() {
+			@Override
+			public void call(int y0, int y1) {
+				for( int y = y0; y < y1; y++ ) {
+					int indexSrc = input.startIndex + y* input.stride;
+					int indexDst = output.startIndex + y* output.stride;
+					int end = indexSrc + input.width*input.numBands;
+
+					for( ; indexSrc < end; indexSrc++ , indexDst++) {
+						float val = (input.data[indexSrc] ) + value;
+						if( val < lower ) val = lower;
+						if( val > upper ) val = upper;
+						output.data[indexDst] = val;
+					}
+				}
+			}
+		});
+	}
+
+	/**
+	 * Bounds image pixels to be between these two values
+	 *
+	 * @param img Image
+	 * @param min minimum value.
+	 * @param max maximum value.
+	 */
+	public static void boundImage( final InterleavedF32 img , final float min , final float max ) {
+		final int rowLength = img.width*img.numBands;
+
+		BoofConcurrency.loopBlocks(0,img.height,BoofConcurrency.minBlockRows(rowLength),new IntRangeTask() {
+			@Override
+			public void call(int y0, int y1) {
+				float[] data = img.data;
+
+				for( int y = y0; y < y1; y++ ) {
+					int index = img.startIndex + y * img.stride;
+					int indexEnd = index+rowLength;
+					for( ; index < indexEnd; index++ ) {
+						float value = data[index];
+						if( value < min )
+							data[index] = min;
+						else if( value > max )
+							data[index] = max;
+					}
+				}
+			}
+		});
+	}
+
+	/**
+	 * <p>
+	 * Computes the absolute value of the difference between each pixel in the two images.<br>
+	 * d(x,y) = |img1(x,y) - img2(x,y)|
+	 * </p>
+	 * @param imgA Input image. Not modified.
+	 * @param imgB Input image. Not modified.
+	 * @param diff Absolute value of difference image. Modified.
+	 */
+	public static void diffAbs( final InterleavedF32 imgA , final InterleavedF32 imgB , final InterleavedF32 diff ) {
+
+		InputSanityCheck.checkSameShape(imgA,imgB,diff);
+		if( imgA.numBands != imgB.numBands || imgA.numBands != diff.numBands )
+			throw new IllegalArgumentException("Number of bands must be the same");
+
+		BoofConcurrency.loopBlocks(0,imgA.height,BoofConcurrency.minBlockRows(imgA.width*imgA.numBands),new IntRangeTask() {
+			@Override
+			public void call(int y0, int y1) {
+				for( int y = y0; y < y1; y++ ) {
+					int indexA = imgA.startIndex + y * imgA.stride;
+					int indexB = imgB.startIndex + y * imgB.stride;
+					int indexOut = diff.startIndex + y * diff.stride;
+
+					int indexEnd = indexA + imgA.width*imgA.numBands;
+					for( ; indexA < indexEnd; indexA++, indexB++, indexOut++ ) {
+						diff.data[indexOut] = Math.abs((imgA.data[indexA] ) - (imgB.data[indexB] ));
+					}
+				}
+			}
+		});
+	}
+
+	/**
+	 * Multiply each element by a scalar value. Both input and output images can
+	 * be the same instance.
+	 *
+	 * @param input The input image. Not modified.
+	 * @param value What each element is multiplied by.
+	 * @param output The output image. Modified.
+	 */
+	public static void multiply( final ImageFloat64 input , final double value , final ImageFloat64 output ) {
+
+		InputSanityCheck.checkSameShape(input,output);
+
+		BoofConcurrency.loopBlocks(0,input.height,BoofConcurrency.minBlockRows(input.width),new IntRangeTask() {
+			@Override
+			public void call(int y0, int y1) {
+				for( int y = y0; y < y1; y++ ) {
+					int indexSrc = input.startIndex + y* input.stride;
+					int indexDst = output.startIndex + y* output.stride;
+					int end = indexSrc + input.width;
+
+					for( ; indexSrc < end; indexSrc++ , indexDst++) {
+						output.data[indexDst] = ((input.data[indexSrc] ) * value);
+					}
+				}
+			}
+		});
+	}
+
+	/**
+	 * Multiply each element by a scalar value and bounds the result. Both input and output images can
+	 * be the same instance.
+	 *
+	 * @param input The input image. Not modified.
+	 * @param value What each element is multiplied by.
+	 * @param lower Lower bound on output. Inclusive.
+	 * @param upper Upper bound on output. Inclusive.
+	 * @param output The output image. Modified.
+	 */
+	public static void multiply( final ImageFloat64 input , final double value , final double lower , final double upper , final ImageFloat64 output ) {
+
+		InputSanityCheck.checkSameShape(input,output);
+
+		BoofConcurrency.loopBlocks(0,input.height,BoofConcurrency.minBlockRows(input.width),new IntRangeTask() {
+			@Override
+			public void call(int y0, int y1) {
+				for( int y = y0; y < y1; y++ ) {
+					int indexSrc = input.startIndex + y* input.stride;
+					int indexDst = output.startIndex + y* output.stride;
+					int end = indexSrc + input.width;
+
+					for( ; indexSrc < end; indexSrc++ , indexDst++) {
+						double val = ((input.data[indexSrc] ) * value);
+						if( val < lower ) val = lower;
+						if( val > upper ) val = upper;
+						output.data[indexDst] = val;
+					}
+				}
+			}
+		});
+	}
+
+	/**
+	 * Divide each element by a scalar value. Both input and output images can be the same instance.
+	 *
+	 * @param input The input image. Not modified.
+	 * @param denominator What each element is divided by.
+	 * @param output The output image. Modified.
+	 */
+	public static void divide( final ImageFloat64 input , final double denominator , final ImageFloat64 output ) {
+
+		InputSanityCheck.checkSameShape(input,output);
+
+		BoofConcurrency.loopBlocks(0,input.height,BoofConcurrency.minBlockRows(input.width),new IntRangeTask() {
+			@Override
+			public void call(int y0, int y1) {
+				for( int y = y0; y < y1; y++ ) {
+					int indexSrc = input.startIndex + y* input.stride;
+					int indexDst = output.startIndex + y* output.stride;
+					int end = indexSrc + input.width;
+
+					for( ; indexSrc < end; indexSrc++ , indexDst++) {
+						output.data[indexDst] = ((input.data[indexSrc] ) / denominator);
+					}
+				}
+			}
+		});
+	}
+
+	/**
+	 * Divide each element by a scalar value and bounds the result. Both input and output images can be the same instance.
+	 *
+	 * @param input The input image. Not modified.
+	 * @param denominator What each element is divided by.
+	 * @param lower Lower bound on output. Inclusive.
+	 * @param upper Upper bound on output. Inclusive.
+	 * @param output The output image. Modified.
+	 */
+	public static void divide( final ImageFloat64 input , final double denominator , final double lower , final double upper , final ImageFloat64 output ) {
+
+		InputSanityCheck.checkSameShape(input,output);
+
+		BoofConcurrency.loopBlocks(0,input.height,BoofConcurrency.minBlockRows(input.width),new IntRangeTask() {
+			@Override
+			public void call(int y0, int y1) {
+				for( int y = y0; y < y1; y++ ) {
+					int indexSrc = input.startIndex + y* input.stride;
+					int indexDst = output.startIndex + y* output.stride;
+					int end = indexSrc + input.width;
+
+					for( ; indexSrc < end; indexSrc++ , indexDst++) {
+						double val = ((input.data[indexSrc] ) / denominator);
+						if( val < lower ) val = lower;
+						if( val > upper ) val = upper;
+						output.data[indexDst] = val;
+					}
+				}
+			}
+		});
+	}
+
+	/**
+	 * Add a scalar value to each element. Both input and output images can be the same instance.
+	 *
+	 * @param input The input image. Not modified.
+	 * @param value What is added to each element.
+	 * @param output The output image. Modified.
+	 */
+	public static void plus( final ImageFloat64 input , final double value , final ImageFloat64 output ) {
+
+		InputSanityCheck.checkSameShape(input,output);
+
+		BoofConcurrency.loopBlocks(0,input.height,BoofConcurrency.minBlockRows(input.width),new IntRangeTask() {
+			@Override
+			public void call(int y0, int y1) {
+				for( int y = y0; y < y1; y++ ) {
+					int indexSrc = input.startIndex + y* input.stride;
+					int indexDst = output.startIndex + y* output.stride;
+					int end = indexSrc + input.width;
+
+					for( ; indexSrc < end; indexSrc++ , indexDst++) {
+						output.data[indexDst] = ((input.data[indexSrc] ) + value);
+					}
+				}
+			}
+		});
+	}
+
+	/**
+	 * Add a scalar value to each element and bounds the result. Both input and output images can be the same instance.
+	 *
+	 * @param input The input image. Not modified.
+	 * @param value What is added to each element.
+	 * @param lower Lower bound on output. Inclusive.
+	 * @param upper Upper bound on output. Inclusive.
+	 * @param output The output image. Modified.
+	 */
+	public static void plus( final ImageFloat64 input , final double value , final double lower , final double upper , final ImageFloat64 output ) {
+
+		InputSanityCheck.checkSameShape(input,output);
+
+		BoofConcurrency.loopBlocks(0,input.height,BoofConcurrency.minBlockRows(input.width),new IntRangeTask() {
+			@Override
+			public void call(int y0, int y1) {
+				for( int y = y0; y < y1; y++ ) {
+					int indexSrc = input.startIndex + y* input.stride;
+					int indexDst = output.startIndex + y* output.stride;
+					int end = indexSrc + input.width;
+
+					for( ; indexSrc < end; indexSrc++ , indexDst++) {
+						double val = (input.data[indexSrc] ) + value;
+						if( val < lower ) val = lower;
+						if( val > upper ) val = upper;
+						output.data[indexDst] = val;
+					}
+				}
+			}
+		});
+	}
+
+	/**
+	 * Bounds image pixels to be between these two values
+	 *
+	 * @param img Image
+	 * @param min minimum value.
+	 * @param max maximum value.
+	 */
+	public static void boundImage( final ImageFloat64 img , final double min , final double max ) {
+		final int rowLength = img.width;
+
+		BoofConcurrency.loopBlocks(0,img.height,BoofConcurrency.minBlockRows(rowLength),new IntRangeTask() {
+			@Override
+			public void call(int y0, int y1) {
+				double[] data = img.data;
+
+				for( int y = y0; y < y1; y++ ) {
+					int index = img.startIndex + y * img.stride;
+					int indexEnd = index+rowLength;
+					for( ; index < indexEnd; index++ ) {
+						double value = data[index];
+						if( value < min )
+							data[index] = min;
+						else if( value > max )
+							data[index] = max;
+					}
+				}
+			}
+		});
+	}
+
+	/**
+	 * <p>
+	 * Computes the absolute value of the difference between each pixel in the two images.<br>
+	 * d(x,y) = |img1(x,y) - img2(x,y)|
+	 * </p>
+	 * @param imgA Input image. Not modified.
+	 * @param imgB Input image. Not modified.
+	 * @param diff Absolute value of difference image. Modified.
+	 */
+	public static void diffAbs( final ImageFloat64 imgA , final ImageFloat64 imgB , final ImageFloat64 diff ) {
+
+		InputSanityCheck.checkSameShape(imgA,imgB,diff);
+
+		BoofConcurrency.loopBlocks(0,imgA.height,BoofConcurrency.minBlockRows(imgA.width),new IntRangeTask() {
+			@Override
+			public void call(int y0, int y1) {
+				for( int y = y0; y < y1; y++ ) {
+					int indexA = imgA.startIndex + y * imgA.stride;
+					int indexB = imgB.startIndex + y * imgB.stride;
+					int indexOut = diff.startIndex + y * diff.stride;
+
+					int indexEnd = indexA + imgA.width;
+					for( ; indexA < indexEnd; indexA++, indexB++, indexOut++ ) {
+						diff.data[indexOut] = Math.abs((imgA.data[indexA] ) - (imgB.data[indexB] ));
+					}
+				}
+			}
+		});
+	}
+
+	/**
+	 * Multiply each element by a scalar value. Both input and output images can
+	 * be the same instance.
+	 *
+	 * @param input The input image. Not modified.
+	 * @param value What each element is multiplied by.
+	 * @param output The output image. Modified.
+	 */
+	public static void multiply( final InterleavedF64 input , final double value , final InterleavedF64 output ) {
+
+		InputSanityCheck.checkSameShape(input,output);
+		if( input.numBands != output.numBands )
+			throw new IllegalArgumentException("Number of bands must be the same");
+
+		BoofConcurrency.loopBlocks(0,input.height,BoofConcurrency.minBlockRows(input.width*input.numBands),new IntRangeTask() {
+			@Override
+			public void call(int y0, int y1) {
+				for( int y = y0; y < y1; y++ ) {
+					int indexSrc = input.startIndex + y* input.stride;
+					int indexDst = output.startIndex + y* output.stride;
+					int end = indexSrc + input.width*input.numBands;
+
+					for( ; indexSrc < end; indexSrc++ , indexDst++) {
+						output.data[indexDst] = ((input.data[indexSrc] ) * value);
+					}
+				}
+			}
+		});
+	}
+
+	/**
+	 * Multiply each element by a scalar value and bounds the result. Both input and output images can
+	 * be the same instance.
+	 *
+	 * @param input The input image. Not modified.
+	 * @param value What each element is multiplied by.
+	 * @param lower Lower bound on output. Inclusive.
+	 * @param upper Upper bound on output. Inclusive.
+	 * @param output The output image. Modified.
+	 */
+	public static void multiply( final InterleavedF64 input , final double value , final double lower , final double upper , final InterleavedF64 output ) {
+
+		InputSanityCheck.checkSameShape(input,output);
+		if( input.numBands != output.numBands )
+			throw new IllegalArgumentException("Number of bands must be the same");
+
+		BoofConcurrency.loopBlocks(0,input.height,BoofConcurrency.minBlockRows(input.width*input.numBands),new IntRangeTask() {
+			@Override
+			public void call(int y0, int y1) {
+				for( int y = y0; y < y1; y++ ) {
+					int indexSrc = input.startIndex + y* input.stride;
+					int indexDst = output.startIndex + y* output.stride;
+					int end = indexSrc + input.width*input.numBands;
+
+					for( ; indexSrc < end; indexSrc++ , indexDst++) {
+						double val = ((input.data[indexSrc] ) * value);
+						if( val < lower ) val = lower;
+						if( val > upper ) val = upper;
+						output.data[indexDst] = val;
+					}
+				}
+			}
+		});
+	}
+
+	/**
+	 * Divide each element by a scalar value. Both input and output images can be the same instance.
+	 *
+	 * @param input The input image. Not modified.
+	 * @param denominator What each element is divided by.
+	 * @param output The output image. Modified.
+	 */
+	public static void divide( final InterleavedF64 input , final double denominator , final InterleavedF64 output ) {
+
+		InputSanityCheck.checkSameShape(input,output);
+		if( input.numBands != output.numBands )
+			throw new IllegalArgumentException("Number of bands must be the same");
+
+		BoofConcurrency.loopBlocks(0,input.height,BoofConcurrency.minBlockRows(input.width*input.numBands),new IntRangeTask() {
+			@Override
+			public void call(int y0, int y1) {
+				for( int y = y0; y < y1; y++ ) {
+					int indexSrc = input.startIndex + y* input.stride;
+					int indexDst = output.startIndex + y* output.stride;
+					int end = indexSrc + input.width*input.numBands;
+
+					for( ; indexSrc < end; indexSrc++ , indexDst++) {
+						output.data[indexDst] = ((input.data[indexSrc] ) / denominator);
+					}
+				}
+			}
+		});
+	}
+
+	/**
+	 * Divide each element by a scalar value and bounds the result. Both input and output images can be the same instance.
+	 *
+	 * @param input The input image. Not modified.
+	 * @param denominator What each element is divided by.
+	 * @param lower Lower bound on output. Inclusive.
+	 * @param upper Upper bound on output. Inclusive.
+	 * @param output The output image. Modified.
+	 */
+	public static void divide( final InterleavedF64 input , final double denominator , final double lower , final double upper , final InterleavedF64 output ) {
+
+		InputSanityCheck.checkSameShape(input,output);
+		if( input.numBands != output.numBands )
+			throw new IllegalArgumentException("Number of bands must be the same");
+
+		BoofConcurrency.loopBlocks(0,input.height,BoofConcurrency.minBlockRows(input.width*input.numBands),new IntRangeTask() {
+			@Override
+			public void call(int y0, int y1) {
+				for( int y = y0; y < y1; y++ ) {
+					int indexSrc = input.startIndex + y* input.stride;
+					int indexDst = output.startIndex + y* output.stride;
+					int end = indexSrc + input.width*input.numBands;
+
+					for( ; indexSrc < end; indexSrc++ , indexDst++) {
+						double val = ((input.data[indexSrc] ) / denominator);
+						if( val < lower ) val = lower;
+						if( val > upper ) val = upper;
+						output.data[indexDst] = val;
+					}
+				}
+			}
+		});
+	}
+
+	/**
+	 * Add a scalar value to each element. Both input and output images can be the same instance.
+	 *
+	 * @param input The input image. Not modified.
+	 * @param value What is added to each element.
+	 * @param output The output image. Modified.
+	 */
+	public static void plus( final InterleavedF64 input , final double value , final InterleavedF64 output ) {
+
+		InputSanityCheck.checkSameShape(input,output);
+		if( input.numBands != output.numBands )
+			throw new IllegalArgumentException("Number of bands must be the same");
+
+		BoofConcurrency.loopBlocks(0,input.height,BoofConcurrency.minBlockRows(input.width*input.numBands),new IntRangeTask() {
+			@Override
+			public void call(int y0, int y1) {
+				for( int y = y0; y < y1; y++ ) {
+					int indexSrc = input.startIndex + y* input.stride;
+					int indexDst = output.startIndex + y* output.stride;
+					int end = indexSrc + input.width*input.numBands;
+
+					for( ; indexSrc < end; indexSrc++ , indexDst++) {
+						output.data[indexDst] = ((input.data[indexSrc] ) + value);
+					}
+				}
+			}
+		});
+	}
+
+	/**
+	 * Add a scalar value to each element and bounds the result. Both input and output images can be the same instance.
+	 *
+	 * @param input The input image. Not modified.
+	 * @param value What is added to each element.
+	 * @param lower Lower bound on output. Inclusive.
+	 * @param upper Upper bound on output. Inclusive.
+	 * @param output The output image. Modified.
+	 */
+	public static void plus( final InterleavedF64 input , final double value , final double lower , final double upper , final InterleavedF64 output ) {
+
+		InputSanityCheck.checkSameShape(input,output);
+		if( input.numBands != output.numBands )
+			throw new IllegalArgumentException("Number of bands must be the same");
+
+		BoofConcurrency.loopBlocks(0,input.height,BoofConcurrency.minBlockRows(input.width*input.numBands),new IntRangeTask() {
+			@Override
+			public void call(int y0, int y1) {
+				for( int y = y0; y < y1; y++ ) {
+					int indexSrc = input.startIndex + y* input.stride;
+					int indexDst = output.startIndex + y* output.stride;
+					int end = indexSrc + input.width*input.numBands;
+
+					for( ; indexSrc < end; indexSrc++ , indexDst++) {
+						double val = (input.data[indexSrc] ) + value;
+						if( val < lower ) val = lower;
+						if( val > upper ) val = upper;
+						output.data[indexDst] = val;
+					}
+				}
+			}
+		});
+	}
+
+	/**
+	 * Bounds image pixels to be between these two values
+	 *
+	 * @param img Image
+	 * @param min minimum value.
+	 * @param max maximum value.
+	 */
+	public static void boundImage( final InterleavedF64 img , final double min , final double max ) {
+		final int rowLength = img.width*img.numBands;
+
+		BoofConcurrency.loopBlocks(0,img.height,BoofConcurrency.minBlockRows(rowLength),new IntRangeTask() {
+			@Override
+			public void call(int y0, int y1) {
+				double[] data = img.data;
+
+				for( int y = y0; y < y1; y++ ) {
+					int index = img.startIndex + y * img.stride;
+					int indexEnd = index+rowLength;
+					for( ; index < indexEnd; index++ ) {
+						double value = data[index];
+						if( value < min )
+							data[index] = min;
+						else if( value > max )
+							data[index] = max;
+					}
+				}
+			}
+		});
+	}
+
+	/**
+	 * <p>
+	 * Computes the absolute value of the difference between each pixel in the two images.<br>
+	 * d(x,y) = |img1(x,y) - img2(x,y)|
+	 * </p>
+	 * @param imgA Input image. Not modified.
+	 * @param imgB Input image. Not modified.
+	 * @param diff Absolute value of difference image. Modified.
+	 */
+	public static void diffAbs( final InterleavedF64 imgA , final InterleavedF64 imgB , final InterleavedF64 diff ) {
+
+		InputSanityCheck.checkSameShape(imgA,imgB,diff);
+		if( imgA.numBands != imgB.numBands || imgA.numBands != diff.numBands )
+			throw new IllegalArgumentException("Number of bands must be the same");
+
+		BoofConcurrency.loopBlocks(0,imgA.height,BoofConcurrency.minBlockRows(imgA.width*imgA.numBands),new IntRangeTask() {
+			@Override
+			public void call(int y0, int y1) {
+				for( int y = y0; y < y1; y++ ) {
+					int indexA = imgA.startIndex + y * imgA.stride;
+					int indexB = imgB.startIndex + y * imgB.stride;
+					int indexOut = diff.startIndex + y * diff.stride;
+
+					int indexEnd = indexA + imgA.width*imgA.numBands;
+					for( ; indexA < indexEnd; indexA++, indexB++, indexOut++ ) {
+						diff.data[indexOut] = Math.abs((imgA.data[indexA] ) - (imgB.data[indexB] ));
+					}
+				}
+			}
+		});
+	}
+
+	/**
+	 * <p>
+	 * Performs pixel-wise addition<br>
+	 * output(x,y) = imgA(x,y) + imgB(x,y)
+	 * </p>
+	 * @param imgA Input image. Not modified.
+	 * @param imgB Input image. Not modified.
+	 * @param output Output image. Modified.
+	 */
+	public static void add( final ImageUInt8 imgA , final ImageUInt8 imgB , final ImageUInt16 output ) {
+
+		InputSanityCheck.checkSameShape(imgA,imgB,output);
+
+		BoofConcurrency.loopBlocks(0,imgA.height,BoofConcurrency.minBlockRows(imgA.width),new IntRangeTask() {
+			@Override
+			public void call(int y0, int y1) {
+				for( int y = y0; y < y1; y++ ) {
+					int indexA = imgA.startIndex + y * imgA.stride;
+					int indexB = imgB.startIndex + y * imgB.stride;
+					int indexOut = output.startIndex + y * output.stride;
+
+					int indexEnd = indexA + imgA.width;
+					for( ; indexA < indexEnd; indexA++, indexB++, indexOut++ ) {
+						output.data[indexOut] = (short)((imgA.data[indexA] & 0xFF) + (imgB.data[indexB] & 0xFF));
+					}
+				}
+			}
+		});
+	}
+
+	/**
+	 * <p>
+	 * Performs pixel-wise subtraction.<br>
+	 * output(x,y) = imgA(x,y) - imgB(x,y)
+	 * </p>
+	 * @param imgA Input image. Not modified.
+	 * @param imgB Input image. Not modified.
+	 * @param output Output image. Modified.
+	 */
+	public static void subtract( final ImageUInt8 imgA , final ImageUInt8 imgB , final ImageInt16 output ) {
+
+		InputSanityCheck.checkSameShape(imgA,imgB,output);
+
+		BoofConcurrency.loopBlocks(0,imgA.height,BoofConcurrency.minBlockRows(imgA.width),new IntRangeTask() {
+			@Override
+			public void call(int y0, int y1) {
+				for( int y = y0; y < y1; y++ ) {
+					int indexA = imgA.startIndex + y * imgA.stride;
+					int indexB = imgB.startIndex + y * imgB.stride;
+					int indexOut = output.startIndex + y * output.stride;
+
+					int indexEnd = indexA + imgA.width;
+					for( ; indexA < indexEnd; indexA++, indexB++, indexOut++ ) {
+						output.data[indexOut] = (short)((imgA.data[indexA] & 0xFF) - (imgB.data[indexB] & 0xFF));
+					}
+				}
+			}
+		});
+	}
+
+	/**
+	 * <p>
+	 * Performs pixel-wise addition<br>
+	 * output(x,y) = imgA(x,y) + imgB(x,y)
+	 * </p>
+	 * @param imgA Input image. Not modified.
+	 * @param imgB Input image. Not modified.
+	 * @param output Output image. Modified.
+	 */
+	public static void add( final InterleavedU8 imgA , final InterleavedU8 imgB , final InterleavedU16 output ) {
+
+		InputSanityCheck.checkSameShape(imgA,imgB,output);
+		if( imgA.numBands != imgB.numBands || imgA.numBands != output.numBands )
+			throw new IllegalArgumentException("Number of bands must be the same");
+
+		BoofConcurrency.loopBlocks(0,imgA.height,BoofConcurrency.minBlockRows(imgA.width*imgA.numBands),new IntRangeTask() {
+			@Override
+			public void call(int y0, int y1) {
+				for( int y = y0; y < y1; y++ ) {
+					int indexA = imgA.startIndex + y * imgA.stride;
+					int indexB = imgB.startIndex + y * imgB.stride;
+					int indexOut = output.startIndex + y * output.stride;
+
+					int indexEnd = indexA + imgA.width*imgA.numBands;
+					for( ; indexA < indexEnd; indexA++, indexB++, indexOut++ ) {
+						output.data[indexOut] = (short)((imgA.data[indexA] & 0xFF) + (imgB.data[indexB] & 0xFF));
+					}
+				}
+			}
+		});
+	}
+
+	/**
+	 * <p>
+	 * Performs pixel-wise subtraction.<br>
+	 * output(x,y) = imgA(x,y) - imgB(x,y)
+	 * </p>
+	 * @param imgA Input image. Not modified.
+	 * @param imgB Input image. Not modified.
+	 * @param output Output image. Modified.
+	 */
+	public static void subtract( final InterleavedU8 imgA , final InterleavedU8 imgB , final InterleavedI16 output ) {
+
+		InputSanityCheck.checkSameShape(imgA,imgB,output);
+		if( imgA.numBands != imgB.numBands || imgA.numBands != output.numBands )
+			throw new IllegalArgumentException("Number of bands must be the same");
+
+		BoofConcurrency.loopBlocks(0,imgA.height,BoofConcurrency.minBlockRows(imgA.width*imgA.numBands),new IntRangeTask() {
+			@Override
+			public void call(int y0, int y1) {
+				for( int y = y0; y < y1; y++ ) {
+					int indexA = imgA.startIndex + y * imgA.stride;
+					int indexB = imgB.startIndex + y * imgB.stride;
+					int indexOut = output.startIndex + y * output.stride;
+
+					int indexEnd = indexA + imgA.width*imgA.numBands;
+					for( ; indexA < indexEnd; indexA++, indexB++, indexOut++ ) {
+						output.data[indexOut] = (short)((imgA.data[indexA] & 0xFF) - (imgB.data[indexB] & 0xFF));
+					}
+				}
+			}
+		});
+	}
+
+	/**
+	 * <p>
+	 * Performs pixel-wise addition<br>
+	 * output(x,y) = imgA(x,y) + imgB(x,y)
+	 * </p>
+	 * @param imgA Input image. Not modified.
+	 * @param imgB Input image. Not modified.
+	 * @param output Output image. Modified.
+	 */
+	public static void add( final ImageSInt8 imgA , final ImageSInt8 imgB , final ImageSInt16 output ) {
+
+		InputSanityCheck.checkSameShape(imgA,imgB,output);
+
+		BoofConcurrency.loopBlocks(0,imgA.height,BoofConcurrency.minBlockRows(imgA.width),new IntRangeTask() {
+			@Override
+			public void call(int y0, int y1) {
+				for( int y = y0; y < y1; y++ ) {
+					int indexA = imgA.startIndex + y * imgA.stride;
+					int indexB = imgB.startIndex + y * imgB.stride;
+					int indexOut = output.startIndex + y * output.stride;
+
+					int indexEnd = indexA + imgA.width;
+					for( ; indexA < indexEnd; indexA++, indexB++, indexOut++ ) {
+						output.data[indexOut] = (short)((imgA.data[indexA] ) + (imgB.data[indexB] ));
+					}
+				}
+			}
+		});
+	}
+
+	/**
+	 * <p>
+	 * Performs pixel-wise subtraction.<br>
+	 * output(x,y) = imgA(x,y) - imgB(x,y)
+	 * </p>
+	 * @param imgA Input image. Not modified.
+	 * @param imgB Input image. Not modified.
+	 * @param output Output image. Modified.
+	 */
+	public static void subtract( final ImageSInt8 imgA , final ImageSInt8 imgB , final ImageSInt16 output ) {
+
+		InputSanityCheck.checkSameShape(imgA,imgB,output);
+
+		BoofConcurrency.loopBlocks(0,imgA.height,BoofConcurrency.minBlockRows(imgA.width),new IntRangeTask() {
+			@Override
+			public void call(int y0, int y1) {
+				for( int y = y0; y < y1; y++ ) {
+					int indexA = imgA.startIndex + y * imgA.stride;
+					int indexB = imgB.startIndex + y * imgB.stride;
+					int indexOut = output.startIndex + y * output.stride;
+
+					int indexEnd = indexA + imgA.width;
+					for( ; indexA < indexEnd; indexA++, indexB++, indexOut++ ) {
+						output.data[indexOut] = (short)((imgA.data[indexA] ) - (imgB.data[indexB] ));
+					}
+				}
+			}
+		});
+	}
+
+	/**
+	 * <p>
+	 * Performs pixel-wise addition<br>
+	 * output(x,y) = imgA(x,y) + imgB(x,y)
+	 * </p>
+	 * @param imgA Input image. Not modified.
+	 * @param imgB Input image. Not modified.
+	 * @param output Output image. Modified.
+	 */
+	public static void add( final InterleavedS8 imgA , final InterleavedS8 imgB , final InterleavedS16 output ) {
+
+		InputSanityCheck.checkSameShape(imgA,imgB,output);
+		if( imgA.numBands != imgB.numBands || imgA.numBands != output.numBands )
+			throw new IllegalArgumentException("Number of bands must be the same");
+
+		BoofConcurrency.loopBlocks(0,imgA.height,BoofConcurrency.minBlockRows(imgA.width*imgA.numBands),new IntRangeTask() {
+			@Override
+			public void call(int y0, int y1) {
+				for( int y = y0; y < y1; y++ ) {
+					int indexA = imgA.startIndex + y * imgA.stride;
+					int indexB = imgB.startIndex + y * imgB.stride;
+					int indexOut = output.startIndex + y * output.stride;
+
+					int indexEnd = indexA + imgA.width*imgA.numBands;
+					for( ; indexA < indexEnd; indexA++, indexB++, indexOut++ ) {
+						output.data[indexOut] = (short)((imgA.data[indexA] ) + (imgB.data[indexB] ));
+					}
+				}
+			}
+		});
+	}
+
+	/**
+	 * <p>
+	 * Performs pixel-wise subtraction.<br>
+	 * output(x,y) = imgA(x,y) - imgB(x,y)
+	 * </p>
+	 * @param imgA Input image. Not modified.
+	 * @param imgB Input image. Not modified.
+	 * @param output Output image. Modified.
+	 */
+	public static void subtract( final InterleavedS8 imgA , final InterleavedS8 imgB , final InterleavedS16 output ) {
+
+		InputSanityCheck.checkSameShape(imgA,imgB,output);
+		if( imgA.numBands != imgB.numBands || imgA.numBands != output.numBands )
+			throw new IllegalArgumentException("Number of bands must be the same");
+
+		BoofConcurrency.loopBlocks(0,imgA.height,BoofConcurrency.minBlockRows(imgA.width*imgA.numBands),new IntRangeTask() {
+			@Override
+			public void call(int y0, int y1) {
+				for( int y = y0; y < y1; y++ ) {
+					int indexA = imgA.startIndex + y * imgA.stride;
+					int indexB = imgB.startIndex + y * imgB.stride;
+					int indexOut = output.startIndex + y * output.stride;
+
+					int indexEnd = indexA + imgA.width*imgA.numBands;
+					for( ; indexA < indexEnd; indexA++, indexB++, indexOut++ ) {
+						output.data[indexOut] = (short)((imgA.data[indexA] ) - (imgB.data[indexB] ));
+					}
+				}
+			}
+		});
+	}
+
+	/**
+	 * <p>
+	 * Performs pixel-wise addition<br>
+	 * output(x,y) = imgA(x,y) + imgB(x,y)
+	 * </p>
+	 * @param imgA Input image. Not modified.
+	 * @param imgB Input image. Not modified.
+	 * @param output Output image. Modified.
+	 */
+	public static void add( final ImageUInt16 imgA , final ImageUInt16 imgB , final ImageSInt32 output ) {
+
+		InputSanityCheck.checkSameShape(imgA,imgB,output);
+
+		BoofConcurrency.loopBlocks(0,imgA.height,BoofConcurrency.minBlockRows(imgA.width),new IntRangeTask() {
+			@Override
+			public void call(int y0, int y1) {
+				for( int y = y0; y < y1; y++ ) {
+					int indexA = imgA.startIndex + y * imgA.stride;
+					int indexB = imgB.startIndex + y * imgB.stride;
+					int indexOut = output.startIndex + y * output.stride;
+
+					int indexEnd = indexA + imgA.width;
+					for( ; indexA < indexEnd; indexA++, indexB++, indexOut++ ) {
+						output.data[indexOut] = (int)((imgA.data[indexA] & 0xFFFF) + (imgB.data[indexB] & 0xFFFF));
+					}
+				}
+			}
+		});
+	}
+
+	/**
+	 * <p>
+	 * Performs pixel-wise subtraction.<br>
+	 * output(x,y) = imgA(x,y) - imgB(x,y)
+	 * </p>
+	 * @param imgA Input image. Not modified.
+	 * @param imgB Input image. Not modified.
+	 * @param output Output image. Modified.
+	 */
+	public static void subtract( final ImageUInt16 imgA , final ImageUInt16 imgB , final ImageSInt32 output ) {
+
+		InputSanityCheck.checkSameShape(imgA,imgB,output);
+
+		BoofConcurrency.loopBlocks(0,imgA.height,BoofConcurrency.minBlockRows(imgA.width),new IntRangeTask() {
+			@Override
+			public void call(int y0, int y1) {
+				for( int y = y0; y < y1; y++ ) {
+					int indexA = imgA.startIndex + y * imgA.stride;
+					int indexB = imgB.startIndex + y * imgB.stride;
+					int indexOut = output.startIndex + y * output.stride;
+
+					int indexEnd = indexA + imgA.width;
+					for( ; indexA < indexEnd; indexA++, indexB++, indexOut++ ) {
+						output.data[indexOut] = (int)((imgA.data[indexA] & 0xFFFF) - (imgB.data[indexB] & 0xFFFF));
+					}
+				}
+			}
+		});
+	}
+
+	/**
+	 * <p>
+	 * Performs pixel-wise addition<br>
+	 * output(x,y) = imgA(x,y) + imgB(x,y)
+	 * </p>
+	 * @param imgA Input image. Not modified.
+	 * @param imgB Input image. Not modified.
+	 * @param output Output image. Modified.
+	 */
+	public static void add( final InterleavedU16 imgA , final InterleavedU16 imgB , final InterleavedS32 output ) {
+
+		InputSanityCheck.checkSameShape(imgA,imgB,output);
+		if( imgA.numBands != imgB.numBands || imgA.numBands != output.numBands )
+			throw new IllegalArgumentException("Number of bands must be the same");
+
+		BoofConcurrency.loopBlocks(0,imgA.height,BoofConcurrency.minBlockRows(imgA.width*imgA.numBands),new IntRangeTask() {
+			@Override
+			public void call(int y0, int y1) {
+				for( int y = y0; y < y1; y++ ) {
+					int indexA = imgA.startIndex + y * imgA.stride;
+					int indexB = imgB.startIndex + y * imgB.stride;
+					int indexOut = output.startIndex + y * output.stride;
+
+					int indexEnd = indexA + imgA.width*imgA.numBands;
+					for( ; indexA < indexEnd; indexA++, indexB++, indexOut++ ) {
+						output.data[indexOut] = (int)((imgA.data[indexA] & 0xFFFF) + (imgB.data[indexB] & 0xFFFF));
+					}
+				}
+			}
+		});
+	}
+
+	/**
+	 * <p>
+	 * Performs pixel-wise subtraction.<br>
+	 * output(x,y) = imgA(x,y) - imgB(x,y)
+	 * </p>
+	 * @param imgA Input image. Not modified.
+	 * @param imgB Input image. Not modified.
+	 * @param output Output image. Modified.
+	 */
+	public static void subtract( final InterleavedU16 imgA , final InterleavedU16 imgB , final InterleavedS32 output ) {
+
+		InputSanityCheck.checkSameShape(imgA,imgB,output);
+		if( imgA.numBands != imgB.numBands || imgA.numBands != output.numBands )
+			throw new IllegalArgumentException("Number of bands must be the same");
+
+		BoofConcurrency.loopBlocks(0,imgA.height,BoofConcurrency.minBlockRows(imgA.width*imgA.numBands),new IntRangeTask() {
+			@Override
+			public void call(int y0, int y1) {
+				for( int y = y0; y < y1; y++ ) {
+					int indexA = imgA.startIndex + y * imgA.stride;
+					int indexB = imgB.startIndex + y * imgB.stride;
+					int indexOut = output.startIndex + y * output.stride;
+
+					int indexEnd = indexA + imgA.width*imgA.numBands;
+					for( ; indexA < indexEnd; indexA++, indexB++, indexOut++ ) {
+						output.data[indexOut] = (int)((imgA.data[indexA] & 0xFFFF) - (imgB.data[indexB] & 0xFFFF));
+					}
+				}
+			}
+		});
+	}
+
+	/**
+	 * <p>
+	 * Performs pixel-wise addition<br>
+	 * output(x,y) = imgA(x,y) + imgB(x,y)
+	 * </p>
+	 * @param imgA Input image. Not modified.
+	 * @param imgB Input image. Not modified.
+	 * @param output Output image. Modified.
+	 */
+	public static void add( final ImageSInt16 imgA , final ImageSInt16 imgB , final ImageSInt32 output ) {
+
+		InputSanityCheck.checkSameShape(imgA,imgB,output);
+
+		BoofConcurrency.loopBlocks(0,imgA.height,BoofConcurrency.minBlockRows(imgA.width),new IntRangeTask() {
+			@Override
+			public void call(int y0, int y1) {
+				for( int y = y0; y < y1; y++ ) {
+					int indexA = imgA.startIndex + y * imgA.stride;
+					int indexB = imgB.startIndex + y * imgB.stride;
+					int indexOut = output.startIndex + y * output.stride;
+
+					int indexEnd = indexA + imgA.width;
+					for( ; indexA < indexEnd; indexA++, indexB++, indexOut++ ) {
+						output.data[indexOut] = (int)((imgA.data[indexA] ) + (imgB.data[indexB] ));
+					}
+				}
+			}
+		});
+	}
+
+	/**
+	 * <p>
+	 * Performs pixel-wise subtraction.<br>
+	 * output(x,y) = imgA(x,y) - imgB(x,y)
+	 * </p>
+	 * @param imgA Input image. Not modified.
+	 * @param imgB Input image. Not modified.
+	 * @param output Output image. Modified.
+	 */
+	public static void subtract( final ImageSInt16 imgA , final ImageSInt16 imgB , final ImageSInt32 output ) {
+
+		InputSanityCheck.checkSameShape(imgA,imgB,output);
+
+		BoofConcurrency.loopBlocks(0,imgA.height,BoofConcurrency.minBlockRows(imgA.width),new IntRangeTask() {
+			@Override
+			public void call(int y0, int y1) {
+				for( int y = y0; y < y1; y++ ) {
+					int indexA = imgA.startIndex + y * imgA.stride;
+					int indexB = imgB.startIndex + y * imgB.stride;
+					int indexOut = output.startIndex + y * output.stride;
+
+					int indexEnd = indexA + imgA.width;
+					for( ; indexA < indexEnd; indexA++, indexB++, indexOut++ ) {
+						output.data[indexOut] = (int)((imgA.data[indexA] ) - (imgB.data[indexB] ));
+					}
+				}
+			}
+		});
+	}
+
+	/**
+	 * <p>
+	 * Performs pixel-wise addition<br>
+	 * output(x,y) = imgA(x,y) + imgB(x,y)
+	 * </p>
+	 * @param imgA Input image. Not modified.
+	 * @param imgB Input image. Not modified.
+	 * @param output Output image. Modified.
+	 */
+	public static void add( final InterleavedS16 imgA , final InterleavedS16 imgB , final InterleavedS32 output ) {
+
+		InputSanityCheck.checkSameShape(imgA,imgB,output);
+		if( imgA.numBands != imgB.numBands || imgA.numBands != output.numBands )
+			throw new IllegalArgumentException("Number of bands must be the same");
+
+		BoofConcurrency.loopBlocks(0,imgA.height,BoofConcurrency.minBlockRows(imgA.width*imgA.numBands),new IntRangeTask() {
+			@Override
+			public void call(int y0, int y1) {
+				for( int y = y0; y < y1; y++ ) {
+					int indexA = imgA.startIndex + y * imgA.stride;
+					int indexB = imgB.startIndex + y * imgB.stride;
+					int indexOut = output.startIndex + y * output.stride;
+
+					int indexEnd = indexA + imgA.width*imgA.numBands;
+					for( ; indexA < indexEnd; indexA++, indexB++, indexOut++ ) {
+						output.data[indexOut] = (int)((imgA.data[indexA] ) + (imgB.data[indexB] ));
+					}
+				}
+			}
+		});
+	}
+
+	/**
+	 * <p>
+	 * Performs pixel-wise subtraction.<br>
+	 * output(x,y) = imgA(x,y) - imgB(x,y)
+	 * </p>
+	 * @param imgA Input image. Not modified.
+	 * @param imgB Input image. Not modified.
+	 * @param output Output image. Modified.
+	 */
+	public static void subtract( final InterleavedS16 imgA , final InterleavedS16 imgB , final InterleavedS32 output ) {
+
+		InputSanityCheck.checkSameShape(imgA,imgB,output);
+		if( imgA.numBands != imgB.numBands || imgA.numBands != output.numBands )
+			throw new IllegalArgumentException("Number of bands must be the same");
+
+		BoofConcurrency.loopBlocks(0,imgA.height,BoofConcurrency.minBlockRows(imgA.width*imgA.numBands),new IntRangeTask() {
+			@Override
+			public void call(int y0, int y1) {
+				for( int y = y0; y < y1; y++ ) {
+					int indexA = imgA.startIndex + y * imgA.stride;
+					int indexB = imgB.startIndex + y * imgB.stride;
+					int indexOut = output.startIndex + y * output.stride;
+
+					int indexEnd = indexA + imgA.width*imgA.numBands;
+					for( ; indexA < indexEnd; indexA++, indexB++, indexOut++ ) {
+						output.data[indexOut] = (int)((imgA.data[indexA] ) - (imgB.data[indexB] ));
+					}
+				}
+			}
+		});
+	}
+
+	/**
+	 * <p>
+	 * Performs pixel-wise addition<br>
+	 * output(x,y) = imgA(x,y) + imgB(x,y)
+	 * </p>
+	 * @param imgA Input image. Not modified.
+	 * @param imgB Input image. Not modified.
+	 * @param output Output image. Modified.
+	 */
+	public static void add( final ImageSInt32 imgA , final ImageSInt32 imgB , final ImageSInt32 output ) {
+
+		InputSanityCheck.checkSameShape(imgA,imgB,output);
+
+		BoofConcurrency.loopBlocks(0,imgA.height,BoofConcurrency.minBlockRows(imgA.width),new IntRangeTask() {
+			@Override
+			public void call(int y0, int y1) {
+				for( int y = y0; y < y1; y++ ) {
+					int indexA = imgA.startIndex + y * imgA.stride;
+					int indexB = imgB.startIndex + y * imgB.stride;
+					int indexOut = output.startIndex + y * output.stride;
+
+					int indexEnd = indexA + imgA.width;
+					for( ; indexA < indexEnd; indexA++, indexB++, indexOut++ ) {
+						output.data[indexOut] = (int)((imgA.data[indexA] ) + (imgB.data[indexB] ));
+					}
+				}
+			}
+		});
+	}
+
+	/**
+	 * <p>
+	 * Performs pixel-wise subtraction.<br>
+	 * output(x,y) = imgA(x,y) - imgB(x,y)
+	 * </p>
+	 * @param imgA Input image. Not modified.
+	 * @param imgB Input image. Not modified.
+	 * @param output Output image. Modified.
+	 */
+	public static void subtract( final ImageSInt32 imgA , final ImageSInt32 imgB , final ImageSInt32 output ) {
+
+		InputSanityCheck.checkSameShape(imgA,imgB,output);
+
+		BoofConcurrency.loopBlocks(0,imgA.height,BoofConcurrency.minBlockRows(imgA.width),new IntRangeTask() {
+			@Override
+			public void call(int y0, int y1) {
+				for( int y = y0; y < y1; y++ ) {
+					int indexA = imgA.startIndex + y * imgA.stride;
+					int indexB = imgB.startIndex + y * imgB.stride;
+					int indexOut = output.startIndex + y * output.stride;
+
+					int indexEnd = indexA + imgA.width;
+					for( ; indexA < indexEnd; indexA++, indexB++, indexOut++ ) {
+						output.data[indexOut] = (int)((imgA.data[indexA] ) - (imgB.data[indexB] ));
+					}
+				}
+			}
+		});
+	}
+
+	/**
+	 * <p>
+	 * Performs pixel-wise addition<br>
+	 * output(x,y) = imgA(x,y) + imgB(x,y)
+	 * </p>
+	 * @param imgA Input image. Not modified.
+	 * @param imgB Input image. Not modified.
+	 * @param output Output image. Modified.
+	 */
+	public static void add( final InterleavedS32 imgA , final InterleavedS32 imgB , final InterleavedS32 output ) {
+
+		InputSanityCheck.checkSameShape(imgA,imgB,output);
+		if( imgA.numBands != imgB.numBands || imgA.numBands != output.numBands )
+			throw new IllegalArgumentException("Number of bands must be the same");
+
+		BoofConcurrency.loopBlocks(0,imgA.height,BoofConcurrency.minBlockRows(imgA.width*imgA.numBands),new IntRangeTask() {
+			@Override
+			public void call(int y0, int y1) {
+				for( int y = y0; y < y1; y++ ) {
+					int indexA = imgA.startIndex + y * imgA.stride;
+					int indexB = imgB.startIndex + y * imgB.stride;
+					int indexOut = output.startIndex + y * output.stride;
+
+					int indexEnd = indexA + imgA.width*imgA.numBands;
+					for( ; indexA < indexEnd; indexA++, indexB++, indexOut++ ) {
+						output.data[indexOut] = (int)((imgA.data[indexA] ) + (imgB.data[indexB] ));
+					}
+				}
+			}
+		});
+	}
+
+	/**
+	 * <p>
+	 * Performs pixel-wise subtraction.<br>
+	 * output(x,y) = imgA(x,y) - imgB(x,y)
+	 * </p>
+	 * @param imgA Input image. Not modified.
+	 * @param imgB Input image. Not modified.
+	 * @param output Output image. Modified.
+	 */
+	public static void subtract( final InterleavedS32 imgA , final InterleavedS32 imgB , final InterleavedS32 output ) {
+
+		InputSanityCheck.checkSameShape(imgA,imgB,output);
+		if( imgA.numBands != imgB.numBands || imgA.numBands != output.numBands )
+			throw new IllegalArgumentException("Number of bands must be the same");
+
+		BoofConcurrency.loopBlocks(0,imgA.height,BoofConcurrency.minBlockRows(imgA.width*imgA.numBands),new IntRangeTask() {
+			@Override
+			public void call(int y0, int y1) {
+				for( int y = y0; y < y1; y++ ) {
+					int indexA = imgA.startIndex + y * imgA.stride;
+					int indexB = imgB.startIndex + y * imgB.stride;
+					int indexOut = output.startIndex + y * output.stride;
+
+					int indexEnd = indexA + imgA.width*imgA.numBands;
+					for( ; indexA < indexEnd; indexA++, indexB++, indexOut++ ) {
+						output.data[indexOut] = (int)((imgA.data[indexA] ) - (imgB.data[indexB] ));
+					}
+				}
+			}
+		});
+	}
+
+	/**
+	 * <p>
+	 * Performs pixel-wise addition<br>
+	 * output(x,y) = imgA(x,y) + imgB(x,y)
+	 * </p>
+	 * @param imgA Input image. Not modified.
+	 * @param imgB Input image. Not modified.
+	 * @param output Output image. Modified.
+	 */
+	public static void add( final ImageSInt64 imgA , final ImageSInt64 imgB , final ImageSInt64 output ) {
+
+		InputSanityCheck.checkSameShape(imgA,imgB,output);
+
+		BoofConcurrency.loopBlocks(0,imgA.height,BoofConcurrency.minBlockRows(imgA.width),new IntRangeTask() {
+			@Override
+			public void call(int y0, int y1) {
+				for( int y = y0; y < y1; y++ ) {
+					int indexA = imgA.startIndex + y * imgA.stride;
+					int indexB = imgB.startIndex + y * imgB.stride;
+					int indexOut = output.startIndex + y * output.stride;
+
+					int indexEnd = indexA + imgA.width;
+					for( ; indexA < indexEnd; indexA++, indexB++, indexOut++ ) {
+						output.data[indexOut] = (long)((imgA.data[indexA] ) + (imgB.data[indexB] ));
+					}
+				}
+			}
+		});
+	}
+
+	/**
+	 * <p>
+	 * Performs pixel-wise subtraction.<br>
+	 * output(x,y) = imgA(x,y) - imgB(x,y)
+	 * </p>
+	 * @param imgA Input image. Not modified.
+	 * @param imgB Input image. Not modified.
+	 * @param output Output image. Modified.
+	 */
+	public static void subtract( final ImageSInt64 imgA , final ImageSInt64 imgB , final ImageSInt64 output ) {
+
+		InputSanityCheck.checkSameShape(imgA,imgB,output);
+
+		BoofConcurrency.loopBlocks(0,imgA.height,BoofConcurrency.minBlockRows(imgA.width),new IntRangeTask() {
+			@Override
+			public void call(int y0, int y1) {
+				for( int y = y0; y < y1; y++ ) {
+					int indexA = imgA.startIndex + y * imgA.stride;
+					int indexB = imgB.startIndex + y * imgB.stride;
+					int indexOut = output.startIndex + y * output.stride;
+
+					int indexEnd = indexA + imgA.width;
+					for( ; indexA < indexEnd; indexA++, indexB++, indexOut++ ) {
+						output.data[indexOut] = (long)((imgA.data[indexA] ) - (imgB.data[indexB] ));
+					}
+				}
+			}
+		});
+	}
+
+	/**
+	 * <p>
+	 * Performs pixel-wise addition<br>
+	 * output(x,y) = imgA(x,y) + imgB(x,y)
+	 * </p>
+	 * @param imgA Input image. Not modified.
+	 * @param imgB Input image. Not modified.
+	 * @param output Output image. Modified.
+	 */
+	public static void add( final InterleavedS64 imgA , final InterleavedS64 imgB , final InterleavedS64 output ) {
+
+		InputSanityCheck.checkSameShape(imgA,imgB,output);
+		if( imgA.numBands != imgB.numBands || imgA.numBands != output.numBands )
+			throw new IllegalArgumentException("Number of bands must be the same");
+
+		BoofConcurrency.loopBlocks(0,imgA.height,BoofConcurrency.minBlockRows(imgA.width*imgA.numBands),new IntRangeTask() {
+			@Override
+			public void call(int y0, int y1) {
+				for( int y = y0; y < y1; y++ ) {
+					int indexA = imgA.startIndex + y * imgA.stride;
+					int indexB = imgB.startIndex + y * imgB.stride;
+					int indexOut = output.startIndex + y * output.stride;
+
+					int indexEnd = indexA + imgA.width*imgA.numBands;
+					for( ; indexA < indexEnd; indexA++, indexB++, indexOut++ ) {
+						output.data[indexOut] = (long)((imgA.data[indexA] ) + (imgB.data[indexB] ));
+					}
+				}
+			}
+		});
+	}
+
+	/**
+	 * <p>
+	 * Performs pixel-wise subtraction.<br>
+	 * output(x,y) = imgA(x,y) - imgB(x,y)
+	 * </p>
+	 * @param imgA Input image. Not modified.
+	 * @param imgB Input image. Not modified.
+	 * @param output Output image. Modified.
+	 */
+	public static void subtract( final InterleavedS64 imgA , final InterleavedS64 imgB , final InterleavedS64 output ) {
+
+		InputSanityCheck.checkSameShape(imgA,imgB,output);
+		if( imgA.numBands != imgB.numBands || imgA.numBands != output.numBands )
+			throw new IllegalArgumentException("Number of bands must be the same");
+
+		BoofConcurrency.loopBlocks(0,imgA.height,BoofConcurrency.minBlockRows(imgA.width*imgA.numBands),new IntRangeTask() {
+			@Override
+			public void call(int y0, int y1) {
+				for( int y = y0; y < y1; y++ ) {
+					int indexA = imgA.startIndex + y * imgA.stride;
+					int indexB = imgB.startIndex + y * imgB.stride;
+					int indexOut = output.startIndex + y * output.stride;
+
+					int indexEnd = indexA + imgA.width*imgA.numBands;
+					for( ; indexA < indexEnd; indexA++, indexB++, indexOut++ ) {
+						output.data[indexOut] = (long)((imgA.data[indexA] ) - (imgB.data[indexB] ));
+					}
+				}
+			}
+		});
+	}
+
+	/**
+	 * <p>
+	 * Performs pixel-wise addition<br>
+	 * output(x,y) = imgA(x,y) + imgB(x,y)
+	 * </p>
+	 * @param imgA Input image. Not modified.
+	 * @param imgB Input image. Not modified.
+	 * @param output Output image. Modified.
+	 */
+	public static void add( final ImageFloat32 imgA , final ImageFloat32 imgB , final ImageFloat32 output ) {
+
+		InputSanityCheck.checkSameShape(imgA,imgB,output);
+
+		BoofConcurrency.loopBlocks(0,imgA.height,BoofConcurrency.minBlockRows(imgA.width),new IntRangeTask() {
+			@Override
+			public void call(int y0, int y1) {
+				for( int y = y0; y < y1; y++ ) {
+					int indexA = imgA.startIndex + y * imgA.stride;
+					int indexB = imgB.startIndex + y * imgB.stride;
+					int indexOut = output.startIndex + y * output.stride;
+
+					int indexEnd = indexA + imgA.width;
+					for( ; indexA < indexEnd; indexA++, indexB++, indexOut++ ) {
+						output.data[indexOut] = ((imgA.data[indexA] ) + (imgB.data[indexB] ));
+					}
+				}
+			}
+		});
+	}
+
+	/**
+	 * <p>
+	 * Performs pixel-wise subtraction.<br>
+	 * output(x,y) = imgA(x,y) - imgB(x,y)
+	 * </p>
+	 * @param imgA Input image. Not modified.
+	 * @param imgB Input image. Not modified.
+	 * @param output Output image. Modified.
+	 */
+	public static void subtract( final ImageFloat32 imgA , final ImageFloat32 imgB , final ImageFloat32 output ) {
+
+		InputSanityCheck.checkSameShape(imgA,imgB,output);
+
+		BoofConcurrency.loopBlocks(0,imgA.height,BoofConcurrency.minBlockRows(imgA.width),new IntRangeTask() {
+			@Override
+			public void call(int y0, int y1) {
+				for( int y = y0; y < y1; y++ ) {
+					int indexA = imgA.startIndex + y * imgA.stride;
+					int indexB = imgB.startIndex + y * imgB.stride;
+					int indexOut = output.startIndex + y * output.stride;
+
+					int indexEnd = indexA + imgA.width;
+					for( ; indexA < indexEnd; indexA++, indexB++, indexOut++ ) {
+						output.data[indexOut] = ((imgA.data[indexA] ) - (imgB.data[indexB] ));
+					}
+				}
+			}
+		});
+	}
+
+	/**
+	 * <p>
+	 * Performs pixel-wise multiplication<br>
+	 * output(x,y) = imgA(x,y) * imgB(x,y)
+	 * </p>
+	 * @param imgA Input image. Not modified.
+	 * @param imgB Input image. Not modified.
+	 * @param output Output image. Modified.
+	 */
+	public static void multiply( final ImageFloat32 imgA , final ImageFloat32 imgB , final ImageFloat32 output ) {
+
+		InputSanityCheck.checkSameShape(imgA,imgB,output);
+
+		BoofConcurrency.loopBlocks(0,imgA.height,BoofConcurrency.minBlockRows(imgA.width),new IntRangeTask() {
+			@Override
+			public void call(int y0, int y1) {
+				for( int y = y0; y < y1; y++ ) {
+					int indexA = imgA.startIndex + y * imgA.stride;
+					int indexB = imgB.startIndex + y * imgB.stride;
+					int indexOut = output.startIndex + y * output.stride;
+
+					int indexEnd = indexA + imgA.width;
+					for( ; indexA < indexEnd; indexA++, indexB++, indexOut++ ) {
+						output.data[indexOut] = ((imgA.data[indexA] ) * (imgB.data[indexB] ));
+					}
+				}
+			}
+		});
+	}
+
+	/**
+	 * <p>
+	 * Performs pixel-wise division<br>
+	 * output(x,y) = imgA(x,y) / imgB(x,y)
+	 * </p>
+	 * @param imgA Input image. Not modified.
+	 * @param imgB Input image. Not modified.
+	 * @param output Output image. Modified.
+	 */
+	public static void divide( final ImageFloat32 imgA , final ImageFloat32 imgB , final ImageFloat32 output ) {
+
+		InputSanityCheck.checkSameShape(imgA,imgB,output);
+
+		BoofConcurrency.loopBlocks(0,imgA.height,BoofConcurrency.minBlockRows(imgA.width),new IntRangeTask() {
+			@Override
+			public void call(int y0, int y1) {
+				for( int y = y0; y < y1; y++ ) {
+					int indexA = imgA.startIndex + y * imgA.stride;
+					int indexB = imgB.startIndex + y * imgB.stride;
+					int indexOut = output.startIndex + y * output.stride;
+
+					int indexEnd = indexA + imgA.width;
+					for( ; indexA < indexEnd; indexA++, indexB++, indexOut++ ) {
+						output.data[indexOut] = ((imgA.data[indexA] ) / (imgB.data[indexB] ));
+					}
+				}
+			}
+		});
+	}
+
+	/**
+	 * Sets each pixel in the output image to log( 1 + input(x,y)) of the input image.
+	 * Both the input and output image can be the same instance.
+	 *
+	 * @param input The input image. Not modified.
+	 * @param output Where the log image is written to. Modified.
+	 */
+	public static void log( final ImageFloat32 input , final ImageFloat32 output ) {
+
+		InputSanityCheck.checkSameShape(input,output);
+
+		BoofConcurrency.loopBlocks(0,input.height,BoofConcurrency.minBlockRows(input.width),new IntRangeTask() {
+			@Override
+			public void call(int y0, int y1) {
+				for( int y = y0; y < y1; y++ ) {
+					int indexSrc = input.startIndex + y* input.stride;
+					int indexDst = output.startIndex + y* output.stride;
+					int end = indexSrc + input.width;
+
+					for( ; indexSrc < end; indexSrc++ , indexDst++) {
+						output.data[indexDst] = (float)Math.log(1 + input.data[indexSrc]);
+					}
+				}
+			}
+		});
+	}
+
+	/**
+	 * Raises each pixel in the input image to the power of two. Both the input and output image can be the
+	 * same instance.
+	 *
+	 * @param input The input image. Not modified.
+	 * @param output Where the pow2 image is written to. Modified.
+	 */
+	public static void pow2( final ImageFloat32 input , final ImageFloat32 output ) {
+
+		InputSanityCheck.checkSameShape(input,output);
+
+		BoofConcurrency.loopBlocks(0,input.height,BoofConcurrency.minBlockRows(input.width),new IntRangeTask() {
+			@Override
+			public void call(int y0, int y1) {
+				for( int y = y0; y < y1; y++ ) {
+					int indexSrc = input.startIndex + y* input.stride;
+					int indexDst = output.startIndex + y* output.stride;
+					int end = indexSrc + input.width;
+
+					for( ; indexSrc < end; indexSrc++ , indexDst++) {
+						float v = input.data[indexSrc];
+						output.data[indexDst] = v*v;
+					}
+				}
+			}
+		});
+	}
+
+	/**
+	 * Computes the square root of each pixel in the input image. Both the input and output image can be the
+	 * same instance.
+	 *
+	 * @param input The input image. Not modified.
+	 * @param output Where the sqrt() image is written to. Modified.
+	 */
+	public static void sqrt( final ImageFloat32 input , final ImageFloat32 output ) {
+
+		InputSanityCheck.checkSameShape(input,output);
+
+		BoofConcurrency.loopBlocks(0,input.height,BoofConcurrency.minBlockRows(input.width),new IntRangeTask() {
+			@Override
+			public void call(int y0, int y1) {
+				for( int y = y0; y < y1; y++ ) {
+					int indexSrc = input.startIndex + y* input.stride;
+					int indexDst = output.startIndex + y* output.stride;
+					int end = indexSrc + input.width;
+
+					for( ; indexSrc < end; indexSrc++ , indexDst++) {
+						output.data[indexDst] = (float)Math.sqrt(input.data[indexSrc]);
+					}
+				}
+			}
+		});
+	}
+
+	/**
+	 * <p>
+	 * Performs pixel-wise addition<br>
+	 * output(x,y) = imgA(x,y) + imgB(x,y)
+	 * </p>
+	 * @param imgA Input image. Not modified.
+	 * @param imgB Input image. Not modified.
+	 * @param output Output image. Modified.
+	 */
+	public static void add( final InterleavedF32 imgA , final InterleavedF32 imgB , final InterleavedF32 output ) {
+
+		InputSanityCheck.checkSameShape(imgA,imgB,output);
+		if( imgA.numBands != imgB.numBands || imgA.numBands != output.numBands )
+			throw new IllegalArgumentException("Number of bands must be the same");
+
+		BoofConcurrency.loopBlocks(0,imgA.height,BoofConcurrency.minBlockRows(imgA.width*imgA.numBands),new IntRangeTask() {
+			@Override
+			public void call(int y0, int y1) {
+				for( int y = y0; y < y1; y++ ) {
+					int indexA = imgA.startIndex + y * imgA.stride;
+					int indexB = imgB.startIndex + y * imgB.stride;
+					int indexOut = output.startIndex + y * output.stride;
+
+					int indexEnd = indexA + imgA.width*imgA.numBands;
+					for( ; indexA < indexEnd; indexA++, indexB++, indexOut++ ) {
+						output.data[indexOut] = ((imgA.data[indexA] ) + (imgB.data[indexB] ));
+					}
+				}
+			}
+		});
+	}
+
+	/**
+	 * <p>
+	 * Performs pixel-wise subtraction.<br>
+	 * output(x,y) = imgA(x,y) - imgB(x,y)
+	 * </p>
+	 * @param imgA Input image. Not modified.
+	 * @param imgB Input image. Not modified.
+	 * @param output Output image. Modified.
+	 */
+	public static void subtract( final InterleavedF32 imgA , final InterleavedF32 imgB , final InterleavedF32 output ) {
+
+		InputSanityCheck.checkSameShape(imgA,imgB,output);
+		if( imgA.numBands != imgB.numBands || imgA.numBands != output.numBands )
+			throw new IllegalArgumentException("Number of bands must be the same");
+
+		BoofConcurrency.loopBlocks(0,imgA.height,BoofConcurrency.minBlockRows(imgA.width*imgA.numBands),new IntRangeTask() {
+			@Override
+			public void call(int y0, int y1) {
+				for( int y = y0; y < y1; y++ ) {
+					int indexA = imgA.startIndex + y * imgA.stride;
+					int indexB = imgB.startIndex + y * imgB.stride;
+					int indexOut = output.startIndex + y * output.stride;
+
+					int indexEnd = indexA + imgA.width*imgA.numBands;
+					for( ; indexA < indexEnd; indexA++, indexB++, indexOut++ ) {
+						output.data[indexOut] = ((imgA.data[indexA] ) - (imgB.data[indexB] ));
+					}
+				}
+			}
+		});
+	}
+
+	/**
+	 * <p>
+	 * Performs pixel-wise multiplication<br>
+	 * output(x,y) = imgA(x,y) * imgB(x,y)
+	 * </p>
+	 * @param imgA Input image. Not modified.
+	 * @param imgB Input image. Not modified.
+	 * @param output Output image. Modified.
+	 */
+	public static void multiply( final InterleavedF32 imgA , final InterleavedF32 imgB , final InterleavedF32 output ) {
+
+		InputSanityCheck.checkSameShape(imgA,imgB,output);
+		if( imgA.numBands != imgB.numBands || imgA.numBands != output.numBands )
+			throw new IllegalArgumentException("Number of bands must be the same");
+
+		BoofConcurrency.loopBlocks(0,imgA.height,BoofConcurrency.minBlockRows(imgA.width*imgA.numBands),new IntRangeTask() {
+			@Override
+			public void call(int y0, int y1) {
+				for( int y = y0; y < y1; y++ ) {
+					int indexA = imgA.startIndex + y * imgA.stride;
+					int indexB = imgB.startIndex + y * imgB.stride;
+					int indexOut = output.startIndex + y * output.stride;
+
+					int indexEnd = indexA + imgA.width*imgA.numBands;
+					for( ; indexA < indexEnd; indexA++, indexB++, indexOut++ ) {
+						output.data[indexOut] = ((imgA.data[indexA] ) * (imgB.data[indexB] ));
+					}
+				}
+			}
+		});
+	}
+
+	/**
+	 * <p>
+	 * Performs pixel-wise division<br>
+	 * output(x,y) = imgA(x,y) / imgB(x,y)
+	 * </p>
+	 * @param imgA Input image. Not modified.
+	 * @param imgB Input image. Not modified.
+	 * @param output Output image. Modified.
+	 */
+	public static void divide( final InterleavedF32 imgA , final InterleavedF32 imgB , final InterleavedF32 output ) {
+
+		InputSanityCheck.checkSameShape(imgA,imgB,output);
+		if( imgA.numBands != imgB.numBands || imgA.numBands != output.numBands )
+			throw new IllegalArgumentException("Number of bands must be the same");
+
+		BoofConcurrency.loopBlocks(0,imgA.height,BoofConcurrency.minBlockRows(imgA.width*imgA.numBands),new IntRangeTask() {
+			@Override
+			public void call(int y0, int y1) {
+				for( int y = y0; y < y1; y++ ) {
+					int indexA = imgA.startIndex + y * imgA.stride;
+					int indexB = imgB.startIndex + y * imgB.stride;
+					int indexOut = output.startIndex + y * output.stride;
+
+					int indexEnd = indexA + imgA.width*imgA.numBands;
+					for( ; indexA < indexEnd; indexA++, indexB++, indexOut++ ) {
+						output.data[indexOut] = ((imgA.data[indexA] ) / (imgB.data[indexB] ));
+					}
+				}
+			}
+		});
+	}
+
+	/**
+	 * Sets each pixel in the output image to log( 1 + input(x,y)) of the input image.
+	 * Both the input and output image can be the same instance.
+	 *
+	 * @param input The input image. Not modified.
+	 * @param output Where the log image is written to. Modified.
+	 */
+	public static void log( final InterleavedF32 input , final InterleavedF32 output ) {
+
+		InputSanityCheck.checkSameShape(input,output);
+		if( input.numBands != output.numBands )
+			throw new IllegalArgumentException("Number of bands must be the same");
+
+		BoofConcurrency.loopBlocks(0,input.height,BoofConcurrency.minBlockRows(input.width*input.numBands),new IntRangeTask() {
+			@Override
+			public void call(int y0, int y1) {
+				for( int y = y0; y < y1; y++ ) {
+					int indexSrc = input.startIndex + y* input.stride;
+					int indexDst = output.startIndex + y* output.stride;
+					int end = indexSrc + input.width*input.numBands;
+
+					for( ; indexSrc < end; indexSrc++ , indexDst++) {
+						output.data[indexDst] = (float)Math.log(1 + input.data[indexSrc]);
+					}
+				}
+			}
+		});
+	}
+
+	/**
+	 * Raises each pixel in the input image to the power of two. Both the input and output image can be the
+	 * same instance.
+	 *
+	 * @param input The input image. Not modified.
+	 * @param output Where the pow2 image is written to. Modified.
+	 */
+	public static void pow2( final InterleavedF32 input , final InterleavedF32 output ) {
+
+		InputSanityCheck.checkSameShape(input,output);
+		if( input.numBands != output.numBands )
+			throw new IllegalArgumentException("Number of bands must be the same");
+
+		BoofConcurrency.loopBlocks(0,input.height,BoofConcurrency.minBlockRows(input.width*input.numBands),new IntRangeTask() {
+			@Override
+			public void call(int y0, int y1) {
+				for( int y = y0; y < y1; y++ ) {
+					int indexSrc = input.startIndex + y* input.stride;
+					int indexDst = output.startIndex + y* output.stride;
+					int end = indexSrc + input.width*input.numBands;
+
+					for( ; indexSrc < end; indexSrc++ , indexDst++) {
+						float v = input.data[indexSrc];
+						output.data[indexDst] = v*v;
+					}
+				}
+			}
+		});
+	}
+
+	/**
+	 * Computes the square root of each pixel in the input image. Both the input and output image can be the
+	 * same instance.
+	 *
+	 * @param input The input image. Not modified.
+	 * @param output Where the sqrt() image is written to. Modified.
+	 */
+	public static void sqrt( final InterleavedF32 input , final InterleavedF32 output ) {
+
+		InputSanityCheck.checkSameShape(input,output);
+		if( input.numBands != output.numBands )
+			throw new IllegalArgumentException("Number of bands must be the same");
+
+		BoofConcurrency.loopBlocks(0,input.height,BoofConcurrency.minBlockRows(input.width*input.numBands),new IntRangeTask() {
+			@Override
+			public void call(int y0, int y1) {
+				for( int y = y0; y < y1; y++ ) {
+					int indexSrc = input.startIndex + y* input.stride;
+					int indexDst = output.startIndex + y* output.stride;
+					int end = indexSrc + input.width*input.numBands;
+
+					for( ; indexSrc < end; indexSrc++ , indexDst++) {
+						output.data[indexDst] = (float)Math.sqrt(input.data[indexSrc]);
+					}
+				}
+			}
+		});
+	}
+
+	/**
+	 * <p>
+	 * Performs pixel-wise addition<br>
+	 * output(x,y) = imgA(x,y) + imgB(x,y)
+	 * </p>
+	 * @param imgA Input image. Not modified.
+	 * @param imgB Input image. Not modified.
+	 * @param output Output image. Modified.
+	 */
+	public static void add( final ImageFloat64 imgA , final ImageFloat64 imgB , final ImageFloat64 output ) {
+
+		InputSanityCheck.checkSameShape(imgA,imgB,output);
+
+		BoofConcurrency.loopBlocks(0,imgA.height,BoofConcurrency.minBlockRows(imgA.width),new IntRangeTask() {
+			@Override
+			public void call(int y0, int y1) {
+				for( int y = y0; y < y1; y++ ) {
+					int indexA = imgA.startIndex + y * imgA.stride;
+					int indexB = imgB.startIndex + y * imgB.stride;
+					int indexOut = output.startIndex + y * output.stride;
+
+					int indexEnd = indexA + imgA.width;
+					for( ; indexA < indexEnd; indexA++, indexB++, indexOut++ ) {
+						output.data[indexOut] = ((imgA.data[indexA] ) + (imgB.data[indexB] ));
+					}
+				}
+			}
+		});
+	}
+
+	/**
+	 * <p>
+	 * Performs pixel-wise subtraction.<br>
+	 * output(x,y) = imgA(x,y) - imgB(x,y)
+	 * </p>
+	 * @param imgA Input image. Not modified.
+	 * @param imgB Input image. Not modified.
+	 * @param output Output image. Modified.
+	 */
+	public static void subtract( final ImageFloat64 imgA , final ImageFloat64 imgB , final ImageFloat64 output ) {
+
+		InputSanityCheck.checkSameShape(imgA,imgB,output);
+
+		BoofConcurrency.loopBlocks(0,imgA.height,BoofConcurrency.minBlockRows(imgA.width),new IntRangeTask() {
+			@Override
+			public void call(int y0, int y1) {
+				for( int y = y0; y < y1; y++ ) {
+					int indexA = imgA.startIndex + y * imgA.stride;
+					int indexB = imgB.startIndex + y * imgB.stride;
+					int indexOut = output.startIndex + y * output.stride;
+
+					int indexEnd = indexA + imgA.width;
+					for( ; indexA < indexEnd; indexA++, indexB++, indexOut++ ) {
+						output.data[indexOut] = ((imgA.data[indexA] ) - (imgB.data[indexB] ));
+					}
+				}
+			}
+		});
+	}
+
+	/**
+	 * <p>
+	 * Performs pixel-wise multiplication<br>
+	 * output(x,y) = imgA(x,y) * imgB(x,y)
+	 * </p>
+	 * @param imgA Input image. Not modified.
+	 * @param imgB Input image. Not modified.
+	 * @param output Output image. Modified.
+	 */
+	public static void multiply( final ImageFloat64 imgA , final ImageFloat64 imgB , final ImageFloat64 output ) {
+
+		InputSanityCheck.checkSameShape(imgA,imgB,output);
+
+		BoofConcurrency.loopBlocks(0,imgA.height,BoofConcurrency.minBlockRows(imgA.width),new IntRangeTask() {
+			@Override
+			public void call(int y0, int y1) {
+				for( int y = y0; y < y1; y++ ) {
+					int indexA = imgA.startIndex + y * imgA.stride;
+					int indexB = imgB.startIndex + y * imgB.stride;
+					int indexOut = output.startIndex + y * output.stride;
+
+					int indexEnd = indexA + imgA.width;
+					for( ; indexA < indexEnd; indexA++, indexB++, indexOut++ ) {
+						output.data[indexOut] = ((imgA.data[indexA] ) * (imgB.data[indexB] ));
+					}
+				}
+			}
+		});
+	}
+
+	/**
+	 * <p>
+	 * Performs pixel-wise division<br>
+	 * output(x,y) = imgA(x,y) / imgB(x,y)
+	 * </p>
+	 * @param imgA Input image. Not modified.
+	 * @param imgB Input image. Not modified.
+	 * @param output Output image. Modified.
+	 */
+	public static void divide( final ImageFloat64 imgA , final ImageFloat64 imgB , final ImageFloat64 output ) {
+
+		InputSanityCheck.checkSameShape(imgA,imgB,output);
+
+		BoofConcurrency.loopBlocks(0,imgA.height,BoofConcurrency.minBlockRows(imgA.width),new IntRangeTask() {
+			@Override
+			public void call(int y0, int y1) {
+				for( int y = y0; y < y1; y++ ) {
+					int indexA = imgA.startIndex + y * imgA.stride;
+					int indexB = imgB.startIndex + y * imgB.stride;
+					int indexOut = output.startIndex + y * output.stride;
+
+					int indexEnd = indexA + imgA.width;
+					for( ; indexA < indexEnd; indexA++, indexB++, indexOut++ ) {
+						output.data[indexOut] = ((imgA.data[indexA] ) / (imgB.data[indexB] ));
+					}
+				}
+			}
+		});
+	}
+
+	/**
+	 * Sets each pixel in the output image to log( 1 + input(x,y)) of the input image.
+	 * Both the input and output image can be the same instance.
+	 *
+	 * @param input The input image. Not modified.
+	 * @param output Where the log image is written to. Modified.
+	 */
+	public static void log( final ImageFloat64 input , final ImageFloat64 output ) {
+
+		InputSanityCheck.checkSameShape(input,output);
+
+		BoofConcurrency.loopBlocks(0,input.height,BoofConcurrency.minBlockRows(input.width),new IntRangeTask() {
+			@Override
+			public void call(int y0, int y1) {
+				for( int y = y0; y < y1; y++ ) {
+					int indexSrc = input.startIndex + y* input.stride;
+					int indexDst = output.startIndex + y* output.stride;
+					int end = indexSrc + input.width;
+
+					for( ; indexSrc < end; indexSrc++ , indexDst++) {
+						output.data[indexDst] = Math.log(1 + input.data[indexSrc]);
+					}
+				}
+			}
+		});
+	}
+
+	/**
+	 * Raises each pixel in the input image to the power of two. Both the input and output image can be the
+	 * same instance.
+	 *
+	 * @param input The input image. Not modified.
+	 * @param output Where the pow2 image is written to. Modified.
+	 */
+	public static void pow2( final ImageFloat64 input , final ImageFloat64 output ) {
+
+		InputSanityCheck.checkSameShape(input,output);
+
+		BoofConcurrency.loopBlocks(0,input.height,BoofConcurrency.minBlockRows(input.width),new IntRangeTask() {
+			@Override
+			public void call(int y0, int y1) {
+				for( int y = y0; y < y1; y++ ) {
+					int indexSrc = input.startIndex + y* input.stride;
+					int indexDst = output.startIndex + y* output.stride;
+					int end = indexSrc + input.width;
+
+					for( ; indexSrc < end; indexSrc++ , indexDst++) {
+						double v = input.data[indexSrc];
+						output.data[indexDst] = v*v;
+					}
+				}
+			}
+		});
+	}
+
+	/**
+	 * Computes the square root of each pixel in the input image. Both the input and output image can be the
+	 * same instance.
+	 *
+	 * @param input The input image. Not modified.
+	 * @param output Where the sqrt() image is written to. Modified.
+	 */
+	public static void sqrt( final ImageFloat64 input , final ImageFloat64 output ) {
+
+		InputSanityCheck.checkSameShape(input,output);
+
+		BoofConcurrency.loopBlocks(0,input.height,BoofConcurrency.minBlockRows(input.width),new IntRangeTask() {
+			@Override
+			public void call(int y0, int y1) {
+				for( int y = y0; y < y1; y++ ) {
+					int indexSrc = input.startIndex + y* input.stride;
+					int indexDst = output.startIndex + y* output.stride;
+					int end = indexSrc + input.width;
+
+					for( ; indexSrc < end; indexSrc++ , indexDst++) {
+						output.data[indexDst] = Math.sqrt(input.data[indexSrc]);
+					}
+				}
+			}
+		});
+	}
+
+	/**
+	 * <p>
+	 * Performs pixel-wise addition<br>
+	 * output(x,y) = imgA(x,y) + imgB(x,y)
+	 * </p>
+	 * @param imgA Input image. Not modified.
+	 * @param imgB Input image. Not modified.
+	 * @param output Output image. Modified.
+	 */
+	public static void add( final InterleavedF64 imgA , final InterleavedF64 imgB , final InterleavedF64 output ) {
+
+		InputSanityCheck.checkSameShape(imgA,imgB,output);
+		if( imgA.numBands != imgB.numBands || imgA.numBands != output.numBands )
+			throw new IllegalArgumentException("Number of bands must be the same");
+
+		BoofConcurrency.loopBlocks(0,imgA.height,BoofConcurrency.minBlockRows(imgA.width*imgA.numBands),new IntRangeTask() {
+			@Override
+			public void call(int y0, int y1) {
+				for( int y = y0; y < y1; y++ ) {
+					int indexA = imgA.startIndex + y * imgA.stride;
+					int indexB = imgB.startIndex + y * imgB.stride;
+					int indexOut = output.startIndex + y * output.stride;
+
+					int indexEnd = indexA + imgA.width*imgA.numBands;
+					for( ; indexA < indexEnd; indexA++, indexB++, indexOut++ ) {
+						output.data[indexOut] = ((imgA.data[indexA] ) + (imgB.data[indexB] ));
+					}
+				}
+			}
+		});
+	}
+
+	/**
+	 * <p>
+	 * Performs pixel-wise subtraction.<br>
+	 * output(x,y) = imgA(x,y) - imgB(x,y)
+	 * </p>
+	 * @param imgA Input image. Not modified.
+	 * @param imgB Input image. Not modified.
+	 * @param output Output image. Modified.
+	 */
+	public static void subtract( final InterleavedF64 imgA , final InterleavedF64 imgB , final InterleavedF64 output ) {
+
+		InputSanityCheck.checkSameShape(imgA,imgB,output);
+		if( imgA.numBands != imgB.numBands || imgA.numBands != output.numBands )
+			throw new IllegalArgumentException("Number of bands must be the same");
+
+		BoofConcurrency.loopBlocks(0,imgA.height,BoofConcurrency.minBlockRows(imgA.width*imgA.numBands),new IntRangeTask() {
+			@Override
+			public void call(int y0, int y1) {
+				for( int y = y0; y < y1; y++ ) {
+					int indexA = imgA.startIndex + y * imgA.stride;
+					int indexB = imgB.startIndex + y * imgB.stride;
+					int indexOut = output.startIndex + y * output.stride;
+
+					int indexEnd = indexA + imgA.width*imgA.numBands;
+					for( ; indexA < indexEnd; indexA++, indexB++, indexOut++ ) {
+						output.data[indexOut] = ((imgA.data[indexA] ) - (imgB.data[indexB] ));
+					}
+				}
+			}
+		});
+	}
+
+	/**
+	 * <p>
+	 * Performs pixel-wise multiplication<br>
+	 * output(x,y) = imgA(x,y) * imgB(x,y)
+	 * </p>
+	 * @param imgA Input image. Not modified.
+	 * @param imgB Input image. Not modified.
+	 * @param output Output image. Modified.
+	 */
+	public static void multiply( final InterleavedF64 imgA , final InterleavedF64 imgB , final InterleavedF64 output ) {
+
+		InputSanityCheck.checkSameShape(imgA,imgB,output);
+		if( imgA.numBands != imgB.numBands || imgA.numBands != output.numBands )
+			throw new IllegalArgumentException("Number of bands must be the same");
+
+		BoofConcurrency.loopBlocks(0,imgA.height,BoofConcurrency.minBlockRows(imgA.width*imgA.numBands),new IntRangeTask() {
+			@Override
+			public void call(int y0, int y1) {
+				for( int y = y0; y < y1; y++ ) {
+					int indexA = imgA.startIndex + y * imgA.stride;
+					int indexB = imgB.startIndex + y * imgB.stride;
+					int indexOut = output.startIndex + y * output.stride;
+
+					int indexEnd = indexA + imgA.width*imgA.numBands;
+					for( ; indexA < indexEnd; indexA++, indexB++, indexOut++ ) {
+						output.data[indexOut] = ((imgA.data[indexA] ) * (imgB.data[indexB] ));
+					}
+				}
+			}
+		});
+	}
+
+	/**
+	 * <p>
+	 * Performs pixel-wise division<br>
+	 * output(x,y) = imgA(x,y) / imgB(x,y)
+	 * </p>
+	 * @param imgA Input image. Not modified.
+	 * @param imgB Input image. Not modified.
+	 * @param output Output image. Modified.
+	 */
+	public static void divide( final InterleavedF64 imgA , final InterleavedF64 imgB , final InterleavedF64 output ) {
+
+		InputSanityCheck.checkSameShape(imgA,imgB,output);
+		if( imgA.numBands != imgB.numBands || imgA.numBands != output.numBands )
+			throw new IllegalArgumentException("Number of bands must be the same");
+
+		BoofConcurrency.loopBlocks(0,imgA.height,BoofConcurrency.minBlockRows(imgA.width*imgA.numBands),new IntRangeTask() {
+			@Override
+			public void call(int y0, int y1) {
+				for( int y = y0; y < y1; y++ ) {
+					int indexA = imgA.startIndex + y * imgA.stride;
+					int indexB = imgB.startIndex + y * imgB.stride;
+					int indexOut = output.startIndex + y * output.stride;
+
+					int indexEnd = indexA + imgA.width*imgA.numBands;
+					for( ; indexA < indexEnd; indexA++, indexB++, indexOut++ ) {
+						output.data[indexOut] = ((imgA.data[indexA] ) / (imgB.data[indexB] ));
+					}
+				}
+			}
+		});
+	}
+
+	/**
+	 * Sets each pixel in the output image to log( 1 + input(x,y)) of the input image.
+	 * Both the input and output image can be the same instance.
+	 *
+	 * @param input The input image. Not modified.
+	 * @param output Where the log image is written to. Modified.
+	 */
+	public static void log( final InterleavedF64 input , final InterleavedF64 output ) {
+
+		InputSanityCheck.checkSameShape(input,output);
+		if( input.numBands != output.numBands )
+			throw new IllegalArgumentException("Number of bands must be the same");
+
+		BoofConcurrency.loopBlocks(0,input.height,BoofConcurrency.minBlockRows(input.width*input.numBands),new IntRangeTask() {
+			@Override
+			public void call(int y0, int y1) {
+				for( int y = y0; y < y1; y++ ) {
+					int indexSrc = input.startIndex + y* input.stride;
+					int indexDst = output.startIndex + y* output.stride;
+					int end = indexSrc + input.width*input.numBands;
+
+					for( ; indexSrc < end; indexSrc++ , indexDst++) {
+						output.data[indexDst] = Math.log(1 + input.data[indexSrc]);
+					}
+				}
+			}
+		});
+	}
+
+	/**
+	 * Raises each pixel in the input image to the power of two. Both the input and output image can be the
+	 * same instance.
+	 *
+	 * @param input The input image. Not modified.
+	 * @param output Where the pow2 image is written to. Modified.
+	 */
+	public static void pow2( final InterleavedF64 input , final InterleavedF64 output ) {
+
+		InputSanityCheck.checkSameShape(input,output);
+		if( input.numBands != output.numBands )
+			throw new IllegalArgumentException("Number of bands must be the same");
+
+		BoofConcurrency.loopBlocks(0,input.height,BoofConcurrency.minBlockRows(input.width*input.numBands),new IntRangeTask() {
+			@Override
+			public void call(int y0, int y1) {
+				for( int y = y0; y < y1; y++ ) {
+					int indexSrc = input.startIndex + y* input.stride;
+					int indexDst = output.startIndex + y* output.stride;
+					int end = indexSrc + input.width*input.numBands;
+
+					for( ; indexSrc < end; indexSrc++ , indexDst++) {
+						double v = input.data[indexSrc];
+						output.data[indexDst] = v*v;
+					}
+				}
+			}
+		});
+	}
+
+	/**
+	 * Computes the square root of each pixel in the input image. Both the input and output image can be the
+	 * same instance.
+	 *
+	 * @param input The input image. Not modified.
+	 * @param output Where the sqrt() image is written to. Modified.
+	 */
+	public static void sqrt( final InterleavedF64 input , final InterleavedF64 output ) {
+
+		InputSanityCheck.checkSameShape(input,output);
+		if( input.numBands != output.numBands )
+			throw new IllegalArgumentException("Number of bands must be the same");
+
+		BoofConcurrency.loopBlocks(0,input.height,BoofConcurrency.minBlockRows(input.width*input.numBands),new IntRangeTask() {
+			@Override
+			public void call(int y0, int y1) {
+				for( int y = y0; y < y1; y++ ) {
+					int indexSrc = input.startIndex + y* input.stride;
+					int indexDst = output.startIndex + y* output.stride;
+					int end = indexSrc + input.width*input.numBands;
+
+					for( ; indexSrc < end; indexSrc++ , indexDst++) {
+						output.data[indexDst] = Math.sqrt(input.data[indexSrc]);
+					}
+				}
+			}
+		});
+	}
+
+}
@@ -0,0 +1,228 @@
+/*
+ * Copyright (c) 2011-2015, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.misc;
+
+import boofcv.struct.image.ImageUInt8;
+
+/**
+ * <p>
+ * Histogram of the pixels inside a rectangular window which is updated incrementally as the window slides
+ * across the image.  Moving the window by one column requires O(height) operations and moving it by one row
+ * requires O(width) operations, instead of recomputing the histogram from scratch in O(width*height).
+ * </p>
+ *
+ * <p>
+ * Pixel values are mapped to a bin using: bin = numBins*value/(maxPixelValue+1).  The window must always
+ * be entirely inside the image.
+ * </p>
+ *
+ * <p>
+ * Each instance has its own state.  To scan an image with multiple threads create one instance per thread.
+ * </p>
+ *
+ * @author Peter Abeles
+ */
+public class SlidingHistogram_U8 {
+
+	// look up table which converts a pixel value into a bin
+	private int valueToBin[] = new int[256];
+
+	// number of pixels in each bin
+	private int histogram[];
+
+	// image being processed
+	private ImageUInt8 image;
+
+	// the current window: lower extent inclusive, and size
+	private int x0,y0,width,height;
+
+	/**
+	 * Configures the histogram.
+	 *
+	 * @param maxPixelValue Maximum value a pixel can have.  Values larger than this are put in the last bin.
+	 * @param numBins Number of bins in the histogram
+	 */
+	public SlidingHistogram_U8( int maxPixelValue, int numBins ) {
+		if( maxPixelValue < 0 )
+			throw new IllegalArgumentException("Maximum pixel value can't be negative");
+		if( numBins <= 0 )
+			throw new IllegalArgumentException("Number of bins must be more than zero");
+
+		histogram = new int[numBins];
+		for( int value = 0; value < 256; value++ ) {
+			valueToBin[value] = Math.min(numBins-1,numBins*value/(maxPixelValue+1));
+		}
+	}
+
+	/**
+	 * Specifies the image.  {@link #setWindow(int, int, int, int)} must be called after this.
+	 */
+	public void setImage( ImageUInt8 image ) {
+		this.image = image;
+		this.width = 0;
+		this.height = 0;
+	}
+
+	/**
+	 * Computes the histogram inside the window from scratch.
+	 *
+	 * @param x0 Lower extent of the window along x-axis.  Inclusive.
+	 * @param y0 Lower extent of the window along y-axis.  Inclusive.
+	 * @param width Width of the window
+	 * @param height Height of the window
+	 */
+	public void setWindow( int x0 , int y0 , int width , int height ) {
+		if( x0 < 0 || y0 < 0 || x0+width > image.width || y0+height > image.height )
+			throw new IllegalArgumentException("Window must be inside the image");
+
+		this.x0 = x0;
+		this.y0 = y0;
+		this.width = width;
+		this.height = height;
+
+		for( int i = 0; i < histogram.length; i++ )
+			histogram[i] = 0;
+
+		for( int y = 0; y < height; y++ ) {
+			addRow(y0+y,1);
+		}
+	}
+
+	/**
+	 * Moves the window to the specified location.  If the window moves by only a few pixels the histogram is
+	 * updated incrementally, otherwise it is computed from scratch.  The window must be inside the image at
+	 * the new location.  If it isn't then an exception is thrown and the window isn't modified.
+	 */
+	public void moveTo( int x0 , int y0 ) {
+		if( x0 < 0 || y0 < 0 || x0+width > image.width || y0+height > image.height )
+			throw new IllegalArgumentException("Window must be inside the image");
+
+		int dx = Math.abs(x0-this.x0);
+		int dy = Math.abs(y0-this.y0);
+
+		// incremental cost is two columns/rows for every pixel moved
+		if( dx >= width/2 || dy >= height/2 || dx*height + dy*width >= width*height/2 ) {
+			setWindow(x0,y0,width,height);
+			return;
+		}
+
+		while( this.x0 < x0 ) slideRight();
+		while( this.x0 > x0 ) slideLeft();
+		while( this.y0 < y0 ) slideDown();
+		while( this.y0 > y0 ) slideUp();
+	}
+
+	/**
+	 * Moves the window one pixel to the right
+	 */
+	public void slideRight() {
+		if( x0+width >= image.width )
+			throw new IllegalArgumentException("Window would move outside the image");
+		addColumn(x0,-1);
+		addColumn(x0+width,1);
+		x0++;
+	}
+
+	/**
+	 * Moves the window one pixel to the left
+	 */
+	public void slideLeft() {
+		if( x0 <= 0 )
+			throw new IllegalArgumentException("Window would move outside the image");
+		addColumn(x0+width-1,-1);
+		addColumn(x0-1,1);
+		x0--;
+	}
+
+	/**
+	 * Moves the window one pixel down
+	 */
+	public void slideDown() {
+		if( y0+height >= image.height )
+			throw new IllegalArgumentException("Window would move outside the image");
+		addRow(y0,-1);
+		addRow(y0+height,1);
+		y0++;
+	}
+
+	/**
+	 * Moves the window one pixel up
+	 */
+	public void slideUp() {
+		if( y0 <= 0 )
+			throw new IllegalArgumentException("Window would move outside the image");
+		addRow(y0+height-1,-1);
+		addRow(y0-1,1);
+		y0--;
+	}
+
+	/**
+	 * Adds the pixels in a row of the window to the histogram
+	 */
+	private void addRow( int y , int amount ) {
+		int index = image.startIndex + y*image.stride + x0;
+		int end = index + width;
+
+		for( ; index < end; index++ ) {
+			histogram[valueToBin[image.data[index] & 0xFF]] += amount;
+		}
+	}
+
+	/**
+	 * Adds the pixels in a column of the window to the histogram
+	 */
+	private void addColumn( int x , int amount ) {
+		int index = image.startIndex + y0*image.stride + x;
+		int end = index + height*image.stride;
+
+		for( ; index < end; index += image.stride ) {
+			histogram[valueToBin[image.data[index] & 0xFF]] += amount;
+		}
+	}
+
+	/**
+	 * Number of pixels in each bin
+	 */
+	public int[] getHistogram() {
+		return histogram;
+	}
+
+	/**
+	 * Total number of pixels inside the window
+	 */
+	public int getTotal() {
+		return width*height;
+	}
+
+	public int getX0() {
+		return x0;
+	}
+
+	public int getY0() {
+		return y0;
+	}
+
+	public int getWidth() {
+		return width;
+	}
+
+	public int getHeight() {
+		return height;
+	}
+}
@@ -0,0 +1,176 @@
+/*
+ * Copyright (c) 2011-2015, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.transform.census;
+
+import boofcv.alg.InputSanityCheck;
+import boofcv.struct.image.ImageSInt32;
+import boofcv.struct.image.ImageSInt64;
+import boofcv.struct.image.ImageUInt8;
+
+/**
+ * <p>
+ * The Census Transform [1] encodes the local region around each pixel as a bit string.  Each bit is 1 if the
+ * neighbor's value is less than the center pixel's value and 0 otherwise.  Bits are assigned in a row-major
+ * order starting with the least significant bit, skipping the center pixel.  Two census values are compared
+ * using their Hamming distance, which is insensitive to changes in gain and bias between images.
+ * </p>
+ *
+ * <p>
+ * Along the image border neighbors which are outside the image are assigned a value of 0.
+ * </p>
+ *
+ * <p>
+ * [1] Zabih, Ramin, and John Woodfill. "Non-parametric local transforms for computing visual correspondence."
+ * ECCV 1994
+ * </p>
+ *
+ * @author Peter Abeles
+ */
+public class CensusTransform {
+
+	/**
+	 * Census transform for a 5x5 region.  24 bits are used.
+	 *
+	 * @param input Input image. Not modified.
+	 * @param output Census image.  If null a new image is declared. Modified.
+	 * @return Census image
+	 */
+	public static ImageSInt32 region5x5( ImageUInt8 input , ImageSInt32 output ) {
+		output = InputSanityCheck.checkDeclare(input, output, ImageSInt32.class);
+
+		final int radius = 2;
+		final int offsets[] = createOffsets(radius, radius, input.stride);
+
+		for (int y = radius; y < input.height - radius; y++) {
+			int indexIn = input.startIndex + y*input.stride + radius;
+			int indexOut = output.startIndex + y*output.stride + radius;
+
+			for (int x = radius; x < input.width - radius; x++, indexIn++) {
+				int center = input.data[indexIn] & 0xFF;
+
+				int census = 0;
+				for (int i = 0; i < offsets.length; i++) {
+					if( (input.data[indexIn + offsets[i]] & 0xFF) < center )
+						census |= 1 << i;
+				}
+				output.data[indexOut++] = census;
+			}
+		}
+
+		border(input, radius, radius, output);
+
+		return output;
+	}
+
+	/**
+	 * Census transform for a 9x7 region, 9 pixels wide and 7 tall.  62 bits are used.
+	 *
+	 * @param input Input image. Not modified.
+	 * @param output Census image.  If null a new image is declared. Modified.
+	 * @return Census image
+	 */
+	public static ImageSInt64 region9x7( ImageUInt8 input , ImageSInt64 output ) {
+		output = InputSanityCheck.checkDeclare(input, output, ImageSInt64.class);
+
+		final int radiusX = 4;
+		final int radiusY = 3;
+		final int offsets[] = createOffsets(radiusX, radiusY, input.stride);
+
+		for (int y = radiusY; y < input.height - radiusY; y++) {
+			int indexIn = input.startIndex + y*input.stride + radiusX;
+			int indexOut = output.startIndex + y*output.stride + radiusX;
+
+			for (int x = radiusX; x < input.width - radiusX; x++, indexIn++) {
+				int center = input.data[indexIn] & 0xFF;
+
+				long census = 0;
+				for (int i = 0; i < offsets.length; i++) {
+					if( (input.data[indexIn + offsets[i]] & 0xFF) < center )
+						census |= 1L << i;
+				}
+				output.data[indexOut++] = census;
+			}
+		}
+
+		for (int y = 0; y < input.height; y++) {
+			boolean borderRow = y < radiusY || y >= input.height - radiusY;
+			for (int x = 0; x < input.width; x++) {
+				if( !borderRow && x >= radiusX && x < input.width - radiusX )
+					continue;
+				output.unsafe_set(x, y, censusBounded(input, x, y, radiusX, radiusY));
+			}
+		}
+
+		return output;
+	}
+
+	/**
+	 * Computes the census transform for pixels along the image border using bounds checking.
+	 */
+	private static void border( ImageUInt8 input , int radiusX , int radiusY , ImageSInt32 output ) {
+		for (int y = 0; y < input.height; y++) {
+			boolean borderRow = y < radiusY || y >= input.height - radiusY;
+			for (int x = 0; x < input.width; x++) {
+				if( !borderRow && x >= radiusX && x < input.width - radiusX )
+					continue;
+				output.unsafe_set(x, y, (int)censusBounded(input, x, y, radiusX, radiusY));
+			}
+		}
+	}
+
+	/**
+	 * Computes the census value at (x,y) while treating pixels outside the image as zero
+	 */
+	static long censusBounded( ImageUInt8 input , int cx , int cy , int radiusX , int radiusY ) {
+		int center = input.unsafe_get(cx, cy);
+
+		long census = 0;
+		int bit = 0;
+		for (int y = -radiusY; y <= radiusY; y++) {
+			for (int x = -radiusX; x <= radiusX; x++) {
+				if( x == 0 && y == 0 )
+					continue;
+				int value = input.isInBounds(cx + x, cy + y) ? input.unsafe_get(cx + x, cy + y) : 0;
+				if( value < center )
+					census |= 1L << bit;
+				bit++;
+			}
+		}
+		return census;
+	}
+
+	/**
+	 * Creates the offsets from the center pixel for all the neighbors in row-major order.
+	 */
+	static int[] createOffsets( int radiusX , int radiusY , int stride ) {
+		int width = radiusX*2 + 1;
+		int height = radiusY*2 + 1;
+		int offsets[] = new int[width*height - 1];
+
+		int index = 0;
+		for (int y = -radiusY; y <= radiusY; y++) {
+			for (int x = -radiusX; x <= radiusX; x++) {
+				if( x == 0 && y == 0 )
+					continue;
+				offsets[index++] = y*stride + x;
+			}
+		}
+		return offsets;
+	}
+}
@@ -0,0 +1,62 @@
+/*
+ * Copyright (c) 2011-2015, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.transform.census;
+
+/**
+ * Shapes of the local region which can be encoded by {@link CensusTransform}.
+ *
+ * @author Peter Abeles
+ */
+public enum CensusType {
+	/**
+	 * 5x5 region stored in an ImageSInt32.
+	 *
+	 * @see CensusTransform#region5x5
+	 */
+	REGION_5x5(2,2),
+	/**
+	 * 9x7 region stored in an ImageSInt64.
+	 *
+	 * @see CensusTransform#region9x7
+	 */
+	REGION_9x7(4,3);
+
+	int radiusX;
+	int radiusY;
+
+	CensusType(int radiusX, int radiusY) {
+		this.radiusX = radiusX;
+		this.radiusY = radiusY;
+	}
+
+	public int getRadiusX() {
+		return radiusX;
+	}
+
+	public int getRadiusY() {
+		return radiusY;
+	}
+
+	/**
+	 * Number of bits in the census value, which is also the largest possible Hamming distance
+	 */
+	public int getBits() {
+		return (radiusX*2+1)*(radiusY*2+1)-1;
+	}
+}
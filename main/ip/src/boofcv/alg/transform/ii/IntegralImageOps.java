@@ -108,6 +108,36 @@ public class IntegralImageOps {
 		return transformed;
 	}
 
+	/**
+	 * Converts a regular image into an integral image of the pixel values squared.
+	 *
+	 * @param input Regular image. Not modified.
+	 * @param transformed Integral image of squared values. If null a new image will be created. Modified.
+	 * @return Integral image of squared values.
+	 */
+	public static ImageSInt64 transformSq( ImageUInt8 input , ImageSInt64 transformed ) {
+		transformed = InputSanityCheck.checkDeclare(input,transformed,ImageSInt64.class);
+
+		ImplIntegralImageOps.transformSq(input, transformed);
+
+		return transformed;
+	}
+
+	/**
+	 * Converts a regular image into an integral image of the pixel values squared.
+	 *
+	 * @param input Regular image. Not modified.
+	 * @param transformed Integral image of squared values. If null a new image will be created. Modified.
+	 * @return Integral image of squared values.
+	 */
+	public static ImageFloat64 transformSq( ImageFloat32 input , ImageFloat64 transformed ) {
+		transformed = InputSanityCheck.checkDeclare(input,transformed,ImageFloat64.class);
+
+		ImplIntegralImageOps.transformSq(input, transformed);
+
+		return transformed;
+	}
+
 	/**
 	 * General code for convolving a box filter across an image using the integral image.
 	 *
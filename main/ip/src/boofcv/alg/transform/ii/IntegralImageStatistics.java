@@ -0,0 +1,150 @@
+/*
+ * Copyright (c) 2011-2015, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.transform.ii;
+
+import boofcv.core.image.GeneralizedImageOps;
+import boofcv.struct.ImageRectangle;
+import boofcv.struct.image.*;
+
+/**
+ * <p>
+ * Computes statistics of rectangular regions using integral images of the pixel values and the squared pixel
+ * values.  After {@link #setImage(ImageSingleBand)} has been called the sum, mean, and variance of any
+ * rectangle can be found in constant time, independent of the rectangle's size.
+ * </p>
+ *
+ * <p>
+ * Rectangles are specified by their lower extent, inclusive, and upper extent, exclusive.  Pixels outside
+ * of the image are treated as having a value of zero.  The area of a rectangle is always its full area, even
+ * if part of it lies outside of the image.
+ * </p>
+ *
+ * <p>
+ * Queries do not modify the internal state.  Once the image has been set, queries can be made from multiple
+ * threads at the same time.
+ * </p>
+ *
+ * @author Peter Abeles
+ */
+public class IntegralImageStatistics<T extends ImageSingleBand> {
+
+	// integral image of the pixel values
+	private ImageSingleBand integral;
+	// integral image of the pixel values squared
+	private ImageSingleBand integralSq;
+
+	/**
+	 * Constructor which specifies the input image type.
+	 *
+	 * @param imageType  Either ImageUInt8 or ImageFloat32
+	 */
+	public IntegralImageStatistics( Class<T> imageType ) {
+		if( imageType == ImageFloat32.class ) {
+			integral = new ImageFloat32(1,1);
+			integralSq = new ImageFloat64(1,1);
+		} else if( imageType == ImageUInt8.class ) {
+			integral = new ImageSInt32(1,1);
+			integralSq = new ImageSInt64(1,1);
+		} else {
+			throw new IllegalArgumentException("Unsupported image type: "+imageType.getSimpleName());
+		}
+	}
+
+	/**
+	 * Computes the integral images.  Must be called before any statistics are computed.
+	 *
+	 * @param image Input image.  Not modified.
+	 */
+	public void setImage( T image ) {
+		integral.reshape(image.width,image.height);
+		integralSq.reshape(image.width,image.height);
+
+		GIntegralImageOps.transform(image,integral);
+		if( GeneralizedImageOps.isFloatingPoint(image.getClass()) )
+			IntegralImageOps.transformSq((ImageFloat32)image,(ImageFloat64)integralSq);
+		else
+			IntegralImageOps.transformSq((ImageUInt8)image,(ImageSInt64)integralSq);
+	}
+
+	/**
+	 * Sum of pixel values inside the rectangle x0 &le; x < x1 and y0 &le; y < y1.
+	 */
+	public double sum( int x0 , int y0 , int x1 , int y1 ) {
+		return block(integral, x0, y0, x1, y1);
+	}
+
+	/**
+	 * Sum of squared pixel values inside the rectangle x0 &le; x < x1 and y0 &le; y < y1.
+	 */
+	public double sumSq( int x0 , int y0 , int x1 , int y1 ) {
+		return block(integralSq, x0, y0, x1, y1);
+	}
+
+	/**
+	 * Mean pixel value inside the rectangle x0 &le; x < x1 and y0 &le; y < y1.
+	 */
+	public double mean( int x0 , int y0 , int x1 , int y1 ) {
+		double area = (x1-x0)*(y1-y0);
+		return block(integral, x0, y0, x1, y1)/area;
+	}
+
+	/**
+	 * Variance of pixel values inside the rectangle x0 &le; x < x1 and y0 &le; y < y1.
+	 */
+	public double variance( int x0 , int y0 , int x1 , int y1 ) {
+		double area = (x1-x0)*(y1-y0);
+
+		double mean = block(integral, x0, y0, x1, y1)/area;
+		double square = block(integralSq, x0, y0, x1, y1);
+
+		return square/area - mean*mean;
+	}
+
+	/**
+	 * Variance of pixel values inside the rectangle.  See {@link #variance(int, int, int, int)}.
+	 */
+	public double variance( ImageRectangle r ) {
+		return variance(r.x0,r.y0,r.x1,r.y1);
+	}
+
+	/**
+	 * Sums up a rectangle using the integral image.  Bounds checking is only done if the rectangle
+	 * touches or goes outside of the image border.
+	 */
+	private double block( ImageSingleBand ii , int x0 , int y0 , int x1 , int y1 ) {
+		if( x0 > 0 && y0 > 0 && x1 <= ii.width && y1 <= ii.height )
+			return GIntegralImageOps.block_unsafe(ii, x0 - 1, y0 - 1, x1 - 1, y1 - 1);
+		else
+			return GIntegralImageOps.block_zero(ii, x0 - 1, y0 - 1, x1 - 1, y1 - 1);
+	}
+
+	/**
+	 * Integral image of the pixel values
+	 */
+	public ImageSingleBand getIntegral() {
+		return integral;
+	}
+
+	/**
+	 * Integral image of the pixel values squared
+	 */
+	public ImageSingleBand getIntegralSq() {
+		return integralSq;
+	}
+}
@@ -166,6 +166,62 @@ public class ImplIntegralImageOps {
 		}
 	}
 
+	public static void transformSq( final ImageUInt8 input , final ImageSInt64 transformed )
+	{
+		int indexSrc = input.startIndex;
+		int indexDst = transformed.startIndex;
+		int end = indexSrc + input.width;
+
+		long total = 0;
+		for( ; indexSrc < end; indexSrc++ ) {
+			int value = input.data[indexSrc]& 0xFF;
+			transformed.data[indexDst++] = total += value*value;
+		}
+
+		for( int y = 1; y < input.height; y++ ) {
+			indexSrc = input.startIndex + input.stride*y;
+			indexDst = transformed.startIndex + transformed.stride*y;
+			int indexPrev = indexDst - transformed.stride;
+
+			end = indexSrc + input.width;
+
+			total = 0;
+			for( ; indexSrc < end; indexSrc++ ) {
+				int value = input.data[indexSrc]& 0xFF;
+				total +=  value*value;
+				transformed.data[indexDst++] = transformed.data[indexPrev++] + total;
+			}
+		}
+	}
+
+	public static void transformSq( final ImageFloat32 input , final ImageFloat64 transformed )
+	{
+		int indexSrc = input.startIndex;
+		int indexDst = transformed.startIndex;
+		int end = indexSrc + input.width;
+
+		double total = 0;
+		for( ; indexSrc < end; indexSrc++ ) {
+			float value = input.data[indexSrc];
+			transformed.data[indexDst++] = total += value*value;
+		}
+
+		for( int y = 1; y < input.height; y++ ) {
+			indexSrc = input.startIndex + input.stride*y;
+			indexDst = transformed.startIndex + transformed.stride*y;
+			int indexPrev = indexDst - transformed.stride;
+
+			end = indexSrc + input.width;
+
+			total = 0;
+			for( ; indexSrc < end; indexSrc++ ) {
+				float value = input.data[indexSrc];
+				total +=  value*value;
+				transformed.data[indexDst++] = transformed.data[indexPrev++] + total;
+			}
+		}
+	}
+
 	public static void convolve( ImageFloat32 integral ,
 								 IntegralKernel kernel,
 								 ImageFloat32 output )
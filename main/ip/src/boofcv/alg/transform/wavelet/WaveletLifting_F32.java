@@ -0,0 +1,72 @@
+/*
+ * Copyright (c) 2011-2015, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.transform.wavelet;
+
+import boofcv.struct.wavelet.WaveletDescription;
+import boofcv.struct.wavelet.WlCoef_F32;
+
+/**
+ * <p>
+ * Lifting scheme factorization of a wavelet.  Instead of convolving the signal with the scaling and wavelet
+ * coefficients the even and odd samples update each other in a sequence of cheap steps.  This requires about
+ * half the arithmetic of the convolution and is computed in place.  The produced transform is the same as the
+ * one described by {@link #getDescription()}, up to floating point round off error.
+ * </p>
+ *
+ * <p>
+ * Several signals, referred to as lanes, are processed at the same time.  The signals are interleaved so that
+ * lane 'c' of sample 'i' is at index i*lanes + c.  Before the forward transform the even samples are stored
+ * in the first half of the array and the odd samples in the second half.  After the forward transform the first
+ * half contains the scaling coefficients and the second half the wavelet coefficients.  The inverse does the
+ * opposite.  All borders are handled as if the signal's length is the array's length.
+ * </p>
+ *
+ * <p>
+ * Implementations have no internal state and can be shared between threads.
+ * </p>
+ *
+ * @author Peter Abeles
+ */
+public abstract class WaveletLifting_F32 {
+
+	/**
+	 * Applies the forward transform in place.
+	 *
+	 * @param data Even samples followed by odd samples.  Replaced by scaling followed by wavelet coefficients.
+	 * @param length Number of samples in each lane.  Must be even.
+	 * @param lanes Number of signals which are interleaved together
+	 * @param work Storage with at least 'lanes' elements.  Modified.
+	 */
+	public abstract void forward( float data[] , int length , int lanes , float work[] );
+
+	/**
+	 * Applies the inverse transform in place.
+	 *
+	 * @param data Scaling followed by wavelet coefficients.  Replaced by even samples followed by odd samples.
+	 * @param length Number of samples in each lane.  Must be even.
+	 * @param lanes Number of signals which are interleaved together
+	 * @param work Storage with at least 'lanes' elements.  Modified.
+	 */
+	public abstract void inverse( float data[] , int length , int lanes , float work[] );
+
+	/**
+	 * Description of the equivalent convolution based wavelet.
+	 */
+	public abstract WaveletDescription<WlCoef_F32> getDescription();
+}
@@ -0,0 +1,164 @@
+/*
+ * Copyright (c) 2011-2015, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.transform.wavelet;
+
+import org.ddogleg.sorting.QuickSelect;
+
+/**
+ * <p>
+ * Statistics of the wavelet coefficients in each subband of a multilevel transform.  Gathered by
+ * {@link WaveletTransformLifting_F32} while the coefficients are written, which saves wavelet denoising
+ * algorithms from making additional passes through the transform.
+ * </p>
+ *
+ * <p>
+ * Level 0 is the first and finest level.  At each level the subbands are named the same as in
+ * {@link boofcv.alg.denoise.wavelet.SubbandShrink}: HL is the top right, LH the bottom left, and
+ * HH the bottom right quadrant.
+ * </p>
+ *
+ * @author Peter Abeles
+ */
+public class WaveletSubbandStatistics {
+
+	public static final int HL = 0;
+	public static final int LH = 1;
+	public static final int HH = 2;
+
+	// number of levels in the transform
+	private int numLevels;
+
+	// width and height of the subbands at each level
+	private int width[] = new int[0];
+	private int height[] = new int[0];
+
+	// sum of the squared coefficients and maximum absolute value in each subband.  index = level*3 + band
+	private double sumSq[] = new double[0];
+	private float maxAbs[] = new float[0];
+
+	// absolute value of each coefficient in the HH subband of level 0, row major
+	private float absHH[] = new float[0];
+
+	// estimated noise standard deviation
+	private float noiseStdDev;
+
+	/**
+	 * Discards all the statistics and prepares for a new transform.
+	 *
+	 * @param numLevels Number of levels in the transform
+	 */
+	public void reset( int numLevels ) {
+		this.numLevels = numLevels;
+		if( width.length < numLevels ) {
+			width = new int[numLevels];
+			height = new int[numLevels];
+			sumSq = new double[numLevels*3];
+			maxAbs = new float[numLevels*3];
+		}
+		for( int i = 0; i < numLevels*3; i++ ) {
+			sumSq[i] = 0;
+			maxAbs[i] = 0;
+		}
+		noiseStdDev = 0;
+	}
+
+	/**
+	 * Specifies the shape of the subbands at a level.  If it is level 0 then storage for the HH subband
+	 * is declared.
+	 */
+	public void setShape( int level , int width , int height ) {
+		this.width[level] = width;
+		this.height[level] = height;
+
+		if( level == 0 && absHH.length < width*height )
+			absHH = new float[width*height];
+	}
+
+	/**
+	 * Adds the statistics of some coefficients to a subband
+	 *
+	 * @param level Level in the transform
+	 * @param band Which subband
+	 * @param sumSq Sum of the coefficients squared
+	 * @param maxAbs Maximum absolute value of the coefficients
+	 */
+	public void add( int level , int band , double sumSq , float maxAbs ) {
+		int index = level*3 + band;
+		this.sumSq[index] += sumSq;
+		if( maxAbs > this.maxAbs[index] )
+			this.maxAbs[index] = maxAbs;
+	}
+
+	/**
+	 * <p>
+	 * Robust median estimate of the noise standard deviation from the HH subband in level 0.  The same as
+	 * {@link boofcv.alg.denoise.wavelet.UtilDenoiseWavelet#estimateNoiseStdDev}.  The order of
+	 * {@link #getAbsHH()} is modified.
+	 * </p>
+	 */
+	public void computeNoiseStdDev() {
+		int N = width[0]*height[0];
+		noiseStdDev = QuickSelect.select(absHH, N / 2, N)/0.6745f;
+	}
+
+	/**
+	 * Returns true if the subbands at the level have the specified shape
+	 */
+	public boolean isShape( int level , int width , int height ) {
+		return level < numLevels && this.width[level] == width && this.height[level] == height;
+	}
+
+	/**
+	 * Mean of the squared coefficients in a subband.  The variance if the coefficients are zero mean.
+	 */
+	public double getMeanSquare( int level , int band ) {
+		return sumSq[level*3+band]/(width[level]*height[level]);
+	}
+
+	public float getMaxAbs( int level , int band ) {
+		return maxAbs[level*3+band];
+	}
+
+	public int getNumLevels() {
+		return numLevels;
+	}
+
+	public int getWidth( int level ) {
+		return width[level];
+	}
+
+	public int getHeight( int level ) {
+		return height[level];
+	}
+
+	/**
+	 * Storage for the absolute value of each coefficient in the HH subband of level 0.  Only
+	 * the first width*height elements are used.
+	 */
+	public float[] getAbsHH() {
+		return absHH;
+	}
+
+	/**
+	 * Noise standard deviation found by the most recent call to {@link #computeNoiseStdDev()}.
+	 */
+	public float getNoiseStdDev() {
+		return noiseStdDev;
+	}
+}
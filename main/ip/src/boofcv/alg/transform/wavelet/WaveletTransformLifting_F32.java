@@ -0,0 +1,376 @@
+/*
+ * Copyright (c) 2011-2015, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.transform.wavelet;
+
+import boofcv.alg.misc.ImageMiscOps;
+import boofcv.alg.misc.PixelMath;
+import boofcv.struct.image.ImageFloat32;
+import boofcv.struct.wavelet.WaveletDescription;
+import boofcv.struct.wavelet.WlCoef_F32;
+import org.ddogleg.struct.FastQueue;
+
+/**
+ * <p>
+ * Multilevel wavelet transform and inverse computed in place using a {@link WaveletLifting_F32 lifting scheme}.
+ * Unlike {@link WaveletTransformOps} no storage image is needed for each level.  Each row is lifted inside a
+ * small buffer and written back into the same row.  Columns are processed in tiles of adjacent columns which
+ * are small enough to stay inside the CPU's cache while all the lanes in a tile are lifted together.
+ * </p>
+ *
+ * <p>
+ * The layout of the transform and the size of each level are the same as {@link WaveletTransformOps#transformN}.
+ * If the original image is smaller than the transform then it is padded with zeros, which produces the same
+ * result when the transform is at most one pixel larger.
+ * </p>
+ *
+ * <p>
+ * Optionally, {@link WaveletSubbandStatistics statistics} of each subband are computed while the coefficients
+ * are written.
+ * </p>
+ *
+ * @author Peter Abeles
+ */
+public class WaveletTransformLifting_F32 {
+
+	// number of floats in a tile of columns.  128 KB so that it fits inside the L2 cache
+	private static final int TILE_FLOATS = 32*1024;
+	private static final int MIN_TILE_WIDTH = 4;
+	private static final int MAX_TILE_WIDTH = 64;
+
+	// the wavelet
+	protected WaveletLifting_F32 lifting;
+	protected WaveletDescription<WlCoef_F32> desc;
+
+	// storage for each thread
+	protected FastQueue<Worker> workers;
+
+	// number of columns in a tile.  If <= 0 then it's selected automatically
+	protected int tileWidth = 0;
+
+	// statistics of the most recent forward transform.  null if not computed
+	protected WaveletSubbandStatistics stats;
+
+	/**
+	 * @param lifting The wavelet's lifting scheme
+	 */
+	public WaveletTransformLifting_F32( WaveletLifting_F32 lifting ) {
+		this.lifting = lifting;
+		this.desc = lifting.getDescription();
+
+		workers = new FastQueue<Worker>(1,Worker.class,true) {
+			@Override
+			protected Worker createInstance() {
+				return new Worker();
+			}
+		};
+	}
+
+	/**
+	 * Performs a level N wavelet transform.
+	 *
+	 * @param input Input image. Not modified.
+	 * @param output Where the multilevel wavelet transform is written to.  Must have the shape
+	 *               specified by {@link UtilWavelet#transformDimension}.  Modified.
+	 * @param numLevels Number of levels which should be computed in the transform.
+	 */
+	public void transformN( ImageFloat32 input , ImageFloat32 output , int numLevels ) {
+		UtilWavelet.checkShape(desc.getForward(),input,output,numLevels);
+
+		if( input != output )
+			output.subimage(0,0,input.width,input.height,null).setTo(input);
+		ImageMiscOps.fillRectangle(output,0,input.width,0,output.width-input.width,output.height);
+		ImageMiscOps.fillRectangle(output,0,0,input.height,input.width,output.height-input.height);
+
+		if( stats != null )
+			stats.reset(numLevels);
+
+		int width = output.width;
+		int height = output.height;
+
+		for( int level = 0; level < numLevels; level++ ) {
+			if( level > 0 ) {
+				width /= 2;
+				height /= 2;
+				width += width%2;
+				height += height%2;
+			}
+
+			if( stats != null )
+				stats.setShape(level,width/2,height/2);
+
+			horizontal(output,width,height,true);
+			vertical(output,width,height,true,level);
+		}
+
+		if( stats != null )
+			stats.computeNoiseStdDev();
+	}
+
+	/**
+	 * Performs a level N inverse wavelet transform.
+	 *
+	 * @param transform Multilevel wavelet transform.  Used as workspace.  Modified.
+	 * @param output Reconstruction of original image. Modified.
+	 * @param numLevels Number of levels in the transform.
+	 * @param minValue Minimum allowed pixel value
+	 * @param maxValue Maximum allowed pixel value
+	 */
+	public void inverseN( ImageFloat32 transform , ImageFloat32 output , int numLevels ,
+						  float minValue , float maxValue ) {
+		UtilWavelet.checkShape(desc.getForward(),output,transform,numLevels);
+
+		int widths[] = new int[numLevels];
+		int heights[] = new int[numLevels];
+		widths[0] = transform.width;
+		heights[0] = transform.height;
+		for( int level = 1; level < numLevels; level++ ) {
+			widths[level] = widths[level-1]/2 + (widths[level-1]/2)%2;
+			heights[level] = heights[level-1]/2 + (heights[level-1]/2)%2;
+		}
+
+		for( int level = numLevels-1; level >= 0; level-- ) {
+			vertical(transform,widths[level],heights[level],false,level);
+			horizontal(transform,widths[level],heights[level],false);
+		}
+
+		if( output != transform )
+			output.setTo(transform.subimage(0,0,output.width,output.height,null));
+
+		if( minValue != -Float.MAX_VALUE && maxValue != Float.MAX_VALUE )
+			PixelMath.boundImage(output,minValue,maxValue);
+	}
+
+	/**
+	 * Transforms each row in the top left width x height region
+	 */
+	protected void horizontal( ImageFloat32 image , int width , int height , boolean forward ) {
+		workers.reset();
+		rows(workers.grow(),image,width,0,height,forward);
+	}
+
+	/**
+	 * Transforms each column in the top left width x height region
+	 */
+	protected void vertical( ImageFloat32 image , int width , int height , boolean forward , int level ) {
+		workers.reset();
+		Worker worker = workers.grow();
+		columns(worker,image,width,height,0,numberOfTiles(width,height),forward,level);
+
+		if( forward && stats != null )
+			worker.addTo(stats,level);
+	}
+
+	/**
+	 * Transforms rows in the range [y0,y1)
+	 */
+	protected void rows( Worker worker , ImageFloat32 image , int width , int y0 , int y1 , boolean forward ) {
+		int M = width/2;
+		worker.declare(width,1);
+		float buffer[] = worker.buffer;
+
+		for( int y = y0; y < y1; y++ ) {
+			int index = image.startIndex + y*image.stride;
+
+			if( forward ) {
+				for( int i = 0; i < M; i++ ) {
+					buffer[i] = image.data[index+2*i];
+					buffer[M+i] = image.data[index+2*i+1];
+				}
+				lifting.forward(buffer,width,1,worker.work);
+				System.arraycopy(buffer,0,image.data,index,width);
+			} else {
+				System.arraycopy(image.data,index,buffer,0,width);
+				lifting.inverse(buffer,width,1,worker.work);
+				for( int i = 0; i < M; i++ ) {
+					image.data[index+2*i] = buffer[i];
+					image.data[index+2*i+1] = buffer[M+i];
+				}
+			}
+		}
+	}
+
+	/**
+	 * Transforms the columns inside of tiles in the range [tile0,tile1)
+	 */
+	protected void columns( Worker worker , ImageFloat32 image , int width , int height ,
+							int tile0 , int tile1 , boolean forward , int level ) {
+		int M = height/2;
+		int tileWidth = selectTileWidth(height);
+		worker.declare(height*tileWidth,tileWidth);
+		worker.resetStatistics();
+		float buffer[] = worker.buffer;
+
+		for( int tile = tile0; tile < tile1; tile++ ) {
+			int x0 = tile*tileWidth;
+			int lanes = Math.min(tileWidth,width-x0);
+			int index = image.startIndex + x0;
+
+			if( forward ) {
+				for( int y = 0; y < height; y++ ) {
+					int row = y%2 == 0 ? y/2 : M + y/2;
+					System.arraycopy(image.data,index+y*image.stride,buffer,row*lanes,lanes);
+				}
+				lifting.forward(buffer,height,lanes,worker.work);
+				for( int y = 0; y < height; y++ ) {
+					System.arraycopy(buffer,y*lanes,image.data,index+y*image.stride,lanes);
+				}
+				if( stats != null )
+					worker.accumulate(x0,lanes,width/2,M,level == 0 ? stats.getAbsHH() : null);
+			} else {
+				for( int y = 0; y < height; y++ ) {
+					System.arraycopy(image.data,index+y*image.stride,buffer,y*lanes,lanes);
+				}
+				lifting.inverse(buffer,height,lanes,worker.work);
+				for( int y = 0; y < height; y++ ) {
+					int row = y%2 == 0 ? y/2 : M + y/2;
+					System.arraycopy(buffer,row*lanes,image.data,index+y*image.stride,lanes);
+				}
+			}
+		}
+	}
+
+	/**
+	 * Number of tiles the columns are split into
+	 */
+	protected int numberOfTiles( int width , int height ) {
+		int tileWidth = selectTileWidth(height);
+		return (width + tileWidth - 1)/tileWidth;
+	}
+
+	private int selectTileWidth( int height ) {
+		if( tileWidth > 0 )
+			return tileWidth;
+		return Math.max(MIN_TILE_WIDTH,Math.min(MAX_TILE_WIDTH,TILE_FLOATS/height));
+	}
+
+	/**
+	 * If true then {@link WaveletSubbandStatistics} will be computed by the forward transform.
+	 */
+	public void setComputeStatistics( boolean compute ) {
+		if( compute ) {
+			if( stats == null )
+				stats = new WaveletSubbandStatistics();
+		} else {
+			stats = null;
+		}
+	}
+
+	/**
+	 * Statistics of the most recent forward transform or null if they are not computed
+	 */
+	public WaveletSubbandStatistics getStatistics() {
+		return stats;
+	}
+
+	public int getTileWidth() {
+		return tileWidth;
+	}
+
+	/**
+	 * Specifies the number of columns which are processed together.  If &le; 0 it's selected automatically
+	 * from the image's height.
+	 */
+	public void setTileWidth(int tileWidth) {
+		this.tileWidth = tileWidth;
+	}
+
+	public WaveletLifting_F32 getLifting() {
+		return lifting;
+	}
+
+	public WaveletDescription<WlCoef_F32> getDescription() {
+		return desc;
+	}
+
+	/**
+	 * Storage used by a single thread
+	 */
+	protected static class Worker {
+		// samples being lifted
+		float buffer[] = new float[0];
+		// workspace for the lifting scheme
+		float work[] = new float[0];
+
+		// statistics of the subbands processed by this worker
+		double sumSq[] = new double[3];
+		float maxAbs[] = new float[3];
+
+		void declare( int bufferLength , int lanes ) {
+			if( buffer.length < bufferLength )
+				buffer = new float[bufferLength];
+			if( work.length < lanes )
+				work = new float[lanes];
+		}
+
+		void resetStatistics() {
+			for( int i = 0; i < 3; i++ ) {
+				sumSq[i] = 0;
+				maxAbs[i] = 0;
+			}
+		}
+
+		/**
+		 * Adds the coefficients inside the buffer to the subband statistics.  Only wavelet coefficients which
+		 * have been transformed horizontally or vertically contribute.
+		 *
+		 * @param x0 First column in the tile
+		 * @param lanes Number of columns in the tile
+		 * @param halfW Width of each subband
+		 * @param M Height of each subband
+		 * @param absHH If not null then the absolute value of each HH coefficient is saved in it
+		 */
+		void accumulate( int x0 , int lanes , int halfW , int M , float absHH[] ) {
+			// the first 'split' lanes are to the left of the wavelet coefficients in the horizontal direction
+			int split = Math.max(0,Math.min(lanes,halfW-x0));
+
+			for( int y = 0; y < M; y++ ) {
+				int index = y*lanes;
+				for( int c = split; c < lanes; c++ ) {
+					add(WaveletSubbandStatistics.HL,buffer[index+c]);
+				}
+			}
+			for( int y = 0; y < M; y++ ) {
+				int index = (M+y)*lanes;
+				for( int c = 0; c < split; c++ ) {
+					add(WaveletSubbandStatistics.LH,buffer[index+c]);
+				}
+				int indexHH = y*halfW + x0 - halfW;
+				for( int c = split; c < lanes; c++ ) {
+					float v = buffer[index+c];
+					add(WaveletSubbandStatistics.HH,v);
+					if( absHH != null )
+						absHH[indexHH+c] = Math.abs(v);
+				}
+			}
+		}
+
+		private void add( int band , float v ) {
+			sumSq[band] += (double)v*v;
+			float a = Math.abs(v);
+			if( a > maxAbs[band] )
+				maxAbs[band] = a;
+		}
+
+		void addTo( WaveletSubbandStatistics stats , int level ) {
+			for( int band = 0; band < 3; band++ ) {
+				stats.add(level,band,sumSq[band],maxAbs[band]);
+			}
+		}
+	}
+}
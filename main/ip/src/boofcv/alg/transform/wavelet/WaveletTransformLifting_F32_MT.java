@@ -0,0 +1,79 @@
+/*
+ * Copyright (c) 2011-2015, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.transform.wavelet;
+
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.concurrency.IntRangeObjectTask;
+import boofcv.struct.image.ImageFloat32;
+
+/**
+ * Concurrent implementation of {@link WaveletTransformLifting_F32}.  Blocks of rows and blocks of column tiles
+ * are processed in parallel, each with its own buffers.  Blocks write to different pixels, so the transform is
+ * identical to the single threaded version.  Subband statistics are summed by each block and then combined in
+ * a deterministic order.
+ *
+ * @author Peter Abeles
+ */
+public class WaveletTransformLifting_F32_MT extends WaveletTransformLifting_F32 {
+
+	// minimum number of rows processed by a thread
+	private int minBlockRows = 16;
+
+	public WaveletTransformLifting_F32_MT(WaveletLifting_F32 lifting) {
+		super(lifting);
+	}
+
+	@Override
+	protected void horizontal(final ImageFloat32 image, final int width, final int height, final boolean forward) {
+		BoofConcurrency.loopBlocks(0, height, minBlockRows, workers, new IntRangeObjectTask<Worker>() {
+			@Override
+			public void call(Worker worker, int y0, int y1) {
+				rows(worker, image, width, y0, y1, forward);
+			}
+		});
+	}
+
+	@Override
+	protected void vertical(final ImageFloat32 image, final int width, final int height,
+							final boolean forward, final int level) {
+		BoofConcurrency.loopBlocks(0, numberOfTiles(width,height), 1, workers, new IntRangeObjectTask<Worker>() {
+			@Override
+			public void call(Worker worker, int tile0, int tile1) {
+				columns(worker, image, width, height, tile0, tile1, forward, level);
+			}
+		});
+
+		if( forward && stats != null ) {
+			for( int i = 0; i < workers.size; i++ ) {
+				workers.get(i).addTo(stats,level);
+			}
+		}
+	}
+
+	public int getMinBlockRows() {
+		return minBlockRows;
+	}
+
+	/**
+	 * Specifies the smallest number of rows which will be processed by a single thread
+	 */
+	public void setMinBlockRows(int minBlockRows) {
+		this.minBlockRows = minBlockRows;
+	}
+}
@@ -0,0 +1,118 @@
+/*
+ * Copyright (c) 2011-2015, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.transform.wavelet.impl;
+
+import boofcv.alg.transform.wavelet.WaveletLifting_F32;
+import boofcv.core.image.border.BorderType;
+import boofcv.factory.transform.wavelet.FactoryWaveletDaub;
+import boofcv.struct.wavelet.WaveletDescription;
+import boofcv.struct.wavelet.WlCoef_F32;
+
+/**
+ * <p>
+ * Lifting implementation of the Daub 5/3 biorthogonal wavelet, see {@link FactoryWaveletDaub#biorthogonal_F32}.
+ * </p>
+ * <pre>
+ * d[i] = o[i] - (e[i] + e[i+1])/2
+ * s[i] = e[i] + (d[i-1] + d[i])/4
+ * </pre>
+ * <p>
+ * With a {@link BorderType#REFLECT reflected} border the signal is even symmetric, which makes
+ * d[-1] = d[0] and e[M] = e[M-1].  With a {@link BorderType#WRAP wrapped} border both are periodic.
+ * </p>
+ *
+ * @author Peter Abeles
+ */
+public class LiftingBiorthogonal53_F32 extends WaveletLifting_F32 {
+
+	// how the border is handled
+	private BorderType borderType;
+
+	/**
+	 * @param borderType Either {@link BorderType#REFLECT} or {@link BorderType#WRAP}
+	 */
+	public LiftingBiorthogonal53_F32(BorderType borderType) {
+		if( borderType != BorderType.REFLECT && borderType != BorderType.WRAP )
+			throw new IllegalArgumentException("Unsupported border type: "+borderType);
+		this.borderType = borderType;
+	}
+
+	@Override
+	public void forward(float[] data, int length, int lanes, float[] work) {
+		int M = length/2;
+		int N = M*lanes;
+		boolean wrap = borderType == BorderType.WRAP;
+
+		// predict the odd samples from the even samples
+		for( int i = 0; i < M; i++ ) {
+			int indexE = i*lanes;
+			int indexE1 = i+1 < M ? indexE+lanes : (wrap ? 0 : indexE);
+			int indexD = N + indexE;
+			for( int c = 0; c < lanes; c++ ) {
+				data[indexD+c] -= 0.5f*(data[indexE+c] + data[indexE1+c]);
+			}
+		}
+
+		// update the even samples
+		for( int i = 0; i < M; i++ ) {
+			int indexS = i*lanes;
+			int indexD = N + indexS;
+			int indexD0 = i > 0 ? indexD-lanes : (wrap ? N + (M-1)*lanes : indexD);
+			for( int c = 0; c < lanes; c++ ) {
+				data[indexS+c] += 0.25f*(data[indexD0+c] + data[indexD+c]);
+			}
+		}
+	}
+
+	@Override
+	public void inverse(float[] data, int length, int lanes, float[] work) {
+		int M = length/2;
+		int N = M*lanes;
+		boolean wrap = borderType == BorderType.WRAP;
+
+		// undo the update
+		for( int i = 0; i < M; i++ ) {
+			int indexS = i*lanes;
+			int indexD = N + indexS;
+			int indexD0 = i > 0 ? indexD-lanes : (wrap ? N + (M-1)*lanes : indexD);
+			for( int c = 0; c < lanes; c++ ) {
+				data[indexS+c] -= 0.25f*(data[indexD0+c] + data[indexD+c]);
+			}
+		}
+
+		// undo the prediction
+		for( int i = 0; i < M; i++ ) {
+			int indexE = i*lanes;
+			int indexE1 = i+1 < M ? indexE+lanes : (wrap ? 0 : indexE);
+			int indexD = N + indexE;
+			for( int c = 0; c < lanes; c++ ) {
+				data[indexD+c] += 0.5f*(data[indexE+c] + data[indexE1+c]);
+			}
+		}
+	}
+
+	@Override
+	public WaveletDescription<WlCoef_F32> getDescription() {
+		return FactoryWaveletDaub.biorthogonal_F32(5,borderType);
+	}
+
+	public BorderType getBorderType() {
+		return borderType;
+	}
+}
@@ -0,0 +1,123 @@
+/*
+ * Copyright (c) 2011-2015, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.transform.wavelet.impl;
+
+import boofcv.alg.transform.wavelet.WaveletLifting_F32;
+import boofcv.factory.transform.wavelet.FactoryWaveletDaub;
+import boofcv.struct.wavelet.WaveletDescription;
+import boofcv.struct.wavelet.WlCoef_F32;
+
+/**
+ * <p>
+ * Lifting implementation of the Daub-4 wavelet, see {@link FactoryWaveletDaub#daubJ_F32}.  Like the
+ * convolution version the border is wrapped, so all indexes below are modulo M.
+ * </p>
+ * <pre>
+ * o'[i] = o[i] - sqrt(3)*e[i]
+ * e'[i] = e[i] + sqrt(3)/4*o'[i] + (2+sqrt(3))/4*o'[i+1]
+ * s[i]  = (1+sqrt(3))/sqrt(2)*( e'[i] - o'[i+1] )
+ * d[i]  = (1-sqrt(3))/sqrt(2)*e'[i]
+ * </pre>
+ *
+ * @author Peter Abeles
+ */
+public class LiftingDaub4_F32 extends WaveletLifting_F32 {
+
+	private static final float SQRT3 = (float)Math.sqrt(3);
+	private static final float U0 = (float)(Math.sqrt(3)/4.0);
+	private static final float U1 = (float)((2.0+Math.sqrt(3))/4.0);
+	private static final float K_S = (float)((1.0+Math.sqrt(3))/Math.sqrt(2));
+	private static final float K_D = (float)((1.0-Math.sqrt(3))/Math.sqrt(2));
+
+	@Override
+	public void forward(float[] data, int length, int lanes, float[] work) {
+		int M = length/2;
+		int N = M*lanes;
+
+		// o' = o - sqrt(3)*e
+		for( int i = 0; i < N; i++ ) {
+			data[N+i] -= SQRT3*data[i];
+		}
+
+		// e' = e + U0*o'[i] + U1*o'[i+1]
+		for( int i = 0; i < M; i++ ) {
+			int indexS = i*lanes;
+			int indexD = N + indexS;
+			int indexD1 = i+1 < M ? indexD + lanes : N;
+			for( int c = 0; c < lanes; c++ ) {
+				data[indexS+c] += U0*data[indexD+c] + U1*data[indexD1+c];
+			}
+		}
+
+		// scaling and wavelet coefficients.  o'[i] is only overwritten after s[i-1] used it, but s[M-1] needs o'[0]
+		System.arraycopy(data,N,work,0,lanes);
+
+		for( int i = 0; i < M; i++ ) {
+			int indexS = i*lanes;
+			int indexD = N + indexS;
+			for( int c = 0; c < lanes; c++ ) {
+				float e = data[indexS+c];
+				float o1 = i+1 < M ? data[indexD+lanes+c] : work[c];
+				data[indexS+c] = K_S*(e - o1);
+				data[indexD+c] = K_D*e;
+			}
+		}
+	}
+
+	@Override
+	public void inverse(float[] data, int length, int lanes, float[] work) {
+		int M = length/2;
+		int N = M*lanes;
+
+		// recover e' and o'.  o'[i+1] replaces d[i+1] after it has been read, but d[0] is replaced first
+		System.arraycopy(data,N,work,0,lanes);
+
+		for( int i = M-1; i >= 0; i-- ) {
+			int indexS = i*lanes;
+			int indexD = N + indexS;
+			int indexD1 = i+1 < M ? indexD + lanes : N;
+			for( int c = 0; c < lanes; c++ ) {
+				float d = i > 0 ? data[indexD+c] : work[c];
+				float e = d/K_D;
+				data[indexD1+c] = e - data[indexS+c]/K_S;
+				data[indexS+c] = e;
+			}
+		}
+
+		// e = e' - U0*o'[i] - U1*o'[i+1]
+		for( int i = 0; i < M; i++ ) {
+			int indexS = i*lanes;
+			int indexD = N + indexS;
+			int indexD1 = i+1 < M ? indexD + lanes : N;
+			for( int c = 0; c < lanes; c++ ) {
+				data[indexS+c] -= U0*data[indexD+c] + U1*data[indexD1+c];
+			}
+		}
+
+		// o = o' + sqrt(3)*e
+		for( int i = 0; i < N; i++ ) {
+			data[N+i] += SQRT3*data[i];
+		}
+	}
+
+	@Override
+	public WaveletDescription<WlCoef_F32> getDescription() {
+		return FactoryWaveletDaub.daubJ_F32(4);
+	}
+}
@@ -0,0 +1,57 @@
+/*
+ * Copyright (c) 2011-2015, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.transform.wavelet.impl;
+
+import boofcv.alg.transform.wavelet.WaveletLifting_F32;
+import boofcv.factory.transform.wavelet.FactoryWaveletHaar;
+import boofcv.struct.wavelet.WaveletDescription;
+import boofcv.struct.wavelet.WlCoef_F32;
+
+/**
+ * Lifting implementation of the Haar wavelet, see {@link FactoryWaveletHaar}.
+ *
+ * @author Peter Abeles
+ */
+public class LiftingHaar_F32 extends WaveletLifting_F32 {
+
+	private static final float SCALE = (float)(1.0/Math.sqrt(2));
+
+	@Override
+	public void forward(float[] data, int length, int lanes, float[] work) {
+		int N = length/2*lanes;
+
+		for( int i = 0; i < N; i++ ) {
+			float e = data[i];
+			float o = data[N+i];
+			data[i] = SCALE*(e + o);
+			data[N+i] = SCALE*(e - o);
+		}
+	}
+
+	@Override
+	public void inverse(float[] data, int length, int lanes, float[] work) {
+		// the Haar wavelet is its own inverse
+		forward(data, length, lanes, work);
+	}
+
+	@Override
+	public WaveletDescription<WlCoef_F32> getDescription() {
+		return FactoryWaveletHaar.generate(false,32);
+	}
+}
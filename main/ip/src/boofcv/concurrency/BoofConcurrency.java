@@ -0,0 +1,313 @@
+/*
+ * Copyright (c) 2011-2015, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.concurrency;
+
+import org.ddogleg.struct.FastQueue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+
+/**
+ * <p>
+ * Thread pool and parallel loop primitives which are shared by all the concurrent ("_MT") implementations
+ * of algorithms.  A single daemon thread pool is used for the entire library so that nested calls and multiple
+ * algorithms running at the same time don't create more threads than there are processors.
+ * </p>
+ *
+ * <p>
+ * Work is always divided up in a deterministic way which only depends on the range being processed and
+ * the maximum number of threads.  When called from inside of a worker thread the loops are run serially
+ * inside that thread, which prevents the pool from dead locking on itself.
+ * </p>
+ *
+ * <p>
+ * Factories will only return concurrent implementations when {@link #USE_CONCURRENT} is true.  By default
+ * it is false.
+ * </p>
+ *
+ * @author Peter Abeles
+ */
+public class BoofConcurrency {
+
+	/**
+	 * If true then factories will return concurrent implementations of algorithms, when available.
+	 */
+	public static boolean USE_CONCURRENT = false;
+
+	/**
+	 * Per-pixel image operations will only split an image into blocks which contain at least this many pixels.
+	 * Images with fewer than twice this number of pixels are processed by the calling thread.
+	 */
+	public static int MIN_BLOCK_PIXELS = 32*1024;
+
+	// maximum number of threads which will be used to process a single loop
+	private static int maxThreads = Runtime.getRuntime().availableProcessors();
+
+	// the thread pool.  lazily created
+	private static ExecutorService pool;
+
+	// used to identify threads which belong to the pool
+	private static final ThreadLocal<Boolean> insideWorker = new ThreadLocal<Boolean>();
+
+	/**
+	 * Specifies the maximum number of threads which can be used.  Calling this will shutdown the existing
+	 * thread pool after its current tasks have finished.
+	 *
+	 * @param maxThreads Maximum number of threads.  Must be 1 or more.
+	 */
+	public static synchronized void setMaxThreads( int maxThreads ) {
+		if( maxThreads < 1 )
+			throw new IllegalArgumentException("Must have at least one thread");
+		BoofConcurrency.maxThreads = maxThreads;
+		if( pool != null ) {
+			pool.shutdown();
+			pool = null;
+		}
+	}
+
+	public static synchronized int getMaxThreads() {
+		return maxThreads;
+	}
+
+	/**
+	 * Returns true if the calling thread belongs to the thread pool
+	 */
+	public static boolean isWorkerThread() {
+		return insideWorker.get() != null;
+	}
+
+	private static synchronized ExecutorService getPool() {
+		if( pool == null ) {
+			pool = Executors.newFixedThreadPool(maxThreads, new ThreadFactory() {
+				int count = 0;
+				@Override
+				public Thread newThread(final Runnable r) {
+					Thread t = new Thread(new Runnable() {
+						@Override
+						public void run() {
+							insideWorker.set(Boolean.TRUE);
+							r.run();
+						}
+					},"BoofConcurrency-"+(count++));
+					t.setDaemon(true);
+					return t;
+				}
+			});
+		}
+		return pool;
+	}
+
+	/**
+	 * Computes the number of blocks the range will be split into.
+	 *
+	 * @param start First index, inclusive
+	 * @param end Last index, exclusive
+	 * @param minBlock The smallest allowed block size
+	 * @return Number of blocks.  Always 1 or more.
+	 */
+	public static int computeNumberOfBlocks( int start , int end , int minBlock ) {
+		int length = end-start;
+		if( length <= 0 )
+			return 1;
+		int numBlocks = Math.min(getMaxThreads(), length/Math.max(1,minBlock));
+		return Math.max(1,numBlocks);
+	}
+
+	/**
+	 * Minimum number of rows in a block for per-pixel image operations.  See {@link #MIN_BLOCK_PIXELS}.
+	 *
+	 * @param width Width of the image
+	 * @return Minimum number of rows.  Always 1 or more.
+	 */
+	public static int minBlockRows( int width ) {
+		return Math.max(1,MIN_BLOCK_PIXELS/Math.max(1,width));
+	}
+
+	/**
+	 * Invokes the task for every index from start to end.  Indexes are processed in contiguous blocks.
+	 *
+	 * @param start First index, inclusive
+	 * @param end Last index, exclusive
+	 * @param task The task
+	 */
+	public static void loopFor( int start , int end , final IntOperatorTask task ) {
+		loopBlocks(start,end,1,new IntRangeTask() {
+			@Override
+			public void call(int minInclusive, int maxExclusive) {
+				for( int i = minInclusive; i < maxExclusive; i++ ) {
+					task.call(i);
+				}
+			}
+		});
+	}
+
+	/**
+	 * Splits the range into one contiguous block per thread and invokes the task once per block.
+	 *
+	 * @param start First index, inclusive
+	 * @param end Last index, exclusive
+	 * @param task The task
+	 */
+	public static void loopBlocks( int start , int end , IntRangeTask task ) {
+		loopBlocks(start,end,1,task);
+	}
+
+	/**
+	 * Splits the range into contiguous blocks and invokes the task once per block.  No block will be
+	 * smaller than minBlock, unless the range itself is smaller.
+	 *
+	 * @param start First index, inclusive
+	 * @param end Last index, exclusive
+	 * @param minBlock The smallest allowed block size.
+	 * @param task The task
+	 */
+	public static void loopBlocks( int start , int end , int minBlock , final IntRangeTask task ) {
+		if( end <= start )
+			return;
+		int numBlocks = computeNumberOfBlocks(start, end, minBlock);
+		if( numBlocks == 1 || isWorkerThread() ) {
+			task.call(start,end);
+			return;
+		}
+
+		List<Runnable> jobs = new ArrayList<Runnable>(numBlocks);
+		for( int i = 0; i < numBlocks; i++ ) {
+			final int i0 = blockStart(start,end,numBlocks,i);
+			final int i1 = blockStart(start,end,numBlocks,i+1);
+			jobs.add(new Runnable() {
+				@Override
+				public void run() {
+					task.call(i0,i1);
+				}
+			});
+		}
+		runAll(jobs);
+	}
+
+	/**
+	 * Splits the range into contiguous blocks and invokes the task once per block.  Each block is provided
+	 * with its own workspace.  Workspaces are grown as needed and the workspace for block 'i' is always
+	 * the i-th element in the queue.  After this function returns the workspace will have one element for
+	 * each block, which allows results to be merged together in a deterministic order.
+	 *
+	 * @param start First index, inclusive
+	 * @param end Last index, exclusive
+	 * @param minBlock The smallest allowed block size.
+	 * @param workspace Storage for per block workspaces.
+	 * @param task The task
+	 */
+	public static <T> void loopBlocks( int start , int end , int minBlock ,
+									   final FastQueue<T> workspace , final IntRangeObjectTask<T> task ) {
+		workspace.reset();
+		if( end <= start )
+			return;
+		int numBlocks = isWorkerThread() ? 1 : computeNumberOfBlocks(start, end, minBlock);
+		for( int i = 0; i < numBlocks; i++ ) {
+			workspace.grow();
+		}
+		if( numBlocks == 1 ) {
+			task.call(workspace.get(0),start,end);
+			return;
+		}
+
+		List<Runnable> jobs = new ArrayList<Runnable>(numBlocks);
+		for( int i = 0; i < numBlocks; i++ ) {
+			final T w = workspace.get(i);
+			final int i0 = blockStart(start,end,numBlocks,i);
+			final int i1 = blockStart(start,end,numBlocks,i+1);
+			jobs.add(new Runnable() {
+				@Override
+				public void run() {
+					task.call(w,i0,i1);
+				}
+			});
+		}
+		runAll(jobs);
+	}
+
+	/**
+	 * Submits a task to the thread pool.  If invoked from inside a worker thread then the task is run
+	 * immediately inside the calling thread.
+	 *
+	 * @param task The task
+	 * @return Future for the task.  Pass it to {@link #waitFor(Future)}.
+	 */
+	public static Future<?> submit( Runnable task ) {
+		if( isWorkerThread() ) {
+			FutureTask<Object> f = new FutureTask<Object>(task,null);
+			f.run();
+			return f;
+		}
+		return getPool().submit(task);
+	}
+
+	/**
+	 * Blocks until the task has finished.  Exceptions thrown by the task are rethrown.
+	 */
+	public static void waitFor( Future<?> future ) {
+		try {
+			future.get();
+		} catch (InterruptedException e) {
+			throw new RuntimeException(e);
+		} catch (ExecutionException e) {
+			Throwable cause = e.getCause();
+			if( cause instanceof RuntimeException )
+				throw (RuntimeException)cause;
+			if( cause instanceof Error )
+				throw (Error)cause;
+			throw new RuntimeException(cause);
+		}
+	}
+
+	/**
+	 * Runs all the jobs.  The last job is run inside the calling thread.
+	 */
+	private static void runAll( List<Runnable> jobs ) {
+		ExecutorService pool = getPool();
+		List<Future<?>> futures = new ArrayList<Future<?>>(jobs.size());
+		for( int i = 0; i < jobs.size()-1; i++ ) {
+			futures.add(pool.submit(jobs.get(i)));
+		}
+		RuntimeException failure = null;
+		try {
+			jobs.get(jobs.size() - 1).run();
+		} catch( RuntimeException e ) {
+			failure = e;
+		}
+		// wait for all jobs to finish even if one failed so that no worker is still touching the data
+		for( int i = 0; i < futures.size(); i++ ) {
+			try {
+				waitFor(futures.get(i));
+			} catch( RuntimeException e ) {
+				if( failure == null )
+					failure = e;
+			}
+		}
+		if( failure != null )
+			throw failure;
+	}
+
+	/**
+	 * Index of the first element in the specified block
+	 */
+	private static int blockStart( int start , int end , int numBlocks , int block ) {
+		return start + (int)((long)(end-start)*block/numBlocks);
+	}
+}
@@ -0,0 +1,37 @@
+/*
+ * Copyright (c) 2011-2015, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.concurrency;
+
+/**
+ * Task which is invoked once for a contiguous block of indexes and is provided with a workspace which is
+ * owned exclusively by the block.  See {@link BoofConcurrency#loopBlocks}.
+ *
+ * @author Peter Abeles
+ */
+public interface IntRangeObjectTask<T> {
+
+	/**
+	 * Process all the elements inside the block
+	 *
+	 * @param workspace Workspace which is only used by this block
+	 * @param minInclusive First index in the block
+	 * @param maxExclusive One past the last index in the block
+	 */
+	void call( T workspace , int minInclusive , int maxExclusive );
+}
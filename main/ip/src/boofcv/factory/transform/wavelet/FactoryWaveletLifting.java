@@ -0,0 +1,67 @@
+/*
+ * Copyright (c) 2011-2015, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.factory.transform.wavelet;
+
+import boofcv.alg.transform.wavelet.WaveletLifting_F32;
+import boofcv.alg.transform.wavelet.impl.LiftingBiorthogonal53_F32;
+import boofcv.alg.transform.wavelet.impl.LiftingDaub4_F32;
+import boofcv.alg.transform.wavelet.impl.LiftingHaar_F32;
+import boofcv.core.image.border.BorderType;
+
+
+/**
+ * Creates {@link WaveletLifting_F32 lifting schemes} for wavelets which are also provided by
+ * {@link FactoryWaveletHaar} and {@link FactoryWaveletDaub}.
+ *
+ * @author Peter Abeles
+ */
+public class FactoryWaveletLifting {
+
+	/**
+	 * Haar wavelet.  Same as {@link FactoryWaveletHaar#generate}.
+	 */
+	public static WaveletLifting_F32 haar_F32() {
+		return new LiftingHaar_F32();
+	}
+
+	/**
+	 * DaubJ wavelet.  Same as {@link FactoryWaveletDaub#daubJ_F32}.
+	 *
+	 * @param J The wavelet's degree.
+	 */
+	public static WaveletLifting_F32 daubJ_F32( int J ) {
+		if( J != 4 ) {
+			throw new IllegalArgumentException("Only 4 is currently supported");
+		}
+		return new LiftingDaub4_F32();
+	}
+
+	/**
+	 * Daub J/K biorthogonal wavelet.  Same as {@link FactoryWaveletDaub#biorthogonal_F32}.
+	 *
+	 * @param J The wavelet's degree. K = J-2.
+	 * @param borderType How image borders are handled.
+	 */
+	public static WaveletLifting_F32 biorthogonal_F32( int J , BorderType borderType ) {
+		if( J != 5 ) {
+			throw new IllegalArgumentException("Only 5 is currently supported");
+		}
+		return new LiftingBiorthogonal53_F32(borderType);
+	}
+}
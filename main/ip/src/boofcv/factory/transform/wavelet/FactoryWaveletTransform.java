@@ -21,6 +21,11 @@ package boofcv.factory.transform.wavelet;
 import boofcv.abst.transform.wavelet.WaveletTransform;
 import boofcv.abst.transform.wavelet.impl.WaveletTransformFloat32;
 import boofcv.abst.transform.wavelet.impl.WaveletTransformInt;
+import boofcv.abst.transform.wavelet.impl.WaveletTransformLiftingFloat32;
+import boofcv.alg.transform.wavelet.WaveletLifting_F32;
+import boofcv.alg.transform.wavelet.WaveletTransformLifting_F32;
+import boofcv.alg.transform.wavelet.WaveletTransformLifting_F32_MT;
+import boofcv.concurrency.BoofConcurrency;
 import boofcv.struct.image.ImageFloat32;
 import boofcv.struct.image.ImageInteger;
 import boofcv.struct.image.ImageSInt32;
@@ -90,4 +95,29 @@ public class FactoryWaveletTransform {
 	{
 		return new WaveletTransformFloat32(waveletDesc,numLevels,minPixelValue,maxPixelValue);
 	}
+
+	/**
+	 * Creates a wavelet transform for images that are of type {@link ImageFloat32} which is computed in place
+	 * with a lifting scheme, see {@link FactoryWaveletLifting}.  If {@link BoofConcurrency#USE_CONCURRENT} is
+	 * true then rows and columns are processed in parallel.
+	 *
+	 * @param lifting Lifting scheme of the wavelet.
+	 * @param numLevels Number of levels in the multi-level transform.
+	 * @param minPixelValue Minimum pixel intensity value
+	 * @param maxPixelValue Maximum pixel intensity value
+	 * @return The transform class.
+	 */
+	public static
+	WaveletTransformLiftingFloat32
+	lifting_F32( WaveletLifting_F32 lifting ,
+				 int numLevels, float minPixelValue , float maxPixelValue )
+	{
+		WaveletTransformLifting_F32 alg;
+		if( BoofConcurrency.USE_CONCURRENT )
+			alg = new WaveletTransformLifting_F32_MT(lifting);
+		else
+			alg = new WaveletTransformLifting_F32(lifting);
+
+		return new WaveletTransformLiftingFloat32(alg,numLevels,minPixelValue,maxPixelValue);
+	}
 }
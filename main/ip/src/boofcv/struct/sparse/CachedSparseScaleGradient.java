@@ -0,0 +1,139 @@
+/*
+ * Copyright (c) 2011-2015, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.struct.sparse;
+
+import boofcv.struct.image.ImageSingleBand;
+
+/**
+ * <p>
+ * Wraps around a {@link SparseScaleGradient} and saves the gradient at each pixel it is computed at.  If the
+ * gradient at the same pixel is requested again the saved value is returned instead of being recomputed.
+ * Useful when the sample regions of many features overlap, e.g. when estimating the orientation of all the
+ * features detected in an image.
+ * </p>
+ *
+ * <p>
+ * The cache is cleared when a new image is set or when the scale changes the size of the kernel.  Returned
+ * values are identical to what the wrapped gradient would return.
+ * </p>
+ *
+ * @author Peter Abeles
+ */
+public class CachedSparseScaleGradient<T extends ImageSingleBand, G extends GradientValue>
+		extends SparseScaleGradient<T,G>
+{
+	// the gradient which is being cached
+	protected SparseScaleGradient<T,G> alg;
+
+	// gradient at each pixel
+	protected double gradX[] = new double[0];
+	protected double gradY[] = new double[0];
+	// which pixels have a valid value.  Only pixels marked with the current stamp are valid.
+	protected int stamp[] = new int[0];
+	protected int current = 1;
+
+	// storage for the output
+	private G ret;
+
+	public CachedSparseScaleGradient(SparseScaleGradient<T, G> alg) {
+		this.alg = alg;
+		copyKernelBounds();
+
+		try {
+			ret = alg.getGradientType().newInstance();
+		} catch (InstantiationException e) {
+			throw new RuntimeException(e);
+		} catch (IllegalAccessException e) {
+			throw new RuntimeException(e);
+		}
+	}
+
+	@Override
+	public void setImage(T input) {
+		super.setImage(input);
+		alg.setImage(input);
+
+		int N = input.width*input.height;
+		if( stamp.length < N ) {
+			gradX = new double[N];
+			gradY = new double[N];
+			stamp = new int[N];
+			current = 1;
+		} else {
+			clearCache();
+		}
+	}
+
+	@Override
+	public void setScale(double scale) {
+		alg.setScale(scale);
+
+		// the gradient only depends on the kernel's size.  Only discard the cache if it changes
+		if( alg.x0 != x0 || alg.y0 != y0 || alg.x1 != x1 || alg.y1 != y1 ) {
+			copyKernelBounds();
+			clearCache();
+		}
+	}
+
+	private void copyKernelBounds() {
+		x0 = alg.x0; y0 = alg.y0;
+		x1 = alg.x1; y1 = alg.y1;
+	}
+
+	/**
+	 * Marks all the saved gradient values as invalid
+	 */
+	public void clearCache() {
+		if( current == Integer.MAX_VALUE ) {
+			for( int i = 0; i < stamp.length; i++ )
+				stamp[i] = 0;
+			current = 1;
+		} else {
+			current++;
+		}
+	}
+
+	/**
+	 * Returns the gradient at the specified pixel.  The pixel must be inside the image and the kernel
+	 * requirements must be the same as the wrapped gradient.
+	 */
+	@Override
+	public G compute(int x, int y) {
+		int index = y*input.width + x;
+
+		if( stamp[index] != current ) {
+			G g = alg.compute(x,y);
+			gradX[index] = g.getX();
+			gradY[index] = g.getY();
+			stamp[index] = current;
+		}
+		ret.set(gradX[index],gradY[index]);
+
+		return ret;
+	}
+
+	@Override
+	public Class<G> getGradientType() {
+		return alg.getGradientType();
+	}
+
+	public SparseScaleGradient<T, G> getWrapped() {
+		return alg;
+	}
+}
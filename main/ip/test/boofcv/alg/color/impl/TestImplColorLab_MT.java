@@ -0,0 +1,133 @@
+/*
+ * Copyright (c) 2011-2015, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.color.impl;
+
+import boofcv.alg.misc.GImageMiscOps;
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.struct.image.ImageFloat32;
+import boofcv.struct.image.ImageUInt8;
+import boofcv.struct.image.InterleavedF32;
+import boofcv.struct.image.InterleavedU8;
+import boofcv.struct.image.MultiSpectral;
+import boofcv.testing.BoofTesting;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Random;
+
+/**
+ * @author Peter Abeles
+ */
+public class TestImplColorLab_MT {
+
+	Random rand = new Random(234);
+
+	int width = 31, height = 47;
+
+	int minBlockPixels;
+
+	@Before
+	public void before() {
+		// make the images small enough to be split between threads
+		minBlockPixels = BoofConcurrency.MIN_BLOCK_PIXELS;
+		BoofConcurrency.MIN_BLOCK_PIXELS = 3*width;
+	}
+
+	@After
+	public void after() {
+		BoofConcurrency.MIN_BLOCK_PIXELS = minBlockPixels;
+	}
+
+	@Test
+	public void rgbToLab_U8() {
+		MultiSpectral<ImageUInt8> input = new MultiSpectral<ImageUInt8>(ImageUInt8.class,width,height,3);
+		MultiSpectral<ImageFloat32> expected = new MultiSpectral<ImageFloat32>(ImageFloat32.class,width,height,3);
+		MultiSpectral<ImageFloat32> found = new MultiSpectral<ImageFloat32>(ImageFloat32.class,width,height,3);
+		input = BoofTesting.createSubImageOf_MS(input);
+		found = BoofTesting.createSubImageOf_MS(found);
+		GImageMiscOps.fillUniform(input, rand, 0, 255);
+
+		ImplColorLab.rgbToLab_U8(input, expected, 0, height);
+		ImplColorLab_MT.rgbToLab_U8(input, found);
+
+		BoofTesting.assertEquals(expected, found, 0);
+	}
+
+	@Test
+	public void rgbToLab_U8_interleaved() {
+		InterleavedU8 input = new InterleavedU8(width,height,3);
+		InterleavedF32 expected = new InterleavedF32(width,height,3);
+		InterleavedF32 found = new InterleavedF32(width,height,3);
+		input = BoofTesting.createSubImageOf_I(input);
+		found = BoofTesting.createSubImageOf_I(found);
+		GImageMiscOps.fillUniform(input, rand, 0, 255);
+
+		ImplColorLab.rgbToLab_U8(input, expected, 0, height);
+		ImplColorLab_MT.rgbToLab_U8(input, found);
+
+		BoofTesting.assertEquals(expected, found, 0);
+
+		// the interleaved and planar implementations should produce the same results
+		MultiSpectral<ImageUInt8> planarIn = new MultiSpectral<ImageUInt8>(ImageUInt8.class,width,height,3);
+		MultiSpectral<ImageFloat32> planarOut = new MultiSpectral<ImageFloat32>(ImageFloat32.class,width,height,3);
+		UtilColorTests.copy(input, planarIn);
+		ImplColorLab.rgbToLab_U8(planarIn, planarOut, 0, height);
+
+		UtilColorTests.assertEqualsPlanar(expected, planarOut, 0);
+	}
+
+	@Test
+	public void rgbToLab_F32() {
+		MultiSpectral<ImageFloat32> input = new MultiSpectral<ImageFloat32>(ImageFloat32.class,width,height,3);
+		MultiSpectral<ImageFloat32> expected = new MultiSpectral<ImageFloat32>(ImageFloat32.class,width,height,3);
+		MultiSpectral<ImageFloat32> found = new MultiSpectral<ImageFloat32>(ImageFloat32.class,width,height,3);
+		input = BoofTesting.createSubImageOf_MS(input);
+		found = BoofTesting.createSubImageOf_MS(found);
+		GImageMiscOps.fillUniform(input, rand, 0, 255);
+
+		ImplColorLab.rgbToLab_F32(input, expected, 0, height);
+		ImplColorLab_MT.rgbToLab_F32(input, found);
+
+		BoofTesting.assertEquals(expected, found, 0);
+	}
+
+	@Test
+	public void rgbToLab_F32_interleaved() {
+		InterleavedF32 input = new InterleavedF32(width,height,3);
+		InterleavedF32 expected = new InterleavedF32(width,height,3);
+		InterleavedF32 found = new InterleavedF32(width,height,3);
+		input = BoofTesting.createSubImageOf_I(input);
+		found = BoofTesting.createSubImageOf_I(found);
+		GImageMiscOps.fillUniform(input, rand, 0, 255);
+
+		ImplColorLab.rgbToLab_F32(input, expected, 0, height);
+		ImplColorLab_MT.rgbToLab_F32(input, found);
+
+		BoofTesting.assertEquals(expected, found, 0);
+
+		// the interleaved and planar implementations should produce the same results
+		MultiSpectral<ImageFloat32> planarIn = new MultiSpectral<ImageFloat32>(ImageFloat32.class,width,height,3);
+		MultiSpectral<ImageFloat32> planarOut = new MultiSpectral<ImageFloat32>(ImageFloat32.class,width,height,3);
+		UtilColorTests.copy(input, planarIn);
+		ImplColorLab.rgbToLab_F32(planarIn, planarOut, 0, height);
+
+		UtilColorTests.assertEqualsPlanar(expected, planarOut, 0);
+	}
+}
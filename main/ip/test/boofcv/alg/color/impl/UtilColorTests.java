@@ -0,0 +1,62 @@
+/*
+ * Copyright (c) 2011-2015, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.color.impl;
+
+import boofcv.core.image.GeneralizedImageOps;
+import boofcv.struct.image.ImageInterleaved;
+import boofcv.struct.image.MultiSpectral;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Functions for comparing color conversions of interleaved and planar images
+ *
+ * @author Peter Abeles
+ */
+public class UtilColorTests {
+
+	/**
+	 * Copies an interleaved image into a {@link MultiSpectral} image of the same shape
+	 */
+	public static void copy( ImageInterleaved src , MultiSpectral dst ) {
+		for( int band = 0; band < src.getNumBands(); band++ ) {
+			for( int y = 0; y < src.height; y++ ) {
+				for( int x = 0; x < src.width; x++ ) {
+					GeneralizedImageOps.set(dst.getBand(band),x,y,GeneralizedImageOps.get(src,x,y,band));
+				}
+			}
+		}
+	}
+
+	/**
+	 * Checks to see if the two images have the same pixel values
+	 */
+	public static void assertEqualsPlanar( ImageInterleaved a , MultiSpectral b , double tol ) {
+		for( int band = 0; band < a.getNumBands(); band++ ) {
+			for( int y = 0; y < a.height; y++ ) {
+				for( int x = 0; x < a.width; x++ ) {
+					double valA = GeneralizedImageOps.get(a,x,y,band);
+					double valB = GeneralizedImageOps.get(b.getBand(band),x,y);
+
+					assertEquals(valB,valA,tol);
+				}
+			}
+		}
+	}
+}
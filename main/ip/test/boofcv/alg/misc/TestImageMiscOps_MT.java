@@ -0,0 +1,234 @@
+/*
+ * Copyright (c) 2011-2015, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.misc;
+
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.core.image.GeneralizedImageOps;
+import boofcv.struct.image.ImageBase;
+import boofcv.struct.image.ImageInterleaved;
+import boofcv.testing.BoofTesting;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * @author Peter Abeles
+ */
+public class TestImageMiscOps_MT {
+
+	Random rand = new Random(234);
+
+	int width = 21, height = 30;
+	int numBands = 3;
+
+	int minBlockPixels;
+
+	@Before
+	public void before() {
+		// make the images small enough to be split between threads
+		minBlockPixels = BoofConcurrency.MIN_BLOCK_PIXELS;
+		BoofConcurrency.MIN_BLOCK_PIXELS = 3*width;
+	}
+
+	@After
+	public void after() {
+		BoofConcurrency.MIN_BLOCK_PIXELS = minBlockPixels;
+	}
+
+	@Test
+	public void checkAll() {
+		int numExpected = 6*6*2;
+		Method methods[] = ImageMiscOps_MT.class.getMethods();
+
+		int numFound = 0;
+		for (Method m : methods) {
+			if( !isTestMethod(m))
+				continue;
+			try {
+				if( m.getName().compareTo("copy") == 0 ) {
+					testCopy(m);
+				} else if( m.getName().compareTo("fill") == 0 ) {
+					testFill(m);
+				} else if( m.getName().compareTo("flipVertical") == 0 ) {
+					testFlipVertical(m);
+				} else if( m.getName().compareTo("flipHorizontal") == 0 ) {
+					testFlipHorizontal(m);
+				} else if( m.getName().compareTo("rotateCW") == 0 ) {
+					testRotateCW(m);
+				} else if( m.getName().compareTo("rotateCCW") == 0 ) {
+					testRotateCCW(m);
+				} else {
+					throw new RuntimeException("Unknown function: "+m.getName());
+				}
+			} catch (InvocationTargetException e) {
+				throw new RuntimeException(e);
+			} catch (IllegalAccessException e) {
+				throw new RuntimeException(e);
+			}
+
+			numFound++;
+		}
+
+		// update this as needed when new functions are added
+		if(numExpected != numFound)
+			throw new RuntimeException("Unexpected number of methods: Found "+numFound+"  expected "+numExpected);
+	}
+
+	private boolean isTestMethod(Method m ) {
+		Class param[] = m.getParameterTypes();
+
+		for( Class p : param ) {
+			if( ImageBase.class.isAssignableFrom(p) )
+				return true;
+		}
+		return false;
+	}
+
+	/**
+	 * Creates a sub-image filled with random values
+	 */
+	private ImageBase create( Class type , int width , int height ) {
+		ImageBase img;
+		if( ImageInterleaved.class.isAssignableFrom(type) )
+			img = GeneralizedImageOps.createInterleaved(type, width, height, numBands);
+		else
+			img = GeneralizedImageOps.createSingleBand(type, width, height);
+		GImageMiscOps.fillUniform(img, rand, 0, 100);
+		return BoofTesting.createSubImageOf(img);
+	}
+
+	private int bands( ImageBase img ) {
+		return img instanceof ImageInterleaved ? ((ImageInterleaved)img).numBands : 1;
+	}
+
+	private double get( ImageBase img , int x , int y , int band ) {
+		return GeneralizedImageOps.get(img, x, y, band);
+	}
+
+	private void testCopy( Method m ) throws InvocationTargetException, IllegalAccessException {
+		Class paramTypes[] = m.getParameterTypes();
+		ImageBase src = create(paramTypes[6], width, height);
+		ImageBase dst = create(paramTypes[7], width, height);
+
+		int srcX = 2, srcY = 3, dstX = 4, dstY = 1, w = 12, h = 20;
+		m.invoke(null, srcX, srcY, dstX, dstY, w, h, src, dst);
+
+		for( int y = 0; y < h; y++ ) {
+			for( int x = 0; x < w; x++ ) {
+				for( int band = 0; band < bands(src); band++ ) {
+					assertEquals(get(src, srcX + x, srcY + y, band), get(dst, dstX + x, dstY + y, band), 0);
+				}
+			}
+		}
+	}
+
+	private void testFill( Method m ) throws InvocationTargetException, IllegalAccessException {
+		Class paramTypes[] = m.getParameterTypes();
+		ImageBase img = create(paramTypes[0], width, height);
+
+		Object value;
+		if( paramTypes[1] == int.class )
+			value = 7;
+		else if( paramTypes[1] == long.class )
+			value = 7L;
+		else if( paramTypes[1] == float.class )
+			value = 7f;
+		else
+			value = 7.0;
+		m.invoke(null, img, value);
+
+		for( int y = 0; y < height; y++ ) {
+			for( int x = 0; x < width; x++ ) {
+				for( int band = 0; band < bands(img); band++ ) {
+					assertEquals(7, get(img, x, y, band), 0);
+				}
+			}
+		}
+	}
+
+	private void testFlipVertical( Method m ) throws InvocationTargetException, IllegalAccessException {
+		Class paramTypes[] = m.getParameterTypes();
+		ImageBase img = create(paramTypes[0], width, height);
+		ImageBase orig = img.clone();
+
+		m.invoke(null, img);
+
+		for( int y = 0; y < height; y++ ) {
+			for( int x = 0; x < width; x++ ) {
+				for( int band = 0; band < bands(img); band++ ) {
+					assertEquals(get(orig, x, height - y - 1, band), get(img, x, y, band), 0);
+				}
+			}
+		}
+	}
+
+	private void testFlipHorizontal( Method m ) throws InvocationTargetException, IllegalAccessException {
+		Class paramTypes[] = m.getParameterTypes();
+		ImageBase img = create(paramTypes[0], width, height);
+		ImageBase orig = img.clone();
+
+		m.invoke(null, img);
+
+		for( int y = 0; y < height; y++ ) {
+			for( int x = 0; x < width; x++ ) {
+				for( int band = 0; band < bands(img); band++ ) {
+					assertEquals(get(orig, width - x - 1, y, band), get(img, x, y, band), 0);
+				}
+			}
+		}
+	}
+
+	private void testRotateCW( Method m ) throws InvocationTargetException, IllegalAccessException {
+		Class paramTypes[] = m.getParameterTypes();
+		ImageBase input = create(paramTypes[0], width, height);
+		ImageBase output = create(paramTypes[1], height, width);
+
+		m.invoke(null, input, output);
+
+		for( int y = 0; y < height; y++ ) {
+			for( int x = 0; x < width; x++ ) {
+				for( int band = 0; band < bands(input); band++ ) {
+					assertEquals(get(input, x, y, band), get(output, height - y - 1, x, band), 0);
+				}
+			}
+		}
+	}
+
+	private void testRotateCCW( Method m ) throws InvocationTargetException, IllegalAccessException {
+		Class paramTypes[] = m.getParameterTypes();
+		ImageBase input = create(paramTypes[0], width, height);
+		ImageBase output = create(paramTypes[1], height, width);
+
+		m.invoke(null, input, output);
+
+		for( int y = 0; y < height; y++ ) {
+			for( int x = 0; x < width; x++ ) {
+				for( int band = 0; band < bands(input); band++ ) {
+					assertEquals(get(input, x, y, band), get(output, y, width - x - 1, band), 0);
+				}
+			}
+		}
+	}
+}
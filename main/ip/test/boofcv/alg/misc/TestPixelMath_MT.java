@@ -0,0 +1,188 @@
+/*
+ * Copyright (c) 2011-2015, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.misc;
+
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.core.image.GeneralizedImageOps;
+import boofcv.struct.image.*;
+import boofcv.testing.BoofTesting;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Compares the output of each function in {@link PixelMath_MT} against the equivalent function in {@link PixelMath}.
+ * Interleaved images are compared against a single band image with the same data and a width of width*numBands.
+ *
+ * @author Peter Abeles
+ */
+public class TestPixelMath_MT {
+
+	Random rand = new Random(234);
+
+	int width = 21, height = 30;
+	int numBands = 3;
+
+	int minBlockPixels;
+
+	@Before
+	public void before() {
+		// make the images small enough to be split between threads
+		minBlockPixels = BoofConcurrency.MIN_BLOCK_PIXELS;
+		BoofConcurrency.MIN_BLOCK_PIXELS = 3*width;
+	}
+
+	@After
+	public void after() {
+		BoofConcurrency.MIN_BLOCK_PIXELS = minBlockPixels;
+	}
+
+	@Test
+	public void checkAll() {
+		int numExpected = 2*(2*6 + 8*8 + 2*8 + 5*2);
+		Method methods[] = PixelMath_MT.class.getMethods();
+
+		int numFound = 0;
+		for (Method m : methods) {
+			Class param[] = m.getParameterTypes();
+			if( param.length < 1 || !ImageBase.class.isAssignableFrom(param[0]) )
+				continue;
+
+			try {
+				compare(m);
+			} catch (InvocationTargetException e) {
+				throw new RuntimeException(e);
+			} catch (IllegalAccessException e) {
+				throw new RuntimeException(e);
+			} catch (NoSuchMethodException e) {
+				throw new RuntimeException(e);
+			} catch (NoSuchFieldException e) {
+				throw new RuntimeException(e);
+			}
+			numFound++;
+		}
+
+		assertEquals(numExpected, numFound);
+	}
+
+	/**
+	 * Invokes the concurrent function on sub-images and the single threaded function in {@link PixelMath} on
+	 * the same data, then compares every image which was passed in.
+	 */
+	private void compare( Method m )
+			throws InvocationTargetException, IllegalAccessException, NoSuchMethodException, NoSuchFieldException
+	{
+		Class params[] = m.getParameterTypes();
+		boolean interleaved = ImageInterleaved.class.isAssignableFrom(params[0]);
+		int bands = interleaved ? numBands : 1;
+
+		Class paramsSingle[] = new Class[params.length];
+		for( int i = 0; i < params.length; i++ ) {
+			paramsSingle[i] = interleaved ? singleBandType(params[i]) : params[i];
+		}
+		Method single = PixelMath.class.getMethod(m.getName(), paramsSingle);
+
+		Object argsExpected[] = new Object[params.length];
+		Object argsFound[] = new Object[params.length];
+
+		// values of scalar parameters
+		double scalars[] = new double[]{3,5,15};
+		int numScalars = 0;
+
+		for( int i = 0; i < params.length; i++ ) {
+			if( ImageBase.class.isAssignableFrom(params[i]) ) {
+				ImageSingleBand expected = GeneralizedImageOps.createSingleBand(paramsSingle[i], width*bands, height);
+				if( expected.getDataType().isSigned() )
+					GImageMiscOps.fillUniform(expected, rand, -20, 20);
+				else
+					GImageMiscOps.fillUniform(expected, rand, 0, 20);
+
+				argsExpected[i] = expected;
+				if( interleaved ) {
+					ImageInterleaved found = GeneralizedImageOps.createInterleaved(params[i], width, height, numBands);
+					Object data = found.getClass().getField("data").get(found);
+					Object dataExpected = expected.getClass().getField("data").get(expected);
+					System.arraycopy(dataExpected, 0, data, 0, width*height*numBands);
+					argsFound[i] = BoofTesting.createSubImageOf(found);
+				} else {
+					argsFound[i] = BoofTesting.createSubImageOf(expected);
+				}
+			} else {
+				double value = scalars[numScalars++];
+				Object arg;
+				if( params[i] == int.class )
+					arg = (int)value;
+				else if( params[i] == long.class )
+					arg = (long)value;
+				else if( params[i] == float.class )
+					arg = (float)value;
+				else
+					arg = value;
+				argsExpected[i] = arg;
+				argsFound[i] = arg;
+			}
+		}
+
+		single.invoke(null, argsExpected);
+		m.invoke(null, argsFound);
+
+		for( int i = 0; i < params.length; i++ ) {
+			if( !(argsExpected[i] instanceof ImageBase) )
+				continue;
+
+			if( interleaved ) {
+				ImageSingleBand expected = (ImageSingleBand)argsExpected[i];
+				ImageInterleaved found = (ImageInterleaved)argsFound[i];
+				for( int y = 0; y < height; y++ ) {
+					for( int x = 0; x < width; x++ ) {
+						for( int band = 0; band < numBands; band++ ) {
+							assertEquals(m.getName(),GeneralizedImageOps.get(expected, x*numBands + band, y),
+									GeneralizedImageOps.get(found, x, y, band), 0);
+						}
+					}
+				}
+			} else {
+				BoofTesting.assertEquals((ImageBase)argsExpected[i], (ImageBase)argsFound[i], 0);
+			}
+		}
+	}
+
+	/**
+	 * Single band image type which stores its data in the same type of array as the interleaved image
+	 */
+	private static Class singleBandType( Class type ) {
+		if( type == InterleavedI8.class ) return ImageInt8.class;
+		if( type == InterleavedU8.class ) return ImageUInt8.class;
+		if( type == InterleavedS8.class ) return ImageSInt8.class;
+		if( type == InterleavedI16.class ) return ImageInt16.class;
+		if( type == InterleavedU16.class ) return ImageUInt16.class;
+		if( type == InterleavedS16.class ) return ImageSInt16.class;
+		if( type == InterleavedS32.class ) return ImageSInt32.class;
+		if( type == InterleavedS64.class ) return ImageSInt64.class;
+		if( type == InterleavedF32.class ) return ImageFloat32.class;
+		if( type == InterleavedF64.class ) return ImageFloat64.class;
+		return type;
+	}
+}
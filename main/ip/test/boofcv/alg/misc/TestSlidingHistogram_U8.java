@@ -0,0 +1,148 @@
+/*
+ * Copyright (c) 2011-2015, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.misc;
+
+import boofcv.struct.image.ImageUInt8;
+import boofcv.testing.BoofTesting;
+import org.junit.Test;
+
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+
+/**
+ * @author Peter Abeles
+ */
+public class TestSlidingHistogram_U8 {
+
+	Random rand = new Random(234);
+
+	int width = 30, height = 40;
+
+	@Test
+	public void setWindow() {
+		ImageUInt8 image = new ImageUInt8(width,height);
+		ImageMiscOps.fillUniform(image, rand, 0, 100);
+
+		SlidingHistogram_U8 alg = new SlidingHistogram_U8(99,10);
+		alg.setImage(image);
+		alg.setWindow(3,4,7,9);
+
+		check(alg,image,99);
+		assertEquals(7*9,alg.getTotal());
+	}
+
+	@Test
+	public void slide() {
+		ImageUInt8 image = new ImageUInt8(width,height);
+		ImageMiscOps.fillUniform(image, rand, 0, 256);
+
+		// test a regular image and a sub-image
+		for( int i = 0; i < 2; i++ ) {
+			SlidingHistogram_U8 alg = new SlidingHistogram_U8(255,16);
+			alg.setImage(image);
+			alg.setWindow(5,6,8,5);
+
+			alg.slideRight(); check(alg,image,255);
+			alg.slideDown(); check(alg,image,255);
+			alg.slideLeft(); check(alg,image,255);
+			alg.slideUp(); check(alg,image,255);
+
+			// scan across the whole image
+			alg.setWindow(0,0,8,5);
+			for( int y = 0; y <= height-5; y++ ) {
+				for( int x = 0; x <= width-8; x++ ) {
+					alg.moveTo(x,y);
+					check(alg,image,255);
+				}
+			}
+
+			image = BoofTesting.createSubImageOf(image);
+		}
+	}
+
+	@Test
+	public void moveTo_far() {
+		ImageUInt8 image = new ImageUInt8(width,height);
+		ImageMiscOps.fillUniform(image, rand, 0, 256);
+
+		SlidingHistogram_U8 alg = new SlidingHistogram_U8(255,7);
+		alg.setImage(image);
+		alg.setWindow(0,0,6,6);
+
+		alg.moveTo(20,30);
+		assertEquals(20,alg.getX0());
+		assertEquals(30,alg.getY0());
+		check(alg,image,255);
+	}
+
+	@Test(expected=IllegalArgumentException.class)
+	public void outsideImage() {
+		ImageUInt8 image = new ImageUInt8(width,height);
+
+		SlidingHistogram_U8 alg = new SlidingHistogram_U8(255,7);
+		alg.setImage(image);
+		alg.setWindow(width-6,0,6,6);
+		alg.slideRight();
+	}
+
+	/**
+	 * Moving partially outside the image should fail without modifying the window or histogram
+	 */
+	@Test
+	public void moveTo_outsideImage() {
+		ImageUInt8 image = new ImageUInt8(width,height);
+		ImageMiscOps.fillUniform(image, rand, 0, 256);
+
+		SlidingHistogram_U8 alg = new SlidingHistogram_U8(255,7);
+		alg.setImage(image);
+		alg.setWindow(width-10,2,8,8);
+
+		try {
+			alg.moveTo(width-7,2);
+			fail("Exception should have been thrown");
+		} catch( IllegalArgumentException ignore ) {}
+
+		assertEquals(width-10,alg.getX0());
+		assertEquals(2,alg.getY0());
+		check(alg,image,255);
+	}
+
+	@Test(expected=IllegalArgumentException.class)
+	public void negativeMaxPixelValue() {
+		new SlidingHistogram_U8(-1,7);
+	}
+
+	private void check( SlidingHistogram_U8 alg , ImageUInt8 image , int maxPixelValue ) {
+		int numBins = alg.getHistogram().length;
+		int expected[] = new int[numBins];
+
+		for( int y = 0; y < alg.getHeight(); y++ ) {
+			for( int x = 0; x < alg.getWidth(); x++ ) {
+				int value = image.get(alg.getX0()+x,alg.getY0()+y);
+				expected[numBins*value/(maxPixelValue+1)]++;
+			}
+		}
+
+		for( int i = 0; i < numBins; i++ ) {
+			assertEquals(expected[i],alg.getHistogram()[i]);
+		}
+	}
+}
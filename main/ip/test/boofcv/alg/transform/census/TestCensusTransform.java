@@ -0,0 +1,122 @@
+/*
+ * Copyright (c) 2011-2015, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.transform.census;
+
+import boofcv.alg.misc.ImageMiscOps;
+import boofcv.struct.image.ImageSInt32;
+import boofcv.struct.image.ImageSInt64;
+import boofcv.struct.image.ImageUInt8;
+import boofcv.testing.BoofTesting;
+import org.junit.Test;
+
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * @author Peter Abeles
+ */
+public class TestCensusTransform {
+
+	Random rand = new Random(234);
+
+	int width = 30;
+	int height = 25;
+
+	@Test
+	public void region5x5() {
+		ImageUInt8 input = new ImageUInt8(width,height);
+		ImageMiscOps.fillUniform(input, rand, 0, 255);
+
+		ImageSInt32 found = CensusTransform.region5x5(input, null);
+
+		for (int y = 0; y < height; y++) {
+			for (int x = 0; x < width; x++) {
+				assertEquals(naive(input, x, y, 2, 2), found.get(x, y));
+			}
+		}
+
+		// sub-images
+		ImageUInt8 subInput = BoofTesting.createSubImageOf(input);
+		ImageSInt32 subFound = BoofTesting.createSubImageOf(found);
+		ImageMiscOps.fill(subFound,0);
+		CensusTransform.region5x5(subInput, subFound);
+		BoofTesting.assertEquals(found, subFound, 0);
+	}
+
+	@Test
+	public void region9x7() {
+		ImageUInt8 input = new ImageUInt8(width,height);
+		ImageMiscOps.fillUniform(input, rand, 0, 255);
+
+		ImageSInt64 found = CensusTransform.region9x7(input, null);
+
+		for (int y = 0; y < height; y++) {
+			for (int x = 0; x < width; x++) {
+				assertEquals(naive(input, x, y, 4, 3), found.get(x, y));
+			}
+		}
+
+		// sub-images
+		ImageUInt8 subInput = BoofTesting.createSubImageOf(input);
+		ImageSInt64 subFound = BoofTesting.createSubImageOf(found);
+		ImageMiscOps.fill(subFound,0);
+		CensusTransform.region9x7(subInput, subFound);
+		BoofTesting.assertEquals(found, subFound, 0);
+	}
+
+	/**
+	 * Hand constructed example
+	 */
+	@Test
+	public void region5x5_simple() {
+		ImageUInt8 input = new ImageUInt8(5,5);
+		ImageMiscOps.fill(input,100);
+		// first neighbor, top left corner
+		input.set(0,0,10);
+		// last neighbor, bottom right corner
+		input.set(4,4,10);
+		// larger values are ignored
+		input.set(1,1,200);
+
+		ImageSInt32 found = CensusTransform.region5x5(input, null);
+
+		assertEquals(1 | (1 << 23), found.get(2,2));
+	}
+
+	/**
+	 * Computes the census transform with bounds checking and an explicit x and y loop
+	 */
+	private long naive( ImageUInt8 input , int cx , int cy , int radiusX , int radiusY ) {
+		int center = input.get(cx, cy);
+		long census = 0;
+		int bit = 0;
+		for (int y = cy - radiusY; y <= cy + radiusY; y++) {
+			for (int x = cx - radiusX; x <= cx + radiusX; x++) {
+				if( x == cx && y == cy )
+					continue;
+				int value = input.isInBounds(x, y) ? input.get(x, y) : 0;
+				if( value < center )
+					census |= 1L << bit;
+				bit++;
+			}
+		}
+		return census;
+	}
+}
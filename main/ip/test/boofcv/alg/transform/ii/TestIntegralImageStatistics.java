@@ -0,0 +1,118 @@
+/*
+ * Copyright (c) 2011-2015, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.transform.ii;
+
+import boofcv.alg.misc.GImageMiscOps;
+import boofcv.core.image.GeneralizedImageOps;
+import boofcv.struct.image.ImageFloat32;
+import boofcv.struct.image.ImageSingleBand;
+import boofcv.struct.image.ImageUInt8;
+import boofcv.testing.BoofTesting;
+import org.junit.Test;
+
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * @author Peter Abeles
+ */
+public class TestIntegralImageStatistics {
+
+	Random rand = new Random(234);
+
+	int width = 30, height = 40;
+
+	@Test
+	public void inside_U8() {
+		inside(ImageUInt8.class, 1e-8);
+	}
+
+	@Test
+	public void inside_F32() {
+		inside(ImageFloat32.class, 1e-2);
+	}
+
+	@Test
+	public void border() {
+		ImageUInt8 image = new ImageUInt8(width,height);
+		GImageMiscOps.fillUniform(image, rand, 0, 200);
+
+		IntegralImageStatistics<ImageUInt8> alg = new IntegralImageStatistics<ImageUInt8>(ImageUInt8.class);
+		alg.setImage(image);
+
+		// touches the lower and upper border
+		check(alg, image, 0, 0, 5, 7, 1e-8);
+		check(alg, image, width-5, height-7, width, height, 1e-8);
+		check(alg, image, 0, 0, width, height, 1e-8);
+
+		// partially outside of the image, those pixels are zero but are included in the area
+		double expected = sum(image,0,0,4,5);
+		assertEquals(expected, alg.sum(-2, -3, 4, 5), 1e-8);
+		assertEquals(expected/(6*8), alg.mean(-2, -3, 4, 5), 1e-8);
+	}
+
+	private <T extends ImageSingleBand> void inside( Class<T> type , double tol ) {
+		T image = GeneralizedImageOps.createSingleBand(type, width, height);
+		GImageMiscOps.fillUniform(image, rand, 0, 200);
+
+		// test a regular image and a sub-image
+		for( int i = 0; i < 2; i++ ) {
+			IntegralImageStatistics<T> alg = new IntegralImageStatistics<T>(type);
+			alg.setImage(image);
+
+			check(alg, image, 3, 4, 15, 20, tol);
+			check(alg, image, 10, 2, 11, 3, tol);
+
+			image = BoofTesting.createSubImageOf(image);
+		}
+	}
+
+	private void check( IntegralImageStatistics alg , ImageSingleBand image , int x0 , int y0 , int x1 , int y1 ,
+						double tol ) {
+		double area = (x1-x0)*(y1-y0);
+		double sum = sum(image, x0, y0, x1, y1);
+		double mean = sum/area;
+
+		double sumSq = 0, variance = 0;
+		for( int y = y0; y < y1; y++ ) {
+			for( int x = x0; x < x1; x++ ) {
+				double v = GeneralizedImageOps.get(image,x,y);
+				sumSq += v*v;
+				variance += (v-mean)*(v-mean);
+			}
+		}
+		variance /= area;
+
+		assertEquals(sum, alg.sum(x0, y0, x1, y1), tol);
+		assertEquals(sumSq, alg.sumSq(x0, y0, x1, y1), tol);
+		assertEquals(mean, alg.mean(x0, y0, x1, y1), tol);
+		assertEquals(variance, alg.variance(x0, y0, x1, y1), tol);
+	}
+
+	private double sum( ImageSingleBand image , int x0 , int y0 , int x1 , int y1 ) {
+		double total = 0;
+		for( int y = y0; y < y1; y++ ) {
+			for( int x = x0; x < x1; x++ ) {
+				total += GeneralizedImageOps.get(image,x,y);
+			}
+		}
+		return total;
+	}
+}
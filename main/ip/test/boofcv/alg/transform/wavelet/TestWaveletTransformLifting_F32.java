@@ -0,0 +1,228 @@
+/*
+ * Copyright (c) 2011-2015, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.transform.wavelet;
+
+import boofcv.alg.denoise.wavelet.UtilDenoiseWavelet;
+import boofcv.alg.misc.ImageMiscOps;
+import boofcv.alg.misc.ImageStatistics;
+import boofcv.core.image.border.BorderType;
+import boofcv.factory.transform.wavelet.FactoryWaveletLifting;
+import boofcv.struct.image.ImageDimension;
+import boofcv.struct.image.ImageFloat32;
+import boofcv.struct.wavelet.WaveletDescription;
+import boofcv.struct.wavelet.WlCoef_F32;
+import boofcv.testing.BoofTesting;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * @author Peter Abeles
+ */
+public class TestWaveletTransformLifting_F32 {
+
+	Random rand = new Random(234);
+
+	protected WaveletTransformLifting_F32 createAlg( WaveletLifting_F32 lifting ) {
+		return new WaveletTransformLifting_F32(lifting);
+	}
+
+	private List<WaveletLifting_F32> createLiftings() {
+		List<WaveletLifting_F32> list = new ArrayList<WaveletLifting_F32>();
+		list.add(FactoryWaveletLifting.haar_F32());
+		list.add(FactoryWaveletLifting.daubJ_F32(4));
+		list.add(FactoryWaveletLifting.biorthogonal_F32(5, BorderType.REFLECT));
+		list.add(FactoryWaveletLifting.biorthogonal_F32(5, BorderType.WRAP));
+		return list;
+	}
+
+	/**
+	 * Compare the forward transform against {@link WaveletTransformOps}
+	 */
+	@Test
+	public void transformN_compareToOps() {
+		for( WaveletLifting_F32 lifting : createLiftings() ) {
+			for( int numLevels = 1; numLevels <= 3; numLevels++ ) {
+				checkTransform(lifting, 24, 32, numLevels, false);
+				checkTransform(lifting, 24, 32, numLevels, true);
+			}
+			// odd shaped images are padded by one pixel
+			checkTransform(lifting, 21, 15, 1, false);
+		}
+	}
+
+	private void checkTransform( WaveletLifting_F32 lifting , int width , int height , int numLevels ,
+								 boolean subimage ) {
+		WaveletDescription<WlCoef_F32> desc = lifting.getDescription();
+
+		ImageFloat32 input = new ImageFloat32(width,height);
+		ImageMiscOps.fillUniform(input, rand, 0, 100);
+		ImageDimension d = UtilWavelet.transformDimension(input,numLevels);
+
+		ImageFloat32 expected = new ImageFloat32(d.width,d.height);
+		WaveletTransformOps.transformN(desc,input.clone(),expected,null,numLevels);
+
+		ImageFloat32 found = new ImageFloat32(d.width,d.height);
+		ImageMiscOps.fillUniform(found, rand, 0, 100);
+		if( subimage ) {
+			input = BoofTesting.createSubImageOf(input);
+			found = BoofTesting.createSubImageOf(found);
+		}
+		ImageFloat32 original = input.clone();
+
+		createAlg(lifting).transformN(input,found,numLevels);
+
+		BoofTesting.assertEquals(expected, found, 1e-2);
+		// the input should not be modified
+		BoofTesting.assertEquals(original, input, 0);
+	}
+
+	/**
+	 * Transform and then invert the image, which should produce the original image.  Also compare against
+	 * {@link WaveletTransformOps}.
+	 */
+	@Test
+	public void inverseN() {
+		for( WaveletLifting_F32 lifting : createLiftings() ) {
+			for( int numLevels = 1; numLevels <= 3; numLevels++ ) {
+				checkInverse(lifting, 24, 32, numLevels, false);
+				checkInverse(lifting, 24, 32, numLevels, true);
+			}
+			checkInverse(lifting, 21, 15, 1, false);
+		}
+	}
+
+	private void checkInverse( WaveletLifting_F32 lifting , int width , int height , int numLevels ,
+							   boolean subimage ) {
+		WaveletDescription<WlCoef_F32> desc = lifting.getDescription();
+		WaveletTransformLifting_F32 alg = createAlg(lifting);
+
+		ImageFloat32 input = new ImageFloat32(width,height);
+		ImageMiscOps.fillUniform(input, rand, 0, 100);
+		ImageDimension d = UtilWavelet.transformDimension(input,numLevels);
+
+		ImageFloat32 transform = new ImageFloat32(d.width,d.height);
+		alg.transformN(input,transform,numLevels);
+
+		ImageFloat32 expected = new ImageFloat32(width,height);
+		WaveletTransformOps.inverseN(desc,transform.clone(),expected,null,numLevels,-Float.MAX_VALUE,Float.MAX_VALUE);
+
+		ImageFloat32 found = new ImageFloat32(width,height);
+		if( subimage ) {
+			transform = BoofTesting.createSubImageOf(transform);
+			found = BoofTesting.createSubImageOf(found);
+		}
+		alg.inverseN(transform,found,numLevels,-Float.MAX_VALUE,Float.MAX_VALUE);
+
+		BoofTesting.assertEquals(input, found, 1e-2);
+		BoofTesting.assertEquals(expected, found, 1e-2);
+	}
+
+	/**
+	 * The inverse should bound the pixel values
+	 */
+	@Test
+	public void inverseN_bounds() {
+		WaveletTransformLifting_F32 alg = createAlg(FactoryWaveletLifting.daubJ_F32(4));
+
+		ImageFloat32 input = new ImageFloat32(24,32);
+		ImageMiscOps.fillUniform(input, rand, 0, 100);
+		ImageFloat32 transform = new ImageFloat32(24,32);
+		alg.transformN(input,transform,2);
+
+		ImageFloat32 found = new ImageFloat32(24,32);
+		alg.inverseN(transform,found,2,20,80);
+
+		assertTrue(ImageStatistics.min(found) >= 20);
+		assertTrue(ImageStatistics.max(found) <= 80);
+	}
+
+	/**
+	 * Compare the statistics computed along with the transform against statistics computed directly
+	 * from the subbands
+	 */
+	@Test
+	public void statistics() {
+		for( WaveletLifting_F32 lifting : createLiftings() ) {
+			checkStatistics(lifting, false);
+			checkStatistics(lifting, true);
+		}
+	}
+
+	private void checkStatistics( WaveletLifting_F32 lifting , boolean subimage ) {
+		int numLevels = 3;
+		WaveletTransformLifting_F32 alg = createAlg(lifting);
+		alg.setComputeStatistics(true);
+
+		ImageFloat32 input = new ImageFloat32(32,40);
+		ImageMiscOps.fillUniform(input, rand, 0, 100);
+		ImageFloat32 transform = new ImageFloat32(32,40);
+		if( subimage )
+			transform = BoofTesting.createSubImageOf(transform);
+
+		// do it twice to make sure the statistics are reset
+		for( int trial = 0; trial < 2; trial++ ) {
+			alg.transformN(input,transform,numLevels);
+
+			WaveletSubbandStatistics stats = alg.getStatistics();
+			assertEquals(numLevels, stats.getNumLevels());
+
+			ImageFloat32 level = transform;
+			for( int i = 0; i < numLevels; i++ ) {
+				int w = level.width, h = level.height;
+				int ww = w/2, hh = h/2;
+				assertTrue(stats.isShape(i,ww,hh));
+
+				checkSubband(stats, i, WaveletSubbandStatistics.HL, level.subimage(ww,0,w,hh,null));
+				checkSubband(stats, i, WaveletSubbandStatistics.LH, level.subimage(0,hh,ww,h,null));
+				checkSubband(stats, i, WaveletSubbandStatistics.HH, level.subimage(ww,hh,w,h,null));
+
+				level = level.subimage(0,0,ww,hh,null);
+			}
+
+			ImageFloat32 subbandHH = transform.subimage(16,20,32,40,null);
+			float expectedSigma = UtilDenoiseWavelet.estimateNoiseStdDev(subbandHH,null);
+			assertEquals(expectedSigma, stats.getNoiseStdDev(), 1e-4);
+		}
+
+		alg.setComputeStatistics(false);
+		assertTrue(alg.getStatistics() == null);
+	}
+
+	private void checkSubband( WaveletSubbandStatistics stats , int level , int band , ImageFloat32 subband ) {
+		double sumSq = 0;
+		float maxAbs = 0;
+		for( int y = 0; y < subband.height; y++ ) {
+			for( int x = 0; x < subband.width; x++ ) {
+				float v = subband.get(x,y);
+				sumSq += v*v;
+				maxAbs = Math.max(maxAbs,Math.abs(v));
+			}
+		}
+		double meanSq = sumSq/(subband.width*subband.height);
+
+		assertEquals(meanSq, stats.getMeanSquare(level,band), meanSq*1e-5);
+		assertEquals(maxAbs, stats.getMaxAbs(level,band), 1e-5);
+	}
+}
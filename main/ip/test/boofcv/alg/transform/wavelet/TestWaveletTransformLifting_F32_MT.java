@@ -0,0 +1,84 @@
+/*
+ * Copyright (c) 2011-2015, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.transform.wavelet;
+
+import boofcv.alg.misc.ImageMiscOps;
+import boofcv.core.image.border.BorderType;
+import boofcv.factory.transform.wavelet.FactoryWaveletLifting;
+import boofcv.struct.image.ImageFloat32;
+import boofcv.testing.BoofTesting;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Runs the same tests as the single threaded version with small tiles and blocks, so that the image
+ * is split up between several threads.
+ *
+ * @author Peter Abeles
+ */
+public class TestWaveletTransformLifting_F32_MT extends TestWaveletTransformLifting_F32 {
+
+	@Override
+	protected WaveletTransformLifting_F32 createAlg( WaveletLifting_F32 lifting ) {
+		WaveletTransformLifting_F32_MT alg = new WaveletTransformLifting_F32_MT(lifting);
+		alg.setTileWidth(3);
+		alg.setMinBlockRows(2);
+		return alg;
+	}
+
+	/**
+	 * The transform should be identical to the single threaded version
+	 */
+	@Test
+	public void compareToSingleThread() {
+		WaveletLifting_F32 lifting = FactoryWaveletLifting.biorthogonal_F32(5, BorderType.REFLECT);
+		WaveletTransformLifting_F32 single = new WaveletTransformLifting_F32(lifting);
+		single.setTileWidth(3);
+		single.setComputeStatistics(true);
+		WaveletTransformLifting_F32 alg = createAlg(lifting);
+		alg.setComputeStatistics(true);
+
+		ImageFloat32 input = new ImageFloat32(64,48);
+		ImageMiscOps.fillUniform(input, rand, 0, 100);
+
+		ImageFloat32 expected = new ImageFloat32(64,48);
+		ImageFloat32 found = new ImageFloat32(64,48);
+		single.transformN(input,expected,3);
+		alg.transformN(input,found,3);
+
+		BoofTesting.assertEquals(expected, found, 0);
+
+		WaveletSubbandStatistics a = single.getStatistics();
+		WaveletSubbandStatistics b = alg.getStatistics();
+		for( int level = 0; level < 3; level++ ) {
+			for( int band = 0; band < 3; band++ ) {
+				double meanSq = a.getMeanSquare(level,band);
+				assertEquals(meanSq, b.getMeanSquare(level,band), meanSq*1e-8);
+				assertEquals(a.getMaxAbs(level,band), b.getMaxAbs(level,band), 0);
+			}
+		}
+		assertEquals(a.getNoiseStdDev(), b.getNoiseStdDev(), 0);
+
+		single.inverseN(expected,input,3,0,100);
+		ImageFloat32 foundInv = new ImageFloat32(64,48);
+		alg.inverseN(found,foundInv,3,0,100);
+		BoofTesting.assertEquals(input, foundInv, 0);
+	}
+}
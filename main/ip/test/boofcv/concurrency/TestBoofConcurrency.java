@@ -0,0 +1,138 @@
+/*
+ * Copyright (c) 2011-2015, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.concurrency;
+
+import org.ddogleg.struct.FastQueue;
+import org.ddogleg.struct.GrowQueue_I32;
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+/**
+ * @author Peter Abeles
+ */
+public class TestBoofConcurrency {
+
+	@Test
+	public void loopFor() {
+		final int[] counts = new int[105];
+		BoofConcurrency.loopFor(5, 100, new IntOperatorTask() {
+			@Override
+			public void call(int index) {
+				counts[index]++;
+			}
+		});
+
+		for( int i = 0; i < counts.length; i++ ) {
+			assertEquals(i >= 5 && i < 100 ? 1 : 0, counts[i]);
+		}
+	}
+
+	@Test
+	public void loopBlocks() {
+		final int[] counts = new int[100];
+		BoofConcurrency.loopBlocks(0, 100, 7, new IntRangeTask() {
+			@Override
+			public void call(int minInclusive, int maxExclusive) {
+				assertTrue(maxExclusive - minInclusive >= 7);
+				for( int i = minInclusive; i < maxExclusive; i++ )
+					counts[i]++;
+			}
+		});
+
+		for( int i = 0; i < counts.length; i++ ) {
+			assertEquals(1, counts[i]);
+		}
+
+		// empty range should do nothing
+		BoofConcurrency.loopBlocks(5, 5, new IntRangeTask() {
+			@Override
+			public void call(int minInclusive, int maxExclusive) {
+				fail("Should not be called");
+			}
+		});
+	}
+
+	@Test
+	public void loopBlocks_workspace() {
+		FastQueue<GrowQueue_I32> workspace = new FastQueue<GrowQueue_I32>(GrowQueue_I32.class,true);
+
+		BoofConcurrency.loopBlocks(0, 1000, 10, workspace, new IntRangeObjectTask<GrowQueue_I32>() {
+			@Override
+			public void call(GrowQueue_I32 workspace, int minInclusive, int maxExclusive) {
+				for( int i = minInclusive; i < maxExclusive; i++ )
+					workspace.add(i);
+			}
+		});
+
+		assertEquals(BoofConcurrency.computeNumberOfBlocks(0,1000,10),workspace.size());
+
+		// workspaces should be in order
+		int expected = 0;
+		for( int i = 0; i < workspace.size(); i++ ) {
+			GrowQueue_I32 w = workspace.get(i);
+			for( int j = 0; j < w.size; j++ ) {
+				assertEquals(expected++, w.get(j));
+			}
+		}
+		assertEquals(1000,expected);
+	}
+
+	@Test
+	public void nestedLoops() {
+		final int[] counts = new int[50*50];
+		BoofConcurrency.loopFor(0, 50, new IntOperatorTask() {
+			@Override
+			public void call(final int y) {
+				BoofConcurrency.loopFor(0, 50, new IntOperatorTask() {
+					@Override
+					public void call(int x) {
+						counts[y*50+x]++;
+					}
+				});
+			}
+		});
+
+		for( int i = 0; i < counts.length; i++ ) {
+			assertEquals(1, counts[i]);
+		}
+	}
+
+	@Test
+	public void exceptionPropagated() {
+		try {
+			BoofConcurrency.loopFor(0, 100, new IntOperatorTask() {
+				@Override
+				public void call(int index) {
+					if( index == 2 )
+						throw new IllegalArgumentException("Test");
+				}
+			});
+			fail("Exception should have been thrown");
+		} catch( IllegalArgumentException ignore ) {}
+	}
+
+	@Test
+	public void computeNumberOfBlocks() {
+		int N = BoofConcurrency.getMaxThreads();
+		assertEquals(1,BoofConcurrency.computeNumberOfBlocks(0,0,1));
+		assertEquals(1,BoofConcurrency.computeNumberOfBlocks(0,5,10));
+		assertEquals(Math.min(N,10),BoofConcurrency.computeNumberOfBlocks(0,100,10));
+	}
+}
@@ -0,0 +1,123 @@
+/*
+ * Copyright (c) 2011-2015, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.struct.sparse;
+
+import boofcv.alg.misc.ImageMiscOps;
+import boofcv.alg.transform.ii.IntegralImageOps;
+import boofcv.alg.transform.ii.impl.SparseIntegralGradient_NoBorder_F32;
+import boofcv.alg.transform.ii.impl.SparseIntegralGradient_NoBorder_I32;
+import boofcv.struct.image.ImageFloat32;
+import boofcv.struct.image.ImageSInt32;
+import boofcv.struct.image.ImageUInt8;
+import org.junit.Test;
+
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * @author Peter Abeles
+ */
+public class TestCachedSparseScaleGradient {
+
+	Random rand = new Random(234);
+	int width = 30;
+	int height = 40;
+
+	/**
+	 * Compare against the wrapped gradient at several scales, computing each pixel multiple times
+	 */
+	@Test
+	public void compareToWrapped() {
+		ImageFloat32 input = new ImageFloat32(width,height);
+		ImageMiscOps.fillUniform(input, rand, 0, 100);
+		ImageFloat32 ii = IntegralImageOps.transform(input, null);
+
+		SparseScaleGradient<ImageFloat32,GradientValue_F32> expected =
+				new SparseIntegralGradient_NoBorder_F32(2);
+		CachedSparseScaleGradient<ImageFloat32,GradientValue_F32> alg =
+				new CachedSparseScaleGradient<ImageFloat32,GradientValue_F32>(
+						new SparseIntegralGradient_NoBorder_F32(2));
+
+		expected.setImage(ii);
+		alg.setImage(ii);
+
+		double scales[] = new double[]{1,1.1,2,1};
+		for( double scale : scales ) {
+			expected.setScale(scale);
+			alg.setScale(scale);
+
+			for( int trial = 0; trial < 2; trial++ ) {
+				for( int y = 0; y < height; y++ ) {
+					for( int x = 0; x < width; x++ ) {
+						assertEquals(expected.isInBounds(x,y), alg.isInBounds(x,y));
+						if( !expected.isInBounds(x,y) )
+							continue;
+
+						GradientValue_F32 e = expected.compute(x,y);
+						GradientValue_F32 f = alg.compute(x,y);
+						assertEquals(e.x, f.x, 1e-8);
+						assertEquals(e.y, f.y, 1e-8);
+					}
+				}
+			}
+		}
+	}
+
+	/**
+	 * The cache should be discarded when the image is set again, even if it is the same instance
+	 */
+	@Test
+	public void setImage_clearCache() {
+		ImageUInt8 input = new ImageUInt8(width,height);
+		ImageMiscOps.fillUniform(input, rand, 0, 100);
+		ImageSInt32 ii = IntegralImageOps.transform(input, null);
+
+		SparseScaleGradient<ImageSInt32,GradientValue_I32> expected =
+				new SparseIntegralGradient_NoBorder_I32(2);
+		CachedSparseScaleGradient<ImageSInt32,GradientValue_I32> alg =
+				new CachedSparseScaleGradient<ImageSInt32,GradientValue_I32>(
+						new SparseIntegralGradient_NoBorder_I32(2));
+
+		alg.setImage(ii);
+		GradientValue_I32 before = alg.compute(15,20);
+		int beforeX = before.x, beforeY = before.y;
+
+		ImageMiscOps.fillUniform(input, rand, 0, 100);
+		IntegralImageOps.transform(input, ii);
+		expected.setImage(ii);
+		alg.setImage(ii);
+
+		GradientValue_I32 e = expected.compute(15,20);
+		GradientValue_I32 f = alg.compute(15,20);
+		assertTrue(e.x != beforeX || e.y != beforeY);
+		assertEquals(e.x, f.x);
+		assertEquals(e.y, f.y);
+	}
+
+	@Test
+	public void getGradientType() {
+		CachedSparseScaleGradient<ImageFloat32,GradientValue_F32> alg =
+				new CachedSparseScaleGradient<ImageFloat32,GradientValue_F32>(
+						new SparseIntegralGradient_NoBorder_F32(2));
+
+		assertTrue(GradientValue_F32.class == alg.getGradientType());
+	}
+}
@@ -18,8 +18,8 @@
 
 package boofcv.alg.tracker.tld;
 
-import boofcv.alg.transform.ii.GIntegralImageOps;
-import boofcv.core.image.GeneralizedImageOps;
+import boofcv.alg.transform.ii.IntegralImageOps;
+import boofcv.alg.transform.ii.IntegralImageStatistics;
 import boofcv.struct.ImageRectangle;
 import boofcv.struct.image.*;
 
@@ -27,7 +27,7 @@ import boofcv.struct.image.*;
  * Compute the variance for a rectangular region using the integral image.  Supports both U8 and F32 input images.
  * For each new image in the sequence a call to {@link #setImage(boofcv.struct.image.ImageSingleBand)} must be done
  * so that it can compute the required integral images.  See paper for mathematical details on how the variance
- * is computed using integral images.
+ * is computed using integral images.  The integral images are managed by {@link IntegralImageStatistics}.
  *
  * @author Peter Abeles
  */
@@ -36,10 +36,8 @@ public class TldVarianceFilter<T extends ImageSingleBand> {
 	// threshold for selecting candidate regions
 	private double thresholdLower;
 
-	// integral image used to compute mean
-	private ImageSingleBand integral;
-	// integral image of the pixel value squared
-	private ImageSingleBand integralSq;
+	// integral images of the pixel values and pixel values squared
+	private IntegralImageStatistics<T> statistics;
 
 	/**
 	 * Constructor which specifies the input image type.
@@ -47,15 +45,7 @@ public class TldVarianceFilter<T extends ImageSingleBand> {
 	 * @param imageType  Either ImageUInt8 or ImageFloat32
 	 */
 	public TldVarianceFilter( Class<T> imageType ) {
-
-		// declare integral images.
-		if(GeneralizedImageOps.isFloatingPoint(imageType) ) {
-			integral = new ImageFloat32(1,1);
-			integralSq = new ImageFloat64(1,1);
-		} else {
-			integral = new ImageSInt32(1,1);
-			integralSq = new ImageSInt64(1,1);
-		}
+		statistics = new IntegralImageStatistics<T>(imageType);
 	}
 
 	protected TldVarianceFilter() {
@@ -67,14 +57,7 @@ public class TldVarianceFilter<T extends ImageSingleBand> {
 	 * @param gray input image
 	 */
 	public void setImage(T gray) {
-		integral.reshape(gray.width,gray.height);
-		integralSq.reshape(gray.width,gray.height);
-
-		GIntegralImageOps.transform(gray,integral);
-		if( gray.getDataType().isInteger())
-			transformSq((ImageUInt8)gray,(ImageSInt64)integralSq);
-		else
-			transformSq((ImageFloat32)gray,(ImageFloat64)integralSq);
+		statistics.setImage(gray);
 	}
 
 	/**
@@ -99,32 +82,20 @@ public class TldVarianceFilter<T extends ImageSingleBand> {
 	}
 
 	/**
-	 * Computes the variance inside the specified rectangle.  x0 and y0 must be > 0.
+	 * Computes the variance inside the specified rectangle, which must be inside the image.
 	 *
 	 * @return variance
 	 */
 	protected double computeVariance(int x0, int y0, int x1, int y1) {
-		// can use unsafe operations here since x0 > 0 and y0 > 0
-		double square = GIntegralImageOps.block_unsafe(integralSq, x0 - 1, y0 - 1, x1 - 1, y1 - 1);
-
-		double area = (x1-x0)*(y1-y0);
-		double mean = GIntegralImageOps.block_unsafe(integral, x0 - 1, y0 - 1, x1 - 1, y1 - 1)/area;
-
-		return square/area - mean*mean;
+		return statistics.variance(x0, y0, x1, y1);
 	}
 
 	/**
-	 * Computes the variance inside the specified rectangle.
+	 * Computes the variance inside the specified rectangle.  Pixels outside the image are treated as zero.
 	 * @return variance
 	 */
 	protected double computeVarianceSafe(int x0, int y0, int x1, int y1) {
-		// can use unsafe operations here since x0 > 0 and y0 > 0
-		double square = GIntegralImageOps.block_zero(integralSq, x0 - 1, y0 - 1, x1 - 1, y1 - 1);
-
-		double area = (x1-x0)*(y1-y0);
-		double mean = GIntegralImageOps.block_zero(integral, x0 - 1, y0 - 1, x1 - 1, y1 - 1)/area;
-
-		return square/area - mean*mean;
+		return statistics.variance(x0, y0, x1, y1);
 	}
 
 	/**
@@ -132,30 +103,7 @@ public class TldVarianceFilter<T extends ImageSingleBand> {
 	 */
 	public static void transformSq( final ImageUInt8 input , final ImageSInt64 transformed )
 	{
-		int indexSrc = input.startIndex;
-		int indexDst = transformed.startIndex;
-		int end = indexSrc + input.width;
-
-		long total = 0;
-		for( ; indexSrc < end; indexSrc++ ) {
-			int value = input.data[indexSrc]& 0xFF;
-			transformed.data[indexDst++] = total += value*value;
-		}
-
-		for( int y = 1; y < input.height; y++ ) {
-			indexSrc = input.startIndex + input.stride*y;
-			indexDst = transformed.startIndex + transformed.stride*y;
-			int indexPrev = indexDst - transformed.stride;
-
-			end = indexSrc + input.width;
-
-			total = 0;
-			for( ; indexSrc < end; indexSrc++ ) {
-				int value = input.data[indexSrc]& 0xFF;
-				total +=  value*value;
-				transformed.data[indexDst++] = transformed.data[indexPrev++] + total;
-			}
-		}
+		IntegralImageOps.transformSq(input, transformed);
 	}
 
 	/**
@@ -163,30 +111,7 @@ public class TldVarianceFilter<T extends ImageSingleBand> {
 	 */
 	public static void transformSq( final ImageFloat32 input , final ImageFloat64 transformed )
 	{
-		int indexSrc = input.startIndex;
-		int indexDst = transformed.startIndex;
-		int end = indexSrc + input.width;
-
-		double total = 0;
-		for( ; indexSrc < end; indexSrc++ ) {
-			float value = input.data[indexSrc];
-			transformed.data[indexDst++] = total += value*value;
-		}
-
-		for( int y = 1; y < input.height; y++ ) {
-			indexSrc = input.startIndex + input.stride*y;
-			indexDst = transformed.startIndex + transformed.stride*y;
-			int indexPrev = indexDst - transformed.stride;
-
-			end = indexSrc + input.width;
-
-			total = 0;
-			for( ; indexSrc < end; indexSrc++ ) {
-				float value = input.data[indexSrc];
-				total +=  value*value;
-				transformed.data[indexDst++] = transformed.data[indexPrev++] + total;
-			}
-		}
+		IntegralImageOps.transformSq(input, transformed);
 	}
 
 	public double getThresholdLower() {